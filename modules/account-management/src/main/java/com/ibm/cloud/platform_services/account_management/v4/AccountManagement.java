@@ -48,6 +48,9 @@ public class AccountManagement extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://accounts.test.cloud.ibm.com";
 
+  private static final ResponseConverter<AccountResponse> GET_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountResponse>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `AccountManagement` client.
    * The default service name is used to configure the client instance.
@@ -103,8 +106,7 @@ public class AccountManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AccountResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountResponse>() { }.getType());
+    ResponseConverter<AccountResponse> responseConverter = GET_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
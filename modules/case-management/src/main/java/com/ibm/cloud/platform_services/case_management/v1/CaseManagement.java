@@ -71,6 +71,39 @@ public class CaseManagement extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://support-center.cloud.ibm.com/case-management/v1";
 
+  private static final ResponseConverter<CaseList> GET_CASES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CaseList>() { }.getType());
+
+  private static final ResponseConverter<Case> CREATE_CASE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Case>() { }.getType());
+
+  private static final ResponseConverter<Case> GET_CASE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Case>() { }.getType());
+
+  private static final ResponseConverter<Case> UPDATE_CASE_STATUS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Case>() { }.getType());
+
+  private static final ResponseConverter<Comment> ADD_COMMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Comment>() { }.getType());
+
+  private static final ResponseConverter<WatchlistAddResponse> ADD_WATCHLIST_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<WatchlistAddResponse>() { }.getType());
+
+  private static final ResponseConverter<Watchlist> REMOVE_WATCHLIST_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Watchlist>() { }.getType());
+
+  private static final ResponseConverter<Resource> ADD_RESOURCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resource>() { }.getType());
+
+  private static final ResponseConverter<Attachment> UPLOAD_FILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Attachment>() { }.getType());
+
+  private static final ResponseConverter<InputStream> DOWNLOAD_FILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getInputStream();
+
+  private static final ResponseConverter<AttachmentList> DELETE_FILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AttachmentList>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `CaseManagement` client.
    * The default service name is used to configure the client instance.
@@ -143,8 +176,7 @@ public class CaseManagement extends BaseService {
     if (getCasesOptions.fields() != null) {
       builder.query("fields", RequestUtils.join(getCasesOptions.fields(), ","));
     }
-    ResponseConverter<CaseList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CaseList>() { }.getType());
+    ResponseConverter<CaseList> responseConverter = GET_CASES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -202,8 +234,7 @@ public class CaseManagement extends BaseService {
       contentJson.addProperty("sla_credit_request", createCaseOptions.slaCreditRequest());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Case> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Case>() { }.getType());
+    ResponseConverter<Case> responseConverter = CREATE_CASE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -229,8 +260,7 @@ public class CaseManagement extends BaseService {
     if (getCaseOptions.fields() != null) {
       builder.query("fields", RequestUtils.join(getCaseOptions.fields(), ","));
     }
-    ResponseConverter<Case> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Case>() { }.getType());
+    ResponseConverter<Case> responseConverter = GET_CASE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -254,8 +284,7 @@ public class CaseManagement extends BaseService {
     }
     builder.header("Accept", "application/json");
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateCaseStatusOptions.statusPayload()), "application/json");
-    ResponseConverter<Case> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Case>() { }.getType());
+    ResponseConverter<Case> responseConverter = UPDATE_CASE_STATUS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -281,8 +310,7 @@ public class CaseManagement extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("comment", addCommentOptions.comment());
     builder.bodyJson(contentJson);
-    ResponseConverter<Comment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Comment>() { }.getType());
+    ResponseConverter<Comment> responseConverter = ADD_COMMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -312,8 +340,7 @@ public class CaseManagement extends BaseService {
       contentJson.add("watchlist", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(addWatchlistOptions.watchlist()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<WatchlistAddResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<WatchlistAddResponse>() { }.getType());
+    ResponseConverter<WatchlistAddResponse> responseConverter = ADD_WATCHLIST_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -342,8 +369,7 @@ public class CaseManagement extends BaseService {
       contentJson.add("watchlist", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(removeWatchlistOptions.watchlist()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Watchlist> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Watchlist>() { }.getType());
+    ResponseConverter<Watchlist> responseConverter = REMOVE_WATCHLIST_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -381,8 +407,7 @@ public class CaseManagement extends BaseService {
       contentJson.addProperty("note", addResourceOptions.note());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Resource> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resource>() { }.getType());
+    ResponseConverter<Resource> responseConverter = ADD_RESOURCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -413,8 +438,7 @@ public class CaseManagement extends BaseService {
       multipartBuilder.addFormDataPart("file", item.filename(), itemBody);
     }
     builder.body(multipartBuilder.build());
-    ResponseConverter<Attachment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Attachment>() { }.getType());
+    ResponseConverter<Attachment> responseConverter = UPLOAD_FILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -438,7 +462,7 @@ public class CaseManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/octet-stream");
-    ResponseConverter<InputStream> responseConverter = ResponseConverterUtils.getInputStream();
+    ResponseConverter<InputStream> responseConverter = DOWNLOAD_FILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -462,8 +486,7 @@ public class CaseManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AttachmentList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AttachmentList>() { }.getType());
+    ResponseConverter<AttachmentList> responseConverter = DELETE_FILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
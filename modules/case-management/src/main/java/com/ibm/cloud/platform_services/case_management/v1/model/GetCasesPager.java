@@ -13,6 +13,7 @@
 package com.ibm.cloud.platform_services.case_management.v1.model;
 
 import com.ibm.cloud.platform_services.case_management.v1.CaseManagement;
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * GetCasesPager can be used to simplify the use of the "getCases" method.
  */
-public class GetCasesPager {
+public class GetCasesPager implements Pager<Case> {
   private static class PageContext {
     private Long next;
     public Long getNext() {
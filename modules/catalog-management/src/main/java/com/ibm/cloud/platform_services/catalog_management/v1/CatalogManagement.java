@@ -140,6 +140,222 @@ public class CatalogManagement extends BaseService {
 
   public static final String DEFAULT_SERVICE_URL = "https://cm.globalcatalog.cloud.ibm.com/api/v1-beta";
 
+  private static final ResponseConverter<Account> GET_CATALOG_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Account>() { }.getType());
+
+  private static final ResponseConverter<Void> UPDATE_CATALOG_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AuditLog> GET_CATALOG_ACCOUNT_AUDIT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditLog>() { }.getType());
+
+  private static final ResponseConverter<AccumulatedFilters> GET_CATALOG_ACCOUNT_FILTERS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccumulatedFilters>() { }.getType());
+
+  private static final ResponseConverter<CatalogSearchResult> LIST_CATALOGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogSearchResult>() { }.getType());
+
+  private static final ResponseConverter<Catalog> CREATE_CATALOG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Catalog>() { }.getType());
+
+  private static final ResponseConverter<Catalog> GET_CATALOG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Catalog>() { }.getType());
+
+  private static final ResponseConverter<Catalog> REPLACE_CATALOG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Catalog>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_CATALOG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AuditLog> GET_CATALOG_AUDIT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditLog>() { }.getType());
+
+  private static final ResponseConverter<OfferingSearchResult> GET_CONSUMPTION_OFFERINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingSearchResult>() { }.getType());
+
+  private static final ResponseConverter<OfferingSearchResult> LIST_OFFERINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingSearchResult>() { }.getType());
+
+  private static final ResponseConverter<Offering> CREATE_OFFERING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<Offering> IMPORT_OFFERING_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<Offering> IMPORT_OFFERING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<Offering> RELOAD_OFFERING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<Offering> GET_OFFERING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<Offering> REPLACE_OFFERING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<Offering> UPDATE_OFFERING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_OFFERING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AuditLog> GET_OFFERING_AUDIT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditLog>() { }.getType());
+
+  private static final ResponseConverter<Offering> REPLACE_OFFERING_ICON_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<ApprovalResult> UPDATE_OFFERING_IBM_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApprovalResult>() { }.getType());
+
+  private static final ResponseConverter<Void> DEPRECATE_OFFERING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<List<VersionUpdateDescriptor>> GET_OFFERING_UPDATES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<List<VersionUpdateDescriptor>>() { }.getType());
+
+  private static final ResponseConverter<InputStream> GET_OFFERING_SOURCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getInputStream();
+
+  private static final ResponseConverter<String> GET_OFFERING_ABOUT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getString();
+
+  private static final ResponseConverter<String> GET_OFFERING_LICENSE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getString();
+
+  private static final ResponseConverter<ImageManifest> GET_OFFERING_CONTAINER_IMAGES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ImageManifest>() { }.getType());
+
+  private static final ResponseConverter<Void> DEPRECATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> SET_DEPRECATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> ACCOUNT_PUBLISH_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> IBM_PUBLISH_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> PUBLIC_PUBLISH_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> COMMIT_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> COPY_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Version> GET_OFFERING_WORKING_COPY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Version>() { }.getType());
+
+  private static final ResponseConverter<Offering> GET_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ClusterInfo> GET_CLUSTER_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ClusterInfo>() { }.getType());
+
+  private static final ResponseConverter<NamespaceSearchResult> GET_NAMESPACES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NamespaceSearchResult>() { }.getType());
+
+  private static final ResponseConverter<List<OperatorDeployResult>> DEPLOY_OPERATORS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<List<OperatorDeployResult>>() { }.getType());
+
+  private static final ResponseConverter<List<OperatorDeployResult>> LIST_OPERATORS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<List<OperatorDeployResult>>() { }.getType());
+
+  private static final ResponseConverter<List<OperatorDeployResult>> REPLACE_OPERATORS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<List<OperatorDeployResult>>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_OPERATORS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> INSTALL_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> PREINSTALL_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<InstallStatus> GET_PREINSTALL_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstallStatus>() { }.getType());
+
+  private static final ResponseConverter<Void> VALIDATE_INSTALL_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Validation> GET_VALIDATION_STATUS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Validation>() { }.getType());
+
+  private static final ResponseConverter<Map<String, Object>> GET_OVERRIDE_VALUES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Map<String, Object>>() { }.getType());
+
+  private static final ResponseConverter<ObjectSearchResult> SEARCH_OBJECTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ObjectSearchResult>() { }.getType());
+
+  private static final ResponseConverter<ObjectListResult> LIST_OBJECTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ObjectListResult>() { }.getType());
+
+  private static final ResponseConverter<CatalogObject> CREATE_OBJECT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogObject>() { }.getType());
+
+  private static final ResponseConverter<CatalogObject> GET_OBJECT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogObject>() { }.getType());
+
+  private static final ResponseConverter<CatalogObject> REPLACE_OBJECT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogObject>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_OBJECT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AuditLog> GET_OBJECT_AUDIT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditLog>() { }.getType());
+
+  private static final ResponseConverter<Void> ACCOUNT_PUBLISH_OBJECT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> SHARED_PUBLISH_OBJECT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> IBM_PUBLISH_OBJECT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> PUBLIC_PUBLISH_OBJECT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> CREATE_OBJECT_ACCESS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ObjectAccess> GET_OBJECT_ACCESS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ObjectAccess>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_OBJECT_ACCESS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ObjectAccessListResult> GET_OBJECT_ACCESS_LIST_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ObjectAccessListResult>() { }.getType());
+
+  private static final ResponseConverter<AccessListBulkResponse> DELETE_OBJECT_ACCESS_LIST_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccessListBulkResponse>() { }.getType());
+
+  private static final ResponseConverter<AccessListBulkResponse> ADD_OBJECT_ACCESS_LIST_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccessListBulkResponse>() { }.getType());
+
+  private static final ResponseConverter<OfferingInstance> CREATE_OFFERING_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingInstance>() { }.getType());
+
+  private static final ResponseConverter<OfferingInstance> GET_OFFERING_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingInstance>() { }.getType());
+
+  private static final ResponseConverter<OfferingInstance> PUT_OFFERING_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingInstance>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_OFFERING_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
  /**
    * Class method which constructs an instance of the `CatalogManagement` client.
    * The default service name is used to configure the client instance.
@@ -191,8 +407,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Account> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Account>() { }.getType());
+    ResponseConverter<Account> responseConverter = GET_CATALOG_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -239,7 +454,7 @@ public class CatalogManagement extends BaseService {
       }
       builder.bodyJson(contentJson);
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UPDATE_CATALOG_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -269,8 +484,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AuditLog> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditLog>() { }.getType());
+    ResponseConverter<AuditLog> responseConverter = GET_CATALOG_ACCOUNT_AUDIT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -306,8 +520,7 @@ public class CatalogManagement extends BaseService {
     if (getCatalogAccountFiltersOptions.catalog() != null) {
       builder.query("catalog", String.valueOf(getCatalogAccountFiltersOptions.catalog()));
     }
-    ResponseConverter<AccumulatedFilters> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccumulatedFilters>() { }.getType());
+    ResponseConverter<AccumulatedFilters> responseConverter = GET_CATALOG_ACCOUNT_FILTERS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -338,8 +551,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<CatalogSearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogSearchResult>() { }.getType());
+    ResponseConverter<CatalogSearchResult> responseConverter = LIST_CATALOGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -418,8 +630,7 @@ public class CatalogManagement extends BaseService {
       }
       builder.bodyJson(contentJson);
     }
-    ResponseConverter<Catalog> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Catalog>() { }.getType());
+    ResponseConverter<Catalog> responseConverter = CREATE_CATALOG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -453,8 +664,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Catalog> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Catalog>() { }.getType());
+    ResponseConverter<Catalog> responseConverter = GET_CATALOG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -518,8 +728,7 @@ public class CatalogManagement extends BaseService {
       contentJson.addProperty("kind", replaceCatalogOptions.kind());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Catalog> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Catalog>() { }.getType());
+    ResponseConverter<Catalog> responseConverter = REPLACE_CATALOG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -541,7 +750,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_CATALOG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -564,8 +773,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AuditLog> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditLog>() { }.getType());
+    ResponseConverter<AuditLog> responseConverter = GET_CATALOG_AUDIT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -607,8 +815,7 @@ public class CatalogManagement extends BaseService {
     if (getConsumptionOfferingsOptions.offset() != null) {
       builder.query("offset", String.valueOf(getConsumptionOfferingsOptions.offset()));
     }
-    ResponseConverter<OfferingSearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingSearchResult>() { }.getType());
+    ResponseConverter<OfferingSearchResult> responseConverter = GET_CONSUMPTION_OFFERINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -660,8 +867,7 @@ public class CatalogManagement extends BaseService {
     if (listOfferingsOptions.sort() != null) {
       builder.query("sort", String.valueOf(listOfferingsOptions.sort()));
     }
-    ResponseConverter<OfferingSearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingSearchResult>() { }.getType());
+    ResponseConverter<OfferingSearchResult> responseConverter = LIST_OFFERINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -791,8 +997,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("media", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createOfferingOptions.media()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = CREATE_OFFERING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -842,8 +1047,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("content", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(importOfferingVersionOptions.content()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = IMPORT_OFFERING_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -898,8 +1102,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("content", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(importOfferingOptions.content()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = IMPORT_OFFERING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -941,8 +1144,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("content", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(reloadOfferingOptions.content()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = RELOAD_OFFERING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -972,8 +1174,7 @@ public class CatalogManagement extends BaseService {
     if (getOfferingOptions.digest() != null) {
       builder.query("digest", String.valueOf(getOfferingOptions.digest()));
     }
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = GET_OFFERING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1104,8 +1305,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("media", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(replaceOfferingOptions.media()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = REPLACE_OFFERING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1133,8 +1333,7 @@ public class CatalogManagement extends BaseService {
     if (updateOfferingOptions.updates() != null) {
       builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(updateOfferingOptions.updates()), "application/json-patch+json");
     }
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = UPDATE_OFFERING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1157,7 +1356,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_OFFERING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1181,8 +1380,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AuditLog> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditLog>() { }.getType());
+    ResponseConverter<AuditLog> responseConverter = GET_OFFERING_AUDIT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1207,8 +1405,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = REPLACE_OFFERING_ICON_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1243,8 +1440,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ApprovalResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApprovalResult>() { }.getType());
+    ResponseConverter<ApprovalResult> responseConverter = UPDATE_OFFERING_IBM_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1276,7 +1472,7 @@ public class CatalogManagement extends BaseService {
       contentJson.addProperty("days_until_deprecate", deprecateOfferingOptions.daysUntilDeprecate());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DEPRECATE_OFFERING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1332,8 +1528,7 @@ public class CatalogManagement extends BaseService {
     if (getOfferingUpdatesOptions.allNamespaces() != null) {
       builder.query("all_namespaces", String.valueOf(getOfferingUpdatesOptions.allNamespaces()));
     }
-    ResponseConverter<List<VersionUpdateDescriptor>> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<List<VersionUpdateDescriptor>>() { }.getType());
+    ResponseConverter<List<VersionUpdateDescriptor>> responseConverter = GET_OFFERING_UPDATES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1372,7 +1567,7 @@ public class CatalogManagement extends BaseService {
     if (getOfferingSourceOptions.channel() != null) {
       builder.query("channel", String.valueOf(getOfferingSourceOptions.channel()));
     }
-    ResponseConverter<InputStream> responseConverter = ResponseConverterUtils.getInputStream();
+    ResponseConverter<InputStream> responseConverter = GET_OFFERING_SOURCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1395,7 +1590,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "text/markdown");
-    ResponseConverter<String> responseConverter = ResponseConverterUtils.getString();
+    ResponseConverter<String> responseConverter = GET_OFFERING_ABOUT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1419,7 +1614,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "text/plain");
-    ResponseConverter<String> responseConverter = ResponseConverterUtils.getString();
+    ResponseConverter<String> responseConverter = GET_OFFERING_LICENSE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1443,8 +1638,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ImageManifest> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ImageManifest>() { }.getType());
+    ResponseConverter<ImageManifest> responseConverter = GET_OFFERING_CONTAINER_IMAGES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1466,7 +1660,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DEPRECATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1497,7 +1691,7 @@ public class CatalogManagement extends BaseService {
       contentJson.addProperty("days_until_deprecate", setDeprecateVersionOptions.daysUntilDeprecate());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = SET_DEPRECATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1519,7 +1713,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = ACCOUNT_PUBLISH_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1541,7 +1735,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = IBM_PUBLISH_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1563,7 +1757,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = PUBLIC_PUBLISH_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1585,7 +1779,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = COMMIT_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1618,7 +1812,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("content", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(copyVersionOptions.content()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = COPY_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1641,8 +1835,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Version> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Version>() { }.getType());
+    ResponseConverter<Version> responseConverter = GET_OFFERING_WORKING_COPY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1665,8 +1858,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Offering> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Offering>() { }.getType());
+    ResponseConverter<Offering> responseConverter = GET_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1689,7 +1881,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1714,8 +1906,7 @@ public class CatalogManagement extends BaseService {
     builder.header("Accept", "application/json");
     builder.header("X-Auth-Refresh-Token", getClusterOptions.xAuthRefreshToken());
     builder.query("region", String.valueOf(getClusterOptions.region()));
-    ResponseConverter<ClusterInfo> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ClusterInfo>() { }.getType());
+    ResponseConverter<ClusterInfo> responseConverter = GET_CLUSTER_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1746,8 +1937,7 @@ public class CatalogManagement extends BaseService {
     if (getNamespacesOptions.offset() != null) {
       builder.query("offset", String.valueOf(getNamespacesOptions.offset()));
     }
-    ResponseConverter<NamespaceSearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<NamespaceSearchResult>() { }.getType());
+    ResponseConverter<NamespaceSearchResult> responseConverter = GET_NAMESPACES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1786,8 +1976,7 @@ public class CatalogManagement extends BaseService {
       contentJson.addProperty("version_locator_id", deployOperatorsOptions.versionLocatorId());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<List<OperatorDeployResult>> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<List<OperatorDeployResult>>() { }.getType());
+    ResponseConverter<List<OperatorDeployResult>> responseConverter = DEPLOY_OPERATORS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1812,8 +2001,7 @@ public class CatalogManagement extends BaseService {
     builder.query("cluster_id", String.valueOf(listOperatorsOptions.clusterId()));
     builder.query("region", String.valueOf(listOperatorsOptions.region()));
     builder.query("version_locator_id", String.valueOf(listOperatorsOptions.versionLocatorId()));
-    ResponseConverter<List<OperatorDeployResult>> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<List<OperatorDeployResult>>() { }.getType());
+    ResponseConverter<List<OperatorDeployResult>> responseConverter = LIST_OPERATORS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1852,8 +2040,7 @@ public class CatalogManagement extends BaseService {
       contentJson.addProperty("version_locator_id", replaceOperatorsOptions.versionLocatorId());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<List<OperatorDeployResult>> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<List<OperatorDeployResult>>() { }.getType());
+    ResponseConverter<List<OperatorDeployResult>> responseConverter = REPLACE_OPERATORS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1877,7 +2064,7 @@ public class CatalogManagement extends BaseService {
     builder.query("cluster_id", String.valueOf(deleteOperatorsOptions.clusterId()));
     builder.query("region", String.valueOf(deleteOperatorsOptions.region()));
     builder.query("version_locator_id", String.valueOf(deleteOperatorsOptions.versionLocatorId()));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_OPERATORS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1944,7 +2131,7 @@ public class CatalogManagement extends BaseService {
       contentJson.addProperty("vcenter_datastore", installVersionOptions.vcenterDatastore());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = INSTALL_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2011,7 +2198,7 @@ public class CatalogManagement extends BaseService {
       contentJson.addProperty("vcenter_datastore", preinstallVersionOptions.vcenterDatastore());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = PREINSTALL_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2044,8 +2231,7 @@ public class CatalogManagement extends BaseService {
     if (getPreinstallOptions.namespace() != null) {
       builder.query("namespace", String.valueOf(getPreinstallOptions.namespace()));
     }
-    ResponseConverter<InstallStatus> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstallStatus>() { }.getType());
+    ResponseConverter<InstallStatus> responseConverter = GET_PREINSTALL_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2112,7 +2298,7 @@ public class CatalogManagement extends BaseService {
       contentJson.addProperty("vcenter_datastore", validateInstallOptions.vcenterDatastore());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = VALIDATE_INSTALL_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2136,8 +2322,7 @@ public class CatalogManagement extends BaseService {
     }
     builder.header("Accept", "application/json");
     builder.header("X-Auth-Refresh-Token", getValidationStatusOptions.xAuthRefreshToken());
-    ResponseConverter<Validation> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Validation>() { }.getType());
+    ResponseConverter<Validation> responseConverter = GET_VALIDATION_STATUS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2160,8 +2345,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Map<String, Object>> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Map<String, Object>>() { }.getType());
+    ResponseConverter<Map<String, Object>> responseConverter = GET_OVERRIDE_VALUES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2196,8 +2380,7 @@ public class CatalogManagement extends BaseService {
     if (searchObjectsOptions.digest() != null) {
       builder.query("digest", String.valueOf(searchObjectsOptions.digest()));
     }
-    ResponseConverter<ObjectSearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ObjectSearchResult>() { }.getType());
+    ResponseConverter<ObjectSearchResult> responseConverter = SEARCH_OBJECTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2232,8 +2415,7 @@ public class CatalogManagement extends BaseService {
     if (listObjectsOptions.sort() != null) {
       builder.query("sort", String.valueOf(listObjectsOptions.sort()));
     }
-    ResponseConverter<ObjectListResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ObjectListResult>() { }.getType());
+    ResponseConverter<ObjectListResult> responseConverter = LIST_OBJECTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2315,8 +2497,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("data", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createObjectOptions.data()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<CatalogObject> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogObject>() { }.getType());
+    ResponseConverter<CatalogObject> responseConverter = CREATE_OBJECT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2340,8 +2521,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<CatalogObject> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogObject>() { }.getType());
+    ResponseConverter<CatalogObject> responseConverter = GET_OBJECT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2424,8 +2604,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("data", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(replaceObjectOptions.data()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<CatalogObject> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogObject>() { }.getType());
+    ResponseConverter<CatalogObject> responseConverter = REPLACE_OBJECT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2448,7 +2627,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_OBJECT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2472,8 +2651,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AuditLog> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditLog>() { }.getType());
+    ResponseConverter<AuditLog> responseConverter = GET_OBJECT_AUDIT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2496,7 +2674,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = ACCOUNT_PUBLISH_OBJECT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2519,7 +2697,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = SHARED_PUBLISH_OBJECT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2542,7 +2720,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = IBM_PUBLISH_OBJECT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2565,7 +2743,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = PUBLIC_PUBLISH_OBJECT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2589,7 +2767,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = CREATE_OBJECT_ACCESS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2614,8 +2792,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ObjectAccess> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ObjectAccess>() { }.getType());
+    ResponseConverter<ObjectAccess> responseConverter = GET_OBJECT_ACCESS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2639,7 +2816,7 @@ public class CatalogManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_OBJECT_ACCESS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2669,8 +2846,7 @@ public class CatalogManagement extends BaseService {
     if (getObjectAccessListOptions.offset() != null) {
       builder.query("offset", String.valueOf(getObjectAccessListOptions.offset()));
     }
-    ResponseConverter<ObjectAccessListResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ObjectAccessListResult>() { }.getType());
+    ResponseConverter<ObjectAccessListResult> responseConverter = GET_OBJECT_ACCESS_LIST_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2695,8 +2871,7 @@ public class CatalogManagement extends BaseService {
     }
     builder.header("Accept", "application/json");
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(deleteObjectAccessListOptions.accounts()), "application/json");
-    ResponseConverter<AccessListBulkResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccessListBulkResponse>() { }.getType());
+    ResponseConverter<AccessListBulkResponse> responseConverter = DELETE_OBJECT_ACCESS_LIST_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2721,8 +2896,7 @@ public class CatalogManagement extends BaseService {
     }
     builder.header("Accept", "application/json");
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(addObjectAccessListOptions.accounts()), "application/json");
-    ResponseConverter<AccessListBulkResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccessListBulkResponse>() { }.getType());
+    ResponseConverter<AccessListBulkResponse> responseConverter = ADD_OBJECT_ACCESS_LIST_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2803,8 +2977,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("last_operation", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createOfferingInstanceOptions.lastOperation()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<OfferingInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingInstance>() { }.getType());
+    ResponseConverter<OfferingInstance> responseConverter = CREATE_OFFERING_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2827,8 +3000,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<OfferingInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingInstance>() { }.getType());
+    ResponseConverter<OfferingInstance> responseConverter = GET_OFFERING_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2911,8 +3083,7 @@ public class CatalogManagement extends BaseService {
       contentJson.add("last_operation", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(putOfferingInstanceOptions.lastOperation()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<OfferingInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OfferingInstance>() { }.getType());
+    ResponseConverter<OfferingInstance> responseConverter = PUT_OFFERING_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2935,7 +3106,7 @@ public class CatalogManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("X-Auth-Refresh-Token", deleteOfferingInstanceOptions.xAuthRefreshToken());
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_OFFERING_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
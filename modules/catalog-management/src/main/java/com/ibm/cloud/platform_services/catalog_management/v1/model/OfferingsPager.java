@@ -0,0 +1,166 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.catalog_management.v1.model;
+
+import com.ibm.cloud.platform_services.common.OffsetPageLoader;
+import com.ibm.cloud.platform_services.common.Pager;
+import com.ibm.cloud.platform_services.catalog_management.v1.CatalogManagement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+
+/**
+ * OfferingsPager can be used to simplify the use of the "listOfferings" method.
+ */
+public class OfferingsPager implements Pager<Offering> {
+  private static class PageContext {
+    private Long next;
+    private Long totalCount;
+    private Long pageSize;
+    public Long getNext() {
+      return next;
+    }
+    public void setNext(Long next) {
+      this.next = next;
+    }
+    public Long getTotalCount() {
+      return totalCount;
+    }
+    public void setTotalCount(Long totalCount) {
+      this.totalCount = totalCount;
+    }
+    public Long getPageSize() {
+      return pageSize;
+    }
+    public void setPageSize(Long pageSize) {
+      this.pageSize = pageSize;
+    }
+  }
+
+  protected boolean hasNext;
+  protected ListOfferingsOptions options;
+  protected CatalogManagement client;
+  protected PageContext pageContext;
+
+  // Hide the default ctor.
+  protected OfferingsPager() { }
+
+  /**
+   * Constructs a new OfferingsPager instance with the specified client and options model instance.
+   * @param client the CatalogManagement instance to be used to invoke the "listOfferings" method
+   * @param options the ListOfferingsOptions instance to be used to invoke the "listOfferings" method
+   */
+  public OfferingsPager(CatalogManagement client, ListOfferingsOptions options) {
+    if (options.offset() != null && options.offset().longValue() != 0) {
+      throw new IllegalArgumentException("The options 'offset' field should not be set");
+    }
+
+    this.hasNext = true;
+    this.client = client;
+    this.options = options.newBuilder().build();
+    this.pageContext = new PageContext();
+  }
+
+  /**
+   * Returns true if there are more results to be retrieved.
+   * @return boolean
+   */
+  public boolean hasNext() {
+    return hasNext;
+  }
+
+  /**
+   * Returns the next page of results.
+   * @return a List&lt;Offering&gt; that contains the next page of results
+   */
+  public List<Offering> getNext() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more results available");
+    }
+
+    long offset = this.pageContext.getNext() != null ? this.pageContext.getNext().longValue() : 0;
+    OfferingSearchResult result = fetch(offset);
+    List<Offering> items = itemsOf(result);
+
+    // The next offset is derived from the number of results received so far, so that pages
+    // are contiguous even if the server caps the requested limit.
+    Long next = null;
+    Long totalCount = result.getTotalCount();
+    if (!items.isEmpty() && (totalCount == null || offset + items.size() < totalCount.longValue())) {
+      next = offset + items.size();
+    }
+    if (this.pageContext.getPageSize() == null && !items.isEmpty()) {
+      this.pageContext.setPageSize(Long.valueOf(items.size()));
+    }
+    this.pageContext.setTotalCount(totalCount);
+    this.pageContext.setNext(next);
+    if (next == null) {
+      this.hasNext = false;
+    }
+
+    return items;
+  }
+
+  /**
+   * Returns all results by invoking getNext() repeatedly until all pages of results have been retrieved.
+   * @return a List&lt;Offering&gt; containing all results returned by the "listOfferings" method
+   */
+  public List<Offering> getAll() {
+    List<Offering> results = new ArrayList<>();
+    while (hasNext()) {
+      List<Offering> nextPage = getNext();
+      results.addAll(nextPage);
+    }
+    return results;
+  }
+
+  /**
+   * Returns all remaining results, retrieving the pages that follow the first one concurrently.
+   * The first page is retrieved to learn the total number of results and the page size; the remaining
+   * offset windows are then retrieved using at most "maxConcurrency" concurrent requests on the specified executor.
+   * If the total number of results is not returned by the service, the pages are retrieved sequentially.
+   *
+   * @param maxConcurrency the maximum number of pages to be retrieved concurrently
+   * @param executor the executor used to retrieve the pages
+   * @return a List&lt;Offering&gt; containing all results returned by the "listOfferings" method, in offset order
+   */
+  public List<Offering> getAllParallel(int maxConcurrency, Executor executor) {
+    List<Offering> results = new ArrayList<>();
+    if (!hasNext()) {
+      return results;
+    }
+    results.addAll(getNext());
+    if (hasNext() && this.pageContext.getTotalCount() != null) {
+      results.addAll(OffsetPageLoader.loadAll(this.pageContext.getNext(), this.pageContext.getTotalCount(),
+          this.pageContext.getPageSize(), offset -> itemsOf(fetch(offset)), maxConcurrency, executor));
+      this.pageContext.setNext(null);
+      this.hasNext = false;
+    } else {
+      results.addAll(getAll());
+    }
+    return results;
+  }
+
+  private OfferingSearchResult fetch(long offset) {
+    ListOfferingsOptions.Builder builder = this.options.newBuilder();
+    if (offset > 0) {
+      builder.offset(offset);
+    }
+    return client.listOfferings(builder.build()).execute().getResult();
+  }
+
+  private static List<Offering> itemsOf(OfferingSearchResult result) {
+    return result.getResources() != null ? result.getResources() : new ArrayList<Offering>();
+  }
+}
@@ -13,23 +13,31 @@
 package com.ibm.cloud.platform_services.catalog_management.v1;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.fail;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import okhttp3.mockwebserver.Dispatcher;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.ibm.cloud.platform_services.catalog_management.v1.model.*;
 import com.ibm.cloud.platform_services.catalog_management.v1.utils.TestUtilities;
+import com.ibm.cloud.platform_services.test.ServiceCallTestUtils;
 import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
 import com.ibm.cloud.sdk.core.service.model.FileWithMetadata;
 import com.ibm.cloud.sdk.core.util.DateUtils;
 import com.ibm.cloud.sdk.core.util.RequestUtils;
@@ -5337,6 +5345,178 @@ public class CatalogManagementTest {
     catalogManagementService.deleteOfferingInstance(null).execute();
   }
 
+  // Test that each operation reuses a single response converter instead of allocating one per call
+  @Test
+  public void testResponseConverterReuse() throws Throwable {
+    // construct the service
+    constructClientService();
+
+    ListCatalogsOptions listCatalogsOptions = new ListCatalogsOptions();
+    GetCatalogOptions getCatalogOptions = new GetCatalogOptions.Builder().catalogIdentifier("testString").build();
+    DeleteCatalogOptions deleteCatalogOptions = new DeleteCatalogOptions.Builder().catalogIdentifier("testString").build();
+
+    ResponseConverter<?> listCatalogsConverter = ServiceCallTestUtils.getResponseConverter(catalogManagementService.listCatalogs(listCatalogsOptions));
+    ResponseConverter<?> getCatalogConverter = ServiceCallTestUtils.getResponseConverter(catalogManagementService.getCatalog(getCatalogOptions));
+    ResponseConverter<?> deleteCatalogConverter = ServiceCallTestUtils.getResponseConverter(catalogManagementService.deleteCatalog(deleteCatalogOptions));
+    for (int i = 0; i < 1000; i++) {
+      assertSame(ServiceCallTestUtils.getResponseConverter(catalogManagementService.listCatalogs(listCatalogsOptions)), listCatalogsConverter);
+      assertSame(ServiceCallTestUtils.getResponseConverter(catalogManagementService.getCatalog(getCatalogOptions)), getCatalogConverter);
+      assertSame(ServiceCallTestUtils.getResponseConverter(catalogManagementService.deleteCatalog(deleteCatalogOptions)), deleteCatalogConverter);
+    }
+  }
+
+  // Test the listOfferings operation using the OfferingsPager.getNext() method
+  @Test
+  public void testListOfferingsWithOfferingsPagerGetNext() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"offset\":0,\"limit\":1,\"total_count\":2,\"resources\":[{\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"offset\":1,\"limit\":1,\"total_count\":2,\"resources\":[{\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    constructClientService();
+
+    ListOfferingsOptions options = new ListOfferingsOptions.Builder()
+      .catalogIdentifier("testString")
+      .limit(Long.valueOf("1"))
+      .build();
+
+    List<Offering> allResults = new ArrayList<>();
+    OfferingsPager pager = new OfferingsPager(catalogManagementService, options);
+    while (pager.hasNext()) {
+      List<Offering> nextPage = pager.getNext();
+      assertNotNull(nextPage);
+      allResults.addAll(nextPage);
+    }
+    assertEquals(allResults.size(), 2);
+
+    // Verify that the second page was requested from where the first page ended
+    server.takeRequest();
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getRequestUrl().queryParameter("offset"), "1");
+    assertEquals(server.getRequestCount(), 2);
+  }
+
+  // Test the listOfferings operation using the OfferingsPager.getAllParallel() method
+  @Test
+  public void testListOfferingsWithOfferingsPagerGetAllParallel() throws Throwable {
+    // Serve 23 results in pages of 5, based on the offset of each request.
+    final int totalCount = 23;
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        String offsetParam = request.getRequestUrl().queryParameter("offset");
+        int offset = offsetParam != null ? Integer.parseInt(offsetParam) : 0;
+        StringBuilder items = new StringBuilder();
+        for (int i = offset; i < Math.min(offset + 5, totalCount); i++) {
+          if (items.length() > 0) {
+            items.append(",");
+          }
+          items.append("{\"id\":\"id" + i + "\"}");
+        }
+        return new MockResponse()
+          .setHeader("Content-type", "application/json")
+          .setResponseCode(200)
+          .setBody("{\"total_count\":" + totalCount + ",\"resources\":[" + items + "]}");
+      }
+    });
+
+    constructClientService();
+
+    ListOfferingsOptions options = new ListOfferingsOptions.Builder()
+      .catalogIdentifier("testString")
+      .limit(Long.valueOf("5"))
+      .build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      OfferingsPager pager = new OfferingsPager(catalogManagementService, options);
+      List<Offering> allResults = pager.getAllParallel(3, executor);
+      assertEquals(allResults.size(), totalCount);
+      for (int i = 0; i < totalCount; i++) {
+        assertEquals(allResults.get(i).id(), "id" + i);
+      }
+      assertFalse(pager.hasNext());
+      assertEquals(server.getRequestCount(), 5);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // Test the listObjects operation using the ObjectsPager.getAll() method
+  @Test
+  public void testListObjectsWithObjectsPagerGetAll() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"offset\":0,\"limit\":1,\"total_count\":2,\"resources\":[{\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"offset\":1,\"limit\":1,\"total_count\":2,\"resources\":[{\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    constructClientService();
+
+    ListObjectsOptions options = new ListObjectsOptions.Builder()
+      .catalogIdentifier("testString")
+      .limit(Long.valueOf("1"))
+      .build();
+
+    ObjectsPager pager = new ObjectsPager(catalogManagementService, options);
+    List<CatalogObject> allResults = pager.getAll();
+    assertNotNull(allResults);
+    assertEquals(allResults.size(), 2);
+  }
+
+  // Test the searchObjects operation using the SearchObjectsPager.getAll() method
+  @Test
+  public void testSearchObjectsWithSearchObjectsPagerGetAll() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"offset\":0,\"limit\":1,\"total_count\":2,\"resources\":[{\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"offset\":1,\"limit\":1,\"total_count\":2,\"resources\":[{\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    constructClientService();
+
+    SearchObjectsOptions options = new SearchObjectsOptions.Builder()
+      .query("testString")
+      .limit(Long.valueOf("1"))
+      .build();
+
+    SearchObjectsPager pager = new SearchObjectsPager(catalogManagementService, options);
+    List<CatalogObject> allResults = pager.getAll();
+    assertNotNull(allResults);
+    assertEquals(allResults.size(), 2);
+  }
+
   /** Initialize the server */
   @BeforeMethod
   public void setUpMockServer() {
@@ -0,0 +1,251 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.common;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * AsyncPager retrieves the pages of results from a {@link Pager} on an executor, so that the network
+ * round-trip for the next page overlaps with the caller's processing of the current page.
+ * <p>As soon as a page arrives, the fetch of the following page is started, until "readAhead" pages
+ * have been buffered. Fetching resumes when the caller consumes a buffered page, so a slow consumer
+ * never causes more than "readAhead" pages to be held in memory.
+ * With a "readAhead" value of zero, a page is fetched only when the caller requests it.
+ *
+ * @param <T> the type of the items contained in each page of results
+ */
+public class AsyncPager<T> implements AutoCloseable {
+    private final Pager<T> pager;
+    private final int readAhead;
+    private final Executor executor;
+
+    // The following fields are guarded by "this".
+    private final Deque<List<T>> buffered = new ArrayDeque<>();
+    private final Deque<CompletableFuture<List<T>>> waiters = new ArrayDeque<>();
+    private boolean fetching;
+    private boolean exhausted;
+    private boolean closed;
+    private Throwable failure;
+
+    /**
+     * Constructs a new AsyncPager which wraps the specified pager and immediately starts
+     * fetching the first page of results (if "readAhead" is greater than zero).
+     *
+     * @param pager the pager used to retrieve each page of results
+     * @param readAhead the maximum number of pages to be buffered ahead of the caller
+     * @param executor the executor used to retrieve each page of results
+     */
+    public AsyncPager(Pager<T> pager, int readAhead, Executor executor) {
+        if (pager == null) {
+            throw new IllegalArgumentException("pager cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        if (readAhead < 0) {
+            throw new IllegalArgumentException("readAhead cannot be negative");
+        }
+        this.pager = pager;
+        this.readAhead = readAhead;
+        this.executor = executor;
+        synchronized (this) {
+            this.exhausted = !pager.hasNext();
+        }
+        scheduleFetch();
+    }
+
+    /**
+     * Returns true if there may be more results to be retrieved.
+     * Once the retrieval of a page has failed, this method keeps returning true after the buffered pages
+     * have been consumed, and the next page request completes exceptionally with that failure, so that
+     * a failed listing is never mistaken for a complete one.
+     * Note that when several pages are requested without waiting for the previous ones to complete,
+     * requests beyond the last page complete exceptionally with a {@link NoSuchElementException}.
+     * @return boolean
+     */
+    public synchronized boolean hasNext() {
+        if (!buffered.isEmpty()) {
+            return true;
+        }
+        return !closed && (failure != null || !exhausted);
+    }
+
+    /**
+     * Returns a future that will be completed with the next page of results.
+     * @return a CompletableFuture that will be completed with the next page of results
+     * @throws NoSuchElementException if no more results are available
+     */
+    public CompletableFuture<List<T>> getNext() {
+        CompletableFuture<List<T>> future;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The pager has been closed");
+            }
+            if (!buffered.isEmpty()) {
+                future = CompletableFuture.completedFuture(buffered.poll());
+            } else if (failure != null) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(failure);
+            } else if (exhausted) {
+                throw new NoSuchElementException("No more results available");
+            } else {
+                future = new CompletableFuture<>();
+                waiters.add(future);
+            }
+        }
+        scheduleFetch();
+        return future;
+    }
+
+    /**
+     * Invokes the specified action for each of the remaining pages of results, in order.
+     * The next page is fetched while the action processes the current page.
+     *
+     * @param action the action to be invoked for each page
+     * @return a CompletableFuture that is completed when all pages have been processed, or completed
+     *     exceptionally if a page could not be retrieved or the action failed
+     */
+    public CompletableFuture<Void> forEachRemaining(Consumer<? super List<T>> action) {
+        if (!hasNext()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return getNext().thenCompose(page -> {
+            action.accept(page);
+            return forEachRemaining(action);
+        });
+    }
+
+    /**
+     * Returns an Iterator over the remaining results. The caller blocks only when the next page
+     * has not yet been retrieved, and at most "readAhead" pages are buffered ahead of the caller.
+     * If a page could not be retrieved, the iterator throws the failure once the preceding pages
+     * have been consumed.
+     *
+     * @return an Iterator&lt;T&gt; over the remaining results
+     */
+    public Iterator<T> iterator() {
+        return new PagerIterator<>(this::hasNext, this::awaitNext);
+    }
+
+    /**
+     * Returns a sequential Stream over the remaining results, which are prefetched as described
+     * in {@link #iterator()}. Closing the stream closes this pager.
+     *
+     * @return a Stream&lt;T&gt; over the remaining results
+     */
+    public Stream<T> stream() {
+        return new PagerIterator<>(this::hasNext, this::awaitNext).stream().onClose(this::close);
+    }
+
+    /**
+     * Stops fetching further pages and discards any buffered pages.
+     * Pending futures returned by {@link #getNext()} are cancelled.
+     */
+    @Override
+    public void close() {
+        Deque<CompletableFuture<List<T>>> pending;
+        synchronized (this) {
+            closed = true;
+            buffered.clear();
+            pending = new ArrayDeque<>(waiters);
+            waiters.clear();
+        }
+        for (CompletableFuture<List<T>> waiter : pending) {
+            waiter.completeExceptionally(new CancellationException("The pager has been closed"));
+        }
+    }
+
+    private List<T> awaitNext() {
+        try {
+            return getNext().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void scheduleFetch() {
+        synchronized (this) {
+            if (fetching || exhausted || closed || failure != null) {
+                return;
+            }
+            if (waiters.isEmpty() && buffered.size() >= readAhead) {
+                return;
+            }
+            fetching = true;
+        }
+        try {
+            executor.execute(this::fetch);
+        } catch (RuntimeException e) {
+            onFetchComplete(null, e);
+        }
+    }
+
+    private void fetch() {
+        List<T> page = null;
+        Throwable error = null;
+        try {
+            page = pager.getNext();
+        } catch (Throwable t) {
+            error = t;
+        }
+        onFetchComplete(page, error);
+        scheduleFetch();
+    }
+
+    private void onFetchComplete(List<T> page, Throwable error) {
+        CompletableFuture<List<T>> waiter = null;
+        Deque<CompletableFuture<List<T>>> failed = new ArrayDeque<>();
+        Throwable failedWith = null;
+        synchronized (this) {
+            fetching = false;
+            if (error != null) {
+                failure = error;
+                failed.addAll(waiters);
+                waiters.clear();
+                failedWith = error;
+            } else {
+                exhausted = !pager.hasNext();
+                if (!waiters.isEmpty()) {
+                    waiter = waiters.poll();
+                } else if (!closed) {
+                    buffered.add(page);
+                }
+                if (exhausted && !waiters.isEmpty()) {
+                    failed.addAll(waiters);
+                    waiters.clear();
+                    failedWith = new NoSuchElementException("No more results available");
+                }
+            }
+        }
+        if (waiter != null) {
+            waiter.complete(page);
+        }
+        for (CompletableFuture<List<T>> f : failed) {
+            f.completeExceptionally(failedWith);
+        }
+    }
+}
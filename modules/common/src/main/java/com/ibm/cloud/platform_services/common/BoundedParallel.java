@@ -0,0 +1,177 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * BoundedParallel runs a task for many items with at most "maxConcurrency" tasks running at a time.
+ * A fixed number of workers is started, each of which claims the next item until none remain, so that
+ * no task is created per item. If a task fails, no further items are claimed and the first failure is
+ * rethrown to the caller once the running tasks have returned.
+ */
+public final class BoundedParallel {
+
+    private BoundedParallel() {
+    }
+
+    /**
+     * Applies a task to each item with at most "maxConcurrency" tasks running, and returns the results
+     * in the order of the items. Nothing is submitted to the executor if there are no items.
+     *
+     * @param <T> the type of the items
+     * @param <R> the type of the results
+     * @param items the items
+     * @param maxConcurrency the maximum number of tasks running at a time
+     * @param executor the executor used to run the tasks
+     * @param task the task applied to each item
+     * @return a List&lt;R&gt; containing the result of each item
+     */
+    public static <T, R> List<R> map(final List<? extends T> items, int maxConcurrency, Executor executor,
+        final Function<? super T, ? extends R> task) {
+        if (items == null) {
+            throw new IllegalArgumentException("items cannot be null");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+        }
+        final int itemCount = items.size();
+        if (itemCount == 0) {
+            return new ArrayList<>();
+        }
+        final AtomicReferenceArray<R> results = new AtomicReferenceArray<>(itemCount);
+        final AtomicInteger nextItem = new AtomicInteger();
+        forEach(() -> {
+            int item = nextItem.getAndIncrement();
+            return item < itemCount ? item : null;
+        }, Math.min(maxConcurrency, itemCount), executor, item -> results.set(item, task.apply(items.get(item))));
+        List<R> list = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            list.add(results.get(i));
+        }
+        return list;
+    }
+
+    /**
+     * Runs a task for each item returned by "source" until it returns null, with "maxConcurrency" workers,
+     * and waits for all of them to complete.
+     *
+     * @param <T> the type of the items
+     * @param source the thread-safe supplier of the items, which returns null when none remain
+     * @param maxConcurrency the number of workers
+     * @param executor the executor used to run the workers
+     * @param task the task run for each item
+     */
+    public static <T> void forEach(Supplier<? extends T> source, int maxConcurrency, Executor executor,
+        Consumer<? super T> task) {
+        join(forEachAsync(source, maxConcurrency, executor, task));
+    }
+
+    /**
+     * Starts "maxConcurrency" workers that run a task for each item returned by "source" until it returns null.
+     *
+     * @param <T> the type of the items
+     * @param source the thread-safe supplier of the items, which returns null when none remain
+     * @param maxConcurrency the number of workers
+     * @param executor the executor used to run the workers
+     * @param task the task run for each item
+     * @return a CompletableFuture that is completed when all workers have returned, or completed exceptionally
+     *     with the first failure
+     */
+    public static <T> CompletableFuture<Void> forEachAsync(final Supplier<? extends T> source, int maxConcurrency,
+        Executor executor, final Consumer<? super T> task) {
+        if (source == null) {
+            throw new IllegalArgumentException("source cannot be null");
+        }
+        checkArguments(maxConcurrency, executor, task);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            try {
+                T item;
+                while (failure.get() == null && (item = source.get()) != null) {
+                    task.accept(item);
+                }
+            } catch (RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            }
+        };
+        List<CompletableFuture<Void>> workers = new ArrayList<>(maxConcurrency);
+        try {
+            for (int i = 0; i < maxConcurrency; i++) {
+                workers.add(CompletableFuture.runAsync(worker, executor));
+            }
+        } catch (RejectedExecutionException e) {
+            // The workers already started stop at their next item.
+            failure.compareAndSet(null, e);
+        }
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) -> {
+            if (failure.get() != null) {
+                result.completeExceptionally(failure.get());
+            } else if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                result.complete(null);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for a future to complete and returns its result, rethrowing the RuntimeException or Error
+     * it completed with rather than a CompletionException.
+     *
+     * @param <T> the type of the result
+     * @param future the future
+     * @return the result of the future
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static void checkArguments(int maxConcurrency, Executor executor, Object task) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        if (task == null) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+    }
+}
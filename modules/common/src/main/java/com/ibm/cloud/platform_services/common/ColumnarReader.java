@@ -0,0 +1,262 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.common;
+
+import com.ibm.cloud.platform_services.common.ColumnarWriter.Type;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ColumnarReader reads the columns of a file written by {@link ColumnarWriter}. Each column is read on demand,
+ * one row group at a time.
+ */
+public class ColumnarReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final List<String> names = new ArrayList<>();
+    private final List<Type> types = new ArrayList<>();
+    private final List<List<String>> dictionaries = new ArrayList<>();
+    private long[] rowGroupOffsets;
+    private int[] rowGroupRows;
+    private long rowCount;
+
+    /**
+     * Opens a columnar file and reads its footer.
+     *
+     * @param path the file
+     * @throws UncheckedIOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a complete columnar file
+     */
+    public ColumnarReader(Path path) {
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open " + path, e);
+        }
+        try {
+            readFooter();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Unable to read " + path, e);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the names of the columns.
+     * @return the column names
+     */
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Returns the type of a column.
+     *
+     * @param name the name of the column
+     * @return the type
+     */
+    public Type getType(String name) {
+        return types.get(indexOf(name));
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return the row count
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the dictionary of a STRING column; the IDs returned by readIds() are indexes in this list.
+     *
+     * @param name the name of the column
+     * @return the dictionary
+     */
+    public List<String> getDictionary(String name) {
+        return Collections.unmodifiableList(dictionaries.get(checkType(name, Type.STRING)));
+    }
+
+    /**
+     * Reads the dictionary IDs of a STRING column.
+     *
+     * @param name the name of the column
+     * @return the IDs, -1 meaning null
+     */
+    public int[] readIds(String name) {
+        int column = checkType(name, Type.STRING);
+        int[] ids = new int[checkedRowCount()];
+        int row = 0;
+        for (int group = 0; group < rowGroupOffsets.length; group++) {
+            ByteBuffer chunk = readChunk(group, column);
+            for (int i = 0; i < rowGroupRows[group]; i++) {
+                ids[row++] = chunk.getInt();
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Reads the values of a STRING column.
+     *
+     * @param name the name of the column
+     * @return the values
+     */
+    public String[] readStrings(String name) {
+        List<String> dictionary = dictionaries.get(checkType(name, Type.STRING));
+        int[] ids = readIds(name);
+        String[] strings = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            strings[i] = ids[i] >= 0 ? dictionary.get(ids[i]) : null;
+        }
+        return strings;
+    }
+
+    /**
+     * Reads the values of a DOUBLE column.
+     *
+     * @param name the name of the column
+     * @return the values, NaN meaning null
+     */
+    public double[] readDoubles(String name) {
+        int column = checkType(name, Type.DOUBLE);
+        double[] doubles = new double[checkedRowCount()];
+        int row = 0;
+        for (int group = 0; group < rowGroupOffsets.length; group++) {
+            ByteBuffer chunk = readChunk(group, column);
+            for (int i = 0; i < rowGroupRows[group]; i++) {
+                doubles[row++] = chunk.getDouble();
+            }
+        }
+        return doubles;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int indexOf(String name) {
+        int index = names.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown column: " + name);
+        }
+        return index;
+    }
+
+    private int checkType(String name, Type type) {
+        int index = indexOf(name);
+        if (types.get(index) != type) {
+            throw new IllegalArgumentException("Column " + name + " is not a " + type + " column");
+        }
+        return index;
+    }
+
+    private int checkedRowCount() {
+        if (rowCount > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many rows to be read into an array: " + rowCount);
+        }
+        return (int) rowCount;
+    }
+
+    private ByteBuffer readChunk(int group, int column) {
+        long offset = rowGroupOffsets[group];
+        for (int i = 0; i < column; i++) {
+            offset += (long) width(types.get(i)) * rowGroupRows[group];
+        }
+        try {
+            return read(offset, width(types.get(column)) * rowGroupRows[group]);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int width(Type type) {
+        return type == Type.STRING ? 4 : 8;
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IllegalArgumentException("Truncated columnar file");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private void readFooter() throws IOException {
+        int magicLength = ColumnarWriter.MAGIC.length;
+        long size = channel.size();
+        if (size < 2 * magicLength + 8) {
+            throw new IllegalArgumentException("Not a columnar file");
+        }
+        ByteBuffer trailer = read(size - magicLength - 8, magicLength + 8);
+        long footerOffset = trailer.getLong();
+        byte[] magic = new byte[magicLength];
+        trailer.get(magic);
+        if (!Arrays.equals(magic, ColumnarWriter.MAGIC) || footerOffset < magicLength
+            || footerOffset > size - magicLength - 8) {
+            throw new IllegalArgumentException("Not a complete columnar file");
+        }
+        ByteBuffer footer = read(footerOffset, (int) (size - magicLength - 8 - footerOffset));
+        int columns = footer.getInt();
+        for (int i = 0; i < columns; i++) {
+            names.add(getString(footer));
+            types.add(Type.values()[footer.get()]);
+        }
+        int groups = footer.getInt();
+        rowGroupOffsets = new long[groups];
+        rowGroupRows = new int[groups];
+        for (int i = 0; i < groups; i++) {
+            rowGroupOffsets[i] = footer.getLong();
+            rowGroupRows[i] = footer.getInt();
+            rowCount += rowGroupRows[i];
+        }
+        for (int i = 0; i < columns; i++) {
+            List<String> dictionary = null;
+            if (types.get(i) == Type.STRING) {
+                int entries = footer.getInt();
+                dictionary = new ArrayList<>(entries);
+                for (int j = 0; j < entries; j++) {
+                    dictionary.add(getString(footer));
+                }
+            }
+            dictionaries.add(dictionary);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,418 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.common;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ColumnarWriter writes rows to a columnar file that can be read with {@link ColumnarReader}.
+ *
+ * <p>
+ * The rows are buffered in row groups of "rowGroupSize" rows, and each row group is written column by column:
+ * a STRING column is dictionary-encoded (each value is stored as the int index of the value in the dictionary of
+ * the column, or -1 for null) and a DOUBLE column is stored as primitive doubles (NaN for null). The dictionaries
+ * and the index of the row groups are written in a footer when the writer is closed. All writes go through a
+ * single FileChannel and a fixed-size buffer, so the memory used is bounded by the size of a row group and of the
+ * dictionaries, regardless of the number of rows.
+ *
+ * <p>
+ * Rows are built by setting the columns of the current row and invoking endRow(). When the values of some
+ * columns are only known after several rows have been built (e.g. the fields of a JSON object that contains an
+ * array of rows), mark() returns the index of the next row and keeps the following rows in memory until
+ * release() is invoked, so that fill() can set those columns on all of the rows since the mark.
+ *
+ * <p>
+ * File layout (big-endian):
+ * <pre>
+ * "COLUMNS1" row-group* footer footer-offset(long) "COLUMNS1"
+ * row-group: for each column, rows * (int id | double value)
+ * footer:    columns(int) { name(string) type(byte) }* row-groups(int) { offset(long) rows(int) }*
+ *            for each STRING column: size(int) { value(string) }*
+ * string:    length(int) UTF-8 bytes
+ * </pre>
+ */
+public class ColumnarWriter implements AutoCloseable {
+
+    /**
+     * The type of a column.
+     */
+    public enum Type {
+        /** A dictionary-encoded string column. */
+        STRING,
+        /** A double column. */
+        DOUBLE
+    }
+
+    static final byte[] MAGIC = "COLUMNS1".getBytes(StandardCharsets.US_ASCII);
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final int rowGroupSize;
+    private final String[] names;
+    private final Type[] types;
+    private final Map<String, Integer> columnIndexes = new HashMap<>();
+    private final List<Map<String, Integer>> dictionaries = new ArrayList<>();
+    private final List<List<String>> dictionaryValues = new ArrayList<>();
+
+    // The buffered rows of the current row group, one array per column; only the array matching the type is used.
+    private final int[][] ids;
+    private final double[][] values;
+    private int bufferedRows;
+    private int capacity;
+    private int openMarks;
+    private long flushedRows;
+
+    private final List<long[]> rowGroups = new ArrayList<>();
+    private long position;
+    private boolean closed;
+
+    /**
+     * Creates (or replaces) a columnar file.
+     *
+     * @param path the file
+     * @param names the names of the columns
+     * @param types the types of the columns
+     * @param rowGroupSize the number of rows in each row group
+     * @param bufferSize the size in bytes of the buffer used to write to the file
+     * @throws UncheckedIOException if the file cannot be created
+     */
+    public ColumnarWriter(Path path, List<String> names, List<Type> types, int rowGroupSize, int bufferSize) {
+        if (names.isEmpty() || names.size() != types.size()) {
+            throw new IllegalArgumentException("names and types must have the same, non-zero size");
+        }
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("rowGroupSize must be greater than zero");
+        }
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("bufferSize must be at least 64");
+        }
+        this.names = names.toArray(new String[0]);
+        this.types = types.toArray(new Type[0]);
+        this.rowGroupSize = rowGroupSize;
+        this.capacity = Math.min(rowGroupSize, 1024) + 1;
+        this.ids = new int[this.names.length][];
+        this.values = new double[this.names.length][];
+        for (int i = 0; i < this.names.length; i++) {
+            if (columnIndexes.put(this.names[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate column: " + this.names[i]);
+            }
+            if (this.types[i] == Type.STRING) {
+                ids[i] = new int[capacity];
+                dictionaries.add(new HashMap<>());
+                dictionaryValues.add(new ArrayList<>());
+            } else {
+                values[i] = new double[capacity];
+                dictionaries.add(null);
+                dictionaryValues.add(null);
+            }
+        }
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create " + path, e);
+        }
+        clearRow(0);
+        putBytes(MAGIC);
+    }
+
+    /**
+     * Returns the index of a column.
+     *
+     * @param name the name of the column
+     * @return the index of the column
+     */
+    public int getColumnIndex(String name) {
+        Integer index = columnIndexes.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown column: " + name);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of rows ended so far, which is also the index of the current row.
+     * @return the number of rows
+     */
+    public long getRowCount() {
+        return flushedRows + bufferedRows;
+    }
+
+    /**
+     * Sets a STRING column of the current row.
+     *
+     * @param column the index of the column
+     * @param value the value, or null
+     */
+    public void setString(int column, String value) {
+        ids[column][bufferedRows] = encode(column, value);
+    }
+
+    /**
+     * Sets a DOUBLE column of the current row.
+     *
+     * @param column the index of the column
+     * @param value the value, or NaN for null
+     */
+    public void setDouble(int column, double value) {
+        values[column][bufferedRows] = value;
+    }
+
+    /**
+     * Ends the current row; the columns that were not set are null.
+     */
+    public void endRow() {
+        checkOpen();
+        bufferedRows++;
+        if (bufferedRows == capacity) {
+            grow();
+        }
+        clearRow(bufferedRows);
+        if (bufferedRows >= rowGroupSize && openMarks == 0) {
+            flushRowGroup();
+        }
+    }
+
+    /**
+     * Keeps the rows ended from now on in memory until release() is invoked. Marks may be nested.
+     * @return the index of the next row, to be passed to fill() and release()
+     */
+    public long mark() {
+        openMarks++;
+        return getRowCount();
+    }
+
+    /**
+     * Sets a STRING column of the rows ended since a mark, excluding the current row.
+     *
+     * @param mark the value returned by mark()
+     * @param column the index of the column
+     * @param value the value, or null
+     */
+    public void fill(long mark, int column, String value) {
+        int id = encode(column, value);
+        Arrays.fill(ids[column], bufferedIndex(mark), bufferedRows, id);
+    }
+
+    /**
+     * Sets a DOUBLE column of the rows ended since a mark, excluding the current row.
+     *
+     * @param mark the value returned by mark()
+     * @param column the index of the column
+     * @param value the value, or NaN for null
+     */
+    public void fill(long mark, int column, double value) {
+        Arrays.fill(values[column], bufferedIndex(mark), bufferedRows, value);
+    }
+
+    /**
+     * Releases a mark, allowing the rows ended since the mark to be written.
+     *
+     * @param mark the value returned by mark()
+     */
+    public void release(long mark) {
+        bufferedIndex(mark);
+        openMarks--;
+        if (bufferedRows >= rowGroupSize && openMarks == 0) {
+            flushRowGroup();
+        }
+    }
+
+    /**
+     * Writes the buffered rows and the footer, and closes the file. The current row, if it has not been ended,
+     * is discarded.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            if (bufferedRows > 0) {
+                flushRowGroup();
+            }
+            long footerOffset = position;
+            putInt(names.length);
+            for (int i = 0; i < names.length; i++) {
+                putString(names[i]);
+                buffer(1).put((byte) types[i].ordinal());
+                position++;
+            }
+            putInt(rowGroups.size());
+            for (long[] rowGroup : rowGroups) {
+                putLong(rowGroup[0]);
+                putInt((int) rowGroup[1]);
+            }
+            for (int i = 0; i < names.length; i++) {
+                if (types[i] == Type.STRING) {
+                    List<String> dictionary = dictionaryValues.get(i);
+                    putInt(dictionary.size());
+                    for (String value : dictionary) {
+                        putString(value);
+                    }
+                }
+            }
+            putLong(footerOffset);
+            putBytes(MAGIC);
+            drain();
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the columnar file", e);
+        } finally {
+            closed = true;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // The file is already complete or the original failure is being reported.
+            }
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The writer has been closed");
+        }
+    }
+
+    private int bufferedIndex(long mark) {
+        long index = mark - flushedRows;
+        if (openMarks == 0 || index < 0 || index > bufferedRows) {
+            throw new IllegalStateException("Invalid mark: " + mark);
+        }
+        return (int) index;
+    }
+
+    private int encode(int column, String value) {
+        if (value == null) {
+            return -1;
+        }
+        Map<String, Integer> dictionary = dictionaries.get(column);
+        Integer id = dictionary.get(value);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.put(value, id);
+            dictionaryValues.get(column).add(value);
+        }
+        return id;
+    }
+
+    private void clearRow(int row) {
+        for (int i = 0; i < names.length; i++) {
+            if (types[i] == Type.STRING) {
+                ids[i][row] = -1;
+            } else {
+                values[i][row] = Double.NaN;
+            }
+        }
+    }
+
+    // The row group can grow beyond "rowGroupSize" while marks are open.
+    private void grow() {
+        capacity = capacity * 2;
+        for (int i = 0; i < names.length; i++) {
+            if (types[i] == Type.STRING) {
+                ids[i] = Arrays.copyOf(ids[i], capacity);
+            } else {
+                values[i] = Arrays.copyOf(values[i], capacity);
+            }
+        }
+    }
+
+    private void flushRowGroup() {
+        rowGroups.add(new long[] { position, bufferedRows });
+        for (int i = 0; i < names.length; i++) {
+            if (types[i] == Type.STRING) {
+                int[] column = ids[i];
+                for (int row = 0; row < bufferedRows; row++) {
+                    buffer(4).putInt(column[row]);
+                }
+                position += 4L * bufferedRows;
+            } else {
+                double[] column = values[i];
+                for (int row = 0; row < bufferedRows; row++) {
+                    buffer(8).putDouble(column[row]);
+                }
+                position += 8L * bufferedRows;
+            }
+        }
+        flushedRows += bufferedRows;
+        // The current (not yet ended) row moves to the start of the next row group.
+        for (int i = 0; i < names.length; i++) {
+            if (types[i] == Type.STRING) {
+                ids[i][0] = ids[i][bufferedRows];
+            } else {
+                values[i][0] = values[i][bufferedRows];
+            }
+        }
+        bufferedRows = 0;
+    }
+
+    // Returns the buffer once it has room for "size" bytes.
+    private ByteBuffer buffer(int size) {
+        if (buffer.remaining() < size) {
+            drain();
+        }
+        return buffer;
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the columnar file", e);
+        }
+        buffer.clear();
+    }
+
+    private void putInt(int value) {
+        buffer(4).putInt(value);
+        position += 4;
+    }
+
+    private void putLong(long value) {
+        buffer(8).putLong(value);
+        position += 8;
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        putBytes(bytes);
+    }
+
+    private void putBytes(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            int length = Math.min(buffer(1).remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+        position += bytes.length;
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * OffsetPageLoader is used by the offset-based pagers to retrieve the remaining pages of a result
+ * concurrently once the total number of results is known (i.e. after the first page has been retrieved).
+ */
+public final class OffsetPageLoader {
+
+    private OffsetPageLoader() {
+    }
+
+    /**
+     * Retrieves the windows [startOffset, startOffset + pageSize), [startOffset + pageSize, ...) up to
+     * "totalCount" using at most "maxConcurrency" concurrent requests, and returns their items in offset order.
+     * If any window fails, no further windows are started and the failure is rethrown to the caller.
+     *
+     * @param <T> the type of the items contained in each page of results
+     * @param startOffset the offset of the first window to be retrieved
+     * @param totalCount the total number of results
+     * @param pageSize the number of results contained in each window
+     * @param fetcher the function used to retrieve the window that starts at a given offset
+     * @param maxConcurrency the maximum number of windows to be retrieved concurrently
+     * @param executor the executor used to retrieve the windows
+     * @return a List&lt;T&gt; containing the items of all windows
+     */
+    public static <T> List<T> loadAll(long startOffset, long totalCount, long pageSize,
+        LongFunction<List<T>> fetcher, int maxConcurrency, Executor executor) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than zero");
+        }
+        if (startOffset >= totalCount) {
+            return new ArrayList<>();
+        }
+        long count = (totalCount - startOffset + pageSize - 1) / pageSize;
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many pages: " + count);
+        }
+        final int windowCount = (int) count;
+        final AtomicReferenceArray<List<T>> windows = new AtomicReferenceArray<>(windowCount);
+        final AtomicInteger nextWindow = new AtomicInteger();
+
+        // Each worker claims the next unretrieved window until none remain, so that at most
+        // "maxConcurrency" requests are in flight without creating a task per window.
+        BoundedParallel.forEach(() -> {
+            int window = nextWindow.getAndIncrement();
+            return window < windowCount ? window : null;
+        }, Math.min(maxConcurrency, windowCount), executor,
+            window -> windows.set(window, fetcher.apply(startOffset + window * pageSize)));
+
+        List<T> results = new ArrayList<>();
+        for (int i = 0; i < windowCount; i++) {
+            List<T> window = windows.get(i);
+            if (window != null) {
+                results.addAll(window);
+            }
+        }
+        return results;
+    }
+}
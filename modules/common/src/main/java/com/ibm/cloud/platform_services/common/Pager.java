@@ -0,0 +1,82 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.common;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Pager is implemented by each of the generated "*Pager" classes and describes the common
+ * way in which the results of a paginated "list" operation are retrieved one page at a time.
+ *
+ * @param <T> the type of the items contained in each page of results
+ */
+public interface Pager<T> {
+
+    /**
+     * Returns true if there are more results to be retrieved.
+     * @return boolean
+     */
+    boolean hasNext();
+
+    /**
+     * Returns the next page of results.
+     * @return a List&lt;T&gt; that contains the next page of results
+     */
+    List<T> getNext();
+
+    /**
+     * Returns all results by invoking getNext() repeatedly until all pages of results have been retrieved.
+     * @return a List&lt;T&gt; containing all results
+     */
+    List<T> getAll();
+
+    /**
+     * Returns an Iterator over the remaining results which retrieves each page of results only when
+     * the items of the previous page have been consumed, instead of materializing all results as getAll() does.
+     * The pager should not be used directly once this method has been invoked.
+     *
+     * @return an Iterator&lt;T&gt; over the remaining results
+     */
+    default Iterator<T> iterator() {
+        return new PagerIterator<>(this::hasNext, this::getNext);
+    }
+
+    /**
+     * Returns a sequential Stream over the remaining results which retrieves each page of results lazily.
+     * Short-circuiting operations such as limit() or anyMatch() stop retrieving pages as soon as
+     * their result is known.
+     * The pager should not be used directly once this method has been invoked.
+     *
+     * @return a Stream&lt;T&gt; over the remaining results
+     */
+    default Stream<T> stream() {
+        return new PagerIterator<>(this::hasNext, this::getNext).stream();
+    }
+
+    /**
+     * Returns an {@link AsyncPager} which retrieves the remaining pages of results on the specified executor,
+     * fetching up to "readAhead" pages before they are requested by the caller.
+     * The pager should not be used directly once this method has been invoked.
+     *
+     * @param readAhead the maximum number of pages to be buffered ahead of the caller
+     * @param executor the executor used to retrieve each page of results
+     * @return an AsyncPager that wraps this pager
+     */
+    default AsyncPager<T> async(int readAhead, Executor executor) {
+        return new AsyncPager<>(this, readAhead, executor);
+    }
+}
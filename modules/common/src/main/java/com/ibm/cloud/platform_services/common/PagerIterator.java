@@ -0,0 +1,73 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.common;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * PagerIterator iterates over the individual items of a paginated result, retrieving each page
+ * only when the items of the previous page have been consumed.
+ * Only the current page is referenced by the iterator, so a caller that does not retain the items
+ * can process a result of any size in constant memory.
+ *
+ * @param <T> the type of the items contained in each page of results
+ */
+class PagerIterator<T> implements Iterator<T> {
+    private final BooleanSupplier hasNextPage;
+    private final Supplier<List<T>> nextPage;
+    private Iterator<T> current = Collections.emptyIterator();
+
+    PagerIterator(BooleanSupplier hasNextPage, Supplier<List<T>> nextPage) {
+        this.hasNextPage = hasNextPage;
+        this.nextPage = nextPage;
+    }
+
+    @Override
+    public boolean hasNext() {
+        // Pages may be empty, so keep fetching until an item is found or the pages are exhausted.
+        while (!current.hasNext()) {
+            if (!hasNextPage.getAsBoolean()) {
+                return false;
+            }
+            List<T> page = nextPage.get();
+            current = page != null ? page.iterator() : Collections.<T>emptyIterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more results available");
+        }
+        return current.next();
+    }
+
+    /**
+     * Returns a sequential, ordered Stream over the items returned by this iterator.
+     * @return a Stream&lt;T&gt;
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+    }
+}
@@ -14,9 +14,15 @@
 package com.ibm.cloud.platform_services.common;
 
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.ibm.cloud.sdk.core.http.HttpHeaders;
 import com.ibm.cloud.sdk.core.util.RequestUtils;
@@ -35,6 +41,17 @@ public class SdkCommon {
     private static String projectName;
     private static String version;
 
+    /**
+     * The current set of registered static headers along with the header maps built from them.
+     */
+    private static volatile HeaderConfig headerConfig = new HeaderConfig(
+        Collections.<String, String>emptyMap(), Collections.<String, Map<String, String>>emptyMap());
+
+    /**
+     * The registered providers of request-specific headers.
+     */
+    private static final List<SdkHeaderProvider> headerProviders = new CopyOnWriteArrayList<>();
+
     static {
         readBuildProperties();
     }
@@ -81,12 +98,10 @@ public class SdkCommon {
      * This function is invoked by generated service methods (i.e. methods which implement the REST API operations
      * defined within the API definition). The purpose of this function is to give the SDK implementor the opportunity
      * to provide SDK-specific HTTP headers that will be sent with an outgoing REST API request.
-     * <p>This function is invoked for <b>each</b> invocation of a generated service method,
-     * so the set of HTTP headers could be request-specific.
-     * As an optimization, if your SDK will be returning the same set of HTTP headers for each invocation of this
-     * function, it is recommended that you initialize the returned map just once (perhaps by using
-     * lazy initialization) and simply return it each time the function is invoked, instead of building it each time
-     * as in the example below.
+     * <p>This function is invoked for <b>each</b> invocation of a generated service method, so the headers
+     * for each (service, version, operation) combination are built once and cached as an immutable map.
+     * If one or more {@link SdkHeaderProvider} instances have been registered, a mutable copy of the cached map
+     * is returned after the providers have added their request-specific headers.
      *
      * @param serviceName
      *            the name of the service as defined in the API definition (e.g. "MyService1")
@@ -97,8 +112,123 @@ public class SdkCommon {
      * @return a Map which contains the set of headers to be included in the REST API request
      */
     public static Map<String, String> getSdkHeaders(String serviceName, String serviceVersion, String operationId) {
-        Map<String, String> headers = new HashMap<>();
-        headers.put(HttpHeaders.USER_AGENT, getUserAgent());
-        return headers;
+        Map<String, String> headers = headerConfig.getHeaders(serviceName, serviceVersion, operationId);
+        if (headerProviders.isEmpty()) {
+            return headers;
+        }
+        Map<String, String> requestHeaders = new HashMap<>(headers);
+        for (SdkHeaderProvider provider : headerProviders) {
+            provider.addHeaders(serviceName, serviceVersion, operationId, requestHeaders);
+        }
+        return requestHeaders;
+    }
+
+    /**
+     * Registers a static header that will be included in every REST API request made by the SDK.
+     *
+     * @param name the name of the header
+     * @param value the value of the header
+     */
+    public static synchronized void registerStaticHeader(String name, String value) {
+        Map<String, String> globalHeaders = new LinkedHashMap<>(headerConfig.globalHeaders);
+        globalHeaders.put(name, value);
+        headerConfig = new HeaderConfig(globalHeaders, headerConfig.serviceHeaders);
+    }
+
+    /**
+     * Registers a static header that will be included in every REST API request made for the specified service.
+     *
+     * @param serviceName the name of the service as defined in the API definition (e.g. "MyService1")
+     * @param name the name of the header
+     * @param value the value of the header
+     */
+    public static synchronized void registerStaticHeader(String serviceName, String name, String value) {
+        Map<String, Map<String, String>> serviceHeaders = new HashMap<>(headerConfig.serviceHeaders);
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (serviceHeaders.containsKey(serviceName)) {
+            headers.putAll(serviceHeaders.get(serviceName));
+        }
+        headers.put(name, value);
+        serviceHeaders.put(serviceName, headers);
+        headerConfig = new HeaderConfig(headerConfig.globalHeaders, serviceHeaders);
+    }
+
+    /**
+     * Registers a provider of request-specific headers (e.g. tracing IDs).
+     * Note that once a provider has been registered, each call to {@link #getSdkHeaders(String, String, String)}
+     * will return a newly-allocated map.
+     *
+     * @param provider the {@link SdkHeaderProvider} to be registered
+     */
+    public static void registerHeaderProvider(SdkHeaderProvider provider) {
+        if (provider == null) {
+            throw new IllegalArgumentException("provider cannot be null");
+        }
+        headerProviders.add(provider);
+    }
+
+    /**
+     * Unregisters a previously-registered provider of request-specific headers.
+     *
+     * @param provider the {@link SdkHeaderProvider} to be unregistered
+     */
+    public static void unregisterHeaderProvider(SdkHeaderProvider provider) {
+        headerProviders.remove(provider);
+    }
+
+    /**
+     * Removes all registered static headers and header providers.
+     */
+    public static synchronized void clearRegisteredHeaders() {
+        headerProviders.clear();
+        headerConfig = new HeaderConfig(
+            Collections.<String, String>emptyMap(), Collections.<String, Map<String, String>>emptyMap());
+    }
+
+    /**
+     * An immutable snapshot of the registered static headers, along with the cache of header maps built from it.
+     * A new snapshot is created each time a static header is registered so that stale maps are never served.
+     */
+    private static final class HeaderConfig {
+        private final Map<String, String> globalHeaders;
+        private final Map<String, Map<String, String>> serviceHeaders;
+        private final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, Map<String, String>>>> cache =
+            new ConcurrentHashMap<>();
+
+        HeaderConfig(Map<String, String> globalHeaders, Map<String, Map<String, String>> serviceHeaders) {
+            this.globalHeaders = globalHeaders;
+            this.serviceHeaders = serviceHeaders;
+        }
+
+        Map<String, String> getHeaders(String serviceName, String serviceVersion, String operationId) {
+            // Lookups use get() first so that the common (cache hit) path does not allocate.
+            String serviceKey = serviceName != null ? serviceName : "";
+            String versionKey = serviceVersion != null ? serviceVersion : "";
+            String operationKey = operationId != null ? operationId : "";
+
+            ConcurrentMap<String, ConcurrentMap<String, Map<String, String>>> versions = cache.get(serviceKey);
+            if (versions == null) {
+                versions = cache.computeIfAbsent(serviceKey, k -> new ConcurrentHashMap<>());
+            }
+            ConcurrentMap<String, Map<String, String>> operations = versions.get(versionKey);
+            if (operations == null) {
+                operations = versions.computeIfAbsent(versionKey, k -> new ConcurrentHashMap<>());
+            }
+            Map<String, String> headers = operations.get(operationKey);
+            if (headers == null) {
+                headers = operations.computeIfAbsent(operationKey, k -> buildHeaders(serviceName));
+            }
+            return headers;
+        }
+
+        private Map<String, String> buildHeaders(String serviceName) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put(HttpHeaders.USER_AGENT, getUserAgent());
+            headers.putAll(globalHeaders);
+            if (serviceName != null && serviceHeaders.containsKey(serviceName)) {
+                headers.putAll(serviceHeaders.get(serviceName));
+            }
+            return Collections.unmodifiableMap(headers);
+        }
     }
 }
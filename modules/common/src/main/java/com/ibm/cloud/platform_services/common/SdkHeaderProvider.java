@@ -0,0 +1,40 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.common;
+
+import java.util.Map;
+
+/**
+ * An SdkHeaderProvider contributes request-specific HTTP headers (e.g. tracing or correlation IDs)
+ * to each outgoing REST API request made by the SDK.
+ * <p>Providers are registered with {@link SdkCommon#registerHeaderProvider(SdkHeaderProvider)} and are invoked
+ * once per invocation of a generated service method, so implementations should be fast and thread-safe.
+ */
+public interface SdkHeaderProvider {
+
+    /**
+     * Adds request-specific headers for the specified operation.
+     *
+     * @param serviceName
+     *            the name of the service as defined in the API definition (e.g. "MyService1")
+     * @param serviceVersion
+     *            the version of the service as defined in the API definition (e.g. "V1")
+     * @param operationId
+     *            the operationId as defined in the API definition (e.g. getContext)
+     * @param headers
+     *            the map to which the provider should add its headers; it already contains the cached
+     *            SDK headers for the operation
+     */
+    void addHeaders(String serviceName, String serviceVersion, String operationId, Map<String, String> headers);
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.platform_services.common.AsyncPager;
+
+/**
+ * This class contains tests for the AsyncPager class.
+ */
+public class AsyncPagerTest {
+
+    @Test
+    public void testReadAheadIsBounded() throws Exception {
+        IntegerPager pager = new IntegerPager(10, 5);
+        AsyncPager<Integer> asyncPager = pager.async(2, Runnable::run);
+
+        // The first two pages are fetched before any are requested.
+        assertEquals(pager.getFetched(), 2);
+        assertTrue(asyncPager.hasNext());
+
+        // Consuming a page allows one more page to be fetched.
+        assertEquals(asyncPager.getNext().get(), Arrays.asList(0, 1, 2, 3, 4));
+        assertEquals(pager.getFetched(), 3);
+        assertEquals(asyncPager.getNext().get(), Arrays.asList(5, 6, 7, 8, 9));
+        assertEquals(pager.getFetched(), 4);
+    }
+
+    @Test
+    public void testNoReadAhead() throws Exception {
+        IntegerPager pager = new IntegerPager(3, 1);
+        AsyncPager<Integer> asyncPager = new AsyncPager<>(pager, 0, Runnable::run);
+        assertEquals(pager.getFetched(), 0);
+        assertEquals(asyncPager.getNext().get(), Arrays.asList(0));
+        assertEquals(pager.getFetched(), 1);
+    }
+
+    @Test
+    public void testForEachRemaining() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            IntegerPager pager = new IntegerPager(50, 7);
+            AsyncPager<Integer> asyncPager = pager.async(3, executor);
+            List<Integer> results = new ArrayList<>();
+            asyncPager.forEachRemaining(results::addAll).get(10, TimeUnit.SECONDS);
+            assertEquals(results.size(), 350);
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(results.get(i).intValue(), i);
+            }
+            assertFalse(asyncPager.hasNext());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetNextWhileFetching() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            IntegerPager pager = new IntegerPager(4, 2);
+            AsyncPager<Integer> asyncPager = pager.async(1, executor);
+            List<CompletableFuture<List<Integer>>> futures = new ArrayList<>();
+            while (asyncPager.hasNext()) {
+                futures.add(asyncPager.getNext());
+                futures.get(futures.size() - 1).get(10, TimeUnit.SECONDS);
+            }
+            assertEquals(futures.size(), 4);
+            assertEquals(futures.get(3).get(), Arrays.asList(6, 7));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        IntegerPager pager = new IntegerPager(5, 1, 1);
+        AsyncPager<Integer> asyncPager = pager.async(4, Runnable::run);
+        assertEquals(asyncPager.getNext().get(), Arrays.asList(0));
+        try {
+            asyncPager.getNext().get();
+            fail("Expected the second page to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        // The failure is not mistaken for the end of the results.
+        assertTrue(asyncPager.hasNext());
+        try {
+            asyncPager.getNext().get();
+            fail("Expected the failure to be reported again");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testPrefetchFailureThroughIterator() {
+        // The second page fails while it is prefetched, before anything is waiting for it.
+        IntegerPager pager = new IntegerPager(5, 2, 1);
+        AsyncPager<Integer> asyncPager = pager.async(4, Runnable::run);
+        Iterator<Integer> iterator = asyncPager.iterator();
+        assertEquals(iterator.next().intValue(), 0);
+        assertEquals(iterator.next().intValue(), 1);
+        try {
+            iterator.hasNext();
+            fail("Expected the prefetch failure to be thrown");
+        } catch (IllegalStateException e) {
+            assertEquals(e.getMessage(), "Page 1 failed");
+        }
+    }
+
+    @Test
+    public void testPrefetchFailureThroughStream() {
+        IntegerPager pager = new IntegerPager(5, 2, 1);
+        AsyncPager<Integer> asyncPager = pager.async(4, Runnable::run);
+        List<Integer> results = new ArrayList<>();
+        try (Stream<Integer> stream = asyncPager.stream()) {
+            stream.forEach(results::add);
+            fail("Expected the prefetch failure to be thrown");
+        } catch (IllegalStateException e) {
+            assertEquals(e.getMessage(), "Page 1 failed");
+        }
+        assertEquals(results, Arrays.asList(0, 1));
+    }
+
+    @Test
+    public void testPrefetchFailureThroughForEachRemaining() throws Exception {
+        IntegerPager pager = new IntegerPager(5, 2, 1);
+        AsyncPager<Integer> asyncPager = pager.async(4, Runnable::run);
+        List<Integer> results = new ArrayList<>();
+        CompletableFuture<Void> future = asyncPager.forEachRemaining(results::addAll);
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.get();
+            fail("Expected the prefetch failure to be reported");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(results, Arrays.asList(0, 1));
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testExhausted() throws Exception {
+        IntegerPager pager = new IntegerPager(1, 1);
+        AsyncPager<Integer> asyncPager = pager.async(1, Runnable::run);
+        asyncPager.getNext().get();
+        assertFalse(asyncPager.hasNext());
+        asyncPager.getNext();
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        IntegerPager pager = new IntegerPager(5, 1);
+        AsyncPager<Integer> asyncPager = pager.async(0, task -> { });
+        CompletableFuture<List<Integer>> future = asyncPager.getNext();
+        asyncPager.close();
+        assertTrue(future.isCancelled());
+        assertFalse(asyncPager.hasNext());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNegativeReadAhead() {
+        new AsyncPager<>(new IntegerPager(1, 1), -1, Runnable::run);
+    }
+}
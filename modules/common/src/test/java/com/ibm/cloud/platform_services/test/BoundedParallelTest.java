@@ -0,0 +1,159 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.platform_services.common.BoundedParallel;
+
+/**
+ * This class contains tests for the BoundedParallel class.
+ */
+public class BoundedParallelTest {
+
+    private static List<Integer> range(int count) {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    @Test
+    public void testMapInOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final AtomicInteger inFlight = new AtomicInteger();
+            final AtomicInteger maxInFlight = new AtomicInteger();
+            List<String> results = BoundedParallel.map(range(200), 3, executor, item -> {
+                int n = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(n, Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return "item-" + item;
+            });
+            assertEquals(results.size(), 200);
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(results.get(i), "item-" + i);
+            }
+            assertTrue(maxInFlight.get() <= 3);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testMapNothing() {
+        List<String> results = BoundedParallel.map(Collections.<Integer>emptyList(), 2, Runnable::run, item -> {
+            throw new IllegalStateException("unexpected task");
+        });
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void testMapFailure() {
+        final AtomicInteger started = new AtomicInteger();
+        try {
+            BoundedParallel.map(range(100), 1, Runnable::run, item -> {
+                started.incrementAndGet();
+                if (item == 3) {
+                    throw new IllegalStateException("item failed");
+                }
+                return item;
+            });
+            fail("Expected the failure to be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals(e.getMessage(), "item failed");
+        }
+        // No further items are claimed after the failure.
+        assertEquals(started.get(), 4);
+    }
+
+    @Test
+    public void testErrorIsRethrown() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BoundedParallel.map(range(20), 4, executor, item -> {
+                if (item == 10) {
+                    throw new AssertionError("item failed");
+                }
+                return item;
+            });
+            fail("Expected the error to be rethrown");
+        } catch (AssertionError e) {
+            assertEquals(e.getMessage(), "item failed");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testForEachAsync() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Iterator<Integer> source = range(50).iterator();
+            final AtomicInteger sum = new AtomicInteger();
+            CompletableFuture<Void> future = BoundedParallel.forEachAsync(() -> {
+                synchronized (source) {
+                    return source.hasNext() ? source.next() : null;
+                }
+            }, 2, executor, sum::addAndGet);
+            future.get(10, TimeUnit.SECONDS);
+            assertEquals(sum.get(), 49 * 50 / 2);
+
+            future = BoundedParallel.forEachAsync(() -> 1, 2, executor, item -> {
+                throw new IllegalStateException("item failed");
+            });
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                fail("Expected the future to complete exceptionally");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = RejectedExecutionException.class)
+    public void testRejectedExecution() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        BoundedParallel.map(range(3), 2, executor, item -> item);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidConcurrency() {
+        BoundedParallel.map(range(3), 0, Runnable::run, item -> item);
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.platform_services.common.ColumnarReader;
+import com.ibm.cloud.platform_services.common.ColumnarWriter;
+import com.ibm.cloud.platform_services.common.ColumnarWriter.Type;
+
+/**
+ * This class contains tests for the ColumnarWriter and ColumnarReader classes.
+ */
+public class ColumnarWriterTest {
+
+    private Path file;
+
+    private ColumnarWriter newWriter(int rowGroupSize) {
+        return new ColumnarWriter(file, Arrays.asList("region", "cost"), Arrays.asList(Type.STRING, Type.DOUBLE),
+            rowGroupSize, 64);
+    }
+
+    @BeforeMethod
+    public void beforeEachTest() throws IOException {
+        file = Files.createTempFile("columnar", ".bin");
+    }
+
+    @AfterMethod
+    public void afterEachTest() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRoundTrip() {
+        String[] regions = { "us-south", "eu-de", null, "jp-tok" };
+        try (ColumnarWriter writer = newWriter(3)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.setString(0, regions[i % regions.length]);
+                if (i % 5 != 0) {
+                    writer.setDouble(1, i * 0.5);
+                }
+                writer.endRow();
+            }
+            assertEquals(writer.getRowCount(), 1000);
+        }
+
+        try (ColumnarReader reader = new ColumnarReader(file)) {
+            assertEquals(reader.getRowCount(), 1000);
+            assertEquals(reader.getColumnNames(), Arrays.asList("region", "cost"));
+            assertEquals(reader.getType("cost"), Type.DOUBLE);
+            assertEquals(reader.getDictionary("region"), Arrays.asList("us-south", "eu-de", "jp-tok"));
+            String[] strings = reader.readStrings("region");
+            double[] costs = reader.readDoubles("cost");
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(strings[i], regions[i % regions.length]);
+                if (i % 5 != 0) {
+                    assertEquals(costs[i], i * 0.5);
+                } else {
+                    assertTrue(Double.isNaN(costs[i]));
+                }
+            }
+            assertEquals(reader.readIds("region")[2], -1);
+        }
+    }
+
+    @Test
+    public void testMarkAndFill() {
+        try (ColumnarWriter writer = newWriter(2)) {
+            for (int parent = 0; parent < 3; parent++) {
+                long mark = writer.mark();
+                // Five child rows, more than a row group, are kept until the parent is complete.
+                for (int child = 0; child < 5; child++) {
+                    writer.setDouble(1, child);
+                    writer.endRow();
+                }
+                writer.fill(mark, 0, "parent-" + parent);
+                writer.release(mark);
+            }
+        }
+
+        try (ColumnarReader reader = new ColumnarReader(file)) {
+            assertEquals(reader.getRowCount(), 15);
+            String[] strings = reader.readStrings("region");
+            double[] costs = reader.readDoubles("cost");
+            for (int row = 0; row < 15; row++) {
+                assertEquals(strings[row], "parent-" + row / 5);
+                assertEquals(costs[row], (double) (row % 5));
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyFile() {
+        newWriter(10).close();
+        try (ColumnarReader reader = new ColumnarReader(file)) {
+            assertEquals(reader.getRowCount(), 0);
+            assertEquals(reader.readStrings("region").length, 0);
+            assertTrue(reader.getDictionary("region").isEmpty());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIncompleteFile() throws IOException {
+        Files.write(file, new byte[100]);
+        new ColumnarReader(file).close();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testFillWithoutMark() {
+        try (ColumnarWriter writer = newWriter(10)) {
+            writer.endRow();
+            writer.fill(0, 0, (String) null);
+        }
+    }
+
+    @Test
+    public void testColumnIndex() {
+        try (ColumnarWriter writer = newWriter(10)) {
+            assertEquals(writer.getColumnIndex("cost"), 1);
+        }
+    }
+
+    @Test
+    public void testAllNullColumn() {
+        try (ColumnarWriter writer = newWriter(10)) {
+            writer.setDouble(1, 1.0);
+            writer.endRow();
+        }
+        try (ColumnarReader reader = new ColumnarReader(file)) {
+            assertNull(reader.readStrings("region")[0]);
+        }
+    }
+}
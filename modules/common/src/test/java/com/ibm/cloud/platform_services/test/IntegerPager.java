@@ -0,0 +1,73 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.ibm.cloud.platform_services.common.Pager;
+
+/**
+ * A Pager which returns "pageCount" pages of "pageSize" integers, optionally failing at a given page.
+ */
+class IntegerPager implements Pager<Integer> {
+    private final int pageCount;
+    private final int pageSize;
+    private final int failAt;
+    private int fetched;
+
+    IntegerPager(int pageCount, int pageSize) {
+        this(pageCount, pageSize, -1);
+    }
+
+    IntegerPager(int pageCount, int pageSize, int failAt) {
+        this.pageCount = pageCount;
+        this.pageSize = pageSize;
+        this.failAt = failAt;
+    }
+
+    synchronized int getFetched() {
+        return fetched;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        return fetched < pageCount;
+    }
+
+    @Override
+    public synchronized List<Integer> getNext() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more results available");
+        }
+        if (fetched == failAt) {
+            throw new IllegalStateException("Page " + fetched + " failed");
+        }
+        List<Integer> page = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            page.add(fetched * pageSize + i);
+        }
+        fetched++;
+        return page;
+    }
+
+    @Override
+    public List<Integer> getAll() {
+        List<Integer> results = new ArrayList<>();
+        while (hasNext()) {
+            results.addAll(getNext());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.platform_services.common.OffsetPageLoader;
+
+/**
+ * This class contains tests for the OffsetPageLoader class.
+ */
+public class OffsetPageLoaderTest {
+
+    private static List<Long> window(long offset, long pageSize, long totalCount) {
+        List<Long> items = new ArrayList<>();
+        for (long i = offset; i < Math.min(offset + pageSize, totalCount); i++) {
+            items.add(i);
+        }
+        return items;
+    }
+
+    @Test
+    public void testLoadAllInOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final AtomicInteger inFlight = new AtomicInteger();
+            final AtomicInteger maxInFlight = new AtomicInteger();
+            List<Long> results = OffsetPageLoader.loadAll(10, 1003, 10, offset -> {
+                int n = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(n, Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return window(offset, 10, 1003);
+            }, 3, executor);
+            assertEquals(results.size(), 993);
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(results.get(i).longValue(), i + 10L);
+            }
+            assertTrue(maxInFlight.get() <= 3);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testNothingToLoad() {
+        List<Long> results = OffsetPageLoader.loadAll(20, 20, 10, offset -> {
+            throw new IllegalStateException("unexpected fetch");
+        }, 2, Runnable::run);
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void testFailure() {
+        final AtomicInteger fetched = new AtomicInteger();
+        try {
+            OffsetPageLoader.loadAll(0, 100, 10, offset -> {
+                fetched.incrementAndGet();
+                if (offset == 30) {
+                    throw new IllegalStateException("window failed");
+                }
+                return window(offset, 10, 100);
+            }, 1, Runnable::run);
+            fail("Expected the failure to be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals(e.getMessage(), "window failed");
+        }
+        // No further windows are started after the failure.
+        assertEquals(fetched.get(), 4);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidConcurrency() {
+        OffsetPageLoader.loadAll(0, 10, 1, offset -> new ArrayList<Long>(), 0, Runnable::run);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidPageSize() {
+        OffsetPageLoader.loadAll(0, 10, 0, offset -> new ArrayList<Long>(), 1, Runnable::run);
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import com.ibm.cloud.platform_services.common.AsyncPager;
+
+/**
+ * This class contains tests for the Pager.iterator() and Pager.stream() methods.
+ */
+public class PagerStreamTest {
+
+    @Test
+    public void testStreamLargeCollection() {
+        // 500k items in pages of 500; verify that pages are retrieved only as items are consumed.
+        final int pageSize = 500;
+        IntegerPager pager = new IntegerPager(1000, pageSize);
+        AtomicLong consumed = new AtomicLong();
+        long sum = pager.stream()
+            .peek(i -> {
+                long n = consumed.getAndIncrement();
+                assertTrue(pager.getFetched() <= n / pageSize + 1);
+            })
+            .mapToLong(Integer::longValue)
+            .sum();
+        assertEquals(consumed.get(), 500000L);
+        assertEquals(sum, 500000L * 499999L / 2);
+        assertEquals(pager.getFetched(), 1000);
+    }
+
+    @Test
+    public void testStreamEarlyTermination() {
+        IntegerPager pager = new IntegerPager(1000, 500);
+        List<Integer> first = pager.stream().limit(10).collect(Collectors.toList());
+        assertEquals(first.size(), 10);
+        assertEquals(pager.getFetched(), 1);
+
+        pager = new IntegerPager(1000, 500);
+        assertTrue(pager.stream().anyMatch(i -> i == 1234));
+        assertEquals(pager.getFetched(), 3);
+    }
+
+    @Test
+    public void testIterator() {
+        IntegerPager pager = new IntegerPager(3, 2);
+        Iterator<Integer> iterator = pager.iterator();
+        for (int i = 0; i < 6; i++) {
+            assertTrue(iterator.hasNext());
+            assertEquals(iterator.next().intValue(), i);
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testEmptyPages() {
+        IntegerPager pager = new IntegerPager(5, 0);
+        assertEquals(pager.stream().count(), 0L);
+        assertEquals(pager.getFetched(), 5);
+    }
+
+    @Test
+    public void testAsyncPagerStream() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            IntegerPager pager = new IntegerPager(100, 10);
+            AsyncPager<Integer> asyncPager = pager.async(2, executor);
+            List<Integer> first = asyncPager.stream().limit(5).collect(Collectors.toList());
+            assertEquals(first, Arrays.asList(0, 1, 2, 3, 4));
+            // At most the current page plus "readAhead" pages are retrieved.
+            assertTrue(pager.getFetched() <= 3);
+            asyncPager.close();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
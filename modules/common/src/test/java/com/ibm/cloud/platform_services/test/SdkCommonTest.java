@@ -12,22 +12,33 @@
  */
 package com.ibm.cloud.platform_services.test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.util.Map;
 
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.Test;
 
 import com.ibm.cloud.platform_services.common.SdkCommon;
+import com.ibm.cloud.platform_services.common.SdkHeaderProvider;
 
 /**
  * This class contains tests for the SdkCommon class.
  */
 public class SdkCommonTest {
 
+    @AfterMethod
+    public void tearDown() {
+        SdkCommon.clearRegisteredHeaders();
+    }
+
     @Test
     public void testGetSdkHeaders() {
         Map<String, String> headers = SdkCommon.getSdkHeaders("service1", "v1", "operation1");
@@ -41,4 +52,52 @@ public class SdkCommonTest {
         assertNotEquals(SdkCommon.getProjectName(), "unknown");
         assertNotEquals(SdkCommon.getVersion(), "unknown");
     }
+
+    @Test
+    public void testGetSdkHeadersCached() {
+        Map<String, String> headers = SdkCommon.getSdkHeaders("service1", "v1", "operation1");
+        assertSame(SdkCommon.getSdkHeaders("service1", "v1", "operation1"), headers);
+        assertNotSame(SdkCommon.getSdkHeaders("service1", "v1", "operation2"), headers);
+        assertEquals(SdkCommon.getSdkHeaders("service1", "v1", "operation2"), headers);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testGetSdkHeadersImmutable() {
+        SdkCommon.getSdkHeaders("service1", "v1", "operation1").put("X-Test", "value");
+    }
+
+    @Test
+    public void testRegisterStaticHeader() {
+        Map<String, String> before = SdkCommon.getSdkHeaders("service1", "v1", "operation1");
+        SdkCommon.registerStaticHeader("X-Global", "global");
+        SdkCommon.registerStaticHeader("service1", "X-Service", "service");
+
+        Map<String, String> headers = SdkCommon.getSdkHeaders("service1", "v1", "operation1");
+        assertNotSame(headers, before);
+        assertSame(SdkCommon.getSdkHeaders("service1", "v1", "operation1"), headers);
+        assertEquals(headers.get("X-Global"), "global");
+        assertEquals(headers.get("X-Service"), "service");
+        assertTrue(headers.containsKey("User-Agent"));
+
+        headers = SdkCommon.getSdkHeaders("service2", "v1", "operation1");
+        assertEquals(headers.get("X-Global"), "global");
+        assertNull(headers.get("X-Service"));
+    }
+
+    @Test
+    public void testRegisterHeaderProvider() {
+        SdkHeaderProvider provider = (serviceName, serviceVersion, operationId, headers) ->
+            headers.put("X-Operation", serviceName + "/" + serviceVersion + "/" + operationId);
+        SdkCommon.registerHeaderProvider(provider);
+
+        Map<String, String> headers = SdkCommon.getSdkHeaders("service1", "v1", "operation1");
+        assertEquals(headers.get("X-Operation"), "service1/v1/operation1");
+        assertTrue(headers.containsKey("User-Agent"));
+        assertNotSame(SdkCommon.getSdkHeaders("service1", "v1", "operation1"), headers);
+
+        SdkCommon.unregisterHeaderProvider(provider);
+        headers = SdkCommon.getSdkHeaders("service1", "v1", "operation1");
+        assertFalse(headers.containsKey("X-Operation"));
+        assertSame(SdkCommon.getSdkHeaders("service1", "v1", "operation1"), headers);
+    }
 }
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2026 IBM Corp. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.test;
+
+import java.lang.reflect.Field;
+
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+
+/**
+ * This class contains utility methods used by the service unit tests to inspect ServiceCall instances.
+ */
+public final class ServiceCallTestUtils {
+
+    private ServiceCallTestUtils() {
+    }
+
+    /**
+     * Returns the ResponseConverter that the specified ServiceCall will use to convert its response.
+     * This is used to verify that the generated service methods share a single converter per operation.
+     *
+     * @param call the ServiceCall returned by a generated service method
+     * @return the ResponseConverter held by the ServiceCall
+     * @throws Exception if the converter could not be retrieved
+     */
+    public static ResponseConverter<?> getResponseConverter(ServiceCall<?> call) throws Exception {
+        for (Class<?> c = call.getClass(); c != null; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (ResponseConverter.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    return (ResponseConverter<?>) field.get(call);
+                }
+            }
+        }
+        throw new IllegalStateException("No ResponseConverter field found in " + call.getClass().getName());
+    }
+}
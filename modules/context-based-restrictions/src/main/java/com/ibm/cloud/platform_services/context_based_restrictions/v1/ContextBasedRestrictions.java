@@ -73,6 +73,48 @@ public class ContextBasedRestrictions extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://cbr.cloud.ibm.com";
 
+  private static final ResponseConverter<Zone> CREATE_ZONE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Zone>() { }.getType());
+
+  private static final ResponseConverter<ZoneList> LIST_ZONES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ZoneList>() { }.getType());
+
+  private static final ResponseConverter<Zone> GET_ZONE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Zone>() { }.getType());
+
+  private static final ResponseConverter<Zone> REPLACE_ZONE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Zone>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ZONE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ServiceRefTargetList> LIST_AVAILABLE_SERVICEREF_TARGETS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceRefTargetList>() { }.getType());
+
+  private static final ResponseConverter<ServiceRefTarget> GET_SERVICEREF_TARGET_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceRefTarget>() { }.getType());
+
+  private static final ResponseConverter<Rule> CREATE_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+
+  private static final ResponseConverter<RuleList> LIST_RULES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RuleList>() { }.getType());
+
+  private static final ResponseConverter<Rule> GET_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+
+  private static final ResponseConverter<Rule> REPLACE_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AccountSettings> GET_ACCOUNT_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+
+  private static final ResponseConverter<OperationsList> LIST_AVAILABLE_SERVICE_OPERATIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OperationsList>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `ContextBasedRestrictions` client.
    * The default service name is used to configure the client instance.
@@ -154,8 +196,7 @@ public class ContextBasedRestrictions extends BaseService {
       }
       builder.bodyJson(contentJson);
     }
-    ResponseConverter<Zone> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Zone>() { }.getType());
+    ResponseConverter<Zone> responseConverter = CREATE_ZONE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -200,8 +241,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (listZonesOptions.sort() != null) {
       builder.query("sort", String.valueOf(listZonesOptions.sort()));
     }
-    ResponseConverter<ZoneList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ZoneList>() { }.getType());
+    ResponseConverter<ZoneList> responseConverter = LIST_ZONES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -230,8 +270,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (getZoneOptions.transactionId() != null) {
       builder.header("Transaction-Id", getZoneOptions.transactionId());
     }
-    ResponseConverter<Zone> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Zone>() { }.getType());
+    ResponseConverter<Zone> responseConverter = GET_ZONE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -279,8 +318,7 @@ public class ContextBasedRestrictions extends BaseService {
       contentJson.add("excluded", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(replaceZoneOptions.excluded()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Zone> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Zone>() { }.getType());
+    ResponseConverter<Zone> responseConverter = REPLACE_ZONE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -308,7 +346,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (deleteZoneOptions.transactionId() != null) {
       builder.header("Transaction-Id", deleteZoneOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ZONE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -339,8 +377,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (listAvailableServicerefTargetsOptions.type() != null) {
       builder.query("type", String.valueOf(listAvailableServicerefTargetsOptions.type()));
     }
-    ResponseConverter<ServiceRefTargetList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceRefTargetList>() { }.getType());
+    ResponseConverter<ServiceRefTargetList> responseConverter = LIST_AVAILABLE_SERVICEREF_TARGETS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -380,8 +417,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (getServicerefTargetOptions.transactionId() != null) {
       builder.header("Transaction-Id", getServicerefTargetOptions.transactionId());
     }
-    ResponseConverter<ServiceRefTarget> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceRefTarget>() { }.getType());
+    ResponseConverter<ServiceRefTarget> responseConverter = GET_SERVICEREF_TARGET_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -430,8 +466,7 @@ public class ContextBasedRestrictions extends BaseService {
       }
       builder.bodyJson(contentJson);
     }
-    ResponseConverter<Rule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+    ResponseConverter<Rule> responseConverter = CREATE_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -500,8 +535,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (listRulesOptions.enforcementMode() != null) {
       builder.query("enforcement_mode", String.valueOf(listRulesOptions.enforcementMode()));
     }
-    ResponseConverter<RuleList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RuleList>() { }.getType());
+    ResponseConverter<RuleList> responseConverter = LIST_RULES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -530,8 +564,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (getRuleOptions.transactionId() != null) {
       builder.header("Transaction-Id", getRuleOptions.transactionId());
     }
-    ResponseConverter<Rule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+    ResponseConverter<Rule> responseConverter = GET_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -579,8 +612,7 @@ public class ContextBasedRestrictions extends BaseService {
       contentJson.addProperty("enforcement_mode", replaceRuleOptions.enforcementMode());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Rule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+    ResponseConverter<Rule> responseConverter = REPLACE_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -608,7 +640,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (deleteRuleOptions.transactionId() != null) {
       builder.header("Transaction-Id", deleteRuleOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -637,8 +669,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (getAccountSettingsOptions.transactionId() != null) {
       builder.header("Transaction-Id", getAccountSettingsOptions.transactionId());
     }
-    ResponseConverter<AccountSettings> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+    ResponseConverter<AccountSettings> responseConverter = GET_ACCOUNT_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -675,8 +706,7 @@ public class ContextBasedRestrictions extends BaseService {
     if (listAvailableServiceOperationsOptions.resourceType() != null) {
       builder.query("resource_type", String.valueOf(listAvailableServiceOperationsOptions.resourceType()));
     }
-    ResponseConverter<OperationsList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OperationsList>() { }.getType());
+    ResponseConverter<OperationsList> responseConverter = LIST_AVAILABLE_SERVICE_OPERATIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
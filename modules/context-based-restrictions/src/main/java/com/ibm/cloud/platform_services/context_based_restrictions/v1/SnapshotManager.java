@@ -0,0 +1,631 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.context_based_restrictions.v1;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.annotations.SerializedName;
+import com.ibm.cloud.platform_services.common.BoundedParallel;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.GetZoneOptions;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.ListRulesOptions;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.ListZonesOptions;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.Rule;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.RuleList;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.Zone;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.ZoneList;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.ZoneSummary;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * SnapshotManager keeps a snapshot of the network zones and the rules of each of a set of accounts, and refreshes it
+ * incrementally.
+ *
+ * <p>
+ * A refresh lists the zones and the rules of the account. The rules returned by the "listRules" method are complete,
+ * so they replace the rules of the snapshot directly. The "listZones" method only returns a preview of the addresses
+ * of each zone, so a zone is fetched with the "getZone" method only if it is new or if its summary (last modification
+ * time, address count or excluded count) differs from the snapshot. That request is conditional: the "If-None-Match"
+ * header carries the ETag of the zone in the snapshot, and a "304 Not Modified" response (which the SDK surfaces as a
+ * ServiceResponseException) keeps the zone of the snapshot. Each refresh returns a {@link Diff} of the zones and rules
+ * that were added, changed or removed since the previous one.
+ *
+ * <p>
+ * If a file is configured, the snapshots are loaded from it when the manager is built and written back, as gzipped
+ * JSON, after each refresh, so that a restarted process doesn't fetch every zone again. The file is replaced
+ * atomically; a file that can't be read is ignored and the snapshots start empty.
+ *
+ * <p>
+ * A SnapshotManager may be shared by several threads. Refreshes of the same account are serialized.
+ */
+public class SnapshotManager {
+
+  private static final Logger LOGGER = Logger.getLogger(SnapshotManager.class.getName());
+  private static final int FILE_VERSION = 1;
+
+  /**
+   * The zones and the rules of an account, as of a refresh.
+   */
+  public static final class Snapshot {
+    private final String accountId;
+    private final Date refreshedAt;
+    private final Map<String, Zone> zones;
+    private final Map<String, String> zoneETags;
+    private final Map<String, Rule> rules;
+
+    Snapshot(String accountId, Date refreshedAt, Map<String, Zone> zones, Map<String, String> zoneETags,
+        Map<String, Rule> rules) {
+      this.accountId = accountId;
+      this.refreshedAt = refreshedAt;
+      this.zones = Collections.unmodifiableMap(zones);
+      this.zoneETags = Collections.unmodifiableMap(zoneETags);
+      this.rules = Collections.unmodifiableMap(rules);
+    }
+
+    /**
+     * Gets the account ID.
+     *
+     * @return the account ID
+     */
+    public String getAccountId() {
+      return accountId;
+    }
+
+    /**
+     * Gets the time of the refresh.
+     *
+     * @return the time of the refresh
+     */
+    public Date getRefreshedAt() {
+      return new Date(refreshedAt.getTime());
+    }
+
+    /**
+     * Gets the zones of the account, by ID, in the order in which they were listed.
+     *
+     * @return the zones
+     */
+    public Map<String, Zone> getZones() {
+      return zones;
+    }
+
+    /**
+     * Gets the ETag of a zone, if the "getZone" response had one.
+     *
+     * @param zoneId the ID of the zone
+     * @return the ETag, or null
+     */
+    public String getZoneETag(String zoneId) {
+      return zoneETags.get(zoneId);
+    }
+
+    /**
+     * Gets the rules of the account, by ID, in the order in which they were listed.
+     *
+     * @return the rules
+     */
+    public Map<String, Rule> getRules() {
+      return rules;
+    }
+  }
+
+  /**
+   * The zones and rules that were added, changed or removed by a refresh. A changed or removed item is reported
+   * as it is in the new snapshot or as it was in the previous one, respectively.
+   */
+  public static final class Diff {
+    private final String accountId;
+    private final List<Zone> addedZones = new ArrayList<>();
+    private final List<Zone> changedZones = new ArrayList<>();
+    private final List<Zone> removedZones = new ArrayList<>();
+    private final List<Rule> addedRules = new ArrayList<>();
+    private final List<Rule> changedRules = new ArrayList<>();
+    private final List<Rule> removedRules = new ArrayList<>();
+
+    Diff(String accountId) {
+      this.accountId = accountId;
+    }
+
+    /**
+     * Gets the account ID.
+     *
+     * @return the account ID
+     */
+    public String getAccountId() {
+      return accountId;
+    }
+
+    /**
+     * Gets the zones that were added.
+     *
+     * @return the added zones
+     */
+    public List<Zone> getAddedZones() {
+      return Collections.unmodifiableList(addedZones);
+    }
+
+    /**
+     * Gets the zones that were changed.
+     *
+     * @return the changed zones
+     */
+    public List<Zone> getChangedZones() {
+      return Collections.unmodifiableList(changedZones);
+    }
+
+    /**
+     * Gets the zones that were removed.
+     *
+     * @return the removed zones
+     */
+    public List<Zone> getRemovedZones() {
+      return Collections.unmodifiableList(removedZones);
+    }
+
+    /**
+     * Gets the rules that were added.
+     *
+     * @return the added rules
+     */
+    public List<Rule> getAddedRules() {
+      return Collections.unmodifiableList(addedRules);
+    }
+
+    /**
+     * Gets the rules that were changed.
+     *
+     * @return the changed rules
+     */
+    public List<Rule> getChangedRules() {
+      return Collections.unmodifiableList(changedRules);
+    }
+
+    /**
+     * Gets the rules that were removed.
+     *
+     * @return the removed rules
+     */
+    public List<Rule> getRemovedRules() {
+      return Collections.unmodifiableList(removedRules);
+    }
+
+    /**
+     * Returns true if nothing was added, changed or removed.
+     *
+     * @return true if the diff is empty
+     */
+    public boolean isEmpty() {
+      return addedZones.isEmpty() && changedZones.isEmpty() && removedZones.isEmpty()
+        && addedRules.isEmpty() && changedRules.isEmpty() && removedRules.isEmpty();
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private ContextBasedRestrictions client;
+    private Path file;
+    private int maxConcurrency = 4;
+    private Executor executor;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the ContextBasedRestrictions instance used to retrieve the zones and the rules
+     */
+    public Builder(ContextBasedRestrictions client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the file in which the snapshots are persisted. By default, they are only kept in memory.
+     *
+     * @param file the file
+     * @return the SnapshotManager builder
+     */
+    public Builder file(Path file) {
+      this.file = file;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of accounts refreshed concurrently by {@link SnapshotManager#refreshAll(Collection)}.
+     * Defaults to 4.
+     *
+     * @param maxConcurrency the maximum number of concurrent refreshes
+     * @return the SnapshotManager builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the executor used to refresh the accounts. By default, a thread pool is created for each
+     * {@link SnapshotManager#refreshAll(Collection)} call.
+     *
+     * @param executor the executor
+     * @return the SnapshotManager builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds a SnapshotManager, loading the snapshots from the file if it exists.
+     *
+     * @return the new SnapshotManager instance
+     */
+    public SnapshotManager build() {
+      return new SnapshotManager(this);
+    }
+  }
+
+  private final ContextBasedRestrictions client;
+  private final Path file;
+  private final int maxConcurrency;
+  private final Executor executor;
+  private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final Map<String, Object> refreshLocks = new ConcurrentHashMap<>();
+  private final Object fileLock = new Object();
+  private final AtomicLong zoneFetches = new AtomicLong();
+  private final AtomicLong zonesNotModified = new AtomicLong();
+  private final AtomicLong zonesSkipped = new AtomicLong();
+
+  protected SnapshotManager(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    this.client = builder.client;
+    this.file = builder.file;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.executor = builder.executor;
+    if (file != null && Files.exists(file)) {
+      load();
+    }
+  }
+
+  /**
+   * Refreshes the snapshot of an account, then persists the snapshots if a file is configured.
+   *
+   * @param accountId the account ID
+   * @return the zones and rules that were added, changed or removed since the previous refresh
+   */
+  public Diff refresh(String accountId) {
+    Diff diff = refreshAccount(accountId);
+    save();
+    return diff;
+  }
+
+  /**
+   * Refreshes the snapshots of several accounts concurrently, then persists the snapshots if a file is configured.
+   * If the refresh of an account fails, the accounts that were refreshed are still persisted and the exception is
+   * rethrown.
+   *
+   * @param accountIds the account IDs
+   * @return the diff of each account, in the order of the account IDs
+   */
+  public Map<String, Diff> refreshAll(Collection<String> accountIds) {
+    Validator.notNull(accountIds, "accountIds cannot be null");
+    List<String> accounts = new ArrayList<>(accountIds);
+    int workerCount = Math.min(maxConcurrency, accounts.size());
+    ExecutorService pool = null;
+    Executor workers = executor;
+    if (workers == null && workerCount > 0) {
+      pool = Executors.newFixedThreadPool(workerCount, runnable -> {
+        Thread thread = new Thread(runnable, "cbr-snapshot-manager");
+        thread.setDaemon(true);
+        return thread;
+      });
+      workers = pool;
+    }
+    List<Diff> diffs;
+    try {
+      diffs = BoundedParallel.map(accounts, maxConcurrency, workers, this::refreshAccount);
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+      save();
+    }
+
+    Map<String, Diff> result = new LinkedHashMap<>();
+    for (int i = 0; i < accounts.size(); i++) {
+      result.put(accounts.get(i), diffs.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Gets the snapshot of an account.
+   *
+   * @param accountId the account ID
+   * @return the snapshot, or null if the account was never refreshed
+   */
+  public Snapshot getSnapshot(String accountId) {
+    return snapshots.get(accountId);
+  }
+
+  /**
+   * Gets the IDs of the accounts that have a snapshot.
+   *
+   * @return the account IDs, sorted
+   */
+  public Set<String> getAccountIds() {
+    return Collections.unmodifiableSet(new TreeSet<>(snapshots.keySet()));
+  }
+
+  /**
+   * Removes the snapshot of an account. The file is updated by the next refresh or {@link #save()}.
+   *
+   * @param accountId the account ID
+   */
+  public void remove(String accountId) {
+    snapshots.remove(accountId);
+  }
+
+  /**
+   * Writes the snapshots to the file. Does nothing if no file is configured.
+   */
+  public void save() {
+    if (file == null) {
+      return;
+    }
+    SnapshotFile content = new SnapshotFile();
+    content.version = FILE_VERSION;
+    content.accounts = new ArrayList<>();
+    for (String accountId : getAccountIds()) {
+      Snapshot snapshot = snapshots.get(accountId);
+      if (snapshot == null) {
+        continue;
+      }
+      AccountEntry account = new AccountEntry();
+      account.accountId = accountId;
+      account.refreshedAt = snapshot.refreshedAt;
+      account.zones = new ArrayList<>();
+      for (Zone zone : snapshot.zones.values()) {
+        ZoneEntry entry = new ZoneEntry();
+        entry.etag = snapshot.zoneETags.get(zone.getId());
+        entry.zone = zone;
+        account.zones.add(entry);
+      }
+      account.rules = new ArrayList<>(snapshot.rules.values());
+      content.accounts.add(account);
+    }
+    synchronized (fileLock) {
+      Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+      try {
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temporary)),
+            StandardCharsets.UTF_8)) {
+          gson().toJson(content, writer);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to write the snapshot file " + file, e);
+      }
+    }
+  }
+
+  /**
+   * Gets the number of zones fetched with the "getZone" method, including those that were not modified.
+   *
+   * @return the number of zone fetches
+   */
+  public long getZoneFetches() {
+    return zoneFetches.get();
+  }
+
+  /**
+   * Gets the number of zone fetches answered by a "304 Not Modified" response.
+   *
+   * @return the number of zones not modified
+   */
+  public long getZonesNotModified() {
+    return zonesNotModified.get();
+  }
+
+  /**
+   * Gets the number of zones whose summary was unchanged, and that were therefore not fetched.
+   *
+   * @return the number of zones skipped
+   */
+  public long getZonesSkipped() {
+    return zonesSkipped.get();
+  }
+
+  private Diff refreshAccount(String accountId) {
+    Validator.notNull(accountId, "accountId cannot be null");
+    synchronized (refreshLocks.computeIfAbsent(accountId, k -> new Object())) {
+      Snapshot previous = snapshots.get(accountId);
+      Map<String, Zone> previousZones = previous != null ? previous.zones : Collections.<String, Zone>emptyMap();
+      Map<String, String> previousETags = previous != null
+          ? previous.zoneETags : Collections.<String, String>emptyMap();
+      Map<String, Rule> previousRules = previous != null ? previous.rules : Collections.<String, Rule>emptyMap();
+      Diff diff = new Diff(accountId);
+      Date refreshedAt = new Date();
+
+      ZoneList zoneList = client.listZones(new ListZonesOptions.Builder(accountId).build()).execute().getResult();
+      Map<String, Zone> zones = new LinkedHashMap<>();
+      Map<String, String> zoneETags = new LinkedHashMap<>();
+      List<ZoneSummary> summaries = zoneList != null && zoneList.getZones() != null
+          ? zoneList.getZones() : Collections.<ZoneSummary>emptyList();
+      for (ZoneSummary summary : summaries) {
+        Zone old = previousZones.get(summary.getId());
+        String etag = previousETags.get(summary.getId());
+        Zone zone = old;
+        if (old != null && unchanged(summary, old)) {
+          zonesSkipped.incrementAndGet();
+        } else {
+          ServiceCall<Zone> call = client.getZone(new GetZoneOptions.Builder(summary.getId()).build());
+          if (old != null && etag != null) {
+            call.addHeader("If-None-Match", etag);
+          }
+          zoneFetches.incrementAndGet();
+          try {
+            Response<Zone> response = call.execute();
+            zone = response.getResult();
+            List<String> etags = response.getHeaders().values("ETag");
+            etag = etags != null && !etags.isEmpty() ? etags.get(0) : null;
+          } catch (NotFoundException e) {
+            // The zone was deleted after it was listed.
+            continue;
+          } catch (ServiceResponseException e) {
+            if (old == null || etag == null || e.getStatusCode() != 304) {
+              throw e;
+            }
+            zonesNotModified.incrementAndGet();
+          }
+        }
+        zones.put(zone.getId(), zone);
+        if (etag != null) {
+          zoneETags.put(zone.getId(), etag);
+        }
+        if (old == null) {
+          diff.addedZones.add(zone);
+        } else if (!old.equals(zone)) {
+          diff.changedZones.add(zone);
+        }
+      }
+      for (Zone old : previousZones.values()) {
+        if (!zones.containsKey(old.getId())) {
+          diff.removedZones.add(old);
+        }
+      }
+
+      RuleList ruleList = client.listRules(new ListRulesOptions.Builder(accountId).build()).execute().getResult();
+      Map<String, Rule> rules = new LinkedHashMap<>();
+      if (ruleList != null && ruleList.getRules() != null) {
+        for (Rule rule : ruleList.getRules()) {
+          rules.put(rule.getId(), rule);
+          Rule old = previousRules.get(rule.getId());
+          if (old == null) {
+            diff.addedRules.add(rule);
+          } else if (!old.equals(rule)) {
+            diff.changedRules.add(rule);
+          }
+        }
+      }
+      for (Rule old : previousRules.values()) {
+        if (!rules.containsKey(old.getId())) {
+          diff.removedRules.add(old);
+        }
+      }
+
+      snapshots.put(accountId, new Snapshot(accountId, refreshedAt, zones, zoneETags, rules));
+      return diff;
+    }
+  }
+
+  private static boolean unchanged(ZoneSummary summary, Zone zone) {
+    return summary.getLastModifiedAt() != null
+      && summary.getLastModifiedAt().equals(zone.getLastModifiedAt())
+      && Objects.equals(summary.getAddressCount(), zone.getAddressCount())
+      && Objects.equals(summary.getExcludedCount(), zone.getExcludedCount());
+  }
+
+  private void load() {
+    SnapshotFile content;
+    synchronized (fileLock) {
+      try (Reader reader = new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)),
+          StandardCharsets.UTF_8)) {
+        content = gson().fromJson(reader, SnapshotFile.class);
+      } catch (IOException | JsonParseException e) {
+        LOGGER.log(Level.WARNING, "Ignoring the unreadable snapshot file " + file, e);
+        return;
+      }
+    }
+    if (content == null || content.version != FILE_VERSION || content.accounts == null) {
+      LOGGER.warning("Ignoring the snapshot file " + file + " of an unsupported version");
+      return;
+    }
+    for (AccountEntry account : content.accounts) {
+      Map<String, Zone> zones = new LinkedHashMap<>();
+      Map<String, String> zoneETags = new LinkedHashMap<>();
+      if (account.zones != null) {
+        for (ZoneEntry entry : account.zones) {
+          zones.put(entry.zone.getId(), entry.zone);
+          if (entry.etag != null) {
+            zoneETags.put(entry.zone.getId(), entry.etag);
+          }
+        }
+      }
+      Map<String, Rule> rules = new LinkedHashMap<>();
+      if (account.rules != null) {
+        for (Rule rule : account.rules) {
+          rules.put(rule.getId(), rule);
+        }
+      }
+      Date refreshedAt = account.refreshedAt != null ? account.refreshedAt : new Date(0);
+      snapshots.put(account.accountId, new Snapshot(account.accountId, refreshedAt, zones, zoneETags, rules));
+    }
+  }
+
+  private static Gson gson() {
+    return GsonSingleton.getGsonWithoutPrettyPrinting();
+  }
+
+  // The layout of the snapshot file.
+  private static final class SnapshotFile {
+    int version;
+    List<AccountEntry> accounts;
+  }
+
+  private static final class AccountEntry {
+    @SerializedName("account_id")
+    String accountId;
+    @SerializedName("refreshed_at")
+    Date refreshedAt;
+    List<ZoneEntry> zones;
+    List<Rule> rules;
+  }
+
+  private static final class ZoneEntry {
+    String etag;
+    Zone zone;
+  }
+}
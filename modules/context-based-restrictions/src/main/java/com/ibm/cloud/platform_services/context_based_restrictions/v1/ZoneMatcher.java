@@ -0,0 +1,742 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.context_based_restrictions.v1;
+
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.Address;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.Rule;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.RuleContext;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.RuleContextAttribute;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.RuleList;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.Zone;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.ZoneList;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.ZoneSummary;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ZoneMatcher answers locally which network zones contain a source IP address, and which rules have a context
+ * that allows it, given the zones and the rules of an account (as returned by the "getZone"/"listZones" and
+ * "listRules" methods).
+ *
+ * <p>
+ * The matcher is compiled once, when it is built: the "ipAddress", "ipRange" and "subnet" addresses of the zones,
+ * minus their excluded addresses, are split into disjoint address ranges, and each range is mapped to the list of
+ * zones that contain it and to the lists of rules that allow it. IPv4 addresses are stored as IPv4-mapped IPv6
+ * addresses, so both families share one table of 128-bit range starts kept in two primitive long arrays. A lookup
+ * parses the address without allocating, binary searches the table and returns a precomputed, shared list, so it
+ * doesn't allocate either; its cost is logarithmic in the number of ranges.
+ *
+ * <p>
+ * A rule allows an address if one of its contexts allows it: a context with "networkZoneId" attributes allows the
+ * addresses of those zones, and a context without one allows any address. If an endpoint type is given to
+ * {@link #matchRules(String, String)}, a context with "endpointType" attributes must also list it. Other context
+ * attributes are not evaluated, and the enforcement mode of the rules is not taken into account.
+ *
+ * <p>
+ * A zone that a rule refers to but that wasn't added to the builder never matches; its ID is available from
+ * {@link #getMissingZoneIds()}. The zones of a {@link ZoneList} only carry a preview of their addresses: a zone
+ * whose preview is incomplete or that has excluded addresses is only matched by the addresses of its preview, and
+ * its ID is available from {@link #getIncompleteZoneIds()} so that it can be fetched with "getZone" and added again.
+ *
+ * <p>
+ * A ZoneMatcher is immutable and may be shared by several threads. To refresh the zones or the rules, build a new one.
+ */
+public class ZoneMatcher {
+
+  private static final String NETWORK_ZONE_ID = "networkZoneId";
+  private static final String ENDPOINT_TYPE = "endpointType";
+  private static final long IPV4_MAPPED = 0xFFFF00000000L;
+
+  private final long[] startHigh;
+  private final long[] startLow;
+  private final int[] set;
+  private final List<List<String>> zones;
+  // The rules of each set of zones, for any endpoint type, for each known endpoint type, then for any other one.
+  private final List<List<List<String>>> rules;
+  private final Map<String, Integer> endpointTypes;
+  private final Map<String, List<String>> vpcZones;
+  private final Map<String, List<String>> serviceRefZones;
+  private final int zoneCount;
+  private final int ruleCount;
+  private final Set<String> incompleteZoneIds;
+  private final Set<String> missingZoneIds;
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private Map<String, ZoneEntry> zones = new LinkedHashMap<>();
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    /**
+     * Instantiates a new builder.
+     */
+    public Builder() {
+    }
+
+    /**
+     * Adds a zone, replacing any zone with the same ID added before.
+     *
+     * @param zone the zone, as returned by the "getZone" method
+     * @return the ZoneMatcher builder
+     */
+    public Builder addZone(Zone zone) {
+      Validator.notNull(zone, "zone cannot be null");
+      Validator.notNull(zone.getId(), "zone id cannot be null");
+      zones.put(zone.getId(), new ZoneEntry(zone.getId(), zone.getAddresses(), zone.getExcluded(), false));
+      return this;
+    }
+
+    /**
+     * Adds the zones of a zone list, from the preview of their addresses.
+     * A zone with the same ID as a zone added before replaces it.
+     *
+     * @param zoneList the zone list, as returned by the "listZones" method
+     * @return the ZoneMatcher builder
+     */
+    public Builder addZones(ZoneList zoneList) {
+      Validator.notNull(zoneList, "zoneList cannot be null");
+      if (zoneList.getZones() != null) {
+        for (ZoneSummary zone : zoneList.getZones()) {
+          Validator.notNull(zone.getId(), "zone id cannot be null");
+          List<Address> preview = zone.getAddressesPreview();
+          int size = preview != null ? preview.size() : 0;
+          boolean incomplete = (zone.getAddressCount() != null && zone.getAddressCount() > size)
+            || (zone.getExcludedCount() != null && zone.getExcludedCount() > 0);
+          zones.put(zone.getId(), new ZoneEntry(zone.getId(), preview, null, incomplete));
+        }
+      }
+      return this;
+    }
+
+    /**
+     * Adds a rule, replacing any rule with the same ID added before.
+     *
+     * @param rule the rule, as returned by the "getRule" method
+     * @return the ZoneMatcher builder
+     */
+    public Builder addRule(Rule rule) {
+      Validator.notNull(rule, "rule cannot be null");
+      Validator.notNull(rule.getId(), "rule id cannot be null");
+      rules.put(rule.getId(), rule);
+      return this;
+    }
+
+    /**
+     * Adds the rules of a rule list.
+     *
+     * @param ruleList the rule list, as returned by the "listRules" method
+     * @return the ZoneMatcher builder
+     */
+    public Builder addRules(RuleList ruleList) {
+      Validator.notNull(ruleList, "ruleList cannot be null");
+      if (ruleList.getRules() != null) {
+        for (Rule rule : ruleList.getRules()) {
+          addRule(rule);
+        }
+      }
+      return this;
+    }
+
+    /**
+     * Builds a ZoneMatcher.
+     *
+     * @return the new ZoneMatcher instance
+     */
+    public ZoneMatcher build() {
+      return new ZoneMatcher(this);
+    }
+  }
+
+  protected ZoneMatcher(Builder builder) {
+    List<ZoneEntry> zoneEntries = new ArrayList<>(builder.zones.values());
+    Map<String, Integer> zoneIndexes = new HashMap<>();
+    Set<String> incomplete = new LinkedHashSet<>();
+    Map<String, Set<String>> vpcs = new HashMap<>();
+    Map<String, Set<String>> serviceRefs = new HashMap<>();
+    for (int i = 0; i < zoneEntries.size(); i++) {
+      ZoneEntry zone = zoneEntries.get(i);
+      zoneIndexes.put(zone.id, i);
+      if (zone.incomplete) {
+        incomplete.add(zone.id);
+      }
+      for (String vpc : zone.vpcs) {
+        vpcs.computeIfAbsent(vpc, k -> new LinkedHashSet<>()).add(zone.id);
+      }
+      for (String serviceRef : zone.serviceRefs) {
+        serviceRefs.computeIfAbsent(serviceRef, k -> new LinkedHashSet<>()).add(zone.id);
+      }
+    }
+    zoneCount = zoneEntries.size();
+    incompleteZoneIds = Collections.unmodifiableSet(incomplete);
+    vpcZones = freeze(vpcs);
+    serviceRefZones = freeze(serviceRefs);
+
+    // Sweep the boundaries of the address ranges of the zones in ascending order, keeping track of the zones that
+    // contain the current address, and start a new range whenever that set of zones changes.
+    List<Event> events = new ArrayList<>();
+    for (int i = 0; i < zoneEntries.size(); i++) {
+      ZoneEntry zone = zoneEntries.get(i);
+      for (long[] range : zone.addresses) {
+        addEvents(events, range, i, true);
+      }
+      for (long[] range : zone.excluded) {
+        addEvents(events, range, i, false);
+      }
+    }
+    events.sort((a, b) -> compare(a.high, a.low, b.high, b.low));
+    int[] included = new int[zoneCount];
+    int[] excluded = new int[zoneCount];
+    TreeSet<Integer> active = new TreeSet<>();
+    Map<List<String>, Integer> setIndexes = new HashMap<>();
+    List<List<String>> sets = new ArrayList<>();
+    List<int[]> setZones = new ArrayList<>();
+    intern(Collections.<String>emptyList(), new int[0], setIndexes, sets, setZones);
+    int size = 1;
+    long[] highs = new long[events.size() + 1];
+    long[] lows = new long[events.size() + 1];
+    int[] setOfRange = new int[events.size() + 1];
+    for (int i = 0; i < events.size();) {
+      Event first = events.get(i);
+      for (; i < events.size() && compare(events.get(i).high, events.get(i).low, first.high, first.low) == 0; i++) {
+        Event event = events.get(i);
+        if (event.include) {
+          included[event.zone] += event.delta;
+        } else {
+          excluded[event.zone] += event.delta;
+        }
+        if (included[event.zone] > 0 && excluded[event.zone] == 0) {
+          active.add(event.zone);
+        } else {
+          active.remove(event.zone);
+        }
+      }
+      List<String> ids = new ArrayList<>(active.size());
+      int[] indexes = new int[active.size()];
+      int n = 0;
+      for (int zone : active) {
+        ids.add(zoneEntries.get(zone).id);
+        indexes[n++] = zone;
+      }
+      int index = intern(ids, indexes, setIndexes, sets, setZones);
+      if (first.high == 0 && first.low == 0) {
+        setOfRange[0] = index;
+      } else if (setOfRange[size - 1] != index) {
+        highs[size] = first.high;
+        lows[size] = first.low;
+        setOfRange[size++] = index;
+      }
+    }
+    startHigh = new long[size];
+    startLow = new long[size];
+    set = new int[size];
+    System.arraycopy(highs, 0, startHigh, 0, size);
+    System.arraycopy(lows, 0, startLow, 0, size);
+    System.arraycopy(setOfRange, 0, set, 0, size);
+    zones = Collections.unmodifiableList(sets);
+
+    // Index the contexts of the rules by the zones they refer to, then compute the rules of each set of zones.
+    List<Rule> ruleEntries = new ArrayList<>(builder.rules.values());
+    ruleCount = ruleEntries.size();
+    Set<String> missing = new LinkedHashSet<>();
+    Map<String, Integer> endpoints = new LinkedHashMap<>();
+    List<List<ContextEntry>> zoneContexts = new ArrayList<>();
+    for (int i = 0; i < zoneCount; i++) {
+      zoneContexts.add(new ArrayList<ContextEntry>());
+    }
+    List<ContextEntry> anyAddressContexts = new ArrayList<>();
+    for (int i = 0; i < ruleEntries.size(); i++) {
+      List<RuleContext> contexts = ruleEntries.get(i).getContexts();
+      if (contexts == null) {
+        continue;
+      }
+      for (RuleContext context : contexts) {
+        ContextEntry entry = new ContextEntry(i);
+        Set<String> zoneIds = null;
+        if (context.attributes() != null) {
+          for (RuleContextAttribute attribute : context.attributes()) {
+            if (NETWORK_ZONE_ID.equals(attribute.name())) {
+              zoneIds = addValues(zoneIds, attribute.value());
+            } else if (ENDPOINT_TYPE.equals(attribute.name())) {
+              entry.endpointTypes = addValues(entry.endpointTypes, attribute.value());
+            }
+          }
+        }
+        if (entry.endpointTypes != null) {
+          for (String endpointType : entry.endpointTypes) {
+            endpoints.putIfAbsent(endpointType, endpoints.size() + 1);
+          }
+        }
+        if (zoneIds == null) {
+          anyAddressContexts.add(entry);
+          continue;
+        }
+        for (String zoneId : zoneIds) {
+          Integer zone = zoneIndexes.get(zoneId);
+          if (zone != null) {
+            zoneContexts.get(zone).add(entry);
+          } else {
+            missing.add(zoneId);
+          }
+        }
+      }
+    }
+    missingZoneIds = Collections.unmodifiableSet(missing);
+    endpointTypes = Collections.unmodifiableMap(endpoints);
+    List<String> endpointNames = new ArrayList<>(endpoints.keySet());
+    Map<List<String>, List<String>> ruleLists = new HashMap<>();
+    List<List<List<String>>> rulesByVariant = new ArrayList<>();
+    BitSet matched = new BitSet(ruleCount);
+    for (int variant = 0; variant <= endpointNames.size() + 1; variant++) {
+      String endpointType = variant > 0 && variant <= endpointNames.size() ? endpointNames.get(variant - 1) : null;
+      boolean anyEndpoint = variant == 0;
+      List<List<String>> rulesBySet = new ArrayList<>(sets.size());
+      for (int[] zonesOfSet : setZones) {
+        matched.clear();
+        mark(matched, anyAddressContexts, anyEndpoint, endpointType);
+        for (int zone : zonesOfSet) {
+          mark(matched, zoneContexts.get(zone), anyEndpoint, endpointType);
+        }
+        List<String> ids = new ArrayList<>(matched.cardinality());
+        for (int rule = matched.nextSetBit(0); rule >= 0; rule = matched.nextSetBit(rule + 1)) {
+          ids.add(ruleEntries.get(rule).getId());
+        }
+        List<String> shared = ruleLists.get(ids);
+        if (shared == null) {
+          shared = Collections.unmodifiableList(ids);
+          ruleLists.put(ids, shared);
+        }
+        rulesBySet.add(shared);
+      }
+      rulesByVariant.add(rulesBySet);
+    }
+    rules = rulesByVariant;
+  }
+
+  /**
+   * Returns the IDs of the zones that contain an IP address.
+   *
+   * @param ipAddress an IPv4 or IPv6 address
+   * @return the IDs of the zones, in the order in which they were added
+   * @throws IllegalArgumentException if the address is not a valid IPv4 or IPv6 address
+   */
+  public List<String> matchZones(String ipAddress) {
+    return zones.get(set[lookup(ipAddress)]);
+  }
+
+  /**
+   * Returns the IDs of the rules that allow an IP address, whatever the endpoint type.
+   *
+   * @param ipAddress an IPv4 or IPv6 address
+   * @return the IDs of the rules, in the order in which they were added
+   * @throws IllegalArgumentException if the address is not a valid IPv4 or IPv6 address
+   */
+  public List<String> matchRules(String ipAddress) {
+    return rules.get(0).get(set[lookup(ipAddress)]);
+  }
+
+  /**
+   * Returns the IDs of the rules that allow an IP address on an endpoint type.
+   *
+   * @param ipAddress an IPv4 or IPv6 address
+   * @param endpointType the endpoint type (e.g. "public", "private" or "direct"), or null for any endpoint type
+   * @return the IDs of the rules, in the order in which they were added
+   * @throws IllegalArgumentException if the address is not a valid IPv4 or IPv6 address
+   */
+  public List<String> matchRules(String ipAddress, String endpointType) {
+    int variant = 0;
+    if (endpointType != null) {
+      Integer known = endpointTypes.get(endpointType);
+      variant = known != null ? known : endpointTypes.size() + 1;
+    }
+    return rules.get(variant).get(set[lookup(ipAddress)]);
+  }
+
+  /**
+   * Returns the IDs of the zones that contain a VPC.
+   *
+   * @param vpcCrn the CRN of the VPC
+   * @return the IDs of the zones, in the order in which they were added
+   */
+  public List<String> matchVpcZones(String vpcCrn) {
+    List<String> ids = vpcZones.get(vpcCrn);
+    return ids != null ? ids : Collections.<String>emptyList();
+  }
+
+  /**
+   * Returns the IDs of the zones that contain a service reference to a service.
+   *
+   * @param serviceName the name of the service, e.g. "cloud-object-storage"
+   * @return the IDs of the zones, in the order in which they were added
+   */
+  public List<String> matchServiceRefZones(String serviceName) {
+    List<String> ids = serviceRefZones.get(serviceName);
+    return ids != null ? ids : Collections.<String>emptyList();
+  }
+
+  /**
+   * Returns the number of zones.
+   *
+   * @return the number of zones
+   */
+  public int getZoneCount() {
+    return zoneCount;
+  }
+
+  /**
+   * Returns the number of rules.
+   *
+   * @return the number of rules
+   */
+  public int getRuleCount() {
+    return ruleCount;
+  }
+
+  /**
+   * Returns the number of disjoint address ranges the zones were compiled into.
+   *
+   * @return the number of address ranges
+   */
+  public int getRangeCount() {
+    return set.length;
+  }
+
+  /**
+   * Returns the IDs of the zones added from a zone list whose addresses are only partially known.
+   *
+   * @return the IDs of the zones
+   */
+  public Set<String> getIncompleteZoneIds() {
+    return incompleteZoneIds;
+  }
+
+  /**
+   * Returns the IDs of the zones that the rules refer to but that weren't added.
+   *
+   * @return the IDs of the zones
+   */
+  public Set<String> getMissingZoneIds() {
+    return missingZoneIds;
+  }
+
+  private int lookup(String ipAddress) {
+    Validator.notNull(ipAddress, "ipAddress cannot be null");
+    long high = parse(ipAddress, 0, ipAddress.length(), true);
+    long low = parse(ipAddress, 0, ipAddress.length(), false);
+    int from = 0;
+    int to = startHigh.length - 1;
+    while (from < to) {
+      int middle = (from + to + 1) >>> 1;
+      if (compare(startHigh[middle], startLow[middle], high, low) <= 0) {
+        from = middle;
+      } else {
+        to = middle - 1;
+      }
+    }
+    return from;
+  }
+
+  private static int compare(long high1, long low1, long high2, long low2) {
+    int result = Long.compareUnsigned(high1, high2);
+    return result != 0 ? result : Long.compareUnsigned(low1, low2);
+  }
+
+  private static void addEvents(List<Event> events, long[] range, int zone, boolean include) {
+    events.add(new Event(range[0], range[1], zone, include, 1));
+    if (range[2] != -1L || range[3] != -1L) {
+      long low = range[3] + 1;
+      events.add(new Event(low == 0 ? range[2] + 1 : range[2], low, zone, include, -1));
+    }
+  }
+
+  private static int intern(List<String> ids, int[] indexes, Map<List<String>, Integer> setIndexes,
+      List<List<String>> sets, List<int[]> setZones) {
+    Integer index = setIndexes.get(ids);
+    if (index == null) {
+      index = sets.size();
+      setIndexes.put(ids, index);
+      sets.add(Collections.unmodifiableList(ids));
+      setZones.add(indexes);
+    }
+    return index;
+  }
+
+  private static void mark(BitSet matched, List<ContextEntry> contexts, boolean anyEndpoint, String endpointType) {
+    for (ContextEntry context : contexts) {
+      if (anyEndpoint || context.endpointTypes == null
+          || (endpointType != null && context.endpointTypes.contains(endpointType))) {
+        matched.set(context.rule);
+      }
+    }
+  }
+
+  private static Set<String> addValues(Set<String> values, String value) {
+    if (values == null) {
+      values = new LinkedHashSet<>();
+    }
+    if (value != null) {
+      for (String item : value.split(",")) {
+        if (!item.trim().isEmpty()) {
+          values.add(item.trim());
+        }
+      }
+    }
+    return values;
+  }
+
+  private static Map<String, List<String>> freeze(Map<String, Set<String>> map) {
+    Map<String, List<String>> frozen = new HashMap<>();
+    for (Map.Entry<String, Set<String>> entry : map.entrySet()) {
+      frozen.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+    }
+    return Collections.unmodifiableMap(frozen);
+  }
+
+  /**
+   * Parses an "ipAddress", "ipRange" or "subnet" address value into its first and last addresses,
+   * as {high bits of the first, low bits of the first, high bits of the last, low bits of the last}.
+   */
+  static long[] parseRange(String type, String value) {
+    Validator.notNull(value, "address value cannot be null");
+    int length = value.length();
+    if (Address.Type.IPRANGE.equals(type)) {
+      int dash = value.indexOf('-');
+      Validator.isTrue(dash > 0, "invalid IP address range: " + value);
+      long[] range = new long[] {
+        parse(value, 0, dash, true), parse(value, 0, dash, false),
+        parse(value, dash + 1, length, true), parse(value, dash + 1, length, false) };
+      Validator.isTrue(compare(range[0], range[1], range[2], range[3]) <= 0, "invalid IP address range: " + value);
+      return range;
+    }
+    if (Address.Type.SUBNET.equals(type)) {
+      int slash = value.indexOf('/');
+      Validator.isTrue(slash > 0 && slash < length - 1 && length - slash <= 4, "invalid subnet: " + value);
+      int prefix = 0;
+      for (int i = slash + 1; i < length; i++) {
+        char c = value.charAt(i);
+        Validator.isTrue(c >= '0' && c <= '9', "invalid subnet: " + value);
+        prefix = prefix * 10 + (c - '0');
+      }
+      if (value.lastIndexOf(':', slash) < 0) {
+        Validator.isTrue(prefix <= 32, "invalid subnet: " + value);
+        prefix += 96;
+      }
+      Validator.isTrue(prefix <= 128, "invalid subnet: " + value);
+      long maskHigh = prefix == 0 ? 0 : prefix >= 64 ? -1L : -1L << (64 - prefix);
+      long maskLow = prefix <= 64 ? 0 : -1L << (128 - prefix);
+      long high = parse(value, 0, slash, true);
+      long low = parse(value, 0, slash, false);
+      return new long[] { high & maskHigh, low & maskLow, high | ~maskHigh, low | ~maskLow };
+    }
+    long high = parse(value, 0, length, true);
+    long low = parse(value, 0, length, false);
+    return new long[] { high, low, high, low };
+  }
+
+  /**
+   * Parses an IPv4 or IPv6 address without allocating, and returns its high or its low 64 bits.
+   * An IPv4 address is returned as an IPv4-mapped IPv6 address ("::ffff:a.b.c.d").
+   */
+  static long parse(String s, int from, int to, boolean high) {
+    if (s.lastIndexOf(':', to - 1) < from) {
+      return high ? 0 : IPV4_MAPPED | parseIpv4(s, from, to);
+    }
+    // Groups before "::" are accumulated in head, groups after it in tail.
+    long headHigh = 0;
+    long headLow = 0;
+    long tailHigh = 0;
+    long tailLow = 0;
+    int headCount = 0;
+    int tailCount = 0;
+    boolean compressed = false;
+    int i = from;
+    if (to - i >= 2 && s.charAt(i) == ':' && s.charAt(i + 1) == ':') {
+      compressed = true;
+      i += 2;
+    }
+    while (i < to) {
+      int j = i;
+      long group = 0;
+      while (j < to && j - i < 5 && hex(s.charAt(j)) >= 0) {
+        group = (group << 4) | hex(s.charAt(j));
+        j++;
+      }
+      int groups = 1;
+      if (j < to && s.charAt(j) == '.') {
+        group = parseIpv4(s, i, to);
+        groups = 2;
+        j = to;
+      } else if (j == i || j - i > 4) {
+        throw invalid(s, from, to);
+      }
+      if (headCount + tailCount + groups > 8) {
+        throw invalid(s, from, to);
+      }
+      for (int g = groups - 1; g >= 0; g--) {
+        long bits = (group >>> (16 * g)) & 0xFFFF;
+        if (compressed) {
+          tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+          tailLow = (tailLow << 16) | bits;
+          tailCount++;
+        } else {
+          headHigh = (headHigh << 16) | (headLow >>> 48);
+          headLow = (headLow << 16) | bits;
+          headCount++;
+        }
+      }
+      if (j == to) {
+        break;
+      }
+      if (s.charAt(j) != ':' || j + 1 == to) {
+        throw invalid(s, from, to);
+      }
+      j++;
+      if (s.charAt(j) == ':') {
+        if (compressed) {
+          throw invalid(s, from, to);
+        }
+        compressed = true;
+        j++;
+      }
+      i = j;
+    }
+    if (compressed ? headCount + tailCount > 7 : headCount != 8) {
+      throw invalid(s, from, to);
+    }
+    int shift = 16 * (8 - headCount);
+    if (shift >= 128) {
+      headHigh = 0;
+      headLow = 0;
+    } else if (shift >= 64) {
+      headHigh = headLow << (shift - 64);
+      headLow = 0;
+    } else if (shift > 0) {
+      headHigh = (headHigh << shift) | (headLow >>> (64 - shift));
+      headLow = headLow << shift;
+    }
+    return high ? headHigh | tailHigh : headLow | tailLow;
+  }
+
+  private static long parseIpv4(String s, int from, int to) {
+    long address = 0;
+    int octets = 0;
+    int i = from;
+    while (i < to) {
+      int j = i;
+      int octet = 0;
+      while (j < to && j - i < 4 && s.charAt(j) >= '0' && s.charAt(j) <= '9') {
+        octet = octet * 10 + (s.charAt(j) - '0');
+        j++;
+      }
+      if (j == i || j - i > 3 || octet > 255 || ++octets > 4) {
+        throw invalid(s, from, to);
+      }
+      address = (address << 8) | octet;
+      if (j == to) {
+        break;
+      }
+      if (s.charAt(j) != '.' || j + 1 == to) {
+        throw invalid(s, from, to);
+      }
+      i = j + 1;
+    }
+    if (octets != 4) {
+      throw invalid(s, from, to);
+    }
+    return address;
+  }
+
+  private static int hex(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
+  }
+
+  private static IllegalArgumentException invalid(String s, int from, int to) {
+    return new IllegalArgumentException("invalid IP address: " + s.substring(from, to));
+  }
+
+  private static final class ZoneEntry {
+    final String id;
+    final boolean incomplete;
+    final List<long[]> addresses = new ArrayList<>();
+    final List<long[]> excluded = new ArrayList<>();
+    final List<String> vpcs = new ArrayList<>();
+    final List<String> serviceRefs = new ArrayList<>();
+
+    ZoneEntry(String id, List<Address> addresses, List<Address> excluded, boolean incomplete) {
+      this.id = id;
+      this.incomplete = incomplete;
+      if (addresses != null) {
+        for (Address address : addresses) {
+          if (Address.Type.VPC.equals(address.type())) {
+            vpcs.add(address.value());
+          } else if (Address.Type.SERVICEREF.equals(address.type())) {
+            if (address.ref() != null && address.ref().serviceName() != null) {
+              serviceRefs.add(address.ref().serviceName());
+            }
+          } else {
+            this.addresses.add(parseRange(address.type(), address.value()));
+          }
+        }
+      }
+      if (excluded != null) {
+        for (Address address : excluded) {
+          this.excluded.add(parseRange(address.type(), address.value()));
+        }
+      }
+    }
+  }
+
+  private static final class ContextEntry {
+    final int rule;
+    Set<String> endpointTypes;
+
+    ContextEntry(int rule) {
+      this.rule = rule;
+    }
+  }
+
+  private static final class Event {
+    final long high;
+    final long low;
+    final int zone;
+    final boolean include;
+    final int delta;
+
+    Event(long high, long low, int zone, boolean include, int delta) {
+      this.high = high;
+      this.low = low;
+      this.zone = zone;
+      this.include = include;
+      this.delta = delta;
+    }
+  }
+}
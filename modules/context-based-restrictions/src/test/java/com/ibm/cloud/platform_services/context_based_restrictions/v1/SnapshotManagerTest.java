@@ -0,0 +1,229 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.context_based_restrictions.v1;
+
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.SnapshotManager.Diff;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.SnapshotManager.Snapshot;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.AddressIPAddress;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.Zone;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the SnapshotManager class.
+ */
+public class SnapshotManagerTest {
+
+  protected MockWebServer server;
+  protected ContextBasedRestrictions contextBasedRestrictionsService;
+  protected Path directory;
+
+  private static String summary(String id, String modified) {
+    return "{\"id\": \"" + id + "\", \"name\": \"" + id + "\", \"address_count\": 1, \"excluded_count\": 0, "
+      + "\"last_modified_at\": \"" + modified + "\", \"addresses_preview\": []}";
+  }
+
+  private static String zone(String id, String modified, String ip) {
+    return "{\"id\": \"" + id + "\", \"name\": \"" + id + "\", \"account_id\": \"acct\", \"address_count\": 1, "
+      + "\"excluded_count\": 0, \"last_modified_at\": \"" + modified + "\", "
+      + "\"addresses\": [{\"type\": \"ipAddress\", \"value\": \"" + ip + "\"}], \"excluded\": []}";
+  }
+
+  private static String rule(String id, String description) {
+    return "{\"id\": \"" + id + "\", \"description\": \"" + description + "\", \"contexts\": [{\"attributes\": "
+      + "[{\"name\": \"networkZoneId\", \"value\": \"z1\"}]}], \"resources\": [], \"enforcement_mode\": \"enabled\"}";
+  }
+
+  private void enqueue(int status, String etag, String body) {
+    MockResponse response = new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(status);
+    if (etag != null) {
+      response.setHeader("ETag", etag);
+    }
+    if (body != null) {
+      response.setBody(body);
+    }
+    server.enqueue(response);
+  }
+
+  @Test
+  public void testIncrementalRefresh() throws Throwable {
+    Path file = directory.resolve("snapshots.json.gz");
+    SnapshotManager manager = new SnapshotManager.Builder(contextBasedRestrictionsService).file(file).build();
+    enqueue(200, null, "{\"count\": 2, \"zones\": [" + summary("z1", "2026-01-01T00:00:00.000Z") + ", "
+        + summary("z2", "2026-01-01T00:00:00.000Z") + "]}");
+    enqueue(200, "\"z1-1\"", zone("z1", "2026-01-01T00:00:00.000Z", "10.0.0.1"));
+    enqueue(200, "\"z2-1\"", zone("z2", "2026-01-01T00:00:00.000Z", "10.0.0.2"));
+    enqueue(200, null, "{\"count\": 2, \"rules\": [" + rule("r1", "first") + ", " + rule("r2", "second") + "]}");
+
+    Diff diff = manager.refresh("acct");
+    assertEquals(diff.getAddedZones().size(), 2);
+    assertEquals(diff.getAddedRules().size(), 2);
+    assertTrue(diff.getChangedZones().isEmpty());
+    assertEquals(manager.getZoneFetches(), 2);
+    assertEquals(server.takeRequest().getPath(), "/v1/zones?account_id=acct");
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getPath(), "/v1/zones/z1");
+    assertNull(request.getHeader("If-None-Match"));
+    server.takeRequest();
+    assertEquals(server.takeRequest().getPath(), "/v1/rules?account_id=acct");
+    assertTrue(Files.exists(file));
+
+    // A new manager starts from the file: z1 is unchanged, z2 was touched but not modified, z3 is new.
+    manager = new SnapshotManager.Builder(contextBasedRestrictionsService).file(file).build();
+    Snapshot snapshot = manager.getSnapshot("acct");
+    assertEquals(snapshot.getZones().keySet(), new LinkedHashSet<>(Arrays.asList("z1", "z2")));
+    assertEquals(((AddressIPAddress) snapshot.getZones().get("z1").getAddresses().get(0)).value(), "10.0.0.1");
+    assertEquals(snapshot.getZoneETag("z2"), "\"z2-1\"");
+    enqueue(200, null, "{\"count\": 3, \"zones\": [" + summary("z1", "2026-01-01T00:00:00.000Z") + ", "
+        + summary("z2", "2026-02-01T00:00:00.000Z") + ", " + summary("z3", "2026-02-01T00:00:00.000Z") + "]}");
+    enqueue(304, "\"z2-1\"", null);
+    enqueue(200, "\"z3-1\"", zone("z3", "2026-02-01T00:00:00.000Z", "10.0.0.3"));
+    enqueue(200, null, "{\"count\": 1, \"rules\": [" + rule("r1", "changed") + "]}");
+
+    diff = manager.refresh("acct");
+    assertEquals(diff.getAddedZones().size(), 1);
+    assertEquals(diff.getAddedZones().get(0).getId(), "z3");
+    assertTrue(diff.getChangedZones().isEmpty());
+    assertTrue(diff.getRemovedZones().isEmpty());
+    assertEquals(diff.getChangedRules().size(), 1);
+    assertEquals(diff.getChangedRules().get(0).getDescription(), "changed");
+    assertEquals(diff.getRemovedRules().size(), 1);
+    assertEquals(diff.getRemovedRules().get(0).getId(), "r2");
+    assertEquals(manager.getZonesSkipped(), 1);
+    assertEquals(manager.getZonesNotModified(), 1);
+    assertEquals(manager.getZoneFetches(), 2);
+    server.takeRequest();
+    request = server.takeRequest();
+    assertEquals(request.getPath(), "/v1/zones/z2");
+    assertEquals(request.getHeader("If-None-Match"), "\"z2-1\"");
+    request = server.takeRequest();
+    assertEquals(request.getPath(), "/v1/zones/z3");
+    assertNull(request.getHeader("If-None-Match"));
+    server.takeRequest();
+
+    // z1 is removed, z2 is modified and z3 was deleted after it was listed.
+    enqueue(200, null, "{\"count\": 2, \"zones\": [" + summary("z2", "2026-03-01T00:00:00.000Z") + ", "
+        + summary("z3", "2026-03-01T00:00:00.000Z") + "]}");
+    enqueue(200, "\"z2-2\"", zone("z2", "2026-03-01T00:00:00.000Z", "10.0.0.22"));
+    enqueue(404, null, "{\"code\": \"not_found\", \"message\": \"zone not found\"}");
+    enqueue(200, null, "{\"count\": 1, \"rules\": [" + rule("r1", "changed") + "]}");
+    diff = manager.refresh("acct");
+    assertEquals(diff.getRemovedZones().size(), 2);
+    assertEquals(diff.getRemovedZones().get(0).getId(), "z1");
+    assertEquals(diff.getRemovedZones().get(1).getId(), "z3");
+    assertEquals(diff.getChangedZones().size(), 1);
+    assertEquals(diff.getChangedZones().get(0).getId(), "z2");
+    assertTrue(diff.getAddedZones().isEmpty());
+    assertTrue(diff.getChangedRules().isEmpty());
+    assertEquals(manager.getSnapshot("acct").getZoneETag("z2"), "\"z2-2\"");
+    assertEquals(manager.getSnapshot("acct").getZones().size(), 1);
+  }
+
+  @Test
+  public void testRefreshAll() throws Throwable {
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        String account = request.getRequestUrl().queryParameter("account_id");
+        String path = request.getRequestUrl().encodedPath();
+        MockResponse response = new MockResponse().setHeader("Content-type", "application/json");
+        if (path.equals("/v1/zones")) {
+          return response.setBody("{\"zones\": [" + summary("zone-" + account, "2026-01-01T00:00:00.000Z") + "]}");
+        }
+        if (path.startsWith("/v1/zones/")) {
+          String id = path.substring("/v1/zones/".length());
+          return response.setHeader("ETag", "\"" + id + "\"")
+            .setBody(zone(id, "2026-01-01T00:00:00.000Z", "10.0.0.1"));
+        }
+        return response.setBody("{\"rules\": [" + rule("rule-" + account, account) + "]}");
+      }
+    });
+    Path file = directory.resolve("snapshots.json.gz");
+    Files.write(file, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+    SnapshotManager manager = new SnapshotManager.Builder(contextBasedRestrictionsService)
+      .file(file)
+      .maxConcurrency(2)
+      .build();
+    assertTrue(manager.getAccountIds().isEmpty());
+
+    Map<String, Diff> diffs = manager.refreshAll(Arrays.asList("a1", "a2", "a3"));
+    assertEquals(diffs.keySet(), new LinkedHashSet<>(Arrays.asList("a1", "a2", "a3")));
+    for (String account : diffs.keySet()) {
+      assertEquals(diffs.get(account).getAddedZones().get(0).getId(), "zone-" + account);
+      assertEquals(diffs.get(account).getAddedRules().get(0).getId(), "rule-" + account);
+    }
+    assertEquals(server.getRequestCount(), 9);
+
+    manager = new SnapshotManager.Builder(contextBasedRestrictionsService).file(file).build();
+    assertEquals(manager.getAccountIds(), new LinkedHashSet<>(Arrays.asList("a1", "a2", "a3")));
+    diffs = manager.refreshAll(Arrays.asList("a1", "a2", "a3"));
+    for (Diff diff : diffs.values()) {
+      assertTrue(diff.isEmpty());
+    }
+    assertEquals(manager.getZonesSkipped(), 3);
+    assertEquals(manager.getZoneFetches(), 0);
+    assertEquals(server.getRequestCount(), 15);
+
+    manager.remove("a2");
+    manager.save();
+    manager = new SnapshotManager.Builder(contextBasedRestrictionsService).file(file).build();
+    assertEquals(manager.getAccountIds(), new LinkedHashSet<>(Arrays.asList("a1", "a3")));
+    Zone zone = manager.getSnapshot("a3").getZones().get("zone-a3");
+    assertEquals(zone.getLastModifiedAt(), manager.getSnapshot("a1").getZones().get("zone-a1").getLastModifiedAt());
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() throws IOException {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    directory = Files.createTempDirectory("cbr-snapshots");
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    contextBasedRestrictionsService = ContextBasedRestrictions.newInstance("testService");
+    contextBasedRestrictionsService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    contextBasedRestrictionsService = null;
+    for (Path path : Files.list(directory).toArray(Path[]::new)) {
+      Files.delete(path);
+    }
+    Files.delete(directory);
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.context_based_restrictions.v1;
+
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.RuleList;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.Zone;
+import com.ibm.cloud.platform_services.context_based_restrictions.v1.model.ZoneList;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the ZoneMatcher class.
+ */
+public class ZoneMatcherTest {
+
+  private static Zone zone(String id, String addresses, String excluded) {
+    return GsonSingleton.getGson().fromJson("{\"id\": \"" + id + "\", \"addresses\": [" + addresses
+        + "], \"excluded\": [" + excluded + "]}", Zone.class);
+  }
+
+  private static String address(String type, String value) {
+    return "{\"type\": \"" + type + "\", \"value\": \"" + value + "\"}";
+  }
+
+  private static String rule(String id, String... contexts) {
+    return "{\"id\": \"" + id + "\", \"contexts\": [" + String.join(", ", contexts) + "]}";
+  }
+
+  private static String context(String zoneId, String endpointType) {
+    StringBuilder context = new StringBuilder("{\"attributes\": [");
+    if (zoneId != null) {
+      context.append("{\"name\": \"networkZoneId\", \"value\": \"").append(zoneId).append("\"}");
+    }
+    if (endpointType != null) {
+      context.append(zoneId != null ? ", " : "")
+        .append("{\"name\": \"endpointType\", \"value\": \"").append(endpointType).append("\"}");
+    }
+    return context.append("]}").toString();
+  }
+
+  @Test
+  public void testZonesAndRules() {
+    RuleList rules = GsonSingleton.getGson().fromJson("{\"rules\": ["
+        + rule("r1", context("z1", null)) + ", "
+        + rule("r2", context("z2", "private")) + ", "
+        + rule("r3", context(null, "public")) + ", "
+        + rule("r4", context("z9", null)) + ", "
+        + rule("r5") + "]}", RuleList.class);
+    ZoneMatcher matcher = new ZoneMatcher.Builder()
+      .addZone(zone("z1",
+          address("ipAddress", "10.0.0.1") + ", " + address("subnet", "10.1.0.0/16"),
+          address("ipRange", "10.1.2.0-10.1.2.255")))
+      .addZone(zone("z2",
+          address("ipRange", "10.0.0.0-10.0.0.255") + ", " + address("subnet", "2001:DB8::/32") + ", "
+          + address("vpc", "crn:v1:bluemix:public:is:us-south:a/acct::vpc:v1"),
+          ""))
+      .addRules(rules)
+      .build();
+
+    assertEquals(matcher.getZoneCount(), 2);
+    assertEquals(matcher.getRuleCount(), 5);
+    assertEquals(matcher.matchZones("10.0.0.1"), Arrays.asList("z1", "z2"));
+    assertEquals(matcher.matchZones("10.0.0.2"), Collections.singletonList("z2"));
+    assertEquals(matcher.matchZones("10.0.0.255"), Collections.singletonList("z2"));
+    assertEquals(matcher.matchZones("10.0.1.0"), Collections.emptyList());
+    assertEquals(matcher.matchZones("10.1.5.5"), Collections.singletonList("z1"));
+    assertEquals(matcher.matchZones("::ffff:10.1.5.5"), Collections.singletonList("z1"));
+    assertEquals(matcher.matchZones("10.1.2.7"), Collections.emptyList());
+    assertEquals(matcher.matchZones("10.1.255.255"), Collections.singletonList("z1"));
+    assertEquals(matcher.matchZones("10.2.0.0"), Collections.emptyList());
+    assertEquals(matcher.matchZones("2001:db8:0:0:0:0:0:1"), Collections.singletonList("z2"));
+    assertEquals(matcher.matchZones("2001:db8:ffff:ffff:ffff:ffff:ffff:ffff"), Collections.singletonList("z2"));
+    assertEquals(matcher.matchZones("2001:db9::"), Collections.emptyList());
+    assertSame(matcher.matchZones("10.1.5.5"), matcher.matchZones("10.1.200.1"));
+
+    assertEquals(matcher.matchRules("10.0.0.1"), Arrays.asList("r1", "r2", "r3"));
+    assertEquals(matcher.matchRules("10.0.0.2"), Arrays.asList("r2", "r3"));
+    assertEquals(matcher.matchRules("10.0.0.2", "private"), Collections.singletonList("r2"));
+    assertEquals(matcher.matchRules("10.0.0.2", "public"), Collections.singletonList("r3"));
+    assertEquals(matcher.matchRules("10.0.0.1", "direct"), Collections.singletonList("r1"));
+    assertEquals(matcher.matchRules("192.168.0.1"), Collections.singletonList("r3"));
+    assertEquals(matcher.matchRules("192.168.0.1", "private"), Collections.emptyList());
+
+    assertEquals(matcher.getMissingZoneIds(), Collections.singleton("z9"));
+    assertTrue(matcher.getIncompleteZoneIds().isEmpty());
+    assertEquals(matcher.matchVpcZones("crn:v1:bluemix:public:is:us-south:a/acct::vpc:v1"),
+        Collections.singletonList("z2"));
+    assertTrue(matcher.matchVpcZones("crn:other").isEmpty());
+  }
+
+  @Test
+  public void testZoneList() {
+    ZoneList zoneList = GsonSingleton.getGson().fromJson("{\"zones\": ["
+        + "{\"id\": \"z1\", \"address_count\": 1, \"excluded_count\": 0, \"addresses_preview\": ["
+        + address("ipAddress", "::1") + "]}, "
+        + "{\"id\": \"z2\", \"address_count\": 3, \"excluded_count\": 0, \"addresses_preview\": ["
+        + address("ipAddress", "::2") + "]}, "
+        + "{\"id\": \"z3\", \"address_count\": 1, \"excluded_count\": 1, \"addresses_preview\": ["
+        + address("subnet", "::/0") + "]}]}", ZoneList.class);
+    ZoneMatcher matcher = new ZoneMatcher.Builder().addZones(zoneList).build();
+    assertEquals(matcher.getIncompleteZoneIds(), new LinkedHashSet<>(Arrays.asList("z2", "z3")));
+    assertEquals(matcher.matchZones("::1"), Arrays.asList("z1", "z3"));
+    assertEquals(matcher.matchZones("0::2"), Arrays.asList("z2", "z3"));
+    assertEquals(matcher.matchZones("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff"), Collections.singletonList("z3"));
+    assertEquals(matcher.matchZones("1.2.3.4"), Collections.singletonList("z3"));
+
+    // The full zone replaces its preview.
+    matcher = new ZoneMatcher.Builder()
+      .addZones(zoneList)
+      .addZone(zone("z3", address("subnet", "::/0"), address("subnet", "0.0.0.0/0")))
+      .build();
+    assertEquals(matcher.getIncompleteZoneIds(), Collections.singleton("z2"));
+    assertEquals(matcher.matchZones("1.2.3.4"), Collections.emptyList());
+    assertEquals(matcher.matchZones("::ffff:0:0"), Collections.emptyList());
+    assertEquals(matcher.matchZones("::fffe:ffff:ffff"), Collections.singletonList("z3"));
+    assertEquals(matcher.matchZones("::1:0:0:0"), Collections.singletonList("z3"));
+  }
+
+  @Test
+  public void testParse() {
+    assertEquals(range("ipAddress", "1.2.3.4"), new long[] { 0, 0xFFFF01020304L, 0, 0xFFFF01020304L });
+    assertEquals(range("ipAddress", "::"), new long[] { 0, 0, 0, 0 });
+    assertEquals(range("ipAddress", "1::"), new long[] { 0x0001000000000000L, 0, 0x0001000000000000L, 0 });
+    assertEquals(range("ipAddress", "1:2:3:4:5:6:7:8"),
+        new long[] { 0x0001000200030004L, 0x0005000600070008L, 0x0001000200030004L, 0x0005000600070008L });
+    assertEquals(range("ipAddress", "1:2:3::6:7:8"),
+        new long[] { 0x0001000200030000L, 0x0000000600070008L, 0x0001000200030000L, 0x0000000600070008L });
+    assertEquals(range("ipAddress", "::ffff:1.2.3.4"), range("ipAddress", "1.2.3.4"));
+    assertEquals(range("subnet", "192.168.1.77/24"), new long[] { 0, 0xFFFFC0A80100L, 0, 0xFFFFC0A801FFL });
+    assertEquals(range("subnet", "2001:db8::/64"),
+        new long[] { 0x20010DB800000000L, 0, 0x20010DB800000000L, -1L });
+    assertEquals(range("subnet", "::/0"), new long[] { 0, 0, -1L, -1L });
+    assertEquals(range("ipRange", "::1-::ffff"), new long[] { 0, 1, 0, 0xFFFF });
+
+    for (String invalid : new String[] { "", "1.2.3", "1.2.3.4.5", "1.2.3.256", "1..2.3", "1.2.3.4.", ":", ":::",
+        "1:2", ":1::", "1::2::3", "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7::8", "12345::", "g::", "::1.2.3", "1::%eth0",
+        "localhost" }) {
+      try {
+        ZoneMatcher.parseRange("ipAddress", invalid);
+        fail("Expected an IllegalArgumentException for " + invalid);
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+    for (String invalid : new String[] { "1.2.3.4/33", "::/129", "1.2.3.4/", "/8", "1.2.3.4/a" }) {
+      try {
+        ZoneMatcher.parseRange("subnet", invalid);
+        fail("Expected an IllegalArgumentException for " + invalid);
+      } catch (IllegalArgumentException e) {
+        // expected
+      }
+    }
+    try {
+      ZoneMatcher.parseRange("ipRange", "1.2.3.5-1.2.3.4");
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    try {
+      new ZoneMatcher.Builder().build().matchZones("not an address");
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test(timeOut = 60000)
+  public void testManyZones() {
+    // 10,000 zones of a /24 subnet each, every fifth one also containing the neighbouring /24 subnet.
+    ZoneMatcher.Builder builder = new ZoneMatcher.Builder();
+    for (int i = 0; i < 10000; i++) {
+      String subnet = address("subnet", "10." + (i >> 8) + "." + (i & 0xFF) + ".0/24");
+      if (i % 5 == 0) {
+        int j = i + 1;
+        subnet += ", " + address("subnet", "10." + (j >> 8) + "." + (j & 0xFF) + ".0/24");
+      }
+      builder.addZone(zone("zone-" + i, subnet, ""));
+    }
+    ZoneMatcher matcher = builder.build();
+    assertEquals(matcher.getZoneCount(), 10000);
+    assertEquals(matcher.getRangeCount(), 10002);
+
+    String[] addresses = new String[4096];
+    int[] expected = new int[addresses.length];
+    Random random = new Random(42);
+    for (int i = 0; i < addresses.length; i++) {
+      int subnet = random.nextInt(10200);
+      addresses[i] = "10." + (subnet >> 8) + "." + (subnet & 0xFF) + "." + random.nextInt(256);
+      expected[i] = subnet;
+    }
+    for (int i = 0; i < addresses.length; i++) {
+      List<String> zones = matcher.matchZones(addresses[i]);
+      int subnet = expected[i];
+      if (subnet >= 10000) {
+        assertTrue(zones.isEmpty());
+      } else if (subnet % 5 == 1) {
+        assertEquals(zones, Arrays.asList("zone-" + (subnet - 1), "zone-" + subnet));
+      } else {
+        assertEquals(zones, Collections.singletonList("zone-" + subnet));
+      }
+    }
+    int matches = 0;
+    for (int i = 0; i < 1000000; i++) {
+      matches += matcher.matchZones(addresses[i & (addresses.length - 1)]).size();
+    }
+    assertTrue(matches > 1000000);
+  }
+
+  private static long[] range(String type, String value) {
+    return ZoneMatcher.parseRange(type, value);
+  }
+}
@@ -54,6 +54,18 @@ public class EnterpriseBillingUnits extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://billing.cloud.ibm.com";
 
+  private static final ResponseConverter<BillingUnit> GET_BILLING_UNIT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<BillingUnit>() { }.getType());
+
+  private static final ResponseConverter<BillingUnitsList> LIST_BILLING_UNITS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<BillingUnitsList>() { }.getType());
+
+  private static final ResponseConverter<BillingOptionsList> LIST_BILLING_OPTIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<BillingOptionsList>() { }.getType());
+
+  private static final ResponseConverter<CreditPoolsList> GET_CREDIT_POOLS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreditPoolsList>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `EnterpriseBillingUnits` client.
    * The default service name is used to configure the client instance.
@@ -109,8 +121,7 @@ public class EnterpriseBillingUnits extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<BillingUnit> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<BillingUnit>() { }.getType());
+    ResponseConverter<BillingUnit> responseConverter = GET_BILLING_UNIT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -148,8 +159,7 @@ public class EnterpriseBillingUnits extends BaseService {
     if (listBillingUnitsOptions.start() != null) {
       builder.query("start", String.valueOf(listBillingUnitsOptions.start()));
     }
-    ResponseConverter<BillingUnitsList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<BillingUnitsList>() { }.getType());
+    ResponseConverter<BillingUnitsList> responseConverter = LIST_BILLING_UNITS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -190,8 +200,7 @@ public class EnterpriseBillingUnits extends BaseService {
     if (listBillingOptionsOptions.start() != null) {
       builder.query("start", String.valueOf(listBillingOptionsOptions.start()));
     }
-    ResponseConverter<BillingOptionsList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<BillingOptionsList>() { }.getType());
+    ResponseConverter<BillingOptionsList> responseConverter = LIST_BILLING_OPTIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -227,8 +236,7 @@ public class EnterpriseBillingUnits extends BaseService {
     if (getCreditPoolsOptions.start() != null) {
       builder.query("start", String.valueOf(getCreditPoolsOptions.start()));
     }
-    ResponseConverter<CreditPoolsList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreditPoolsList>() { }.getType());
+    ResponseConverter<CreditPoolsList> responseConverter = GET_CREDIT_POOLS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.enterprise_billing_units.v1.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.enterprise_billing_units.v1.EnterpriseBillingUnits;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * BillingOptionsPager can be used to simplify the use of the "listBillingOptions" method.
  */
-public class BillingOptionsPager {
+public class BillingOptionsPager implements Pager<BillingOption> {
   private static class PageContext {
     private String next;
     public String getNext() {
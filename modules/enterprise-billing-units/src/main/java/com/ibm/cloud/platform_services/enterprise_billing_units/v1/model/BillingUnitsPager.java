@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.enterprise_billing_units.v1.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.enterprise_billing_units.v1.EnterpriseBillingUnits;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * BillingUnitsPager can be used to simplify the use of the "listBillingUnits" method.
  */
-public class BillingUnitsPager {
+public class BillingUnitsPager implements Pager<BillingUnit> {
   private static class PageContext {
     private String next;
     public String getNext() {
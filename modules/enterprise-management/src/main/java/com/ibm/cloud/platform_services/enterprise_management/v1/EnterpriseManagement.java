@@ -72,6 +72,51 @@ public class EnterpriseManagement extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://enterprise.cloud.ibm.com/v1";
 
+  private static final ResponseConverter<CreateEnterpriseResponse> CREATE_ENTERPRISE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreateEnterpriseResponse>() { }.getType());
+
+  private static final ResponseConverter<ListEnterprisesResponse> LIST_ENTERPRISES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListEnterprisesResponse>() { }.getType());
+
+  private static final ResponseConverter<Enterprise> GET_ENTERPRISE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Enterprise>() { }.getType());
+
+  private static final ResponseConverter<Void> UPDATE_ENTERPRISE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> IMPORT_ACCOUNT_TO_ENTERPRISE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<CreateAccountResponse> CREATE_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreateAccountResponse>() { }.getType());
+
+  private static final ResponseConverter<ListAccountsResponse> LIST_ACCOUNTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListAccountsResponse>() { }.getType());
+
+  private static final ResponseConverter<Account> GET_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Account>() { }.getType());
+
+  private static final ResponseConverter<Void> UPDATE_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> DELETE_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<CreateAccountGroupResponse> CREATE_ACCOUNT_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreateAccountGroupResponse>() { }.getType());
+
+  private static final ResponseConverter<ListAccountGroupsResponse> LIST_ACCOUNT_GROUPS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListAccountGroupsResponse>() { }.getType());
+
+  private static final ResponseConverter<AccountGroup> GET_ACCOUNT_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountGroup>() { }.getType());
+
+  private static final ResponseConverter<Void> UPDATE_ACCOUNT_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> DELETE_ACCOUNT_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
  /**
    * Class method which constructs an instance of the `EnterpriseManagement` client.
    * The default service name is used to configure the client instance.
@@ -138,8 +183,7 @@ public class EnterpriseManagement extends BaseService {
       contentJson.addProperty("domain", createEnterpriseOptions.domain());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<CreateEnterpriseResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreateEnterpriseResponse>() { }.getType());
+    ResponseConverter<CreateEnterpriseResponse> responseConverter = CREATE_ENTERPRISE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -184,8 +228,7 @@ public class EnterpriseManagement extends BaseService {
     if (listEnterprisesOptions.limit() != null) {
       builder.query("limit", String.valueOf(listEnterprisesOptions.limit()));
     }
-    ResponseConverter<ListEnterprisesResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListEnterprisesResponse>() { }.getType());
+    ResponseConverter<ListEnterprisesResponse> responseConverter = LIST_ENTERPRISES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -228,8 +271,7 @@ public class EnterpriseManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Enterprise> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Enterprise>() { }.getType());
+    ResponseConverter<Enterprise> responseConverter = GET_ENTERPRISE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -263,7 +305,7 @@ public class EnterpriseManagement extends BaseService {
       contentJson.addProperty("primary_contact_iam_id", updateEnterpriseOptions.primaryContactIamId());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UPDATE_ENTERPRISE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -300,7 +342,7 @@ public class EnterpriseManagement extends BaseService {
       contentJson.addProperty("billing_unit_id", importAccountToEnterpriseOptions.billingUnitId());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = IMPORT_ACCOUNT_TO_ENTERPRISE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -335,8 +377,7 @@ public class EnterpriseManagement extends BaseService {
       contentJson.add("options", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createAccountOptions.options()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<CreateAccountResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreateAccountResponse>() { }.getType());
+    ResponseConverter<CreateAccountResponse> responseConverter = CREATE_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -385,8 +426,7 @@ public class EnterpriseManagement extends BaseService {
     if (listAccountsOptions.includeDeleted() != null) {
       builder.query("include_deleted", String.valueOf(listAccountsOptions.includeDeleted()));
     }
-    ResponseConverter<ListAccountsResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListAccountsResponse>() { }.getType());
+    ResponseConverter<ListAccountsResponse> responseConverter = LIST_ACCOUNTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -430,8 +470,7 @@ public class EnterpriseManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Account> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Account>() { }.getType());
+    ResponseConverter<Account> responseConverter = GET_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -456,7 +495,7 @@ public class EnterpriseManagement extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("parent", updateAccountOptions.parent());
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UPDATE_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -479,7 +518,7 @@ public class EnterpriseManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -507,8 +546,7 @@ public class EnterpriseManagement extends BaseService {
     contentJson.addProperty("name", createAccountGroupOptions.name());
     contentJson.addProperty("primary_contact_iam_id", createAccountGroupOptions.primaryContactIamId());
     builder.bodyJson(contentJson);
-    ResponseConverter<CreateAccountGroupResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreateAccountGroupResponse>() { }.getType());
+    ResponseConverter<CreateAccountGroupResponse> responseConverter = CREATE_ACCOUNT_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -557,8 +595,7 @@ public class EnterpriseManagement extends BaseService {
     if (listAccountGroupsOptions.includeDeleted() != null) {
       builder.query("include_deleted", String.valueOf(listAccountGroupsOptions.includeDeleted()));
     }
-    ResponseConverter<ListAccountGroupsResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListAccountGroupsResponse>() { }.getType());
+    ResponseConverter<ListAccountGroupsResponse> responseConverter = LIST_ACCOUNT_GROUPS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -602,8 +639,7 @@ public class EnterpriseManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AccountGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountGroup>() { }.getType());
+    ResponseConverter<AccountGroup> responseConverter = GET_ACCOUNT_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -634,7 +670,7 @@ public class EnterpriseManagement extends BaseService {
       contentJson.addProperty("primary_contact_iam_id", updateAccountGroupOptions.primaryContactIamId());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UPDATE_ACCOUNT_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -658,7 +694,7 @@ public class EnterpriseManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ACCOUNT_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
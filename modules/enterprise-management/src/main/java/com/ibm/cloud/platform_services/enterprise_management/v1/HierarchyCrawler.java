@@ -0,0 +1,493 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.enterprise_management.v1;
+
+import com.ibm.cloud.platform_services.common.Pager;
+import com.ibm.cloud.platform_services.enterprise_management.v1.model.Account;
+import com.ibm.cloud.platform_services.enterprise_management.v1.model.AccountGroup;
+import com.ibm.cloud.platform_services.enterprise_management.v1.model.AccountGroupsPager;
+import com.ibm.cloud.platform_services.enterprise_management.v1.model.AccountsPager;
+import com.ibm.cloud.platform_services.enterprise_management.v1.model.Enterprise;
+import com.ibm.cloud.platform_services.enterprise_management.v1.model.GetEnterpriseOptions;
+import com.ibm.cloud.platform_services.enterprise_management.v1.model.ListAccountGroupsOptions;
+import com.ibm.cloud.platform_services.enterprise_management.v1.model.ListAccountsOptions;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * HierarchyCrawler retrieves the account groups and the accounts of an enterprise and builds its hierarchy.
+ *
+ * <p>
+ * The crawler lists the account groups and the accounts whose "parent" is the enterprise, then, for each account group,
+ * those whose parent is that account group, and so on. The account groups and the accounts of different parents are
+ * listed concurrently (the pages of a single listing are retrieved in order, with the "listAccountGroups" and
+ * "listAccounts" pagers) on a work-stealing pool, and the number of requests in flight is bounded by
+ * {@link Builder#maxConcurrency(int)}.
+ *
+ * <p>
+ * The hierarchy is built bottom-up: the {@link Node} of an account group is created once all of its descendants have
+ * been retrieved, so a node and its subtree are complete and immutable as soon as they exist. An optional listener is
+ * notified of each node when it is created, which allows subtrees to be processed before the whole hierarchy has been
+ * retrieved. The resulting {@link Hierarchy} looks up nodes, parents and children by CRN in constant time.
+ */
+public class HierarchyCrawler {
+
+  /**
+   * The type of a node.
+   */
+  public enum Type {
+    ENTERPRISE, ACCOUNT_GROUP, ACCOUNT
+  }
+
+  /**
+   * A node of the hierarchy: the enterprise, an account group or an account, with its children.
+   */
+  public static final class Node {
+    private final Type type;
+    private final Object entity;
+    private final String crn;
+    private final String parentCrn;
+    private final List<Node> children;
+    private final int size;
+
+    Node(Type type, Object entity, String crn, String parentCrn, List<Node> children) {
+      this.type = type;
+      this.entity = entity;
+      this.crn = crn;
+      this.parentCrn = parentCrn;
+      this.children = Collections.unmodifiableList(children);
+      int count = 1;
+      for (Node child : children) {
+        count += child.size;
+      }
+      this.size = count;
+    }
+
+    /**
+     * Gets the type of the node.
+     *
+     * @return the type
+     */
+    public Type getType() {
+      return type;
+    }
+
+    /**
+     * Gets the CRN of the enterprise, account group or account.
+     *
+     * @return the CRN
+     */
+    public String getCrn() {
+      return crn;
+    }
+
+    /**
+     * Gets the CRN of the parent, or null for the enterprise.
+     *
+     * @return the CRN of the parent
+     */
+    public String getParentCrn() {
+      return parentCrn;
+    }
+
+    /**
+     * Gets the enterprise, if the node is the enterprise.
+     *
+     * @return the enterprise, or null
+     */
+    public Enterprise getEnterprise() {
+      return type == Type.ENTERPRISE ? (Enterprise) entity : null;
+    }
+
+    /**
+     * Gets the account group, if the node is an account group.
+     *
+     * @return the account group, or null
+     */
+    public AccountGroup getAccountGroup() {
+      return type == Type.ACCOUNT_GROUP ? (AccountGroup) entity : null;
+    }
+
+    /**
+     * Gets the account, if the node is an account.
+     *
+     * @return the account, or null
+     */
+    public Account getAccount() {
+      return type == Type.ACCOUNT ? (Account) entity : null;
+    }
+
+    /**
+     * Gets the children of the node: its account groups, in the order in which they were listed, then its accounts.
+     *
+     * @return the children
+     */
+    public List<Node> getChildren() {
+      return children;
+    }
+
+    /**
+     * Gets the number of nodes of the subtree rooted at this node, including this node.
+     *
+     * @return the size of the subtree
+     */
+    public int getSize() {
+      return size;
+    }
+  }
+
+  /**
+   * The hierarchy of an enterprise.
+   */
+  public static final class Hierarchy {
+    private final Node root;
+    private final Map<String, Node> nodes;
+    private final int accountGroupCount;
+    private final int accountCount;
+
+    Hierarchy(Node root) {
+      this.root = root;
+      Map<String, Node> index = new HashMap<>(root.size * 4 / 3 + 1);
+      int groups = 0;
+      int accounts = 0;
+      List<Node> pending = new ArrayList<>();
+      pending.add(root);
+      while (!pending.isEmpty()) {
+        Node node = pending.remove(pending.size() - 1);
+        index.put(node.crn, node);
+        if (node.type == Type.ACCOUNT_GROUP) {
+          groups++;
+        } else if (node.type == Type.ACCOUNT) {
+          accounts++;
+        }
+        pending.addAll(node.children);
+      }
+      this.nodes = Collections.unmodifiableMap(index);
+      this.accountGroupCount = groups;
+      this.accountCount = accounts;
+    }
+
+    /**
+     * Gets the node of the enterprise.
+     *
+     * @return the root node
+     */
+    public Node getRoot() {
+      return root;
+    }
+
+    /**
+     * Gets a node by CRN.
+     *
+     * @param crn the CRN of the enterprise, account group or account
+     * @return the node, or null if the hierarchy doesn't contain it
+     */
+    public Node getNode(String crn) {
+      return nodes.get(crn);
+    }
+
+    /**
+     * Gets the parent of a node by CRN.
+     *
+     * @param crn the CRN of the account group or account
+     * @return the parent node, or null for the enterprise or a CRN that the hierarchy doesn't contain
+     */
+    public Node getParent(String crn) {
+      Node node = nodes.get(crn);
+      return node != null && node.parentCrn != null ? nodes.get(node.parentCrn) : null;
+    }
+
+    /**
+     * Gets the children of a node by CRN.
+     *
+     * @param crn the CRN of the enterprise or account group
+     * @return the children, or an empty list for an account or a CRN that the hierarchy doesn't contain
+     */
+    public List<Node> getChildren(String crn) {
+      Node node = nodes.get(crn);
+      return node != null ? node.children : Collections.<Node>emptyList();
+    }
+
+    /**
+     * Gets the nodes by CRN.
+     *
+     * @return the nodes
+     */
+    public Map<String, Node> getNodes() {
+      return nodes;
+    }
+
+    /**
+     * Gets the number of account groups.
+     *
+     * @return the number of account groups
+     */
+    public int getAccountGroupCount() {
+      return accountGroupCount;
+    }
+
+    /**
+     * Gets the number of accounts.
+     *
+     * @return the number of accounts
+     */
+    public int getAccountCount() {
+      return accountCount;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private EnterpriseManagement client;
+    private int maxConcurrency = 8;
+    private Long pageLimit;
+    private Executor executor;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the EnterpriseManagement instance used to retrieve the hierarchy
+     */
+    public Builder(EnterpriseManagement client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the maximum number of requests in flight. Defaults to 8.
+     *
+     * @param maxConcurrency the maximum number of concurrent requests
+     * @return the HierarchyCrawler builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the number of account groups or accounts requested per page. By default, the service's default is used.
+     *
+     * @param pageLimit the page limit
+     * @return the HierarchyCrawler builder
+     */
+    public Builder pageLimit(long pageLimit) {
+      this.pageLimit = pageLimit;
+      return this;
+    }
+
+    /**
+     * Set the executor used to retrieve the hierarchy. By default, a work-stealing pool is created for each crawl.
+     *
+     * @param executor the executor
+     * @return the HierarchyCrawler builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds a HierarchyCrawler.
+     *
+     * @return the new HierarchyCrawler instance
+     */
+    public HierarchyCrawler build() {
+      return new HierarchyCrawler(this);
+    }
+  }
+
+  private final EnterpriseManagement client;
+  private final int maxConcurrency;
+  private final Long pageLimit;
+  private final Executor executor;
+  private final AtomicLong requests = new AtomicLong();
+
+  protected HierarchyCrawler(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    Validator.isTrue(builder.pageLimit == null || builder.pageLimit > 0, "pageLimit must be greater than zero");
+    this.client = builder.client;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.pageLimit = builder.pageLimit;
+    this.executor = builder.executor;
+  }
+
+  /**
+   * Retrieves the hierarchy of an enterprise.
+   *
+   * @param enterpriseId the enterprise ID
+   * @return the hierarchy
+   */
+  public Hierarchy crawl(String enterpriseId) {
+    return crawl(enterpriseId, null);
+  }
+
+  /**
+   * Retrieves the hierarchy of an enterprise, notifying a listener of each node as soon as its subtree is complete.
+   * The listener is never called concurrently; it is called for the children of a node before the node itself, and
+   * for the enterprise last.
+   *
+   * @param enterpriseId the enterprise ID
+   * @param listener the listener, or null
+   * @return the hierarchy
+   */
+  public Hierarchy crawl(String enterpriseId, Consumer<Node> listener) {
+    try {
+      return crawlAsync(enterpriseId, listener).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Starts retrieving the hierarchy of an enterprise, notifying a listener of each node as soon as its subtree is
+   * complete. The listener is never called concurrently; it is called for the children of a node before the node
+   * itself, and for the enterprise last.
+   *
+   * @param enterpriseId the enterprise ID
+   * @param listener the listener, or null
+   * @return a future that completes with the hierarchy, or exceptionally if a request fails
+   */
+  public CompletableFuture<Hierarchy> crawlAsync(String enterpriseId, Consumer<Node> listener) {
+    Validator.notNull(enterpriseId, "enterpriseId cannot be null");
+    final ExecutorService pool = executor == null ? Executors.newWorkStealingPool(maxConcurrency) : null;
+    Crawl crawl = new Crawl(executor != null ? executor : pool, listener);
+    CompletableFuture<Hierarchy> result = crawl
+      .supply(() -> client.getEnterprise(new GetEnterpriseOptions.Builder(enterpriseId).build())
+        .execute().getResult())
+      .thenCompose(enterprise -> crawl.children(Type.ENTERPRISE, enterprise, enterprise.getCrn(), null))
+      .thenApply(Hierarchy::new);
+    if (pool != null) {
+      result.whenComplete((hierarchy, e) -> pool.shutdown());
+    }
+    return result;
+  }
+
+  /**
+   * Gets the number of requests sent by this crawler.
+   *
+   * @return the number of requests
+   */
+  public long getRequests() {
+    return requests.get();
+  }
+
+  // The state of one crawl.
+  private final class Crawl {
+    private final Executor workers;
+    private final Consumer<Node> listener;
+    private final Semaphore inFlight = new Semaphore(maxConcurrency);
+
+    Crawl(Executor workers, Consumer<Node> listener) {
+      this.workers = workers;
+      this.listener = listener;
+    }
+
+    <T> CompletableFuture<T> supply(Supplier<T> request) {
+      return CompletableFuture.supplyAsync(() -> {
+        inFlight.acquireUninterruptibly();
+        try {
+          requests.incrementAndGet();
+          return request.get();
+        } finally {
+          inFlight.release();
+        }
+      }, workers);
+    }
+
+    // Lists the account groups and the accounts of a parent, crawls the account groups and builds the parent's node.
+    CompletableFuture<Node> children(Type type, Object entity, String crn, String parentCrn) {
+      CompletableFuture<List<AccountGroup>> groups = listAll(
+          new AccountGroupsPager(client, withLimit(new ListAccountGroupsOptions.Builder().parent(crn))));
+      CompletableFuture<List<Account>> accounts = listAll(
+          new AccountsPager(client, withLimit(new ListAccountsOptions.Builder().parent(crn))));
+      return groups.thenCompose(list -> {
+        List<CompletableFuture<Node>> subtrees = new ArrayList<>(list.size());
+        for (AccountGroup group : list) {
+          subtrees.add(children(Type.ACCOUNT_GROUP, group, group.getCrn(), crn));
+        }
+        return CompletableFuture.allOf(subtrees.toArray(new CompletableFuture<?>[0]))
+          .thenCombine(accounts, (done, accountList) -> {
+            List<Node> nodes = new ArrayList<>(subtrees.size() + accountList.size());
+            for (CompletableFuture<Node> subtree : subtrees) {
+              nodes.add(subtree.join());
+            }
+            for (Account account : accountList) {
+              nodes.add(emit(new Node(Type.ACCOUNT, account, account.getCrn(), crn,
+                  Collections.<Node>emptyList())));
+            }
+            return emit(new Node(type, entity, crn, parentCrn, nodes));
+          });
+      });
+    }
+
+    // Retrieves the pages of a listing one after the other, each as a separate task.
+    <T> CompletableFuture<List<T>> listAll(Pager<T> pager) {
+      List<T> results = new ArrayList<>();
+      return nextPage(pager, results);
+    }
+
+    private <T> CompletableFuture<List<T>> nextPage(Pager<T> pager, List<T> results) {
+      return supply(pager::getNext).thenCompose(page -> {
+        if (page != null) {
+          results.addAll(page);
+        }
+        return pager.hasNext() ? nextPage(pager, results) : CompletableFuture.completedFuture(results);
+      });
+    }
+
+    private Node emit(Node node) {
+      if (listener != null) {
+        synchronized (this) {
+          listener.accept(node);
+        }
+      }
+      return node;
+    }
+  }
+
+  private ListAccountGroupsOptions withLimit(ListAccountGroupsOptions.Builder builder) {
+    if (pageLimit != null) {
+      builder.limit(pageLimit);
+    }
+    return builder.build();
+  }
+
+  private ListAccountsOptions withLimit(ListAccountsOptions.Builder builder) {
+    if (pageLimit != null) {
+      builder.limit(pageLimit);
+    }
+    return builder.build();
+  }
+}
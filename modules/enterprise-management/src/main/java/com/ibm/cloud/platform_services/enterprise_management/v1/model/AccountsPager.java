@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.enterprise_management.v1.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.enterprise_management.v1.EnterpriseManagement;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * AccountsPager can be used to simplify the use of the "listAccounts" method.
  */
-public class AccountsPager {
+public class AccountsPager implements Pager<Account> {
   private static class PageContext {
     private String next;
     public String getNext() {
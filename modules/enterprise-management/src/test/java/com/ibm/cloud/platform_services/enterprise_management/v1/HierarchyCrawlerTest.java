@@ -0,0 +1,227 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.enterprise_management.v1;
+
+import com.ibm.cloud.platform_services.enterprise_management.v1.HierarchyCrawler.Hierarchy;
+import com.ibm.cloud.platform_services.enterprise_management.v1.HierarchyCrawler.Node;
+import com.ibm.cloud.platform_services.enterprise_management.v1.HierarchyCrawler.Type;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the HierarchyCrawler class.
+ */
+public class HierarchyCrawlerTest {
+
+  private static final String ENTERPRISE = "crn:v1:bluemix:public:enterprise::a/ea::enterprise:e1";
+
+  protected MockWebServer server;
+  protected EnterpriseManagement enterpriseManagementService;
+
+  // The account groups and the accounts of each parent CRN, served by the mock server.
+  private Map<String, List<String>> groups;
+  private Map<String, List<String>> accounts;
+  private String failingParent;
+  private AtomicInteger inFlight;
+  private AtomicInteger maxInFlight;
+
+  private static String groupCrn(String id) {
+    return "crn:v1:bluemix:public:enterprise::a/ea::account-group:" + id;
+  }
+
+  private static String accountCrn(String id) {
+    return "crn:v1:bluemix:public:enterprise::a/ea::account:" + id;
+  }
+
+  private void add(Map<String, List<String>> children, String parent, String... ids) {
+    children.computeIfAbsent(parent, k -> new ArrayList<String>()).addAll(Arrays.asList(ids));
+  }
+
+  private MockResponse list(HttpUrl url, List<String> ids, boolean group) {
+    // Two items per page, the next page being identified by the index of its first item.
+    int from = url.queryParameter("next_docid") != null ? Integer.parseInt(url.queryParameter("next_docid")) : 0;
+    StringBuilder body = new StringBuilder("{\"rows_count\": ").append(ids.size()).append(", \"resources\": [");
+    for (int i = from; i < Math.min(from + 2, ids.size()); i++) {
+      String id = ids.get(i);
+      body.append(i > from ? ", " : "").append("{\"id\": \"").append(id).append("\", \"crn\": \"")
+        .append(group ? groupCrn(id) : accountCrn(id)).append("\", \"parent\": \"")
+        .append(url.queryParameter("parent")).append("\", \"name\": \"").append(id).append("\"}");
+    }
+    body.append("]");
+    if (from + 2 < ids.size()) {
+      body.append(", \"next_url\": \"").append(url.encodedPath()).append("?next_docid=").append(from + 2).append("\"");
+    }
+    return new MockResponse().setHeader("Content-type", "application/json").setBody(body.append("}").toString());
+  }
+
+  @Test
+  public void testCrawl() throws Throwable {
+    add(groups, ENTERPRISE, "g1", "g2", "g3");
+    add(groups, groupCrn("g1"), "g11");
+    add(accounts, ENTERPRISE, "a1");
+    add(accounts, groupCrn("g1"), "a2", "a3", "a4");
+    add(accounts, groupCrn("g11"), "a5");
+
+    List<Node> emitted = Collections.synchronizedList(new ArrayList<Node>());
+    HierarchyCrawler crawler = new HierarchyCrawler.Builder(enterpriseManagementService).pageLimit(2).build();
+    Hierarchy hierarchy = crawler.crawl("e1", emitted::add);
+
+    Node root = hierarchy.getRoot();
+    assertEquals(root.getType(), Type.ENTERPRISE);
+    assertEquals(root.getEnterprise().getName(), "enterprise");
+    assertEquals(root.getSize(), 10);
+    assertEquals(hierarchy.getAccountGroupCount(), 4);
+    assertEquals(hierarchy.getAccountCount(), 5);
+    assertEquals(hierarchy.getNodes().size(), 10);
+    List<String> children = new ArrayList<>();
+    for (Node child : root.getChildren()) {
+      children.add(child.getCrn());
+    }
+    assertEquals(children, Arrays.asList(groupCrn("g1"), groupCrn("g2"), groupCrn("g3"), accountCrn("a1")));
+
+    Node g1 = hierarchy.getNode(groupCrn("g1"));
+    assertEquals(g1.getAccountGroup().getId(), "g1");
+    assertEquals(g1.getChildren().size(), 4);
+    assertEquals(g1.getSize(), 6);
+    assertSame(hierarchy.getParent(accountCrn("a5")), hierarchy.getNode(groupCrn("g11")));
+    assertSame(hierarchy.getParent(groupCrn("g11")), g1);
+    assertSame(hierarchy.getParent(groupCrn("g1")), root);
+    assertNull(hierarchy.getParent(ENTERPRISE));
+    assertEquals(hierarchy.getNode(accountCrn("a3")).getAccount().getName(), "a3");
+    assertNull(hierarchy.getNode(accountCrn("a3")).getAccountGroup());
+    assertTrue(hierarchy.getChildren(accountCrn("a3")).isEmpty());
+    assertTrue(hierarchy.getChildren("crn:unknown").isEmpty());
+
+    // Each node is emitted once, after its children, and the enterprise last.
+    assertEquals(emitted.size(), 10);
+    assertSame(emitted.get(emitted.size() - 1), root);
+    for (int i = 0; i < emitted.size(); i++) {
+      for (Node child : emitted.get(i).getChildren()) {
+        assertTrue(emitted.indexOf(child) < i);
+      }
+    }
+    // One request for the enterprise, and one per page of each listing (g1's 3 accounts take 2 pages).
+    assertEquals(crawler.getRequests(), 1 + 2 * 5 + 2);
+    assertEquals(server.getRequestCount(), 13);
+  }
+
+  @Test
+  public void testBoundedConcurrency() throws Throwable {
+    // 6 account groups with 2 child account groups each, 2 levels deep, and one account in each account group.
+    List<String> parents = Collections.singletonList(ENTERPRISE);
+    int count = 0;
+    for (int level = 0; level < 3; level++) {
+      List<String> next = new ArrayList<>();
+      for (String parent : parents) {
+        for (int i = 0; i < (level == 0 ? 6 : 2); i++) {
+          String id = "g" + count++;
+          add(groups, parent, id);
+          add(accounts, groupCrn(id), "a" + id);
+          next.add(groupCrn(id));
+        }
+      }
+      parents = next;
+    }
+    HierarchyCrawler crawler = new HierarchyCrawler.Builder(enterpriseManagementService).maxConcurrency(3).build();
+    Hierarchy hierarchy = crawler.crawl("e1");
+    assertEquals(hierarchy.getAccountGroupCount(), 6 + 12 + 24);
+    assertEquals(hierarchy.getAccountCount(), 42);
+    assertTrue(maxInFlight.get() <= 3, "max in flight: " + maxInFlight.get());
+    assertTrue(maxInFlight.get() > 1, "max in flight: " + maxInFlight.get());
+  }
+
+  @Test
+  public void testFailure() throws Throwable {
+    add(groups, ENTERPRISE, "g1", "g2");
+    add(groups, groupCrn("g2"), "g21");
+    failingParent = groupCrn("g21");
+    HierarchyCrawler crawler = new HierarchyCrawler.Builder(enterpriseManagementService).build();
+    try {
+      crawler.crawl("e1");
+      fail("Expected a ServiceResponseException");
+    } catch (ServiceResponseException e) {
+      assertEquals(e.getStatusCode(), 500);
+    }
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    groups = new HashMap<>();
+    accounts = new HashMap<>();
+    failingParent = null;
+    inFlight = new AtomicInteger();
+    maxInFlight = new AtomicInteger();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+          Thread.sleep(5);
+          HttpUrl url = request.getRequestUrl();
+          String parent = url.queryParameter("parent");
+          if (parent != null && parent.equals(failingParent)) {
+            return new MockResponse().setResponseCode(500).setHeader("Content-type", "application/json")
+              .setBody("{\"errors\": [{\"message\": \"unavailable\"}]}");
+          }
+          if (url.encodedPath().equals("/enterprises/e1")) {
+            return new MockResponse().setHeader("Content-type", "application/json")
+              .setBody("{\"id\": \"e1\", \"crn\": \"" + ENTERPRISE + "\", \"name\": \"enterprise\"}");
+          }
+          boolean group = url.encodedPath().equals("/account-groups");
+          List<String> ids = (group ? groups : accounts).get(parent);
+          return list(url, ids != null ? ids : Collections.<String>emptyList(), group);
+        } finally {
+          inFlight.decrementAndGet();
+        }
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    enterpriseManagementService = EnterpriseManagement.newInstance("testService");
+    enterpriseManagementService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    enterpriseManagementService = null;
+  }
+}
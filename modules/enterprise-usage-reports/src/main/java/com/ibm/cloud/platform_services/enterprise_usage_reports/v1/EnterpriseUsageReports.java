@@ -27,6 +27,7 @@ import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.security.ConfigBasedAuthenticatorFactory;
 import com.ibm.cloud.sdk.core.service.BaseService;
 import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -47,6 +48,9 @@ public class EnterpriseUsageReports extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://enterprise.cloud.ibm.com";
 
+  private static final ResponseConverter<Reports> GET_RESOURCE_USAGE_REPORT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Reports>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `EnterpriseUsageReports` client.
    * The default service name is used to configure the client instance.
@@ -96,6 +100,18 @@ public class EnterpriseUsageReports extends BaseService {
     if (getResourceUsageReportOptions == null) {
       getResourceUsageReportOptions = new GetResourceUsageReportOptions.Builder().build();
     }
+    RequestBuilder builder = getResourceUsageReportRequest(getResourceUsageReportOptions);
+    ResponseConverter<Reports> responseConverter = GET_RESOURCE_USAGE_REPORT_RESPONSE_CONVERTER;
+    return createServiceCall(builder.build(), responseConverter);
+  }
+
+  /**
+   * Builds the request of the getResourceUsageReport operation, which is also streamed by {@link UsageReportExporter}.
+   *
+   * @param getResourceUsageReportOptions the {@link GetResourceUsageReportOptions} containing the options for the call
+   * @return the RequestBuilder of the request
+   */
+  RequestBuilder getResourceUsageReportRequest(GetResourceUsageReportOptions getResourceUsageReportOptions) {
     RequestBuilder builder = RequestBuilder.get(RequestBuilder.resolveRequestUrl(getServiceUrl(), "/v1/resource-usage-reports"));
     Map<String, String> sdkHeaders = SdkCommon.getSdkHeaders("enterprise_usage_reports", "v1", "getResourceUsageReport");
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
@@ -126,9 +142,18 @@ public class EnterpriseUsageReports extends BaseService {
     if (getResourceUsageReportOptions.offset() != null) {
       builder.query("offset", String.valueOf(getResourceUsageReportOptions.offset()));
     }
-    ResponseConverter<Reports> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Reports>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return builder;
+  }
+
+  /**
+   * Creates a call whose result is the body of the response, which is read as a stream rather than converted.
+   * The caller must close the stream.
+   *
+   * @param builder the RequestBuilder of the request
+   * @return a {@link ServiceCall} with a result of type {@link InputStream}
+   */
+  ServiceCall<InputStream> createStreamingCall(RequestBuilder builder) {
+    return createServiceCall(builder.build(), ResponseConverterUtils.getInputStream());
   }
 
   /**
@@ -0,0 +1,264 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.enterprise_usage_reports.v1;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.ibm.cloud.platform_services.common.ColumnarWriter;
+import com.ibm.cloud.platform_services.common.ColumnarWriter.Type;
+import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.model.GetResourceUsageReportOptions;
+import com.ibm.cloud.sdk.core.http.RequestBuilder;
+import com.ibm.cloud.sdk.core.util.UrlHelper;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UsageReportExporter writes the results of the "getResourceUsageReport" method to a columnar file
+ * (see {@link ColumnarWriter}) with one row per metric of each plan of each resource of each report.
+ * A report, resource or plan without children produces a single row whose columns for the children are null.
+ *
+ * <p>
+ * The response of each page is parsed as a stream with a Gson JsonReader and written directly to the columns,
+ * without creating ResourceUsageReport, ResourceUsage, PlanUsage or MetricUsage objects: the string columns are
+ * dictionary-encoded and the quantities and costs are written as primitive doubles. The columns are listed in
+ * {@link #COLUMNS}.
+ */
+public class UsageReportExporter {
+
+  /**
+   * The names of the columns of the exported files.
+   */
+  public static final List<String> COLUMNS = Collections.unmodifiableList(Arrays.asList(
+      "entity_id", "entity_type", "entity_crn", "billing_unit_id", "country_code", "currency_code", "month",
+      "resource_id",
+      "plan_id", "pricing_region", "pricing_plan_id",
+      "metric", "unit", "quantity", "rateable_quantity", "cost", "rated_cost"));
+
+  private static final List<Type> TYPES = Collections.unmodifiableList(Arrays.asList(
+      Type.STRING, Type.STRING, Type.STRING, Type.STRING, Type.STRING, Type.STRING, Type.STRING,
+      Type.STRING,
+      Type.STRING, Type.STRING, Type.STRING,
+      Type.STRING, Type.STRING, Type.DOUBLE, Type.DOUBLE, Type.DOUBLE, Type.DOUBLE));
+
+  // The nesting level (report, resource, plan, metric) of each column, and the field holding the children of
+  // each level.
+  private static final int[] COLUMN_LEVELS = { 0, 0, 0, 0, 0, 0, 0, 1, 2, 2, 2, 3, 3, 3, 3, 3, 3 };
+  private static final String[] CHILDREN = { "resources", "plans", "usage", null };
+  private static final int METRIC_LEVEL = 3;
+  private static final Map<String, Integer> COLUMN_INDEXES = new HashMap<>();
+
+  static {
+    for (int i = 0; i < COLUMNS.size(); i++) {
+      COLUMN_INDEXES.put(COLUMNS.get(i), i);
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private EnterpriseUsageReports client;
+    private int rowGroupSize = 65536;
+    private int bufferSize = 1024 * 1024;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the EnterpriseUsageReports instance whose client, service URL and authenticator are used
+     */
+    public Builder(EnterpriseUsageReports client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the number of rows in each row group of the files created by newWriter(). Defaults to 65536.
+     *
+     * @param rowGroupSize the row group size
+     * @return the UsageReportExporter builder
+     */
+    public Builder rowGroupSize(int rowGroupSize) {
+      this.rowGroupSize = rowGroupSize;
+      return this;
+    }
+
+    /**
+     * Set the size in bytes of the write buffer of the files created by newWriter(). Defaults to 1 MiB.
+     *
+     * @param bufferSize the buffer size
+     * @return the UsageReportExporter builder
+     */
+    public Builder bufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    /**
+     * Builds a UsageReportExporter.
+     *
+     * @return the new UsageReportExporter instance
+     */
+    public UsageReportExporter build() {
+      return new UsageReportExporter(this);
+    }
+  }
+
+  private final EnterpriseUsageReports client;
+  private final int rowGroupSize;
+  private final int bufferSize;
+
+  protected UsageReportExporter(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.rowGroupSize > 0, "rowGroupSize must be greater than zero");
+    Validator.isTrue(builder.bufferSize >= 64, "bufferSize must be at least 64");
+    this.client = builder.client;
+    this.rowGroupSize = builder.rowGroupSize;
+    this.bufferSize = builder.bufferSize;
+  }
+
+  /**
+   * Creates (or replaces) a columnar file with the columns of the export. Several reports (e.g. several months)
+   * may be exported to the same file before it is closed.
+   *
+   * @param file the file
+   * @return the ColumnarWriter
+   */
+  public ColumnarWriter newWriter(Path file) {
+    return new ColumnarWriter(file, COLUMNS, TYPES, rowGroupSize, bufferSize);
+  }
+
+  /**
+   * Exports all pages of the "getResourceUsageReport" results.
+   *
+   * @param options the options of the report; "offset" must not be set
+   * @param writer a writer created by newWriter()
+   * @return the number of rows written
+   */
+  public long export(GetResourceUsageReportOptions options, ColumnarWriter writer) {
+    Validator.notNull(options, "options cannot be null");
+    Validator.notNull(writer, "writer cannot be null");
+    Validator.isNull(options.offset(), "The options 'offset' field should not be set");
+    Validator.isTrue(writer.getColumnIndex("metric") == COLUMN_INDEXES.get("metric"),
+        "writer was not created by newWriter()");
+    long first = writer.getRowCount();
+    String offset = null;
+    do {
+      RequestBuilder request = client.getResourceUsageReportRequest(options.newBuilder().offset(offset).build());
+      try (InputStream body = client.createStreamingCall(request).execute().getResult();
+          JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+        offset = readPage(reader, writer);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read the getResourceUsageReport response", e);
+      }
+    } while (offset != null);
+    return writer.getRowCount() - first;
+  }
+
+  // Writes the reports of a page and returns the "offset" token of the next page, if any.
+  private static String readPage(JsonReader reader, ColumnarWriter writer) throws IOException {
+    String next = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if (name.equals("reports") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          readObject(reader, writer, 0);
+        }
+        reader.endArray();
+      } else if (name.equals("next") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+          if (reader.nextName().equals("href") && reader.peek() == JsonToken.STRING) {
+            next = UrlHelper.getQueryParam(reader.nextString(), "offset");
+          } else {
+            reader.skipValue();
+          }
+        }
+        reader.endObject();
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return next;
+  }
+
+  // The metrics are written to the current row. The fields of the other levels may follow their children, so
+  // they are filled in on the rows of the children once the object is complete.
+  private static void readObject(JsonReader reader, ColumnarWriter writer, int level) throws IOException {
+    String[] strings = level < METRIC_LEVEL ? new String[COLUMNS.size()] : null;
+    long mark = level < METRIC_LEVEL ? writer.mark() : -1;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      Integer column = COLUMN_INDEXES.get(name);
+      if (name.equals(CHILDREN[level]) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          readObject(reader, writer, level + 1);
+        }
+        reader.endArray();
+      } else if (column == null || COLUMN_LEVELS[column] != level) {
+        reader.skipValue();
+      } else if (level < METRIC_LEVEL) {
+        strings[column] = readString(reader);
+      } else if (TYPES.get(column) == Type.DOUBLE) {
+        writer.setDouble(column, readDouble(reader));
+      } else {
+        writer.setString(column, readString(reader));
+      }
+    }
+    reader.endObject();
+    if (level == METRIC_LEVEL) {
+      writer.endRow();
+      return;
+    }
+    if (writer.getRowCount() == mark) {
+      writer.endRow();
+    }
+    for (int column = 0; column < strings.length; column++) {
+      if (strings[column] != null) {
+        writer.fill(mark, column, strings[column]);
+      }
+    }
+    writer.release(mark);
+  }
+
+  private static String readString(JsonReader reader) throws IOException {
+    JsonToken token = reader.peek();
+    if (token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+      return token == JsonToken.BOOLEAN ? String.valueOf(reader.nextBoolean()) : reader.nextString();
+    }
+    reader.skipValue();
+    return null;
+  }
+
+  private static double readDouble(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NUMBER) {
+      return reader.nextDouble();
+    }
+    reader.skipValue();
+    return Double.NaN;
+  }
+}
@@ -0,0 +1,613 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.enterprise_usage_reports.v1;
+
+import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.model.GetResourceUsageReportOptions;
+import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.model.GetResourceUsageReportPager;
+import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.model.ResourceUsageReport;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UsageRollUp computes the usage costs of an enterprise, of each of its account groups and of each of its accounts,
+ * for a month, from the "getResourceUsageReport" reports of the immediate children ("children=true") of the
+ * enterprise and of each account group.
+ *
+ * <p>
+ * The reports of the account groups are retrieved concurrently, level by level, with at most
+ * {@link Builder#maxConcurrency(int)} requests in flight; if billing units are given with
+ * {@link Builder#billingUnitIds(List)}, the reports of each account group are also retrieved separately for each
+ * billing unit. The costs of the accounts are then added up the hierarchy, per billing unit, in primitive
+ * accumulators: the costs of an account group or of the enterprise are the sums of the costs of their accounts.
+ *
+ * <p>
+ * Only the entity, billing unit and cost fields of the reports are kept. The reports of a past month are immutable,
+ * so they are cached for the lifetime of the UsageRollUp and never retrieved again; the reports of the current month
+ * (in UTC, according to the clock of the builder) are retrieved on each roll-up.
+ */
+public class UsageRollUp {
+
+  private static final String ENTERPRISE = "enterprise";
+  private static final String ACCOUNT_GROUP = "account_group";
+
+  /**
+   * The costs of an entity for a billing unit (or for all billing units), in the currency of the billing unit.
+   */
+  public static final class Totals {
+    private String currencyCode;
+    private double billableCost;
+    private double nonBillableCost;
+    private double billableRatedCost;
+    private double nonBillableRatedCost;
+
+    Totals() {
+    }
+
+    /**
+     * Gets the currency code, or null if the totals add up costs in several currencies.
+     *
+     * @return the currency code
+     */
+    public String getCurrencyCode() {
+      return currencyCode;
+    }
+
+    /**
+     * Gets the billable cost.
+     *
+     * @return the billable cost
+     */
+    public double getBillableCost() {
+      return billableCost;
+    }
+
+    /**
+     * Gets the non-billable cost.
+     *
+     * @return the non-billable cost
+     */
+    public double getNonBillableCost() {
+      return nonBillableCost;
+    }
+
+    /**
+     * Gets the billable rated cost.
+     *
+     * @return the billable rated cost
+     */
+    public double getBillableRatedCost() {
+      return billableRatedCost;
+    }
+
+    /**
+     * Gets the non-billable rated cost.
+     *
+     * @return the non-billable rated cost
+     */
+    public double getNonBillableRatedCost() {
+      return nonBillableRatedCost;
+    }
+
+    private void add(String currency, double billable, double nonBillable, double billableRated,
+        double nonBillableRated, boolean first) {
+      currencyCode = first ? currency : currencyCode != null && currencyCode.equals(currency) ? currencyCode : null;
+      billableCost += billable;
+      nonBillableCost += nonBillable;
+      billableRatedCost += billableRated;
+      nonBillableRatedCost += nonBillableRated;
+    }
+
+    private void add(Totals totals, boolean first) {
+      add(totals.currencyCode, totals.billableCost, totals.nonBillableCost, totals.billableRatedCost,
+          totals.nonBillableRatedCost, first);
+    }
+  }
+
+  /**
+   * The enterprise, an account group or an account, with its costs and its children.
+   */
+  public static final class Node {
+    private final String entityId;
+    private final String entityType;
+    private final String entityCrn;
+    private final String entityName;
+    private final String parentId;
+    private final List<Node> children;
+    private final Map<String, Totals> billingUnitTotals;
+    private final Totals totals;
+
+    Node(String entityId, String entityType, String entityCrn, String entityName, String parentId,
+        List<Node> children, Map<String, Totals> billingUnitTotals) {
+      this.entityId = entityId;
+      this.entityType = entityType;
+      this.entityCrn = entityCrn;
+      this.entityName = entityName;
+      this.parentId = parentId;
+      this.children = Collections.unmodifiableList(children);
+      this.billingUnitTotals = Collections.unmodifiableMap(billingUnitTotals);
+      this.totals = new Totals();
+      boolean first = true;
+      for (Totals unit : billingUnitTotals.values()) {
+        totals.add(unit, first);
+        first = false;
+      }
+    }
+
+    /**
+     * Gets the ID of the enterprise, account group or account.
+     *
+     * @return the entity ID
+     */
+    public String getEntityId() {
+      return entityId;
+    }
+
+    /**
+     * Gets the type of the entity: "enterprise", "account_group" or "account".
+     *
+     * @return the entity type
+     */
+    public String getEntityType() {
+      return entityType;
+    }
+
+    /**
+     * Gets the CRN of the entity. Null for the enterprise, whose own report is not retrieved.
+     *
+     * @return the entity CRN
+     */
+    public String getEntityCrn() {
+      return entityCrn;
+    }
+
+    /**
+     * Gets the name of the entity. Null for the enterprise, whose own report is not retrieved.
+     *
+     * @return the entity name
+     */
+    public String getEntityName() {
+      return entityName;
+    }
+
+    /**
+     * Gets the ID of the parent entity, or null for the enterprise.
+     *
+     * @return the parent ID
+     */
+    public String getParentId() {
+      return parentId;
+    }
+
+    /**
+     * Gets the children of the entity: its account groups, then its accounts, in the order of the reports.
+     *
+     * @return the children
+     */
+    public List<Node> getChildren() {
+      return children;
+    }
+
+    /**
+     * Gets the costs of the entity for each billing unit, by billing unit ID.
+     *
+     * @return the totals by billing unit
+     */
+    public Map<String, Totals> getBillingUnitTotals() {
+      return billingUnitTotals;
+    }
+
+    /**
+     * Gets the costs of the entity for all billing units.
+     *
+     * @return the totals
+     */
+    public Totals getTotals() {
+      return totals;
+    }
+  }
+
+  /**
+   * The roll-up of an enterprise for a month.
+   */
+  public static final class Result {
+    private final String month;
+    private final Node root;
+    private final Map<String, Node> nodes;
+
+    Result(String month, Node root) {
+      this.month = month;
+      this.root = root;
+      Map<String, Node> index = new HashMap<>();
+      List<Node> pending = new ArrayList<>();
+      pending.add(root);
+      while (!pending.isEmpty()) {
+        Node node = pending.remove(pending.size() - 1);
+        index.put(node.entityId, node);
+        pending.addAll(node.children);
+      }
+      this.nodes = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Gets the month, in the format "yyyy-MM".
+     *
+     * @return the month
+     */
+    public String getMonth() {
+      return month;
+    }
+
+    /**
+     * Gets the node of the enterprise.
+     *
+     * @return the root node
+     */
+    public Node getRoot() {
+      return root;
+    }
+
+    /**
+     * Gets the node of an entity.
+     *
+     * @param entityId the ID of the enterprise, account group or account
+     * @return the node, or null if the roll-up doesn't contain the entity
+     */
+    public Node getNode(String entityId) {
+      return nodes.get(entityId);
+    }
+
+    /**
+     * Gets the parent of an entity.
+     *
+     * @param entityId the ID of the account group or account
+     * @return the parent node, or null
+     */
+    public Node getParent(String entityId) {
+      Node node = nodes.get(entityId);
+      return node != null && node.parentId != null ? nodes.get(node.parentId) : null;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private EnterpriseUsageReports client;
+    private int maxConcurrency = 8;
+    private List<String> billingUnitIds;
+    private Executor executor;
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the EnterpriseUsageReports instance used to retrieve the reports
+     */
+    public Builder(EnterpriseUsageReports client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the maximum number of requests in flight. Defaults to 8.
+     *
+     * @param maxConcurrency the maximum number of concurrent requests
+     * @return the UsageRollUp builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the billing units for which the reports are retrieved, each with its own requests. By default, the reports
+     * of all billing units are retrieved together.
+     *
+     * @param billingUnitIds the billing unit IDs
+     * @return the UsageRollUp builder
+     */
+    public Builder billingUnitIds(List<String> billingUnitIds) {
+      this.billingUnitIds = billingUnitIds != null ? new ArrayList<>(billingUnitIds) : null;
+      return this;
+    }
+
+    /**
+     * Set the executor used to retrieve the reports. By default, a thread pool is created for each roll-up.
+     *
+     * @param executor the executor
+     * @return the UsageRollUp builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Set the clock that determines the current month. Defaults to the system clock.
+     *
+     * @param clock the clock
+     * @return the UsageRollUp builder
+     */
+    public Builder clock(Clock clock) {
+      this.clock = clock;
+      return this;
+    }
+
+    /**
+     * Builds a UsageRollUp.
+     *
+     * @return the new UsageRollUp instance
+     */
+    public UsageRollUp build() {
+      return new UsageRollUp(this);
+    }
+  }
+
+  private final EnterpriseUsageReports client;
+  private final int maxConcurrency;
+  private final List<String> billingUnitIds;
+  private final Executor executor;
+  private final Clock clock;
+  private final Map<String, List<Row>> closedMonths = new ConcurrentHashMap<>();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong cacheHits = new AtomicLong();
+
+  protected UsageRollUp(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    Validator.isTrue(builder.billingUnitIds == null || !builder.billingUnitIds.contains(null),
+        "billingUnitIds cannot contain null");
+    Validator.notNull(builder.clock, "clock cannot be null");
+    this.client = builder.client;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.billingUnitIds = builder.billingUnitIds != null && !builder.billingUnitIds.isEmpty()
+        ? builder.billingUnitIds : Collections.<String>singletonList(null);
+    this.executor = builder.executor;
+    this.clock = builder.clock;
+  }
+
+  /**
+   * Computes the costs of an enterprise, of its account groups and of its accounts for a month.
+   *
+   * @param enterpriseId the enterprise ID
+   * @param month the month, in the format "yyyy-MM"
+   * @return the roll-up
+   */
+  public Result rollUp(String enterpriseId, String month) {
+    Validator.notNull(enterpriseId, "enterpriseId cannot be null");
+    Validator.notNull(month, "month cannot be null");
+    final boolean closed = YearMonth.parse(month).isBefore(YearMonth.now(clock.withZone(ZoneOffset.UTC)));
+    final ExecutorService pool = executor == null ? Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+      Thread thread = new Thread(runnable, "usage-roll-up");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+    final Executor workers = executor != null ? executor : pool;
+    final Semaphore inFlight = new Semaphore(maxConcurrency);
+    try {
+      Node root = rollUp(ENTERPRISE, enterpriseId, null, null, null, month, closed, workers, inFlight).join();
+      return new Result(month, root);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Gets the number of report pages retrieved.
+   *
+   * @return the number of requests
+   */
+  public long getRequests() {
+    return requests.get();
+  }
+
+  /**
+   * Gets the number of reports of past months that were found in the cache.
+   *
+   * @return the number of cache hits
+   */
+  public long getCacheHits() {
+    return cacheHits.get();
+  }
+
+  /**
+   * Gets the number of reports of past months in the cache.
+   *
+   * @return the number of cached reports
+   */
+  public int getCacheSize() {
+    return closedMonths.size();
+  }
+
+  /**
+   * Empties the cache of the reports of past months.
+   */
+  public void clearCache() {
+    closedMonths.clear();
+  }
+
+  // Retrieves the children of an enterprise or account group (for each billing unit), rolls up its account groups
+  // and builds its node.
+  private CompletableFuture<Node> rollUp(String type, String id, String crn, String name, String parentId,
+      String month, boolean closed, Executor workers, Semaphore inFlight) {
+    List<CompletableFuture<List<Row>>> partitions = new ArrayList<>(billingUnitIds.size());
+    for (String billingUnitId : billingUnitIds) {
+      partitions.add(children(type, id, billingUnitId, month, closed, workers, inFlight));
+    }
+    return CompletableFuture.allOf(partitions.toArray(new CompletableFuture<?>[0])).thenCompose(done -> {
+      // Group the rows of each child entity, keeping the order in which the entities were first reported.
+      Map<String, List<Row>> groups = new LinkedHashMap<>();
+      Map<String, List<Row>> accounts = new LinkedHashMap<>();
+      for (CompletableFuture<List<Row>> partition : partitions) {
+        for (Row row : partition.join()) {
+          if (row.entityId == null || id.equals(row.entityId)) {
+            continue;
+          }
+          Map<String, List<Row>> rows = ACCOUNT_GROUP.equals(row.entityType) ? groups : accounts;
+          rows.computeIfAbsent(row.entityId, k -> new ArrayList<Row>()).add(row);
+        }
+      }
+      List<CompletableFuture<Node>> subtrees = new ArrayList<>(groups.size());
+      for (List<Row> rows : groups.values()) {
+        Row row = rows.get(0);
+        subtrees.add(rollUp(ACCOUNT_GROUP, row.entityId, row.entityCrn, row.entityName, id, month, closed,
+            workers, inFlight));
+      }
+      return CompletableFuture.allOf(subtrees.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+        List<Node> children = new ArrayList<>(subtrees.size() + accounts.size());
+        Map<String, Totals> totals = new LinkedHashMap<>();
+        for (CompletableFuture<Node> subtree : subtrees) {
+          Node child = subtree.join();
+          children.add(child);
+          for (Map.Entry<String, Totals> unit : child.billingUnitTotals.entrySet()) {
+            add(totals, unit.getKey(), unit.getValue());
+          }
+        }
+        for (List<Row> rows : accounts.values()) {
+          Map<String, Totals> accountTotals = new LinkedHashMap<>();
+          for (Row row : rows) {
+            accumulate(accountTotals, row);
+            accumulate(totals, row);
+          }
+          Row row = rows.get(0);
+          children.add(new Node(row.entityId, row.entityType, row.entityCrn, row.entityName, id,
+              Collections.<Node>emptyList(), accountTotals));
+        }
+        return new Node(id, type, crn, name, parentId, children, totals);
+      });
+    });
+  }
+
+  // Retrieves (or finds in the cache) the reports of the children of an entity for a billing unit.
+  private CompletableFuture<List<Row>> children(String type, String id, String billingUnitId, String month,
+      boolean closed, Executor workers, Semaphore inFlight) {
+    final String key = type + '\0' + id + '\0' + (billingUnitId != null ? billingUnitId : "") + '\0' + month;
+    if (closed) {
+      List<Row> cached = closedMonths.get(key);
+      if (cached != null) {
+        cacheHits.incrementAndGet();
+        return CompletableFuture.completedFuture(cached);
+      }
+    }
+    GetResourceUsageReportOptions.Builder options = new GetResourceUsageReportOptions.Builder()
+      .children(true)
+      .month(month);
+    if (ENTERPRISE.equals(type)) {
+      options.enterpriseId(id);
+    } else {
+      options.accountGroupId(id);
+    }
+    if (billingUnitId != null) {
+      options.billingUnitId(billingUnitId);
+    }
+    final GetResourceUsageReportPager pager = new GetResourceUsageReportPager(client, options.build());
+    return CompletableFuture.supplyAsync(() -> {
+      List<Row> rows = new ArrayList<>();
+      while (pager.hasNext()) {
+        List<ResourceUsageReport> page;
+        inFlight.acquireUninterruptibly();
+        try {
+          requests.incrementAndGet();
+          page = pager.getNext();
+        } finally {
+          inFlight.release();
+        }
+        if (page != null) {
+          for (ResourceUsageReport report : page) {
+            rows.add(new Row(report));
+          }
+        }
+      }
+      List<Row> result = Collections.unmodifiableList(rows);
+      if (closed) {
+        closedMonths.put(key, result);
+      }
+      return result;
+    }, workers);
+  }
+
+  private static void accumulate(Map<String, Totals> totals, Row row) {
+    Totals unit = totals.get(row.billingUnitId);
+    boolean first = unit == null;
+    if (first) {
+      unit = new Totals();
+      totals.put(row.billingUnitId, unit);
+    }
+    unit.add(row.currencyCode, row.billableCost, row.nonBillableCost, row.billableRatedCost,
+        row.nonBillableRatedCost, first);
+  }
+
+  private static void add(Map<String, Totals> totals, String billingUnitId, Totals child) {
+    Totals unit = totals.get(billingUnitId);
+    boolean first = unit == null;
+    if (first) {
+      unit = new Totals();
+      totals.put(billingUnitId, unit);
+    }
+    unit.add(child, first);
+  }
+
+  // The fields of a report that the roll-up needs.
+  private static final class Row {
+    final String entityId;
+    final String entityType;
+    final String entityCrn;
+    final String entityName;
+    final String billingUnitId;
+    final String currencyCode;
+    final double billableCost;
+    final double nonBillableCost;
+    final double billableRatedCost;
+    final double nonBillableRatedCost;
+
+    Row(ResourceUsageReport report) {
+      this.entityId = report.getEntityId();
+      this.entityType = report.getEntityType();
+      this.entityCrn = report.getEntityCrn();
+      this.entityName = report.getEntityName();
+      this.billingUnitId = report.getBillingUnitId();
+      this.currencyCode = report.getCurrencyCode();
+      this.billableCost = valueOf(report.getBillableCost());
+      this.nonBillableCost = valueOf(report.getNonBillableCost());
+      this.billableRatedCost = valueOf(report.getBillableRatedCost());
+      this.nonBillableRatedCost = valueOf(report.getNonBillableRatedCost());
+    }
+
+    private static double valueOf(Double value) {
+      return value != null ? value : 0;
+    }
+  }
+}
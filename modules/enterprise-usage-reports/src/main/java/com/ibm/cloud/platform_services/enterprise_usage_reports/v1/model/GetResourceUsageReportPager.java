@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.enterprise_usage_reports.v1.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.EnterpriseUsageReports;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * GetResourceUsageReportPager can be used to simplify the use of the "getResourceUsageReport" method.
  */
-public class GetResourceUsageReportPager {
+public class GetResourceUsageReportPager implements Pager<ResourceUsageReport> {
   private static class PageContext {
     private String next;
     public String getNext() {
@@ -0,0 +1,134 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.enterprise_usage_reports.v1;
+
+import com.ibm.cloud.platform_services.common.ColumnarReader;
+import com.ibm.cloud.platform_services.common.ColumnarWriter;
+import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.model.GetResourceUsageReportOptions;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the UsageReportExporter class.
+ */
+public class UsageReportExporterTest {
+
+  protected MockWebServer server;
+  protected EnterpriseUsageReports enterpriseUsageReportsService;
+  protected Path file;
+
+  private void enqueue(String body) {
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(body));
+  }
+
+  @Test
+  public void testExport() throws Throwable {
+    enqueue("{\"limit\": 1, \"next\": {\"href\": \"/v1/resource-usage-reports?enterprise_id=e1&offset=o2\"}, "
+        + "\"reports\": [{\"entity_id\": \"e1\", \"entity_type\": \"enterprise\", \"month\": \"2026-01\", "
+        + "\"currency_code\": \"USD\", \"billable_cost\": 12, \"resources\": ["
+        + "{\"resource_id\": \"cos\", \"billable_cost\": 10, \"plans\": ["
+        + "{\"plan_id\": \"lite\", \"pricing_region\": \"global\", \"billable\": true, \"usage\": ["
+        + "{\"metric\": \"STORAGE\", \"unit\": \"GB\", \"quantity\": 10, \"rateable_quantity\": 9, \"cost\": 2.5, "
+        + "\"rated_cost\": 2.5, \"price\": [{}]}, {\"metric\": \"REQUESTS\", \"quantity\": 100, \"cost\": 1}]}, "
+        + "{\"usage\": [{\"metric\": \"STORAGE\", \"cost\": 4}], \"plan_id\": \"standard\"}]}, "
+        + "{\"resource_id\": \"kms\", \"plans\": []}]}]}");
+    // The fields of the report follow its resources.
+    enqueue("{\"limit\": 1, \"reports\": [{\"resources\": [{\"resource_id\": \"cos\", \"plans\": [{\"plan_id\": "
+        + "\"lite\", \"usage\": [{\"metric\": \"STORAGE\", \"cost\": 1}]}]}], \"entity_id\": \"a1\", "
+        + "\"entity_type\": \"account\", \"month\": \"2026-01\"}]}");
+
+    UsageReportExporter exporter = new UsageReportExporter.Builder(enterpriseUsageReportsService)
+      .rowGroupSize(2)
+      .build();
+    long rows;
+    try (ColumnarWriter writer = exporter.newWriter(file)) {
+      GetResourceUsageReportOptions options = new GetResourceUsageReportOptions.Builder()
+        .enterpriseId("e1")
+        .children(true)
+        .month("2026-01")
+        .build();
+      rows = exporter.export(options, writer);
+    }
+    assertEquals(rows, 5);
+    assertEquals(server.takeRequest().getPath(),
+        "/v1/resource-usage-reports?enterprise_id=e1&children=true&month=2026-01");
+    assertEquals(server.takeRequest().getPath(),
+        "/v1/resource-usage-reports?enterprise_id=e1&children=true&month=2026-01&offset=o2");
+
+    try (ColumnarReader reader = new ColumnarReader(file)) {
+      assertEquals(reader.getRowCount(), 5);
+      assertEquals(reader.getColumnNames(), UsageReportExporter.COLUMNS);
+      assertEquals(Arrays.asList(reader.readStrings("entity_id")), Arrays.asList("e1", "e1", "e1", "e1", "a1"));
+      assertEquals(Arrays.asList(reader.readStrings("resource_id")), Arrays.asList("cos", "cos", "cos", "kms", "cos"));
+      assertEquals(Arrays.asList(reader.readStrings("plan_id")),
+          Arrays.asList("lite", "lite", "standard", null, "lite"));
+      assertEquals(Arrays.asList(reader.readStrings("pricing_region")),
+          Arrays.asList("global", "global", null, null, null));
+      assertEquals(Arrays.asList(reader.readStrings("metric")),
+          Arrays.asList("STORAGE", "REQUESTS", "STORAGE", null, "STORAGE"));
+      assertEquals(reader.getDictionary("metric"), Arrays.asList("STORAGE", "REQUESTS"));
+      double[] costs = reader.readDoubles("cost");
+      assertEquals(costs[0], 2.5);
+      assertEquals(costs[2], 4.0);
+      assertTrue(Double.isNaN(costs[3]));
+      assertEquals(reader.readDoubles("rateable_quantity")[0], 9.0);
+      assertEquals(reader.readStrings("currency_code")[4], null);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testOffsetNotAllowed() throws Throwable {
+    UsageReportExporter exporter = new UsageReportExporter.Builder(enterpriseUsageReportsService).build();
+    try (ColumnarWriter writer = exporter.newWriter(file)) {
+      exporter.export(new GetResourceUsageReportOptions.Builder().offset("o2").build(), writer);
+    }
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() throws IOException {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    file = Files.createTempFile("usage-report", ".columns");
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    enterpriseUsageReportsService = EnterpriseUsageReports.newInstance("testService");
+    enterpriseUsageReportsService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    enterpriseUsageReportsService = null;
+    Files.deleteIfExists(file);
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.enterprise_usage_reports.v1;
+
+import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.UsageRollUp.Node;
+import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.UsageRollUp.Result;
+import com.ibm.cloud.platform_services.enterprise_usage_reports.v1.UsageRollUp.Totals;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the UsageRollUp class.
+ */
+public class UsageRollUpTest {
+
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T12:00:00Z"), ZoneOffset.UTC);
+
+  protected MockWebServer server;
+  protected EnterpriseUsageReports enterpriseUsageReportsService;
+
+  private static String row(String id, String type, String billingUnit, String currency, double billable,
+      double nonBillable) {
+    return "{\"entity_id\": \"" + id + "\", \"entity_type\": \"" + type + "\", \"entity_crn\": \"crn:" + id
+      + "\", \"entity_name\": \"" + id + "\", \"billing_unit_id\": \"" + billingUnit + "\", \"currency_code\": \""
+      + currency + "\", \"billable_cost\": " + billable + ", \"non_billable_cost\": " + nonBillable
+      + ", \"billable_rated_cost\": " + billable + ", \"non_billable_rated_cost\": " + nonBillable
+      + ", \"resources\": [{\"resource_id\": \"cos\", \"billable_cost\": " + billable + ", \"plans\": []}]}";
+  }
+
+  // The children of the enterprise e1 and of its account groups.
+  private static List<String> rows(HttpUrl url) {
+    String enterprise = url.queryParameter("enterprise_id");
+    String group = url.queryParameter("account_group_id");
+    List<String> rows = new ArrayList<>();
+    if ("e1".equals(enterprise)) {
+      rows.add(row("ag1", "account_group", "b1", "USD", 5, 0));
+      rows.add(row("a1", "account", "b1", "USD", 10, 1));
+      rows.add(row("a2", "account", "b2", "EUR", 5, 0));
+    } else if ("ag1".equals(group)) {
+      rows.add(row("ag2", "account_group", "b1", "USD", 2, 0));
+      rows.add(row("a3", "account", "b1", "USD", 3, 0.5));
+    } else if ("ag2".equals(group)) {
+      rows.add(row("a4", "account", "b1", "USD", 2, 0));
+      rows.add(row("a4", "account", "b2", "EUR", 1, 0));
+    }
+    String billingUnit = url.queryParameter("billing_unit_id");
+    if (billingUnit != null) {
+      rows.removeIf(row -> !row.contains("\"billing_unit_id\": \"" + billingUnit + "\""));
+    }
+    return rows;
+  }
+
+  @Test
+  public void testRollUp() throws Throwable {
+    UsageRollUp rollUp = new UsageRollUp.Builder(enterpriseUsageReportsService).clock(CLOCK).build();
+    Result result = rollUp.rollUp("e1", "2026-02");
+    assertEquals(result.getMonth(), "2026-02");
+
+    Node root = result.getRoot();
+    assertEquals(root.getEntityId(), "e1");
+    assertEquals(root.getEntityType(), "enterprise");
+    assertEquals(root.getChildren().size(), 3);
+    Totals b1 = root.getBillingUnitTotals().get("b1");
+    assertEquals(b1.getCurrencyCode(), "USD");
+    assertEquals(b1.getBillableCost(), 15.0);
+    assertEquals(b1.getNonBillableCost(), 1.5);
+    assertEquals(b1.getBillableRatedCost(), 15.0);
+    Totals b2 = root.getBillingUnitTotals().get("b2");
+    assertEquals(b2.getCurrencyCode(), "EUR");
+    assertEquals(b2.getBillableCost(), 6.0);
+    assertNull(root.getTotals().getCurrencyCode());
+    assertEquals(root.getTotals().getBillableCost(), 21.0);
+
+    Node ag1 = result.getNode("ag1");
+    assertEquals(ag1.getEntityCrn(), "crn:ag1");
+    assertEquals(ag1.getParentId(), "e1");
+    assertEquals(ag1.getBillingUnitTotals().get("b1").getBillableCost(), 5.0);
+    assertEquals(ag1.getBillingUnitTotals().get("b2").getBillableCost(), 1.0);
+    assertEquals(ag1.getTotals().getNonBillableCost(), 0.5);
+    Node a4 = result.getNode("a4");
+    assertEquals(a4.getBillingUnitTotals().size(), 2);
+    assertEquals(a4.getTotals().getBillableCost(), 3.0);
+    assertSame(result.getParent("a4"), result.getNode("ag2"));
+    assertSame(result.getParent("ag1"), root);
+    assertNull(result.getParent("e1"));
+    // One request per page: 3 for the enterprise, 2 for each account group.
+    assertEquals(rollUp.getRequests(), 7);
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getPath(), "/v1/resource-usage-reports?enterprise_id=e1&children=true&month=2026-02");
+
+    // February is closed, so its reports are cached; March is the current month.
+    rollUp.rollUp("e1", "2026-02");
+    assertEquals(rollUp.getRequests(), 7);
+    assertEquals(rollUp.getCacheHits(), 3);
+    assertEquals(rollUp.getCacheSize(), 3);
+    rollUp.rollUp("e1", "2026-03");
+    rollUp.rollUp("e1", "2026-03");
+    assertEquals(rollUp.getRequests(), 7 + 7 + 7);
+    assertEquals(rollUp.getCacheSize(), 3);
+    rollUp.clearCache();
+    rollUp.rollUp("e1", "2026-02");
+    assertEquals(rollUp.getRequests(), 7 + 7 + 7 + 7);
+  }
+
+  @Test
+  public void testBillingUnitPartitions() throws Throwable {
+    UsageRollUp rollUp = new UsageRollUp.Builder(enterpriseUsageReportsService)
+      .billingUnitIds(Arrays.asList("b1", "b2"))
+      .maxConcurrency(2)
+      .clock(CLOCK)
+      .build();
+    Result result = rollUp.rollUp("e1", "2026-03");
+    assertEquals(rollUp.getRequests(), 8);
+    assertEquals(result.getRoot().getBillingUnitTotals().get("b1").getBillableCost(), 15.0);
+    assertEquals(result.getRoot().getBillingUnitTotals().get("b2").getBillableCost(), 6.0);
+    assertEquals(result.getNode("a4").getTotals().getBillableCost(), 3.0);
+    List<String> children = new ArrayList<>();
+    for (Node child : result.getRoot().getChildren()) {
+      children.add(child.getEntityId());
+    }
+    assertEquals(children, Arrays.asList("ag1", "a1", "a2"));
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    // Each report is returned one row per page.
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        List<String> rows = rows(url);
+        int offset = url.queryParameter("offset") != null ? Integer.parseInt(url.queryParameter("offset")) : 0;
+        StringBuilder body = new StringBuilder("{\"limit\": 1, \"reports\": [");
+        if (offset < rows.size()) {
+          body.append(rows.get(offset));
+        }
+        body.append("]");
+        if (offset + 1 < rows.size()) {
+          body.append(", \"next\": {\"href\": \"").append(url.encodedPath()).append("?offset=").append(offset + 1)
+            .append("\"}");
+        }
+        return new MockResponse().setHeader("Content-type", "application/json").setBody(body.append("}").toString());
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    enterpriseUsageReportsService = EnterpriseUsageReports.newInstance("testService");
+    enterpriseUsageReportsService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    enterpriseUsageReportsService = null;
+  }
+}
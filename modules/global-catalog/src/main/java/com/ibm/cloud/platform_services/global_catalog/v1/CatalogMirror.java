@@ -0,0 +1,826 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_catalog.v1;
+
+import com.ibm.cloud.platform_services.common.BoundedParallel;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.AuditSearchResult;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.CatalogEntriesPager;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.CatalogEntry;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.EntrySearchResult;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.GetAuditLogsOptions;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.GetChildObjectsOptions;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.GetChildObjectsPager;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.ListCatalogEntriesOptions;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.Overview;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.time.Clock;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * CatalogMirror keeps a local copy of the catalog entries returned by "listCatalogEntries" and, optionally, of their
+ * children returned by "getChildObjects", and answers "q"-style queries against it without any request.
+ *
+ * <p>
+ * {@link #load()} retrieves all entries, the pages that follow the first one concurrently, and then the children of
+ * each entry with at most {@link Builder#maxConcurrency(int)} requests in flight. {@link #refresh()} retrieves only
+ * what changed since: the entries sorted by their "updated" time, most recent first, up to the first entry updated
+ * before the last load or refresh started (less {@link Builder#clockSkew(long)}, so that the entries updated while
+ * it ran or visible late are not missed), and the children of the entries that changed. If the number of entries
+ * reported by the service then differs from the number of entries in the mirror, an entry was deleted and everything
+ * is loaded again; an entry that is deleted while another one is created is only detected by the next
+ * {@link #load()}.
+ *
+ * <p>
+ * A child can change without its parent entry being updated. The service only reports this in the audit log of the
+ * parent ("getAuditLogs"), one request per entry, so checking every entry would make each refresh as costly as a
+ * load. With {@link Builder#auditLogChecks(int)}, each refresh checks the audit logs of at most that many unchanged
+ * entries, those checked least recently first, and retrieves again the children of those with records since their
+ * last check; a catalog of N entries is thus fully checked every N / auditLogChecks refreshes.
+ *
+ * <p>
+ * Each load or refresh publishes a new immutable {@link Snapshot} with secondary indexes on the kind, tags, geo tags,
+ * pricing tags, parent ID and provider name of the entries, so that queries never block and never see a partial
+ * refresh.
+ */
+public class CatalogMirror {
+
+  private static final DateTimeFormatter STARTAT = DateTimeFormatter.ISO_INSTANT;
+
+  // An entry with its indexed fields, lower-cased.
+  private static final class Doc {
+    private final CatalogEntry entry;
+    private final String kind;
+    private final String parentId;
+    private final String provider;
+    private final Set<String> tags;
+    private final Set<String> geoTags;
+    private final Set<String> pricingTags;
+    private final String text;
+
+    private Doc(CatalogEntry entry) {
+      this.entry = entry;
+      this.kind = lower(entry.getKind());
+      this.parentId = lower(entry.getParentId());
+      this.provider = entry.getProvider() != null ? lower(entry.getProvider().name()) : null;
+      this.tags = lower(entry.getTags());
+      this.geoTags = lower(entry.getGeoTags());
+      this.pricingTags = lower(entry.getPricingTags());
+      StringBuilder text = new StringBuilder();
+      append(text, entry.getName());
+      if (entry.getOverviewUi() != null) {
+        for (Overview overview : entry.getOverviewUi().values()) {
+          if (overview != null) {
+            append(text, overview.displayName());
+            append(text, overview.description());
+          }
+        }
+      }
+      this.text = text.toString();
+    }
+
+    private static void append(StringBuilder text, String value) {
+      if (value != null) {
+        text.append(lower(value)).append('\n');
+      }
+    }
+
+    private Boolean rc() {
+      return entry.getMetadata() != null ? entry.getMetadata().isRcCompatible() : null;
+    }
+
+    private Boolean iam() {
+      return entry.getMetadata() != null && entry.getMetadata().getService() != null
+          ? entry.getMetadata().getService().iamCompatible() : null;
+    }
+  }
+
+  /**
+   * An immutable view of the mirrored catalog entries.
+   */
+  public static final class Snapshot {
+    private final Map<String, Doc> docs;
+    private final Map<String, List<Doc>> kinds = new HashMap<>();
+    private final Map<String, List<Doc>> tags = new HashMap<>();
+    private final Map<String, List<Doc>> geoTags = new HashMap<>();
+    private final Map<String, List<Doc>> pricingTags = new HashMap<>();
+    private final Map<String, List<Doc>> parents = new HashMap<>();
+    private final Map<String, List<Doc>> providers = new HashMap<>();
+    private final Date updated;
+
+    private Snapshot(Collection<CatalogEntry> entries) {
+      Map<String, Doc> docs = new LinkedHashMap<>(entries.size() * 2);
+      Date updated = null;
+      for (CatalogEntry entry : entries) {
+        if (entry.getId() != null && !docs.containsKey(entry.getId())) {
+          Doc doc = new Doc(entry);
+          docs.put(entry.getId(), doc);
+          post(kinds, doc.kind, doc);
+          post(parents, doc.parentId, doc);
+          post(providers, doc.provider, doc);
+          for (String tag : doc.tags) {
+            post(tags, tag, doc);
+          }
+          for (String tag : doc.geoTags) {
+            post(geoTags, tag, doc);
+          }
+          for (String tag : doc.pricingTags) {
+            post(pricingTags, tag, doc);
+          }
+          if (entry.getUpdated() != null && (updated == null || entry.getUpdated().after(updated))) {
+            updated = entry.getUpdated();
+          }
+        }
+      }
+      this.docs = docs;
+      this.updated = updated;
+    }
+
+    private static void post(Map<String, List<Doc>> index, String key, Doc doc) {
+      if (key != null) {
+        index.computeIfAbsent(key, k -> new ArrayList<Doc>()).add(doc);
+      }
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+      return docs.size();
+    }
+
+    /**
+     * Gets an entry.
+     *
+     * @param id the ID of the entry
+     * @return the entry, or null
+     */
+    public CatalogEntry getEntry(String id) {
+      Doc doc = docs.get(id);
+      return doc != null ? doc.entry : null;
+    }
+
+    /**
+     * Gets all entries, the entries returned by "listCatalogEntries" first.
+     *
+     * @return the entries
+     */
+    public List<CatalogEntry> getEntries() {
+      return entries(docs.values());
+    }
+
+    /**
+     * Gets the entries whose parent is a given entry.
+     *
+     * @param parentId the ID of the parent entry
+     * @return the child entries
+     */
+    public List<CatalogEntry> getChildren(String parentId) {
+      List<Doc> children = parentId != null ? parents.get(lower(parentId)) : null;
+      return entries(children != null ? children : Collections.<Doc>emptyList());
+    }
+
+    /**
+     * Gets the most recent "updated" time of the entries.
+     *
+     * @return the most recent "updated" time, or null
+     */
+    public Date getUpdated() {
+      return updated != null ? new Date(updated.getTime()) : null;
+    }
+
+    /**
+     * Returns the entries that match a query in the syntax of the "q" parameter of "listCatalogEntries": terms
+     * separated by spaces, each of which is either a filter or a keyword, all of which must match. The filters are
+     * <b>kind</b>:&lt;string&gt;, <b>tag</b>:&lt;string&gt;, <b>geo</b>:&lt;string&gt;, <b>price</b>:&lt;string&gt;,
+     * <b>parent</b>:&lt;id&gt;, <b>provider</b>:&lt;name&gt;, <b>rc</b>:[true|false], <b>iam</b>:[true|false] and
+     * <b>active</b>:[true|false]; a keyword matches the entries that contain it in their name, display name or
+     * description. A filter may be repeated, e.g. {@code tag:a tag:b} matches the entries with both tags. Matching
+     * ignores case.
+     *
+     * @param q the query
+     * @return the matching entries, in the order of {@link #getEntries()}
+     */
+    public List<CatalogEntry> query(String q) {
+      Validator.notNull(q, "q cannot be null");
+      List<Map.Entry<String, String>> filters = new ArrayList<>();
+      List<String> keywords = new ArrayList<>();
+      for (String term : lower(q).trim().split("\\s+")) {
+        int colon = term.indexOf(':');
+        String field = colon > 0 ? term.substring(0, colon) : null;
+        if (field != null && (index(field) != null || field.equals("rc") || field.equals("iam")
+            || field.equals("active"))) {
+          filters.add(new AbstractMap.SimpleImmutableEntry<>(field, term.substring(colon + 1)));
+        } else if (!term.isEmpty()) {
+          keywords.add(term);
+        }
+      }
+
+      // The candidates are the smallest posting list of the indexed filters, checked against the other terms.
+      Collection<Doc> candidates = docs.values();
+      for (Map.Entry<String, String> filter : filters) {
+        Map<String, List<Doc>> index = index(filter.getKey());
+        if (index != null) {
+          List<Doc> posting = index.get(filter.getValue());
+          if (posting == null) {
+            return new ArrayList<>();
+          }
+          if (posting.size() < candidates.size()) {
+            candidates = posting;
+          }
+        }
+      }
+      List<CatalogEntry> results = new ArrayList<>();
+      for (Doc doc : candidates) {
+        if (matches(doc, filters, keywords)) {
+          results.add(doc.entry);
+        }
+      }
+      return results;
+    }
+
+    private Map<String, List<Doc>> index(String field) {
+      switch (field) {
+        case "kind":
+          return kinds;
+        case "tag":
+          return tags;
+        case "geo":
+          return geoTags;
+        case "price":
+          return pricingTags;
+        case "parent":
+          return parents;
+        case "provider":
+          return providers;
+        default:
+          return null;
+      }
+    }
+
+    private static boolean matches(Doc doc, List<Map.Entry<String, String>> filters, List<String> keywords) {
+      for (Map.Entry<String, String> filter : filters) {
+        String value = filter.getValue();
+        boolean match;
+        switch (filter.getKey()) {
+          case "kind":
+            match = value.equals(doc.kind);
+            break;
+          case "tag":
+            match = doc.tags.contains(value);
+            break;
+          case "geo":
+            match = doc.geoTags.contains(value);
+            break;
+          case "price":
+            match = doc.pricingTags.contains(value);
+            break;
+          case "parent":
+            match = value.equals(doc.parentId);
+            break;
+          case "provider":
+            match = value.equals(doc.provider);
+            break;
+          case "rc":
+            match = value.equals(String.valueOf(Boolean.TRUE.equals(doc.rc())));
+            break;
+          case "iam":
+            match = value.equals(String.valueOf(Boolean.TRUE.equals(doc.iam())));
+            break;
+          default:
+            match = value.equals(String.valueOf(Boolean.TRUE.equals(doc.entry.isActive())));
+            break;
+        }
+        if (!match) {
+          return false;
+        }
+      }
+      for (String keyword : keywords) {
+        if (!doc.text.contains(keyword)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static List<CatalogEntry> entries(Collection<Doc> docs) {
+      List<CatalogEntry> entries = new ArrayList<>(docs.size());
+      for (Doc doc : docs) {
+        entries.add(doc.entry);
+      }
+      return entries;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private GlobalCatalog client;
+    private String account;
+    private String include;
+    private String languages;
+    private String childKind;
+    private long pageLimit = 200;
+    private int maxConcurrency = 8;
+    private int auditLogChecks;
+    private Executor executor;
+    private Clock clock = Clock.systemUTC();
+    private long clockSkew = 300000;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the GlobalCatalog instance used to retrieve the entries
+     */
+    public Builder(GlobalCatalog client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the account scope of the requests, for example "global".
+     *
+     * @param account the account
+     * @return the CatalogMirror builder
+     */
+    public Builder account(String account) {
+      this.account = account;
+      return this;
+    }
+
+    /**
+     * Set the properties to include in the entries, for example "*" or "metadata.ui:metadata.pricing". By default,
+     * the basic set of properties is retrieved.
+     *
+     * @param include the properties to include
+     * @return the CatalogMirror builder
+     */
+    public Builder include(String include) {
+      this.include = include;
+      return this;
+    }
+
+    /**
+     * Set the languages of the data strings, for example "en-us" or "*".
+     *
+     * @param languages the languages
+     * @return the CatalogMirror builder
+     */
+    public Builder languages(String languages) {
+      this.languages = languages;
+      return this;
+    }
+
+    /**
+     * Set the kind of the children to mirror for each entry, for example "plan" or "*" for all kinds. By default, the
+     * children are not mirrored.
+     *
+     * @param childKind the kind of the children
+     * @return the CatalogMirror builder
+     */
+    public Builder childKind(String childKind) {
+      this.childKind = childKind;
+      return this;
+    }
+
+    /**
+     * Set the number of entries per page. Defaults to 200, the maximum allowed by the service.
+     *
+     * @param pageLimit the number of entries per page
+     * @return the CatalogMirror builder
+     */
+    public Builder pageLimit(long pageLimit) {
+      this.pageLimit = pageLimit;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of requests in flight. Defaults to 8.
+     *
+     * @param maxConcurrency the maximum number of concurrent requests
+     * @return the CatalogMirror builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of unchanged entries whose audit log is checked by each refresh, to detect the children
+     * that changed without their parent. Only used with {@link #childKind(String)}. Defaults to 0, i.e. the children
+     * of unchanged entries are only retrieved again by a load.
+     *
+     * @param auditLogChecks the maximum number of "getAuditLogs" requests per refresh
+     * @return the CatalogMirror builder
+     */
+    public Builder auditLogChecks(int auditLogChecks) {
+      this.auditLogChecks = auditLogChecks;
+      return this;
+    }
+
+    /**
+     * Set the executor used to retrieve the entries. By default, a thread pool is created for each load or refresh.
+     *
+     * @param executor the executor
+     * @return the CatalogMirror builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Set the clock that determines the start time of each load and refresh. Defaults to the system clock.
+     *
+     * @param clock the clock
+     * @return the CatalogMirror builder
+     */
+    public Builder clock(Clock clock) {
+      this.clock = clock;
+      return this;
+    }
+
+    /**
+     * Set the margin, in milliseconds, by which a refresh goes back before the start of the previous load or refresh,
+     * to allow for the difference between the local clock and that of the service. Defaults to 300000 (5 minutes).
+     *
+     * @param clockSkew the clock skew margin in milliseconds
+     * @return the CatalogMirror builder
+     */
+    public Builder clockSkew(long clockSkew) {
+      this.clockSkew = clockSkew;
+      return this;
+    }
+
+    /**
+     * Builds a CatalogMirror.
+     *
+     * @return the new CatalogMirror instance
+     */
+    public CatalogMirror build() {
+      return new CatalogMirror(this);
+    }
+  }
+
+  private final GlobalCatalog client;
+  private final String account;
+  private final String include;
+  private final String languages;
+  private final String childKind;
+  private final long pageLimit;
+  private final int maxConcurrency;
+  private final int auditLogChecks;
+  private final Executor executor;
+  private final Clock clock;
+  private final long clockSkew;
+
+  // The entries returned by "listCatalogEntries" and the children of each of them; guarded by "this".
+  private Map<String, CatalogEntry> entries = new LinkedHashMap<>();
+  private Map<String, List<CatalogEntry>> children = new HashMap<>();
+  // The time since which the audit log of each entry is unchecked, least recently checked first; guarded by "this".
+  private Map<String, Date> audited = new LinkedHashMap<>();
+  // The start time of the last load or refresh less the clock skew, from which the next refresh starts; guarded by
+  // "this".
+  private Date since;
+  private volatile Snapshot snapshot = new Snapshot(Collections.<CatalogEntry>emptyList());
+
+  private final AtomicLong loads = new AtomicLong();
+  private final AtomicLong refreshes = new AtomicLong();
+  private final AtomicLong entriesRetrieved = new AtomicLong();
+  private final AtomicLong auditLogRequests = new AtomicLong();
+
+  protected CatalogMirror(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.pageLimit > 0, "pageLimit must be greater than zero");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    Validator.isTrue(builder.auditLogChecks >= 0, "auditLogChecks cannot be negative");
+    Validator.notNull(builder.clock, "clock cannot be null");
+    Validator.isTrue(builder.clockSkew >= 0, "clockSkew cannot be negative");
+    this.client = builder.client;
+    this.account = builder.account;
+    this.include = builder.include;
+    this.languages = builder.languages;
+    this.childKind = builder.childKind;
+    this.pageLimit = builder.pageLimit;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.auditLogChecks = builder.auditLogChecks;
+    this.executor = builder.executor;
+    this.clock = builder.clock;
+    this.clockSkew = builder.clockSkew;
+  }
+
+  /**
+   * Retrieves all entries (and their children) and publishes a new snapshot.
+   *
+   * @return the new snapshot
+   */
+  public synchronized Snapshot load() {
+    return run(workers -> {
+      load(workers);
+      return publish();
+    });
+  }
+
+  /**
+   * Retrieves the entries (and children) that changed since the last load or refresh and publishes a new snapshot.
+   * If nothing was loaded yet, or if entries were deleted, everything is loaded again.
+   *
+   * @return the new snapshot
+   */
+  public synchronized Snapshot refresh() {
+    final Date since = this.since;
+    if (since == null) {
+      return load();
+    }
+    return run(workers -> {
+      Date started = started();
+      refreshes.incrementAndGet();
+      Map<String, CatalogEntry> entries = new LinkedHashMap<>(this.entries);
+      Set<String> changed = new LinkedHashSet<>();
+      ListCatalogEntriesOptions options = listOptions().sortBy("updated").descending("true").build();
+      long offset = 0;
+      Long count = null;
+      boolean older = false;
+      while (!older) {
+        ListCatalogEntriesOptions.Builder page = options.newBuilder();
+        if (offset > 0) {
+          page.offset(offset);
+        }
+        EntrySearchResult result = client.listCatalogEntries(page.build()).execute().getResult();
+        List<CatalogEntry> items = result.getResources() != null
+            ? result.getResources() : Collections.<CatalogEntry>emptyList();
+        count = result.getCount();
+        for (CatalogEntry entry : items) {
+          if (entry.getUpdated() != null && entry.getUpdated().before(since)) {
+            older = true;
+            break;
+          }
+          entriesRetrieved.incrementAndGet();
+          CatalogEntry previous = entries.put(entry.getId(), entry);
+          if (previous == null || !previous.equals(entry)) {
+            changed.add(entry.getId());
+          }
+        }
+        offset += items.size();
+        if (items.isEmpty() || (count != null && offset >= count.longValue())) {
+          break;
+        }
+      }
+      if (count != null && count.longValue() != entries.size()) {
+        load(workers);
+        return publish();
+      }
+
+      Map<String, List<CatalogEntry>> children = new HashMap<>(this.children);
+      List<String> checked = new ArrayList<>();
+      if (childKind != null) {
+        final Map<String, String> startats = new HashMap<>();
+        for (Map.Entry<String, Date> audit : audited.entrySet()) {
+          if (checked.size() >= auditLogChecks) {
+            break;
+          }
+          if (entries.containsKey(audit.getKey()) && !changed.contains(audit.getKey())) {
+            Date from = audit.getValue() != null ? audit.getValue() : since;
+            checked.add(audit.getKey());
+            startats.put(audit.getKey(), STARTAT.format(from.toInstant().truncatedTo(ChronoUnit.SECONDS)));
+          }
+        }
+        List<Boolean> logged = BoundedParallel.map(checked, maxConcurrency, workers,
+            id -> hasAuditLogs(id, startats.get(id)));
+        List<String> stale = new ArrayList<>(changed);
+        for (int i = 0; i < checked.size(); i++) {
+          if (logged.get(i)) {
+            stale.add(checked.get(i));
+          }
+        }
+        List<List<CatalogEntry>> reloaded = BoundedParallel.map(stale, maxConcurrency, workers, this::children);
+        for (int i = 0; i < stale.size(); i++) {
+          children.put(stale.get(i), reloaded.get(i));
+        }
+      }
+      this.entries = entries;
+      this.children = children;
+      this.since = started;
+      // The checked and changed entries move to the end of the audit order, checked from the start of this refresh.
+      audited.keySet().removeAll(checked);
+      audited.keySet().removeAll(changed);
+      return publish();
+    });
+  }
+
+  /**
+   * Gets the current snapshot.
+   *
+   * @return the current snapshot
+   */
+  public Snapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Gets an entry of the current snapshot.
+   *
+   * @param id the ID of the entry
+   * @return the entry, or null
+   */
+  public CatalogEntry getEntry(String id) {
+    return snapshot.getEntry(id);
+  }
+
+  /**
+   * Gets the children of an entry of the current snapshot.
+   *
+   * @param parentId the ID of the parent entry
+   * @return the child entries
+   */
+  public List<CatalogEntry> getChildren(String parentId) {
+    return snapshot.getChildren(parentId);
+  }
+
+  /**
+   * Returns the entries of the current snapshot that match a query; see {@link Snapshot#query(String)}.
+   *
+   * @param q the query
+   * @return the matching entries
+   */
+  public List<CatalogEntry> query(String q) {
+    return snapshot.query(q);
+  }
+
+  /**
+   * Gets the number of full loads, including those triggered by a refresh.
+   *
+   * @return the number of full loads
+   */
+  public long getLoads() {
+    return loads.get();
+  }
+
+  /**
+   * Gets the number of incremental refreshes, including those that ended with a full load.
+   *
+   * @return the number of incremental refreshes
+   */
+  public long getRefreshes() {
+    return refreshes.get();
+  }
+
+  /**
+   * Gets the number of entries retrieved, children included.
+   *
+   * @return the number of entries retrieved
+   */
+  public long getEntriesRetrieved() {
+    return entriesRetrieved.get();
+  }
+
+  /**
+   * Gets the number of "getAuditLogs" requests.
+   *
+   * @return the number of audit log requests
+   */
+  public long getAuditLogRequests() {
+    return auditLogRequests.get();
+  }
+
+  private void load(Executor workers) {
+    Date started = started();
+    List<CatalogEntry> items = new CatalogEntriesPager(client, listOptions().build())
+        .getAllParallel(maxConcurrency, workers);
+    entriesRetrieved.addAndGet(items.size());
+    Map<String, CatalogEntry> entries = new LinkedHashMap<>();
+    for (CatalogEntry entry : items) {
+      entries.put(entry.getId(), entry);
+    }
+    Map<String, List<CatalogEntry>> children = new HashMap<>();
+    if (childKind != null) {
+      List<String> ids = new ArrayList<>(entries.keySet());
+      List<List<CatalogEntry>> loaded = BoundedParallel.map(ids, maxConcurrency, workers, this::children);
+      for (int i = 0; i < ids.size(); i++) {
+        children.put(ids.get(i), loaded.get(i));
+      }
+    }
+    this.entries = entries;
+    this.children = children;
+    this.audited = new LinkedHashMap<>();
+    this.since = started;
+    loads.incrementAndGet();
+  }
+
+  private Snapshot publish() {
+    List<CatalogEntry> all = new ArrayList<>(entries.values());
+    for (CatalogEntry entry : entries.values()) {
+      List<CatalogEntry> entryChildren = children.get(entry.getId());
+      if (entryChildren != null) {
+        all.addAll(entryChildren);
+      }
+    }
+    snapshot = new Snapshot(all);
+    audited.keySet().retainAll(entries.keySet());
+    for (String id : entries.keySet()) {
+      if (!audited.containsKey(id)) {
+        audited.put(id, since);
+      }
+    }
+    return snapshot;
+  }
+
+  private Date started() {
+    return new Date(clock.millis() - clockSkew);
+  }
+
+  private ListCatalogEntriesOptions.Builder listOptions() {
+    return new ListCatalogEntriesOptions.Builder()
+      .account(account)
+      .include(include)
+      .languages(languages)
+      .limit(pageLimit);
+  }
+
+  private List<CatalogEntry> children(String id) {
+    GetChildObjectsOptions options = new GetChildObjectsOptions.Builder(id, childKind)
+      .account(account)
+      .include(include)
+      .languages(languages)
+      .limit(pageLimit)
+      .build();
+    List<CatalogEntry> items = new GetChildObjectsPager(client, options).getAll();
+    entriesRetrieved.addAndGet(items.size());
+    return items;
+  }
+
+  private boolean hasAuditLogs(String id, String startat) {
+    GetAuditLogsOptions options = new GetAuditLogsOptions.Builder(id)
+      .account(account)
+      .ascending("true")
+      .startat(startat)
+      .limit(1)
+      .build();
+    auditLogRequests.incrementAndGet();
+    AuditSearchResult result = client.getAuditLogs(options).execute().getResult();
+    return result.getResources() != null && !result.getResources().isEmpty();
+  }
+
+  private <R> R run(Function<Executor, R> body) {
+    ExecutorService pool = executor == null ? Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+      Thread thread = new Thread(runnable, "catalog-mirror");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+    try {
+      return body.apply(executor != null ? executor : pool);
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+  }
+
+  private static String lower(String value) {
+    return value != null ? value.toLowerCase(Locale.ROOT) : null;
+  }
+
+  private static Set<String> lower(List<String> values) {
+    if (values == null || values.isEmpty()) {
+      return Collections.emptySet();
+    }
+    Set<String> set = new HashSet<>(values.size() * 2);
+    for (String value : values) {
+      if (value != null) {
+        set.add(lower(value));
+      }
+    }
+    return set;
+  }
+}
@@ -76,6 +76,54 @@ public class GlobalCatalog extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://globalcatalog.cloud.ibm.com/api/v1";
 
+  private static final ResponseConverter<EntrySearchResult> LIST_CATALOG_ENTRIES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EntrySearchResult>() { }.getType());
+
+  private static final ResponseConverter<CatalogEntry> CREATE_CATALOG_ENTRY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogEntry>() { }.getType());
+
+  private static final ResponseConverter<CatalogEntry> GET_CATALOG_ENTRY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogEntry>() { }.getType());
+
+  private static final ResponseConverter<CatalogEntry> UPDATE_CATALOG_ENTRY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogEntry>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_CATALOG_ENTRY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<EntrySearchResult> GET_CHILD_OBJECTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EntrySearchResult>() { }.getType());
+
+  private static final ResponseConverter<Void> RESTORE_CATALOG_ENTRY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Visibility> GET_VISIBILITY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Visibility>() { }.getType());
+
+  private static final ResponseConverter<Void> UPDATE_VISIBILITY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<PricingGet> GET_PRICING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PricingGet>() { }.getType());
+
+  private static final ResponseConverter<PricingSearchResult> GET_PRICING_DEPLOYMENTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PricingSearchResult>() { }.getType());
+
+  private static final ResponseConverter<AuditSearchResult> GET_AUDIT_LOGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditSearchResult>() { }.getType());
+
+  private static final ResponseConverter<Artifacts> LIST_ARTIFACTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Artifacts>() { }.getType());
+
+  private static final ResponseConverter<InputStream> GET_ARTIFACT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getInputStream();
+
+  private static final ResponseConverter<Void> UPLOAD_ARTIFACT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> DELETE_ARTIFACT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
  /**
    * Class method which constructs an instance of the `GlobalCatalog` client.
    * The default service name is used to configure the client instance.
@@ -160,8 +208,7 @@ public class GlobalCatalog extends BaseService {
     if (listCatalogEntriesOptions.limit() != null) {
       builder.query("_limit", String.valueOf(listCatalogEntriesOptions.limit()));
     }
-    ResponseConverter<EntrySearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EntrySearchResult>() { }.getType());
+    ResponseConverter<EntrySearchResult> responseConverter = LIST_CATALOG_ENTRIES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -223,8 +270,7 @@ public class GlobalCatalog extends BaseService {
       contentJson.add("metadata", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createCatalogEntryOptions.metadata()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<CatalogEntry> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogEntry>() { }.getType());
+    ResponseConverter<CatalogEntry> responseConverter = CREATE_CATALOG_ENTRY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -264,8 +310,7 @@ public class GlobalCatalog extends BaseService {
     if (getCatalogEntryOptions.depth() != null) {
       builder.query("depth", String.valueOf(getCatalogEntryOptions.depth()));
     }
-    ResponseConverter<CatalogEntry> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogEntry>() { }.getType());
+    ResponseConverter<CatalogEntry> responseConverter = GET_CATALOG_ENTRY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -319,8 +364,7 @@ public class GlobalCatalog extends BaseService {
       contentJson.add("metadata", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateCatalogEntryOptions.metadata()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<CatalogEntry> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CatalogEntry>() { }.getType());
+    ResponseConverter<CatalogEntry> responseConverter = UPDATE_CATALOG_ENTRY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -350,7 +394,7 @@ public class GlobalCatalog extends BaseService {
     if (deleteCatalogEntryOptions.force() != null) {
       builder.query("force", String.valueOf(deleteCatalogEntryOptions.force()));
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_CATALOG_ENTRY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -402,8 +446,7 @@ public class GlobalCatalog extends BaseService {
     if (getChildObjectsOptions.limit() != null) {
       builder.query("_limit", String.valueOf(getChildObjectsOptions.limit()));
     }
-    ResponseConverter<EntrySearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EntrySearchResult>() { }.getType());
+    ResponseConverter<EntrySearchResult> responseConverter = GET_CHILD_OBJECTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -428,7 +471,7 @@ public class GlobalCatalog extends BaseService {
     if (restoreCatalogEntryOptions.account() != null) {
       builder.query("account", String.valueOf(restoreCatalogEntryOptions.account()));
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = RESTORE_CATALOG_ENTRY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -456,8 +499,7 @@ public class GlobalCatalog extends BaseService {
     if (getVisibilityOptions.account() != null) {
       builder.query("account", String.valueOf(getVisibilityOptions.account()));
     }
-    ResponseConverter<Visibility> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Visibility>() { }.getType());
+    ResponseConverter<Visibility> responseConverter = GET_VISIBILITY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -497,7 +539,7 @@ public class GlobalCatalog extends BaseService {
       contentJson.add("exclude", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateVisibilityOptions.exclude()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UPDATE_VISIBILITY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -527,8 +569,7 @@ public class GlobalCatalog extends BaseService {
     if (getPricingOptions.deploymentRegion() != null) {
       builder.query("deployment_region", String.valueOf(getPricingOptions.deploymentRegion()));
     }
-    ResponseConverter<PricingGet> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PricingGet>() { }.getType());
+    ResponseConverter<PricingGet> responseConverter = GET_PRICING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -556,8 +597,7 @@ public class GlobalCatalog extends BaseService {
     if (getPricingDeploymentsOptions.account() != null) {
       builder.query("account", String.valueOf(getPricingDeploymentsOptions.account()));
     }
-    ResponseConverter<PricingSearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PricingSearchResult>() { }.getType());
+    ResponseConverter<PricingSearchResult> responseConverter = GET_PRICING_DEPLOYMENTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -595,8 +635,7 @@ public class GlobalCatalog extends BaseService {
     if (getAuditLogsOptions.limit() != null) {
       builder.query("_limit", String.valueOf(getAuditLogsOptions.limit()));
     }
-    ResponseConverter<AuditSearchResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AuditSearchResult>() { }.getType());
+    ResponseConverter<AuditSearchResult> responseConverter = GET_AUDIT_LOGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -622,8 +661,7 @@ public class GlobalCatalog extends BaseService {
     if (listArtifactsOptions.account() != null) {
       builder.query("account", String.valueOf(listArtifactsOptions.account()));
     }
-    ResponseConverter<Artifacts> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Artifacts>() { }.getType());
+    ResponseConverter<Artifacts> responseConverter = LIST_ARTIFACTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -652,7 +690,7 @@ public class GlobalCatalog extends BaseService {
     if (getArtifactOptions.account() != null) {
       builder.query("account", String.valueOf(getArtifactOptions.account()));
     }
-    ResponseConverter<InputStream> responseConverter = ResponseConverterUtils.getInputStream();
+    ResponseConverter<InputStream> responseConverter = GET_ARTIFACT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -683,7 +721,7 @@ public class GlobalCatalog extends BaseService {
     }
     builder.bodyContent(uploadArtifactOptions.contentType(), null,
       null, uploadArtifactOptions.artifact());
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UPLOAD_ARTIFACT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -709,7 +747,7 @@ public class GlobalCatalog extends BaseService {
     if (deleteArtifactOptions.account() != null) {
       builder.query("account", String.valueOf(deleteArtifactOptions.account()));
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ARTIFACT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
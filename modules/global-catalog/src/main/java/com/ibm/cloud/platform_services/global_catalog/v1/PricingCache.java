@@ -0,0 +1,684 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_catalog.v1;
+
+import com.ibm.cloud.platform_services.common.BoundedParallel;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.Amount;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.GetPricingDeploymentsOptions;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.GetPricingOptions;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.Metrics;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.Price;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.PricingGet;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.PricingSearchResult;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * PricingCache caches the results of the GlobalCatalog "getPricing" and "getPricingDeployments" methods, and the
+ * {@link Prices} of a plan for a country and a currency derived from them.
+ *
+ * <p>
+ * A cached result is returned without a request until it is older than the TTL. The cache holds at most maxEntries
+ * results and evicts the least recently used ones. Concurrent reads of the same result that is not cached share a
+ * single request: the first read retrieves it and the others wait for its result (or its failure).
+ *
+ * <p>
+ * {@link #getPricing(Collection)} and {@link #getPrices(Collection, String, String)} resolve many plans at once, with
+ * at most {@link Builder#maxConcurrency(int)} requests in flight. A PricingCache may be used by several threads. The
+ * number of hits, misses, shared requests and evictions are available from the getters of the cache.
+ */
+public class PricingCache {
+
+  private static final String PRICING = "pricing";
+  private static final String DEPLOYMENTS = "deployments";
+  private static final String PRICES = "prices";
+
+  /**
+   * The prices of the metrics of a plan for a country and a currency, held in primitive arrays.
+   */
+  public static final class Prices {
+    // The tier models by which cost() computes the cost of a metric.
+    private static final byte GRANULAR_TIER = 0;
+    private static final byte STEP_TIER = 1;
+    private static final byte BLOCK_TIER = 2;
+
+    private final String planId;
+    private final String country;
+    private final String currency;
+    private final String[] metricIds;
+    private final String[] tierModels;
+    private final byte[] tierCodes;
+    private final long[] chargeUnitQuantities;
+    // The tiers of metric m are at [offsets[m], offsets[m + 1]), sorted by quantity.
+    private final int[] offsets;
+    private final long[] quantityTiers;
+    private final double[] prices;
+    private final Map<String, Integer> metrics;
+
+    private Prices(String planId, String country, String currency, PricingGet pricing) {
+      this.planId = planId;
+      this.country = country;
+      this.currency = currency;
+      List<Metrics> all = pricing.getMetrics() != null ? pricing.getMetrics() : Collections.<Metrics>emptyList();
+      List<String> metricIds = new ArrayList<>(all.size());
+      List<String> tierModels = new ArrayList<>(all.size());
+      List<Long> chargeUnitQuantities = new ArrayList<>(all.size());
+      List<long[]> tiers = new ArrayList<>(all.size());
+      int count = 0;
+      for (Metrics metric : all) {
+        if (metric == null || metric.getMetricId() == null) {
+          continue;
+        }
+        Amount amount = amount(metric.getAmounts(), country, currency);
+        List<Price> amountPrices = amount != null && amount.prices() != null
+            ? amount.prices() : Collections.<Price>emptyList();
+        // Each tier is packed as {quantity tier, raw bits of the price} so that they can be sorted together.
+        long[] packed = new long[amountPrices.size() * 2];
+        int n = 0;
+        for (Price price : amountPrices) {
+          if (price != null && price.price() != null) {
+            packed[n * 2] = price.quantityTier() != null ? price.quantityTier() : Long.MAX_VALUE;
+            packed[n * 2 + 1] = Double.doubleToRawLongBits(price.price());
+            n++;
+          }
+        }
+        metricIds.add(metric.getMetricId());
+        tierModels.add(metric.getTierModel());
+        chargeUnitQuantities.add(metric.getChargeUnitQuantity() != null ? metric.getChargeUnitQuantity() : 1L);
+        tiers.add(sort(packed, n));
+        count += n;
+      }
+      this.metricIds = metricIds.toArray(new String[0]);
+      this.tierModels = tierModels.toArray(new String[0]);
+      this.tierCodes = new byte[metricIds.size()];
+      this.chargeUnitQuantities = new long[metricIds.size()];
+      this.offsets = new int[metricIds.size() + 1];
+      this.quantityTiers = new long[count];
+      this.prices = new double[count];
+      this.metrics = new HashMap<>(metricIds.size() * 2);
+      int at = 0;
+      for (int m = 0; m < this.metricIds.length; m++) {
+        this.metrics.put(this.metricIds[m], m);
+        this.tierCodes[m] = tierCode(this.tierModels[m]);
+        this.chargeUnitQuantities[m] = chargeUnitQuantities.get(m) > 0 ? chargeUnitQuantities.get(m) : 1;
+        this.offsets[m] = at;
+        long[] packed = tiers.get(m);
+        for (int i = 0; i < packed.length; i += 2) {
+          quantityTiers[at] = packed[i];
+          prices[at] = Double.longBitsToDouble(packed[i + 1]);
+          at++;
+        }
+      }
+      this.offsets[this.metricIds.length] = at;
+    }
+
+    private static Amount amount(List<Amount> amounts, String country, String currency) {
+      if (amounts != null) {
+        for (Amount amount : amounts) {
+          if (amount != null && country.equalsIgnoreCase(amount.country())
+              && (currency == null || currency.equalsIgnoreCase(amount.currency()))) {
+            return amount;
+          }
+        }
+      }
+      return null;
+    }
+
+    private static byte tierCode(String tierModel) {
+      String model = tierModel != null ? tierModel.toLowerCase(Locale.ROOT).replaceAll("[\\s_]", "") : "";
+      switch (model) {
+        case "steptier":
+          return STEP_TIER;
+        case "blocktier":
+          return BLOCK_TIER;
+        default:
+          return GRANULAR_TIER;
+      }
+    }
+
+    private static long[] sort(long[] packed, int n) {
+      Integer[] order = new Integer[n];
+      for (int i = 0; i < n; i++) {
+        order[i] = i;
+      }
+      Arrays.sort(order, (a, b) -> Long.compare(packed[a * 2], packed[b * 2]));
+      long[] sorted = new long[n * 2];
+      for (int i = 0; i < n; i++) {
+        sorted[i * 2] = packed[order[i] * 2];
+        sorted[i * 2 + 1] = packed[order[i] * 2 + 1];
+      }
+      return sorted;
+    }
+
+    /**
+     * Gets the plan ID.
+     *
+     * @return the plan ID
+     */
+    public String getPlanId() {
+      return planId;
+    }
+
+    /**
+     * Gets the country.
+     *
+     * @return the country
+     */
+    public String getCountry() {
+      return country;
+    }
+
+    /**
+     * Gets the currency, or null if the prices are those of the first currency of the country.
+     *
+     * @return the currency
+     */
+    public String getCurrency() {
+      return currency;
+    }
+
+    /**
+     * Gets the IDs of the metrics of the plan.
+     *
+     * @return the metric IDs
+     */
+    public List<String> getMetricIds() {
+      return Collections.unmodifiableList(Arrays.asList(metricIds));
+    }
+
+    /**
+     * Gets the tier model of a metric.
+     *
+     * @param metricId the metric ID
+     * @return the tier model
+     */
+    public String getTierModel(String metricId) {
+      return tierModels[metric(metricId)];
+    }
+
+    /**
+     * Gets the number of units of a metric to which its prices apply.
+     *
+     * @param metricId the metric ID
+     * @return the charge unit quantity
+     */
+    public long getChargeUnitQuantity(String metricId) {
+      return chargeUnitQuantities[metric(metricId)];
+    }
+
+    /**
+     * Gets the number of price tiers of a metric for the country and currency, 0 if the metric has no price for them.
+     *
+     * @param metricId the metric ID
+     * @return the number of price tiers
+     */
+    public int getTierCount(String metricId) {
+      int m = metric(metricId);
+      return offsets[m + 1] - offsets[m];
+    }
+
+    /**
+     * Gets the upper quantity of a price tier of a metric.
+     *
+     * @param metricId the metric ID
+     * @param tier the index of the tier, in increasing quantity order
+     * @return the quantity tier
+     */
+    public long getQuantityTier(String metricId, int tier) {
+      return quantityTiers[tier(metricId, tier)];
+    }
+
+    /**
+     * Gets the unit price of a price tier of a metric.
+     *
+     * @param metricId the metric ID
+     * @param tier the index of the tier, in increasing quantity order
+     * @return the price
+     */
+    public double getPrice(String metricId, int tier) {
+      return prices[tier(metricId, tier)];
+    }
+
+    /**
+     * Computes the cost of a quantity of a metric, according to its tier model. With "Granular Tier", the units of
+     * each tier are charged at the price of that tier; with "Step Tier", all units are charged at the price of the
+     * tier that contains the quantity; with "Block Tier", the cost is the price of the tier that contains the
+     * quantity; any other model, such as "Linear", is computed as "Granular Tier" (so that a metric with a single tier
+     * charges all units at the price of that tier). A quantity beyond the last tier is charged as part of the last
+     * tier; a metric without prices costs 0. The prices and the quantity tiers apply to a number of units given by the
+     * charge unit quantity of the metric (e.g. a price per 1000 API calls), by which the quantity is divided.
+     *
+     * @param metricId the metric ID
+     * @param quantity the quantity, in units of the metric
+     * @return the cost
+     */
+    public double cost(String metricId, double quantity) {
+      int m = metric(metricId);
+      int from = offsets[m];
+      int to = offsets[m + 1];
+      if (from == to || quantity <= 0) {
+        return 0;
+      }
+      quantity /= chargeUnitQuantities[m];
+      byte model = tierCodes[m];
+      if (model != GRANULAR_TIER) {
+        int tier = from;
+        while (tier < to - 1 && quantity > quantityTiers[tier]) {
+          tier++;
+        }
+        return model == BLOCK_TIER ? prices[tier] : quantity * prices[tier];
+      }
+      double cost = 0;
+      double previous = 0;
+      for (int tier = from; tier < to && quantity > previous; tier++) {
+        double upper = tier == to - 1 ? quantity : Math.min(quantity, (double) quantityTiers[tier]);
+        cost += (upper - previous) * prices[tier];
+        previous = upper;
+      }
+      return cost;
+    }
+
+    private int metric(String metricId) {
+      Integer m = metrics.get(metricId);
+      if (m == null) {
+        throw new IllegalArgumentException("Unknown metric: " + metricId);
+      }
+      return m;
+    }
+
+    private int tier(String metricId, int tier) {
+      int m = metric(metricId);
+      Validator.isTrue(tier >= 0 && tier < offsets[m + 1] - offsets[m], "tier out of range");
+      return offsets[m] + tier;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private GlobalCatalog client;
+    private String account;
+    private String deploymentRegion;
+    private int maxEntries = 10000;
+    private long ttl = 3600000;
+    private int maxConcurrency = 8;
+    private Executor executor;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the GlobalCatalog instance used to retrieve the pricing
+     */
+    public Builder(GlobalCatalog client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the account scope of the requests, for example "global".
+     *
+     * @param account the account
+     * @return the PricingCache builder
+     */
+    public Builder account(String account) {
+      this.account = account;
+      return this;
+    }
+
+    /**
+     * Set the deployment region for which "getPricing" returns the pricing.
+     *
+     * @param deploymentRegion the deployment region
+     * @return the PricingCache builder
+     */
+    public Builder deploymentRegion(String deploymentRegion) {
+      this.deploymentRegion = deploymentRegion;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of cached results. Defaults to 10000.
+     *
+     * @param maxEntries the maximum number of cached results
+     * @return the PricingCache builder
+     */
+    public Builder maxEntries(int maxEntries) {
+      this.maxEntries = maxEntries;
+      return this;
+    }
+
+    /**
+     * Set the time, in milliseconds, during which a cached result is returned without a request. Defaults to
+     * 3600000.
+     *
+     * @param ttl the TTL in milliseconds
+     * @return the PricingCache builder
+     */
+    public Builder ttl(long ttl) {
+      this.ttl = ttl;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of requests in flight for the batch methods. Defaults to 8.
+     *
+     * @param maxConcurrency the maximum number of concurrent requests
+     * @return the PricingCache builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the executor used by the batch methods. By default, a thread pool is created for each batch.
+     *
+     * @param executor the executor
+     * @return the PricingCache builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds a PricingCache.
+     *
+     * @return the new PricingCache instance
+     */
+    public PricingCache build() {
+      return new PricingCache(this);
+    }
+  }
+
+  private static final class Entry {
+    final Object value;
+    final long expires;
+
+    Entry(Object value, long expires) {
+      this.value = value;
+      this.expires = expires;
+    }
+  }
+
+  private final GlobalCatalog client;
+  private final String account;
+  private final String deploymentRegion;
+  private final int maxEntries;
+  private final long ttl;
+  private final int maxConcurrency;
+  private final Executor executor;
+
+  // The entries in access order. Guarded by "this".
+  private final LinkedHashMap<String, Entry> entries;
+  // The requests in flight, shared by the concurrent reads of the same key.
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong shared = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  protected PricingCache(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.maxEntries > 0, "maxEntries must be greater than zero");
+    Validator.isTrue(builder.ttl >= 0, "ttl cannot be negative");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    this.client = builder.client;
+    this.account = builder.account;
+    this.deploymentRegion = builder.deploymentRegion;
+    this.maxEntries = builder.maxEntries;
+    this.ttl = builder.ttl;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.executor = builder.executor;
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        if (size() <= PricingCache.this.maxEntries) {
+          return false;
+        }
+        evictions.incrementAndGet();
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Retrieve the pricing of a plan (see GlobalCatalog.getPricing()).
+   *
+   * @param planId the ID of the plan
+   * @return the pricing
+   */
+  public PricingGet getPricing(final String planId) {
+    Validator.notNull(planId, "planId cannot be null");
+    return get(key(PRICING, planId), () -> {
+      GetPricingOptions options = new GetPricingOptions.Builder()
+        .id(planId)
+        .account(account)
+        .deploymentRegion(deploymentRegion)
+        .build();
+      return client.getPricing(options).execute().getResult();
+    });
+  }
+
+  /**
+   * Retrieve the pricing of each deployment of a plan (see GlobalCatalog.getPricingDeployments()).
+   *
+   * @param planId the ID of the plan
+   * @return the pricing of the deployments
+   */
+  public PricingSearchResult getPricingDeployments(final String planId) {
+    Validator.notNull(planId, "planId cannot be null");
+    return get(key(DEPLOYMENTS, planId), () -> {
+      GetPricingDeploymentsOptions options = new GetPricingDeploymentsOptions.Builder()
+        .id(planId)
+        .account(account)
+        .build();
+      return client.getPricingDeployments(options).execute().getResult();
+    });
+  }
+
+  /**
+   * Gets the prices of a plan for a country and a currency.
+   *
+   * @param planId the ID of the plan
+   * @param country the country, for example "USA"
+   * @param currency the currency, for example "USD", or null for the first currency of the country
+   * @return the prices
+   */
+  public Prices getPrices(final String planId, final String country, final String currency) {
+    Validator.notNull(planId, "planId cannot be null");
+    Validator.notNull(country, "country cannot be null");
+    return get(key(PRICES, planId + '\u0000' + country.toUpperCase(Locale.ROOT) + '\u0000'
+        + (currency != null ? currency.toUpperCase(Locale.ROOT) : "")),
+        () -> new Prices(planId, country, currency, getPricing(planId)));
+  }
+
+  /**
+   * Retrieve the pricing of several plans.
+   *
+   * @param planIds the IDs of the plans
+   * @return the pricing of each plan, in the order of the IDs
+   */
+  public Map<String, PricingGet> getPricing(Collection<String> planIds) {
+    return resolve(planIds, this::getPricing);
+  }
+
+  /**
+   * Gets the prices of several plans for a country and a currency.
+   *
+   * @param planIds the IDs of the plans
+   * @param country the country, for example "USA"
+   * @param currency the currency, for example "USD", or null for the first currency of the country
+   * @return the prices of each plan, in the order of the IDs
+   */
+  public Map<String, Prices> getPrices(Collection<String> planIds, final String country, final String currency) {
+    Validator.notNull(country, "country cannot be null");
+    return resolve(planIds, planId -> getPrices(planId, country, currency));
+  }
+
+  /**
+   * Invalidates all cached results.
+   */
+  public synchronized void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * Gets the number of cached results.
+   *
+   * @return the number of cached results
+   */
+  public synchronized int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the number of reads answered from the cache without a request.
+   *
+   * @return the number of hits
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * Gets the number of reads that retrieved or computed their result.
+   *
+   * @return the number of misses
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * Gets the number of reads that waited for the result of a concurrent read of the same key.
+   *
+   * @return the number of shared reads
+   */
+  public long getShared() {
+    return shared.get();
+  }
+
+  /**
+   * Gets the number of cached results that were evicted because the cache was full.
+   *
+   * @return the number of evictions
+   */
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  private static String key(String type, String id) {
+    return type + '\u0000' + id;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T get(String key, Supplier<T> loader) {
+    T cached = cached(key);
+    if (cached != null) {
+      return cached;
+    }
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> current = inFlight.putIfAbsent(key, flight);
+    if (current != null) {
+      shared.incrementAndGet();
+      try {
+        return (T) current.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+    try {
+      // The result may have been cached by a read that completed since the first lookup.
+      T value = cached(key);
+      if (value == null) {
+        misses.incrementAndGet();
+        value = loader.get();
+        synchronized (this) {
+          entries.put(key, new Entry(value, System.currentTimeMillis() + ttl));
+        }
+      }
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private synchronized <T> T cached(String key) {
+    Entry entry = entries.get(key);
+    if (entry != null && System.currentTimeMillis() < entry.expires) {
+      hits.incrementAndGet();
+      return (T) entry.value;
+    }
+    return null;
+  }
+
+  private <R> Map<String, R> resolve(Collection<String> planIds, Function<String, R> task) {
+    Validator.notNull(planIds, "planIds cannot be null");
+    List<String> ids = new ArrayList<>(new LinkedHashSet<>(planIds));
+    int workerCount = Math.min(maxConcurrency, ids.size());
+    ExecutorService pool = null;
+    Executor workers = executor;
+    if (workers == null && workerCount > 0) {
+      pool = Executors.newFixedThreadPool(workerCount, runnable -> {
+        Thread thread = new Thread(runnable, "pricing-cache");
+        thread.setDaemon(true);
+        return thread;
+      });
+      workers = pool;
+    }
+    List<R> results;
+    try {
+      results = BoundedParallel.map(ids, maxConcurrency, workers, task);
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+    Map<String, R> map = new LinkedHashMap<>();
+    for (int i = 0; i < ids.size(); i++) {
+      map.put(ids.get(i), results.get(i));
+    }
+    return map;
+  }
+}
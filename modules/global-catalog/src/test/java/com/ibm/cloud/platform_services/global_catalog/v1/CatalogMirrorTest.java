@@ -0,0 +1,320 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_catalog.v1;
+
+import com.ibm.cloud.platform_services.global_catalog.v1.CatalogMirror.Snapshot;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.CatalogEntry;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the CatalogMirror class.
+ */
+public class CatalogMirrorTest {
+
+  protected MockWebServer server;
+  protected GlobalCatalog globalCatalogService;
+
+  // The catalog served by the mock server: the JSON and "updated" time of each entry, and the children of each entry.
+  private Map<String, String> entries;
+  private Map<String, String> updated;
+  private Map<String, List<String>> children;
+  private Set<String> logged;
+
+  // The time at which the loads and refreshes of the tests start.
+  private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-10T00:00:00Z"), ZoneOffset.UTC);
+
+  private void put(String id, String name, String kind, String parentId, String time, String tags, String geoTags,
+      String pricingTags, boolean rc) {
+    String json = "{\"id\": \"" + id + "\", \"name\": \"" + name + "\", \"kind\": \"" + kind + "\", "
+      + (parentId != null ? "\"parent_id\": \"" + parentId + "\", " : "")
+      + "\"overview_ui\": {\"en\": {\"display_name\": \"" + name.toUpperCase() + "\", \"description\": \"The " + name
+      + " service\"}}, \"tags\": [" + tags + "], \"geo_tags\": [" + geoTags + "], \"pricing_tags\": [" + pricingTags
+      + "], \"provider\": {\"name\": \"IBM\", \"email\": \"ibm@ibm.com\"}, \"active\": true, "
+      + "\"metadata\": {\"rc_compatible\": " + rc + "}, \"updated\": \"" + time + "\"}";
+    if (parentId == null) {
+      entries.put(id, json);
+      updated.put(id, time);
+    } else {
+      children.computeIfAbsent(parentId, k -> new ArrayList<String>()).add(json);
+    }
+  }
+
+  private static MockResponse page(HttpUrl url, List<String> items) {
+    int offset = url.queryParameter("_offset") != null ? Integer.parseInt(url.queryParameter("_offset")) : 0;
+    int limit = Integer.parseInt(url.queryParameter("_limit"));
+    List<String> window = items.subList(Math.min(offset, items.size()), Math.min(offset + limit, items.size()));
+    String body = "{\"offset\": " + offset + ", \"limit\": " + limit + ", \"count\": " + items.size()
+      + ", \"resource_count\": " + window.size() + ", \"resources\": [" + String.join(", ", window) + "]}";
+    return new MockResponse().setHeader("Content-type", "application/json").setBody(body);
+  }
+
+  @Test
+  public void testLoadAndQuery() throws Throwable {
+    CatalogMirror mirror = new CatalogMirror.Builder(globalCatalogService).childKind("plan").pageLimit(2).build();
+    Snapshot snapshot = mirror.load();
+    assertEquals(snapshot.size(), 8);
+    assertEquals(mirror.getLoads(), 1);
+    assertEquals(mirror.getEntriesRetrieved(), 8);
+    // 3 pages of entries and one page of children per entry.
+    assertEquals(server.getRequestCount(), 3 + 5);
+    assertEquals(snapshot.getUpdated().toInstant().toString(), "2026-01-05T00:00:00Z");
+    assertSame(mirror.getSnapshot(), snapshot);
+
+    assertEquals(ids(mirror.query("kind:service")), Arrays.asList("cos", "kms", "db"));
+    assertEquals(ids(mirror.query("KIND:Service geo:us-south")), Arrays.asList("cos", "db"));
+    assertEquals(ids(mirror.query("tag:ibm_created price:free")), Arrays.asList("cos"));
+    assertEquals(ids(mirror.query("parent:cos")), Arrays.asList("cos-lite", "cos-standard"));
+    assertEquals(ids(mirror.query("kind:plan price:free")), Arrays.asList("cos-lite"));
+    assertEquals(ids(mirror.query("provider:ibm rc:true kind:iaas")), Arrays.asList("vpc"));
+    assertEquals(ids(mirror.query("rc:false")), Arrays.asList("kms", "db-plan"));
+    assertEquals(ids(mirror.query("cos")), Arrays.asList("cos", "cos-lite", "cos-standard"));
+    assertEquals(ids(mirror.query("kind:plan STANDARD")), Arrays.asList("cos-standard"));
+    assertEquals(ids(mirror.query("active:true kind:platform_service")), Arrays.asList("logs"));
+    assertTrue(mirror.query("kind:unknown").isEmpty());
+    assertTrue(mirror.query("kind:service tag:unknown").isEmpty());
+    // Repeated filters must all match.
+    assertEquals(ids(mirror.query("tag:storage tag:ibm_created")), Arrays.asList("cos"));
+    assertEquals(ids(mirror.query("geo:us-south geo:eu-de")), Arrays.asList("cos"));
+    assertTrue(mirror.query("tag:storage tag:ibm_created kind:service price:unknown").isEmpty());
+    assertTrue(mirror.query("kind:plan kind:service").isEmpty());
+    assertEquals(mirror.query("").size(), 8);
+
+    assertEquals(mirror.getEntry("kms").getName(), "kms");
+    assertNull(mirror.getEntry("unknown"));
+    assertEquals(ids(mirror.getChildren("db")), Arrays.asList("db-plan"));
+    assertTrue(mirror.getChildren("kms").isEmpty());
+    assertEquals(ids(snapshot.getEntries()).subList(0, 5), Arrays.asList("cos", "kms", "vpc", "db", "logs"));
+  }
+
+  @Test
+  public void testRefresh() throws Throwable {
+    CatalogMirror mirror = new CatalogMirror.Builder(globalCatalogService)
+      .childKind("plan")
+      .pageLimit(2)
+      .maxConcurrency(2)
+      .auditLogChecks(10)
+      .clock(CLOCK)
+      .build();
+    mirror.load();
+    Snapshot loaded = mirror.getSnapshot();
+
+    // kms is updated and a plan is added to db (which is recorded in its audit log).
+    put("kms", "key-protect", "service", null, "2026-02-01T00:00:00.000Z", "\"security\"", "\"eu-de\"", "", false);
+    put("db-plus", "db-plus", "plan", "db", "2026-02-01T00:00:00.000Z", "", "\"us-south\"", "\"paygo\"", false);
+    logged.add("db");
+    int requests = server.getRequestCount();
+    Snapshot snapshot = mirror.refresh();
+    assertNotSame(snapshot, loaded);
+    assertEquals(mirror.getLoads(), 1);
+    assertEquals(mirror.getRefreshes(), 1);
+    assertEquals(snapshot.size(), 9);
+    assertEquals(snapshot.getEntry("kms").getName(), "key-protect");
+    assertEquals(loaded.getEntry("kms").getName(), "kms");
+    assertEquals(ids(mirror.query("tag:security")), Arrays.asList("kms"));
+    assertEquals(ids(mirror.getChildren("db")), Arrays.asList("db-plan", "db-plus"));
+    assertEquals(ids(mirror.query("price:paygo geo:us-south kind:plan")), Arrays.asList("db-plus"));
+    assertEquals(ids(mirror.getChildren("cos")), Arrays.asList("cos-lite", "cos-standard"));
+    assertEquals(snapshot.getUpdated().toInstant().toString(), "2026-02-01T00:00:00Z");
+    // The first page of the entries sorted by update time reaches entries updated before the load started (less the
+    // clock skew); audit logs are checked for the 4 unchanged entries; the children of kms and db are retrieved again.
+    assertEquals(mirror.getAuditLogRequests(), 4);
+    assertEquals(server.getRequestCount() - requests, 1 + 4 + 2);
+    RecordedRequest request = null;
+    for (int i = 0; i <= requests; i++) {
+      request = server.takeRequest();
+    }
+    assertEquals(request.getRequestUrl().queryParameter("sort-by"), "updated");
+    assertEquals(request.getRequestUrl().queryParameter("descending"), "true");
+    for (int i = 0; i < 4; i++) {
+      request = server.takeRequest();
+      if (request.getRequestUrl().encodedPath().endsWith("/logs")) {
+        break;
+      }
+    }
+    assertEquals(request.getRequestUrl().queryParameter("startat"), "2026-01-09T23:55:00Z");
+    assertEquals(request.getRequestUrl().queryParameter("ascending"), "true");
+
+    // Nothing changed.
+    logged.clear();
+    requests = server.getRequestCount();
+    mirror.refresh();
+    assertEquals(mirror.getLoads(), 1);
+    assertEquals(server.getRequestCount() - requests, 1 + 5);
+
+    // A deleted entry makes the count differ, so everything is loaded again.
+    entries.remove("vpc");
+    snapshot = mirror.refresh();
+    assertEquals(mirror.getLoads(), 2);
+    assertNull(snapshot.getEntry("vpc"));
+    assertEquals(snapshot.size(), 8);
+    assertEquals(mirror.getRefreshes(), 3);
+  }
+
+  @Test
+  public void testRefreshFromStartTime() throws Throwable {
+    // vpc is updated while the load runs, after the page with logs was retrieved and before the page with vpc.
+    put("vpc", "vpc", "iaas", null, "2026-01-10T00:00:06.000Z", "", "\"us-south\"", "", true);
+    CatalogMirror mirror = new CatalogMirror.Builder(globalCatalogService).pageLimit(2).clock(CLOCK).build();
+    mirror.load();
+    assertEquals(mirror.getSnapshot().getUpdated().toInstant().toString(), "2026-01-10T00:00:06Z");
+
+    // logs was updated before vpc, but after the load started: the refresh retrieves it.
+    put("logs", "logging", "platform_service", null, "2026-01-10T00:00:05.000Z", "", "", "", true);
+    mirror.refresh();
+    assertEquals(mirror.getLoads(), 1);
+    assertEquals(mirror.getEntry("logs").getName(), "logging");
+  }
+
+  @Test
+  public void testAuditLogChecksAreBounded() throws Throwable {
+    for (int i = 0; i < 45; i++) {
+      put("svc" + i, "svc" + i, "service", null, "2026-01-01T00:00:00.000Z", "", "", "", true);
+    }
+    put("svc7-plan", "svc7-plan", "plan", "svc7", "2026-01-01T00:00:00.000Z", "", "", "", true);
+
+    // By default, the audit logs are not checked, so a refresh costs one request whatever the size of the catalog.
+    CatalogMirror unchecked = new CatalogMirror.Builder(globalCatalogService).childKind("plan").build();
+    unchecked.load();
+    int requests = server.getRequestCount();
+    unchecked.refresh();
+    assertEquals(server.getRequestCount() - requests, 1);
+    assertEquals(unchecked.getAuditLogRequests(), 0);
+
+    // Otherwise, each refresh checks at most "auditLogChecks" of the 50 entries, until all have been checked.
+    CatalogMirror mirror = new CatalogMirror.Builder(globalCatalogService)
+      .childKind("plan")
+      .auditLogChecks(10)
+      .build();
+    mirror.load();
+    put("svc7-extra", "svc7-extra", "plan", "svc7", "2026-01-01T00:00:00.000Z", "", "", "", true);
+    logged.add("svc7");
+    int refreshes = 0;
+    while (mirror.getChildren("svc7").size() < 2) {
+      requests = server.getRequestCount();
+      long auditLogRequests = mirror.getAuditLogRequests();
+      mirror.refresh();
+      assertTrue(mirror.getAuditLogRequests() - auditLogRequests <= 10);
+      assertTrue(server.getRequestCount() - requests <= 1 + 10 + 1);
+      refreshes++;
+      assertTrue(refreshes <= 5, "svc7 was not checked after 5 refreshes");
+    }
+    assertEquals(mirror.getAuditLogRequests(), refreshes * 10);
+    assertEquals(ids(mirror.getChildren("svc7")), Arrays.asList("svc7-plan", "svc7-extra"));
+  }
+
+  @Test
+  public void testRefreshBeforeLoad() throws Throwable {
+    CatalogMirror mirror = new CatalogMirror.Builder(globalCatalogService).build();
+    assertEquals(mirror.getSnapshot().size(), 0);
+    assertTrue(mirror.query("kind:service").isEmpty());
+    mirror.refresh();
+    assertEquals(mirror.getLoads(), 1);
+    assertEquals(mirror.getSnapshot().size(), 5);
+    assertEquals(server.getRequestCount(), 1);
+  }
+
+  private static List<String> ids(List<CatalogEntry> entries) {
+    List<String> ids = new ArrayList<>();
+    for (CatalogEntry entry : entries) {
+      ids.add(entry.getId());
+    }
+    return ids;
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    entries = Collections.synchronizedMap(new LinkedHashMap<String, String>());
+    updated = Collections.synchronizedMap(new LinkedHashMap<String, String>());
+    children = Collections.synchronizedMap(new LinkedHashMap<String, List<String>>());
+    logged = Collections.synchronizedSet(new HashSet<String>());
+    put("cos", "cos", "service", null, "2026-01-01T00:00:00.000Z", "\"ibm_created\", \"storage\"",
+        "\"us-south\", \"eu-de\"", "\"free\", \"paygo\"", true);
+    put("kms", "kms", "service", null, "2026-01-02T00:00:00.000Z", "\"ibm_created\"", "\"eu-de\"", "\"paygo\"", false);
+    put("vpc", "vpc", "iaas", null, "2026-01-05T00:00:00.000Z", "", "\"us-south\"", "", true);
+    put("db", "db", "service", null, "2026-01-03T00:00:00.000Z", "", "\"us-south\"", "\"paygo\"", true);
+    put("logs", "logs", "platform_service", null, "2026-01-04T00:00:00.000Z", "", "", "", true);
+    put("cos-lite", "cos-lite", "plan", "cos", "2026-01-01T00:00:00.000Z", "", "", "\"free\"", true);
+    put("cos-standard", "cos-standard", "plan", "cos", "2026-01-01T00:00:00.000Z", "", "", "\"paygo\"", true);
+    put("db-plan", "db-plan", "plan", "db", "2026-01-01T00:00:00.000Z", "", "", "", false);
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        HttpUrl url = request.getRequestUrl();
+        List<String> segments = url.pathSegments();
+        if (segments.size() == 2 && segments.get(1).equals("logs")) {
+          String body = logged.contains(segments.get(0))
+              ? "{\"count\": 1, \"resources\": [{\"id\": \"" + segments.get(0) + "\", \"type\": \"update\"}]}"
+              : "{\"count\": 0, \"resources\": []}";
+          return new MockResponse().setHeader("Content-type", "application/json").setBody(body);
+        }
+        if (segments.size() == 2) {
+          List<String> items = children.get(segments.get(0));
+          return page(url, items != null ? new ArrayList<>(items) : Collections.<String>emptyList());
+        }
+        List<String> ids;
+        synchronized (entries) {
+          ids = new ArrayList<>(entries.keySet());
+        }
+        if ("updated".equals(url.queryParameter("sort-by"))) {
+          ids.sort((a, b) -> updated.get(b).compareTo(updated.get(a)));
+        }
+        List<String> items = new ArrayList<>();
+        for (String id : ids) {
+          items.add(entries.get(id));
+        }
+        return page(url, items);
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    globalCatalogService = GlobalCatalog.newInstance("testService");
+    globalCatalogService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    globalCatalogService = null;
+  }
+}
@@ -23,6 +23,7 @@ import com.ibm.cloud.platform_services.global_catalog.v1.model.Broker;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.Bullets;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.CFMetaData;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.Callbacks;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.CatalogEntriesPager;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.CatalogEntry;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.CatalogEntryMetadata;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.CatalogEntryMetadataDeployment;
@@ -37,6 +38,7 @@ import com.ibm.cloud.platform_services.global_catalog.v1.model.GetArtifactOption
 import com.ibm.cloud.platform_services.global_catalog.v1.model.GetAuditLogsOptions;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.GetCatalogEntryOptions;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.GetChildObjectsOptions;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.GetChildObjectsPager;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.GetPricingDeploymentsOptions;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.GetPricingOptions;
 import com.ibm.cloud.platform_services.global_catalog.v1.model.GetVisibilityOptions;
@@ -77,9 +79,13 @@ import com.ibm.cloud.sdk.core.service.model.FileWithMetadata;
 import com.ibm.cloud.sdk.core.util.DateUtils;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -1539,6 +1545,120 @@ public class GlobalCatalogTest {
     globalCatalogService.deleteArtifact(null).execute();
   }
 
+  // Test the listCatalogEntries operation using the CatalogEntriesPager.getNext() method
+  @Test
+  public void testListCatalogEntriesWithCatalogEntriesPagerGetNext() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"offset\":0,\"limit\":1,\"count\":2,\"resource_count\":1,\"resources\":[{\"name\":\"name\",\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"offset\":1,\"limit\":1,\"count\":2,\"resource_count\":1,\"resources\":[{\"name\":\"name\",\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    ListCatalogEntriesOptions options = new ListCatalogEntriesOptions.Builder()
+      .account("testString")
+      .limit(Long.valueOf("1"))
+      .build();
+
+    List<CatalogEntry> allResults = new ArrayList<>();
+    CatalogEntriesPager pager = new CatalogEntriesPager(globalCatalogService, options);
+    while (pager.hasNext()) {
+      List<CatalogEntry> nextPage = pager.getNext();
+      assertNotNull(nextPage);
+      allResults.addAll(nextPage);
+    }
+    assertEquals(allResults.size(), 2);
+
+    // Verify that the second page was requested from where the first page ended
+    server.takeRequest();
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getRequestUrl().queryParameter("_offset"), "1");
+    assertEquals(server.getRequestCount(), 2);
+  }
+
+  // Test the listCatalogEntries operation using the CatalogEntriesPager.getAllParallel() method
+  @Test
+  public void testListCatalogEntriesWithCatalogEntriesPagerGetAllParallel() throws Throwable {
+    // Serve 23 results in pages of 5, based on the offset of each request.
+    final int totalCount = 23;
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        String offsetParam = request.getRequestUrl().queryParameter("_offset");
+        int offset = offsetParam != null ? Integer.parseInt(offsetParam) : 0;
+        StringBuilder items = new StringBuilder();
+        for (int i = offset; i < Math.min(offset + 5, totalCount); i++) {
+          if (items.length() > 0) {
+            items.append(",");
+          }
+          items.append("{\"name\":\"name\",\"id\":\"id" + i + "\"}");
+        }
+        return new MockResponse()
+          .setHeader("Content-type", "application/json")
+          .setResponseCode(200)
+          .setBody("{\"count\":" + totalCount + ",\"resources\":[" + items + "]}");
+      }
+    });
+
+    ListCatalogEntriesOptions options = new ListCatalogEntriesOptions.Builder()
+      .limit(Long.valueOf("5"))
+      .build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      CatalogEntriesPager pager = new CatalogEntriesPager(globalCatalogService, options);
+      List<CatalogEntry> allResults = pager.getAllParallel(3, executor);
+      assertEquals(allResults.size(), totalCount);
+      for (int i = 0; i < totalCount; i++) {
+        assertEquals(allResults.get(i).getId(), "id" + i);
+      }
+      assertFalse(pager.hasNext());
+      assertEquals(server.getRequestCount(), 5);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  // Test the getChildObjects operation using the GetChildObjectsPager.getAll() method
+  @Test
+  public void testGetChildObjectsWithGetChildObjectsPagerGetAll() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"offset\":0,\"limit\":1,\"count\":2,\"resource_count\":1,\"resources\":[{\"name\":\"name\",\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"offset\":1,\"limit\":1,\"count\":2,\"resource_count\":1,\"resources\":[{\"name\":\"name\",\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    GetChildObjectsOptions options = new GetChildObjectsOptions.Builder()
+      .id("testString")
+      .kind("testString")
+      .limit(Long.valueOf("1"))
+      .build();
+
+    GetChildObjectsPager pager = new GetChildObjectsPager(globalCatalogService, options);
+    List<CatalogEntry> allResults = pager.getAll();
+    assertNotNull(allResults);
+    assertEquals(allResults.size(), 2);
+  }
+
   // Perform setup needed before each test method
   @BeforeMethod
   public void beforeEachTest() {
@@ -0,0 +1,238 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_catalog.v1;
+
+import com.ibm.cloud.platform_services.global_catalog.v1.PricingCache.Prices;
+import com.ibm.cloud.platform_services.global_catalog.v1.model.PricingGet;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the PricingCache class.
+ */
+public class PricingCacheTest {
+
+  protected MockWebServer server;
+  protected GlobalCatalog globalCatalogService;
+
+  private AtomicInteger pricingRequests;
+  private volatile long delay;
+
+  private static String metric(String id, String tierModel, long chargeUnitQuantity, String amounts) {
+    return "{\"metric_id\": \"" + id + "\", \"tier_model\": \"" + tierModel + "\", \"charge_unit_quantity\": "
+      + chargeUnitQuantity + ", \"amounts\": [" + amounts + "]}";
+  }
+
+  private static String amount(String country, String currency, String prices) {
+    return "{\"country\": \"" + country + "\", \"currency\": \"" + currency + "\", \"prices\": [" + prices + "]}";
+  }
+
+  private static String pricing(String planId) {
+    return "{\"deployment_id\": \"" + planId + "\", \"type\": \"paid\", \"origin\": \"pricing_catalog\", \"metrics\": ["
+      + metric("storage", "Granular Tier", 1, amount("USA", "USD",
+          "{\"quantity_tier\": 10000, \"price\": 0.02}, {\"quantity_tier\": 999999999, \"price\": 0.01}, "
+          + "{\"quantity_tier\": 1000, \"price\": 0}") + ", " + amount("DEU", "EUR", "{\"quantity_tier\": 999999999, "
+          + "\"price\": 0.03}")) + ", "
+      + metric("instances", "Block Tier", 1, amount("USA", "USD",
+          "{\"quantity_tier\": 10, \"price\": 5}, {\"quantity_tier\": 100, \"price\": 40}")) + ", "
+      + metric("hours", "Step Tier", 1, amount("USA", "USD",
+          "{\"quantity_tier\": 100, \"price\": 1}, {\"quantity_tier\": 1000, \"price\": 0.5}")) + ", "
+      + metric("calls", "Linear", 1000, amount("USA", "USD", "{\"quantity_tier\": 1, \"price\": 0.1}"))
+      + "]}";
+  }
+
+  @Test
+  public void testPrices() throws Throwable {
+    PricingCache cache = new PricingCache.Builder(globalCatalogService).deploymentRegion("us-south").build();
+    Prices prices = cache.getPrices("p1", "USA", "USD");
+    assertEquals(prices.getPlanId(), "p1");
+    assertEquals(prices.getMetricIds(), Arrays.asList("storage", "instances", "hours", "calls"));
+    assertEquals(prices.getTierCount("storage"), 3);
+    assertEquals(prices.getQuantityTier("storage", 0), 1000);
+    assertEquals(prices.getPrice("storage", 1), 0.02);
+    assertEquals(prices.getTierModel("instances"), "Block Tier");
+    assertEquals(prices.getChargeUnitQuantity("calls"), 1000);
+
+    assertEquals(prices.cost("storage", 500), 0.0);
+    assertEquals(prices.cost("storage", 5000), 80.0, 1e-9);
+    assertEquals(prices.cost("storage", 20000), 280.0, 1e-9);
+    assertEquals(prices.cost("storage", 2e9), 9000 * 0.02 + (2e9 - 10000) * 0.01, 1e-3);
+    assertEquals(prices.cost("instances", 5), 5.0);
+    assertEquals(prices.cost("instances", 50), 40.0);
+    assertEquals(prices.cost("instances", 500), 40.0);
+    assertEquals(prices.cost("hours", 50), 50.0);
+    assertEquals(prices.cost("hours", 500), 250.0);
+    // The price of "calls" is per 1000 calls.
+    assertEquals(prices.cost("calls", 30000), 3.0, 1e-9);
+    assertEquals(prices.cost("calls", 30), 0.003, 1e-12);
+    assertEquals(prices.cost("calls", 0), 0.0);
+    try {
+      prices.cost("unknown", 1);
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("unknown"));
+    }
+
+    Prices euro = cache.getPrices("p1", "deu", null);
+    assertEquals(euro.getTierCount("storage"), 1);
+    assertEquals(euro.getTierCount("instances"), 0);
+    assertEquals(euro.cost("storage", 100), 3.0, 1e-9);
+    assertEquals(euro.cost("instances", 100), 0.0);
+
+    // The pricing of the plan was retrieved once.
+    assertSame(cache.getPrices("p1", "usa", "usd"), prices);
+    assertEquals(pricingRequests.get(), 1);
+    assertEquals(cache.getSize(), 3);
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getPath(), "/p1/pricing?deployment_region=us-south");
+
+    assertEquals(cache.getPricingDeployments("p1").getResources().size(), 1);
+    cache.getPricingDeployments("p1");
+    assertEquals(server.getRequestCount(), 2);
+  }
+
+  @Test
+  public void testSingleFlight() throws Throwable {
+    delay = 200;
+    final PricingCache cache = new PricingCache.Builder(globalCatalogService).build();
+    ExecutorService threads = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<PricingGet>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(threads.submit(new Callable<PricingGet>() {
+          @Override
+          public PricingGet call() {
+            return cache.getPricing("p1");
+          }
+        }));
+      }
+      PricingGet first = results.get(0).get();
+      for (Future<PricingGet> result : results) {
+        assertSame(result.get(), first);
+      }
+    } finally {
+      threads.shutdown();
+    }
+    assertEquals(pricingRequests.get(), 1);
+    assertEquals(cache.getMisses(), 1);
+    assertEquals(cache.getShared() + cache.getHits(), 7);
+    assertTrue(cache.getShared() > 0);
+  }
+
+  @Test
+  public void testBatch() throws Throwable {
+    delay = 20;
+    PricingCache cache = new PricingCache.Builder(globalCatalogService).maxConcurrency(4).maxEntries(4).build();
+    Map<String, Prices> prices = cache.getPrices(Arrays.asList("p1", "p2", "p3", "p1"), "USA", "USD");
+    assertEquals(new ArrayList<>(prices.keySet()), Arrays.asList("p1", "p2", "p3"));
+    assertEquals(prices.get("p3").getPlanId(), "p3");
+    assertEquals(prices.get("p2").cost("hours", 500), 250.0);
+    assertEquals(pricingRequests.get(), 3);
+    // 3 pricings and 3 prices, the least recently used of which were evicted.
+    assertEquals(cache.getSize(), 4);
+    assertEquals(cache.getEvictions(), 2);
+
+    Map<String, PricingGet> pricing = cache.getPricing(Arrays.asList("p4", "p5"));
+    assertEquals(pricing.size(), 2);
+    assertEquals(pricing.get("p5").getDeploymentId(), "p5");
+    assertEquals(pricingRequests.get(), 5);
+    cache.invalidateAll();
+    assertEquals(cache.getSize(), 0);
+    cache.getPricing("p4");
+    assertEquals(pricingRequests.get(), 6);
+  }
+
+  @Test
+  public void testTtlAndFailure() throws Throwable {
+    PricingCache cache = new PricingCache.Builder(globalCatalogService).ttl(0).build();
+    cache.getPricing("p1");
+    cache.getPricing("p1");
+    assertEquals(pricingRequests.get(), 2);
+    assertEquals(cache.getHits(), 0);
+
+    try {
+      cache.getPrices(Arrays.asList("p1", "missing"), "USA", "USD");
+      fail("Expected a NotFoundException");
+    } catch (NotFoundException e) {
+      assertEquals(e.getStatusCode(), 404);
+    }
+    try {
+      cache.getPricing("missing");
+      fail("Expected a NotFoundException");
+    } catch (NotFoundException e) {
+      assertEquals(e.getStatusCode(), 404);
+    }
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    pricingRequests = new AtomicInteger();
+    delay = 0;
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        Thread.sleep(delay);
+        List<String> segments = request.getRequestUrl().pathSegments();
+        String planId = segments.get(0);
+        if (planId.equals("missing")) {
+          return new MockResponse().setResponseCode(404).setHeader("Content-type", "application/json")
+            .setBody("{\"message\": \"not found\"}");
+        }
+        MockResponse response = new MockResponse().setHeader("Content-type", "application/json");
+        if (segments.size() == 3) {
+          return response.setBody("{\"count\": 1, \"resources\": [" + pricing(planId + "-us-south") + "]}");
+        }
+        pricingRequests.incrementAndGet();
+        return response.setBody(pricing(planId));
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    globalCatalogService = GlobalCatalog.newInstance("testService");
+    globalCatalogService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    globalCatalogService = null;
+  }
+}
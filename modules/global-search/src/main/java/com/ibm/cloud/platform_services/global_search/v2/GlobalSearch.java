@@ -55,6 +55,9 @@ public class GlobalSearch extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://api.global-search-tagging.cloud.ibm.com";
 
+  private static final ResponseConverter<ScanResult> SEARCH_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ScanResult>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `GlobalSearch` client.
    * The default service name is used to configure the client instance.
@@ -164,8 +167,7 @@ public class GlobalSearch extends BaseService {
       contentJson.addProperty("search_cursor", searchOptions.searchCursor());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ScanResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ScanResult>() { }.getType());
+    ResponseConverter<ScanResult> responseConverter = SEARCH_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -0,0 +1,512 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_search.v2;
+
+import com.ibm.cloud.platform_services.global_search.v2.model.ResultItem;
+import com.ibm.cloud.platform_services.global_search.v2.model.ScanResult;
+import com.ibm.cloud.platform_services.global_search.v2.model.SearchOptions;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * SearchScanner retrieves all results of a single search query by partitioning the query into disjoint slices,
+ * one for each value of a facet such as "region", "service_name" or "resource_group_id" plus a slice for all
+ * remaining values, and scanning the slices concurrently with the "search" method.
+ * Results are de-duplicated by CRN and returned in the order in which they are received.
+ *
+ * <p>
+ * The "limit" and "timeout" of the specified SearchOptions are used for every request. Pages are buffered
+ * in a bounded queue, so the slices are scanned only as fast as the results are consumed.
+ * The scanner should be closed (e.g. by closing the stream returned by stream()) if the results are not
+ * consumed to the end.
+ */
+public class SearchScanner implements AutoCloseable {
+
+  /**
+   * ProgressListener is notified each time a page of results is received for a slice, and when a slice completes.
+   * It is invoked on the thread that is scanning the slice.
+   */
+  public interface ProgressListener {
+    /**
+     * Invoked with the current progress of a slice.
+     * @param progress the progress of the slice
+     */
+    void onProgress(SliceProgress progress);
+  }
+
+  /**
+   * SliceProgress is an immutable snapshot of the progress of one slice of the scan.
+   */
+  public static class SliceProgress {
+    private final String query;
+    private final int pages;
+    private final long items;
+    private final long duplicates;
+    private final boolean done;
+
+    SliceProgress(String query, int pages, long items, long duplicates, boolean done) {
+      this.query = query;
+      this.pages = pages;
+      this.items = items;
+      this.duplicates = duplicates;
+      this.done = done;
+    }
+
+    /**
+     * Gets the query used to scan the slice.
+     * @return the query
+     */
+    public String getQuery() {
+      return query;
+    }
+
+    /**
+     * Gets the number of pages received for the slice.
+     * @return the number of pages
+     */
+    public int getPages() {
+      return pages;
+    }
+
+    /**
+     * Gets the number of results of the slice that were returned to the caller.
+     * @return the number of results
+     */
+    public long getItems() {
+      return items;
+    }
+
+    /**
+     * Gets the number of results of the slice that were discarded because their CRN had already been returned.
+     * @return the number of duplicate results
+     */
+    public long getDuplicates() {
+      return duplicates;
+    }
+
+    /**
+     * Returns true if all results of the slice have been retrieved.
+     * @return boolean
+     */
+    public boolean isDone() {
+      return done;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private GlobalSearch client;
+    private SearchOptions options;
+    private String sliceField;
+    private List<String> sliceValues = new ArrayList<>();
+    private boolean includeRemainder = true;
+    private int maxConcurrency = 4;
+    private int maxBufferedPages;
+    private Long maxResults;
+    private ExecutorService executor;
+    private ProgressListener listener;
+
+    /**
+     * Instantiates a new builder with the client and the options of the query to be scanned.
+     *
+     * @param client the GlobalSearch instance used to invoke the "search" method
+     * @param options the SearchOptions of the query; the "searchCursor" field should not be set
+     */
+    public Builder(GlobalSearch client, SearchOptions options) {
+      this.client = client;
+      this.options = options;
+    }
+
+    /**
+     * Set the field (e.g. "region") and the values used to partition the query.
+     *
+     * @param sliceField the field used to partition the query
+     * @param sliceValues the values of the field; one slice is scanned for each value
+     * @return the SearchScanner builder
+     */
+    public Builder slices(String sliceField, List<String> sliceValues) {
+      this.sliceField = sliceField;
+      this.sliceValues = new ArrayList<>(sliceValues);
+      return this;
+    }
+
+    /**
+     * Set whether a slice is scanned for the results whose slice field matches none of the slice values.
+     * Defaults to true, so that the slices together return every result of the query.
+     *
+     * @param includeRemainder whether the remainder slice is scanned
+     * @return the SearchScanner builder
+     */
+    public Builder includeRemainder(boolean includeRemainder) {
+      this.includeRemainder = includeRemainder;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of slices scanned concurrently. Defaults to 4.
+     *
+     * @param maxConcurrency the maximum number of slices scanned concurrently
+     * @return the SearchScanner builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of pages buffered ahead of the caller. Defaults to twice the maximum concurrency.
+     *
+     * @param maxBufferedPages the maximum number of buffered pages
+     * @return the SearchScanner builder
+     */
+    public Builder maxBufferedPages(int maxBufferedPages) {
+      this.maxBufferedPages = maxBufferedPages;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of (unique) results to be returned by the scan.
+     *
+     * @param maxResults the maximum number of results
+     * @return the SearchScanner builder
+     */
+    public Builder maxResults(long maxResults) {
+      this.maxResults = maxResults;
+      return this;
+    }
+
+    /**
+     * Set the executor used to scan the slices. If not set, a pool of "maxConcurrency" daemon threads is
+     * created for the scan and shut down when the scan is closed.
+     *
+     * @param executor the executor used to scan the slices
+     * @return the SearchScanner builder
+     */
+    public Builder executor(ExecutorService executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Set the listener notified of the progress of each slice.
+     *
+     * @param listener the progress listener
+     * @return the SearchScanner builder
+     */
+    public Builder progressListener(ProgressListener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Builds a SearchScanner.
+     *
+     * @return the new SearchScanner instance
+     */
+    public SearchScanner build() {
+      return new SearchScanner(this);
+    }
+  }
+
+  private static final List<ResultItem> END = Collections.unmodifiableList(new ArrayList<ResultItem>());
+
+  private final GlobalSearch client;
+  private final SearchOptions options;
+  private final List<Slice> slices;
+  private final int maxConcurrency;
+  private final ExecutorService executor;
+  private final boolean ownsExecutor;
+  private final ProgressListener listener;
+  private final BlockingQueue<List<ResultItem>> pages;
+  private final Set<String> seenCrns = ConcurrentHashMap.newKeySet();
+  private final AtomicLong remainingResults;
+  private final AtomicInteger nextSlice = new AtomicInteger();
+  private final AtomicInteger activeWorkers = new AtomicInteger();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final List<Future<?>> workers = new ArrayList<>();
+  private volatile boolean closed;
+
+  protected SearchScanner(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.notNull(builder.options, "options cannot be null");
+    Validator.isTrue(builder.options.searchCursor() == null, "The options 'searchCursor' field should not be set");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    Validator.isTrue(builder.maxBufferedPages >= 0, "maxBufferedPages cannot be negative");
+    Validator.isTrue(builder.maxResults == null || builder.maxResults > 0, "maxResults must be greater than zero");
+    Validator.isTrue(builder.sliceValues.isEmpty() || builder.sliceField != null, "sliceField cannot be null");
+
+    this.client = builder.client;
+    this.options = builder.options;
+    this.slices = buildSlices(builder.options.query(), builder.sliceField, builder.sliceValues,
+        builder.includeRemainder);
+    this.maxConcurrency = builder.maxConcurrency;
+    this.listener = builder.listener;
+    this.pages = new ArrayBlockingQueue<>(builder.maxBufferedPages > 0
+        ? builder.maxBufferedPages : 2 * builder.maxConcurrency);
+    this.remainingResults = new AtomicLong(builder.maxResults != null ? builder.maxResults : Long.MAX_VALUE);
+    this.ownsExecutor = builder.executor == null;
+    this.executor = builder.executor != null ? builder.executor
+        : Executors.newFixedThreadPool(Math.min(builder.maxConcurrency, slices.size()), runnable -> {
+          Thread thread = new Thread(runnable, "global-search-scanner");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  /**
+   * Starts the scan and returns an Iterator over its results. This method may be invoked only once.
+   * @return an Iterator&lt;ResultItem&gt; over the results of the query
+   */
+  public Iterator<ResultItem> iterator() {
+    start();
+    return new ResultIterator();
+  }
+
+  /**
+   * Starts the scan and returns a sequential Stream over its results. Closing the stream closes the scanner.
+   * This method may be invoked only once.
+   * @return a Stream&lt;ResultItem&gt; over the results of the query
+   */
+  public Stream<ResultItem> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false)
+        .onClose(this::close);
+  }
+
+  /**
+   * Returns a snapshot of the progress of each slice, in the order in which the slices were specified.
+   * The remainder slice, if any, is the last one.
+   * @return a List&lt;SliceProgress&gt;
+   */
+  public List<SliceProgress> getProgress() {
+    List<SliceProgress> progress = new ArrayList<>(slices.size());
+    for (Slice slice : slices) {
+      progress.add(slice.progress);
+    }
+    return progress;
+  }
+
+  /**
+   * Stops the scan. Slices that are being scanned stop after their current request.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    synchronized (workers) {
+      for (Future<?> worker : workers) {
+        worker.cancel(true);
+      }
+    }
+    pages.clear();
+    if (ownsExecutor) {
+      executor.shutdownNow();
+    }
+  }
+
+  private void start() {
+    if (!started.compareAndSet(false, true)) {
+      throw new IllegalStateException("The scan has already been started");
+    }
+    int workerCount = Math.min(maxConcurrency, slices.size());
+    activeWorkers.set(workerCount);
+    synchronized (workers) {
+      for (int i = 0; i < workerCount; i++) {
+        workers.add(executor.submit(this::scanSlices));
+      }
+    }
+  }
+
+  private boolean isStopped() {
+    return closed || failure.get() != null || remainingResults.get() <= 0;
+  }
+
+  // Each worker claims the next unscanned slice until none remain, so that at most
+  // "maxConcurrency" slices are scanned at a time.
+  private void scanSlices() {
+    try {
+      int index;
+      while (!isStopped() && (index = nextSlice.getAndIncrement()) < slices.size()) {
+        scan(slices.get(index));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Throwable e) {
+      // An Error is recorded too, so that the iterator rethrows it rather than ending the results.
+      failure.compareAndSet(null, e);
+    } finally {
+      if (activeWorkers.decrementAndGet() == 0 && !closed) {
+        try {
+          pages.put(END);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }
+  }
+
+  private void scan(Slice slice) throws InterruptedException {
+    SearchOptions.Builder builder = options.newBuilder().query(slice.query);
+    List<ResultItem> items;
+    String cursor;
+    do {
+      ScanResult result = client.search(builder.build()).execute().getResult();
+      items = result.getItems() != null ? result.getItems() : Collections.<ResultItem>emptyList();
+      cursor = result.getSearchCursor();
+      builder.searchCursor(cursor);
+
+      List<ResultItem> unique = new ArrayList<>(items.size());
+      for (ResultItem item : items) {
+        if (item.getCrn() == null || seenCrns.add(item.getCrn())) {
+          unique.add(item);
+        } else {
+          slice.duplicates++;
+        }
+      }
+      int allowed = (int) reserve(unique.size());
+      if (allowed < unique.size()) {
+        unique = unique.subList(0, allowed);
+      }
+      slice.pages++;
+      slice.items += unique.size();
+      if (!unique.isEmpty()) {
+        pages.put(unique);
+      }
+      report(slice, false);
+    } while (!items.isEmpty() && cursor != null && !isStopped());
+    report(slice, items.isEmpty() || cursor == null);
+  }
+
+  // Reserves up to "count" of the remaining results and returns the number reserved.
+  private long reserve(long count) {
+    while (true) {
+      long remaining = remainingResults.get();
+      long reserved = Math.min(remaining, count);
+      if (reserved <= 0 || remainingResults.compareAndSet(remaining, remaining - reserved)) {
+        return Math.max(reserved, 0);
+      }
+    }
+  }
+
+  private void report(Slice slice, boolean done) {
+    slice.progress = new SliceProgress(slice.query, slice.pages, slice.items, slice.duplicates, done);
+    if (listener != null) {
+      listener.onProgress(slice.progress);
+    }
+  }
+
+  private static List<Slice> buildSlices(String query, String field, List<String> values, boolean includeRemainder) {
+    String base = "(" + (query != null ? query : "*") + ")";
+    List<Slice> slices = new ArrayList<>();
+    if (values.isEmpty()) {
+      slices.add(new Slice(query));
+      return slices;
+    }
+    StringBuilder remainder = new StringBuilder();
+    for (String value : values) {
+      slices.add(new Slice(base + " AND " + field + ":" + quote(value)));
+      remainder.append(remainder.length() == 0 ? "" : " OR ").append(quote(value));
+    }
+    if (includeRemainder) {
+      slices.add(new Slice(base + " AND NOT " + field + ":(" + remainder + ")"));
+    }
+    return slices;
+  }
+
+  private static String quote(String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
+  /**
+   * The state of one slice; it is updated only by the worker that scans the slice.
+   */
+  private static class Slice {
+    private final String query;
+    private int pages;
+    private long items;
+    private long duplicates;
+    private volatile SliceProgress progress;
+
+    Slice(String query) {
+      this.query = query;
+      this.progress = new SliceProgress(query, 0, 0, 0, false);
+    }
+  }
+
+  private class ResultIterator implements Iterator<ResultItem> {
+    private Iterator<ResultItem> current = Collections.emptyIterator();
+    private boolean finished;
+
+    @Override
+    public boolean hasNext() {
+      while (!current.hasNext()) {
+        if (finished) {
+          return false;
+        }
+        List<ResultItem> page;
+        try {
+          page = pages.take();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while waiting for search results", e);
+        }
+        Throwable cause = failure.get();
+        if (cause != null) {
+          finished = true;
+          close();
+          if (cause instanceof Error) {
+            throw (Error) cause;
+          }
+          throw cause instanceof RuntimeException ? (RuntimeException) cause
+              : new IllegalStateException("The scan failed", cause);
+        }
+        if (page == END) {
+          finished = true;
+          close();
+          return false;
+        }
+        current = page.iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public ResultItem next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more results available");
+      }
+      return current.next();
+    }
+  }
+}
@@ -0,0 +1,615 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_search.v2;
+
+import com.ibm.cloud.platform_services.global_search.v2.model.ResultItem;
+import com.ibm.cloud.platform_services.global_search.v2.model.ScanResult;
+import com.ibm.cloud.platform_services.global_search.v2.model.SearchOptions;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * SearchSync keeps a local index of the resources matched by a search query, keyed by CRN, and reports the
+ * resources that were added, updated or deleted since the previous synchronization.
+ *
+ * <p>
+ * The first synchronization scans every resource matched by the query. Subsequent synchronizations retrieve
+ * only the resources whose timestamp field (by default "updated_at") is not older than the highest value seen so far,
+ * together with the resources deleted since then, so their cost is proportional to the number of changes.
+ * Each resource is stored with the JSON form of the item returned by the search and a fingerprint of it, so that
+ * resources returned again without changes are not reported, and the changes of the other resources carry the item
+ * previously stored in the index.
+ *
+ * <p>
+ * The index is kept in memory and persisted as an append-only file which is compacted when it grows to twice the
+ * size of the live entries. A synchronization that is interrupted leaves the previous high-water mark in place, so the next
+ * synchronization retrieves the same changes again. Instances are not thread-safe.
+ */
+public class SearchSync {
+
+  /**
+   * The kind of change reported for a resource.
+   */
+  public enum ChangeType {
+    /** The resource was not in the index. */
+    ADDED,
+    /** The properties of the resource changed. */
+    UPDATED,
+    /** The resource was deleted. */
+    DELETED
+  }
+
+  /**
+   * A change to one of the resources in the index.
+   */
+  public static class Change {
+    private final ChangeType type;
+    private final String crn;
+    private final ResultItem item;
+    private final ResultItem previous;
+
+    Change(ChangeType type, String crn, ResultItem item, ResultItem previous) {
+      this.type = type;
+      this.crn = crn;
+      this.item = item;
+      this.previous = previous;
+    }
+
+    /**
+     * Gets the type of the change.
+     * @return the type
+     */
+    public ChangeType getType() {
+      return type;
+    }
+
+    /**
+     * Gets the CRN of the resource.
+     * @return the crn
+     */
+    public String getCrn() {
+      return crn;
+    }
+
+    /**
+     * Gets the resource as returned by the search, or null for a resource deleted during a full synchronization.
+     * @return the item
+     */
+    public ResultItem getItem() {
+      return item;
+    }
+
+    /**
+     * Gets the resource as it was stored in the index, or null for an added resource.
+     * @return the previous item
+     */
+    public ResultItem getPrevious() {
+      return previous;
+    }
+  }
+
+  /**
+   * The outcome of a synchronization.
+   */
+  public static class Summary {
+    private final boolean fullScan;
+    private final long added;
+    private final long updated;
+    private final long deleted;
+    private final long unchanged;
+    private final int requests;
+
+    Summary(boolean fullScan, long added, long updated, long deleted, long unchanged, int requests) {
+      this.fullScan = fullScan;
+      this.added = added;
+      this.updated = updated;
+      this.deleted = deleted;
+      this.unchanged = unchanged;
+      this.requests = requests;
+    }
+
+    /**
+     * Returns true if every resource matched by the query was scanned.
+     * @return boolean
+     */
+    public boolean isFullScan() {
+      return fullScan;
+    }
+
+    /**
+     * Gets the number of added resources.
+     * @return the number of added resources
+     */
+    public long getAdded() {
+      return added;
+    }
+
+    /**
+     * Gets the number of updated resources.
+     * @return the number of updated resources
+     */
+    public long getUpdated() {
+      return updated;
+    }
+
+    /**
+     * Gets the number of deleted resources.
+     * @return the number of deleted resources
+     */
+    public long getDeleted() {
+      return deleted;
+    }
+
+    /**
+     * Gets the number of resources that were retrieved again without changes.
+     * @return the number of unchanged resources
+     */
+    public long getUnchanged() {
+      return unchanged;
+    }
+
+    /**
+     * Gets the number of "search" requests made by the synchronization.
+     * @return the number of requests
+     */
+    public int getRequests() {
+      return requests;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private GlobalSearch client;
+    private SearchOptions options;
+    private Path indexFile;
+    private String timestampField = "updated_at";
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the GlobalSearch instance used to invoke the "search" method
+     * @param options the SearchOptions of the query to be synchronized; the "searchCursor" field should not be set
+     * @param indexFile the file in which the index is persisted
+     */
+    public Builder(GlobalSearch client, SearchOptions options, Path indexFile) {
+      this.client = client;
+      this.options = options;
+      this.indexFile = indexFile;
+    }
+
+    /**
+     * Set the field containing the time of the last change of a resource. Defaults to "updated_at".
+     *
+     * @param timestampField the timestamp field
+     * @return the SearchSync builder
+     */
+    public Builder timestampField(String timestampField) {
+      this.timestampField = timestampField;
+      return this;
+    }
+
+    /**
+     * Builds a SearchSync, loading the index file if it exists.
+     *
+     * @return the new SearchSync instance
+     */
+    public SearchSync build() {
+      return new SearchSync(this);
+    }
+  }
+
+  private static final byte PUT = 'P';
+  private static final byte DELETE = 'D';
+  private static final byte WATERMARK = 'W';
+  private static final int MIN_COMPACTION_RECORDS = 1024;
+
+  private final GlobalSearch client;
+  private final SearchOptions options;
+  private final Path indexFile;
+  private final String timestampField;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private String highWaterMark;
+  private long records;
+
+  protected SearchSync(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.notNull(builder.options, "options cannot be null");
+    Validator.notNull(builder.indexFile, "indexFile cannot be null");
+    Validator.notEmpty(builder.timestampField, "timestampField cannot be empty");
+    Validator.isTrue(builder.options.searchCursor() == null, "The options 'searchCursor' field should not be set");
+    this.client = builder.client;
+    this.indexFile = builder.indexFile;
+    this.timestampField = builder.timestampField;
+
+    // The CRN and the timestamp are needed by the index, so they are added to any explicit list of fields.
+    SearchOptions.Builder optionsBuilder = builder.options.newBuilder();
+    if (builder.options.fields() != null) {
+      if (!builder.options.fields().contains("crn")) {
+        optionsBuilder.addFields("crn");
+      }
+      if (!builder.options.fields().contains(timestampField)) {
+        optionsBuilder.addFields(timestampField);
+      }
+    }
+    this.options = optionsBuilder.build();
+
+    try {
+      load();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to load the index file " + indexFile, e);
+    }
+  }
+
+  /**
+   * Synchronizes the index, scanning every resource on the first invocation and only the changed resources
+   * afterwards.
+   *
+   * @param listener notified of each change, in the order in which the changes are detected
+   * @return the Summary of the synchronization
+   */
+  public Summary sync(Consumer<Change> listener) {
+    return run(highWaterMark == null, listener);
+  }
+
+  /**
+   * Scans every resource matched by the query, reporting as deleted the indexed resources that are no longer matched.
+   *
+   * @param listener notified of each change, in the order in which the changes are detected
+   * @return the Summary of the synchronization
+   */
+  public Summary fullSync(Consumer<Change> listener) {
+    return run(true, listener);
+  }
+
+  /**
+   * Returns the number of resources in the index.
+   * @return the number of resources
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns true if the resource with the specified CRN is in the index.
+   * @param crn the CRN of the resource
+   * @return boolean
+   */
+  public boolean contains(String crn) {
+    return entries.containsKey(crn);
+  }
+
+  /**
+   * Returns the resource with the specified CRN as it is stored in the index.
+   * @param crn the CRN of the resource
+   * @return the item, or null if the resource is not in the index
+   */
+  public ResultItem get(String crn) {
+    Entry entry = entries.get(crn);
+    return entry != null ? entry.item() : null;
+  }
+
+  /**
+   * Returns the highest timestamp seen so far, or null if the index has never been synchronized.
+   * @return the high-water mark
+   */
+  public String getHighWaterMark() {
+    return highWaterMark;
+  }
+
+  private Summary run(boolean fullScan, Consumer<Change> listener) {
+    SyncRun run = new SyncRun(listener);
+    try (FileOutputStream stream = new FileOutputStream(indexFile.toFile(), true);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+      run.out = out;
+      if (fullScan) {
+        Set<String> seen = new HashSet<>();
+        scan(options.newBuilder().build(), run, seen);
+        List<String> missing = new ArrayList<>();
+        for (String crn : entries.keySet()) {
+          if (!seen.contains(crn)) {
+            missing.add(crn);
+          }
+        }
+        for (String crn : missing) {
+          run.delete(crn, null);
+        }
+      } else {
+        // Ranges are inclusive so that resources sharing the high-water mark are not missed;
+        // the fingerprints filter out the ones that were already seen.
+        String query = "(" + (options.query() != null ? options.query() : "*") + ") AND "
+            + timestampField + ":[\"" + highWaterMark + "\" TO *]";
+        scan(options.newBuilder().query(query).build(), run, null);
+        scanDeleted(options.newBuilder().query(query).isDeleted(SearchOptions.IsDeleted.X_TRUE).build(), run);
+      }
+      if (run.maxTimestamp != null) {
+        highWaterMark = run.maxTimestamp;
+        out.writeByte(WATERMARK);
+        out.writeUTF(highWaterMark);
+        records++;
+      }
+      out.flush();
+      stream.getFD().sync();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to update the index file " + indexFile, e);
+    }
+    compactIfNeeded();
+    return new Summary(fullScan, run.added, run.updated, run.deleted, run.unchanged, run.requests);
+  }
+
+  private void scan(SearchOptions scanOptions, SyncRun run, Set<String> seen) throws IOException {
+    SearchOptions.Builder builder = scanOptions.newBuilder();
+    List<ResultItem> items;
+    String cursor;
+    do {
+      ScanResult result = client.search(builder.build()).execute().getResult();
+      run.requests++;
+      items = result.getItems() != null ? result.getItems() : Collections.<ResultItem>emptyList();
+      for (ResultItem item : items) {
+        if (item.getCrn() == null) {
+          continue;
+        }
+        if (seen != null) {
+          seen.add(item.getCrn());
+        }
+        run.observeTimestamp(item);
+        run.put(item);
+      }
+      cursor = result.getSearchCursor();
+      builder.searchCursor(cursor);
+    } while (!items.isEmpty() && cursor != null);
+  }
+
+  private void scanDeleted(SearchOptions scanOptions, SyncRun run) throws IOException {
+    SearchOptions.Builder builder = scanOptions.newBuilder();
+    List<ResultItem> items;
+    String cursor;
+    do {
+      ScanResult result = client.search(builder.build()).execute().getResult();
+      run.requests++;
+      items = result.getItems() != null ? result.getItems() : Collections.<ResultItem>emptyList();
+      for (ResultItem item : items) {
+        run.observeTimestamp(item);
+        if (item.getCrn() != null && entries.containsKey(item.getCrn())) {
+          run.delete(item.getCrn(), item);
+        }
+      }
+      cursor = result.getSearchCursor();
+      builder.searchCursor(cursor);
+    } while (!items.isEmpty() && cursor != null);
+  }
+
+  // FNV-1a over the JSON form of the item.
+  static long fingerprint(byte[] json) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : json) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+
+  private void load() throws IOException {
+    if (!Files.exists(indexFile)) {
+      return;
+    }
+    long validLength = 0;
+    try (CountingInputStream counter = new CountingInputStream(new BufferedInputStream(Files.newInputStream(indexFile)));
+        DataInputStream in = new DataInputStream(counter)) {
+      while (true) {
+        int type = in.read();
+        if (type < 0) {
+          break;
+        }
+        if (type == PUT) {
+          String crn = in.readUTF();
+          long fingerprint = in.readLong();
+          byte[] json = new byte[in.readInt()];
+          in.readFully(json);
+          entries.put(crn, new Entry(fingerprint, json));
+        } else if (type == DELETE) {
+          entries.remove(in.readUTF());
+        } else if (type == WATERMARK) {
+          highWaterMark = in.readUTF();
+        } else {
+          throw new IOException("Unexpected record type " + type + " at offset " + validLength);
+        }
+        records++;
+        validLength = counter.count;
+      }
+    } catch (EOFException e) {
+      // The last record was only partially written; it is discarded below.
+    }
+    if (validLength < Files.size(indexFile)) {
+      try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.WRITE)) {
+        channel.truncate(validLength);
+      }
+    }
+  }
+
+  private void compactIfNeeded() {
+    if (records < MIN_COMPACTION_RECORDS || records <= 2L * (entries.size() + 1)) {
+      return;
+    }
+    Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+    try {
+      try (FileOutputStream stream = new FileOutputStream(tempFile.toFile());
+          DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+          writePut(out, entry.getKey(), entry.getValue());
+        }
+        if (highWaterMark != null) {
+          out.writeByte(WATERMARK);
+          out.writeUTF(highWaterMark);
+        }
+        out.flush();
+        stream.getFD().sync();
+      }
+      Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      records = entries.size() + (highWaterMark != null ? 1 : 0);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to compact the index file " + indexFile, e);
+    }
+  }
+
+  private static void writePut(DataOutputStream out, String crn, Entry entry) throws IOException {
+    out.writeByte(PUT);
+    out.writeUTF(crn);
+    out.writeLong(entry.fingerprint);
+    out.writeInt(entry.json.length);
+    out.write(entry.json);
+  }
+
+  /**
+   * An indexed resource: the JSON form of its item, and the fingerprint of that JSON.
+   */
+  private static class Entry {
+    private final long fingerprint;
+    private final byte[] json;
+
+    Entry(long fingerprint, byte[] json) {
+      this.fingerprint = fingerprint;
+      this.json = json;
+    }
+
+    ResultItem item() {
+      return GsonSingleton.getGson().fromJson(new String(json, StandardCharsets.UTF_8), ResultItem.class);
+    }
+  }
+
+  /**
+   * The state of a single synchronization.
+   */
+  private class SyncRun {
+    private final Consumer<Change> listener;
+    private DataOutputStream out;
+    private String maxTimestamp;
+    private long added;
+    private long updated;
+    private long deleted;
+    private long unchanged;
+    private int requests;
+
+    SyncRun(Consumer<Change> listener) {
+      this.listener = listener;
+    }
+
+    void observeTimestamp(ResultItem item) {
+      Object value = item.get(timestampField);
+      if (value instanceof String) {
+        String timestamp = (String) value;
+        // The timestamps are ISO 8601 strings in UTC, so they are ordered lexicographically.
+        if ((maxTimestamp == null || timestamp.compareTo(maxTimestamp) > 0)
+            && (highWaterMark == null || timestamp.compareTo(highWaterMark) >= 0)) {
+          maxTimestamp = timestamp;
+        }
+      }
+    }
+
+    void put(ResultItem item) throws IOException {
+      byte[] json = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(item).getBytes(StandardCharsets.UTF_8);
+      long fingerprint = fingerprint(json);
+      Entry previous = entries.get(item.getCrn());
+      if (previous != null && previous.fingerprint == fingerprint) {
+        unchanged++;
+        return;
+      }
+      Entry entry = new Entry(fingerprint, json);
+      entries.put(item.getCrn(), entry);
+      writePut(out, item.getCrn(), entry);
+      records++;
+      if (previous == null) {
+        added++;
+        notify(ChangeType.ADDED, item.getCrn(), item, null);
+      } else {
+        updated++;
+        notify(ChangeType.UPDATED, item.getCrn(), item, previous);
+      }
+    }
+
+    void delete(String crn, ResultItem item) throws IOException {
+      Entry previous = entries.remove(crn);
+      out.writeByte(DELETE);
+      out.writeUTF(crn);
+      records++;
+      deleted++;
+      notify(ChangeType.DELETED, crn, item, previous);
+    }
+
+    // The previous item is only parsed back from the index if there is a listener.
+    private void notify(ChangeType type, String crn, ResultItem item, Entry previous) {
+      if (listener != null) {
+        listener.accept(new Change(type, crn, item, previous != null ? previous.item() : null));
+      }
+    }
+  }
+
+  private static class CountingInputStream extends FilterInputStream {
+    private long count;
+
+    CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        count++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        count += n;
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count += skipped;
+      return skipped;
+    }
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_search.v2;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ibm.cloud.platform_services.global_search.v2.model.ResultItem;
+import com.ibm.cloud.platform_services.global_search.v2.model.SearchOptions;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the SearchScanner class.
+ */
+public class SearchScannerTest {
+
+  protected MockWebServer server;
+  protected GlobalSearch globalSearchService;
+
+  // Serves three pages per slice: two results, one result, and an empty page that ends the slice.
+  // The "crn:shared" result is returned by both the "us-south" and the "eu-de" slices.
+  private static class SliceDispatcher extends Dispatcher {
+    private final Set<String> failingSlices = new HashSet<>();
+    private final List<RecordedRequest> requests = new ArrayList<>();
+
+    @Override
+    public synchronized MockResponse dispatch(RecordedRequest request) {
+      requests.add(request);
+      JsonObject body = JsonParser.parseString(request.getBody().readUtf8()).getAsJsonObject();
+      String query = body.get("query").getAsString();
+      String slice = query.contains("NOT") ? "other" : query.contains("us-south") ? "us-south" : "eu-de";
+      if (failingSlices.contains(slice)) {
+        return new MockResponse()
+          .setHeader("Content-type", "application/json")
+          .setResponseCode(500)
+          .setBody("{\"message\": \"Search failed\"}");
+      }
+      String cursor = body.has("search_cursor") ? body.get("search_cursor").getAsString() : null;
+      String items;
+      String nextCursor;
+      if (cursor == null) {
+        String second = slice.equals("other") ? "crn:other:1" : "crn:shared";
+        items = "{\"crn\": \"crn:" + slice + ":0\"}, {\"crn\": \"" + second + "\"}";
+        nextCursor = slice + "-1";
+      } else if (cursor.endsWith("-1")) {
+        items = "{\"crn\": \"crn:" + slice + ":2\"}";
+        nextCursor = slice + "-2";
+      } else {
+        items = "";
+        nextCursor = slice + "-3";
+      }
+      return new MockResponse()
+        .setHeader("Content-type", "application/json")
+        .setResponseCode(200)
+        .setBody("{\"search_cursor\": \"" + nextCursor + "\", \"limit\": 2, \"items\": [" + items + "]}");
+    }
+  }
+
+  private SearchOptions searchOptions() {
+    return new SearchOptions.Builder()
+      .query("type:resource-instance")
+      .limit(Long.valueOf("2"))
+      .timeout(Long.valueOf("5000"))
+      .build();
+  }
+
+  @Test
+  public void testScanSlices() throws Throwable {
+    SliceDispatcher dispatcher = new SliceDispatcher();
+    server.setDispatcher(dispatcher);
+    final ConcurrentLinkedQueue<SearchScanner.SliceProgress> reports = new ConcurrentLinkedQueue<>();
+
+    SearchScanner scanner = new SearchScanner.Builder(globalSearchService, searchOptions())
+      .slices("region", Arrays.asList("us-south", "eu-de"))
+      .maxConcurrency(2)
+      .progressListener(reports::add)
+      .build();
+    List<String> crns;
+    try (Stream<ResultItem> results = scanner.stream()) {
+      crns = results.map(ResultItem::getCrn).collect(Collectors.toList());
+    }
+
+    // 3 slices with 3 results each, less the duplicate.
+    assertEquals(crns.size(), 8);
+    assertEquals(new HashSet<>(crns).size(), 8);
+    assertTrue(crns.contains("crn:shared"));
+
+    List<SearchScanner.SliceProgress> progress = scanner.getProgress();
+    assertEquals(progress.size(), 3);
+    assertEquals(progress.get(0).getQuery(), "(type:resource-instance) AND region:\"us-south\"");
+    assertEquals(progress.get(1).getQuery(), "(type:resource-instance) AND region:\"eu-de\"");
+    assertEquals(progress.get(2).getQuery(), "(type:resource-instance) AND NOT region:(\"us-south\" OR \"eu-de\")");
+    long items = 0;
+    long duplicates = 0;
+    for (SearchScanner.SliceProgress slice : progress) {
+      assertTrue(slice.isDone());
+      assertEquals(slice.getPages(), 3);
+      items += slice.getItems();
+      duplicates += slice.getDuplicates();
+    }
+    assertEquals(items, 8);
+    assertEquals(duplicates, 1);
+    assertEquals(reports.size(), 12);
+
+    // Every request carries the limit and timeout of the original options.
+    assertEquals(dispatcher.requests.size(), 9);
+    for (RecordedRequest request : dispatcher.requests) {
+      assertEquals(request.getRequestUrl().queryParameter("limit"), "2");
+      assertEquals(request.getRequestUrl().queryParameter("timeout"), "5000");
+    }
+  }
+
+  @Test
+  public void testMaxResults() throws Throwable {
+    server.setDispatcher(new SliceDispatcher());
+    SearchScanner scanner = new SearchScanner.Builder(globalSearchService, searchOptions())
+      .slices("region", Arrays.asList("us-south", "eu-de"))
+      .maxConcurrency(1)
+      .maxResults(3)
+      .build();
+    try (Stream<ResultItem> results = scanner.stream()) {
+      assertEquals(results.count(), 3);
+    }
+  }
+
+  @Test
+  public void testEarlyClose() throws Throwable {
+    server.setDispatcher(new SliceDispatcher());
+    SearchScanner scanner = new SearchScanner.Builder(globalSearchService, searchOptions())
+      .slices("region", Arrays.asList("us-south", "eu-de"))
+      .maxBufferedPages(1)
+      .build();
+    try (Stream<ResultItem> results = scanner.stream()) {
+      assertEquals(results.limit(1).count(), 1);
+    }
+  }
+
+  @Test
+  public void testSingleSlice() throws Throwable {
+    SliceDispatcher dispatcher = new SliceDispatcher();
+    server.setDispatcher(dispatcher);
+    SearchScanner scanner = new SearchScanner.Builder(globalSearchService, searchOptions()).build();
+    try (Stream<ResultItem> results = scanner.stream()) {
+      assertEquals(results.count(), 3);
+    }
+    assertEquals(scanner.getProgress().size(), 1);
+    assertEquals(scanner.getProgress().get(0).getQuery(), "type:resource-instance");
+  }
+
+  @Test
+  public void testSliceFailure() throws Throwable {
+    SliceDispatcher dispatcher = new SliceDispatcher();
+    dispatcher.failingSlices.add("eu-de");
+    server.setDispatcher(dispatcher);
+    SearchScanner scanner = new SearchScanner.Builder(globalSearchService, searchOptions())
+      .slices("region", Arrays.asList("us-south", "eu-de"))
+      .build();
+    try (Stream<ResultItem> results = scanner.stream()) {
+      results.count();
+      fail("Expected the failure of the eu-de slice to be rethrown");
+    } catch (ServiceResponseException e) {
+      assertEquals(e.getStatusCode(), 500);
+    }
+  }
+
+  @Test
+  public void testSliceError() throws Throwable {
+    server.setDispatcher(new SliceDispatcher());
+    SearchScanner scanner = new SearchScanner.Builder(globalSearchService, searchOptions())
+      .slices("region", Arrays.asList("us-south", "eu-de"))
+      .progressListener(progress -> {
+        throw new AssertionError("listener failed");
+      })
+      .build();
+    try (Stream<ResultItem> results = scanner.stream()) {
+      results.count();
+      fail("Expected the error of the listener to be rethrown");
+    } catch (AssertionError e) {
+      assertEquals(e.getMessage(), "listener failed");
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testSearchCursorNotAllowed() throws Throwable {
+    new SearchScanner.Builder(globalSearchService, searchOptions().newBuilder().searchCursor("cursor").build())
+      .build();
+  }
+
+  @Test(expectedExceptions = IllegalStateException.class)
+  public void testStartedTwice() throws Throwable {
+    server.setDispatcher(new SliceDispatcher());
+    SearchScanner scanner = new SearchScanner.Builder(globalSearchService, searchOptions()).build();
+    try {
+      scanner.iterator();
+      scanner.iterator();
+    } finally {
+      scanner.close();
+    }
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    globalSearchService = GlobalSearch.newInstance("testService");
+    globalSearchService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    globalSearchService = null;
+  }
+}
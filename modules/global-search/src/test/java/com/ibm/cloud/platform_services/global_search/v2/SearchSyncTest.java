@@ -0,0 +1,247 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_search.v2;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ibm.cloud.platform_services.global_search.v2.SearchSync.Change;
+import com.ibm.cloud.platform_services.global_search.v2.SearchSync.ChangeType;
+import com.ibm.cloud.platform_services.global_search.v2.model.SearchOptions;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the SearchSync class.
+ */
+public class SearchSyncTest {
+
+  protected MockWebServer server;
+  protected GlobalSearch globalSearchService;
+  protected Path indexFile;
+  protected ResourceDispatcher dispatcher;
+
+  // Serves the resources of an in-memory account, honouring the "updated_at" range of the query and the
+  // "is_deleted" parameter. Each search returns one page of results followed by an empty page.
+  private static class ResourceDispatcher extends Dispatcher {
+    private static final Pattern RANGE = Pattern.compile("updated_at:\\[\"([^\"]+)\" TO \\*\\]");
+    private final Map<String, String[]> resources = new LinkedHashMap<>();
+    private final List<String> queries = new ArrayList<>();
+
+    synchronized void put(String crn, String name, String updatedAt, boolean deleted) {
+      resources.put(crn, new String[] { name, updatedAt, String.valueOf(deleted) });
+    }
+
+    @Override
+    public synchronized MockResponse dispatch(RecordedRequest request) {
+      JsonObject body = JsonParser.parseString(request.getBody().readUtf8()).getAsJsonObject();
+      StringBuilder items = new StringBuilder();
+      if (!body.has("search_cursor")) {
+        String query = body.get("query").getAsString();
+        String deleted = request.getRequestUrl().queryParameter("is_deleted");
+        queries.add(query + (deleted != null ? " [is_deleted=" + deleted + "]" : ""));
+        Matcher range = RANGE.matcher(query);
+        String from = range.find() ? range.group(1) : null;
+        for (Map.Entry<String, String[]> resource : resources.entrySet()) {
+          String[] value = resource.getValue();
+          if (Boolean.parseBoolean(value[2]) != "true".equals(deleted)) {
+            continue;
+          }
+          if (from != null && value[1].compareTo(from) < 0) {
+            continue;
+          }
+          if (items.length() > 0) {
+            items.append(", ");
+          }
+          items.append("{\"crn\": \"" + resource.getKey() + "\", \"name\": \"" + value[0]
+              + "\", \"updated_at\": \"" + value[1] + "\"}");
+        }
+      }
+      return new MockResponse()
+        .setHeader("Content-type", "application/json")
+        .setResponseCode(200)
+        .setBody("{\"search_cursor\": \"next\", \"limit\": 100, \"items\": [" + items + "]}");
+    }
+  }
+
+  private SearchSync newSync() {
+    SearchOptions options = new SearchOptions.Builder()
+      .query("family:resource_controller")
+      .addFields("name")
+      .limit(Long.valueOf("100"))
+      .build();
+    return new SearchSync.Builder(globalSearchService, options, indexFile).build();
+  }
+
+  @Test
+  public void testInitialSync() throws Throwable {
+    dispatcher.put("crn:a", "a", "2026-01-01T00:00:00Z", false);
+    dispatcher.put("crn:b", "b", "2026-01-02T00:00:00Z", false);
+    dispatcher.put("crn:c", "c", "2026-01-03T00:00:00Z", false);
+
+    List<Change> changes = new ArrayList<>();
+    SearchSync sync = newSync();
+    SearchSync.Summary summary = sync.sync(changes::add);
+    assertTrue(summary.isFullScan());
+    assertEquals(summary.getAdded(), 3);
+    assertEquals(summary.getRequests(), 2);
+    assertEquals(changes.size(), 3);
+    for (Change change : changes) {
+      assertEquals(change.getType(), ChangeType.ADDED);
+    }
+    assertEquals(sync.size(), 3);
+    assertEquals(sync.getHighWaterMark(), "2026-01-03T00:00:00Z");
+    assertEquals(dispatcher.queries.get(0), "family:resource_controller");
+  }
+
+  @Test
+  public void testIncrementalSync() throws Throwable {
+    dispatcher.put("crn:a", "a", "2026-01-01T00:00:00Z", false);
+    dispatcher.put("crn:b", "b", "2026-01-02T00:00:00Z", false);
+    dispatcher.put("crn:c", "c", "2026-01-03T00:00:00Z", false);
+    SearchSync sync = newSync();
+    sync.sync(null);
+
+    dispatcher.put("crn:a", "a2", "2026-01-04T00:00:00Z", false);
+    dispatcher.put("crn:b", "b", "2026-01-05T00:00:00Z", true);
+    dispatcher.put("crn:d", "d", "2026-01-06T00:00:00Z", false);
+
+    Map<String, ChangeType> changes = new LinkedHashMap<>();
+    Map<String, Change> details = new LinkedHashMap<>();
+    SearchSync.Summary summary = sync.sync(change -> {
+      changes.put(change.getCrn(), change.getType());
+      details.put(change.getCrn(), change);
+    });
+    assertFalse(summary.isFullScan());
+    assertEquals(changes.get("crn:a"), ChangeType.UPDATED);
+    assertEquals(changes.get("crn:b"), ChangeType.DELETED);
+    assertEquals(changes.get("crn:d"), ChangeType.ADDED);
+    assertEquals(changes.size(), 3);
+    // The updated and deleted resources carry the item previously stored in the index.
+    assertEquals(details.get("crn:a").getItem().get("name"), "a2");
+    assertEquals(details.get("crn:a").getPrevious().get("name"), "a");
+    assertEquals(details.get("crn:b").getPrevious().get("updated_at"), "2026-01-02T00:00:00Z");
+    assertNull(details.get("crn:d").getPrevious());
+    assertEquals(sync.get("crn:a").get("name"), "a2");
+    assertNull(sync.get("crn:b"));
+    // "crn:c" shares the previous high-water mark, so it is retrieved again but not reported.
+    assertEquals(summary.getUnchanged(), 1);
+    assertEquals(summary.getRequests(), 4);
+    assertEquals(sync.size(), 3);
+    assertFalse(sync.contains("crn:b"));
+    assertEquals(sync.getHighWaterMark(), "2026-01-06T00:00:00Z");
+
+    String range = "(family:resource_controller) AND updated_at:[\"2026-01-03T00:00:00Z\" TO *]";
+    assertEquals(dispatcher.queries.get(1), range);
+    assertEquals(dispatcher.queries.get(2), range + " [is_deleted=true]");
+  }
+
+  @Test
+  public void testReloadIndex() throws Throwable {
+    dispatcher.put("crn:a", "a", "2026-01-01T00:00:00Z", false);
+    dispatcher.put("crn:b", "b", "2026-01-02T00:00:00Z", false);
+    newSync().sync(null);
+
+    SearchSync reloaded = newSync();
+    assertEquals(reloaded.size(), 2);
+    assertEquals(reloaded.getHighWaterMark(), "2026-01-02T00:00:00Z");
+    assertEquals(reloaded.get("crn:b").getCrn(), "crn:b");
+    assertEquals(reloaded.get("crn:b").get("name"), "b");
+    SearchSync.Summary summary = reloaded.sync(null);
+    assertFalse(summary.isFullScan());
+    assertEquals(summary.getAdded() + summary.getUpdated() + summary.getDeleted(), 0);
+  }
+
+  @Test
+  public void testTruncatedIndex() throws Throwable {
+    dispatcher.put("crn:a", "a", "2026-01-01T00:00:00Z", false);
+    newSync().sync(null);
+    long length = Files.size(indexFile);
+
+    // Simulate a crash in the middle of writing a record.
+    Files.write(indexFile, new byte[] { 'P', 0, 20, 'c', 'r' }, StandardOpenOption.APPEND);
+    SearchSync reloaded = newSync();
+    assertEquals(reloaded.size(), 1);
+    assertEquals(Files.size(indexFile), length);
+  }
+
+  @Test
+  public void testFullSyncDetectsMissingResources() throws Throwable {
+    dispatcher.put("crn:a", "a", "2026-01-01T00:00:00Z", false);
+    dispatcher.put("crn:b", "b", "2026-01-02T00:00:00Z", false);
+    SearchSync sync = newSync();
+    sync.sync(null);
+
+    dispatcher.resources.remove("crn:a");
+    List<Change> changes = new ArrayList<>();
+    SearchSync.Summary summary = sync.fullSync(changes::add);
+    assertTrue(summary.isFullScan());
+    assertEquals(summary.getDeleted(), 1);
+    assertEquals(summary.getUnchanged(), 1);
+    assertEquals(changes.size(), 1);
+    assertEquals(changes.get(0).getCrn(), "crn:a");
+    assertNull(changes.get(0).getItem());
+    assertEquals(changes.get(0).getPrevious().get("name"), "a");
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testSearchCursorNotAllowed() throws Throwable {
+    SearchOptions options = new SearchOptions.Builder().query("*").searchCursor("cursor").build();
+    new SearchSync.Builder(globalSearchService, options, indexFile).build();
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() throws IOException {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      dispatcher = new ResourceDispatcher();
+      server.setDispatcher(dispatcher);
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    indexFile = Files.createTempDirectory("search-sync").resolve("index");
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    globalSearchService = GlobalSearch.newInstance("testService");
+    globalSearchService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    globalSearchService = null;
+    Files.deleteIfExists(indexFile);
+    Files.deleteIfExists(indexFile.getParent());
+  }
+}
@@ -0,0 +1,478 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_tagging.v1;
+
+import com.ibm.cloud.platform_services.common.BoundedParallel;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.AttachTagOptions;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.DetachTagOptions;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.Resource;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.TagResults;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.TagResultsItem;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * BulkTagger attaches tags to, or detaches tags from, any number of resources with the "attachTag" and "detachTag"
+ * methods, splitting the resources into chunks that are sent with several requests in flight at a time.
+ *
+ * <p>
+ * The resources are read from a Stream as the requests are sent, "chunkSize" resources per request. A request
+ * rejected with "413 Payload Too Large", or that times out, is split in two and the halves are sent instead; the
+ * remaining chunks of the operation are then halved too. The per-resource errors reported by the service (the
+ * {@link TagResultsItem}s whose "is_error" is true) and the resources of the requests that failed with a retryable
+ * status (408, 429 or 5xx) or a connection failure are merged, and only those resources are sent again, in evenly
+ * sized chunks, after "retryDelay" milliseconds (doubling for each further attempt, up to "maxRetryDelay"). The
+ * resources of the requests that failed with another status are not sent again.
+ */
+public class BulkTagger {
+
+  /**
+   * The outcome of a bulk operation.
+   */
+  public static class Result {
+    private final long resources;
+    private final long succeeded;
+    private final Map<String, String> failures;
+    private final long requests;
+    private final long retried;
+
+    Result(long resources, long succeeded, Map<String, String> failures, long requests, long retried) {
+      this.resources = resources;
+      this.succeeded = succeeded;
+      this.failures = Collections.unmodifiableMap(failures);
+      this.requests = requests;
+      this.retried = retried;
+    }
+
+    /**
+     * Gets the number of resources read from the stream.
+     *
+     * @return the number of resources
+     */
+    public long getResources() {
+      return resources;
+    }
+
+    /**
+     * Gets the number of resources that were tagged (or untagged).
+     *
+     * @return the number of resources that succeeded
+     */
+    public long getSucceeded() {
+      return succeeded;
+    }
+
+    /**
+     * Gets the error message of the last attempt of each resource that failed, by resource ID.
+     *
+     * @return the failures
+     */
+    public Map<String, String> getFailures() {
+      return failures;
+    }
+
+    /**
+     * Gets the number of requests sent.
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+      return requests;
+    }
+
+    /**
+     * Gets the number of times a resource was sent again after a failure.
+     *
+     * @return the number of retried resources
+     */
+    public long getRetried() {
+      return retried;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private GlobalTagging client;
+    private int chunkSize = 100;
+    private int maxConcurrency = 8;
+    private int maxAttempts = 3;
+    private long retryDelay = 1000;
+    private long maxRetryDelay = 60000;
+    private String accountId;
+    private String tagType;
+    private Executor executor;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the GlobalTagging instance used to attach and detach the tags
+     */
+    public Builder(GlobalTagging client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the maximum number of resources per request. Defaults to 100, the maximum accepted by the service.
+     *
+     * @param chunkSize the maximum number of resources per request
+     * @return the BulkTagger builder
+     */
+    public Builder chunkSize(int chunkSize) {
+      this.chunkSize = chunkSize;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of requests in flight. Defaults to 8.
+     *
+     * @param maxConcurrency the maximum number of requests in flight
+     * @return the BulkTagger builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of times a resource is sent. Defaults to 3.
+     *
+     * @param maxAttempts the maximum number of attempts
+     * @return the BulkTagger builder
+     */
+    public Builder maxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Set the time, in milliseconds, to wait before sending the failed resources again. The time doubles for each
+     * further attempt. Defaults to 1000.
+     *
+     * @param retryDelay the retry delay in milliseconds
+     * @return the BulkTagger builder
+     */
+    public Builder retryDelay(long retryDelay) {
+      this.retryDelay = retryDelay;
+      return this;
+    }
+
+    /**
+     * Set the maximum time, in milliseconds, to wait before sending the failed resources again. Defaults to 60000.
+     *
+     * @param maxRetryDelay the maximum retry delay in milliseconds
+     * @return the BulkTagger builder
+     */
+    public Builder maxRetryDelay(long maxRetryDelay) {
+      this.maxRetryDelay = maxRetryDelay;
+      return this;
+    }
+
+    /**
+     * Set the ID of the account that owns the resources.
+     *
+     * @param accountId the account ID
+     * @return the BulkTagger builder
+     */
+    public Builder accountId(String accountId) {
+      this.accountId = accountId;
+      return this;
+    }
+
+    /**
+     * Set the type of the tags ("user", "service" or "access"). Defaults to the default of the service ("user").
+     *
+     * @param tagType the tag type
+     * @return the BulkTagger builder
+     */
+    public Builder tagType(String tagType) {
+      this.tagType = tagType;
+      return this;
+    }
+
+    /**
+     * Set the executor that runs the requests. If not set, each operation creates a pool of "maxConcurrency"
+     * daemon threads that is shut down when the operation completes.
+     *
+     * @param executor the executor
+     * @return the BulkTagger builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds a BulkTagger.
+     *
+     * @return the new BulkTagger instance
+     */
+    public BulkTagger build() {
+      return new BulkTagger(this);
+    }
+  }
+
+  private final GlobalTagging client;
+  private final int chunkSize;
+  private final int maxConcurrency;
+  private final int maxAttempts;
+  private final long retryDelay;
+  private final long maxRetryDelay;
+  private final String accountId;
+  private final String tagType;
+  private final Executor executor;
+
+  protected BulkTagger(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.chunkSize > 0, "chunkSize must be greater than zero");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    Validator.isTrue(builder.maxAttempts > 0, "maxAttempts must be greater than zero");
+    Validator.isTrue(builder.retryDelay >= 0, "retryDelay cannot be negative");
+    Validator.isTrue(builder.maxRetryDelay >= builder.retryDelay, "maxRetryDelay cannot be less than retryDelay");
+    this.client = builder.client;
+    this.chunkSize = builder.chunkSize;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.maxAttempts = builder.maxAttempts;
+    this.retryDelay = builder.retryDelay;
+    this.maxRetryDelay = builder.maxRetryDelay;
+    this.accountId = builder.accountId;
+    this.tagType = builder.tagType;
+    this.executor = builder.executor;
+  }
+
+  /**
+   * Attaches tags to resources and waits until all of them have been processed.
+   *
+   * @param resources the resources, read as the requests are sent
+   * @param tagNames the names of the tags
+   * @return the outcome of the operation
+   */
+  public Result attach(Stream<Resource> resources, List<String> tagNames) {
+    Validator.notNull(resources, "resources cannot be null");
+    Validator.notEmpty(tagNames, "tagNames cannot be empty");
+    return new Operation(resources, chunk -> {
+      AttachTagOptions.Builder options = new AttachTagOptions.Builder()
+        .resources(chunk)
+        .tagNames(tagNames)
+        .accountId(accountId)
+        .tagType(tagType);
+      return client.attachTag(options.build()).execute().getResult();
+    }).run();
+  }
+
+  /**
+   * Detaches tags from resources and waits until all of them have been processed.
+   *
+   * @param resources the resources, read as the requests are sent
+   * @param tagNames the names of the tags
+   * @return the outcome of the operation
+   */
+  public Result detach(Stream<Resource> resources, List<String> tagNames) {
+    Validator.notNull(resources, "resources cannot be null");
+    Validator.notEmpty(tagNames, "tagNames cannot be empty");
+    return new Operation(resources, chunk -> {
+      DetachTagOptions.Builder options = new DetachTagOptions.Builder()
+        .resources(chunk)
+        .tagNames(tagNames)
+        .accountId(accountId)
+        .tagType(tagType);
+      return client.detachTag(options.build()).execute().getResult();
+    }).run();
+  }
+
+  private final class Operation {
+    private final Stream<Resource> stream;
+    private final Function<List<Resource>, TagResults> call;
+    private final AtomicInteger currentChunkSize = new AtomicInteger(chunkSize);
+    private final AtomicLong resources = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    // The failures and the resources to send again, guarded by "this".
+    private final Map<String, String> failures = new LinkedHashMap<>();
+    private List<Resource> retries = new ArrayList<>();
+    private int attempt = 1;
+
+    Operation(Stream<Resource> stream, Function<List<Resource>, TagResults> call) {
+      this.stream = stream;
+      this.call = call;
+    }
+
+    Result run() {
+      ExecutorService pool = null;
+      Executor workers = executor;
+      if (workers == null) {
+        pool = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+          Thread thread = new Thread(runnable, "bulk-tagger");
+          thread.setDaemon(true);
+          return thread;
+        });
+        workers = pool;
+      }
+      try {
+        final Iterator<Resource> iterator = stream.iterator();
+        runRound(() -> {
+          synchronized (iterator) {
+            List<Resource> chunk = new ArrayList<>();
+            int size = currentChunkSize.get();
+            while (chunk.size() < size && iterator.hasNext()) {
+              chunk.add(iterator.next());
+            }
+            resources.addAndGet(chunk.size());
+            return chunk.isEmpty() ? null : chunk;
+          }
+        }, workers);
+        List<Resource> pending;
+        while (!(pending = takeRetries()).isEmpty()) {
+          sleep(Math.min(maxRetryDelay, retryDelay << Math.min(attempt - 2, 30)));
+          retried.addAndGet(pending.size());
+          final List<List<Resource>> chunks = split(pending);
+          final AtomicInteger next = new AtomicInteger();
+          runRound(() -> {
+            int i = next.getAndIncrement();
+            return i < chunks.size() ? chunks.get(i) : null;
+          }, workers);
+        }
+      } finally {
+        stream.close();
+        if (pool != null) {
+          pool.shutdown();
+        }
+      }
+      synchronized (this) {
+        return new Result(resources.get(), succeeded.get(), new LinkedHashMap<>(failures), requests.get(),
+            retried.get());
+      }
+    }
+
+    // Sends the chunks returned by the supplier until it returns null.
+    private void runRound(Supplier<List<Resource>> chunks, Executor workers) {
+      BoundedParallel.forEach(chunks, maxConcurrency, workers, this::send);
+    }
+
+    private void send(List<Resource> chunk) {
+      TagResults results;
+      requests.incrementAndGet();
+      try {
+        results = call.apply(chunk);
+      } catch (ServiceResponseException e) {
+        int status = e.getStatusCode();
+        if (status == 413 && chunk.size() > 1) {
+          halve(chunk);
+        } else {
+          fail(chunk, e.getMessage(), status == 408 || status == 429 || status >= 500);
+        }
+        return;
+      } catch (RuntimeException e) {
+        if (e.getCause() instanceof InterruptedIOException && chunk.size() > 1) {
+          halve(chunk);
+        } else {
+          fail(chunk, e.getMessage(), true);
+        }
+        return;
+      }
+      Map<String, String> errors = new HashMap<>();
+      if (results != null && results.getResults() != null) {
+        for (TagResultsItem item : results.getResults()) {
+          if (Boolean.TRUE.equals(item.isIsError())) {
+            errors.put(item.getResourceId(), item.getMessage() != null ? item.getMessage() : "Unknown error");
+          }
+        }
+      }
+      List<Resource> failed = new ArrayList<>();
+      synchronized (this) {
+        for (Resource resource : chunk) {
+          String message = errors.get(resource.resourceId());
+          if (message != null) {
+            failures.put(resource.resourceId(), message);
+            failed.add(resource);
+          } else {
+            failures.remove(resource.resourceId());
+            succeeded.incrementAndGet();
+          }
+        }
+      }
+      retry(failed);
+    }
+
+    // Sends the halves of a chunk that was too large, and sends the next chunks with the smaller size too.
+    private void halve(List<Resource> chunk) {
+      int half = chunk.size() / 2;
+      currentChunkSize.accumulateAndGet(chunk.size() - half, Math::min);
+      send(new ArrayList<>(chunk.subList(0, half)));
+      send(new ArrayList<>(chunk.subList(half, chunk.size())));
+    }
+
+    private void fail(List<Resource> chunk, String message, boolean retryable) {
+      synchronized (this) {
+        for (Resource resource : chunk) {
+          failures.put(resource.resourceId(), message);
+        }
+      }
+      if (retryable) {
+        retry(chunk);
+      }
+    }
+
+    private synchronized void retry(List<Resource> failed) {
+      if (attempt < maxAttempts) {
+        retries.addAll(failed);
+      }
+    }
+
+    private synchronized List<Resource> takeRetries() {
+      List<Resource> pending = retries;
+      retries = new ArrayList<>();
+      attempt++;
+      return pending;
+    }
+
+    // Splits the resources into the fewest chunks of at most the current chunk size, of (nearly) equal sizes.
+    private List<List<Resource>> split(List<Resource> pending) {
+      int size = currentChunkSize.get();
+      int count = (pending.size() + size - 1) / size;
+      List<List<Resource>> chunks = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        chunks.add(new ArrayList<>(pending.subList(pending.size() * i / count, pending.size() * (i + 1) / count)));
+      }
+      return chunks;
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting to retry the failed resources", e);
+    }
+  }
+}
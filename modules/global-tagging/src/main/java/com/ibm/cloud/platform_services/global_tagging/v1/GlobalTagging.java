@@ -66,6 +66,24 @@ public class GlobalTagging extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://tags.global-search-tagging.cloud.ibm.com";
 
+  private static final ResponseConverter<TagList> LIST_TAGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TagList>() { }.getType());
+
+  private static final ResponseConverter<CreateTagResults> CREATE_TAG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreateTagResults>() { }.getType());
+
+  private static final ResponseConverter<DeleteTagsResult> DELETE_TAG_ALL_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DeleteTagsResult>() { }.getType());
+
+  private static final ResponseConverter<DeleteTagResults> DELETE_TAG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DeleteTagResults>() { }.getType());
+
+  private static final ResponseConverter<TagResults> ATTACH_TAG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TagResults>() { }.getType());
+
+  private static final ResponseConverter<TagResults> DETACH_TAG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TagResults>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `GlobalTagging` client.
    * The default service name is used to configure the client instance.
@@ -157,8 +175,7 @@ public class GlobalTagging extends BaseService {
     if (listTagsOptions.attachedOnly() != null) {
       builder.query("attached_only", String.valueOf(listTagsOptions.attachedOnly()));
     }
-    ResponseConverter<TagList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TagList>() { }.getType());
+    ResponseConverter<TagList> responseConverter = LIST_TAGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -208,8 +225,7 @@ public class GlobalTagging extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.add("tag_names", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createTagOptions.tagNames()));
     builder.bodyJson(contentJson);
-    ResponseConverter<CreateTagResults> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreateTagResults>() { }.getType());
+    ResponseConverter<CreateTagResults> responseConverter = CREATE_TAG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -246,8 +262,7 @@ public class GlobalTagging extends BaseService {
     if (deleteTagAllOptions.tagType() != null) {
       builder.query("tag_type", String.valueOf(deleteTagAllOptions.tagType()));
     }
-    ResponseConverter<DeleteTagsResult> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DeleteTagsResult>() { }.getType());
+    ResponseConverter<DeleteTagsResult> responseConverter = DELETE_TAG_ALL_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -296,8 +311,7 @@ public class GlobalTagging extends BaseService {
     if (deleteTagOptions.tagType() != null) {
       builder.query("tag_type", String.valueOf(deleteTagOptions.tagType()));
     }
-    ResponseConverter<DeleteTagResults> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DeleteTagResults>() { }.getType());
+    ResponseConverter<DeleteTagResults> responseConverter = DELETE_TAG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -351,8 +365,7 @@ public class GlobalTagging extends BaseService {
       contentJson.add("query", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(attachTagOptions.query()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TagResults> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TagResults>() { }.getType());
+    ResponseConverter<TagResults> responseConverter = ATTACH_TAG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -411,8 +424,7 @@ public class GlobalTagging extends BaseService {
       contentJson.add("query", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(detachTagOptions.query()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TagResults> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TagResults>() { }.getType());
+    ResponseConverter<TagResults> responseConverter = DETACH_TAG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -0,0 +1,1037 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_tagging.v1;
+
+import com.ibm.cloud.platform_services.common.BoundedParallel;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.AttachTagOptions;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.DetachTagOptions;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.ListTagsOptions;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.Resource;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.Tag;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.TagResults;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.TagResultsItem;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.TagsPager;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * TagIndex is a local inverted index of the tags (of one tag type) attached to resources, which answers "which
+ * resources carry these tags" and "which tags does this resource carry" without any request.
+ *
+ * <p>
+ * The CRNs and the tag names are interned as int IDs. The resources of each tag are kept in a compressed bitmap of
+ * resource IDs (split into chunks of 65536 IDs, each stored as a sorted array when it holds at most 4096 IDs and as a
+ * bitmap otherwise), so that boolean queries such as {@code env:prod AND (team:a OR team:b) AND NOT deprecated} are
+ * evaluated with a few word-wise operations per chunk. Tag names are compared case-insensitively, as by the service.
+ *
+ * <p>
+ * The index is populated by {@link #load(Collection)}, which lists the tags of each resource with "listTags" and
+ * "attachedTo", and by {@link #put(String, Collection)}, which takes the tags of a resource obtained elsewhere (e.g.
+ * from the "tags" field of Global Search results). It is kept up to date by sending the "attachTag" and "detachTag"
+ * requests through {@link #attachTag(AttachTagOptions)} and {@link #detachTag(DetachTagOptions)}, which apply the
+ * changes of the indexed resources that didn't fail. The other resources are left out of the index, since their
+ * remaining tags are unknown; requests that select the resources with a query rather than a list of resources are
+ * sent but not applied. The index may be queried and updated by several threads concurrently.
+ */
+public class TagIndex {
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private GlobalTagging client;
+    private String tagType = ListTagsOptions.TagType.USER;
+    private String accountId;
+    private int maxConcurrency = 8;
+    private Executor executor;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the GlobalTagging instance used to list, attach and detach the tags
+     */
+    public Builder(GlobalTagging client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the type of the indexed tags ("user", "service" or "access"). Defaults to "user".
+     *
+     * @param tagType the tag type
+     * @return the TagIndex builder
+     */
+    public Builder tagType(String tagType) {
+      this.tagType = tagType;
+      return this;
+    }
+
+    /**
+     * Set the ID of the account whose tags are listed.
+     *
+     * @param accountId the account ID
+     * @return the TagIndex builder
+     */
+    public Builder accountId(String accountId) {
+      this.accountId = accountId;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of "listTags" requests in flight during a load. Defaults to 8.
+     *
+     * @param maxConcurrency the maximum number of requests in flight
+     * @return the TagIndex builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the executor that runs the "listTags" requests. If not set, each load creates a pool of "maxConcurrency"
+     * daemon threads that is shut down when the load completes.
+     *
+     * @param executor the executor
+     * @return the TagIndex builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds a TagIndex.
+     *
+     * @return the new TagIndex instance
+     */
+    public TagIndex build() {
+      return new TagIndex(this);
+    }
+  }
+
+  private static final int[] NO_TAGS = new int[0];
+
+  private final GlobalTagging client;
+  private final String tagType;
+  private final String accountId;
+  private final int maxConcurrency;
+  private final Executor executor;
+
+  // The following fields are guarded by "lock".
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Integer> resourceIds = new HashMap<>();
+  private final List<String> crns = new ArrayList<>();
+  // The sorted tag IDs of each resource, by resource ID; null for the resources that are not indexed.
+  private final List<int[]> resourceTags = new ArrayList<>();
+  private final Map<String, Integer> tagIds = new HashMap<>();
+  private final List<String> tagNames = new ArrayList<>();
+  private final List<Postings> postings = new ArrayList<>();
+  private final Postings indexed = new Postings();
+
+  private final AtomicLong listRequests = new AtomicLong();
+
+  protected TagIndex(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.notNull(builder.tagType, "tagType cannot be null");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    this.client = builder.client;
+    this.tagType = builder.tagType;
+    this.accountId = builder.accountId;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.executor = builder.executor;
+  }
+
+  /**
+   * Lists the tags attached to resources with the "listTags" method and replaces their tags in the index.
+   *
+   * @param resources the CRNs of the resources
+   */
+  public void load(Collection<String> resources) {
+    Validator.notNull(resources, "resources cannot be null");
+    List<String> list = new ArrayList<>(resources);
+    if (list.isEmpty()) {
+      return;
+    }
+    ExecutorService pool = null;
+    Executor workers = executor;
+    if (workers == null) {
+      pool = Executors.newFixedThreadPool(Math.min(maxConcurrency, list.size()), runnable -> {
+        Thread thread = new Thread(runnable, "tag-index");
+        thread.setDaemon(true);
+        return thread;
+      });
+      workers = pool;
+    }
+    try {
+      List<List<String>> results = BoundedParallel.map(list, maxConcurrency, workers, this::listTags);
+      lock.writeLock().lock();
+      try {
+        for (int i = 0; i < list.size(); i++) {
+          replace(list.get(i), results.get(i));
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+  }
+
+  /**
+   * Replaces the tags of a resource in the index.
+   *
+   * @param crn the CRN of the resource
+   * @param tags the names of all the tags attached to the resource
+   */
+  public void put(String crn, Collection<String> tags) {
+    Validator.notNull(crn, "crn cannot be null");
+    Validator.notNull(tags, "tags cannot be null");
+    lock.writeLock().lock();
+    try {
+      replace(crn, tags);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a resource from the index.
+   *
+   * @param crn the CRN of the resource
+   * @return true if the resource was indexed
+   */
+  public boolean remove(String crn) {
+    Validator.notNull(crn, "crn cannot be null");
+    lock.writeLock().lock();
+    try {
+      if (!isIndexed(crn)) {
+        return false;
+      }
+      Integer id = resourceIds.get(crn);
+      for (int tag : resourceTags.get(id)) {
+        postings.get(tag).remove(id);
+      }
+      resourceTags.set(id, null);
+      indexed.remove(id);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Attaches tags with the "attachTag" method and applies the changes to the indexed resources.
+   *
+   * @param options the options of the "attachTag" request
+   * @return the results of the request
+   */
+  public TagResults attachTag(AttachTagOptions options) {
+    TagResults results = client.attachTag(options).execute().getResult();
+    if (options.resources() != null && tagType.equals(typeOf(options.tagType()))) {
+      List<String> names = names(options.tagName(), options.tagNames());
+      boolean replace = Boolean.TRUE.equals(options.replace());
+      lock.writeLock().lock();
+      try {
+        for (String crn : succeeded(options.resources(), results)) {
+          if (!isIndexed(crn)) {
+            continue;
+          }
+          Set<String> tags = new HashSet<>(names);
+          if (!replace) {
+            tags.addAll(tagsOf(crn));
+          }
+          replace(crn, tags);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Detaches tags with the "detachTag" method and applies the changes to the indexed resources.
+   *
+   * @param options the options of the "detachTag" request
+   * @return the results of the request
+   */
+  public TagResults detachTag(DetachTagOptions options) {
+    TagResults results = client.detachTag(options).execute().getResult();
+    if (options.resources() != null && tagType.equals(typeOf(options.tagType()))) {
+      Set<String> names = new HashSet<>();
+      for (String name : names(options.tagName(), options.tagNames())) {
+        names.add(normalize(name));
+      }
+      lock.writeLock().lock();
+      try {
+        for (String crn : succeeded(options.resources(), results)) {
+          if (!isIndexed(crn)) {
+            continue;
+          }
+          Set<String> tags = new HashSet<>();
+          for (String tag : tagsOf(crn)) {
+            if (!names.contains(tag)) {
+              tags.add(tag);
+            }
+          }
+          replace(crn, tags);
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Gets the resources that carry a tag.
+   *
+   * @param tag the tag name
+   * @return the CRNs of the resources
+   */
+  public List<String> getResources(String tag) {
+    Validator.notNull(tag, "tag cannot be null");
+    lock.readLock().lock();
+    try {
+      Integer id = tagIds.get(normalize(tag));
+      return id != null ? toCrns(postings.get(id)) : Collections.<String>emptyList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the tags of a resource.
+   *
+   * @param crn the CRN of the resource
+   * @return the names of the tags, in lower case, or null if the resource is not indexed
+   */
+  public Set<String> getTags(String crn) {
+    Validator.notNull(crn, "crn cannot be null");
+    lock.readLock().lock();
+    try {
+      return isIndexed(crn) ? Collections.unmodifiableSet(tagsOf(crn)) : null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the resources that match a boolean tag query. A query combines tag names with the (case-insensitive)
+   * operators AND, OR and NOT, and with parentheses; NOT has the highest precedence and OR the lowest. Tag names
+   * that contain spaces or parentheses, or that are operators, are written in double quotes, e.g.
+   * {@code "cost center:42" AND NOT (env:dev OR env:test)}.
+   *
+   * @param query the query
+   * @return the CRNs of the matching resources
+   */
+  public List<String> query(String query) {
+    lock.readLock().lock();
+    try {
+      return toCrns(evaluate(query));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the number of resources that match a boolean tag query, as described by {@link #query(String)}.
+   *
+   * @param query the query
+   * @return the number of matching resources
+   */
+  public int count(String query) {
+    lock.readLock().lock();
+    try {
+      return evaluate(query).cardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the number of indexed resources.
+   *
+   * @return the number of resources
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return indexed.cardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the names of the tags attached to at least one indexed resource, in lower case and in alphabetical order.
+   *
+   * @return the tag names
+   */
+  public List<String> getTagNames() {
+    lock.readLock().lock();
+    try {
+      Set<String> names = new TreeSet<>();
+      for (int i = 0; i < tagNames.size(); i++) {
+        if (postings.get(i).cardinality() > 0) {
+          names.add(tagNames.get(i));
+        }
+      }
+      return new ArrayList<>(names);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Gets the number of "listTags" requests sent, one per page.
+   *
+   * @return the number of list requests
+   */
+  public long getListRequests() {
+    return listRequests.get();
+  }
+
+  private List<String> listTags(String crn) {
+    ListTagsOptions.Builder options = new ListTagsOptions.Builder()
+      .attachedTo(crn)
+      .tagType(tagType)
+      .accountId(accountId)
+      .limit(1000);
+    List<String> tags = new ArrayList<>();
+    TagsPager pager = new TagsPager(client, options.build());
+    while (pager.hasNext()) {
+      listRequests.incrementAndGet();
+      for (Tag tag : pager.getNext()) {
+        tags.add(tag.getName());
+      }
+    }
+    return tags;
+  }
+
+  // Replaces the tags of a resource; the caller holds the write lock.
+  private void replace(String crn, Collection<String> tags) {
+    Integer id = resourceIds.get(crn);
+    if (id == null) {
+      id = crns.size();
+      resourceIds.put(crn, id);
+      crns.add(crn);
+      resourceTags.add(null);
+    }
+    TreeSet<Integer> ids = new TreeSet<>();
+    for (String tag : tags) {
+      String name = normalize(tag);
+      Integer tagId = tagIds.get(name);
+      if (tagId == null) {
+        tagId = tagNames.size();
+        tagIds.put(name, tagId);
+        tagNames.add(name);
+        postings.add(new Postings());
+      }
+      ids.add(tagId);
+    }
+    int[] previous = resourceTags.get(id);
+    int[] current = NO_TAGS;
+    if (!ids.isEmpty()) {
+      current = new int[ids.size()];
+      int i = 0;
+      for (int tagId : ids) {
+        current[i++] = tagId;
+      }
+    }
+    if (previous != null) {
+      for (int tagId : previous) {
+        if (Arrays.binarySearch(current, tagId) < 0) {
+          postings.get(tagId).remove(id);
+        }
+      }
+    }
+    for (int tagId : current) {
+      postings.get(tagId).add(id);
+    }
+    resourceTags.set(id, current);
+    indexed.add(id);
+  }
+
+  // Whether the tags of a resource have been loaded or put; the caller holds the lock.
+  private boolean isIndexed(String crn) {
+    Integer id = resourceIds.get(crn);
+    return id != null && resourceTags.get(id) != null;
+  }
+
+  // Gets the tags of a resource; the caller holds the lock.
+  private Set<String> tagsOf(String crn) {
+    Set<String> tags = new TreeSet<>();
+    Integer id = resourceIds.get(crn);
+    int[] ids = id != null ? resourceTags.get(id) : null;
+    if (ids != null) {
+      for (int tagId : ids) {
+        tags.add(tagNames.get(tagId));
+      }
+    }
+    return tags;
+  }
+
+  private List<String> toCrns(Postings result) {
+    int[] ids = result.toArray();
+    List<String> list = new ArrayList<>(ids.length);
+    for (int id : ids) {
+      list.add(crns.get(id));
+    }
+    return list;
+  }
+
+  private String typeOf(String optionsTagType) {
+    return optionsTagType != null ? optionsTagType : ListTagsOptions.TagType.USER;
+  }
+
+  private static List<String> names(String tagName, List<String> tagNames) {
+    List<String> names = new ArrayList<>();
+    if (tagName != null) {
+      names.add(tagName);
+    }
+    if (tagNames != null) {
+      names.addAll(tagNames);
+    }
+    return names;
+  }
+
+  // The CRNs of the resources of a request, except those reported with an error.
+  private static List<String> succeeded(List<Resource> resources, TagResults results) {
+    Set<String> failed = new HashSet<>();
+    if (results != null && results.getResults() != null) {
+      for (TagResultsItem item : results.getResults()) {
+        if (Boolean.TRUE.equals(item.isIsError())) {
+          failed.add(item.getResourceId());
+        }
+      }
+    }
+    List<String> crns = new ArrayList<>();
+    for (Resource resource : resources) {
+      if (!failed.contains(resource.resourceId())) {
+        crns.add(resource.resourceId());
+      }
+    }
+    return crns;
+  }
+
+  private static String normalize(String tag) {
+    return tag.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private Postings evaluate(String query) {
+    Validator.notNull(query, "query cannot be null");
+    Parser parser = new Parser(query);
+    Postings result = parser.or();
+    if (parser.peek() != null) {
+      throw new IllegalArgumentException("Unexpected '" + parser.peek() + "' in the query: " + query);
+    }
+    return result;
+  }
+
+  // A recursive descent parser that evaluates a query as it is parsed; the caller holds the read lock.
+  private final class Parser {
+    private final String query;
+    private final List<String> tokens = new ArrayList<>();
+    // Whether each token is a quoted tag name rather than an operator or a parenthesis.
+    private final List<Boolean> quoted = new ArrayList<>();
+    private int position;
+
+    Parser(String query) {
+      this.query = query;
+      int i = 0;
+      while (i < query.length()) {
+        char c = query.charAt(i);
+        if (Character.isWhitespace(c)) {
+          i++;
+        } else if (c == '(' || c == ')') {
+          tokens.add(String.valueOf(c));
+          quoted.add(false);
+          i++;
+        } else if (c == '"') {
+          int end = query.indexOf('"', i + 1);
+          if (end < 0) {
+            throw new IllegalArgumentException("Unterminated quoted tag name in the query: " + query);
+          }
+          tokens.add(query.substring(i + 1, end));
+          quoted.add(true);
+          i = end + 1;
+        } else {
+          int start = i;
+          while (i < query.length() && !Character.isWhitespace(query.charAt(i)) && query.charAt(i) != '('
+              && query.charAt(i) != ')' && query.charAt(i) != '"') {
+            i++;
+          }
+          tokens.add(query.substring(start, i));
+          quoted.add(false);
+        }
+      }
+    }
+
+    String peek() {
+      return position < tokens.size() ? tokens.get(position) : null;
+    }
+
+    private boolean accept(String operator) {
+      if (position < tokens.size() && !quoted.get(position) && tokens.get(position).equalsIgnoreCase(operator)) {
+        position++;
+        return true;
+      }
+      return false;
+    }
+
+    Postings or() {
+      Postings result = and();
+      while (accept("OR")) {
+        result = Postings.or(result, and());
+      }
+      return result;
+    }
+
+    private Postings and() {
+      Postings result = not();
+      while (accept("AND")) {
+        result = Postings.and(result, not());
+      }
+      return result;
+    }
+
+    private Postings not() {
+      if (accept("NOT")) {
+        return Postings.andNot(indexed, not());
+      }
+      if (accept("(")) {
+        Postings result = or();
+        if (!accept(")")) {
+          throw new IllegalArgumentException("Missing ')' in the query: " + query);
+        }
+        return result;
+      }
+      String token = peek();
+      if (token == null || !quoted.get(position) && (token.equals(")") || token.equalsIgnoreCase("AND")
+          || token.equalsIgnoreCase("OR"))) {
+        throw new IllegalArgumentException("Missing tag name in the query: " + query);
+      }
+      position++;
+      Integer id = tagIds.get(normalize(token));
+      return id != null ? postings.get(id) : new Postings();
+    }
+  }
+
+  /**
+   * A compressed set of non-negative ints. The ints are split by their 16 high bits into chunks, each of which is
+   * stored as a sorted char array when it holds at most 4096 values, and as a bitmap of 1024 longs otherwise.
+   */
+  static final class Postings {
+    private static final int ARRAY_LIMIT = 4096;
+
+    private char[] keys = new char[0];
+    private Object[] chunks = new Object[0];
+    private int[] cardinalities = new int[0];
+    private int size;
+
+    void add(int value) {
+      char key = (char) (value >>> 16);
+      char low = (char) value;
+      int i = Arrays.binarySearch(keys, key);
+      if (i < 0) {
+        i = -i - 1;
+        keys = insert(keys, i, key);
+        chunks = insert(chunks, i, new char[] {low});
+        cardinalities = insert(cardinalities, i, 1);
+        size++;
+        return;
+      }
+      Object chunk = chunks[i];
+      if (chunk instanceof char[]) {
+        char[] array = (char[]) chunk;
+        int j = Arrays.binarySearch(array, low);
+        if (j >= 0) {
+          return;
+        }
+        if (array.length < ARRAY_LIMIT) {
+          chunks[i] = insert(array, -j - 1, low);
+        } else {
+          long[] bits = toBits(array);
+          bits[low >>> 6] |= 1L << low;
+          chunks[i] = bits;
+        }
+      } else {
+        long[] bits = (long[]) chunk;
+        if ((bits[low >>> 6] & 1L << low) != 0) {
+          return;
+        }
+        bits[low >>> 6] |= 1L << low;
+      }
+      cardinalities[i]++;
+      size++;
+    }
+
+    void remove(int value) {
+      char key = (char) (value >>> 16);
+      char low = (char) value;
+      int i = Arrays.binarySearch(keys, key);
+      if (i < 0) {
+        return;
+      }
+      Object chunk = chunks[i];
+      if (chunk instanceof char[]) {
+        char[] array = (char[]) chunk;
+        int j = Arrays.binarySearch(array, low);
+        if (j < 0) {
+          return;
+        }
+        chunks[i] = remove(array, j);
+      } else {
+        long[] bits = (long[]) chunk;
+        if ((bits[low >>> 6] & 1L << low) == 0) {
+          return;
+        }
+        bits[low >>> 6] &= ~(1L << low);
+        if (cardinalities[i] - 1 <= ARRAY_LIMIT) {
+          chunks[i] = toArray(bits, cardinalities[i] - 1);
+        }
+      }
+      size--;
+      if (--cardinalities[i] == 0) {
+        keys = remove(keys, i);
+        chunks = remove(chunks, i);
+        cardinalities = remove(cardinalities, i);
+      }
+    }
+
+    boolean contains(int value) {
+      int i = Arrays.binarySearch(keys, (char) (value >>> 16));
+      if (i < 0) {
+        return false;
+      }
+      char low = (char) value;
+      Object chunk = chunks[i];
+      if (chunk instanceof char[]) {
+        return Arrays.binarySearch((char[]) chunk, low) >= 0;
+      }
+      return (((long[]) chunk)[low >>> 6] & 1L << low) != 0;
+    }
+
+    int cardinality() {
+      return size;
+    }
+
+    int[] toArray() {
+      int[] values = new int[size];
+      int n = 0;
+      for (int i = 0; i < keys.length; i++) {
+        int high = keys[i] << 16;
+        Object chunk = chunks[i];
+        if (chunk instanceof char[]) {
+          for (char low : (char[]) chunk) {
+            values[n++] = high | low;
+          }
+        } else {
+          long[] bits = (long[]) chunk;
+          for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+              values[n++] = high | w << 6 | Long.numberOfTrailingZeros(word);
+              word &= word - 1;
+            }
+          }
+        }
+      }
+      return values;
+    }
+
+    static Postings and(Postings a, Postings b) {
+      Postings result = new Postings();
+      int i = 0;
+      int j = 0;
+      while (i < a.keys.length && j < b.keys.length) {
+        if (a.keys[i] < b.keys[j]) {
+          i++;
+        } else if (a.keys[i] > b.keys[j]) {
+          j++;
+        } else {
+          Object ca = a.chunks[i];
+          Object cb = b.chunks[j];
+          if (ca instanceof char[] && cb instanceof char[]) {
+            result.append(a.keys[i], intersect((char[]) ca, (char[]) cb));
+          } else if (ca instanceof char[]) {
+            result.append(a.keys[i], filter((char[]) ca, (long[]) cb, true));
+          } else if (cb instanceof char[]) {
+            result.append(a.keys[i], filter((char[]) cb, (long[]) ca, true));
+          } else {
+            long[] bits = new long[1024];
+            for (int w = 0; w < bits.length; w++) {
+              bits[w] = ((long[]) ca)[w] & ((long[]) cb)[w];
+            }
+            result.append(a.keys[i], bits);
+          }
+          i++;
+          j++;
+        }
+      }
+      return result;
+    }
+
+    static Postings or(Postings a, Postings b) {
+      Postings result = new Postings();
+      int i = 0;
+      int j = 0;
+      while (i < a.keys.length || j < b.keys.length) {
+        if (j == b.keys.length || i < a.keys.length && a.keys[i] < b.keys[j]) {
+          result.append(a.keys[i], copy(a.chunks[i]));
+          i++;
+        } else if (i == a.keys.length || a.keys[i] > b.keys[j]) {
+          result.append(b.keys[j], copy(b.chunks[j]));
+          j++;
+        } else {
+          Object ca = a.chunks[i];
+          Object cb = b.chunks[j];
+          if (ca instanceof char[] && cb instanceof char[]) {
+            result.append(a.keys[i], union((char[]) ca, (char[]) cb));
+          } else {
+            long[] bits = ca instanceof char[] ? toBits((char[]) ca) : ((long[]) ca).clone();
+            if (cb instanceof char[]) {
+              for (char low : (char[]) cb) {
+                bits[low >>> 6] |= 1L << low;
+              }
+            } else {
+              for (int w = 0; w < bits.length; w++) {
+                bits[w] |= ((long[]) cb)[w];
+              }
+            }
+            result.append(a.keys[i], bits);
+          }
+          i++;
+          j++;
+        }
+      }
+      return result;
+    }
+
+    static Postings andNot(Postings a, Postings b) {
+      Postings result = new Postings();
+      int j = 0;
+      for (int i = 0; i < a.keys.length; i++) {
+        while (j < b.keys.length && b.keys[j] < a.keys[i]) {
+          j++;
+        }
+        Object ca = a.chunks[i];
+        if (j == b.keys.length || b.keys[j] != a.keys[i]) {
+          result.append(a.keys[i], copy(ca));
+          continue;
+        }
+        Object cb = b.chunks[j];
+        if (ca instanceof char[] && cb instanceof char[]) {
+          result.append(a.keys[i], subtract((char[]) ca, (char[]) cb));
+        } else if (ca instanceof char[]) {
+          result.append(a.keys[i], filter((char[]) ca, (long[]) cb, false));
+        } else {
+          long[] bits = ((long[]) ca).clone();
+          if (cb instanceof char[]) {
+            for (char low : (char[]) cb) {
+              bits[low >>> 6] &= ~(1L << low);
+            }
+          } else {
+            for (int w = 0; w < bits.length; w++) {
+              bits[w] &= ~((long[]) cb)[w];
+            }
+          }
+          result.append(a.keys[i], bits);
+        }
+      }
+      return result;
+    }
+
+    // Appends a chunk with a key greater than the existing ones, converting it to the smaller representation.
+    private void append(char key, Object chunk) {
+      int cardinality;
+      if (chunk instanceof char[]) {
+        cardinality = ((char[]) chunk).length;
+      } else {
+        cardinality = 0;
+        for (long word : (long[]) chunk) {
+          cardinality += Long.bitCount(word);
+        }
+        if (cardinality <= ARRAY_LIMIT) {
+          chunk = toArray((long[]) chunk, cardinality);
+        }
+      }
+      if (cardinality == 0) {
+        return;
+      }
+      int n = keys.length;
+      keys = Arrays.copyOf(keys, n + 1);
+      chunks = Arrays.copyOf(chunks, n + 1);
+      cardinalities = Arrays.copyOf(cardinalities, n + 1);
+      keys[n] = key;
+      chunks[n] = chunk;
+      cardinalities[n] = cardinality;
+      size += cardinality;
+    }
+
+    private static Object copy(Object chunk) {
+      return chunk instanceof char[] ? ((char[]) chunk).clone() : ((long[]) chunk).clone();
+    }
+
+    private static long[] toBits(char[] array) {
+      long[] bits = new long[1024];
+      for (char low : array) {
+        bits[low >>> 6] |= 1L << low;
+      }
+      return bits;
+    }
+
+    private static char[] toArray(long[] bits, int cardinality) {
+      char[] array = new char[cardinality];
+      int n = 0;
+      for (int w = 0; w < bits.length; w++) {
+        long word = bits[w];
+        while (word != 0) {
+          array[n++] = (char) (w << 6 | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      return array;
+    }
+
+    private static char[] intersect(char[] a, char[] b) {
+      char[] result = new char[Math.min(a.length, b.length)];
+      int n = 0;
+      int i = 0;
+      int j = 0;
+      while (i < a.length && j < b.length) {
+        if (a[i] < b[j]) {
+          i++;
+        } else if (a[i] > b[j]) {
+          j++;
+        } else {
+          result[n++] = a[i];
+          i++;
+          j++;
+        }
+      }
+      return Arrays.copyOf(result, n);
+    }
+
+    private static Object union(char[] a, char[] b) {
+      char[] result = new char[a.length + b.length];
+      int n = 0;
+      int i = 0;
+      int j = 0;
+      while (i < a.length || j < b.length) {
+        if (j == b.length || i < a.length && a[i] < b[j]) {
+          result[n++] = a[i++];
+        } else if (i == a.length || a[i] > b[j]) {
+          result[n++] = b[j++];
+        } else {
+          result[n++] = a[i];
+          i++;
+          j++;
+        }
+      }
+      return n <= ARRAY_LIMIT ? Arrays.copyOf(result, n) : toBits(Arrays.copyOf(result, n));
+    }
+
+    private static char[] subtract(char[] a, char[] b) {
+      char[] result = new char[a.length];
+      int n = 0;
+      int j = 0;
+      for (char value : a) {
+        while (j < b.length && b[j] < value) {
+          j++;
+        }
+        if (j == b.length || b[j] != value) {
+          result[n++] = value;
+        }
+      }
+      return Arrays.copyOf(result, n);
+    }
+
+    // Keeps the values of an array that are (or are not) set in a bitmap.
+    private static char[] filter(char[] array, long[] bits, boolean set) {
+      char[] result = new char[array.length];
+      int n = 0;
+      for (char value : array) {
+        if (((bits[value >>> 6] & 1L << value) != 0) == set) {
+          result[n++] = value;
+        }
+      }
+      return Arrays.copyOf(result, n);
+    }
+
+    private static char[] insert(char[] array, int index, char value) {
+      char[] result = new char[array.length + 1];
+      System.arraycopy(array, 0, result, 0, index);
+      result[index] = value;
+      System.arraycopy(array, index, result, index + 1, array.length - index);
+      return result;
+    }
+
+    private static int[] insert(int[] array, int index, int value) {
+      int[] result = new int[array.length + 1];
+      System.arraycopy(array, 0, result, 0, index);
+      result[index] = value;
+      System.arraycopy(array, index, result, index + 1, array.length - index);
+      return result;
+    }
+
+    private static Object[] insert(Object[] array, int index, Object value) {
+      Object[] result = new Object[array.length + 1];
+      System.arraycopy(array, 0, result, 0, index);
+      result[index] = value;
+      System.arraycopy(array, index, result, index + 1, array.length - index);
+      return result;
+    }
+
+    private static char[] remove(char[] array, int index) {
+      char[] result = new char[array.length - 1];
+      System.arraycopy(array, 0, result, 0, index);
+      System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+      return result;
+    }
+
+    private static int[] remove(int[] array, int index) {
+      int[] result = new int[array.length - 1];
+      System.arraycopy(array, 0, result, 0, index);
+      System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+      return result;
+    }
+
+    private static Object[] remove(Object[] array, int index) {
+      Object[] result = new Object[array.length - 1];
+      System.arraycopy(array, 0, result, 0, index);
+      System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+      return result;
+    }
+  }
+}
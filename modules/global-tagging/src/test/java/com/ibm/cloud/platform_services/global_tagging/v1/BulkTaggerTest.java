@@ -0,0 +1,187 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_tagging.v1;
+
+import com.ibm.cloud.platform_services.global_tagging.v1.BulkTagger.Result;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.Resource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the BulkTagger class.
+ */
+public class BulkTaggerTest {
+
+  private static final Pattern RESOURCE_ID = Pattern.compile("\"resource_id\":\\s*\"([^\"]*)\"");
+
+  protected MockWebServer server;
+  protected GlobalTagging globalTaggingService;
+
+  // The resources tagged on the mock server, and the number of times each resource was sent.
+  private Set<String> tagged;
+  private Map<String, AtomicInteger> sent;
+  private AtomicInteger requests;
+  private AtomicInteger largestChunk;
+  private AtomicInteger serverErrors;
+
+  private static Stream<Resource> resources(String prefix, int count) {
+    return IntStream.range(0, count).mapToObj(i -> new Resource.Builder(prefix + "-" + i).build());
+  }
+
+  private MockResponse dispatch(RecordedRequest request) {
+    requests.incrementAndGet();
+    List<String> ids = new ArrayList<>();
+    Matcher matcher = RESOURCE_ID.matcher(request.getBody().readUtf8());
+    while (matcher.find()) {
+      ids.add(matcher.group(1));
+    }
+    MockResponse response = new MockResponse().setHeader("Content-type", "application/json");
+    if (ids.size() > 40) {
+      return response.setResponseCode(413).setBody("{\"message\": \"too many resources\"}");
+    }
+    if (ids.contains("invalid")) {
+      return response.setResponseCode(400).setBody("{\"message\": \"invalid resource\"}");
+    }
+    if (ids.contains("unavailable") && serverErrors.incrementAndGet() == 1) {
+      return response.setResponseCode(503).setBody("{\"message\": \"unavailable\"}");
+    }
+    largestChunk.accumulateAndGet(ids.size(), Math::max);
+    boolean attach = request.getPath().endsWith("/attach");
+    StringBuilder body = new StringBuilder("{\"results\": [");
+    for (String id : ids) {
+      int count = sent.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+      boolean error = id.startsWith("bad") || id.startsWith("flaky") && count == 1;
+      if (!error) {
+        if (attach) {
+          tagged.add(id);
+        } else {
+          tagged.remove(id);
+        }
+      }
+      body.append(body.length() > 13 ? ", " : "").append("{\"resource_id\": \"").append(id)
+        .append("\", \"is_error\": ").append(error).append(error ? ", \"message\": \"failed " + id + "\"" : "")
+        .append("}");
+    }
+    return response.setBody(body.append("]}").toString());
+  }
+
+  @Test
+  public void testAttach() throws Throwable {
+    BulkTagger tagger = new BulkTagger.Builder(globalTaggingService)
+      .maxConcurrency(4)
+      .retryDelay(1)
+      .build();
+    Stream<Resource> resources = Stream.of(resources("crn", 245), resources("flaky", 3), resources("bad", 2))
+      .flatMap(stream -> stream);
+    Result result = tagger.attach(resources, Arrays.asList("env:test"));
+    assertEquals(result.getResources(), 250);
+    assertEquals(result.getSucceeded(), 248);
+    assertEquals(result.getFailures().keySet(), new HashSet<>(Arrays.asList("bad-0", "bad-1")));
+    assertEquals(result.getFailures().get("bad-1"), "failed bad-1");
+    assertEquals(tagged.size(), 248);
+    assertTrue(tagged.contains("flaky-2"));
+    // The flaky resources were sent twice and the bad ones three times; the others once.
+    assertEquals(sent.get("flaky-0").get(), 2);
+    assertEquals(sent.get("bad-0").get(), 3);
+    assertEquals(sent.get("crn-100").get(), 1);
+    assertEquals(result.getRetried(), 3 + 2 + 2);
+    // The chunks of 100 resources were rejected and halved until they were accepted.
+    assertTrue(largestChunk.get() <= 40);
+    assertTrue(result.getRequests() > 250 / 25);
+    assertEquals(result.getRequests(), requests.get());
+  }
+
+  @Test
+  public void testDetach() throws Throwable {
+    tagged.addAll(Arrays.asList("a", "unavailable", "b", "invalid", "c"));
+    BulkTagger tagger = new BulkTagger.Builder(globalTaggingService)
+      .chunkSize(2)
+      .maxAttempts(2)
+      .retryDelay(1)
+      .build();
+    Result result = tagger.detach(Stream.of("a", "unavailable", "b", "invalid", "c")
+        .map(id -> new Resource.Builder(id).build()), Collections.singletonList("env:test"));
+    // The chunk that failed with a 503 status was sent again; the one that failed with a 400 status was not.
+    assertEquals(result.getSucceeded(), 3);
+    assertEquals(result.getFailures().size(), 2);
+    assertEquals(result.getFailures().get("invalid"), "invalid resource");
+    assertEquals(result.getFailures().get("b"), "invalid resource");
+    assertEquals(tagged, new HashSet<>(Arrays.asList("b", "invalid")));
+    assertEquals(result.getRetried(), 2);
+    assertEquals(result.getRequests(), 4);
+
+    try {
+      tagger.attach(Stream.<Resource>empty(), Collections.<String>emptyList());
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("tagNames"));
+    }
+    assertEquals(tagger.attach(Stream.<Resource>empty(), Arrays.asList("env:test")).getRequests(), 0);
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    tagged = ConcurrentHashMap.newKeySet();
+    sent = new ConcurrentHashMap<>();
+    requests = new AtomicInteger();
+    largestChunk = new AtomicInteger();
+    serverErrors = new AtomicInteger();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return BulkTaggerTest.this.dispatch(request);
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    globalTaggingService = GlobalTagging.newInstance("testService");
+    globalTaggingService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    globalTaggingService = null;
+  }
+}
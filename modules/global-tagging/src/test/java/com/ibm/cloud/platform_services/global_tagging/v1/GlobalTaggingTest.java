@@ -32,6 +32,7 @@ import com.ibm.cloud.platform_services.global_tagging.v1.model.Tag;
 import com.ibm.cloud.platform_services.global_tagging.v1.model.TagList;
 import com.ibm.cloud.platform_services.global_tagging.v1.model.TagResults;
 import com.ibm.cloud.platform_services.global_tagging.v1.model.TagResultsItem;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.TagsPager;
 import com.ibm.cloud.platform_services.global_tagging.v1.utils.TestUtilities;
 import com.ibm.cloud.sdk.core.http.Response;
 import com.ibm.cloud.sdk.core.security.Authenticator;
@@ -40,9 +41,13 @@ import com.ibm.cloud.sdk.core.service.model.FileWithMetadata;
 import com.ibm.cloud.sdk.core.util.RequestUtils;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -433,6 +438,89 @@ public class GlobalTaggingTest {
     testDetachTagWOptions();
   }
 
+  // Test the listTags operation using the TagsPager.getNext() method
+  @Test
+  public void testListTagsWithTagsPagerGetNext() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"total_count\":2,\"offset\":0,\"limit\":1,\"items\":[{\"name\":\"tag0\"}]}";
+    String mockResponsePage2 = "{\"total_count\":2,\"offset\":1,\"limit\":1,\"items\":[{\"name\":\"tag1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    ListTagsOptions options = new ListTagsOptions.Builder()
+      .tagType("user")
+      .limit(Long.valueOf("1"))
+      .build();
+
+    List<Tag> allResults = new ArrayList<>();
+    TagsPager pager = new TagsPager(globalTaggingService, options);
+    while (pager.hasNext()) {
+      List<Tag> nextPage = pager.getNext();
+      assertNotNull(nextPage);
+      allResults.addAll(nextPage);
+    }
+    assertEquals(allResults.size(), 2);
+
+    // Verify that the second page was requested from where the first page ended
+    server.takeRequest();
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getRequestUrl().queryParameter("offset"), "1");
+    assertEquals(server.getRequestCount(), 2);
+  }
+
+  // Test the listTags operation using the TagsPager.getAllParallel() method
+  @Test
+  public void testListTagsWithTagsPagerGetAllParallel() throws Throwable {
+    // Serve 23 results in pages of 5, based on the offset of each request.
+    final int totalCount = 23;
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        String offsetParam = request.getRequestUrl().queryParameter("offset");
+        int offset = offsetParam != null ? Integer.parseInt(offsetParam) : 0;
+        StringBuilder items = new StringBuilder();
+        for (int i = offset; i < Math.min(offset + 5, totalCount); i++) {
+          if (items.length() > 0) {
+            items.append(",");
+          }
+          items.append("{\"name\":\"id" + i + "\"}");
+        }
+        return new MockResponse()
+          .setHeader("Content-type", "application/json")
+          .setResponseCode(200)
+          .setBody("{\"total_count\":" + totalCount + ",\"items\":[" + items + "]}");
+      }
+    });
+
+    ListTagsOptions options = new ListTagsOptions.Builder()
+      .limit(Long.valueOf("5"))
+      .build();
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      TagsPager pager = new TagsPager(globalTaggingService, options);
+      List<Tag> allResults = pager.getAllParallel(3, executor);
+      assertEquals(allResults.size(), totalCount);
+      for (int i = 0; i < totalCount; i++) {
+        assertEquals(allResults.get(i).getName(), "id" + i);
+      }
+      assertFalse(pager.hasNext());
+      assertEquals(server.getRequestCount(), 5);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   // Perform setup needed before each test method
   @BeforeMethod
   public void beforeEachTest() {
@@ -0,0 +1,277 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.global_tagging.v1;
+
+import com.ibm.cloud.platform_services.global_tagging.v1.TagIndex.Postings;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.AttachTagOptions;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.DetachTagOptions;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.Resource;
+import com.ibm.cloud.platform_services.global_tagging.v1.model.TagResults;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the TagIndex class.
+ */
+public class TagIndexTest {
+
+  private static final Pattern RESOURCE_ID = Pattern.compile("\"resource_id\":\\s*\"([^\"]*)\"");
+
+  protected MockWebServer server;
+  protected GlobalTagging globalTaggingService;
+
+  // The tags of each resource on the mock server, by CRN.
+  private Map<String, List<String>> tags;
+
+  private MockResponse dispatch(RecordedRequest request) {
+    HttpUrl url = request.getRequestUrl();
+    MockResponse response = new MockResponse().setHeader("Content-type", "application/json");
+    if (url.pathSegments().size() == 2) {
+      List<String> resourceTags = tags.get(url.queryParameter("attached_to"));
+      if (resourceTags == null) {
+        resourceTags = Collections.emptyList();
+      }
+      // Pages of at most 2 tags.
+      int offset = url.queryParameter("offset") != null ? Integer.parseInt(url.queryParameter("offset")) : 0;
+      StringBuilder items = new StringBuilder();
+      for (int i = offset; i < Math.min(offset + 2, resourceTags.size()); i++) {
+        items.append(items.length() > 0 ? ", " : "").append("{\"name\": \"").append(resourceTags.get(i)).append("\"}");
+      }
+      return response.setBody("{\"total_count\": " + resourceTags.size() + ", \"offset\": " + offset
+          + ", \"limit\": 2, \"items\": [" + items + "]}");
+    }
+    StringBuilder body = new StringBuilder("{\"results\": [");
+    Matcher matcher = RESOURCE_ID.matcher(request.getBody().readUtf8());
+    boolean first = true;
+    while (matcher.find()) {
+      String id = matcher.group(1);
+      body.append(first ? "" : ", ").append("{\"resource_id\": \"").append(id).append("\", \"is_error\": ")
+        .append(id.startsWith("bad")).append("}");
+      first = false;
+    }
+    return response.setBody(body.append("]}").toString());
+  }
+
+  private static List<Resource> resources(String... crns) {
+    List<Resource> resources = new ArrayList<>();
+    for (String crn : crns) {
+      resources.add(new Resource.Builder(crn).build());
+    }
+    return resources;
+  }
+
+  @Test
+  public void testLoadAndQuery() throws Throwable {
+    tags.put("crn-a", Arrays.asList("env:prod", "team:a", "Deprecated"));
+    tags.put("crn-b", Arrays.asList("env:prod", "team:b"));
+    tags.put("crn-c", Arrays.asList("env:dev", "team:a", "cost center:42"));
+    tags.put("crn-d", Collections.<String>emptyList());
+    TagIndex index = new TagIndex.Builder(globalTaggingService).maxConcurrency(2).build();
+    index.load(Arrays.asList("crn-a", "crn-b", "crn-c", "crn-d"));
+    // Two pages for each of the resources with three tags, one page for each of the others.
+    assertEquals(index.getListRequests(), 6);
+    assertEquals(index.size(), 4);
+    assertEquals(index.getTags("crn-a"), new TreeSet<>(Arrays.asList("deprecated", "env:prod", "team:a")));
+    assertEquals(index.getTags("crn-d"), Collections.emptySet());
+    assertNull(index.getTags("crn-e"));
+    assertEquals(index.getResources("ENV:PROD"), Arrays.asList("crn-a", "crn-b"));
+    assertEquals(index.getResources("unknown"), Collections.emptyList());
+    assertEquals(index.getTagNames(),
+        Arrays.asList("cost center:42", "deprecated", "env:dev", "env:prod", "team:a", "team:b"));
+
+    assertEquals(index.query("env:prod AND (team:a OR team:b) AND NOT deprecated"), Arrays.asList("crn-b"));
+    assertEquals(index.query("team:a or env:prod"), Arrays.asList("crn-a", "crn-b", "crn-c"));
+    assertEquals(index.query("NOT env:prod"), Arrays.asList("crn-c", "crn-d"));
+    assertEquals(index.query("NOT NOT deprecated"), Arrays.asList("crn-a"));
+    assertEquals(index.query("\"cost center:42\" AND team:a"), Arrays.asList("crn-c"));
+    assertEquals(index.count("team:a AND unknown"), 0);
+    assertEquals(index.count("env:prod OR env:dev OR unknown"), 3);
+
+    for (String query : new String[] {"", "env:prod AND", "(env:prod", "env:prod)", "\"env:prod", "OR team:a"}) {
+      try {
+        index.query(query);
+        fail("Expected an IllegalArgumentException for " + query);
+      } catch (IllegalArgumentException e) {
+        assertTrue(e.getMessage().contains(query));
+      }
+    }
+
+    // The tags fed from elsewhere replace those of the resource.
+    index.put("crn-b", Arrays.asList("env:dev"));
+    index.put("crn-e", Arrays.asList("env:prod"));
+    assertEquals(index.query("env:prod"), Arrays.asList("crn-a", "crn-e"));
+    assertEquals(index.query("env:dev"), Arrays.asList("crn-b", "crn-c"));
+    assertTrue(index.remove("crn-a"));
+    assertFalse(index.remove("crn-a"));
+    assertEquals(index.query("NOT team:b"), Arrays.asList("crn-b", "crn-c", "crn-d", "crn-e"));
+    assertFalse(index.getTagNames().contains("deprecated"));
+    assertEquals(index.size(), 4);
+  }
+
+  @Test
+  public void testAttachAndDetach() throws Throwable {
+    TagIndex index = new TagIndex.Builder(globalTaggingService).build();
+    index.put("crn-a", Arrays.asList("env:dev"));
+    index.put("bad-b", Arrays.asList("env:dev"));
+
+    TagResults results = index.attachTag(new AttachTagOptions.Builder()
+        .resources(resources("crn-a", "bad-b", "crn-c"))
+        .tagNames(Arrays.asList("Team:A", "tier:1"))
+        .build());
+    assertTrue(results.getResults().get(1).isIsError());
+    // The resource that failed kept its tags, and the resource that was not indexed was left out.
+    assertEquals(index.query("team:a"), Arrays.asList("crn-a"));
+    assertEquals(index.getTags("crn-a"), new TreeSet<>(Arrays.asList("env:dev", "team:a", "tier:1")));
+    assertEquals(index.getTags("bad-b"), Collections.singleton("env:dev"));
+    assertNull(index.getTags("crn-c"));
+    assertEquals(index.query("NOT team:a"), Arrays.asList("bad-b"));
+    assertEquals(index.size(), 2);
+
+    index.put("crn-c", Arrays.asList("env:dev", "tier:2"));
+    index.attachTag(new AttachTagOptions.Builder()
+        .resources(resources("crn-c"))
+        .tagName("env:prod")
+        .replace(true)
+        .build());
+    assertEquals(index.getTags("crn-c"), Collections.singleton("env:prod"));
+
+    index.detachTag(new DetachTagOptions.Builder()
+        .resources(resources("crn-d"))
+        .tagName("env:dev")
+        .build());
+    assertNull(index.getTags("crn-d"));
+
+    index.detachTag(new DetachTagOptions.Builder()
+        .resources(resources("crn-a", "bad-b"))
+        .tagNames(Arrays.asList("env:dev", "tier:1"))
+        .build());
+    assertEquals(index.getTags("crn-a"), Collections.singleton("team:a"));
+    assertEquals(index.query("env:dev"), Arrays.asList("bad-b"));
+
+    // The requests for other tag types are sent but not applied.
+    index.attachTag(new AttachTagOptions.Builder()
+        .resources(resources("crn-a"))
+        .tagName("access:x")
+        .tagType(AttachTagOptions.TagType.ACCESS)
+        .build());
+    assertEquals(index.getTags("crn-a"), Collections.singleton("team:a"));
+    assertEquals(server.getRequestCount(), 5);
+  }
+
+  @Test
+  public void testPostings() throws Throwable {
+    // Random sets spanning several chunks, dense enough for some chunks to be stored as bitmaps.
+    Random random = new Random(42);
+    Postings[] postings = new Postings[3];
+    BitSet[] expected = new BitSet[3];
+    for (int p = 0; p < postings.length; p++) {
+      postings[p] = new Postings();
+      expected[p] = new BitSet();
+      for (int i = 0; i < 30000; i++) {
+        int value = random.nextInt(p == 0 ? 70000 : 200000);
+        postings[p].add(value);
+        expected[p].set(value);
+      }
+      for (int i = 0; i < 5000; i++) {
+        int value = random.nextInt(200000);
+        postings[p].remove(value);
+        expected[p].clear(value);
+      }
+      assertEquals(postings[p].cardinality(), expected[p].cardinality());
+      assertEquals(postings[p].toArray(), expected[p].stream().toArray());
+    }
+    for (int a = 0; a < postings.length; a++) {
+      for (int b = 0; b < postings.length; b++) {
+        BitSet and = (BitSet) expected[a].clone();
+        and.and(expected[b]);
+        BitSet or = (BitSet) expected[a].clone();
+        or.or(expected[b]);
+        BitSet andNot = (BitSet) expected[a].clone();
+        andNot.andNot(expected[b]);
+        assertEquals(Postings.and(postings[a], postings[b]).toArray(), and.stream().toArray());
+        assertEquals(Postings.or(postings[a], postings[b]).toArray(), or.stream().toArray());
+        assertEquals(Postings.andNot(postings[a], postings[b]).toArray(), andNot.stream().toArray());
+        assertEquals(Postings.andNot(postings[a], postings[b]).cardinality(), andNot.cardinality());
+      }
+    }
+    assertTrue(postings[0].contains(expected[0].nextSetBit(0)));
+    assertFalse(postings[0].contains(expected[0].nextClearBit(0)));
+
+    // Removing values from a bitmap chunk converts it back to an array.
+    Postings dense = new Postings();
+    for (int i = 0; i < 5000; i++) {
+      dense.add(i * 2);
+    }
+    for (int i = 0; i < 4990; i++) {
+      dense.remove(i * 2);
+    }
+    assertEquals(dense.cardinality(), 10);
+    assertEquals(dense.toArray()[0], 9980);
+    for (int i = 4990; i < 5000; i++) {
+      dense.remove(i * 2);
+    }
+    assertEquals(dense.cardinality(), 0);
+    assertEquals(dense.toArray().length, 0);
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    tags = new ConcurrentHashMap<>();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return TagIndexTest.this.dispatch(request);
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    globalTaggingService = GlobalTagging.newInstance("testService");
+    globalTaggingService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    globalTaggingService = null;
+  }
+}
@@ -99,6 +99,108 @@ public class IamAccessGroups extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://iam.cloud.ibm.com";
 
+  private static final ResponseConverter<Group> CREATE_ACCESS_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Group>() { }.getType());
+
+  private static final ResponseConverter<GroupsList> LIST_ACCESS_GROUPS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<GroupsList>() { }.getType());
+
+  private static final ResponseConverter<Group> GET_ACCESS_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Group>() { }.getType());
+
+  private static final ResponseConverter<Group> UPDATE_ACCESS_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Group>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ACCESS_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> IS_MEMBER_OF_ACCESS_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AddGroupMembersResponse> ADD_MEMBERS_TO_ACCESS_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AddGroupMembersResponse>() { }.getType());
+
+  private static final ResponseConverter<GroupMembersList> LIST_ACCESS_GROUP_MEMBERS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<GroupMembersList>() { }.getType());
+
+  private static final ResponseConverter<Void> REMOVE_MEMBER_FROM_ACCESS_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<DeleteGroupBulkMembersResponse> REMOVE_MEMBERS_FROM_ACCESS_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DeleteGroupBulkMembersResponse>() { }.getType());
+
+  private static final ResponseConverter<DeleteFromAllGroupsResponse> REMOVE_MEMBER_FROM_ALL_ACCESS_GROUPS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DeleteFromAllGroupsResponse>() { }.getType());
+
+  private static final ResponseConverter<AddMembershipMultipleGroupsResponse> ADD_MEMBER_TO_MULTIPLE_ACCESS_GROUPS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AddMembershipMultipleGroupsResponse>() { }.getType());
+
+  private static final ResponseConverter<Rule> ADD_ACCESS_GROUP_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+
+  private static final ResponseConverter<RulesList> LIST_ACCESS_GROUP_RULES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RulesList>() { }.getType());
+
+  private static final ResponseConverter<Rule> GET_ACCESS_GROUP_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+
+  private static final ResponseConverter<Rule> REPLACE_ACCESS_GROUP_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+
+  private static final ResponseConverter<Void> REMOVE_ACCESS_GROUP_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AccountSettings> GET_ACCOUNT_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+
+  private static final ResponseConverter<AccountSettings> UPDATE_ACCOUNT_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+
+  private static final ResponseConverter<TemplateResponse> CREATE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<ListTemplatesResponse> LIST_TEMPLATES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListTemplatesResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateVersionResponse> CREATE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateVersionResponse>() { }.getType());
+
+  private static final ResponseConverter<ListTemplateVersionsResponse> LIST_TEMPLATE_VERSIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListTemplateVersionsResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateVersionResponse> GET_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateVersionResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateVersionResponse> UPDATE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateVersionResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> COMMIT_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<TemplateVersionResponse> GET_LATEST_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateVersionResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<TemplateAssignmentResponse> CREATE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+
+  private static final ResponseConverter<ListTemplateAssignmentResponse> LIST_ASSIGNMENTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListTemplateAssignmentResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateAssignmentVerboseResponse> GET_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentVerboseResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateAssignmentVerboseResponse> UPDATE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentVerboseResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
  /**
    * Class method which constructs an instance of the `IamAccessGroups` client.
    * The default service name is used to configure the client instance.
@@ -165,8 +267,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.addProperty("description", createAccessGroupOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Group> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Group>() { }.getType());
+    ResponseConverter<Group> responseConverter = CREATE_ACCESS_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -218,8 +319,7 @@ public class IamAccessGroups extends BaseService {
     if (listAccessGroupsOptions.hidePublicAccess() != null) {
       builder.query("hide_public_access", String.valueOf(listAccessGroupsOptions.hidePublicAccess()));
     }
-    ResponseConverter<GroupsList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<GroupsList>() { }.getType());
+    ResponseConverter<GroupsList> responseConverter = LIST_ACCESS_GROUPS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -250,8 +350,7 @@ public class IamAccessGroups extends BaseService {
     if (getAccessGroupOptions.showFederated() != null) {
       builder.query("show_federated", String.valueOf(getAccessGroupOptions.showFederated()));
     }
-    ResponseConverter<Group> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Group>() { }.getType());
+    ResponseConverter<Group> responseConverter = GET_ACCESS_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -287,8 +386,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.addProperty("description", updateAccessGroupOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Group> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Group>() { }.getType());
+    ResponseConverter<Group> responseConverter = UPDATE_ACCESS_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -318,7 +416,7 @@ public class IamAccessGroups extends BaseService {
     if (deleteAccessGroupOptions.force() != null) {
       builder.query("force", String.valueOf(deleteAccessGroupOptions.force()));
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ACCESS_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -346,7 +444,7 @@ public class IamAccessGroups extends BaseService {
     if (isMemberOfAccessGroupOptions.transactionId() != null) {
       builder.header("Transaction-Id", isMemberOfAccessGroupOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = IS_MEMBER_OF_ACCESS_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -381,8 +479,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.add("members", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(addMembersToAccessGroupOptions.members()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AddGroupMembersResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AddGroupMembersResponse>() { }.getType());
+    ResponseConverter<AddGroupMembersResponse> responseConverter = ADD_MEMBERS_TO_ACCESS_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -429,8 +526,7 @@ public class IamAccessGroups extends BaseService {
     if (listAccessGroupMembersOptions.sort() != null) {
       builder.query("sort", String.valueOf(listAccessGroupMembersOptions.sort()));
     }
-    ResponseConverter<GroupMembersList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<GroupMembersList>() { }.getType());
+    ResponseConverter<GroupMembersList> responseConverter = LIST_ACCESS_GROUP_MEMBERS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -458,7 +554,7 @@ public class IamAccessGroups extends BaseService {
     if (removeMemberFromAccessGroupOptions.transactionId() != null) {
       builder.header("Transaction-Id", removeMemberFromAccessGroupOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = REMOVE_MEMBER_FROM_ACCESS_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -492,8 +588,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.add("members", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(removeMembersFromAccessGroupOptions.members()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<DeleteGroupBulkMembersResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DeleteGroupBulkMembersResponse>() { }.getType());
+    ResponseConverter<DeleteGroupBulkMembersResponse> responseConverter = REMOVE_MEMBERS_FROM_ACCESS_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -522,8 +617,7 @@ public class IamAccessGroups extends BaseService {
       builder.header("Transaction-Id", removeMemberFromAllAccessGroupsOptions.transactionId());
     }
     builder.query("account_id", String.valueOf(removeMemberFromAllAccessGroupsOptions.accountId()));
-    ResponseConverter<DeleteFromAllGroupsResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<DeleteFromAllGroupsResponse>() { }.getType());
+    ResponseConverter<DeleteFromAllGroupsResponse> responseConverter = REMOVE_MEMBER_FROM_ALL_ACCESS_GROUPS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -560,8 +654,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.add("groups", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(addMemberToMultipleAccessGroupsOptions.groups()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AddMembershipMultipleGroupsResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AddMembershipMultipleGroupsResponse>() { }.getType());
+    ResponseConverter<AddMembershipMultipleGroupsResponse> responseConverter = ADD_MEMBER_TO_MULTIPLE_ACCESS_GROUPS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -599,8 +692,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.addProperty("name", addAccessGroupRuleOptions.name());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Rule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+    ResponseConverter<Rule> responseConverter = ADD_ACCESS_GROUP_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -627,8 +719,7 @@ public class IamAccessGroups extends BaseService {
     if (listAccessGroupRulesOptions.transactionId() != null) {
       builder.header("Transaction-Id", listAccessGroupRulesOptions.transactionId());
     }
-    ResponseConverter<RulesList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RulesList>() { }.getType());
+    ResponseConverter<RulesList> responseConverter = LIST_ACCESS_GROUP_RULES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -656,8 +747,7 @@ public class IamAccessGroups extends BaseService {
     if (getAccessGroupRuleOptions.transactionId() != null) {
       builder.header("Transaction-Id", getAccessGroupRuleOptions.transactionId());
     }
-    ResponseConverter<Rule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+    ResponseConverter<Rule> responseConverter = GET_ACCESS_GROUP_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -694,8 +784,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.addProperty("name", replaceAccessGroupRuleOptions.name());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Rule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Rule>() { }.getType());
+    ResponseConverter<Rule> responseConverter = REPLACE_ACCESS_GROUP_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -722,7 +811,7 @@ public class IamAccessGroups extends BaseService {
     if (removeAccessGroupRuleOptions.transactionId() != null) {
       builder.header("Transaction-Id", removeAccessGroupRuleOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = REMOVE_ACCESS_GROUP_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -747,8 +836,7 @@ public class IamAccessGroups extends BaseService {
       builder.header("Transaction-Id", getAccountSettingsOptions.transactionId());
     }
     builder.query("account_id", String.valueOf(getAccountSettingsOptions.accountId()));
-    ResponseConverter<AccountSettings> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+    ResponseConverter<AccountSettings> responseConverter = GET_ACCOUNT_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -780,8 +868,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.addProperty("public_access_enabled", updateAccountSettingsOptions.publicAccessEnabled());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AccountSettings> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+    ResponseConverter<AccountSettings> responseConverter = UPDATE_ACCOUNT_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -820,8 +907,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.add("policy_template_references", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createTemplateOptions.policyTemplateReferences()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateResponse>() { }.getType());
+    ResponseConverter<TemplateResponse> responseConverter = CREATE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -855,8 +941,7 @@ public class IamAccessGroups extends BaseService {
     if (listTemplatesOptions.verbose() != null) {
       builder.query("verbose", String.valueOf(listTemplatesOptions.verbose()));
     }
-    ResponseConverter<ListTemplatesResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListTemplatesResponse>() { }.getType());
+    ResponseConverter<ListTemplatesResponse> responseConverter = LIST_TEMPLATES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -896,8 +981,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.add("policy_template_references", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createTemplateVersionOptions.policyTemplateReferences()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateVersionResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateVersionResponse>() { }.getType());
+    ResponseConverter<TemplateVersionResponse> responseConverter = CREATE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -926,8 +1010,7 @@ public class IamAccessGroups extends BaseService {
     if (listTemplateVersionsOptions.offset() != null) {
       builder.query("offset", String.valueOf(listTemplateVersionsOptions.offset()));
     }
-    ResponseConverter<ListTemplateVersionsResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListTemplateVersionsResponse>() { }.getType());
+    ResponseConverter<ListTemplateVersionsResponse> responseConverter = LIST_TEMPLATE_VERSIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -957,8 +1040,7 @@ public class IamAccessGroups extends BaseService {
     if (getTemplateVersionOptions.verbose() != null) {
       builder.query("verbose", String.valueOf(getTemplateVersionOptions.verbose()));
     }
-    ResponseConverter<TemplateVersionResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateVersionResponse>() { }.getType());
+    ResponseConverter<TemplateVersionResponse> responseConverter = GET_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1001,8 +1083,7 @@ public class IamAccessGroups extends BaseService {
       contentJson.add("policy_template_references", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateTemplateVersionOptions.policyTemplateReferences()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateVersionResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateVersionResponse>() { }.getType());
+    ResponseConverter<TemplateVersionResponse> responseConverter = UPDATE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1028,7 +1109,7 @@ public class IamAccessGroups extends BaseService {
     if (deleteTemplateVersionOptions.transactionId() != null) {
       builder.header("Transaction-Id", deleteTemplateVersionOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1056,7 +1137,7 @@ public class IamAccessGroups extends BaseService {
     if (commitTemplateOptions.transactionId() != null) {
       builder.header("Transaction-Id", commitTemplateOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = COMMIT_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1085,8 +1166,7 @@ public class IamAccessGroups extends BaseService {
     if (getLatestTemplateVersionOptions.verbose() != null) {
       builder.query("verbose", String.valueOf(getLatestTemplateVersionOptions.verbose()));
     }
-    ResponseConverter<TemplateVersionResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateVersionResponse>() { }.getType());
+    ResponseConverter<TemplateVersionResponse> responseConverter = GET_LATEST_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1112,7 +1192,7 @@ public class IamAccessGroups extends BaseService {
     if (deleteTemplateOptions.transactionId() != null) {
       builder.header("Transaction-Id", deleteTemplateOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1144,8 +1224,7 @@ public class IamAccessGroups extends BaseService {
     contentJson.addProperty("target_type", createAssignmentOptions.targetType());
     contentJson.addProperty("target", createAssignmentOptions.target());
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateAssignmentResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentResponse> responseConverter = CREATE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1188,8 +1267,7 @@ public class IamAccessGroups extends BaseService {
     if (listAssignmentsOptions.offset() != null) {
       builder.query("offset", String.valueOf(listAssignmentsOptions.offset()));
     }
-    ResponseConverter<ListTemplateAssignmentResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ListTemplateAssignmentResponse>() { }.getType());
+    ResponseConverter<ListTemplateAssignmentResponse> responseConverter = LIST_ASSIGNMENTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1218,8 +1296,7 @@ public class IamAccessGroups extends BaseService {
     if (getAssignmentOptions.verbose() != null) {
       builder.query("verbose", String.valueOf(getAssignmentOptions.verbose()));
     }
-    ResponseConverter<TemplateAssignmentVerboseResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentVerboseResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentVerboseResponse> responseConverter = GET_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1246,8 +1323,7 @@ public class IamAccessGroups extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("template_version", updateAssignmentOptions.templateVersion());
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateAssignmentVerboseResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentVerboseResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentVerboseResponse> responseConverter = UPDATE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1272,7 +1348,7 @@ public class IamAccessGroups extends BaseService {
     if (deleteAssignmentOptions.transactionId() != null) {
       builder.header("Transaction-Id", deleteAssignmentOptions.transactionId());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.iam_access_groups.v2.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.iam_access_groups.v2.IamAccessGroups;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * TemplateVersionsPager can be used to simplify the use of the "listTemplateVersions" method.
  */
-public class TemplateVersionsPager {
+public class TemplateVersionsPager implements Pager<ListTemplateVersionResponse> {
   private static class PageContext {
     private Long next;
     public Long getNext() {
@@ -163,6 +163,264 @@ public class IamIdentity extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://iam.cloud.ibm.com";
 
+  private static final ResponseConverter<ServiceIdList> LIST_SERVICE_IDS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdList>() { }.getType());
+
+  private static final ResponseConverter<ServiceId> CREATE_SERVICE_ID_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceId>() { }.getType());
+
+  private static final ResponseConverter<ServiceId> GET_SERVICE_ID_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceId>() { }.getType());
+
+  private static final ResponseConverter<ServiceId> UPDATE_SERVICE_ID_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceId>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_SERVICE_ID_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> LOCK_SERVICE_ID_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> UNLOCK_SERVICE_ID_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ServiceIdGroupList> LIST_SERVICE_ID_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdGroupList>() { }.getType());
+
+  private static final ResponseConverter<ServiceIdGroup> CREATE_SERVICE_ID_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdGroup>() { }.getType());
+
+  private static final ResponseConverter<ServiceIdGroup> GET_SERVICE_ID_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdGroup>() { }.getType());
+
+  private static final ResponseConverter<ServiceIdGroup> UPDATE_SERVICE_ID_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdGroup>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_SERVICE_ID_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ApiKeyList> LIST_API_KEYS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKeyList>() { }.getType());
+
+  private static final ResponseConverter<ApiKey> CREATE_API_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKey>() { }.getType());
+
+  private static final ResponseConverter<ApiKey> GET_API_KEYS_DETAILS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKey>() { }.getType());
+
+  private static final ResponseConverter<ApiKey> GET_API_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKey>() { }.getType());
+
+  private static final ResponseConverter<ApiKey> UPDATE_API_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKey>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_API_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> LOCK_API_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> UNLOCK_API_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> DISABLE_API_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> ENABLE_API_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<TrustedProfile> CREATE_PROFILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfile>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfilesList> LIST_PROFILES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfilesList>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfile> GET_PROFILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfile>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfile> UPDATE_PROFILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfile>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_PROFILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ProfileClaimRule> CREATE_CLAIM_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileClaimRule>() { }.getType());
+
+  private static final ResponseConverter<ProfileClaimRuleList> LIST_CLAIM_RULES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileClaimRuleList>() { }.getType());
+
+  private static final ResponseConverter<ProfileClaimRule> GET_CLAIM_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileClaimRule>() { }.getType());
+
+  private static final ResponseConverter<ProfileClaimRule> UPDATE_CLAIM_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileClaimRule>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_CLAIM_RULE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ProfileLink> CREATE_LINK_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileLink>() { }.getType());
+
+  private static final ResponseConverter<ProfileLinkList> LIST_LINKS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileLinkList>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_LINK_BY_PARAMETERS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ProfileLink> GET_LINK_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileLink>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_LINK_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ProfileIdentitiesResponse> GET_PROFILE_IDENTITIES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileIdentitiesResponse>() { }.getType());
+
+  private static final ResponseConverter<ProfileIdentitiesResponse> SET_PROFILE_IDENTITIES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileIdentitiesResponse>() { }.getType());
+
+  private static final ResponseConverter<ProfileIdentityResponse> SET_PROFILE_IDENTITY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileIdentityResponse>() { }.getType());
+
+  private static final ResponseConverter<ProfileIdentityResponse> GET_PROFILE_IDENTITY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileIdentityResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_PROFILE_IDENTITY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ReportReference> CREATE_REPORT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReportReference>() { }.getType());
+
+  private static final ResponseConverter<Report> GET_REPORT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Report>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsResponse> GET_ACCOUNT_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsResponse>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsResponse> UPDATE_ACCOUNT_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsResponse>() { }.getType());
+
+  private static final ResponseConverter<EffectiveAccountSettingsResponse> GET_EFFECTIVE_ACCOUNT_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EffectiveAccountSettingsResponse>() { }.getType());
+
+  private static final ResponseConverter<UserMfaEnrollments> GET_MFA_STATUS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<UserMfaEnrollments>() { }.getType());
+
+  private static final ResponseConverter<ReportReference> CREATE_MFA_REPORT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReportReference>() { }.getType());
+
+  private static final ResponseConverter<ReportMfaEnrollmentStatus> GET_MFA_REPORT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReportMfaEnrollmentStatus>() { }.getType());
+
+  private static final ResponseConverter<IdentityPreferenceResponse> UPDATE_PREFERENCE_ON_SCOPE_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityPreferenceResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_PREFERENCES_ON_SCOPE_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<IdentityPreferenceResponse> GET_PREFERENCES_ON_SCOPE_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityPreferenceResponse>() { }.getType());
+
+  private static final ResponseConverter<IdentityPreferencesResponse> GET_ALL_PREFERENCES_ON_SCOPE_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityPreferencesResponse>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfileTemplateList> LIST_PROFILE_TEMPLATES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateList>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfileTemplateResponse> CREATE_PROFILE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfileTemplateResponse> GET_LATEST_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ALL_VERSIONS_OF_PROFILE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<TrustedProfileTemplateList> LIST_VERSIONS_OF_PROFILE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateList>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfileTemplateResponse> CREATE_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfileTemplateResponse> GET_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<TrustedProfileTemplateResponse> UPDATE_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> COMMIT_PROFILE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<TemplateAssignmentListResponse> LIST_TRUSTED_PROFILE_ASSIGNMENTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentListResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateAssignmentResponse> CREATE_TRUSTED_PROFILE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateAssignmentResponse> GET_TRUSTED_PROFILE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+
+  private static final ResponseConverter<ExceptionResponse> DELETE_TRUSTED_PROFILE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ExceptionResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateAssignmentResponse> UPDATE_TRUSTED_PROFILE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsTemplateList> LIST_ACCOUNT_SETTINGS_TEMPLATES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateList>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsTemplateResponse> CREATE_ACCOUNT_SETTINGS_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsTemplateResponse> GET_LATEST_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ALL_VERSIONS_OF_ACCOUNT_SETTINGS_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AccountSettingsTemplateList> LIST_VERSIONS_OF_ACCOUNT_SETTINGS_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateList>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsTemplateResponse> CREATE_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsTemplateResponse> GET_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsTemplateResponse> UPDATE_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> COMMIT_ACCOUNT_SETTINGS_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<TemplateAssignmentListResponse> LIST_ACCOUNT_SETTINGS_ASSIGNMENTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentListResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateAssignmentResponse> CREATE_ACCOUNT_SETTINGS_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateAssignmentResponse> GET_ACCOUNT_SETTINGS_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+
+  private static final ResponseConverter<ExceptionResponse> DELETE_ACCOUNT_SETTINGS_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ExceptionResponse>() { }.getType());
+
+  private static final ResponseConverter<TemplateAssignmentResponse> UPDATE_ACCOUNT_SETTINGS_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+
+  private static final ResponseConverter<IdentityLimitsUsageResponse> GET_ACCOUNT_LIMITS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityLimitsUsageResponse>() { }.getType());
+
+  private static final ResponseConverter<IdentityLimitsUsageResponse> BULK_LIST_ACCOUNT_ENTITY_CONSUMPTION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityLimitsUsageResponse>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `IamIdentity` client.
    * The default service name is used to configure the client instance.
@@ -249,8 +507,7 @@ public class IamIdentity extends BaseService {
     if (listServiceIdsOptions.showGroupId() != null) {
       builder.query("show_group_id", String.valueOf(listServiceIdsOptions.showGroupId()));
     }
-    ResponseConverter<ServiceIdList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdList>() { }.getType());
+    ResponseConverter<ServiceIdList> responseConverter = LIST_SERVICE_IDS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -307,8 +564,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("apikey", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createServiceIdOptions.apikey()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ServiceId> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceId>() { }.getType());
+    ResponseConverter<ServiceId> responseConverter = CREATE_SERVICE_ID_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -342,8 +598,7 @@ public class IamIdentity extends BaseService {
     if (getServiceIdOptions.showGroupId() != null) {
       builder.query("show_group_id", String.valueOf(getServiceIdOptions.showGroupId()));
     }
-    ResponseConverter<ServiceId> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceId>() { }.getType());
+    ResponseConverter<ServiceId> responseConverter = GET_SERVICE_ID_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -385,8 +640,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("unique_instance_crns", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateServiceIdOptions.uniqueInstanceCrns()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ServiceId> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceId>() { }.getType());
+    ResponseConverter<ServiceId> responseConverter = UPDATE_SERVICE_ID_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -411,7 +665,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_SERVICE_ID_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -434,7 +688,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = LOCK_SERVICE_ID_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -457,7 +711,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UNLOCK_SERVICE_ID_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -482,8 +736,7 @@ public class IamIdentity extends BaseService {
     if (listServiceIdGroupOptions.accountId() != null) {
       builder.query("account_id", String.valueOf(listServiceIdGroupOptions.accountId()));
     }
-    ResponseConverter<ServiceIdGroupList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdGroupList>() { }.getType());
+    ResponseConverter<ServiceIdGroupList> responseConverter = LIST_SERVICE_ID_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -522,8 +775,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("description", createServiceIdGroupOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ServiceIdGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdGroup>() { }.getType());
+    ResponseConverter<ServiceIdGroup> responseConverter = CREATE_SERVICE_ID_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -546,8 +798,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ServiceIdGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdGroup>() { }.getType());
+    ResponseConverter<ServiceIdGroup> responseConverter = GET_SERVICE_ID_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -577,8 +828,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("description", updateServiceIdGroupOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ServiceIdGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ServiceIdGroup>() { }.getType());
+    ResponseConverter<ServiceIdGroup> responseConverter = UPDATE_SERVICE_ID_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -600,7 +850,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_SERVICE_ID_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -656,8 +906,7 @@ public class IamIdentity extends BaseService {
     if (listApiKeysOptions.groupId() != null) {
       builder.query("group_id", String.valueOf(listApiKeysOptions.groupId()));
     }
-    ResponseConverter<ApiKeyList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKeyList>() { }.getType());
+    ResponseConverter<ApiKeyList> responseConverter = LIST_API_KEYS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -722,8 +971,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("expires_at", createApiKeyOptions.expiresAt());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ApiKey> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKey>() { }.getType());
+    ResponseConverter<ApiKey> responseConverter = CREATE_API_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -752,8 +1000,7 @@ public class IamIdentity extends BaseService {
     if (getApiKeysDetailsOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(getApiKeysDetailsOptions.includeHistory()));
     }
-    ResponseConverter<ApiKey> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKey>() { }.getType());
+    ResponseConverter<ApiKey> responseConverter = GET_API_KEYS_DETAILS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -795,8 +1042,7 @@ public class IamIdentity extends BaseService {
     if (getApiKeyOptions.includeActivity() != null) {
       builder.query("include_activity", String.valueOf(getApiKeyOptions.includeActivity()));
     }
-    ResponseConverter<ApiKey> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKey>() { }.getType());
+    ResponseConverter<ApiKey> responseConverter = GET_API_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -840,8 +1086,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("expires_at", updateApiKeyOptions.expiresAt());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ApiKey> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ApiKey>() { }.getType());
+    ResponseConverter<ApiKey> responseConverter = UPDATE_API_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -864,7 +1109,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_API_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -887,7 +1132,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = LOCK_API_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -910,7 +1155,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UNLOCK_API_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -933,7 +1178,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DISABLE_API_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -956,7 +1201,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = ENABLE_API_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -987,8 +1232,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("email", createProfileOptions.email());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TrustedProfile> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfile>() { }.getType());
+    ResponseConverter<TrustedProfile> responseConverter = CREATE_PROFILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1032,8 +1276,7 @@ public class IamIdentity extends BaseService {
     if (listProfilesOptions.filter() != null) {
       builder.query("filter", String.valueOf(listProfilesOptions.filter()));
     }
-    ResponseConverter<TrustedProfilesList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfilesList>() { }.getType());
+    ResponseConverter<TrustedProfilesList> responseConverter = LIST_PROFILES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1060,8 +1303,7 @@ public class IamIdentity extends BaseService {
     if (getProfileOptions.includeActivity() != null) {
       builder.query("include_activity", String.valueOf(getProfileOptions.includeActivity()));
     }
-    ResponseConverter<TrustedProfile> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfile>() { }.getType());
+    ResponseConverter<TrustedProfile> responseConverter = GET_PROFILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1096,8 +1338,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("email", updateProfileOptions.email());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TrustedProfile> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfile>() { }.getType());
+    ResponseConverter<TrustedProfile> responseConverter = UPDATE_PROFILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1120,7 +1361,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_PROFILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1162,8 +1403,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("expiration", createClaimRuleOptions.expiration());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ProfileClaimRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileClaimRule>() { }.getType());
+    ResponseConverter<ProfileClaimRule> responseConverter = CREATE_CLAIM_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1187,8 +1427,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ProfileClaimRuleList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileClaimRuleList>() { }.getType());
+    ResponseConverter<ProfileClaimRuleList> responseConverter = LIST_CLAIM_RULES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1212,8 +1451,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ProfileClaimRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileClaimRule>() { }.getType());
+    ResponseConverter<ProfileClaimRule> responseConverter = GET_CLAIM_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1257,8 +1495,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("expiration", updateClaimRuleOptions.expiration());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ProfileClaimRule> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileClaimRule>() { }.getType());
+    ResponseConverter<ProfileClaimRule> responseConverter = UPDATE_CLAIM_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1282,7 +1519,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_CLAIM_RULE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1316,8 +1553,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("is_cross_account", createLinkOptions.isCrossAccount());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ProfileLink> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileLink>() { }.getType());
+    ResponseConverter<ProfileLink> responseConverter = CREATE_LINK_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1340,8 +1576,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ProfileLinkList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileLinkList>() { }.getType());
+    ResponseConverter<ProfileLinkList> responseConverter = LIST_LINKS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1379,7 +1614,7 @@ public class IamIdentity extends BaseService {
     if (deleteLinkByParametersOptions.componentName() != null) {
       builder.query("component_name", String.valueOf(deleteLinkByParametersOptions.componentName()));
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_LINK_BY_PARAMETERS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1403,8 +1638,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ProfileLink> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileLink>() { }.getType());
+    ResponseConverter<ProfileLink> responseConverter = GET_LINK_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1427,7 +1661,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_LINK_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1450,8 +1684,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ProfileIdentitiesResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileIdentitiesResponse>() { }.getType());
+    ResponseConverter<ProfileIdentitiesResponse> responseConverter = GET_PROFILE_IDENTITIES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1480,8 +1713,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("identities", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(setProfileIdentitiesOptions.identities()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ProfileIdentitiesResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileIdentitiesResponse>() { }.getType());
+    ResponseConverter<ProfileIdentitiesResponse> responseConverter = SET_PROFILE_IDENTITIES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1519,8 +1751,7 @@ public class IamIdentity extends BaseService {
       contentJson.addProperty("description", setProfileIdentityOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ProfileIdentityResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileIdentityResponse>() { }.getType());
+    ResponseConverter<ProfileIdentityResponse> responseConverter = SET_PROFILE_IDENTITY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1545,8 +1776,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ProfileIdentityResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ProfileIdentityResponse>() { }.getType());
+    ResponseConverter<ProfileIdentityResponse> responseConverter = GET_PROFILE_IDENTITY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1574,7 +1804,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_PROFILE_IDENTITY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1604,8 +1834,7 @@ public class IamIdentity extends BaseService {
     if (createReportOptions.duration() != null) {
       builder.query("duration", String.valueOf(createReportOptions.duration()));
     }
-    ResponseConverter<ReportReference> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReportReference>() { }.getType());
+    ResponseConverter<ReportReference> responseConverter = CREATE_REPORT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1630,8 +1859,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Report> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Report>() { }.getType());
+    ResponseConverter<Report> responseConverter = GET_REPORT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1660,8 +1888,7 @@ public class IamIdentity extends BaseService {
     if (getAccountSettingsOptions.resolveUserMfa() != null) {
       builder.query("resolve_user_mfa", String.valueOf(getAccountSettingsOptions.resolveUserMfa()));
     }
-    ResponseConverter<AccountSettingsResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsResponse>() { }.getType());
+    ResponseConverter<AccountSettingsResponse> responseConverter = GET_ACCOUNT_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1724,8 +1951,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("restrict_user_domains", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateAccountSettingsOptions.restrictUserDomains()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AccountSettingsResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsResponse>() { }.getType());
+    ResponseConverter<AccountSettingsResponse> responseConverter = UPDATE_ACCOUNT_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1754,8 +1980,7 @@ public class IamIdentity extends BaseService {
     if (getEffectiveAccountSettingsOptions.resolveUserMfa() != null) {
       builder.query("resolve_user_mfa", String.valueOf(getEffectiveAccountSettingsOptions.resolveUserMfa()));
     }
-    ResponseConverter<EffectiveAccountSettingsResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<EffectiveAccountSettingsResponse>() { }.getType());
+    ResponseConverter<EffectiveAccountSettingsResponse> responseConverter = GET_EFFECTIVE_ACCOUNT_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1779,8 +2004,7 @@ public class IamIdentity extends BaseService {
     }
     builder.header("Accept", "application/json");
     builder.query("iam_id", String.valueOf(getMfaStatusOptions.iamId()));
-    ResponseConverter<UserMfaEnrollments> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<UserMfaEnrollments>() { }.getType());
+    ResponseConverter<UserMfaEnrollments> responseConverter = GET_MFA_STATUS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1807,8 +2031,7 @@ public class IamIdentity extends BaseService {
     if (createMfaReportOptions.type() != null) {
       builder.query("type", String.valueOf(createMfaReportOptions.type()));
     }
-    ResponseConverter<ReportReference> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReportReference>() { }.getType());
+    ResponseConverter<ReportReference> responseConverter = CREATE_MFA_REPORT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1833,8 +2056,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ReportMfaEnrollmentStatus> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReportMfaEnrollmentStatus>() { }.getType());
+    ResponseConverter<ReportMfaEnrollmentStatus> responseConverter = GET_MFA_REPORT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1910,8 +2132,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("value_list_of_strings", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updatePreferenceOnScopeAccountOptions.valueListOfStrings()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<IdentityPreferenceResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityPreferenceResponse>() { }.getType());
+    ResponseConverter<IdentityPreferenceResponse> responseConverter = UPDATE_PREFERENCE_ON_SCOPE_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1938,7 +2159,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_PREFERENCES_ON_SCOPE_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1980,8 +2201,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<IdentityPreferenceResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityPreferenceResponse>() { }.getType());
+    ResponseConverter<IdentityPreferenceResponse> responseConverter = GET_PREFERENCES_ON_SCOPE_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2010,8 +2230,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<IdentityPreferencesResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityPreferencesResponse>() { }.getType());
+    ResponseConverter<IdentityPreferencesResponse> responseConverter = GET_ALL_PREFERENCES_ON_SCOPE_ACCOUNT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2051,8 +2270,7 @@ public class IamIdentity extends BaseService {
     if (listProfileTemplatesOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(listProfileTemplatesOptions.includeHistory()));
     }
-    ResponseConverter<TrustedProfileTemplateList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateList>() { }.getType());
+    ResponseConverter<TrustedProfileTemplateList> responseConverter = LIST_PROFILE_TEMPLATES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2104,8 +2322,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("action_controls", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createProfileTemplateOptions.actionControls()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TrustedProfileTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+    ResponseConverter<TrustedProfileTemplateResponse> responseConverter = CREATE_PROFILE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2142,8 +2359,7 @@ public class IamIdentity extends BaseService {
     if (getLatestProfileTemplateVersionOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(getLatestProfileTemplateVersionOptions.includeHistory()));
     }
-    ResponseConverter<TrustedProfileTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+    ResponseConverter<TrustedProfileTemplateResponse> responseConverter = GET_LATEST_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2166,7 +2382,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ALL_VERSIONS_OF_PROFILE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2204,8 +2420,7 @@ public class IamIdentity extends BaseService {
     if (listVersionsOfProfileTemplateOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(listVersionsOfProfileTemplateOptions.includeHistory()));
     }
-    ResponseConverter<TrustedProfileTemplateList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateList>() { }.getType());
+    ResponseConverter<TrustedProfileTemplateList> responseConverter = LIST_VERSIONS_OF_PROFILE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2248,8 +2463,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("action_controls", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createProfileTemplateVersionOptions.actionControls()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TrustedProfileTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+    ResponseConverter<TrustedProfileTemplateResponse> responseConverter = CREATE_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2276,8 +2490,7 @@ public class IamIdentity extends BaseService {
     if (getProfileTemplateVersionOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(getProfileTemplateVersionOptions.includeHistory()));
     }
-    ResponseConverter<TrustedProfileTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+    ResponseConverter<TrustedProfileTemplateResponse> responseConverter = GET_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2322,8 +2535,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("action_controls", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateProfileTemplateVersionOptions.actionControls()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<TrustedProfileTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TrustedProfileTemplateResponse>() { }.getType());
+    ResponseConverter<TrustedProfileTemplateResponse> responseConverter = UPDATE_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2347,7 +2559,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_PROFILE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2371,7 +2583,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = COMMIT_PROFILE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2423,8 +2635,7 @@ public class IamIdentity extends BaseService {
     if (listTrustedProfileAssignmentsOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(listTrustedProfileAssignmentsOptions.includeHistory()));
     }
-    ResponseConverter<TemplateAssignmentListResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentListResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentListResponse> responseConverter = LIST_TRUSTED_PROFILE_ASSIGNMENTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2462,8 +2673,7 @@ public class IamIdentity extends BaseService {
     contentJson.addProperty("target_type", createTrustedProfileAssignmentOptions.targetType());
     contentJson.addProperty("target", createTrustedProfileAssignmentOptions.target());
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateAssignmentResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentResponse> responseConverter = CREATE_TRUSTED_PROFILE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2489,8 +2699,7 @@ public class IamIdentity extends BaseService {
     if (getTrustedProfileAssignmentOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(getTrustedProfileAssignmentOptions.includeHistory()));
     }
-    ResponseConverter<TemplateAssignmentResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentResponse> responseConverter = GET_TRUSTED_PROFILE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2513,8 +2722,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ExceptionResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ExceptionResponse>() { }.getType());
+    ResponseConverter<ExceptionResponse> responseConverter = DELETE_TRUSTED_PROFILE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2542,8 +2750,7 @@ public class IamIdentity extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("template_version", updateTrustedProfileAssignmentOptions.templateVersion());
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateAssignmentResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentResponse> responseConverter = UPDATE_TRUSTED_PROFILE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2583,8 +2790,7 @@ public class IamIdentity extends BaseService {
     if (listAccountSettingsTemplatesOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(listAccountSettingsTemplatesOptions.includeHistory()));
     }
-    ResponseConverter<AccountSettingsTemplateList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateList>() { }.getType());
+    ResponseConverter<AccountSettingsTemplateList> responseConverter = LIST_ACCOUNT_SETTINGS_TEMPLATES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2630,8 +2836,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("account_settings", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createAccountSettingsTemplateOptions.accountSettings()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AccountSettingsTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+    ResponseConverter<AccountSettingsTemplateResponse> responseConverter = CREATE_ACCOUNT_SETTINGS_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2668,8 +2873,7 @@ public class IamIdentity extends BaseService {
     if (getLatestAccountSettingsTemplateVersionOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(getLatestAccountSettingsTemplateVersionOptions.includeHistory()));
     }
-    ResponseConverter<AccountSettingsTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+    ResponseConverter<AccountSettingsTemplateResponse> responseConverter = GET_LATEST_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2692,7 +2896,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ALL_VERSIONS_OF_ACCOUNT_SETTINGS_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2730,8 +2934,7 @@ public class IamIdentity extends BaseService {
     if (listVersionsOfAccountSettingsTemplateOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(listVersionsOfAccountSettingsTemplateOptions.includeHistory()));
     }
-    ResponseConverter<AccountSettingsTemplateList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateList>() { }.getType());
+    ResponseConverter<AccountSettingsTemplateList> responseConverter = LIST_VERSIONS_OF_ACCOUNT_SETTINGS_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2768,8 +2971,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("account_settings", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createAccountSettingsTemplateVersionOptions.accountSettings()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AccountSettingsTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+    ResponseConverter<AccountSettingsTemplateResponse> responseConverter = CREATE_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2796,8 +2998,7 @@ public class IamIdentity extends BaseService {
     if (getAccountSettingsTemplateVersionOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(getAccountSettingsTemplateVersionOptions.includeHistory()));
     }
-    ResponseConverter<AccountSettingsTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+    ResponseConverter<AccountSettingsTemplateResponse> responseConverter = GET_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2836,8 +3037,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("account_settings", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateAccountSettingsTemplateVersionOptions.accountSettings()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AccountSettingsTemplateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsTemplateResponse>() { }.getType());
+    ResponseConverter<AccountSettingsTemplateResponse> responseConverter = UPDATE_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2860,7 +3060,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ACCOUNT_SETTINGS_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2884,7 +3084,7 @@ public class IamIdentity extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = COMMIT_ACCOUNT_SETTINGS_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2936,8 +3136,7 @@ public class IamIdentity extends BaseService {
     if (listAccountSettingsAssignmentsOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(listAccountSettingsAssignmentsOptions.includeHistory()));
     }
-    ResponseConverter<TemplateAssignmentListResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentListResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentListResponse> responseConverter = LIST_ACCOUNT_SETTINGS_ASSIGNMENTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2975,8 +3174,7 @@ public class IamIdentity extends BaseService {
     contentJson.addProperty("target_type", createAccountSettingsAssignmentOptions.targetType());
     contentJson.addProperty("target", createAccountSettingsAssignmentOptions.target());
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateAssignmentResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentResponse> responseConverter = CREATE_ACCOUNT_SETTINGS_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -3002,8 +3200,7 @@ public class IamIdentity extends BaseService {
     if (getAccountSettingsAssignmentOptions.includeHistory() != null) {
       builder.query("include_history", String.valueOf(getAccountSettingsAssignmentOptions.includeHistory()));
     }
-    ResponseConverter<TemplateAssignmentResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentResponse> responseConverter = GET_ACCOUNT_SETTINGS_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -3027,8 +3224,7 @@ public class IamIdentity extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ExceptionResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ExceptionResponse>() { }.getType());
+    ResponseConverter<ExceptionResponse> responseConverter = DELETE_ACCOUNT_SETTINGS_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -3056,8 +3252,7 @@ public class IamIdentity extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("template_version", updateAccountSettingsAssignmentOptions.templateVersion());
     builder.bodyJson(contentJson);
-    ResponseConverter<TemplateAssignmentResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<TemplateAssignmentResponse>() { }.getType());
+    ResponseConverter<TemplateAssignmentResponse> responseConverter = UPDATE_ACCOUNT_SETTINGS_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -3119,8 +3314,7 @@ public class IamIdentity extends BaseService {
     if (getAccountLimitsOptions.crRulesPerProfile() != null) {
       builder.query("cr_rules_per_profile", String.valueOf(getAccountLimitsOptions.crRulesPerProfile()));
     }
-    ResponseConverter<IdentityLimitsUsageResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityLimitsUsageResponse>() { }.getType());
+    ResponseConverter<IdentityLimitsUsageResponse> responseConverter = GET_ACCOUNT_LIMITS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -3185,8 +3379,7 @@ public class IamIdentity extends BaseService {
       contentJson.add("cr_rules_per_profile", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(bulkListAccountEntityConsumptionOptions.crRulesPerProfile()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<IdentityLimitsUsageResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<IdentityLimitsUsageResponse>() { }.getType());
+    ResponseConverter<IdentityLimitsUsageResponse> responseConverter = BULK_LIST_ACCOUNT_ENTITY_CONSUMPTION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -0,0 +1,109 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.iam_identity.v1.model;
+
+import com.ibm.cloud.platform_services.common.Pager;
+import com.ibm.cloud.platform_services.iam_identity.v1.IamIdentity;
+import com.ibm.cloud.sdk.core.util.UrlHelper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * ProfilesPager can be used to simplify the use of the "listProfiles" method.
+ */
+public class ProfilesPager implements Pager<TrustedProfile> {
+  private static class PageContext {
+    private String next;
+    public String getNext() {
+      return next;
+    }
+    public void setNext(String next) {
+      this.next = next;
+    }
+  }
+
+  protected boolean hasNext;
+  protected ListProfilesOptions options;
+  protected IamIdentity client;
+  protected PageContext pageContext;
+
+  // Hide the default ctor.
+  protected ProfilesPager() { }
+
+  /**
+   * Constructs a new ProfilesPager instance with the specified client and options model instance.
+   * @param client the IamIdentity instance to be used to invoke the "listProfiles" method
+   * @param options the ListProfilesOptions instance to be used to invoke the "listProfiles" method
+   */
+  public ProfilesPager(IamIdentity client, ListProfilesOptions options) {
+    if (options.pagetoken() != null) {
+      throw new IllegalArgumentException("The options 'pagetoken' field should not be set");
+    }
+
+    this.hasNext = true;
+    this.client = client;
+    this.options = options.newBuilder().build();
+    this.pageContext = new PageContext();
+  }
+
+  /**
+   * Returns true if there are more results to be retrieved.
+   * @return boolean
+   */
+  public boolean hasNext() {
+    return hasNext;
+  }
+
+  /**
+   * Returns the next page of results.
+   * @return a List&lt;TrustedProfile&gt; that contains the next page of results
+   */
+  public List<TrustedProfile> getNext() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more results available");
+    }
+
+    ListProfilesOptions.Builder builder = this.options.newBuilder();
+    if (this.pageContext.getNext() != null) {
+      builder.pagetoken(this.pageContext.getNext());
+    }
+    this.options = builder.build();
+
+    TrustedProfilesList result = client.listProfiles(options).execute().getResult();
+
+    String next = null;
+    if (result.getNext() != null) {
+      next = UrlHelper.getQueryParam(result.getNext(), "pagetoken");
+    }
+    this.pageContext.setNext(next);
+    if (next == null) {
+      this.hasNext = false;
+    }
+
+    return result.getProfiles();
+  }
+
+  /**
+   * Returns all results by invoking getNext() repeatedly until all pages of results have been retrieved.
+   * @return a List&lt;TrustedProfile&gt; containing all results returned by the "listProfiles" method
+   */
+  public List<TrustedProfile> getAll() {
+    List<TrustedProfile> results = new ArrayList<>();
+    while (hasNext()) {
+      List<TrustedProfile> nextPage = getNext();
+      results.addAll(nextPage);
+    }
+    return results;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.ibm.cloud.platform_services.iam_identity.v1.model;
+
+import com.ibm.cloud.platform_services.common.Pager;
+import com.ibm.cloud.platform_services.iam_identity.v1.IamIdentity;
+import com.ibm.cloud.sdk.core.util.UrlHelper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * ServiceIdsPager can be used to simplify the use of the "listServiceIds" method.
+ */
+public class ServiceIdsPager implements Pager<ServiceId> {
+  private static class PageContext {
+    private String next;
+    public String getNext() {
+      return next;
+    }
+    public void setNext(String next) {
+      this.next = next;
+    }
+  }
+
+  protected boolean hasNext;
+  protected ListServiceIdsOptions options;
+  protected IamIdentity client;
+  protected PageContext pageContext;
+
+  // Hide the default ctor.
+  protected ServiceIdsPager() { }
+
+  /**
+   * Constructs a new ServiceIdsPager instance with the specified client and options model instance.
+   * @param client the IamIdentity instance to be used to invoke the "listServiceIds" method
+   * @param options the ListServiceIdsOptions instance to be used to invoke the "listServiceIds" method
+   */
+  public ServiceIdsPager(IamIdentity client, ListServiceIdsOptions options) {
+    if (options.pagetoken() != null) {
+      throw new IllegalArgumentException("The options 'pagetoken' field should not be set");
+    }
+
+    this.hasNext = true;
+    this.client = client;
+    this.options = options.newBuilder().build();
+    this.pageContext = new PageContext();
+  }
+
+  /**
+   * Returns true if there are more results to be retrieved.
+   * @return boolean
+   */
+  public boolean hasNext() {
+    return hasNext;
+  }
+
+  /**
+   * Returns the next page of results.
+   * @return a List&lt;ServiceId&gt; that contains the next page of results
+   */
+  public List<ServiceId> getNext() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more results available");
+    }
+
+    ListServiceIdsOptions.Builder builder = this.options.newBuilder();
+    if (this.pageContext.getNext() != null) {
+      builder.pagetoken(this.pageContext.getNext());
+    }
+    this.options = builder.build();
+
+    ServiceIdList result = client.listServiceIds(options).execute().getResult();
+
+    String next = null;
+    if (result.getNext() != null) {
+      next = UrlHelper.getQueryParam(result.getNext(), "pagetoken");
+    }
+    this.pageContext.setNext(next);
+    if (next == null) {
+      this.hasNext = false;
+    }
+
+    return result.getServiceids();
+  }
+
+  /**
+   * Returns all results by invoking getNext() repeatedly until all pages of results have been retrieved.
+   * @return a List&lt;ServiceId&gt; containing all results returned by the "listServiceIds" method
+   */
+  public List<ServiceId> getAll() {
+    List<ServiceId> results = new ArrayList<>();
+    while (hasNext()) {
+      List<ServiceId> nextPage = getNext();
+      results.addAll(nextPage);
+    }
+    return results;
+  }
+}
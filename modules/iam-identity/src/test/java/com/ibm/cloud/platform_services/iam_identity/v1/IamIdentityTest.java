@@ -31,6 +31,7 @@ import com.ibm.cloud.platform_services.iam_identity.v1.model.Activity;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ApiKey;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ApiKeyInsideCreateServiceIdRequest;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ApiKeyList;
+import com.ibm.cloud.platform_services.iam_identity.v1.model.ApiKeysPager;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ApikeyActivity;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ApikeyActivityServiceid;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ApikeyActivityUser;
@@ -137,6 +138,7 @@ import com.ibm.cloud.platform_services.iam_identity.v1.model.ProfileIdentityResp
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ProfileLink;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ProfileLinkLink;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ProfileLinkList;
+import com.ibm.cloud.platform_services.iam_identity.v1.model.ProfilesPager;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.Report;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ReportMfaEnrollmentStatus;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ReportReference;
@@ -146,6 +148,7 @@ import com.ibm.cloud.platform_services.iam_identity.v1.model.ServiceIdGroup;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ServiceIdGroupCount;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ServiceIdGroupList;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.ServiceIdList;
+import com.ibm.cloud.platform_services.iam_identity.v1.model.ServiceIdsPager;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.SetProfileIdentitiesOptions;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.SetProfileIdentityOptions;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.TemplateAccountSettings;
@@ -182,13 +185,16 @@ import com.ibm.cloud.platform_services.iam_identity.v1.model.UserMfa;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.UserMfaEnrollments;
 import com.ibm.cloud.platform_services.iam_identity.v1.model.UserReportMfaEnrollmentStatus;
 import com.ibm.cloud.platform_services.iam_identity.v1.utils.TestUtilities;
+import com.ibm.cloud.platform_services.test.ServiceCallTestUtils;
 import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
 import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.security.NoAuthAuthenticator;
 import com.ibm.cloud.sdk.core.service.model.FileWithMetadata;
 import com.ibm.cloud.sdk.core.util.DateUtils;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -5297,6 +5303,153 @@ public class IamIdentityTest {
     iamIdentityService.bulkListAccountEntityConsumption(null).execute();
   }
 
+  // Test that each operation reuses a single response converter instead of allocating one per call
+  @Test
+  public void testResponseConverterReuse() throws Throwable {
+    ListApiKeysOptions listApiKeysOptions = new ListApiKeysOptions.Builder().build();
+    GetApiKeyOptions getApiKeyOptions = new GetApiKeyOptions.Builder().id("testString").build();
+    DeleteApiKeyOptions deleteApiKeyOptions = new DeleteApiKeyOptions.Builder().id("testString").build();
+
+    ResponseConverter<?> listApiKeysConverter = ServiceCallTestUtils.getResponseConverter(iamIdentityService.listApiKeys(listApiKeysOptions));
+    ResponseConverter<?> getApiKeyConverter = ServiceCallTestUtils.getResponseConverter(iamIdentityService.getApiKey(getApiKeyOptions));
+    ResponseConverter<?> deleteApiKeyConverter = ServiceCallTestUtils.getResponseConverter(iamIdentityService.deleteApiKey(deleteApiKeyOptions));
+    for (int i = 0; i < 1000; i++) {
+      assertSame(ServiceCallTestUtils.getResponseConverter(iamIdentityService.listApiKeys(listApiKeysOptions)), listApiKeysConverter);
+      assertSame(ServiceCallTestUtils.getResponseConverter(iamIdentityService.getApiKey(getApiKeyOptions)), getApiKeyConverter);
+      assertSame(ServiceCallTestUtils.getResponseConverter(iamIdentityService.deleteApiKey(deleteApiKeyOptions)), deleteApiKeyConverter);
+    }
+  }
+
+  // Test the listApiKeys operation using the ApiKeysPager.getNext() method
+  @Test
+  public void testListApiKeysWithApiKeysPagerGetNext() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"limit\":1,\"next\":\"https://myhost.com/somePath?pagetoken=token1\",\"apikeys\":[{\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"limit\":1,\"apikeys\":[{\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    ListApiKeysOptions options = new ListApiKeysOptions.Builder()
+      .accountId("testString")
+      .pagesize(Long.valueOf("1"))
+      .build();
+
+    List<ApiKey> allResults = new ArrayList<>();
+    ApiKeysPager pager = new ApiKeysPager(iamIdentityService, options);
+    while (pager.hasNext()) {
+      List<ApiKey> nextPage = pager.getNext();
+      assertNotNull(nextPage);
+      allResults.addAll(nextPage);
+    }
+    assertEquals(allResults.size(), 2);
+
+    // Verify that the second page was requested from where the first page ended
+    server.takeRequest();
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getRequestUrl().queryParameter("pagetoken"), "token1");
+    assertEquals(server.getRequestCount(), 2);
+  }
+
+  // Test the listApiKeys operation using the ApiKeysPager.getAll() method
+  @Test
+  public void testListApiKeysWithApiKeysPagerGetAll() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"limit\":1,\"next\":\"https://myhost.com/somePath?pagetoken=token1\",\"apikeys\":[{\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"limit\":1,\"apikeys\":[{\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    ListApiKeysOptions options = new ListApiKeysOptions.Builder()
+      .accountId("testString")
+      .pagesize(Long.valueOf("1"))
+      .build();
+
+    ApiKeysPager pager = new ApiKeysPager(iamIdentityService, options);
+    List<ApiKey> allResults = pager.getAll();
+    assertNotNull(allResults);
+    assertEquals(allResults.size(), 2);
+  }
+
+  // Test the listServiceIds operation using the ServiceIdsPager.getAll() method
+  @Test
+  public void testListServiceIdsWithServiceIdsPagerGetAll() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"limit\":1,\"next\":\"https://myhost.com/somePath?pagetoken=token1\",\"serviceids\":[{\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"limit\":1,\"serviceids\":[{\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    ListServiceIdsOptions options = new ListServiceIdsOptions.Builder()
+      .accountId("testString")
+      .pagesize(Long.valueOf("1"))
+      .build();
+
+    ServiceIdsPager pager = new ServiceIdsPager(iamIdentityService, options);
+    List<ServiceId> allResults = pager.getAll();
+    assertNotNull(allResults);
+    assertEquals(allResults.size(), 2);
+  }
+
+  // Test the listProfiles operation using the ProfilesPager.getAll() method
+  @Test
+  public void testListProfilesWithProfilesPagerGetAll() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"limit\":1,\"next\":\"https://myhost.com/somePath?pagetoken=token1\",\"profiles\":[{\"id\":\"id0\"}]}";
+    String mockResponsePage2 = "{\"limit\":1,\"profiles\":[{\"id\":\"id1\"}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    ListProfilesOptions options = new ListProfilesOptions.Builder()
+      .accountId("testString")
+      .pagesize(Long.valueOf("1"))
+      .build();
+
+    ProfilesPager pager = new ProfilesPager(iamIdentityService, options);
+    List<TrustedProfile> allResults = pager.getAll();
+    assertNotNull(allResults);
+    assertEquals(allResults.size(), 2);
+  }
+
   // Perform setup needed before each test method
   @BeforeMethod
   public void beforeEachTest() {
@@ -137,6 +137,195 @@ public class IamPolicyManagement extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://iam.cloud.ibm.com";
 
+  private static final ResponseConverter<PolicyCollection> LIST_POLICIES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyCollection>() { }.getType());
+
+  private static final ResponseConverter<Policy> CREATE_POLICY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Policy>() { }.getType());
+
+  private static final ResponseConverter<Policy> REPLACE_POLICY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Policy>() { }.getType());
+
+  private static final ResponseConverter<PolicyTemplateMetaData> GET_POLICY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateMetaData>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_POLICY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Policy> UPDATE_POLICY_STATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Policy>() { }.getType());
+
+  private static final ResponseConverter<RoleCollection> LIST_ROLES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleCollection>() { }.getType());
+
+  private static final ResponseConverter<CustomRole> CREATE_ROLE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CustomRole>() { }.getType());
+
+  private static final ResponseConverter<CustomRole> REPLACE_ROLE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CustomRole>() { }.getType());
+
+  private static final ResponseConverter<CustomRole> GET_ROLE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CustomRole>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ROLE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<V2PolicyCollection> LIST_V2_POLICIES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<V2PolicyCollection>() { }.getType());
+
+  private static final ResponseConverter<V2Policy> CREATE_V2_POLICY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<V2Policy>() { }.getType());
+
+  private static final ResponseConverter<V2Policy> REPLACE_V2_POLICY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<V2Policy>() { }.getType());
+
+  private static final ResponseConverter<V2PolicyTemplateMetaData> GET_V2_POLICY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<V2PolicyTemplateMetaData>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_V2_POLICY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<PolicyTemplateCollection> LIST_POLICY_TEMPLATES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateCollection>() { }.getType());
+
+  private static final ResponseConverter<PolicyTemplateLimitData> CREATE_POLICY_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateLimitData>() { }.getType());
+
+  private static final ResponseConverter<PolicyTemplate> GET_POLICY_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_POLICY_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<PolicyTemplateLimitData> CREATE_POLICY_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateLimitData>() { }.getType());
+
+  private static final ResponseConverter<PolicyTemplateVersionsCollection> LIST_POLICY_TEMPLATE_VERSIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateVersionsCollection>() { }.getType());
+
+  private static final ResponseConverter<PolicyTemplate> REPLACE_POLICY_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_POLICY_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<PolicyTemplate> GET_POLICY_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> COMMIT_POLICY_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<PolicyTemplateAssignmentCollection> LIST_POLICY_ASSIGNMENTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateAssignmentCollection>() { }.getType());
+
+  private static final ResponseConverter<PolicyAssignmentV1Collection> CREATE_POLICY_TEMPLATE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyAssignmentV1Collection>() { }.getType());
+
+  private static final ResponseConverter<PolicyTemplateAssignmentItems> GET_POLICY_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateAssignmentItems>() { }.getType());
+
+  private static final ResponseConverter<PolicyAssignmentV1> UPDATE_POLICY_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyAssignmentV1>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_POLICY_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<AccountSettingsAccessManagement> GET_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsAccessManagement>() { }.getType());
+
+  private static final ResponseConverter<AccountSettingsAccessManagement> UPDATE_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsAccessManagement>() { }.getType());
+
+  private static final ResponseConverter<ActionControlTemplateCollection> LIST_ACTION_CONTROL_TEMPLATES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplateCollection>() { }.getType());
+
+  private static final ResponseConverter<ActionControlTemplate> CREATE_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+
+  private static final ResponseConverter<ActionControlTemplate> GET_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ActionControlTemplate> CREATE_ACTION_CONTROL_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+
+  private static final ResponseConverter<ActionControlTemplateVersionsCollection> LIST_ACTION_CONTROL_TEMPLATE_VERSIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplateVersionsCollection>() { }.getType());
+
+  private static final ResponseConverter<ActionControlTemplate> REPLACE_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ACTION_CONTROL_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ActionControlTemplate> GET_ACTION_CONTROL_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> COMMIT_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ActionControlAssignmentCollection> LIST_ACTION_CONTROL_ASSIGNMENTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlAssignmentCollection>() { }.getType());
+
+  private static final ResponseConverter<ActionControlAssignmentCollection> CREATE_ACTION_CONTROL_TEMPLATE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlAssignmentCollection>() { }.getType());
+
+  private static final ResponseConverter<ActionControlAssignment> GET_ACTION_CONTROL_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlAssignment>() { }.getType());
+
+  private static final ResponseConverter<ActionControlAssignment> UPDATE_ACTION_CONTROL_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlAssignment>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ACTION_CONTROL_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<RoleTemplateCollection> LIST_ROLE_TEMPLATES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplateCollection>() { }.getType());
+
+  private static final ResponseConverter<RoleTemplate> CREATE_ROLE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+
+  private static final ResponseConverter<RoleTemplate> GET_ROLE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ROLE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<RoleTemplate> CREATE_ROLE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+
+  private static final ResponseConverter<RoleTemplateVersionsCollection> LIST_ROLE_TEMPLATE_VERSIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplateVersionsCollection>() { }.getType());
+
+  private static final ResponseConverter<RoleTemplate> REPLACE_ROLE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ROLE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<RoleTemplate> GET_ROLE_TEMPLATE_VERSION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+
+  private static final ResponseConverter<Void> COMMIT_ROLE_TEMPLATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<RoleAssignmentCollection> LIST_ROLE_ASSIGNMENTS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleAssignmentCollection>() { }.getType());
+
+  private static final ResponseConverter<RoleAssignmentCollection> CREATE_ROLE_TEMPLATE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleAssignmentCollection>() { }.getType());
+
+  private static final ResponseConverter<RoleAssignment> GET_ROLE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleAssignment>() { }.getType());
+
+  private static final ResponseConverter<RoleAssignment> UPDATE_ROLE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleAssignment>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_ROLE_ASSIGNMENT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
  /**
    * Class method which constructs an instance of the `IamPolicyManagement` client.
    * The default service name is used to configure the client instance.
@@ -231,8 +420,7 @@ public class IamPolicyManagement extends BaseService {
     if (listPoliciesOptions.start() != null) {
       builder.query("start", String.valueOf(listPoliciesOptions.start()));
     }
-    ResponseConverter<PolicyCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyCollection>() { }.getType());
+    ResponseConverter<PolicyCollection> responseConverter = LIST_POLICIES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -307,8 +495,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("description", createPolicyOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Policy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Policy>() { }.getType());
+    ResponseConverter<Policy> responseConverter = CREATE_POLICY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -378,8 +565,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("description", replacePolicyOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Policy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Policy>() { }.getType());
+    ResponseConverter<Policy> responseConverter = REPLACE_POLICY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -402,8 +588,7 @@ public class IamPolicyManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<PolicyTemplateMetaData> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateMetaData>() { }.getType());
+    ResponseConverter<PolicyTemplateMetaData> responseConverter = GET_POLICY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -426,7 +611,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_POLICY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -456,8 +641,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("state", updatePolicyStateOptions.state());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Policy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Policy>() { }.getType());
+    ResponseConverter<Policy> responseConverter = UPDATE_POLICY_STATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -501,8 +685,7 @@ public class IamPolicyManagement extends BaseService {
     if (listRolesOptions.serviceGroupId() != null) {
       builder.query("service_group_id", String.valueOf(listRolesOptions.serviceGroupId()));
     }
-    ResponseConverter<RoleCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleCollection>() { }.getType());
+    ResponseConverter<RoleCollection> responseConverter = LIST_ROLES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -554,8 +737,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("description", createRoleOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<CustomRole> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CustomRole>() { }.getType());
+    ResponseConverter<CustomRole> responseConverter = CREATE_ROLE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -587,8 +769,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("description", replaceRoleOptions.description());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<CustomRole> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CustomRole>() { }.getType());
+    ResponseConverter<CustomRole> responseConverter = REPLACE_ROLE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -611,8 +792,7 @@ public class IamPolicyManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<CustomRole> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CustomRole>() { }.getType());
+    ResponseConverter<CustomRole> responseConverter = GET_ROLE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -634,7 +814,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ROLE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -696,8 +876,7 @@ public class IamPolicyManagement extends BaseService {
     if (listV2PoliciesOptions.start() != null) {
       builder.query("start", String.valueOf(listV2PoliciesOptions.start()));
     }
-    ResponseConverter<V2PolicyCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<V2PolicyCollection>() { }.getType());
+    ResponseConverter<V2PolicyCollection> responseConverter = LIST_V2_POLICIES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -859,8 +1038,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.add("rule", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createV2PolicyOptions.rule()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<V2Policy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<V2Policy>() { }.getType());
+    ResponseConverter<V2Policy> responseConverter = CREATE_V2_POLICY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1018,8 +1196,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.add("rule", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(replaceV2PolicyOptions.rule()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<V2Policy> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<V2Policy>() { }.getType());
+    ResponseConverter<V2Policy> responseConverter = REPLACE_V2_POLICY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1045,8 +1222,7 @@ public class IamPolicyManagement extends BaseService {
     if (getV2PolicyOptions.format() != null) {
       builder.query("format", String.valueOf(getV2PolicyOptions.format()));
     }
-    ResponseConverter<V2PolicyTemplateMetaData> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<V2PolicyTemplateMetaData>() { }.getType());
+    ResponseConverter<V2PolicyTemplateMetaData> responseConverter = GET_V2_POLICY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1069,7 +1245,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_V2_POLICY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1123,8 +1299,7 @@ public class IamPolicyManagement extends BaseService {
     if (listPolicyTemplatesOptions.start() != null) {
       builder.query("start", String.valueOf(listPolicyTemplatesOptions.start()));
     }
-    ResponseConverter<PolicyTemplateCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateCollection>() { }.getType());
+    ResponseConverter<PolicyTemplateCollection> responseConverter = LIST_POLICY_TEMPLATES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1160,8 +1335,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("committed", createPolicyTemplateOptions.committed());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<PolicyTemplateLimitData> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateLimitData>() { }.getType());
+    ResponseConverter<PolicyTemplateLimitData> responseConverter = CREATE_POLICY_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1187,8 +1361,7 @@ public class IamPolicyManagement extends BaseService {
     if (getPolicyTemplateOptions.state() != null) {
       builder.query("state", String.valueOf(getPolicyTemplateOptions.state()));
     }
-    ResponseConverter<PolicyTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplate>() { }.getType());
+    ResponseConverter<PolicyTemplate> responseConverter = GET_POLICY_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1212,7 +1385,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_POLICY_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1248,8 +1421,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("committed", createPolicyTemplateVersionOptions.committed());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<PolicyTemplateLimitData> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateLimitData>() { }.getType());
+    ResponseConverter<PolicyTemplateLimitData> responseConverter = CREATE_POLICY_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1281,8 +1453,7 @@ public class IamPolicyManagement extends BaseService {
     if (listPolicyTemplateVersionsOptions.start() != null) {
       builder.query("start", String.valueOf(listPolicyTemplateVersionsOptions.start()));
     }
-    ResponseConverter<PolicyTemplateVersionsCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateVersionsCollection>() { }.getType());
+    ResponseConverter<PolicyTemplateVersionsCollection> responseConverter = LIST_POLICY_TEMPLATE_VERSIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1319,8 +1490,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("committed", replacePolicyTemplateOptions.committed());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<PolicyTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplate>() { }.getType());
+    ResponseConverter<PolicyTemplate> responseConverter = REPLACE_POLICY_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1345,7 +1515,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_POLICY_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1369,8 +1539,7 @@ public class IamPolicyManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<PolicyTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplate>() { }.getType());
+    ResponseConverter<PolicyTemplate> responseConverter = GET_POLICY_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1394,7 +1563,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = COMMIT_POLICY_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1436,8 +1605,7 @@ public class IamPolicyManagement extends BaseService {
     if (listPolicyAssignmentsOptions.start() != null) {
       builder.query("start", String.valueOf(listPolicyAssignmentsOptions.start()));
     }
-    ResponseConverter<PolicyTemplateAssignmentCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateAssignmentCollection>() { }.getType());
+    ResponseConverter<PolicyTemplateAssignmentCollection> responseConverter = LIST_POLICY_ASSIGNMENTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1467,8 +1635,7 @@ public class IamPolicyManagement extends BaseService {
     contentJson.add("target", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createPolicyTemplateAssignmentOptions.target()));
     contentJson.add("templates", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createPolicyTemplateAssignmentOptions.templates()));
     builder.bodyJson(contentJson);
-    ResponseConverter<PolicyAssignmentV1Collection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyAssignmentV1Collection>() { }.getType());
+    ResponseConverter<PolicyAssignmentV1Collection> responseConverter = CREATE_POLICY_TEMPLATE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1492,8 +1659,7 @@ public class IamPolicyManagement extends BaseService {
     }
     builder.header("Accept", "application/json");
     builder.query("version", String.valueOf(getPolicyAssignmentOptions.version()));
-    ResponseConverter<PolicyTemplateAssignmentItems> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyTemplateAssignmentItems>() { }.getType());
+    ResponseConverter<PolicyTemplateAssignmentItems> responseConverter = GET_POLICY_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1521,8 +1687,7 @@ public class IamPolicyManagement extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("template_version", updatePolicyAssignmentOptions.templateVersion());
     builder.bodyJson(contentJson);
-    ResponseConverter<PolicyAssignmentV1> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PolicyAssignmentV1>() { }.getType());
+    ResponseConverter<PolicyAssignmentV1> responseConverter = UPDATE_POLICY_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1545,7 +1710,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_POLICY_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1571,8 +1736,7 @@ public class IamPolicyManagement extends BaseService {
     if (getSettingsOptions.acceptLanguage() != null) {
       builder.header("Accept-Language", getSettingsOptions.acceptLanguage());
     }
-    ResponseConverter<AccountSettingsAccessManagement> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsAccessManagement>() { }.getType());
+    ResponseConverter<AccountSettingsAccessManagement> responseConverter = GET_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1631,8 +1795,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.add("external_account_identity_interaction", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateSettingsOptions.externalAccountIdentityInteraction()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AccountSettingsAccessManagement> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettingsAccessManagement>() { }.getType());
+    ResponseConverter<AccountSettingsAccessManagement> responseConverter = UPDATE_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1668,8 +1831,7 @@ public class IamPolicyManagement extends BaseService {
     if (listActionControlTemplatesOptions.start() != null) {
       builder.query("start", String.valueOf(listActionControlTemplatesOptions.start()));
     }
-    ResponseConverter<ActionControlTemplateCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplateCollection>() { }.getType());
+    ResponseConverter<ActionControlTemplateCollection> responseConverter = LIST_ACTION_CONTROL_TEMPLATES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1706,8 +1868,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.add("action_control", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createActionControlTemplateOptions.actionControl()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ActionControlTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+    ResponseConverter<ActionControlTemplate> responseConverter = CREATE_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1733,8 +1894,7 @@ public class IamPolicyManagement extends BaseService {
     if (getActionControlTemplateOptions.state() != null) {
       builder.query("state", String.valueOf(getActionControlTemplateOptions.state()));
     }
-    ResponseConverter<ActionControlTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+    ResponseConverter<ActionControlTemplate> responseConverter = GET_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1758,7 +1918,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1796,8 +1956,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("committed", createActionControlTemplateVersionOptions.committed());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ActionControlTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+    ResponseConverter<ActionControlTemplate> responseConverter = CREATE_ACTION_CONTROL_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1829,8 +1988,7 @@ public class IamPolicyManagement extends BaseService {
     if (listActionControlTemplateVersionsOptions.start() != null) {
       builder.query("start", String.valueOf(listActionControlTemplateVersionsOptions.start()));
     }
-    ResponseConverter<ActionControlTemplateVersionsCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplateVersionsCollection>() { }.getType());
+    ResponseConverter<ActionControlTemplateVersionsCollection> responseConverter = LIST_ACTION_CONTROL_TEMPLATE_VERSIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1869,8 +2027,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("committed", replaceActionControlTemplateOptions.committed());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ActionControlTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+    ResponseConverter<ActionControlTemplate> responseConverter = REPLACE_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1895,7 +2052,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ACTION_CONTROL_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1919,8 +2076,7 @@ public class IamPolicyManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ActionControlTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlTemplate>() { }.getType());
+    ResponseConverter<ActionControlTemplate> responseConverter = GET_ACTION_CONTROL_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1944,7 +2100,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = COMMIT_ACTION_CONTROL_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1985,8 +2141,7 @@ public class IamPolicyManagement extends BaseService {
     if (listActionControlAssignmentsOptions.start() != null) {
       builder.query("start", String.valueOf(listActionControlAssignmentsOptions.start()));
     }
-    ResponseConverter<ActionControlAssignmentCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlAssignmentCollection>() { }.getType());
+    ResponseConverter<ActionControlAssignmentCollection> responseConverter = LIST_ACTION_CONTROL_ASSIGNMENTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2015,8 +2170,7 @@ public class IamPolicyManagement extends BaseService {
     contentJson.add("target", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createActionControlTemplateAssignmentOptions.target()));
     contentJson.add("templates", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createActionControlTemplateAssignmentOptions.templates()));
     builder.bodyJson(contentJson);
-    ResponseConverter<ActionControlAssignmentCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlAssignmentCollection>() { }.getType());
+    ResponseConverter<ActionControlAssignmentCollection> responseConverter = CREATE_ACTION_CONTROL_TEMPLATE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2039,8 +2193,7 @@ public class IamPolicyManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ActionControlAssignment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlAssignment>() { }.getType());
+    ResponseConverter<ActionControlAssignment> responseConverter = GET_ACTION_CONTROL_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2067,8 +2220,7 @@ public class IamPolicyManagement extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("template_version", updateActionControlAssignmentOptions.templateVersion());
     builder.bodyJson(contentJson);
-    ResponseConverter<ActionControlAssignment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ActionControlAssignment>() { }.getType());
+    ResponseConverter<ActionControlAssignment> responseConverter = UPDATE_ACTION_CONTROL_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2091,7 +2243,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ACTION_CONTROL_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2138,8 +2290,7 @@ public class IamPolicyManagement extends BaseService {
     if (listRoleTemplatesOptions.start() != null) {
       builder.query("start", String.valueOf(listRoleTemplatesOptions.start()));
     }
-    ResponseConverter<RoleTemplateCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplateCollection>() { }.getType());
+    ResponseConverter<RoleTemplateCollection> responseConverter = LIST_ROLE_TEMPLATES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2176,8 +2327,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.add("role", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createRoleTemplateOptions.role()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<RoleTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+    ResponseConverter<RoleTemplate> responseConverter = CREATE_ROLE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2203,8 +2353,7 @@ public class IamPolicyManagement extends BaseService {
     if (getRoleTemplateOptions.state() != null) {
       builder.query("state", String.valueOf(getRoleTemplateOptions.state()));
     }
-    ResponseConverter<RoleTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+    ResponseConverter<RoleTemplate> responseConverter = GET_ROLE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2228,7 +2377,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ROLE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2265,8 +2414,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("committed", createRoleTemplateVersionOptions.committed());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<RoleTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+    ResponseConverter<RoleTemplate> responseConverter = CREATE_ROLE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2298,8 +2446,7 @@ public class IamPolicyManagement extends BaseService {
     if (listRoleTemplateVersionsOptions.start() != null) {
       builder.query("start", String.valueOf(listRoleTemplateVersionsOptions.start()));
     }
-    ResponseConverter<RoleTemplateVersionsCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplateVersionsCollection>() { }.getType());
+    ResponseConverter<RoleTemplateVersionsCollection> responseConverter = LIST_ROLE_TEMPLATE_VERSIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2338,8 +2485,7 @@ public class IamPolicyManagement extends BaseService {
       contentJson.addProperty("committed", replaceRoleTemplateOptions.committed());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<RoleTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+    ResponseConverter<RoleTemplate> responseConverter = REPLACE_ROLE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2363,7 +2509,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ROLE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2387,8 +2533,7 @@ public class IamPolicyManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<RoleTemplate> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleTemplate>() { }.getType());
+    ResponseConverter<RoleTemplate> responseConverter = GET_ROLE_TEMPLATE_VERSION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2412,7 +2557,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = COMMIT_ROLE_TEMPLATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2453,8 +2598,7 @@ public class IamPolicyManagement extends BaseService {
     if (listRoleAssignmentsOptions.start() != null) {
       builder.query("start", String.valueOf(listRoleAssignmentsOptions.start()));
     }
-    ResponseConverter<RoleAssignmentCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleAssignmentCollection>() { }.getType());
+    ResponseConverter<RoleAssignmentCollection> responseConverter = LIST_ROLE_ASSIGNMENTS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2483,8 +2627,7 @@ public class IamPolicyManagement extends BaseService {
     contentJson.add("target", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createRoleTemplateAssignmentOptions.target()));
     contentJson.add("templates", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createRoleTemplateAssignmentOptions.templates()));
     builder.bodyJson(contentJson);
-    ResponseConverter<RoleAssignmentCollection> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleAssignmentCollection>() { }.getType());
+    ResponseConverter<RoleAssignmentCollection> responseConverter = CREATE_ROLE_TEMPLATE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2507,8 +2650,7 @@ public class IamPolicyManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<RoleAssignment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleAssignment>() { }.getType());
+    ResponseConverter<RoleAssignment> responseConverter = GET_ROLE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2535,8 +2677,7 @@ public class IamPolicyManagement extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("template_version", updateRoleAssignmentOptions.templateVersion());
     builder.bodyJson(contentJson);
-    ResponseConverter<RoleAssignment> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<RoleAssignment>() { }.getType());
+    ResponseConverter<RoleAssignment> responseConverter = UPDATE_ROLE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -2559,7 +2700,7 @@ public class IamPolicyManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_ROLE_ASSIGNMENT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -0,0 +1,675 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.iam_policy_management.v1;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CreatePolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CreateV2PolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.Policy;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2Policy;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * PolicyBulkCreator creates many policies with the "createV2Policy" or "createPolicy" method, with several
+ * requests in flight at a time.
+ *
+ * <p>
+ * The options are read from a Stream as the requests are sent, and a {@link Job} reports the outcome of each
+ * of them, in the order of the stream. Two options that describe the same policy (the same type, subject, resource,
+ * rule, pattern and roles, regardless of the order of their attributes and roles, and of their description) are
+ * detected before they are sent: only the first one is created and the others are reported as duplicates.
+ *
+ * <p>
+ * A "429 Too Many Requests" response pauses all the requests of the job for the time given by its "Retry-After"
+ * header (or for an exponential backoff if the header is missing) and halves the number of requests in flight;
+ * the number then grows again by one after each series of successful requests, up to maxConcurrency. The request
+ * is retried up to maxAttempts times. Other failures are not retried, since a request that failed with a server
+ * error may still have created the policy.
+ *
+ * <p>
+ * A job may be cancelled: no more options are read from the stream, throttled requests are not retried, and the
+ * requests in flight complete and are reported.
+ */
+public class PolicyBulkCreator {
+
+  /**
+   * The outcome of an item.
+   */
+  public enum Status {
+    /** The policy was created. */
+    CREATED,
+    /** The request failed. */
+    FAILED,
+    /** The item describes the same policy as a previous item and was not sent. */
+    DUPLICATE,
+    /** The job was cancelled before the policy could be created. */
+    CANCELLED
+  }
+
+  /**
+   * The outcome of an item of a job.
+   *
+   * @param <O> the type of the options
+   * @param <T> the type of the created policy
+   */
+  public static class Result<O, T> {
+    private final int index;
+    private final O options;
+    private final Status status;
+    private final T policy;
+    private final RuntimeException error;
+    private final int attempts;
+    private final int duplicateOf;
+
+    Result(int index, O options, Status status, T policy, RuntimeException error, int attempts, int duplicateOf) {
+      this.index = index;
+      this.options = options;
+      this.status = status;
+      this.policy = policy;
+      this.error = error;
+      this.attempts = attempts;
+      this.duplicateOf = duplicateOf;
+    }
+
+    /**
+     * Gets the position of the item in the stream.
+     *
+     * @return the index of the item
+     */
+    public int getIndex() {
+      return index;
+    }
+
+    /**
+     * Gets the options of the item.
+     *
+     * @return the options
+     */
+    public O getOptions() {
+      return options;
+    }
+
+    /**
+     * Gets the outcome of the item.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+      return status;
+    }
+
+    /**
+     * Gets the created policy.
+     *
+     * @return the policy, or null if it was not created
+     */
+    public T getPolicy() {
+      return policy;
+    }
+
+    /**
+     * Gets the failure of the last request.
+     *
+     * @return the exception, or null if the status is not FAILED
+     */
+    public RuntimeException getError() {
+      return error;
+    }
+
+    /**
+     * Gets the number of requests sent for the item.
+     *
+     * @return the number of attempts
+     */
+    public int getAttempts() {
+      return attempts;
+    }
+
+    /**
+     * Gets the index of the item that describes the same policy.
+     *
+     * @return the index of the first item, or -1 if the status is not DUPLICATE
+     */
+    public int getDuplicateOf() {
+      return duplicateOf;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private IamPolicyManagement client;
+    private int maxConcurrency = 8;
+    private int maxAttempts = 5;
+    private long retryDelay = 1000;
+    private long maxRetryDelay = 60000;
+    private ExecutorService executor;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the IamPolicyManagement instance used to create the policies
+     */
+    public Builder(IamPolicyManagement client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the maximum number of requests in flight. Defaults to 8.
+     *
+     * @param maxConcurrency the maximum number of requests in flight
+     * @return the PolicyBulkCreator builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of requests sent for an item that is throttled. Defaults to 5.
+     *
+     * @param maxAttempts the maximum number of attempts
+     * @return the PolicyBulkCreator builder
+     */
+    public Builder maxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Set the time, in milliseconds, to wait before the first retry of a throttled request whose response has no
+     * "Retry-After" header. The time doubles for each further retry. Defaults to 1000.
+     *
+     * @param retryDelay the retry delay in milliseconds
+     * @return the PolicyBulkCreator builder
+     */
+    public Builder retryDelay(long retryDelay) {
+      this.retryDelay = retryDelay;
+      return this;
+    }
+
+    /**
+     * Set the maximum time, in milliseconds, to wait before retrying a throttled request, including the time
+     * given by the "Retry-After" header. Defaults to 60000.
+     *
+     * @param maxRetryDelay the maximum retry delay in milliseconds
+     * @return the PolicyBulkCreator builder
+     */
+    public Builder maxRetryDelay(long maxRetryDelay) {
+      this.maxRetryDelay = maxRetryDelay;
+      return this;
+    }
+
+    /**
+     * Set the executor that runs the requests. If not set, each job creates a pool of "maxConcurrency" daemon
+     * threads that is shut down when the job completes.
+     *
+     * @param executor the executor
+     * @return the PolicyBulkCreator builder
+     */
+    public Builder executor(ExecutorService executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds a PolicyBulkCreator.
+     *
+     * @return the new PolicyBulkCreator instance
+     */
+    public PolicyBulkCreator build() {
+      return new PolicyBulkCreator(this);
+    }
+  }
+
+  private final IamPolicyManagement client;
+  private final int maxConcurrency;
+  private final int maxAttempts;
+  private final long retryDelay;
+  private final long maxRetryDelay;
+  private final ExecutorService executor;
+
+  protected PolicyBulkCreator(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    Validator.isTrue(builder.maxAttempts > 0, "maxAttempts must be greater than zero");
+    Validator.isTrue(builder.retryDelay >= 0, "retryDelay cannot be negative");
+    Validator.isTrue(builder.maxRetryDelay >= builder.retryDelay, "maxRetryDelay cannot be less than retryDelay");
+    this.client = builder.client;
+    this.maxConcurrency = builder.maxConcurrency;
+    this.maxAttempts = builder.maxAttempts;
+    this.retryDelay = builder.retryDelay;
+    this.maxRetryDelay = builder.maxRetryDelay;
+    this.executor = builder.executor;
+  }
+
+  /**
+   * Starts creating v2 policies with the "createV2Policy" method.
+   *
+   * @param options the options of the policies, read as the requests are sent
+   * @return the job
+   */
+  public Job<CreateV2PolicyOptions, V2Policy> createV2Policies(Stream<CreateV2PolicyOptions> options) {
+    Validator.notNull(options, "options cannot be null");
+    Job<CreateV2PolicyOptions, V2Policy> job = new Job<>(this, options, client::createV2Policy);
+    job.start();
+    return job;
+  }
+
+  /**
+   * Starts creating v1 policies with the "createPolicy" method.
+   *
+   * @param options the options of the policies, read as the requests are sent
+   * @return the job
+   */
+  public Job<CreatePolicyOptions, Policy> createPolicies(Stream<CreatePolicyOptions> options) {
+    Validator.notNull(options, "options cannot be null");
+    Job<CreatePolicyOptions, Policy> job = new Job<>(this, options, client::createPolicy);
+    job.start();
+    return job;
+  }
+
+  /**
+   * A running bulk creation.
+   *
+   * @param <O> the type of the options
+   * @param <T> the type of the created policies
+   */
+  public static final class Job<O, T> {
+    private final PolicyBulkCreator creator;
+    private final Stream<O> stream;
+    private final Iterator<O> options;
+    private final Function<O, ServiceCall<T>> call;
+    private final ExecutorService executor;
+    private final CountDownLatch done;
+    private final Map<String, Integer> keys = new ConcurrentHashMap<>();
+    private final List<Result<O, T>> results = new ArrayList<>();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private int read;
+    private boolean exhausted;
+    private RuntimeException failure;
+
+    // The adaptive limit of requests in flight, guarded by "lock". Each request takes a ticket, so that the
+    // 429 responses of requests sent before the limit was last decreased don't decrease it again.
+    private final Object lock = new Object();
+    private boolean cancelled;
+    private int limit;
+    private int active;
+    private int successes;
+    private long pausedUntil;
+    private long tickets;
+    private long decreasedAt;
+
+    Job(PolicyBulkCreator creator, Stream<O> stream, Function<O, ServiceCall<T>> call) {
+      this.creator = creator;
+      this.stream = stream;
+      this.options = stream.iterator();
+      this.call = call;
+      this.limit = creator.maxConcurrency;
+      this.done = new CountDownLatch(creator.maxConcurrency);
+      this.executor = creator.executor != null ? creator.executor
+          : Executors.newFixedThreadPool(creator.maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "policy-bulk-creator");
+            thread.setDaemon(true);
+            return thread;
+          });
+    }
+
+    private void start() {
+      int started = 0;
+      try {
+        for (; started < creator.maxConcurrency; started++) {
+          executor.execute(this::work);
+        }
+      } catch (RejectedExecutionException e) {
+        // The workers already started stop at their next item, and the others are done without running.
+        synchronized (results) {
+          if (failure == null) {
+            failure = e;
+          }
+        }
+        cancel();
+        for (int i = started; i < creator.maxConcurrency; i++) {
+          done.countDown();
+        }
+        if (done.getCount() == 0) {
+          stream.close();
+        }
+      } finally {
+        if (creator.executor == null) {
+          executor.shutdown();
+        }
+      }
+    }
+
+    /**
+     * Cancels the job. The requests in flight complete, but no other request is sent.
+     */
+    public void cancel() {
+      synchronized (lock) {
+        cancelled = true;
+        lock.notifyAll();
+      }
+    }
+
+    /**
+     * Returns whether all the items that were read have been processed.
+     *
+     * @return true if the job is done
+     */
+    public boolean isDone() {
+      return done.getCount() == 0;
+    }
+
+    /**
+     * Waits until the job is done and returns the results of the items that were read from the stream, in the
+     * order of the stream.
+     *
+     * @return the results
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws RuntimeException the exception thrown by the stream, or the RejectedExecutionException thrown by the
+     *     executor, if any
+     */
+    public List<Result<O, T>> await() throws InterruptedException {
+      done.await();
+      synchronized (results) {
+        if (failure != null) {
+          throw failure;
+        }
+        return Collections.unmodifiableList(new ArrayList<>(results));
+      }
+    }
+
+    /**
+     * Waits until the job is done or the timeout elapses.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return true if the job is done
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+      return done.await(timeout, unit);
+    }
+
+    /**
+     * Gets the number of policies created so far.
+     *
+     * @return the number of policies created
+     */
+    public long getCreated() {
+      return created.get();
+    }
+
+    /**
+     * Gets the number of items that failed so far.
+     *
+     * @return the number of failures
+     */
+    public long getFailed() {
+      return failed.get();
+    }
+
+    /**
+     * Gets the number of duplicate items found so far.
+     *
+     * @return the number of duplicates
+     */
+    public long getDuplicates() {
+      return duplicates.get();
+    }
+
+    /**
+     * Gets the number of "429 Too Many Requests" responses received so far.
+     *
+     * @return the number of throttled requests
+     */
+    public long getThrottled() {
+      return throttled.get();
+    }
+
+    /**
+     * Gets the current limit of requests in flight.
+     *
+     * @return the concurrency limit
+     */
+    public int getConcurrencyLimit() {
+      synchronized (lock) {
+        return limit;
+      }
+    }
+
+    private void work() {
+      try {
+        Result<O, T> result;
+        while ((result = next()) != null) {
+          if (result.status == Status.DUPLICATE) {
+            duplicates.incrementAndGet();
+          } else {
+            result = create(result.index, result.options);
+          }
+          synchronized (results) {
+            results.set(result.index, result);
+          }
+        }
+      } finally {
+        done.countDown();
+        if (done.getCount() == 0) {
+          stream.close();
+        }
+      }
+    }
+
+    // Reads the next item, or returns null once the stream is exhausted or the job is cancelled. A placeholder
+    // result (with the status of a duplicate item, or null) is returned for the item.
+    private Result<O, T> next() {
+      synchronized (results) {
+        if (exhausted || isCancelled()) {
+          return null;
+        }
+        O item;
+        try {
+          if (!options.hasNext()) {
+            exhausted = true;
+            return null;
+          }
+          item = options.next();
+        } catch (RuntimeException e) {
+          exhausted = true;
+          failure = e;
+          return null;
+        }
+        int index = read++;
+        results.add(null);
+        Integer first = item != null ? keys.putIfAbsent(key(item), index) : null;
+        if (first != null) {
+          return new Result<>(index, item, Status.DUPLICATE, null, null, 0, first);
+        }
+        return new Result<>(index, item, null, null, null, 0, -1);
+      }
+    }
+
+    private Result<O, T> create(int index, O item) {
+      if (item == null) {
+        failed.incrementAndGet();
+        return new Result<>(index, null, Status.FAILED, null,
+            new IllegalArgumentException("options cannot be null"), 0, -1);
+      }
+      for (int attempt = 1; ; attempt++) {
+        long ticket = acquire();
+        if (ticket < 0) {
+          return new Result<>(index, item, Status.CANCELLED, null, null, attempt - 1, -1);
+        }
+        try {
+          T policy = call.apply(item).execute().getResult();
+          release(true);
+          created.incrementAndGet();
+          return new Result<>(index, item, Status.CREATED, policy, null, attempt, -1);
+        } catch (ServiceResponseException e) {
+          release(false);
+          if (e.getStatusCode() == 429 && attempt < creator.maxAttempts) {
+            throttled.incrementAndGet();
+            throttle(ticket, retryDelay(e, attempt));
+            continue;
+          }
+          if (e.getStatusCode() == 429) {
+            throttled.incrementAndGet();
+          }
+          failed.incrementAndGet();
+          return new Result<>(index, item, Status.FAILED, null, e, attempt, -1);
+        } catch (RuntimeException e) {
+          release(false);
+          failed.incrementAndGet();
+          return new Result<>(index, item, Status.FAILED, null, e, attempt, -1);
+        }
+      }
+    }
+
+    private boolean isCancelled() {
+      synchronized (lock) {
+        return cancelled;
+      }
+    }
+
+    // Waits until a request may be sent and returns its ticket, or -1 if the job is cancelled.
+    private long acquire() {
+      synchronized (lock) {
+        while (true) {
+          if (cancelled) {
+            return -1;
+          }
+          long wait = pausedUntil - System.currentTimeMillis();
+          if (wait <= 0 && active < limit) {
+            active++;
+            return tickets++;
+          }
+          try {
+            lock.wait(wait > 0 ? wait : 0);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+            lock.notifyAll();
+          }
+        }
+      }
+    }
+
+    private void release(boolean success) {
+      synchronized (lock) {
+        active--;
+        if (success && limit < creator.maxConcurrency && ++successes >= limit) {
+          limit++;
+          successes = 0;
+        }
+        lock.notifyAll();
+      }
+    }
+
+    private void throttle(long ticket, long delay) {
+      synchronized (lock) {
+        pausedUntil = Math.max(pausedUntil, System.currentTimeMillis() + delay);
+        if (ticket >= decreasedAt) {
+          limit = Math.max(1, limit / 2);
+          successes = 0;
+          decreasedAt = tickets;
+        }
+        lock.notifyAll();
+      }
+    }
+
+    private long retryDelay(ServiceResponseException e, int attempt) {
+      List<String> values = e.getHeaders() != null ? e.getHeaders().values("Retry-After")
+          : Collections.<String>emptyList();
+      long delay = -1;
+      if (!values.isEmpty()) {
+        String value = values.get(0).trim();
+        try {
+          delay = TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } catch (NumberFormatException notSeconds) {
+          try {
+            delay = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli()
+                - System.currentTimeMillis();
+          } catch (DateTimeParseException notDate) {
+            delay = -1;
+          }
+        }
+      }
+      if (delay < 0) {
+        delay = creator.retryDelay << Math.min(attempt - 1, 30);
+      }
+      return Math.min(Math.max(delay, 0), creator.maxRetryDelay);
+    }
+  }
+
+  // The options in JSON, without the description and the language, with the fields and the array elements
+  // sorted, so that two options that describe the same policy have the same key.
+  private static String key(Object options) {
+    JsonObject json = GsonSingleton.getGsonWithoutPrettyPrinting().toJsonTree(options).getAsJsonObject();
+    json.remove("description");
+    json.remove("acceptLanguage");
+    return canonical(json);
+  }
+
+  private static String canonical(JsonElement element) {
+    if (element.isJsonObject()) {
+      Map<String, String> fields = new TreeMap<>();
+      for (Map.Entry<String, JsonElement> field : element.getAsJsonObject().entrySet()) {
+        fields.put(field.getKey(), canonical(field.getValue()));
+      }
+      StringBuilder builder = new StringBuilder("{");
+      for (Map.Entry<String, String> field : fields.entrySet()) {
+        builder.append(builder.length() > 1 ? "," : "")
+          .append(GsonSingleton.getGsonWithoutPrettyPrinting().toJson(field.getKey()))
+          .append(':').append(field.getValue());
+      }
+      return builder.append('}').toString();
+    }
+    if (element.isJsonArray()) {
+      List<String> items = new ArrayList<>();
+      for (JsonElement item : (JsonArray) element) {
+        items.add(canonical(item));
+      }
+      Collections.sort(items);
+      return "[" + String.join(",", items) + "]";
+    }
+    return element.toString();
+  }
+}
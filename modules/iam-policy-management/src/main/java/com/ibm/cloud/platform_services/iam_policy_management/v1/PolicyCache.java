@@ -0,0 +1,700 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.iam_policy_management.v1;
+
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ActionControlTemplate;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CommitActionControlTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CommitPolicyTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CommitRoleTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CustomRole;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeleteActionControlTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeleteActionControlTemplateVersionOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeletePolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeletePolicyTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeletePolicyTemplateVersionOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeleteRoleOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeleteRoleTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeleteRoleTemplateVersionOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeleteV2PolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetActionControlTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetActionControlTemplateVersionOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetPolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetPolicyTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetPolicyTemplateVersionOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetRoleOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetRoleTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetRoleTemplateVersionOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetV2PolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.Policy;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.PolicyTemplate;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.PolicyTemplateMetaData;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ReplaceActionControlTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ReplacePolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ReplacePolicyTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ReplaceRoleOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ReplaceRoleTemplateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ReplaceV2PolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.RoleTemplate;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.UpdatePolicyStateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2Policy;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyTemplateMetaData;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCall;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * PolicyCache caches the results of the IamPolicyManagement methods that read policies, roles and templates
+ * ("getV2Policy", "getPolicy", "getRole" and the template getters).
+ *
+ * <p>
+ * A cached result is returned without a request until it is older than the TTL. It is then revalidated with a
+ * conditional request: the "If-None-Match" header carries the ETag of the cached response, and a "304 Not Modified"
+ * response (which the SDK surfaces as a ServiceResponseException) renews the cached result. Expired results are
+ * kept for revalidation until they are evicted; the cache holds at most maxEntries results and evicts the least
+ * recently used ones.
+ *
+ * <p>
+ * The methods of this class that modify a policy, a role or a template (e.g. "replaceV2Policy", "deletePolicy" or
+ * "updatePolicyState") call the client and invalidate the cached results of that ID, whether the call succeeds or
+ * not. The v1 and v2 representations of a policy share its ID, so both are invalidated. Changes made by other
+ * clients are detected when the results expire.
+ *
+ * <p>
+ * A PolicyCache may be used by several threads. The number of hits, misses, revalidations, reloads, invalidations and
+ * evictions are available from the getters of the cache.
+ */
+public class PolicyCache {
+
+  private static final String POLICY = "policy";
+  private static final String ROLE = "role";
+  private static final String POLICY_TEMPLATE = "policy_template";
+  private static final String ROLE_TEMPLATE = "role_template";
+  private static final String ACTION_CONTROL_TEMPLATE = "action_control_template";
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private IamPolicyManagement client;
+    private int maxEntries = 1000;
+    private long ttl = 60000;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the IamPolicyManagement instance used to invoke the methods
+     */
+    public Builder(IamPolicyManagement client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the maximum number of cached results. Defaults to 1000.
+     *
+     * @param maxEntries the maximum number of cached results
+     * @return the PolicyCache builder
+     */
+    public Builder maxEntries(int maxEntries) {
+      this.maxEntries = maxEntries;
+      return this;
+    }
+
+    /**
+     * Set the time, in milliseconds, during which a cached result is returned without being revalidated.
+     * Defaults to 60000. With 0, every read is a conditional request.
+     *
+     * @param ttl the TTL in milliseconds
+     * @return the PolicyCache builder
+     */
+    public Builder ttl(long ttl) {
+      this.ttl = ttl;
+      return this;
+    }
+
+    /**
+     * Builds a PolicyCache.
+     *
+     * @return the new PolicyCache instance
+     */
+    public PolicyCache build() {
+      return new PolicyCache(this);
+    }
+  }
+
+  private static final class Entry {
+    final String group;
+    final Response<?> response;
+    final String etag;
+    long expires;
+
+    Entry(String group, Response<?> response, long expires) {
+      this.group = group;
+      this.response = response;
+      List<String> etags = response.getHeaders().values("ETag");
+      this.etag = etags.isEmpty() ? null : etags.get(0);
+      this.expires = expires;
+    }
+  }
+
+  private final IamPolicyManagement client;
+  private final int maxEntries;
+  private final long ttl;
+
+  // The entries in access order, and the keys of the entries of each ID. Guarded by "this".
+  private final LinkedHashMap<String, Entry> entries;
+  private final Map<String, Set<String>> groups = new HashMap<>();
+  // Incremented by each invalidation, so that a result read concurrently with an invalidation isn't cached.
+  private long generation;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong revalidations = new AtomicLong();
+  private final AtomicLong reloads = new AtomicLong();
+  private final AtomicLong invalidations = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  protected PolicyCache(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.maxEntries > 0, "maxEntries must be greater than zero");
+    Validator.isTrue(builder.ttl >= 0, "ttl cannot be negative");
+    this.client = builder.client;
+    this.maxEntries = builder.maxEntries;
+    this.ttl = builder.ttl;
+    this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        if (size() <= PolicyCache.this.maxEntries) {
+          return false;
+        }
+        unlink(eldest.getKey(), eldest.getValue());
+        evictions.incrementAndGet();
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Retrieve a policy by ID (see IamPolicyManagement.getV2Policy()).
+   *
+   * @param options the {@link GetV2PolicyOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<V2PolicyTemplateMetaData> getV2Policy(GetV2PolicyOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(POLICY, options.id()), "v2:" + options.format(), () -> client.getV2Policy(options));
+  }
+
+  /**
+   * Retrieve a policy by ID (see IamPolicyManagement.getPolicy()).
+   *
+   * @param options the {@link GetPolicyOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<PolicyTemplateMetaData> getPolicy(GetPolicyOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(POLICY, options.policyId()), "v1", () -> client.getPolicy(options));
+  }
+
+  /**
+   * Retrieve a role by ID (see IamPolicyManagement.getRole()).
+   *
+   * @param options the {@link GetRoleOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<CustomRole> getRole(GetRoleOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(ROLE, options.roleId()), "role", () -> client.getRole(options));
+  }
+
+  /**
+   * Retrieve the latest version of a policy template (see IamPolicyManagement.getPolicyTemplate()).
+   *
+   * @param options the {@link GetPolicyTemplateOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<PolicyTemplate> getPolicyTemplate(GetPolicyTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(POLICY_TEMPLATE, options.policyTemplateId()), "latest:" + options.state(),
+        () -> client.getPolicyTemplate(options));
+  }
+
+  /**
+   * Retrieve a version of a policy template (see IamPolicyManagement.getPolicyTemplateVersion()).
+   *
+   * @param options the {@link GetPolicyTemplateVersionOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<PolicyTemplate> getPolicyTemplateVersion(GetPolicyTemplateVersionOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(POLICY_TEMPLATE, options.policyTemplateId()), "version:" + options.version(),
+        () -> client.getPolicyTemplateVersion(options));
+  }
+
+  /**
+   * Retrieve the latest version of a role template (see IamPolicyManagement.getRoleTemplate()).
+   *
+   * @param options the {@link GetRoleTemplateOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<RoleTemplate> getRoleTemplate(GetRoleTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(ROLE_TEMPLATE, options.roleTemplateId()), "latest:" + options.state(),
+        () -> client.getRoleTemplate(options));
+  }
+
+  /**
+   * Retrieve a version of a role template (see IamPolicyManagement.getRoleTemplateVersion()).
+   *
+   * @param options the {@link GetRoleTemplateVersionOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<RoleTemplate> getRoleTemplateVersion(GetRoleTemplateVersionOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(ROLE_TEMPLATE, options.roleTemplateId()), "version:" + options.version(),
+        () -> client.getRoleTemplateVersion(options));
+  }
+
+  /**
+   * Retrieve the latest version of an action control template
+   * (see IamPolicyManagement.getActionControlTemplate()).
+   *
+   * @param options the {@link GetActionControlTemplateOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<ActionControlTemplate> getActionControlTemplate(GetActionControlTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(ACTION_CONTROL_TEMPLATE, options.actionControlTemplateId()), "latest:" + options.state(),
+        () -> client.getActionControlTemplate(options));
+  }
+
+  /**
+   * Retrieve a version of an action control template
+   * (see IamPolicyManagement.getActionControlTemplateVersion()).
+   *
+   * @param options the {@link GetActionControlTemplateVersionOptions} containing the options for the call
+   * @return the cached or retrieved response
+   */
+  public Response<ActionControlTemplate> getActionControlTemplateVersion(
+      GetActionControlTemplateVersionOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return get(group(ACTION_CONTROL_TEMPLATE, options.actionControlTemplateId()), "version:" + options.version(),
+        () -> client.getActionControlTemplateVersion(options));
+  }
+
+  /**
+   * Update a policy (see IamPolicyManagement.replaceV2Policy()) and invalidate its cached results.
+   *
+   * @param options the {@link ReplaceV2PolicyOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<V2Policy> replaceV2Policy(ReplaceV2PolicyOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY, options.id()), client.replaceV2Policy(options));
+  }
+
+  /**
+   * Delete a policy (see IamPolicyManagement.deleteV2Policy()) and invalidate its cached results.
+   *
+   * @param options the {@link DeleteV2PolicyOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deleteV2Policy(DeleteV2PolicyOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY, options.id()), client.deleteV2Policy(options));
+  }
+
+  /**
+   * Update a policy (see IamPolicyManagement.replacePolicy()) and invalidate its cached results.
+   *
+   * @param options the {@link ReplacePolicyOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Policy> replacePolicy(ReplacePolicyOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY, options.policyId()), client.replacePolicy(options));
+  }
+
+  /**
+   * Delete a policy (see IamPolicyManagement.deletePolicy()) and invalidate its cached results.
+   *
+   * @param options the {@link DeletePolicyOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deletePolicy(DeletePolicyOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY, options.policyId()), client.deletePolicy(options));
+  }
+
+  /**
+   * Restore a deleted policy (see IamPolicyManagement.updatePolicyState()) and invalidate its cached results.
+   *
+   * @param options the {@link UpdatePolicyStateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Policy> updatePolicyState(UpdatePolicyStateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY, options.policyId()), client.updatePolicyState(options));
+  }
+
+  /**
+   * Update a role (see IamPolicyManagement.replaceRole()) and invalidate its cached results.
+   *
+   * @param options the {@link ReplaceRoleOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<CustomRole> replaceRole(ReplaceRoleOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ROLE, options.roleId()), client.replaceRole(options));
+  }
+
+  /**
+   * Delete a role (see IamPolicyManagement.deleteRole()) and invalidate its cached results.
+   *
+   * @param options the {@link DeleteRoleOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deleteRole(DeleteRoleOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ROLE, options.roleId()), client.deleteRole(options));
+  }
+
+  /**
+   * Update a policy template version (see IamPolicyManagement.replacePolicyTemplate()) and invalidate the cached
+   * results of the template.
+   *
+   * @param options the {@link ReplacePolicyTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<PolicyTemplate> replacePolicyTemplate(ReplacePolicyTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY_TEMPLATE, options.policyTemplateId()), client.replacePolicyTemplate(options));
+  }
+
+  /**
+   * Delete a policy template (see IamPolicyManagement.deletePolicyTemplate()) and invalidate its cached results.
+   *
+   * @param options the {@link DeletePolicyTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deletePolicyTemplate(DeletePolicyTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY_TEMPLATE, options.policyTemplateId()), client.deletePolicyTemplate(options));
+  }
+
+  /**
+   * Delete a policy template version (see IamPolicyManagement.deletePolicyTemplateVersion()) and invalidate the
+   * cached results of the template.
+   *
+   * @param options the {@link DeletePolicyTemplateVersionOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deletePolicyTemplateVersion(DeletePolicyTemplateVersionOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY_TEMPLATE, options.policyTemplateId()), client.deletePolicyTemplateVersion(options));
+  }
+
+  /**
+   * Commit a policy template version (see IamPolicyManagement.commitPolicyTemplate()) and invalidate the cached
+   * results of the template.
+   *
+   * @param options the {@link CommitPolicyTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> commitPolicyTemplate(CommitPolicyTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(POLICY_TEMPLATE, options.policyTemplateId()), client.commitPolicyTemplate(options));
+  }
+
+  /**
+   * Update a role template version (see IamPolicyManagement.replaceRoleTemplate()) and invalidate the cached
+   * results of the template.
+   *
+   * @param options the {@link ReplaceRoleTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<RoleTemplate> replaceRoleTemplate(ReplaceRoleTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ROLE_TEMPLATE, options.roleTemplateId()), client.replaceRoleTemplate(options));
+  }
+
+  /**
+   * Delete a role template (see IamPolicyManagement.deleteRoleTemplate()) and invalidate its cached results.
+   *
+   * @param options the {@link DeleteRoleTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deleteRoleTemplate(DeleteRoleTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ROLE_TEMPLATE, options.roleTemplateId()), client.deleteRoleTemplate(options));
+  }
+
+  /**
+   * Delete a role template version (see IamPolicyManagement.deleteRoleTemplateVersion()) and invalidate the
+   * cached results of the template.
+   *
+   * @param options the {@link DeleteRoleTemplateVersionOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deleteRoleTemplateVersion(DeleteRoleTemplateVersionOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ROLE_TEMPLATE, options.roleTemplateId()), client.deleteRoleTemplateVersion(options));
+  }
+
+  /**
+   * Commit a role template version (see IamPolicyManagement.commitRoleTemplate()) and invalidate the cached
+   * results of the template.
+   *
+   * @param options the {@link CommitRoleTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> commitRoleTemplate(CommitRoleTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ROLE_TEMPLATE, options.roleTemplateId()), client.commitRoleTemplate(options));
+  }
+
+  /**
+   * Update an action control template version (see IamPolicyManagement.replaceActionControlTemplate()) and
+   * invalidate the cached results of the template.
+   *
+   * @param options the {@link ReplaceActionControlTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<ActionControlTemplate> replaceActionControlTemplate(ReplaceActionControlTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ACTION_CONTROL_TEMPLATE, options.actionControlTemplateId()),
+        client.replaceActionControlTemplate(options));
+  }
+
+  /**
+   * Delete an action control template (see IamPolicyManagement.deleteActionControlTemplate()) and invalidate its
+   * cached results.
+   *
+   * @param options the {@link DeleteActionControlTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deleteActionControlTemplate(DeleteActionControlTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ACTION_CONTROL_TEMPLATE, options.actionControlTemplateId()),
+        client.deleteActionControlTemplate(options));
+  }
+
+  /**
+   * Delete an action control template version (see IamPolicyManagement.deleteActionControlTemplateVersion()) and
+   * invalidate the cached results of the template.
+   *
+   * @param options the {@link DeleteActionControlTemplateVersionOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> deleteActionControlTemplateVersion(DeleteActionControlTemplateVersionOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ACTION_CONTROL_TEMPLATE, options.actionControlTemplateId()),
+        client.deleteActionControlTemplateVersion(options));
+  }
+
+  /**
+   * Commit an action control template version (see IamPolicyManagement.commitActionControlTemplate()) and
+   * invalidate the cached results of the template.
+   *
+   * @param options the {@link CommitActionControlTemplateOptions} containing the options for the call
+   * @return the response
+   */
+  public Response<Void> commitActionControlTemplate(CommitActionControlTemplateOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    return write(group(ACTION_CONTROL_TEMPLATE, options.actionControlTemplateId()),
+        client.commitActionControlTemplate(options));
+  }
+
+  /**
+   * Invalidates the cached results (v1 and v2) of a policy.
+   *
+   * @param policyId the ID of the policy
+   */
+  public void invalidatePolicy(String policyId) {
+    invalidate(group(POLICY, policyId));
+  }
+
+  /**
+   * Invalidates the cached results of a role.
+   *
+   * @param roleId the ID of the role
+   */
+  public void invalidateRole(String roleId) {
+    invalidate(group(ROLE, roleId));
+  }
+
+  /**
+   * Invalidates all cached results.
+   */
+  public synchronized void invalidateAll() {
+    generation++;
+    invalidations.addAndGet(entries.size());
+    entries.clear();
+    groups.clear();
+  }
+
+  /**
+   * Gets the number of cached results.
+   *
+   * @return the number of cached results
+   */
+  public synchronized int getSize() {
+    return entries.size();
+  }
+
+  /**
+   * Gets the number of reads answered from the cache without a request.
+   *
+   * @return the number of hits
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * Gets the number of reads of results that were not cached.
+   *
+   * @return the number of misses
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * Gets the number of expired results that were revalidated by a "304 Not Modified" response.
+   *
+   * @return the number of revalidations
+   */
+  public long getRevalidations() {
+    return revalidations.get();
+  }
+
+  /**
+   * Gets the number of expired results that were replaced because they had been modified.
+   *
+   * @return the number of reloads
+   */
+  public long getReloads() {
+    return reloads.get();
+  }
+
+  /**
+   * Gets the number of cached results that were invalidated.
+   *
+   * @return the number of invalidations
+   */
+  public long getInvalidations() {
+    return invalidations.get();
+  }
+
+  /**
+   * Gets the number of cached results that were evicted because the cache was full.
+   *
+   * @return the number of evictions
+   */
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  private static String group(String type, String id) {
+    return type + '\u0000' + id;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Response<T> get(String group, String variant, Supplier<ServiceCall<T>> call) {
+    String key = group + '\u0000' + variant;
+    Entry cached;
+    long start;
+    synchronized (this) {
+      cached = entries.get(key);
+      start = generation;
+      if (cached != null && System.currentTimeMillis() < cached.expires) {
+        hits.incrementAndGet();
+        return (Response<T>) cached.response;
+      }
+    }
+
+    ServiceCall<T> serviceCall = call.get();
+    if (cached != null && cached.etag != null) {
+      serviceCall.addHeader("If-None-Match", cached.etag);
+    }
+    Response<T> response;
+    try {
+      response = serviceCall.execute();
+    } catch (ServiceResponseException e) {
+      if (cached == null || cached.etag == null || e.getStatusCode() != 304) {
+        throw e;
+      }
+      revalidations.incrementAndGet();
+      synchronized (this) {
+        if (start == generation && entries.get(key) == cached) {
+          cached.expires = System.currentTimeMillis() + ttl;
+        }
+      }
+      return (Response<T>) cached.response;
+    }
+
+    (cached == null ? misses : reloads).incrementAndGet();
+    synchronized (this) {
+      if (start == generation) {
+        Entry entry = new Entry(group, response, System.currentTimeMillis() + ttl);
+        Entry previous = entries.put(key, entry);
+        if (previous == null) {
+          groups.computeIfAbsent(group, k -> new HashSet<>()).add(key);
+        }
+      }
+    }
+    return response;
+  }
+
+  private <T> Response<T> write(String group, ServiceCall<T> call) {
+    try {
+      return call.execute();
+    } finally {
+      invalidate(group);
+    }
+  }
+
+  private synchronized void invalidate(String group) {
+    generation++;
+    Set<String> keys = groups.remove(group);
+    if (keys != null) {
+      for (String key : keys) {
+        entries.remove(key);
+      }
+      invalidations.addAndGet(keys.size());
+    }
+  }
+
+  // Called by removeEldestEntry, with the lock held.
+  private void unlink(String key, Entry entry) {
+    Set<String> keys = groups.get(entry.group);
+    if (keys != null) {
+      keys.remove(key);
+      if (keys.isEmpty()) {
+        groups.remove(entry.group);
+      }
+    }
+  }
+}
@@ -0,0 +1,865 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.iam_policy_management.v1;
+
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ControlResponse;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CustomRole;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.NestedCondition;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.Role;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.RoleCollection;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.Roles;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.RuleAttribute;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2Policy;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyResource;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyResourceAttribute;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyResourceTag;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyRule;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicySubject;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicySubjectAttribute;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyTemplateMetaData;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * PolicyEvaluator decides locally whether a set of v2 policies (as returned by the "listV2Policies" method)
+ * allows a subject to perform an action on a resource.
+ *
+ * <p>
+ * The policies are compiled once, when the evaluator is built: the subject and resource attributes, the resource
+ * tags and the rule conditions (including the nested "and"/"or" conditions and the time-based conditions) of each
+ * policy become a list of predicates, and the policies are indexed in hash maps by the most selective "stringEquals"
+ * subject attribute and the most selective "stringEquals" resource attribute (the attribute value shared by the
+ * fewest policies). A decision only evaluates the policies found under the attribute values of the request, so its
+ * cost depends on the number of policies that could apply to the request rather than on the total number of policies.
+ *
+ * <p>
+ * A policy grants the actions of its roles (see {@link Builder#roles(RoleCollection)} and
+ * {@link Builder#roleActions(String, Collection)}) as well as the CRNs of its roles themselves. Deleted policies are
+ * ignored. A policy with an operator, a rule key or a value that the evaluator doesn't support is never applied (the
+ * evaluator fails closed); the IDs of such policies are available from {@link #getUnsupportedPolicyIds()}.
+ *
+ * <p>
+ * A PolicyEvaluator is immutable and may be shared by several threads. To refresh the policies, build a new one.
+ */
+public class PolicyEvaluator {
+
+  private static final String SUBJECT_PREFIX = "{{subject.attributes.";
+  private static final String RESOURCE_PREFIX = "{{resource.attributes.";
+  private static final String ENVIRONMENT_PREFIX = "{{environment.attributes.";
+  private static final int SECONDS_PER_DAY = 86400;
+  private static final int LESS_THAN = 0;
+  private static final int LESS_THAN_OR_EQUALS = 1;
+  private static final int GREATER_THAN = 2;
+  private static final int GREATER_THAN_OR_EQUALS = 3;
+
+  /**
+   * The attributes (and, for a resource, the tags) of the subject or the resource of a request.
+   * An attribute or a tag may have several values, e.g. the "access_group_id" attribute of a subject
+   * that is a member of several access groups.
+   */
+  public static class Attributes {
+    private final Map<String, List<String>> attributes;
+    private final Map<String, List<String>> tags;
+
+    /**
+     * Builder.
+     */
+    public static class Builder {
+      private Map<String, Set<String>> attributes = new LinkedHashMap<>();
+      private Map<String, Set<String>> tags = new LinkedHashMap<>();
+
+      /**
+       * Adds a value of an attribute, e.g. "iam_id" or "access_group_id" for a subject, or
+       * "accountId", "serviceName" or "serviceInstance" for a resource.
+       *
+       * @param key the attribute name
+       * @param value the attribute value
+       * @return the Attributes builder
+       */
+      public Builder attribute(String key, String value) {
+        Validator.notNull(key, "key cannot be null");
+        Validator.notNull(value, "value cannot be null");
+        attributes.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(value);
+        return this;
+      }
+
+      /**
+       * Adds a value of a tag of the resource.
+       *
+       * @param key the tag name
+       * @param value the tag value
+       * @return the Attributes builder
+       */
+      public Builder tag(String key, String value) {
+        Validator.notNull(key, "key cannot be null");
+        Validator.notNull(value, "value cannot be null");
+        tags.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(value);
+        return this;
+      }
+
+      /**
+       * Builds an Attributes instance.
+       *
+       * @return the new Attributes instance
+       */
+      public Attributes build() {
+        return new Attributes(this);
+      }
+    }
+
+    protected Attributes(Builder builder) {
+      this.attributes = copy(builder.attributes);
+      this.tags = copy(builder.tags);
+    }
+
+    private static Map<String, List<String>> copy(Map<String, Set<String>> values) {
+      Map<String, List<String>> copy = new HashMap<>();
+      for (Map.Entry<String, Set<String>> entry : values.entrySet()) {
+        copy.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+      }
+      return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Gets the values of an attribute.
+     *
+     * @param key the attribute name
+     * @return the values, empty if the attribute is not set
+     */
+    public List<String> getAttribute(String key) {
+      List<String> values = attributes.get(key);
+      return values != null ? values : Collections.<String>emptyList();
+    }
+
+    /**
+     * Gets the values of a tag.
+     *
+     * @param key the tag name
+     * @return the values, empty if the tag is not set
+     */
+    public List<String> getTag(String key) {
+      List<String> values = tags.get(key);
+      return values != null ? values : Collections.<String>emptyList();
+    }
+
+    /**
+     * Gets all attributes.
+     *
+     * @return the values of each attribute
+     */
+    public Map<String, List<String>> getAttributes() {
+      return attributes;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private List<Source> policies = new ArrayList<>();
+    private Map<String, Set<String>> roleActions = new HashMap<>();
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Instantiates a new builder.
+     */
+    public Builder() {
+    }
+
+    /**
+     * Adds a policy.
+     *
+     * @param policy the policy
+     * @return the PolicyEvaluator builder
+     */
+    public Builder addPolicy(V2Policy policy) {
+      Validator.notNull(policy, "policy cannot be null");
+      policies.add(new Source(policy.getId(), policy.getState(), policy.getSubject(), policy.getResource(),
+          policy.getRule(), policy.getControl()));
+      return this;
+    }
+
+    /**
+     * Adds a policy returned by the "listV2Policies" method.
+     *
+     * @param policy the policy
+     * @return the PolicyEvaluator builder
+     */
+    public Builder addPolicy(V2PolicyTemplateMetaData policy) {
+      Validator.notNull(policy, "policy cannot be null");
+      policies.add(new Source(policy.getId(), policy.getState(), policy.getSubject(), policy.getResource(),
+          policy.getRule(), policy.getControl()));
+      return this;
+    }
+
+    /**
+     * Adds the policies returned by the "listV2Policies" method, e.g. by V2PoliciesPager.getAll().
+     *
+     * @param policies the policies
+     * @return the PolicyEvaluator builder
+     */
+    public Builder addPolicies(Iterable<V2PolicyTemplateMetaData> policies) {
+      Validator.notNull(policies, "policies cannot be null");
+      for (V2PolicyTemplateMetaData policy : policies) {
+        addPolicy(policy);
+      }
+      return this;
+    }
+
+    /**
+     * Adds the actions of the system, service and custom roles returned by the "listRoles" method.
+     *
+     * @param roles the roles
+     * @return the PolicyEvaluator builder
+     */
+    public Builder roles(RoleCollection roles) {
+      Validator.notNull(roles, "roles cannot be null");
+      addRoles(roles.getSystemRoles());
+      addRoles(roles.getServiceRoles());
+      if (roles.getCustomRoles() != null) {
+        for (CustomRole role : roles.getCustomRoles()) {
+          if (role.getCrn() != null && role.getActions() != null) {
+            roleActions(role.getCrn(), role.getActions());
+          }
+        }
+      }
+      return this;
+    }
+
+    private void addRoles(List<Role> roles) {
+      if (roles != null) {
+        for (Role role : roles) {
+          if (role.crn() != null && role.actions() != null) {
+            roleActions(role.crn(), role.actions());
+          }
+        }
+      }
+    }
+
+    /**
+     * Adds the actions granted by a role.
+     *
+     * @param roleCrn the CRN of the role, e.g. "crn:v1:bluemix:public:iam::::role:Viewer"
+     * @param actions the actions granted by the role
+     * @return the PolicyEvaluator builder
+     */
+    public Builder roleActions(String roleCrn, Collection<String> actions) {
+      Validator.notNull(roleCrn, "roleCrn cannot be null");
+      Validator.notNull(actions, "actions cannot be null");
+      roleActions.computeIfAbsent(roleCrn, k -> new HashSet<>()).addAll(actions);
+      return this;
+    }
+
+    /**
+     * Set the clock used by the time-based conditions when no time is given. Defaults to the system clock.
+     *
+     * @param clock the clock
+     * @return the PolicyEvaluator builder
+     */
+    public Builder clock(Clock clock) {
+      this.clock = clock;
+      return this;
+    }
+
+    /**
+     * Builds a PolicyEvaluator.
+     *
+     * @return the new PolicyEvaluator instance
+     */
+    public PolicyEvaluator build() {
+      return new PolicyEvaluator(this);
+    }
+  }
+
+
+  // The fields of a V2Policy or a V2PolicyTemplateMetaData.
+  private static final class Source {
+    final String id;
+    final String state;
+    final V2PolicySubject subject;
+    final V2PolicyResource resource;
+    final V2PolicyRule rule;
+    final ControlResponse control;
+
+    Source(String id, String state, V2PolicySubject subject, V2PolicyResource resource, V2PolicyRule rule,
+        ControlResponse control) {
+      this.id = id;
+      this.state = state;
+      this.subject = subject;
+      this.resource = resource;
+      this.rule = rule;
+      this.control = control;
+    }
+  }
+
+  // A compiled condition of a policy, evaluated at the given time (in seconds since the epoch).
+  private interface Condition {
+    boolean test(Attributes subject, Attributes resource, long now);
+  }
+
+  // A compiled string operator, applied to the values of an attribute or a tag.
+  private interface Matcher {
+    boolean matches(List<String> values);
+  }
+
+  private static final class Policy {
+    final String id;
+    final Set<String> actions;
+    final Condition[] conditions;
+    // The "stringEquals" attributes by which the policy may be indexed.
+    List<String[]> subjectKeys = new ArrayList<>();
+    List<String[]> resourceKeys = new ArrayList<>();
+
+    Policy(String id, Set<String> actions, List<Condition> conditions) {
+      this.id = id;
+      this.actions = actions;
+      this.conditions = conditions.toArray(new Condition[conditions.size()]);
+    }
+
+    boolean applies(Attributes subject, String action, Attributes resource, long now) {
+      if (!actions.contains(action)) {
+        return false;
+      }
+      for (Condition condition : conditions) {
+        if (!condition.test(subject, resource, now)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  // The policies of a subject attribute value, indexed by a resource attribute value.
+  private static final class Bucket {
+    final Map<String, Map<String, List<Policy>>> byResource = new HashMap<>();
+    final List<Policy> anyResource = new ArrayList<>();
+  }
+
+  private final Clock clock;
+  private final Map<String, Map<String, Bucket>> bySubject = new HashMap<>();
+  private final Bucket anySubject = new Bucket();
+  private final int policyCount;
+  private final List<String> unsupportedPolicyIds;
+
+  protected PolicyEvaluator(Builder builder) {
+    Validator.notNull(builder.clock, "clock cannot be null");
+    this.clock = builder.clock;
+
+    List<Policy> policies = new ArrayList<>();
+    List<String> unsupported = new ArrayList<>();
+    Map<String, Integer> subjectCounts = new HashMap<>();
+    Map<String, Integer> resourceCounts = new HashMap<>();
+    for (Source source : builder.policies) {
+      if (V2Policy.State.DELETED.equals(source.state)) {
+        continue;
+      }
+      Policy policy;
+      try {
+        policy = compile(source, builder.roleActions);
+      } catch (IllegalArgumentException | DateTimeParseException e) {
+        unsupported.add(source.id);
+        continue;
+      }
+      if (policy.actions.isEmpty()) {
+        continue;
+      }
+      count(policy.subjectKeys, subjectCounts);
+      count(policy.resourceKeys, resourceCounts);
+      policies.add(policy);
+    }
+
+    // Index each policy by its least frequent subject and resource attribute values.
+    for (Policy policy : policies) {
+      String[] subjectKey = rarest(policy.subjectKeys, subjectCounts);
+      String[] resourceKey = rarest(policy.resourceKeys, resourceCounts);
+      policy.subjectKeys = null;
+      policy.resourceKeys = null;
+      Bucket bucket = subjectKey == null ? anySubject
+          : bySubject.computeIfAbsent(subjectKey[0], k -> new HashMap<>())
+            .computeIfAbsent(subjectKey[1], k -> new Bucket());
+      if (resourceKey == null) {
+        bucket.anyResource.add(policy);
+      } else {
+        bucket.byResource.computeIfAbsent(resourceKey[0], k -> new HashMap<>())
+          .computeIfAbsent(resourceKey[1], k -> new ArrayList<>())
+          .add(policy);
+      }
+    }
+    this.policyCount = policies.size();
+    this.unsupportedPolicyIds = Collections.unmodifiableList(unsupported);
+  }
+
+  private static void count(List<String[]> keys, Map<String, Integer> counts) {
+    for (String[] key : keys) {
+      counts.merge(key[0] + '\u0000' + key[1], 1, Integer::sum);
+    }
+  }
+
+  private static String[] rarest(List<String[]> keys, Map<String, Integer> counts) {
+    String[] rarest = null;
+    int min = Integer.MAX_VALUE;
+    for (String[] key : keys) {
+      int count = counts.get(key[0] + '\u0000' + key[1]);
+      if (count < min) {
+        rarest = key;
+        min = count;
+      }
+    }
+    return rarest;
+  }
+
+  /**
+   * Gets the number of policies that may be applied (excluding the deleted and unsupported policies and the
+   * policies without roles).
+   *
+   * @return the number of policies
+   */
+  public int getPolicyCount() {
+    return policyCount;
+  }
+
+  /**
+   * Gets the IDs of the policies that are never applied because they use an operator, a rule key or a value
+   * that the evaluator doesn't support.
+   *
+   * @return the IDs of the unsupported policies
+   */
+  public List<String> getUnsupportedPolicyIds() {
+    return unsupportedPolicyIds;
+  }
+
+  /**
+   * Returns whether a policy allows the subject to perform the action on the resource at the current time
+   * of the clock.
+   *
+   * @param subject the attributes of the subject
+   * @param action the action, or the CRN of a role
+   * @param resource the attributes and the tags of the resource
+   * @return true if the action is allowed
+   */
+  public boolean isAllowed(Attributes subject, String action, Attributes resource) {
+    return isAllowed(subject, action, resource, clock.instant());
+  }
+
+  /**
+   * Returns whether a policy allows the subject to perform the action on the resource at the given time.
+   *
+   * @param subject the attributes of the subject
+   * @param action the action, or the CRN of a role
+   * @param resource the attributes and the tags of the resource
+   * @param time the time of the request, used by the time-based conditions
+   * @return true if the action is allowed
+   */
+  public boolean isAllowed(Attributes subject, String action, Attributes resource, Instant time) {
+    Validator.notNull(time, "time cannot be null");
+    return search(subject, action, resource, time.getEpochSecond(), null);
+  }
+
+  /**
+   * Gets the IDs of all the policies that allow the subject to perform the action on the resource at the given
+   * time.
+   *
+   * @param subject the attributes of the subject
+   * @param action the action, or the CRN of a role
+   * @param resource the attributes and the tags of the resource
+   * @param time the time of the request, used by the time-based conditions
+   * @return the IDs of the policies
+   */
+  public List<String> getMatchingPolicyIds(Attributes subject, String action, Attributes resource, Instant time) {
+    Validator.notNull(time, "time cannot be null");
+    List<String> ids = new ArrayList<>();
+    search(subject, action, resource, time.getEpochSecond(), ids);
+    return ids;
+  }
+
+  // Returns true as soon as a policy applies, unless the IDs of all the policies that apply are collected.
+  private boolean search(Attributes subject, String action, Attributes resource, long now, List<String> ids) {
+    Validator.notNull(subject, "subject cannot be null");
+    Validator.notNull(action, "action cannot be null");
+    Validator.notNull(resource, "resource cannot be null");
+    for (Map.Entry<String, List<String>> attribute : subject.getAttributes().entrySet()) {
+      Map<String, Bucket> buckets = bySubject.get(attribute.getKey());
+      if (buckets != null) {
+        for (String value : attribute.getValue()) {
+          Bucket bucket = buckets.get(value);
+          if (bucket != null && search(bucket, subject, action, resource, now, ids)) {
+            return true;
+          }
+        }
+      }
+    }
+    return search(anySubject, subject, action, resource, now, ids);
+  }
+
+  private static boolean search(Bucket bucket, Attributes subject, String action, Attributes resource, long now,
+      List<String> ids) {
+    for (Map.Entry<String, List<String>> attribute : resource.getAttributes().entrySet()) {
+      Map<String, List<Policy>> lists = bucket.byResource.get(attribute.getKey());
+      if (lists != null) {
+        for (String value : attribute.getValue()) {
+          List<Policy> policies = lists.get(value);
+          if (policies != null && apply(policies, subject, action, resource, now, ids)) {
+            return true;
+          }
+        }
+      }
+    }
+    return apply(bucket.anyResource, subject, action, resource, now, ids);
+  }
+
+  private static boolean apply(List<Policy> policies, Attributes subject, String action, Attributes resource,
+      long now, List<String> ids) {
+    for (Policy policy : policies) {
+      if (policy.applies(subject, action, resource, now)) {
+        if (ids == null) {
+          return true;
+        }
+        ids.add(policy.id);
+      }
+    }
+    return false;
+  }
+
+  private static Policy compile(Source source, Map<String, Set<String>> roleActions) {
+    Set<String> actions = new HashSet<>();
+    if (source.control != null && source.control.getGrant() != null && source.control.getGrant().roles() != null) {
+      for (Roles role : source.control.getGrant().roles()) {
+        if (role.roleId() != null) {
+          actions.add(role.roleId());
+          Set<String> granted = roleActions.get(role.roleId());
+          if (granted != null) {
+            actions.addAll(granted);
+          }
+        }
+      }
+    }
+
+    List<Condition> conditions = new ArrayList<>();
+    List<String[]> subjectKeys = new ArrayList<>();
+    List<String[]> resourceKeys = new ArrayList<>();
+    if (source.subject != null && source.subject.attributes() != null) {
+      for (V2PolicySubjectAttribute attribute : source.subject.attributes()) {
+        conditions.add(attributeCondition(true, attribute.key(), attribute.operator(), attribute.value()));
+        addKey(subjectKeys, attribute.key(), attribute.operator(), attribute.value());
+      }
+    }
+    if (source.resource != null && source.resource.attributes() != null) {
+      for (V2PolicyResourceAttribute attribute : source.resource.attributes()) {
+        conditions.add(attributeCondition(false, attribute.key(), attribute.operator(), attribute.value()));
+        addKey(resourceKeys, attribute.key(), attribute.operator(), attribute.value());
+      }
+    }
+    if (source.resource != null && source.resource.tags() != null) {
+      for (V2PolicyResourceTag tag : source.resource.tags()) {
+        final String key = required(tag.key());
+        final Matcher matcher = matcher(tag.operator(), tag.value());
+        conditions.add((subject, resource, now) -> matcher.matches(resource.getTag(key)));
+      }
+    }
+    if (source.rule != null) {
+      V2PolicyRule rule = source.rule;
+      if (rule.conditions() != null) {
+        List<Condition> nested = new ArrayList<>();
+        for (NestedCondition condition : rule.conditions()) {
+          if (condition.conditions() != null) {
+            List<Condition> attributes = new ArrayList<>();
+            for (RuleAttribute attribute : condition.conditions()) {
+              attributes.add(ruleCondition(attribute.key(), attribute.operator(), attribute.value()));
+            }
+            nested.add(combine(condition.operator(), attributes));
+          } else {
+            nested.add(ruleCondition(condition.key(), condition.operator(), condition.value()));
+          }
+        }
+        conditions.add(combine(rule.operator(), nested));
+      } else {
+        conditions.add(ruleCondition(rule.key(), rule.operator(), rule.value()));
+      }
+    }
+
+    Policy policy = new Policy(source.id, actions, conditions);
+    policy.subjectKeys = subjectKeys;
+    policy.resourceKeys = resourceKeys;
+    return policy;
+  }
+
+  private static void addKey(List<String[]> keys, String key, String operator, Object value) {
+    if (V2PolicyResourceAttribute.Operator.STRINGEQUALS.equals(operator) && value instanceof String) {
+      keys.add(new String[] { key, (String) value });
+    }
+  }
+
+  private static String required(String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("missing key");
+    }
+    return value;
+  }
+
+  // A condition on an attribute of the subject or the resource.
+  private static Condition attributeCondition(boolean ofSubject, String key, String operator, Object value) {
+    final String name = required(key);
+    final Matcher matcher = matcher(operator, value);
+    if (ofSubject) {
+      return (subject, resource, now) -> matcher.matches(subject.getAttribute(name));
+    }
+    return (subject, resource, now) -> matcher.matches(resource.getAttribute(name));
+  }
+
+  private static Condition combine(String operator, List<Condition> conditions) {
+    final Condition[] array = conditions.toArray(new Condition[conditions.size()]);
+    if ("and".equals(operator)) {
+      return (subject, resource, now) -> {
+        for (Condition condition : array) {
+          if (!condition.test(subject, resource, now)) {
+            return false;
+          }
+        }
+        return true;
+      };
+    }
+    if ("or".equals(operator)) {
+      return (subject, resource, now) -> {
+        for (Condition condition : array) {
+          if (condition.test(subject, resource, now)) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+    throw new IllegalArgumentException("unsupported operator: " + operator);
+  }
+
+  private static Matcher matcher(String operator, Object value) {
+    if (operator == null) {
+      throw new IllegalArgumentException("missing operator");
+    }
+    switch (operator) {
+      case RuleAttribute.Operator.STRINGEQUALS:
+        final String expected = string(value);
+        return values -> values.contains(expected);
+      case RuleAttribute.Operator.STRINGEXISTS:
+        final boolean exists = value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(string(value));
+        return values -> values.isEmpty() != exists;
+      case RuleAttribute.Operator.STRINGMATCH:
+        return patternMatcher(wildcard(string(value)));
+      case RuleAttribute.Operator.STRINGEQUALSANYOF:
+        final Set<String> set = new HashSet<>(strings(value));
+        return values -> {
+          for (String v : values) {
+            if (set.contains(v)) {
+              return true;
+            }
+          }
+          return false;
+        };
+      case RuleAttribute.Operator.STRINGMATCHANYOF:
+        StringBuilder alternatives = new StringBuilder();
+        for (String pattern : strings(value)) {
+          alternatives.append(alternatives.length() == 0 ? "" : "|").append(wildcard(pattern));
+        }
+        return patternMatcher(alternatives.toString());
+      default:
+        throw new IllegalArgumentException("unsupported operator: " + operator);
+    }
+  }
+
+  private static Matcher patternMatcher(String regex) {
+    final Pattern pattern = Pattern.compile(regex, Pattern.DOTALL);
+    return values -> {
+      for (String v : values) {
+        if (pattern.matcher(v).matches()) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  // "*" matches any sequence of characters and "?" matches a single character.
+  private static String wildcard(String pattern) {
+    StringBuilder regex = new StringBuilder("(?:");
+    int start = 0;
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (c == '*' || c == '?') {
+        if (i > start) {
+          regex.append(Pattern.quote(pattern.substring(start, i)));
+        }
+        regex.append(c == '*' ? ".*" : ".");
+        start = i + 1;
+      }
+    }
+    if (start < pattern.length()) {
+      regex.append(Pattern.quote(pattern.substring(start)));
+    }
+    return regex.append(')').toString();
+  }
+
+  private static String string(Object value) {
+    if (value instanceof String) {
+      return (String) value;
+    }
+    if (value instanceof Boolean) {
+      return value.toString();
+    }
+    throw new IllegalArgumentException("unsupported value: " + value);
+  }
+
+  private static List<String> strings(Object value) {
+    List<String> strings = new ArrayList<>();
+    if (value instanceof List) {
+      for (Object item : (List<?>) value) {
+        strings.add(string(item));
+      }
+    } else {
+      strings.add(string(value));
+    }
+    return strings;
+  }
+
+  // A condition of a rule: a time-based condition on the environment or a condition on an attribute of the
+  // subject or the resource, e.g. "{{resource.attributes.serviceName}}".
+  private static Condition ruleCondition(String key, String operator, Object value) {
+    String name = required(key);
+    if (operator == null) {
+      throw new IllegalArgumentException("missing operator");
+    }
+    if (operator.startsWith("time") || operator.startsWith("date") || operator.startsWith("dayOfWeek")) {
+      if (!name.startsWith(ENVIRONMENT_PREFIX)) {
+        throw new IllegalArgumentException("unsupported key: " + name);
+      }
+      return timeCondition(operator, value);
+    }
+    if (name.startsWith(SUBJECT_PREFIX) && name.endsWith("}}")) {
+      return attributeCondition(true, name.substring(SUBJECT_PREFIX.length(), name.length() - 2), operator, value);
+    }
+    if (name.startsWith(RESOURCE_PREFIX) && name.endsWith("}}")) {
+      return attributeCondition(false, name.substring(RESOURCE_PREFIX.length(), name.length() - 2), operator, value);
+    }
+    throw new IllegalArgumentException("unsupported key: " + name);
+  }
+
+  // The time-based conditions compare the current time in the offset of the value of the condition, computed
+  // from the epoch second without allocating.
+  private static Condition timeCondition(String operator, Object value) {
+    if (operator.startsWith("dayOfWeek")) {
+      List<String> days = strings(value instanceof Number ? String.valueOf(((Number) value).intValue()) : value);
+      if (operator.equals(RuleAttribute.Operator.DAYOFWEEKEQUALS) && days.size() != 1) {
+        throw new IllegalArgumentException("unsupported value: " + value);
+      } else if (!operator.equals(RuleAttribute.Operator.DAYOFWEEKEQUALS)
+          && !operator.equals(RuleAttribute.Operator.DAYOFWEEKANYOF)) {
+        throw new IllegalArgumentException("unsupported operator: " + operator);
+      }
+      final int[] numbers = new int[days.size()];
+      final int[] offsets = new int[days.size()];
+      for (int i = 0; i < numbers.length; i++) {
+        // E.g. "1+00:00" for Monday in UTC.
+        String day = days.get(i);
+        try {
+          numbers[i] = Integer.parseInt(day.substring(0, 1));
+          offsets[i] = day.length() > 1 ? ZoneOffset.of(day.substring(1)).getTotalSeconds() : 0;
+        } catch (RuntimeException e) {
+          throw new IllegalArgumentException("unsupported value: " + day, e);
+        }
+        if (numbers[i] < 1 || numbers[i] > 7) {
+          throw new IllegalArgumentException("unsupported value: " + day);
+        }
+      }
+      return (subject, resource, now) -> {
+        for (int i = 0; i < numbers.length; i++) {
+          long day = Math.floorDiv(now + offsets[i], SECONDS_PER_DAY);
+          // 1970-01-01 was a Thursday (4).
+          if (Math.floorMod(day + 3, 7) + 1 == numbers[i]) {
+            return true;
+          }
+        }
+        return false;
+      };
+    }
+
+    String text = string(value);
+    if (operator.startsWith("dateTime")) {
+      // The epoch second.
+      final int comparison = comparison(operator.substring("dateTime".length()));
+      final long expected = OffsetDateTime.parse(text).toEpochSecond();
+      return (subject, resource, now) -> compare(now, expected, comparison);
+    }
+    if (operator.startsWith("date")) {
+      // The epoch day, e.g. "2026-01-01" or "2026-01-01-05:00".
+      final int comparison = comparison(operator.substring("date".length()));
+      TemporalAccessor date = text.length() > 10 ? DateTimeFormatter.ISO_OFFSET_DATE.parse(text)
+          : DateTimeFormatter.ISO_LOCAL_DATE.parse(text);
+      final long expected = LocalDate.from(date).toEpochDay();
+      final int offset = text.length() > 10 ? ZoneOffset.from(date).getTotalSeconds() : 0;
+      return (subject, resource, now) ->
+          compare(Math.floorDiv(now + offset, SECONDS_PER_DAY), expected, comparison);
+    }
+    // The second of the day, e.g. "09:00:00+00:00".
+    final int comparison = comparison(operator.substring("time".length()));
+    OffsetTime time = OffsetTime.parse(text);
+    final long expected = time.toLocalTime().toSecondOfDay();
+    final int offset = time.getOffset().getTotalSeconds();
+    return (subject, resource, now) ->
+        compare(Math.floorMod(now + offset, SECONDS_PER_DAY), expected, comparison);
+  }
+
+  private static boolean compare(long actual, long expected, int comparison) {
+    switch (comparison) {
+      case LESS_THAN:
+        return actual < expected;
+      case LESS_THAN_OR_EQUALS:
+        return actual <= expected;
+      case GREATER_THAN:
+        return actual > expected;
+      default:
+        return actual >= expected;
+    }
+  }
+
+  private static int comparison(String suffix) {
+    switch (suffix) {
+      case "LessThan":
+        return LESS_THAN;
+      case "LessThanOrEquals":
+        return LESS_THAN_OR_EQUALS;
+      case "GreaterThan":
+        return GREATER_THAN;
+      case "GreaterThanOrEquals":
+        return GREATER_THAN_OR_EQUALS;
+      default:
+        throw new IllegalArgumentException("unsupported comparison: " + suffix);
+    }
+  }
+}
@@ -13,6 +13,7 @@
 
 package com.ibm.cloud.platform_services.iam_policy_management.v1.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.iam_policy_management.v1.IamPolicyManagement;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * PolicyTemplatesPager can be used to simplify the use of the "listPolicyTemplates" method.
  */
-public class PolicyTemplatesPager {
+public class PolicyTemplatesPager implements Pager<PolicyTemplate> {
   private static class PageContext {
     private String next;
     public String getNext() {
@@ -183,7 +183,9 @@ import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicySu
 import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicySubjectAttribute;
 import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyTemplateMetaData;
 import com.ibm.cloud.platform_services.iam_policy_management.v1.utils.TestUtilities;
+import com.ibm.cloud.platform_services.test.ServiceCallTestUtils;
 import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ResponseConverter;
 import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.security.NoAuthAuthenticator;
 import com.ibm.cloud.sdk.core.service.model.FileWithMetadata;
@@ -4992,6 +4994,23 @@ public class IamPolicyManagementTest {
     iamPolicyManagementService.deleteRoleAssignment(null).execute();
   }
 
+  // Test that each operation reuses a single response converter instead of allocating one per call
+  @Test
+  public void testResponseConverterReuse() throws Throwable {
+    ListV2PoliciesOptions listV2PoliciesOptions = new ListV2PoliciesOptions.Builder().accountId("testString").build();
+    GetV2PolicyOptions getV2PolicyOptions = new GetV2PolicyOptions.Builder().id("testString").build();
+    DeleteV2PolicyOptions deleteV2PolicyOptions = new DeleteV2PolicyOptions.Builder().id("testString").build();
+
+    ResponseConverter<?> listV2PoliciesConverter = ServiceCallTestUtils.getResponseConverter(iamPolicyManagementService.listV2Policies(listV2PoliciesOptions));
+    ResponseConverter<?> getV2PolicyConverter = ServiceCallTestUtils.getResponseConverter(iamPolicyManagementService.getV2Policy(getV2PolicyOptions));
+    ResponseConverter<?> deleteV2PolicyConverter = ServiceCallTestUtils.getResponseConverter(iamPolicyManagementService.deleteV2Policy(deleteV2PolicyOptions));
+    for (int i = 0; i < 1000; i++) {
+      assertSame(ServiceCallTestUtils.getResponseConverter(iamPolicyManagementService.listV2Policies(listV2PoliciesOptions)), listV2PoliciesConverter);
+      assertSame(ServiceCallTestUtils.getResponseConverter(iamPolicyManagementService.getV2Policy(getV2PolicyOptions)), getV2PolicyConverter);
+      assertSame(ServiceCallTestUtils.getResponseConverter(iamPolicyManagementService.deleteV2Policy(deleteV2PolicyOptions)), deleteV2PolicyConverter);
+    }
+  }
+
   // Perform setup needed before each test method
   @BeforeMethod
   public void beforeEachTest() {
@@ -0,0 +1,261 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.iam_policy_management.v1;
+
+import com.ibm.cloud.platform_services.iam_policy_management.v1.PolicyBulkCreator.Job;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.PolicyBulkCreator.Result;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.PolicyBulkCreator.Status;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.Control;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CreatePolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.CreateV2PolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.Grant;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.Policy;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.PolicyResource;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.PolicyRole;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.PolicySubject;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ResourceAttribute;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.Roles;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.SubjectAttribute;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2Policy;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyResource;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyResourceAttribute;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicySubject;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicySubjectAttribute;
+import com.ibm.cloud.sdk.core.service.exception.BadRequestException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the PolicyBulkCreator class.
+ */
+public class PolicyBulkCreatorTest {
+
+  private static final String VIEWER = "crn:v1:bluemix:public:iam::::role:Viewer";
+
+  protected MockWebServer server;
+  protected IamPolicyManagement iamPolicyManagementService;
+
+  private static CreateV2PolicyOptions v2Options(String iamId, String serviceName, String description,
+      boolean reversed) {
+    List<V2PolicyResourceAttribute> attributes = Arrays.asList(
+        new V2PolicyResourceAttribute.Builder("accountId", "stringEquals", "acct").build(),
+        new V2PolicyResourceAttribute.Builder("serviceName", "stringEquals", serviceName).build());
+    if (reversed) {
+      Collections.reverse(attributes);
+    }
+    return new CreateV2PolicyOptions.Builder(
+        new Control.Builder(new Grant.Builder(Collections.singletonList(new Roles.Builder(VIEWER).build())).build())
+          .build(), "access")
+      .subject(new V2PolicySubject.Builder(Collections.singletonList(
+          new V2PolicySubjectAttribute.Builder("iam_id", "stringEquals", iamId).build())).build())
+      .resource(new V2PolicyResource.Builder(attributes).build())
+      .description(description)
+      .build();
+  }
+
+  private static CreatePolicyOptions v1Options(String iamId) {
+    return new CreatePolicyOptions.Builder("access",
+        Collections.singletonList(new PolicySubject.Builder(Collections.singletonList(
+            new SubjectAttribute.Builder("iam_id", iamId).build())).build()),
+        Collections.singletonList(new PolicyRole.Builder(VIEWER).build()),
+        Collections.singletonList(new PolicyResource.Builder(Collections.singletonList(
+            new ResourceAttribute.Builder("accountId", "acct").build())).build()))
+      .build();
+  }
+
+  private static MockResponse created(String id) {
+    return new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(201)
+      .setBody("{\"id\": \"" + id + "\", \"type\": \"access\"}");
+  }
+
+  private static MockResponse tooManyRequests(String retryAfter) {
+    MockResponse response = new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(429)
+      .setBody("{\"errors\": [{\"code\": \"too_many_requests\", \"message\": \"slow down\"}]}");
+    return retryAfter != null ? response.setHeader("Retry-After", retryAfter) : response;
+  }
+
+  @Test
+  public void testCreateV2Policies() throws Throwable {
+    AtomicInteger requests = new AtomicInteger();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        if (requests.incrementAndGet() == 1) {
+          return tooManyRequests("0");
+        }
+        String body = request.getBody().readUtf8();
+        return created("policy-" + body.substring(body.indexOf("item-") + 5, body.indexOf("item-") + 6));
+      }
+    });
+
+    PolicyBulkCreator creator = new PolicyBulkCreator.Builder(iamPolicyManagementService)
+      .maxConcurrency(2)
+      .retryDelay(10)
+      .build();
+    // The third item is the first one with its attributes in another order.
+    Job<CreateV2PolicyOptions, V2Policy> job = creator.createV2Policies(Stream.of(
+        v2Options("IBMid-1", "cos", "item-0", false),
+        v2Options("IBMid-1", "kms", "item-1", false),
+        v2Options("IBMid-1", "cos", "item-2", true),
+        v2Options("IBMid-2", "cos", "item-3", false)));
+    List<Result<CreateV2PolicyOptions, V2Policy>> results = job.await();
+
+    assertEquals(results.size(), 4);
+    for (int i : new int[] { 0, 1, 3 }) {
+      assertEquals(results.get(i).getIndex(), i);
+      assertEquals(results.get(i).getStatus(), Status.CREATED);
+      assertEquals(results.get(i).getPolicy().getId(), "policy-" + i);
+    }
+    assertEquals(results.get(2).getStatus(), Status.DUPLICATE);
+    assertEquals(results.get(2).getDuplicateOf(), 0);
+    assertNull(results.get(2).getPolicy());
+    assertEquals(results.get(0).getAttempts() + results.get(1).getAttempts(), 3);
+    assertEquals(requests.get(), 4);
+    assertEquals(job.getCreated(), 3);
+    assertEquals(job.getDuplicates(), 1);
+    assertEquals(job.getThrottled(), 1);
+    assertTrue(job.isDone());
+    assertEquals(server.takeRequest().getPath(), "/v2/policies");
+  }
+
+  @Test
+  public void testFailures() throws Throwable {
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"errors\": [{\"code\": \"invalid_body\", \"message\": \"invalid subject\"}]}"));
+    server.enqueue(tooManyRequests(null));
+    server.enqueue(tooManyRequests(null));
+    server.enqueue(created("policy-2"));
+
+    PolicyBulkCreator creator = new PolicyBulkCreator.Builder(iamPolicyManagementService)
+      .maxConcurrency(1)
+      .maxAttempts(2)
+      .retryDelay(1)
+      .build();
+    Job<CreatePolicyOptions, Policy> job = creator.createPolicies(Stream.of(
+        v1Options("IBMid-0"), v1Options("IBMid-1"), v1Options("IBMid-2")));
+    List<Result<CreatePolicyOptions, Policy>> results = job.await();
+
+    assertEquals(results.get(0).getStatus(), Status.FAILED);
+    assertTrue(results.get(0).getError() instanceof BadRequestException);
+    assertEquals(results.get(0).getAttempts(), 1);
+    assertEquals(results.get(1).getStatus(), Status.FAILED);
+    assertEquals(results.get(1).getAttempts(), 2);
+    assertEquals(results.get(2).getStatus(), Status.CREATED);
+    assertEquals(results.get(2).getPolicy().getId(), "policy-2");
+    assertEquals(job.getFailed(), 2);
+    assertEquals(job.getThrottled(), 2);
+    assertEquals(server.getRequestCount(), 4);
+    assertEquals(server.takeRequest().getPath(), "/v1/policies");
+  }
+
+  @Test
+  public void testCancel() throws Throwable {
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return tooManyRequests("30");
+      }
+    });
+    AtomicInteger read = new AtomicInteger();
+    PolicyBulkCreator creator = new PolicyBulkCreator.Builder(iamPolicyManagementService)
+      .maxConcurrency(1)
+      .build();
+    Job<CreateV2PolicyOptions, V2Policy> job = creator.createV2Policies(Stream.of(
+        v2Options("IBMid-1", "cos", "item-0", false),
+        v2Options("IBMid-2", "cos", "item-1", false),
+        v2Options("IBMid-3", "cos", "item-2", false)).peek(options -> read.incrementAndGet()));
+    long deadline = System.currentTimeMillis() + 10000;
+    while (job.getThrottled() == 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(job.getConcurrencyLimit(), 1);
+    job.cancel();
+    assertTrue(job.await(5, TimeUnit.SECONDS));
+
+    List<Result<CreateV2PolicyOptions, V2Policy>> results = job.await();
+    assertEquals(results.size(), 1);
+    assertEquals(results.get(0).getStatus(), Status.CANCELLED);
+    assertEquals(results.get(0).getAttempts(), 1);
+    assertEquals(read.get(), 1);
+    assertEquals(server.getRequestCount(), 1);
+  }
+
+  @Test
+  public void testRejectedExecution() throws Throwable {
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    executor.shutdown();
+    AtomicInteger read = new AtomicInteger();
+    PolicyBulkCreator creator = new PolicyBulkCreator.Builder(iamPolicyManagementService)
+      .maxConcurrency(2)
+      .executor(executor)
+      .build();
+    Job<CreatePolicyOptions, Policy> job = creator.createPolicies(Stream.of(v1Options("IBMid-0"))
+        .peek(options -> read.incrementAndGet()));
+    assertTrue(job.await(5, TimeUnit.SECONDS));
+    try {
+      job.await();
+      fail("Expected the rejection to be rethrown");
+    } catch (RejectedExecutionException e) {
+      // expected
+    }
+    assertEquals(read.get(), 0);
+    assertEquals(server.getRequestCount(), 0);
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    iamPolicyManagementService = IamPolicyManagement.newInstance("testService");
+    iamPolicyManagementService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    iamPolicyManagementService = null;
+  }
+}
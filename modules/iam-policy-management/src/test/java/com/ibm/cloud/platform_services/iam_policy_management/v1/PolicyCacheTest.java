@@ -0,0 +1,188 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.iam_policy_management.v1;
+
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.DeletePolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetPolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetRoleOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.GetV2PolicyOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.UpdatePolicyStateOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyTemplateMetaData;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import java.io.IOException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the PolicyCache class.
+ */
+public class PolicyCacheTest {
+
+  protected MockWebServer server;
+  protected IamPolicyManagement iamPolicyManagementService;
+
+  private void enqueue(int status, String etag, String body) {
+    MockResponse response = new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(status);
+    if (etag != null) {
+      response.setHeader("ETag", etag);
+    }
+    if (body != null) {
+      response.setBody(body);
+    }
+    server.enqueue(response);
+  }
+
+  private static String policy(String id, String description) {
+    return "{\"id\": \"" + id + "\", \"type\": \"access\", \"description\": \"" + description + "\"}";
+  }
+
+  @Test
+  public void testHitsAndInvalidation() throws Throwable {
+    PolicyCache cache = new PolicyCache.Builder(iamPolicyManagementService).build();
+    GetV2PolicyOptions getV2 = new GetV2PolicyOptions.Builder("p1").build();
+    enqueue(200, "\"e1\"", policy("p1", "first"));
+    enqueue(200, "\"e1\"", policy("p1", "first"));
+
+    assertEquals(cache.getV2Policy(getV2).getResult().getDescription(), "first");
+    Response<V2PolicyTemplateMetaData> response = cache.getV2Policy(getV2);
+    assertEquals(response.getResult().getDescription(), "first");
+    assertEquals(response.getHeaders().values("ETag").get(0), "\"e1\"");
+    assertEquals(cache.getPolicy(new GetPolicyOptions.Builder("p1").build()).getResult().getId(), "p1");
+    assertEquals(cache.getHits(), 1);
+    assertEquals(cache.getMisses(), 2);
+    assertEquals(cache.getSize(), 2);
+    assertEquals(server.takeRequest().getPath(), "/v2/policies/p1");
+    assertEquals(server.takeRequest().getPath(), "/v1/policies/p1");
+
+    // Both representations of the policy are invalidated, even if the call fails.
+    enqueue(404, null, "{\"errors\": [{\"code\": \"not_found\", \"message\": \"policy not found\"}]}");
+    try {
+      cache.deletePolicy(new DeletePolicyOptions.Builder("p1").build());
+      fail("Expected a NotFoundException");
+    } catch (NotFoundException e) {
+      assertEquals(e.getStatusCode(), 404);
+    }
+    assertEquals(cache.getInvalidations(), 2);
+    assertEquals(cache.getSize(), 0);
+    assertEquals(server.takeRequest().getMethod(), "DELETE");
+
+    enqueue(200, "\"e2\"", policy("p1", "second"));
+    assertEquals(cache.getV2Policy(getV2).getResult().getDescription(), "second");
+    RecordedRequest request = server.takeRequest();
+    assertNull(request.getHeader("If-None-Match"));
+    assertEquals(cache.getMisses(), 3);
+
+    enqueue(200, "\"e3\"", "{\"id\": \"p1\", \"state\": \"active\"}");
+    cache.updatePolicyState(new UpdatePolicyStateOptions.Builder("p1", "\"e2\"").state("active").build());
+    assertEquals(server.takeRequest().getHeader("If-Match"), "\"e2\"");
+    assertEquals(cache.getSize(), 0);
+    assertEquals(cache.getInvalidations(), 3);
+  }
+
+  @Test
+  public void testRevalidation() throws Throwable {
+    PolicyCache cache = new PolicyCache.Builder(iamPolicyManagementService).ttl(0).build();
+    GetV2PolicyOptions getV2 = new GetV2PolicyOptions.Builder("p1").format("display").build();
+    enqueue(200, "\"e1\"", policy("p1", "first"));
+    enqueue(304, "\"e1\"", null);
+    enqueue(200, "\"e2\"", policy("p1", "second"));
+
+    assertEquals(cache.getV2Policy(getV2).getResult().getDescription(), "first");
+    assertEquals(cache.getV2Policy(getV2).getResult().getDescription(), "first");
+    assertEquals(cache.getRevalidations(), 1);
+    assertEquals(cache.getV2Policy(getV2).getResult().getDescription(), "second");
+    assertEquals(cache.getReloads(), 1);
+    assertEquals(cache.getMisses(), 1);
+    assertEquals(cache.getHits(), 0);
+
+    assertNull(server.takeRequest().getHeader("If-None-Match"));
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getPath(), "/v2/policies/p1?format=display");
+    assertEquals(request.getHeader("If-None-Match"), "\"e1\"");
+    assertEquals(server.takeRequest().getHeader("If-None-Match"), "\"e1\"");
+  }
+
+  @Test
+  public void testRevalidationWithoutETag() throws Throwable {
+    PolicyCache cache = new PolicyCache.Builder(iamPolicyManagementService).ttl(0).build();
+    enqueue(200, null, "{\"id\": \"r1\", \"display_name\": \"Reader\"}");
+    enqueue(500, null, "{\"errors\": [{\"message\": \"unavailable\"}]}");
+    GetRoleOptions options = new GetRoleOptions.Builder("r1").build();
+    cache.getRole(options);
+    try {
+      cache.getRole(options);
+      fail("Expected a ServiceResponseException");
+    } catch (ServiceResponseException e) {
+      assertEquals(e.getStatusCode(), 500);
+    }
+    server.takeRequest();
+    assertNull(server.takeRequest().getHeader("If-None-Match"));
+  }
+
+  @Test
+  public void testEviction() throws Throwable {
+    PolicyCache cache = new PolicyCache.Builder(iamPolicyManagementService).maxEntries(2).build();
+    for (int i = 0; i < 4; i++) {
+      enqueue(200, "\"e" + i + "\"", "{\"id\": \"r" + i + "\"}");
+    }
+    cache.getRole(new GetRoleOptions.Builder("r0").build());
+    cache.getRole(new GetRoleOptions.Builder("r1").build());
+    cache.getRole(new GetRoleOptions.Builder("r0").build());
+    // r1 is the least recently used.
+    cache.getRole(new GetRoleOptions.Builder("r2").build());
+    assertEquals(cache.getEvictions(), 1);
+    assertEquals(cache.getSize(), 2);
+    assertEquals(cache.getRole(new GetRoleOptions.Builder("r0").build()).getResult().getId(), "r0");
+    assertEquals(cache.getRole(new GetRoleOptions.Builder("r1").build()).getResult().getId(), "r3");
+    assertEquals(cache.getHits(), 2);
+    assertEquals(cache.getMisses(), 4);
+
+    cache.invalidateAll();
+    assertEquals(cache.getSize(), 0);
+    assertEquals(cache.getInvalidations(), 2);
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    iamPolicyManagementService = IamPolicyManagement.newInstance("testService");
+    iamPolicyManagementService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    iamPolicyManagementService = null;
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.iam_policy_management.v1;
+
+import com.ibm.cloud.platform_services.iam_policy_management.v1.PolicyEvaluator.Attributes;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.ListV2PoliciesOptions;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.RoleCollection;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PoliciesPager;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2Policy;
+import com.ibm.cloud.platform_services.iam_policy_management.v1.model.V2PolicyTemplateMetaData;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the PolicyEvaluator class.
+ */
+public class PolicyEvaluatorTest {
+
+  private static final String VIEWER = "crn:v1:bluemix:public:iam::::role:Viewer";
+  private static final String WRITER = "crn:v1:bluemix:public:iam::::serviceRole:Writer";
+  // A Monday.
+  private static final Instant MONDAY_NOON = Instant.parse("2026-10-19T12:00:00Z");
+
+  protected MockWebServer server;
+  protected IamPolicyManagement iamPolicyManagementService;
+
+  private void enqueue(String body) {
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(body));
+  }
+
+  private static String policy(String id, String subject, String resource, String rule, String role) {
+    return "{\"id\": \"" + id + "\", \"type\": \"access\", \"state\": \"active\", "
+        + "\"subject\": {\"attributes\": [" + subject + "]}, "
+        + "\"resource\": " + resource + ", "
+        + (rule != null ? "\"rule\": " + rule + ", " : "")
+        + "\"control\": {\"grant\": {\"roles\": [{\"role_id\": \"" + role + "\"}]}}}";
+  }
+
+  private static String attribute(String key, String operator, String value) {
+    return "{\"key\": \"" + key + "\", \"operator\": \"" + operator + "\", \"value\": " + value + "}";
+  }
+
+  private static V2Policy parse(String json) {
+    return GsonSingleton.getGson().fromJson(json, V2Policy.class);
+  }
+
+  private static Attributes user(String iamId, String... accessGroups) {
+    Attributes.Builder builder = new Attributes.Builder().attribute("iam_id", iamId);
+    for (String accessGroup : accessGroups) {
+      builder.attribute("access_group_id", accessGroup);
+    }
+    return builder.build();
+  }
+
+  @Test
+  public void testListedPolicies() throws Throwable {
+    String workingHours = "{\"operator\": \"and\", \"conditions\": ["
+        + attribute("{{environment.attributes.day_of_week}}", "dayOfWeekAnyOf",
+            "[\"1+00:00\", \"2+00:00\", \"3+00:00\", \"4+00:00\", \"5+00:00\"]") + ", "
+        + attribute("{{environment.attributes.current_time}}", "timeGreaterThanOrEquals", "\"09:00:00+00:00\"") + ", "
+        + attribute("{{environment.attributes.current_time}}", "timeLessThanOrEquals", "\"17:00:00+00:00\"") + "]}";
+    enqueue("{\"limit\": 2, \"next\": {\"start\": \"p2\"}, \"policies\": ["
+        + policy("p1", attribute("iam_id", "stringEquals", "\"IBMid-1\""),
+            "{\"attributes\": [" + attribute("accountId", "stringEquals", "\"acct\"") + ", "
+            + attribute("serviceName", "stringEquals", "\"cloud-object-storage\"") + "]}", null, VIEWER) + ", "
+        + policy("p2", attribute("access_group_id", "stringEquals", "\"AccessGroupId-1\""),
+            "{\"attributes\": [" + attribute("accountId", "stringEquals", "\"acct\"") + ", "
+            + attribute("serviceName", "stringEquals", "\"kms\"") + "], \"tags\": [{\"key\": \"env\", "
+            + "\"value\": \"prod\", \"operator\": \"stringEquals\"}]}", workingHours, WRITER) + "]}");
+    enqueue("{\"limit\": 2, \"policies\": ["
+        + policy("p3", attribute("iam_id", "stringEquals", "\"IBMid-1\""),
+            "{\"attributes\": [" + attribute("accountId", "stringEquals", "\"acct\"") + "]}", null, WRITER)
+            .replace("active", "deleted") + ", "
+        + policy("p4", attribute("iam_id", "stringEquals", "\"IBMid-1\""),
+            "{\"attributes\": [" + attribute("accountId", "stringContains", "\"acct\"") + "]}", null, WRITER)
+        + "]}");
+    enqueue("{\"system_roles\": [{\"display_name\": \"Viewer\", \"crn\": \"" + VIEWER + "\", "
+        + "\"actions\": [\"iam.policy.read\"]}], \"service_roles\": [{\"display_name\": \"Writer\", \"crn\": \""
+        + WRITER + "\", \"actions\": [\"kms.secrets.wrap\", \"kms.secrets.unwrap\"]}]}");
+
+    V2PoliciesPager pager = new V2PoliciesPager(iamPolicyManagementService,
+        new ListV2PoliciesOptions.Builder("acct").build());
+    List<V2PolicyTemplateMetaData> policies = pager.getAll();
+    RoleCollection roles = iamPolicyManagementService.listRoles().execute().getResult();
+    PolicyEvaluator evaluator = new PolicyEvaluator.Builder()
+      .addPolicies(policies)
+      .roles(roles)
+      .clock(Clock.fixed(MONDAY_NOON, ZoneOffset.UTC))
+      .build();
+    assertEquals(evaluator.getPolicyCount(), 2);
+    assertEquals(evaluator.getUnsupportedPolicyIds(), Collections.singletonList("p4"));
+
+    Attributes cos = new Attributes.Builder()
+      .attribute("accountId", "acct")
+      .attribute("serviceName", "cloud-object-storage")
+      .attribute("serviceInstance", "instance-1")
+      .build();
+    assertTrue(evaluator.isAllowed(user("IBMid-1"), "iam.policy.read", cos));
+    assertTrue(evaluator.isAllowed(user("IBMid-1"), VIEWER, cos));
+    assertFalse(evaluator.isAllowed(user("IBMid-1"), "kms.secrets.wrap", cos));
+    assertFalse(evaluator.isAllowed(user("IBMid-2"), "iam.policy.read", cos));
+    assertFalse(evaluator.isAllowed(user("IBMid-1"), "iam.policy.read",
+        new Attributes.Builder().attribute("accountId", "acct").build()));
+
+    Attributes prodKey = new Attributes.Builder()
+      .attribute("accountId", "acct")
+      .attribute("serviceName", "kms")
+      .tag("env", "prod")
+      .build();
+    Attributes member = user("IBMid-2", "AccessGroupId-2", "AccessGroupId-1");
+    assertTrue(evaluator.isAllowed(member, "kms.secrets.unwrap", prodKey));
+    assertFalse(evaluator.isAllowed(member, "kms.secrets.unwrap",
+        new Attributes.Builder().attribute("accountId", "acct").attribute("serviceName", "kms").build()));
+    assertFalse(evaluator.isAllowed(user("IBMid-2", "AccessGroupId-2"), "kms.secrets.unwrap", prodKey));
+    // Outside of the working hours, or on a Sunday.
+    assertFalse(evaluator.isAllowed(member, "kms.secrets.unwrap", prodKey, Instant.parse("2026-10-19T17:00:01Z")));
+    assertFalse(evaluator.isAllowed(member, "kms.secrets.unwrap", prodKey, Instant.parse("2026-10-18T12:00:00Z")));
+
+    assertEquals(server.takeRequest().getPath(), "/v2/policies?account_id=acct");
+    assertEquals(server.takeRequest().getPath(), "/v2/policies?account_id=acct&start=p2");
+  }
+
+  @Test
+  public void testStringOperators() {
+    PolicyEvaluator evaluator = new PolicyEvaluator.Builder()
+      .addPolicy(parse(policy("match", attribute("iam_id", "stringEquals", "\"IBMid-1\""),
+          "{\"attributes\": [" + attribute("accountId", "stringEquals", "\"acct\"") + ", "
+          + attribute("serviceName", "stringMatch", "\"cloud-*-storage\"") + ", "
+          + attribute("resourceGroupId", "stringExists", "false") + "]}", null, VIEWER)))
+      .addPolicy(parse(policy("any", attribute("iam_id", "stringExists", "true"),
+          "{\"attributes\": [" + attribute("region", "stringEqualsAnyOf", "[\"us-south\", \"us-east\"]") + ", "
+          + attribute("resource", "stringMatchAnyOf", "[\"bucket-?\", \"logs.*\"]") + "]}", null, WRITER)))
+      .addPolicy(parse(policy("rule", attribute("access_group_id", "stringEquals", "\"AccessGroupId-1\""),
+          "{\"attributes\": [" + attribute("serviceType", "stringEquals", "\"service\"") + "]}",
+          "{\"operator\": \"or\", \"conditions\": ["
+          + attribute("{{resource.attributes.region}}", "stringEquals", "\"eu-de\"") + ", "
+          + "{\"operator\": \"and\", \"conditions\": ["
+          + attribute("{{environment.attributes.current_date_time}}", "dateTimeGreaterThan",
+              "\"2026-10-01T00:00:00-05:00\"") + ", "
+          + attribute("{{environment.attributes.current_date}}", "dateLessThan", "\"2026-11-01\"") + "]}]}",
+          VIEWER)))
+      .roleActions(VIEWER, Arrays.asList("resource.read"))
+      .build();
+
+    Attributes storage = new Attributes.Builder()
+      .attribute("accountId", "acct")
+      .attribute("serviceName", "cloud-object-storage")
+      .build();
+    assertTrue(evaluator.isAllowed(user("IBMid-1"), "resource.read", storage, MONDAY_NOON));
+    assertFalse(evaluator.isAllowed(user("IBMid-1"), "resource.read", new Attributes.Builder()
+        .attribute("accountId", "acct")
+        .attribute("serviceName", "cloud-object-storage")
+        .attribute("resourceGroupId", "rg")
+        .build(), MONDAY_NOON));
+    assertFalse(evaluator.isAllowed(user("IBMid-1"), "resource.read", new Attributes.Builder()
+        .attribute("accountId", "acct")
+        .attribute("serviceName", "cloud.object.storage.x")
+        .build(), MONDAY_NOON));
+
+    assertTrue(evaluator.isAllowed(user("IBMid-9"), WRITER, new Attributes.Builder()
+        .attribute("region", "us-east")
+        .attribute("resource", "logs.2026")
+        .build(), MONDAY_NOON));
+    assertFalse(evaluator.isAllowed(user("IBMid-9"), WRITER, new Attributes.Builder()
+        .attribute("region", "us-east")
+        .attribute("resource", "bucket-10")
+        .build(), MONDAY_NOON));
+    assertFalse(evaluator.isAllowed(new Attributes.Builder().build(), WRITER, new Attributes.Builder()
+        .attribute("region", "us-east")
+        .attribute("resource", "bucket-1")
+        .build(), MONDAY_NOON));
+
+    Attributes service = new Attributes.Builder()
+      .attribute("serviceType", "service")
+      .attribute("region", "us-south")
+      .build();
+    Attributes member = user("IBMid-9", "AccessGroupId-1");
+    assertTrue(evaluator.isAllowed(member, "resource.read", service, MONDAY_NOON));
+    assertFalse(evaluator.isAllowed(member, "resource.read", service, Instant.parse("2026-11-01T00:00:00Z")));
+    assertFalse(evaluator.isAllowed(member, "resource.read", service, Instant.parse("2026-10-01T04:59:59Z")));
+    assertTrue(evaluator.isAllowed(member, "resource.read", new Attributes.Builder()
+        .attribute("serviceType", "service")
+        .attribute("region", "eu-de")
+        .build(), Instant.parse("2027-01-01T00:00:00Z")));
+  }
+
+  @Test
+  public void testManyPolicies() {
+    PolicyEvaluator.Builder builder = new PolicyEvaluator.Builder();
+    for (int i = 0; i < 20000; i++) {
+      builder.addPolicy(parse(policy("p" + i, attribute("iam_id", "stringEquals", "\"IBMid-" + (i % 1000) + "\""),
+          "{\"attributes\": [" + attribute("accountId", "stringEquals", "\"acct\"") + ", "
+          + attribute("serviceInstance", "stringEquals", "\"instance-" + i + "\"") + "]}", null, VIEWER)));
+    }
+    PolicyEvaluator evaluator = builder.build();
+    assertEquals(evaluator.getPolicyCount(), 20000);
+    for (int i = 0; i < 20000; i += 997) {
+      Attributes instance = new Attributes.Builder()
+        .attribute("accountId", "acct")
+        .attribute("serviceInstance", "instance-" + i)
+        .build();
+      assertEquals(evaluator.getMatchingPolicyIds(user("IBMid-" + (i % 1000)), VIEWER, instance, MONDAY_NOON),
+          Collections.singletonList("p" + i));
+      assertFalse(evaluator.isAllowed(user("IBMid-" + ((i + 1) % 1000)), VIEWER, instance, MONDAY_NOON));
+    }
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    iamPolicyManagementService = IamPolicyManagement.newInstance("testService");
+    iamPolicyManagementService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    iamPolicyManagementService = null;
+  }
+}
@@ -44,6 +44,12 @@ public class IbmCloudShell extends BaseService {
 
   public static final String DEFAULT_SERVICE_URL = "https://api.shell.cloud.ibm.com";
 
+  private static final ResponseConverter<AccountSettings> GET_ACCOUNT_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+
+  private static final ResponseConverter<AccountSettings> UPDATE_ACCOUNT_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `IbmCloudShell` client.
    * The default service name is used to configure the client instance.
@@ -102,8 +108,7 @@ public class IbmCloudShell extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AccountSettings> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+    ResponseConverter<AccountSettings> responseConverter = GET_ACCOUNT_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -149,8 +154,7 @@ public class IbmCloudShell extends BaseService {
       contentJson.add("regions", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(updateAccountSettingsOptions.regions()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<AccountSettings> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSettings>() { }.getType());
+    ResponseConverter<AccountSettings> responseConverter = UPDATE_ACCOUNT_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -57,6 +57,33 @@ public class OpenServiceBroker extends BaseService {
 
   public static final String DEFAULT_SERVICE_NAME = "open_service_broker";
 
+  private static final ResponseConverter<Resp1874644Root> GET_SERVICE_INSTANCE_STATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp1874644Root>() { }.getType());
+
+  private static final ResponseConverter<Resp2448145Root> REPLACE_SERVICE_INSTANCE_STATE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2448145Root>() { }.getType());
+
+  private static final ResponseConverter<Resp2079872Root> REPLACE_SERVICE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079872Root>() { }.getType());
+
+  private static final ResponseConverter<Resp2079874Root> UPDATE_SERVICE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079874Root>() { }.getType());
+
+  private static final ResponseConverter<Resp2079874Root> DELETE_SERVICE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079874Root>() { }.getType());
+
+  private static final ResponseConverter<Resp1874650Root> LIST_CATALOG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp1874650Root>() { }.getType());
+
+  private static final ResponseConverter<Resp2079894Root> GET_LAST_OPERATION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079894Root>() { }.getType());
+
+  private static final ResponseConverter<Resp2079876Root> REPLACE_SERVICE_BINDING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079876Root>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_SERVICE_BINDING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
 
  /**
    * Class method which constructs an instance of the `OpenServiceBroker` client.
@@ -119,8 +146,7 @@ public class OpenServiceBroker extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Resp1874644Root> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp1874644Root>() { }.getType());
+    ResponseConverter<Resp1874644Root> responseConverter = GET_SERVICE_INSTANCE_STATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -162,8 +188,7 @@ public class OpenServiceBroker extends BaseService {
       contentJson.addProperty("reason_code", replaceServiceInstanceStateOptions.reasonCode());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Resp2448145Root> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2448145Root>() { }.getType());
+    ResponseConverter<Resp2448145Root> responseConverter = REPLACE_SERVICE_INSTANCE_STATE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -219,8 +244,7 @@ public class OpenServiceBroker extends BaseService {
       contentJson.addProperty("space_guid", replaceServiceInstanceOptions.spaceGuid());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Resp2079872Root> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079872Root>() { }.getType());
+    ResponseConverter<Resp2079872Root> responseConverter = REPLACE_SERVICE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -268,8 +292,7 @@ public class OpenServiceBroker extends BaseService {
       contentJson.addProperty("service_id", updateServiceInstanceOptions.serviceId());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Resp2079874Root> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079874Root>() { }.getType());
+    ResponseConverter<Resp2079874Root> responseConverter = UPDATE_SERVICE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -299,8 +322,7 @@ public class OpenServiceBroker extends BaseService {
     if (deleteServiceInstanceOptions.acceptsIncomplete() != null) {
       builder.query("accepts_incomplete", String.valueOf(deleteServiceInstanceOptions.acceptsIncomplete()));
     }
-    ResponseConverter<Resp2079874Root> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079874Root>() { }.getType());
+    ResponseConverter<Resp2079874Root> responseConverter = DELETE_SERVICE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -326,8 +348,7 @@ public class OpenServiceBroker extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<Resp1874650Root> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp1874650Root>() { }.getType());
+    ResponseConverter<Resp1874650Root> responseConverter = LIST_CATALOG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -385,8 +406,7 @@ public class OpenServiceBroker extends BaseService {
     if (getLastOperationOptions.serviceId() != null) {
       builder.query("service_id", String.valueOf(getLastOperationOptions.serviceId()));
     }
-    ResponseConverter<Resp2079894Root> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079894Root>() { }.getType());
+    ResponseConverter<Resp2079894Root> responseConverter = GET_LAST_OPERATION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -433,8 +453,7 @@ public class OpenServiceBroker extends BaseService {
       contentJson.addProperty("service_id", replaceServiceBindingOptions.serviceId());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Resp2079876Root> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Resp2079876Root>() { }.getType());
+    ResponseConverter<Resp2079876Root> responseConverter = REPLACE_SERVICE_BINDING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -466,7 +485,7 @@ public class OpenServiceBroker extends BaseService {
     builder.header("Accept", "application/json");
     builder.query("plan_id", String.valueOf(deleteServiceBindingOptions.planId()));
     builder.query("service_id", String.valueOf(deleteServiceBindingOptions.serviceId()));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_SERVICE_BINDING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
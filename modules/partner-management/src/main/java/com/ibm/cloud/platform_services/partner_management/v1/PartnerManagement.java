@@ -52,6 +52,15 @@ public class PartnerManagement extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://partner.cloud.ibm.com";
 
+  private static final ResponseConverter<PartnerUsageReportSummary> GET_RESOURCE_USAGE_REPORT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PartnerUsageReportSummary>() { }.getType());
+
+  private static final ResponseConverter<BillingOptionsSummary> GET_BILLING_OPTIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<BillingOptionsSummary>() { }.getType());
+
+  private static final ResponseConverter<CreditPoolsReportSummary> GET_CREDIT_POOLS_REPORT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreditPoolsReportSummary>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `PartnerManagement` client.
    * The default service name is used to configure the client instance.
@@ -131,8 +140,7 @@ public class PartnerManagement extends BaseService {
     if (getResourceUsageReportOptions.offset() != null) {
       builder.query("offset", String.valueOf(getResourceUsageReportOptions.offset()));
     }
-    ResponseConverter<PartnerUsageReportSummary> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<PartnerUsageReportSummary>() { }.getType());
+    ResponseConverter<PartnerUsageReportSummary> responseConverter = GET_RESOURCE_USAGE_REPORT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -166,8 +174,7 @@ public class PartnerManagement extends BaseService {
     if (getBillingOptionsOptions.limit() != null) {
       builder.query("limit", String.valueOf(getBillingOptionsOptions.limit()));
     }
-    ResponseConverter<BillingOptionsSummary> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<BillingOptionsSummary>() { }.getType());
+    ResponseConverter<BillingOptionsSummary> responseConverter = GET_BILLING_OPTIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -201,8 +208,7 @@ public class PartnerManagement extends BaseService {
     if (getCreditPoolsReportOptions.limit() != null) {
       builder.query("limit", String.valueOf(getCreditPoolsReportOptions.limit()));
     }
-    ResponseConverter<CreditPoolsReportSummary> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<CreditPoolsReportSummary>() { }.getType());
+    ResponseConverter<CreditPoolsReportSummary> responseConverter = GET_CREDIT_POOLS_REPORT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -13,6 +13,7 @@
 
 package com.ibm.cloud.platform_services.partner_management.v1.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.partner_management.v1.PartnerManagement;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * GetResourceUsageReportPager can be used to simplify the use of the "getResourceUsageReport" method.
  */
-public class GetResourceUsageReportPager {
+public class GetResourceUsageReportPager implements Pager<PartnerUsageReport> {
   private static class PageContext {
     private String next;
     public String getNext() {
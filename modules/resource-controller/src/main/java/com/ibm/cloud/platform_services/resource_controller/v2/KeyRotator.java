@@ -0,0 +1,507 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.resource_controller.v2;
+
+import com.ibm.cloud.platform_services.common.BoundedParallel;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.CreateResourceKeyOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.DeleteResourceKeyOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ListResourceKeysForInstanceOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstance;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceKey;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceKeysForInstancePager;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * KeyRotator rotates the resource keys of many resource instances.
+ *
+ * <p>
+ * The keys of each instance are rotated in three stages, so that the old and new credentials overlap until the new
+ * ones are in use: a new key is created with "createResourceKey" ({@link Stage#CREATE}); its credentials are passed
+ * to the {@link CredentialHandler}, which distributes and verifies them ({@link Stage#VERIFY}); and the keys that
+ * the instance had before, as listed by {@link ResourceKeysForInstancePager}, are deleted with "deleteResourceKey"
+ * ({@link Stage#DELETE}). The instances of each region are rotated by at most "maxConcurrencyPerRegion" workers,
+ * and the regions are rotated concurrently.
+ *
+ * <p>
+ * When a checkpoint file is configured, the completion of each stage is appended to it (and forced to the storage
+ * device) before the next stage starts. A run that is interrupted, or whose instances partially failed, can then be
+ * resumed with the same checkpoint file: the instances whose keys were rotated are skipped, and the others resume
+ * after the last completed stage (e.g. the key created by an interrupted run is distributed instead of creating
+ * another one).
+ */
+public class KeyRotator {
+
+  /**
+   * The stages of the rotation of the keys of an instance.
+   */
+  public enum Stage {
+    CREATE, VERIFY, DELETE
+  }
+
+  /**
+   * CredentialHandler distributes the credentials of the new keys; it is invoked by several threads concurrently.
+   */
+  public interface CredentialHandler {
+    /**
+     * Distributes the credentials of a new key to the consumers of the resource instance.
+     *
+     * @param instance the resource instance
+     * @param key the new resource key, with its credentials
+     */
+    void distribute(ResourceInstance instance, ResourceKey key);
+
+    /**
+     * Verifies that the credentials of a new key are in use; the old keys are deleted only if this method returns
+     * true. The default implementation returns true.
+     *
+     * @param instance the resource instance
+     * @param key the new resource key, with its credentials
+     * @return true if the old keys can be deleted
+     */
+    default boolean verify(ResourceInstance instance, ResourceKey key) {
+      return true;
+    }
+  }
+
+  /**
+   * The outcome of a rotation.
+   */
+  public static class Result {
+    private final List<String> rotated;
+    private final List<String> skipped;
+    private final Map<String, RuntimeException> failures;
+
+    Result(List<String> rotated, List<String> skipped, Map<String, RuntimeException> failures) {
+      this.rotated = Collections.unmodifiableList(rotated);
+      this.skipped = Collections.unmodifiableList(skipped);
+      this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Gets the GUIDs of the instances whose keys were rotated.
+     *
+     * @return the GUIDs of the rotated instances
+     */
+    public List<String> getRotated() {
+      return rotated;
+    }
+
+    /**
+     * Gets the GUIDs of the instances skipped because the checkpoint file shows that their keys were rotated.
+     *
+     * @return the GUIDs of the skipped instances
+     */
+    public List<String> getSkipped() {
+      return skipped;
+    }
+
+    /**
+     * Gets the failures of the instances whose keys couldn't be rotated, by instance GUID.
+     *
+     * @return the failures
+     */
+    public Map<String, RuntimeException> getFailures() {
+      return failures;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private ResourceController client;
+    private CredentialHandler handler;
+    private Function<ResourceInstance, String> keyName = instance -> instance.getName() + "-"
+        + System.currentTimeMillis();
+    private String role;
+    private Path checkpoint;
+    private int maxConcurrencyPerRegion = 4;
+    private Executor executor;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the ResourceController instance used to create, list and delete the resource keys
+     * @param handler the handler that distributes and verifies the credentials of the new keys
+     */
+    public Builder(ResourceController client, CredentialHandler handler) {
+      this.client = client;
+      this.handler = handler;
+    }
+
+    /**
+     * Set the function that names the new key of an instance. Defaults to the instance name followed by the
+     * current time in milliseconds.
+     *
+     * @param keyName the function that names the new keys
+     * @return the KeyRotator builder
+     */
+    public Builder keyName(Function<ResourceInstance, String> keyName) {
+      this.keyName = keyName;
+      return this;
+    }
+
+    /**
+     * Set the role of the new keys. Defaults to the default role of "createResourceKey" (Writer).
+     *
+     * @param role the role name or CRN
+     * @return the KeyRotator builder
+     */
+    public Builder role(String role) {
+      this.role = role;
+      return this;
+    }
+
+    /**
+     * Set the file in which the completed stages are recorded. The file is created if it doesn't exist.
+     *
+     * @param checkpoint the checkpoint file
+     * @return the KeyRotator builder
+     */
+    public Builder checkpoint(Path checkpoint) {
+      this.checkpoint = checkpoint;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of instances of the same region that are rotated concurrently. Defaults to 4.
+     *
+     * @param maxConcurrencyPerRegion the maximum number of concurrent rotations per region
+     * @return the KeyRotator builder
+     */
+    public Builder maxConcurrencyPerRegion(int maxConcurrencyPerRegion) {
+      this.maxConcurrencyPerRegion = maxConcurrencyPerRegion;
+      return this;
+    }
+
+    /**
+     * Set the executor on which the instances are rotated. By default, each rotation uses a new thread pool
+     * which is shut down when it completes.
+     *
+     * @param executor the executor
+     * @return the KeyRotator builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds a KeyRotator and reads its checkpoint file, if any.
+     *
+     * @return the new KeyRotator instance
+     */
+    public KeyRotator build() {
+      return new KeyRotator(this);
+    }
+  }
+
+  private static final String DONE = "DONE";
+
+  private final ResourceController client;
+  private final CredentialHandler handler;
+  private final Function<ResourceInstance, String> keyName;
+  private final String role;
+  private final Path checkpoint;
+  private final int maxConcurrencyPerRegion;
+  private final Executor executor;
+
+  // The last checkpoint record of each instance, by instance GUID.
+  private final Map<String, Record> records = new ConcurrentHashMap<>();
+  private final Object fileLock = new Object();
+
+  private final Map<Stage, AtomicLong> completed = new EnumMap<>(Stage.class);
+  private final Map<Stage, AtomicLong> nanos = new EnumMap<>(Stage.class);
+  private final AtomicLong keysDeleted = new AtomicLong();
+  private volatile long elapsed;
+
+  protected KeyRotator(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.notNull(builder.handler, "handler cannot be null");
+    Validator.notNull(builder.keyName, "keyName cannot be null");
+    Validator.isTrue(builder.maxConcurrencyPerRegion > 0, "maxConcurrencyPerRegion must be greater than zero");
+    this.client = builder.client;
+    this.handler = builder.handler;
+    this.keyName = builder.keyName;
+    this.role = builder.role;
+    this.checkpoint = builder.checkpoint;
+    this.maxConcurrencyPerRegion = builder.maxConcurrencyPerRegion;
+    this.executor = builder.executor;
+    for (Stage stage : Stage.values()) {
+      completed.put(stage, new AtomicLong());
+      nanos.put(stage, new AtomicLong());
+    }
+    if (checkpoint != null && Files.exists(checkpoint)) {
+      load();
+    }
+  }
+
+  /**
+   * Rotates the keys of resource instances. The failure of an instance doesn't stop the rotation of the others.
+   *
+   * @param instances the resource instances
+   * @return the outcome of the rotation
+   */
+  public Result rotate(Collection<ResourceInstance> instances) {
+    Validator.notNull(instances, "instances cannot be null");
+    Map<String, List<ResourceInstance>> regions = new LinkedHashMap<>();
+    for (ResourceInstance instance : instances) {
+      Validator.notNull(instance.getGuid(), "instance GUID cannot be null");
+      regions.computeIfAbsent(String.valueOf(instance.getRegionId()), k -> new ArrayList<ResourceInstance>())
+        .add(instance);
+    }
+    int threads = 0;
+    for (List<ResourceInstance> region : regions.values()) {
+      threads += Math.min(maxConcurrencyPerRegion, region.size());
+    }
+    final List<String> rotated = Collections.synchronizedList(new ArrayList<String>());
+    final List<String> skipped = Collections.synchronizedList(new ArrayList<String>());
+    final Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+    if (threads == 0) {
+      return new Result(rotated, skipped, failures);
+    }
+    ExecutorService pool = null;
+    Executor workers = executor;
+    if (workers == null) {
+      pool = Executors.newFixedThreadPool(threads, runnable -> {
+        Thread thread = new Thread(runnable, "key-rotator");
+        thread.setDaemon(true);
+        return thread;
+      });
+      workers = pool;
+    }
+    long start = System.nanoTime();
+    try {
+      // Each region has its own bounded set of workers, and all regions are rotated at the same time.
+      List<CompletableFuture<Void>> tasks = new ArrayList<>();
+      for (final List<ResourceInstance> region : regions.values()) {
+        final AtomicInteger next = new AtomicInteger();
+        tasks.add(BoundedParallel.forEachAsync(() -> {
+          int i = next.getAndIncrement();
+          return i < region.size() ? region.get(i) : null;
+        }, Math.min(maxConcurrencyPerRegion, region.size()), workers, instance -> {
+          try {
+            if (rotate(instance)) {
+              rotated.add(instance.getGuid());
+            } else {
+              skipped.add(instance.getGuid());
+            }
+          } catch (RuntimeException e) {
+            failures.put(instance.getGuid(), e);
+          }
+        }));
+      }
+      BoundedParallel.join(CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])));
+    } finally {
+      elapsed += System.nanoTime() - start;
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+    return new Result(rotated, skipped, failures);
+  }
+
+  /**
+   * Gets the number of instances that completed a stage.
+   *
+   * @param stage the stage
+   * @return the number of instances that completed the stage
+   */
+  public long getCompleted(Stage stage) {
+    return completed.get(stage).get();
+  }
+
+  /**
+   * Gets the total time, in milliseconds, spent by the workers in a stage, including the stages that failed.
+   *
+   * @param stage the stage
+   * @return the time spent in the stage in milliseconds
+   */
+  public long getStageTime(Stage stage) {
+    return nanos.get(stage).get() / 1000000;
+  }
+
+  /**
+   * Gets the number of instances that completed a stage per second of rotation.
+   *
+   * @param stage the stage
+   * @return the throughput of the stage, in instances per second
+   */
+  public double getThroughput(Stage stage) {
+    long time = elapsed;
+    return time > 0 ? completed.get(stage).get() * 1e9 / time : 0;
+  }
+
+  /**
+   * Gets the number of old keys deleted.
+   *
+   * @return the number of deleted keys
+   */
+  public long getKeysDeleted() {
+    return keysDeleted.get();
+  }
+
+  // Rotates the keys of an instance from its last checkpoint, and returns false if they were already rotated.
+  private boolean rotate(ResourceInstance instance) {
+    String guid = instance.getGuid();
+    Record record = records.get(guid);
+    if (record != null && record.stage.equals(DONE)) {
+      return false;
+    }
+    List<ResourceKey> keys = listKeys(guid);
+    ResourceKey key = null;
+    if (record != null) {
+      for (ResourceKey existing : keys) {
+        if (record.keyId.equals(existing.getId())) {
+          key = existing;
+        }
+      }
+    }
+
+    long start = System.nanoTime();
+    if (key == null) {
+      // The key created by an earlier run may have been deleted; the rotation then starts over.
+      record = null;
+      try {
+        CreateResourceKeyOptions.Builder options = new CreateResourceKeyOptions.Builder(keyName.apply(instance), guid);
+        if (role != null) {
+          options.role(role);
+        }
+        key = client.createResourceKey(options.build()).execute().getResult();
+      } finally {
+        start = finish(Stage.CREATE, start);
+      }
+      record = save(guid, Stage.CREATE.name(), key.getId());
+      completed.get(Stage.CREATE).incrementAndGet();
+    }
+
+    if (!record.stage.equals(Stage.VERIFY.name())) {
+      try {
+        handler.distribute(instance, key);
+        if (!handler.verify(instance, key)) {
+          throw new IllegalStateException("The credentials of the resource key " + key.getId()
+              + " could not be verified");
+        }
+      } finally {
+        start = finish(Stage.VERIFY, start);
+      }
+      record = save(guid, Stage.VERIFY.name(), key.getId());
+      completed.get(Stage.VERIFY).incrementAndGet();
+    }
+
+    try {
+      for (ResourceKey old : keys) {
+        if (!old.getId().equals(key.getId())) {
+          try {
+            client.deleteResourceKey(new DeleteResourceKeyOptions.Builder(old.getId()).build()).execute();
+            keysDeleted.incrementAndGet();
+          } catch (NotFoundException e) {
+            // The key was deleted by an earlier run or by someone else.
+          }
+        }
+      }
+    } finally {
+      finish(Stage.DELETE, start);
+    }
+    save(guid, DONE, key.getId());
+    completed.get(Stage.DELETE).incrementAndGet();
+    return true;
+  }
+
+  private List<ResourceKey> listKeys(String guid) {
+    ListResourceKeysForInstanceOptions options = new ListResourceKeysForInstanceOptions.Builder(guid).build();
+    return new ResourceKeysForInstancePager(client, options).getAll();
+  }
+
+  private long finish(Stage stage, long start) {
+    long now = System.nanoTime();
+    nanos.get(stage).addAndGet(now - start);
+    return now;
+  }
+
+  // Appends a record to the checkpoint file, one line per record: the instance GUID, the stage and the key ID.
+  private Record save(String guid, String stage, String keyId) {
+    Record record = new Record(stage, keyId);
+    if (checkpoint != null) {
+      ByteBuffer line = ByteBuffer.wrap((guid + "\t" + stage + "\t" + keyId + "\n").getBytes(StandardCharsets.UTF_8));
+      synchronized (fileLock) {
+        try (FileChannel channel = FileChannel.open(checkpoint, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND)) {
+          while (line.hasRemaining()) {
+            channel.write(line);
+          }
+          channel.force(false);
+        } catch (IOException e) {
+          throw new UncheckedIOException("Unable to write the checkpoint file " + checkpoint, e);
+        }
+      }
+    }
+    records.put(guid, record);
+    return record;
+  }
+
+  // Reads the checkpoint file; a partially written record at the end of the file is ignored.
+  private void load() {
+    String content;
+    try {
+      content = new String(Files.readAllBytes(checkpoint), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read the checkpoint file " + checkpoint, e);
+    }
+    int end = content.lastIndexOf('\n');
+    if (end < 0) {
+      return;
+    }
+    for (String line : content.substring(0, end).split("\n")) {
+      String[] fields = line.split("\t");
+      if (fields.length == 3) {
+        records.put(fields[0], new Record(fields[1], fields[2]));
+      }
+    }
+  }
+
+  private static final class Record {
+    private final String stage;
+    private final String keyId;
+
+    Record(String stage, String keyId) {
+      this.stage = stage;
+      this.keyId = keyId;
+    }
+  }
+}
@@ -0,0 +1,630 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.resource_controller.v2;
+
+import com.ibm.cloud.platform_services.resource_controller.v2.model.CancelLastopResourceInstanceOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.CreateResourceInstanceOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.GetResourceInstanceOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ListResourceInstancesOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstance;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstanceLastOperation;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstancesPager;
+import com.ibm.cloud.sdk.core.http.Response;
+import com.ibm.cloud.sdk.core.http.ServiceCallback;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ProvisioningOrchestrator tracks the asynchronous operations of many resource instances and completes a
+ * CompletableFuture for each of them when its last operation is no longer in progress.
+ *
+ * <p>
+ * The "createResourceInstance" requests are sent asynchronously, so {@link #provision} never blocks. All tracked
+ * operations are polled by a single background thread, each one with its own delay: the delay starts at
+ * "initialDelay" and is multiplied by "backoffMultiplier" after each poll that finds the operation still in progress,
+ * up to "maxDelay" (a "poll_after" hint of the operation is used instead, within the same bounds). When at least
+ * "groupThreshold" operations of the same resource group are due, they are polled with a single
+ * "listResourceInstances" request filtered by the resource group and by the oldest "updated_at" time of the
+ * instances; the instances missing from the list (e.g. because their operation failed, which the default state
+ * filter excludes) are polled with "getResourceInstance".
+ *
+ * <p>
+ * The future of an instance completes with the instance when its operation succeeds, and with a
+ * {@link ProvisioningException} when it fails. It completes with a TimeoutException after "timeout" milliseconds;
+ * the operation itself is not cancelled then. Cancelling the future (or calling {@link #cancel}) cancels the
+ * operation with "cancelLastopResourceInstance" the next time it is due, if the operation is cancelable.
+ */
+public class ProvisioningOrchestrator implements AutoCloseable {
+
+  /**
+   * ProvisioningException reports an operation that failed.
+   */
+  public static class ProvisioningException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient ResourceInstance instance;
+
+    /**
+     * Instantiates a new ProvisioningException.
+     *
+     * @param instance the resource instance whose last operation failed
+     */
+    public ProvisioningException(ResourceInstance instance) {
+      super("The " + instance.getLastOperation().getType() + " operation of the resource instance "
+          + instance.getId() + " failed: " + instance.getLastOperation().getDescription());
+      this.instance = instance;
+    }
+
+    /**
+     * Gets the resource instance whose last operation failed.
+     *
+     * @return the resource instance
+     */
+    public ResourceInstance getInstance() {
+      return instance;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private ResourceController client;
+    private long initialDelay = 2000;
+    private long maxDelay = 60000;
+    private double backoffMultiplier = 2;
+    private long timeout = 3600000;
+    private long tickInterval = 250;
+    private int groupThreshold = 2;
+    private long pageLimit = 100;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the ResourceController instance used to create and poll the resource instances
+     */
+    public Builder(ResourceController client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the delay, in milliseconds, before the first poll of an operation. Defaults to 2000.
+     *
+     * @param initialDelay the initial delay in milliseconds
+     * @return the ProvisioningOrchestrator builder
+     */
+    public Builder initialDelay(long initialDelay) {
+      this.initialDelay = initialDelay;
+      return this;
+    }
+
+    /**
+     * Set the maximum delay, in milliseconds, between two polls of an operation. Defaults to 60000.
+     *
+     * @param maxDelay the maximum delay in milliseconds
+     * @return the ProvisioningOrchestrator builder
+     */
+    public Builder maxDelay(long maxDelay) {
+      this.maxDelay = maxDelay;
+      return this;
+    }
+
+    /**
+     * Set the factor by which the delay of an operation grows after each poll. Defaults to 2.
+     *
+     * @param backoffMultiplier the backoff multiplier
+     * @return the ProvisioningOrchestrator builder
+     */
+    public Builder backoffMultiplier(double backoffMultiplier) {
+      this.backoffMultiplier = backoffMultiplier;
+      return this;
+    }
+
+    /**
+     * Set the time, in milliseconds, after which an operation stops being tracked. Defaults to 3600000.
+     *
+     * @param timeout the timeout in milliseconds
+     * @return the ProvisioningOrchestrator builder
+     */
+    public Builder timeout(long timeout) {
+      this.timeout = timeout;
+      return this;
+    }
+
+    /**
+     * Set the interval, in milliseconds, at which the background thread looks for operations that are due.
+     * Defaults to 250.
+     *
+     * @param tickInterval the tick interval in milliseconds
+     * @return the ProvisioningOrchestrator builder
+     */
+    public Builder tickInterval(long tickInterval) {
+      this.tickInterval = tickInterval;
+      return this;
+    }
+
+    /**
+     * Set the minimum number of due operations of a resource group that are polled with a single list request.
+     * Defaults to 2.
+     *
+     * @param groupThreshold the group threshold
+     * @return the ProvisioningOrchestrator builder
+     */
+    public Builder groupThreshold(int groupThreshold) {
+      this.groupThreshold = groupThreshold;
+      return this;
+    }
+
+    /**
+     * Set the number of resource instances per page of the list requests. Defaults to 100.
+     *
+     * @param pageLimit the number of resource instances per page
+     * @return the ProvisioningOrchestrator builder
+     */
+    public Builder pageLimit(long pageLimit) {
+      this.pageLimit = pageLimit;
+      return this;
+    }
+
+    /**
+     * Builds a ProvisioningOrchestrator and starts its background thread.
+     *
+     * @return the new ProvisioningOrchestrator instance
+     */
+    public ProvisioningOrchestrator build() {
+      return new ProvisioningOrchestrator(this);
+    }
+  }
+
+  private final ResourceController client;
+  private final long initialDelay;
+  private final long maxDelay;
+  private final double backoffMultiplier;
+  private final long timeout;
+  private final int groupThreshold;
+  private final long pageLimit;
+  private final ScheduledExecutorService scheduler;
+  private volatile Thread schedulerThread;
+  private volatile boolean closed;
+
+  // The tracked operations by instance ID, which are only accessed by the background thread.
+  private final Map<String, Operation> operations = new LinkedHashMap<>();
+  private final AtomicInteger tracked = new AtomicInteger();
+
+  private final AtomicLong createRequests = new AtomicLong();
+  private final AtomicLong getRequests = new AtomicLong();
+  private final AtomicLong listRequests = new AtomicLong();
+  private final AtomicLong cancelRequests = new AtomicLong();
+  private final AtomicLong succeeded = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+
+  protected ProvisioningOrchestrator(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.initialDelay >= 0, "initialDelay cannot be negative");
+    Validator.isTrue(builder.maxDelay >= builder.initialDelay, "maxDelay cannot be less than initialDelay");
+    Validator.isTrue(builder.backoffMultiplier >= 1, "backoffMultiplier cannot be less than 1");
+    Validator.isTrue(builder.timeout > 0, "timeout must be greater than zero");
+    Validator.isTrue(builder.tickInterval > 0, "tickInterval must be greater than zero");
+    Validator.isTrue(builder.groupThreshold > 0, "groupThreshold must be greater than zero");
+    Validator.isTrue(builder.pageLimit > 0, "pageLimit must be greater than zero");
+    this.client = builder.client;
+    this.initialDelay = builder.initialDelay;
+    this.maxDelay = builder.maxDelay;
+    this.backoffMultiplier = builder.backoffMultiplier;
+    this.timeout = builder.timeout;
+    this.groupThreshold = builder.groupThreshold;
+    this.pageLimit = builder.pageLimit;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "provisioning-orchestrator");
+      thread.setDaemon(true);
+      schedulerThread = thread;
+      return thread;
+    });
+    this.scheduler.scheduleWithFixedDelay(this::pollQuietly, builder.tickInterval, builder.tickInterval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates a resource instance and tracks its provisioning. This method doesn't wait for the
+   * "createResourceInstance" response.
+   *
+   * @param options the options of the "createResourceInstance" request
+   * @return a CompletableFuture that will be completed with the provisioned resource instance
+   */
+  public CompletableFuture<ResourceInstance> provision(CreateResourceInstanceOptions options) {
+    Validator.notNull(options, "options cannot be null");
+    checkOpen();
+    final CompletableFuture<ResourceInstance> future = new CompletableFuture<>();
+    final long deadline = System.currentTimeMillis() + timeout;
+    createRequests.incrementAndGet();
+    client.createResourceInstance(options).enqueue(new ServiceCallback<ResourceInstance>() {
+      @Override
+      public void onResponse(Response<ResourceInstance> response) {
+        submit(response.getResult(), future, deadline);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        failed.incrementAndGet();
+        future.completeExceptionally(e);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Tracks the last operation of a resource instance, e.g. as returned by "updateResourceInstance" or
+   * "getResourceInstance" after "deleteResourceInstance".
+   *
+   * @param instance the resource instance
+   * @return a CompletableFuture that will be completed with the resource instance once its last operation is done
+   */
+  public CompletableFuture<ResourceInstance> track(ResourceInstance instance) {
+    Validator.notNull(instance, "instance cannot be null");
+    Validator.notNull(instance.getId(), "instance ID cannot be null");
+    checkOpen();
+    CompletableFuture<ResourceInstance> future = new CompletableFuture<>();
+    submit(instance, future, System.currentTimeMillis() + timeout);
+    return future;
+  }
+
+  /**
+   * Cancels the tracked operation of a resource instance. The "cancelLastopResourceInstance" request is sent by the
+   * background thread the next time the operation is due. This method doesn't block, so it may be called from the
+   * dependent stages of the futures, which run on the background thread.
+   *
+   * @param instanceId the ID of the resource instance
+   * @return a CompletableFuture that will be completed with true if the operation was being tracked
+   */
+  public CompletableFuture<Boolean> cancel(final String instanceId) {
+    Validator.notNull(instanceId, "instanceId cannot be null");
+    checkOpen();
+    if (inScheduler()) {
+      return CompletableFuture.completedFuture(cancelTracked(instanceId));
+    }
+    final CompletableFuture<Boolean> found = new CompletableFuture<>();
+    try {
+      scheduler.execute(() -> found.complete(cancelTracked(instanceId)));
+    } catch (RejectedExecutionException e) {
+      // The orchestrator was closed in the meantime, which fails the tracked operations.
+      found.complete(false);
+    }
+    return found;
+  }
+
+  /**
+   * Stops the background thread. The futures of the operations that are still tracked complete with an
+   * IllegalStateException; the operations themselves are not cancelled. When called from the background thread
+   * (i.e. from a dependent stage of a future), this method doesn't wait for the background thread to stop, and the
+   * futures complete once the current stage returns.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      scheduler.execute(this::failAll);
+    } catch (RejectedExecutionException e) {
+      // Already closed.
+    }
+    scheduler.shutdown();
+    if (inScheduler()) {
+      return;
+    }
+    try {
+      scheduler.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Returns the number of operations being tracked.
+   * @return the number of tracked operations
+   */
+  public int getTracked() {
+    return tracked.get();
+  }
+
+  /**
+   * Returns the number of "createResourceInstance" requests sent.
+   * @return the number of create requests
+   */
+  public long getCreateRequests() {
+    return createRequests.get();
+  }
+
+  /**
+   * Returns the number of "getResourceInstance" requests sent.
+   * @return the number of get requests
+   */
+  public long getGetRequests() {
+    return getRequests.get();
+  }
+
+  /**
+   * Returns the number of "listResourceInstances" requests sent, one per page.
+   * @return the number of list requests
+   */
+  public long getListRequests() {
+    return listRequests.get();
+  }
+
+  /**
+   * Returns the number of "cancelLastopResourceInstance" requests sent.
+   * @return the number of cancel requests
+   */
+  public long getCancelRequests() {
+    return cancelRequests.get();
+  }
+
+  /**
+   * Returns the number of operations that succeeded.
+   * @return the number of succeeded operations
+   */
+  public long getSucceeded() {
+    return succeeded.get();
+  }
+
+  /**
+   * Returns the number of operations that failed, timed out or couldn't be started.
+   * @return the number of failed operations
+   */
+  public long getFailed() {
+    return failed.get();
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("The orchestrator has been closed");
+    }
+  }
+
+  private boolean inScheduler() {
+    return Thread.currentThread() == schedulerThread;
+  }
+
+  private boolean cancelTracked(String instanceId) {
+    Operation operation = operations.get(instanceId);
+    return operation != null && operation.future.cancel(false);
+  }
+
+  // Fails the operations that are still tracked; the last task of the background thread.
+  private void failAll() {
+    List<Operation> remaining = new ArrayList<>(operations.values());
+    operations.clear();
+    tracked.set(0);
+    for (Operation operation : remaining) {
+      operation.future.completeExceptionally(new IllegalStateException("The orchestrator was closed"));
+    }
+  }
+
+  // Hands an instance over to the background thread.
+  private void submit(ResourceInstance instance, CompletableFuture<ResourceInstance> future, long deadline) {
+    try {
+      scheduler.execute(() -> {
+        if (closed) {
+          future.completeExceptionally(new IllegalStateException("The orchestrator was closed"));
+          return;
+        }
+        Operation operation = new Operation(instance, future, deadline);
+        if (complete(operation, instance)) {
+          return;
+        }
+        Operation previous = operations.put(instance.getId(), operation);
+        if (previous != null) {
+          previous.future.completeExceptionally(
+              new IllegalStateException("A new operation of the resource instance is being tracked"));
+        } else {
+          tracked.incrementAndGet();
+        }
+        operation.delay = initialDelay;
+        operation.due = System.currentTimeMillis() + initialDelay;
+      });
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(new IllegalStateException("The orchestrator was closed"));
+    }
+  }
+
+  private void pollQuietly() {
+    try {
+      poll();
+    } catch (RuntimeException e) {
+      // The operations that couldn't be polled are polled again at the next tick.
+    }
+  }
+
+  // Polls the operations that are due, grouping them by resource group.
+  private void poll() {
+    if (closed) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    Map<String, List<Operation>> groups = new HashMap<>();
+    List<Operation> cancelled = new ArrayList<>();
+    for (Operation operation : operations.values()) {
+      if (operation.future.isCancelled()) {
+        cancelled.add(operation);
+      } else if (now >= operation.deadline) {
+        failed.incrementAndGet();
+        operation.future.completeExceptionally(new TimeoutException("The operation of the resource instance "
+            + operation.id + " was not done after " + timeout + " ms"));
+      } else if (now >= operation.due) {
+        groups.computeIfAbsent(String.valueOf(operation.resourceGroupId), k -> new ArrayList<Operation>())
+          .add(operation);
+      }
+    }
+    for (Operation operation : cancelled) {
+      cancelOperation(operation);
+    }
+    for (List<Operation> group : groups.values()) {
+      if (group.size() >= groupThreshold && group.get(0).resourceGroupId != null) {
+        pollGroup(group);
+      } else {
+        for (Operation operation : group) {
+          pollOne(operation);
+        }
+      }
+    }
+    // A future cancelled during this round is kept until its operation has been cancelled.
+    operations.values().removeIf(operation -> operation.future.isDone()
+        && (!operation.future.isCancelled() || operation.removed));
+    tracked.set(operations.size());
+  }
+
+  private void pollGroup(List<Operation> group) {
+    Date updatedFrom = null;
+    for (Operation operation : group) {
+      if (operation.updatedAt == null) {
+        updatedFrom = null;
+        break;
+      }
+      if (updatedFrom == null || operation.updatedAt.before(updatedFrom)) {
+        updatedFrom = operation.updatedAt;
+      }
+    }
+    ListResourceInstancesOptions.Builder options = new ListResourceInstancesOptions.Builder()
+      .resourceGroupId(group.get(0).resourceGroupId)
+      .limit(pageLimit);
+    if (updatedFrom != null) {
+      options.updatedFrom(DateTimeFormatter.ISO_INSTANT.format(updatedFrom.toInstant()));
+    }
+    Map<String, ResourceInstance> listed = new HashMap<>();
+    try {
+      ResourceInstancesPager pager = new ResourceInstancesPager(client, options.build());
+      while (pager.hasNext()) {
+        listRequests.incrementAndGet();
+        for (ResourceInstance instance : pager.getNext()) {
+          listed.put(instance.getId(), instance);
+        }
+      }
+    } catch (RuntimeException e) {
+      for (Operation operation : group) {
+        backoff(operation, null);
+      }
+      return;
+    }
+    for (Operation operation : group) {
+      ResourceInstance instance = listed.get(operation.id);
+      if (instance == null) {
+        pollOne(operation);
+      } else if (!complete(operation, instance)) {
+        backoff(operation, instance);
+      }
+    }
+  }
+
+  private void pollOne(Operation operation) {
+    ResourceInstance instance;
+    getRequests.incrementAndGet();
+    try {
+      instance = client.getResourceInstance(new GetResourceInstanceOptions.Builder(operation.id).build())
+        .execute().getResult();
+    } catch (NotFoundException e) {
+      failed.incrementAndGet();
+      operation.future.completeExceptionally(e);
+      return;
+    } catch (RuntimeException e) {
+      // Other failures are retried until the operation times out.
+      backoff(operation, null);
+      return;
+    }
+    if (!complete(operation, instance)) {
+      backoff(operation, instance);
+    }
+  }
+
+  private void cancelOperation(Operation operation) {
+    operation.removed = true;
+    if (Boolean.FALSE.equals(operation.cancelable)) {
+      return;
+    }
+    cancelRequests.incrementAndGet();
+    try {
+      client.cancelLastopResourceInstance(new CancelLastopResourceInstanceOptions.Builder(operation.id).build())
+        .execute();
+    } catch (RuntimeException e) {
+      // The operation may have completed in the meantime; the future has been cancelled in any case.
+    }
+  }
+
+  // Completes the future of an operation that is no longer in progress, and returns whether it was completed.
+  private boolean complete(Operation operation, ResourceInstance instance) {
+    ResourceInstanceLastOperation lastOperation = instance.getLastOperation();
+    String state = lastOperation != null ? lastOperation.getState() : null;
+    if (ResourceInstanceLastOperation.State.IN_PROGRESS.equals(state)) {
+      return false;
+    }
+    if (ResourceInstanceLastOperation.State.FAILED.equals(state)) {
+      failed.incrementAndGet();
+      operation.future.completeExceptionally(new ProvisioningException(instance));
+    } else {
+      succeeded.incrementAndGet();
+      operation.future.complete(instance);
+    }
+    return true;
+  }
+
+  private void backoff(Operation operation, ResourceInstance instance) {
+    long delay = (long) Math.min(maxDelay, operation.delay * backoffMultiplier);
+    if (instance != null) {
+      operation.update(instance);
+      Double pollAfter = instance.getLastOperation().getPollAfter();
+      if (pollAfter != null) {
+        delay = Math.max(initialDelay, Math.min(maxDelay, (long) (pollAfter * 1000)));
+      }
+    }
+    operation.delay = delay;
+    operation.due = System.currentTimeMillis() + delay;
+  }
+
+  private static final class Operation {
+    private final String id;
+    private final String resourceGroupId;
+    private final CompletableFuture<ResourceInstance> future;
+    private final long deadline;
+    private Date updatedAt;
+    private Boolean cancelable;
+    private long delay;
+    private long due;
+    private boolean removed;
+
+    Operation(ResourceInstance instance, CompletableFuture<ResourceInstance> future, long deadline) {
+      this.id = instance.getId();
+      this.resourceGroupId = instance.getResourceGroupId();
+      this.future = future;
+      this.deadline = deadline;
+      update(instance);
+    }
+
+    void update(ResourceInstance instance) {
+      this.updatedAt = instance.getUpdatedAt();
+      this.cancelable = instance.getLastOperation() != null ? instance.getLastOperation().isCancelable() : null;
+    }
+  }
+}
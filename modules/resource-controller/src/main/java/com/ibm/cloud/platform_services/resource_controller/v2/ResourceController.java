@@ -89,6 +89,90 @@ public class ResourceController extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://resource-controller.cloud.ibm.com";
 
+  private static final ResponseConverter<ResourceInstancesList> LIST_RESOURCE_INSTANCES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstancesList>() { }.getType());
+
+  private static final ResponseConverter<ResourceInstance> CREATE_RESOURCE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+
+  private static final ResponseConverter<ResourceInstance> GET_RESOURCE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_RESOURCE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ResourceInstance> UPDATE_RESOURCE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+
+  private static final ResponseConverter<ResourceAliasesList> LIST_RESOURCE_ALIASES_FOR_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAliasesList>() { }.getType());
+
+  private static final ResponseConverter<ResourceKeysList> LIST_RESOURCE_KEYS_FOR_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKeysList>() { }.getType());
+
+  private static final ResponseConverter<ResourceInstance> LOCK_RESOURCE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+
+  private static final ResponseConverter<ResourceInstance> UNLOCK_RESOURCE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+
+  private static final ResponseConverter<ResourceInstance> CANCEL_LASTOP_RESOURCE_INSTANCE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+
+  private static final ResponseConverter<ResourceKeysList> LIST_RESOURCE_KEYS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKeysList>() { }.getType());
+
+  private static final ResponseConverter<ResourceKey> CREATE_RESOURCE_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKey>() { }.getType());
+
+  private static final ResponseConverter<ResourceKey> GET_RESOURCE_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKey>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_RESOURCE_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ResourceKey> UPDATE_RESOURCE_KEY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKey>() { }.getType());
+
+  private static final ResponseConverter<ResourceBindingsList> LIST_RESOURCE_BINDINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBindingsList>() { }.getType());
+
+  private static final ResponseConverter<ResourceBinding> CREATE_RESOURCE_BINDING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBinding>() { }.getType());
+
+  private static final ResponseConverter<ResourceBinding> GET_RESOURCE_BINDING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBinding>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_RESOURCE_BINDING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ResourceBinding> UPDATE_RESOURCE_BINDING_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBinding>() { }.getType());
+
+  private static final ResponseConverter<ResourceAliasesList> LIST_RESOURCE_ALIASES_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAliasesList>() { }.getType());
+
+  private static final ResponseConverter<ResourceAlias> CREATE_RESOURCE_ALIAS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAlias>() { }.getType());
+
+  private static final ResponseConverter<ResourceAlias> GET_RESOURCE_ALIAS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAlias>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_RESOURCE_ALIAS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<ResourceAlias> UPDATE_RESOURCE_ALIAS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAlias>() { }.getType());
+
+  private static final ResponseConverter<ResourceBindingsList> LIST_RESOURCE_BINDINGS_FOR_ALIAS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBindingsList>() { }.getType());
+
+  private static final ResponseConverter<ReclamationsList> LIST_RECLAMATIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReclamationsList>() { }.getType());
+
+  private static final ResponseConverter<Reclamation> RUN_RECLAMATION_ACTION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Reclamation>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `ResourceController` client.
    * The default service name is used to configure the client instance.
@@ -180,8 +264,7 @@ public class ResourceController extends BaseService {
     if (listResourceInstancesOptions.updatedTo() != null) {
       builder.query("updated_to", String.valueOf(listResourceInstancesOptions.updatedTo()));
     }
-    ResponseConverter<ResourceInstancesList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstancesList>() { }.getType());
+    ResponseConverter<ResourceInstancesList> responseConverter = LIST_RESOURCE_INSTANCES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -233,8 +316,7 @@ public class ResourceController extends BaseService {
       contentJson.add("parameters", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(createResourceInstanceOptions.parameters()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+    ResponseConverter<ResourceInstance> responseConverter = CREATE_RESOURCE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -258,8 +340,7 @@ public class ResourceController extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ResourceInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+    ResponseConverter<ResourceInstance> responseConverter = GET_RESOURCE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -285,7 +366,7 @@ public class ResourceController extends BaseService {
     if (deleteResourceInstanceOptions.recursive() != null) {
       builder.query("recursive", String.valueOf(deleteResourceInstanceOptions.recursive()));
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_RESOURCE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -323,8 +404,7 @@ public class ResourceController extends BaseService {
       contentJson.addProperty("allow_cleanup", updateResourceInstanceOptions.allowCleanup());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+    ResponseConverter<ResourceInstance> responseConverter = UPDATE_RESOURCE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -356,8 +436,7 @@ public class ResourceController extends BaseService {
     if (listResourceAliasesForInstanceOptions.start() != null) {
       builder.query("start", String.valueOf(listResourceAliasesForInstanceOptions.start()));
     }
-    ResponseConverter<ResourceAliasesList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAliasesList>() { }.getType());
+    ResponseConverter<ResourceAliasesList> responseConverter = LIST_RESOURCE_ALIASES_FOR_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -387,8 +466,7 @@ public class ResourceController extends BaseService {
     if (listResourceKeysForInstanceOptions.start() != null) {
       builder.query("start", String.valueOf(listResourceKeysForInstanceOptions.start()));
     }
-    ResponseConverter<ResourceKeysList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKeysList>() { }.getType());
+    ResponseConverter<ResourceKeysList> responseConverter = LIST_RESOURCE_KEYS_FOR_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -412,8 +490,7 @@ public class ResourceController extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ResourceInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+    ResponseConverter<ResourceInstance> responseConverter = LOCK_RESOURCE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -437,8 +514,7 @@ public class ResourceController extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ResourceInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+    ResponseConverter<ResourceInstance> responseConverter = UNLOCK_RESOURCE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -462,8 +538,7 @@ public class ResourceController extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ResourceInstance> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceInstance>() { }.getType());
+    ResponseConverter<ResourceInstance> responseConverter = CANCEL_LASTOP_RESOURCE_INSTANCE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -509,8 +584,7 @@ public class ResourceController extends BaseService {
     if (listResourceKeysOptions.updatedTo() != null) {
       builder.query("updated_to", String.valueOf(listResourceKeysOptions.updatedTo()));
     }
-    ResponseConverter<ResourceKeysList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKeysList>() { }.getType());
+    ResponseConverter<ResourceKeysList> responseConverter = LIST_RESOURCE_KEYS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -552,8 +626,7 @@ public class ResourceController extends BaseService {
       contentJson.addProperty("role", createResourceKeyOptions.role());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceKey> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKey>() { }.getType());
+    ResponseConverter<ResourceKey> responseConverter = CREATE_RESOURCE_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -576,8 +649,7 @@ public class ResourceController extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ResourceKey> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKey>() { }.getType());
+    ResponseConverter<ResourceKey> responseConverter = GET_RESOURCE_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -599,7 +671,7 @@ public class ResourceController extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_RESOURCE_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -625,8 +697,7 @@ public class ResourceController extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("name", updateResourceKeyOptions.name());
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceKey> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceKey>() { }.getType());
+    ResponseConverter<ResourceKey> responseConverter = UPDATE_RESOURCE_KEY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -678,8 +749,7 @@ public class ResourceController extends BaseService {
     if (listResourceBindingsOptions.updatedTo() != null) {
       builder.query("updated_to", String.valueOf(listResourceBindingsOptions.updatedTo()));
     }
-    ResponseConverter<ResourceBindingsList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBindingsList>() { }.getType());
+    ResponseConverter<ResourceBindingsList> responseConverter = LIST_RESOURCE_BINDINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -729,8 +799,7 @@ public class ResourceController extends BaseService {
       contentJson.addProperty("role", createResourceBindingOptions.role());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceBinding> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBinding>() { }.getType());
+    ResponseConverter<ResourceBinding> responseConverter = CREATE_RESOURCE_BINDING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -757,8 +826,7 @@ public class ResourceController extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ResourceBinding> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBinding>() { }.getType());
+    ResponseConverter<ResourceBinding> responseConverter = GET_RESOURCE_BINDING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -783,7 +851,7 @@ public class ResourceController extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_RESOURCE_BINDING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -812,8 +880,7 @@ public class ResourceController extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("name", updateResourceBindingOptions.name());
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceBinding> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBinding>() { }.getType());
+    ResponseConverter<ResourceBinding> responseConverter = UPDATE_RESOURCE_BINDING_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -868,8 +935,7 @@ public class ResourceController extends BaseService {
     if (listResourceAliasesOptions.updatedTo() != null) {
       builder.query("updated_to", String.valueOf(listResourceAliasesOptions.updatedTo()));
     }
-    ResponseConverter<ResourceAliasesList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAliasesList>() { }.getType());
+    ResponseConverter<ResourceAliasesList> responseConverter = LIST_RESOURCE_ALIASES_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -911,8 +977,7 @@ public class ResourceController extends BaseService {
     contentJson.addProperty("source", createResourceAliasOptions.source());
     contentJson.addProperty("target", createResourceAliasOptions.target());
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceAlias> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAlias>() { }.getType());
+    ResponseConverter<ResourceAlias> responseConverter = CREATE_RESOURCE_ALIAS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -939,8 +1004,7 @@ public class ResourceController extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ResourceAlias> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAlias>() { }.getType());
+    ResponseConverter<ResourceAlias> responseConverter = GET_RESOURCE_ALIAS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -969,7 +1033,7 @@ public class ResourceController extends BaseService {
     if (deleteResourceAliasOptions.recursive() != null) {
       builder.query("recursive", String.valueOf(deleteResourceAliasOptions.recursive()));
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_RESOURCE_ALIAS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -998,8 +1062,7 @@ public class ResourceController extends BaseService {
     final JsonObject contentJson = new JsonObject();
     contentJson.addProperty("name", updateResourceAliasOptions.name());
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceAlias> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceAlias>() { }.getType());
+    ResponseConverter<ResourceAlias> responseConverter = UPDATE_RESOURCE_ALIAS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1031,8 +1094,7 @@ public class ResourceController extends BaseService {
     if (listResourceBindingsForAliasOptions.start() != null) {
       builder.query("start", String.valueOf(listResourceBindingsForAliasOptions.start()));
     }
-    ResponseConverter<ResourceBindingsList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceBindingsList>() { }.getType());
+    ResponseConverter<ResourceBindingsList> responseConverter = LIST_RESOURCE_BINDINGS_FOR_ALIAS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1063,8 +1125,7 @@ public class ResourceController extends BaseService {
     if (listReclamationsOptions.resourceGroupId() != null) {
       builder.query("resource_group_id", String.valueOf(listReclamationsOptions.resourceGroupId()));
     }
-    ResponseConverter<ReclamationsList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ReclamationsList>() { }.getType());
+    ResponseConverter<ReclamationsList> responseConverter = LIST_RECLAMATIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -1108,8 +1169,7 @@ public class ResourceController extends BaseService {
       contentJson.addProperty("comment", runReclamationActionOptions.comment());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Reclamation> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<Reclamation>() { }.getType());
+    ResponseConverter<Reclamation> responseConverter = RUN_RECLAMATION_ACTION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -0,0 +1,670 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.resource_controller.v2;
+
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ListResourceAliasesOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ListResourceBindingsOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ListResourceInstancesOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ListResourceKeysOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceAlias;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceAliasesPager;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceBinding;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceBindingsPager;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstance;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstancesPager;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceKey;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceKeysPager;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * ResourceInventory keeps an in-memory copy of the resource instances, resource keys, resource bindings or resource
+ * aliases of an account, keyed by GUID and indexed by resource group, plan, region, state and resource ID.
+ *
+ * <p>
+ * {@link #load()} lists all resources (with the default state filter of the list method). {@link #poll()} then lists
+ * only the resources updated between the watermark and the current time, using the "updated_from" and "updated_to"
+ * filters, and merges them into the inventory. The watermark is the time at which the last load started, or the end of
+ * the window of the last poll, less {@link Builder#clockSkew(long)}, so that the resources updated while a load runs
+ * or listed late are not missed; the resources listed again are unchanged and ignored. For resource instances,
+ * the instances removed within the same window are listed as well (with the "removed" state) and dropped from the
+ * inventory; the other resources are dropped when they are returned in the "removed" state. Removals that the list
+ * methods don't report are found by the next {@link #load()}, which reconciles the inventory with a full listing.
+ *
+ * <p>
+ * Each load or poll returns the resulting changes, and passes them to the listener of the builder, if any. The
+ * inventory may be read by several threads while it is being updated; {@link #load()} and {@link #poll()} are
+ * serialized.
+ *
+ * @param <T> the type of the resources: ResourceInstance, ResourceKey, ResourceBinding or ResourceAlias
+ */
+public class ResourceInventory<T> {
+
+  private static final String REMOVED = "removed";
+
+  /**
+   * The indexed fields of the resources. A field that a type of resource doesn't have isn't indexed.
+   */
+  public enum Index {
+    RESOURCE_GROUP_ID, RESOURCE_PLAN_ID, REGION_ID, STATE, RESOURCE_ID
+  }
+
+  /**
+   * The type of a change.
+   */
+  public enum ChangeType {
+    ADDED, UPDATED, REMOVED
+  }
+
+  /**
+   * A change of a resource.
+   *
+   * @param <T> the type of the resource
+   */
+  public static final class Change<T> {
+    private final ChangeType type;
+    private final String guid;
+    private final T resource;
+    private final T previous;
+
+    private Change(ChangeType type, String guid, T resource, T previous) {
+      this.type = type;
+      this.guid = guid;
+      this.resource = resource;
+      this.previous = previous;
+    }
+
+    /**
+     * Gets the type of the change.
+     *
+     * @return the type
+     */
+    public ChangeType getType() {
+      return type;
+    }
+
+    /**
+     * Gets the GUID of the resource.
+     *
+     * @return the GUID
+     */
+    public String getGuid() {
+      return guid;
+    }
+
+    /**
+     * Gets the resource after the change, or null if it was removed.
+     *
+     * @return the resource
+     */
+    public T getResource() {
+      return resource;
+    }
+
+    /**
+     * Gets the resource before the change, or null if it was added.
+     *
+     * @return the previous resource
+     */
+    public T getPrevious() {
+      return previous;
+    }
+  }
+
+  // The list method and the fields of a type of resource.
+  private abstract static class Kind<T> {
+    abstract List<T> list(ResourceController client, long limit, String updatedFrom, String updatedTo, String state);
+
+    abstract String guid(T resource);
+
+    abstract String state(T resource);
+
+    abstract String value(T resource, Index index);
+
+    boolean listsRemoved() {
+      return false;
+    }
+  }
+
+  private static final Kind<ResourceInstance> INSTANCES = new Kind<ResourceInstance>() {
+    @Override
+    List<ResourceInstance> list(ResourceController client, long limit, String updatedFrom, String updatedTo,
+        String state) {
+      ListResourceInstancesOptions.Builder options = new ListResourceInstancesOptions.Builder()
+        .limit(limit)
+        .updatedFrom(updatedFrom)
+        .updatedTo(updatedTo)
+        .state(state);
+      return new ResourceInstancesPager(client, options.build()).getAll();
+    }
+
+    @Override
+    String guid(ResourceInstance resource) {
+      return resource.getGuid();
+    }
+
+    @Override
+    String state(ResourceInstance resource) {
+      return resource.getState();
+    }
+
+    @Override
+    String value(ResourceInstance resource, Index index) {
+      switch (index) {
+        case RESOURCE_GROUP_ID:
+          return resource.getResourceGroupId();
+        case RESOURCE_PLAN_ID:
+          return resource.getResourcePlanId();
+        case REGION_ID:
+          return resource.getRegionId();
+        case STATE:
+          return resource.getState();
+        default:
+          return resource.getResourceId();
+      }
+    }
+
+    @Override
+    boolean listsRemoved() {
+      return true;
+    }
+  };
+
+  private static final Kind<ResourceKey> KEYS = new Kind<ResourceKey>() {
+    @Override
+    List<ResourceKey> list(ResourceController client, long limit, String updatedFrom, String updatedTo,
+        String state) {
+      ListResourceKeysOptions.Builder options = new ListResourceKeysOptions.Builder()
+        .limit(limit)
+        .updatedFrom(updatedFrom)
+        .updatedTo(updatedTo);
+      return new ResourceKeysPager(client, options.build()).getAll();
+    }
+
+    @Override
+    String guid(ResourceKey resource) {
+      return resource.getGuid();
+    }
+
+    @Override
+    String state(ResourceKey resource) {
+      return resource.getState();
+    }
+
+    @Override
+    String value(ResourceKey resource, Index index) {
+      switch (index) {
+        case RESOURCE_GROUP_ID:
+          return resource.getResourceGroupId();
+        case STATE:
+          return resource.getState();
+        case RESOURCE_ID:
+          return resource.getResourceId();
+        default:
+          return null;
+      }
+    }
+  };
+
+  private static final Kind<ResourceBinding> BINDINGS = new Kind<ResourceBinding>() {
+    @Override
+    List<ResourceBinding> list(ResourceController client, long limit, String updatedFrom, String updatedTo,
+        String state) {
+      ListResourceBindingsOptions.Builder options = new ListResourceBindingsOptions.Builder()
+        .limit(limit)
+        .updatedFrom(updatedFrom)
+        .updatedTo(updatedTo);
+      return new ResourceBindingsPager(client, options.build()).getAll();
+    }
+
+    @Override
+    String guid(ResourceBinding resource) {
+      return resource.getGuid();
+    }
+
+    @Override
+    String state(ResourceBinding resource) {
+      return resource.getState();
+    }
+
+    @Override
+    String value(ResourceBinding resource, Index index) {
+      switch (index) {
+        case RESOURCE_GROUP_ID:
+          return resource.getResourceGroupId();
+        case STATE:
+          return resource.getState();
+        case RESOURCE_ID:
+          return resource.getResourceId();
+        default:
+          return null;
+      }
+    }
+  };
+
+  private static final Kind<ResourceAlias> ALIASES = new Kind<ResourceAlias>() {
+    @Override
+    List<ResourceAlias> list(ResourceController client, long limit, String updatedFrom, String updatedTo,
+        String state) {
+      ListResourceAliasesOptions.Builder options = new ListResourceAliasesOptions.Builder()
+        .limit(limit)
+        .updatedFrom(updatedFrom)
+        .updatedTo(updatedTo);
+      return new ResourceAliasesPager(client, options.build()).getAll();
+    }
+
+    @Override
+    String guid(ResourceAlias resource) {
+      return resource.getGuid();
+    }
+
+    @Override
+    String state(ResourceAlias resource) {
+      return resource.getState();
+    }
+
+    @Override
+    String value(ResourceAlias resource, Index index) {
+      switch (index) {
+        case RESOURCE_GROUP_ID:
+          return resource.getResourceGroupId();
+        case STATE:
+          return resource.getState();
+        case RESOURCE_ID:
+          return resource.getResourceId();
+        default:
+          return null;
+      }
+    }
+  };
+
+  /**
+   * Instantiates a builder of an inventory of resource instances.
+   *
+   * @param client the ResourceController instance used to list the resource instances
+   * @return the ResourceInventory builder
+   */
+  public static Builder<ResourceInstance> instances(ResourceController client) {
+    return new Builder<>(client, INSTANCES);
+  }
+
+  /**
+   * Instantiates a builder of an inventory of resource keys.
+   *
+   * @param client the ResourceController instance used to list the resource keys
+   * @return the ResourceInventory builder
+   */
+  public static Builder<ResourceKey> keys(ResourceController client) {
+    return new Builder<>(client, KEYS);
+  }
+
+  /**
+   * Instantiates a builder of an inventory of resource bindings.
+   *
+   * @param client the ResourceController instance used to list the resource bindings
+   * @return the ResourceInventory builder
+   */
+  public static Builder<ResourceBinding> bindings(ResourceController client) {
+    return new Builder<>(client, BINDINGS);
+  }
+
+  /**
+   * Instantiates a builder of an inventory of resource aliases.
+   *
+   * @param client the ResourceController instance used to list the resource aliases
+   * @return the ResourceInventory builder
+   */
+  public static Builder<ResourceAlias> aliases(ResourceController client) {
+    return new Builder<>(client, ALIASES);
+  }
+
+  /**
+   * Builder.
+   *
+   * @param <T> the type of the resources
+   */
+  public static class Builder<T> {
+    private ResourceController client;
+    private Kind<T> kind;
+    private long pageLimit = 100;
+    private Consumer<List<Change<T>>> listener;
+    private Clock clock = Clock.systemUTC();
+    private long clockSkew = 300000;
+
+    private Builder(ResourceController client, Kind<T> kind) {
+      this.client = client;
+      this.kind = kind;
+    }
+
+    /**
+     * Set the number of resources per page. Defaults to 100.
+     *
+     * @param pageLimit the number of resources per page
+     * @return the ResourceInventory builder
+     */
+    public Builder<T> pageLimit(long pageLimit) {
+      this.pageLimit = pageLimit;
+      return this;
+    }
+
+    /**
+     * Set the listener to which the changes of each load or poll are passed, if there are any.
+     *
+     * @param listener the listener
+     * @return the ResourceInventory builder
+     */
+    public Builder<T> listener(Consumer<List<Change<T>>> listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Set the clock that determines the start of each load and the end of the polled window. Defaults to the system
+     * clock.
+     *
+     * @param clock the clock
+     * @return the ResourceInventory builder
+     */
+    public Builder<T> clock(Clock clock) {
+      this.clock = clock;
+      return this;
+    }
+
+    /**
+     * Set the margin, in milliseconds, by which each poll goes back before the start of the previous load or the end
+     * of the previous window, to allow for the difference between the local clock and that of the service. Defaults
+     * to 300000 (5 minutes).
+     *
+     * @param clockSkew the clock skew margin in milliseconds
+     * @return the ResourceInventory builder
+     */
+    public Builder<T> clockSkew(long clockSkew) {
+      this.clockSkew = clockSkew;
+      return this;
+    }
+
+    /**
+     * Builds a ResourceInventory.
+     *
+     * @return the new ResourceInventory instance
+     */
+    public ResourceInventory<T> build() {
+      return new ResourceInventory<>(this);
+    }
+  }
+
+  private final ResourceController client;
+  private final Kind<T> kind;
+  private final long pageLimit;
+  private final Consumer<List<Change<T>>> listener;
+  private final Clock clock;
+  private final long clockSkew;
+
+  private final Map<String, T> resources = new ConcurrentHashMap<>();
+  private final Map<Index, Map<String, Set<String>>> indexes = new EnumMap<>(Index.class);
+  private volatile Date watermark;
+
+  private final AtomicLong loads = new AtomicLong();
+  private final AtomicLong polls = new AtomicLong();
+  private final AtomicLong resourcesRetrieved = new AtomicLong();
+
+  protected ResourceInventory(Builder<T> builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.pageLimit > 0, "pageLimit must be greater than zero");
+    Validator.notNull(builder.clock, "clock cannot be null");
+    Validator.isTrue(builder.clockSkew >= 0, "clockSkew cannot be negative");
+    this.client = builder.client;
+    this.kind = builder.kind;
+    this.pageLimit = builder.pageLimit;
+    this.listener = builder.listener;
+    this.clock = builder.clock;
+    this.clockSkew = builder.clockSkew;
+    for (Index index : Index.values()) {
+      indexes.put(index, new ConcurrentHashMap<String, Set<String>>());
+    }
+  }
+
+  /**
+   * Lists all resources and reconciles the inventory with them.
+   *
+   * @return the changes
+   */
+  public synchronized List<Change<T>> load() {
+    Instant started = clock.instant();
+    List<T> listed = kind.list(client, pageLimit, null, null, null);
+    resourcesRetrieved.addAndGet(listed.size());
+    List<Change<T>> changes = new ArrayList<>();
+    Set<String> guids = new HashSet<>();
+    for (T resource : listed) {
+      String guid = kind.guid(resource);
+      if (guid != null && guids.add(guid)) {
+        put(guid, resource, changes);
+      }
+    }
+    for (String guid : new ArrayList<>(resources.keySet())) {
+      if (!guids.contains(guid)) {
+        remove(guid, changes);
+      }
+    }
+    watermark = new Date(started.toEpochMilli() - clockSkew);
+    loads.incrementAndGet();
+    return publish(changes);
+  }
+
+  /**
+   * Lists the resources updated since the watermark and merges them into the inventory. If nothing was loaded yet,
+   * all resources are loaded.
+   *
+   * @return the changes
+   */
+  public synchronized List<Change<T>> poll() {
+    if (watermark == null) {
+      return load();
+    }
+    String updatedFrom = DateTimeFormatter.ISO_INSTANT.format(watermark.toInstant());
+    Instant to = clock.instant();
+    String updatedTo = DateTimeFormatter.ISO_INSTANT.format(to);
+    List<T> listed = new ArrayList<>(kind.list(client, pageLimit, updatedFrom, updatedTo, null));
+    if (kind.listsRemoved()) {
+      listed.addAll(kind.list(client, pageLimit, updatedFrom, updatedTo, REMOVED));
+    }
+    resourcesRetrieved.addAndGet(listed.size());
+    List<Change<T>> changes = new ArrayList<>();
+    for (T resource : listed) {
+      String guid = kind.guid(resource);
+      if (guid != null) {
+        if (REMOVED.equals(kind.state(resource))) {
+          remove(guid, changes);
+        } else {
+          put(guid, resource, changes);
+        }
+      }
+    }
+    watermark = new Date(to.toEpochMilli() - clockSkew);
+    polls.incrementAndGet();
+    return publish(changes);
+  }
+
+  /**
+   * Gets a resource.
+   *
+   * @param guid the GUID of the resource
+   * @return the resource, or null
+   */
+  public T get(String guid) {
+    return resources.get(guid);
+  }
+
+  /**
+   * Gets the resources whose indexed field has a value.
+   *
+   * @param index the indexed field
+   * @param value the value
+   * @return the resources
+   */
+  public List<T> find(Index index, String value) {
+    Validator.notNull(index, "index cannot be null");
+    Set<String> guids = value != null ? indexes.get(index).get(value) : null;
+    List<T> found = new ArrayList<>();
+    if (guids != null) {
+      for (String guid : guids) {
+        T resource = resources.get(guid);
+        if (resource != null && value.equals(kind.value(resource, index))) {
+          found.add(resource);
+        }
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Gets the values of an indexed field and the number of resources with each of them.
+   *
+   * @param index the indexed field
+   * @return the number of resources of each value
+   */
+  public Map<String, Integer> count(Index index) {
+    Validator.notNull(index, "index cannot be null");
+    Map<String, Integer> counts = new HashMap<>();
+    for (Map.Entry<String, Set<String>> entry : indexes.get(index).entrySet()) {
+      if (!entry.getValue().isEmpty()) {
+        counts.put(entry.getKey(), entry.getValue().size());
+      }
+    }
+    return counts;
+  }
+
+  /**
+   * Gets all resources.
+   *
+   * @return the resources
+   */
+  public List<T> getAll() {
+    return new ArrayList<>(resources.values());
+  }
+
+  /**
+   * Gets the number of resources.
+   *
+   * @return the number of resources
+   */
+  public int size() {
+    return resources.size();
+  }
+
+  /**
+   * Gets the time from which the next poll lists the resources: the start of the last load, or the end of the window
+   * of the last poll, less the clock skew margin.
+   *
+   * @return the watermark, or null if nothing was loaded
+   */
+  public Date getWatermark() {
+    Date current = watermark;
+    return current != null ? new Date(current.getTime()) : null;
+  }
+
+  /**
+   * Gets the number of full loads.
+   *
+   * @return the number of loads
+   */
+  public long getLoads() {
+    return loads.get();
+  }
+
+  /**
+   * Gets the number of polls.
+   *
+   * @return the number of polls
+   */
+  public long getPolls() {
+    return polls.get();
+  }
+
+  /**
+   * Gets the number of resources listed by the loads and polls.
+   *
+   * @return the number of resources retrieved
+   */
+  public long getResourcesRetrieved() {
+    return resourcesRetrieved.get();
+  }
+
+  private void put(String guid, T resource, List<Change<T>> changes) {
+    T previous = resources.put(guid, resource);
+    if (previous == null) {
+      index(guid, resource);
+      changes.add(new Change<>(ChangeType.ADDED, guid, resource, null));
+    } else if (!previous.equals(resource)) {
+      unindex(guid, previous);
+      index(guid, resource);
+      changes.add(new Change<>(ChangeType.UPDATED, guid, resource, previous));
+    }
+  }
+
+  private void remove(String guid, List<Change<T>> changes) {
+    T previous = resources.remove(guid);
+    if (previous != null) {
+      unindex(guid, previous);
+      changes.add(new Change<T>(ChangeType.REMOVED, guid, null, previous));
+    }
+  }
+
+  private void index(String guid, T resource) {
+    for (Index index : Index.values()) {
+      String value = kind.value(resource, index);
+      if (value != null) {
+        indexes.get(index).computeIfAbsent(value, k -> ConcurrentHashMap.<String>newKeySet()).add(guid);
+      }
+    }
+  }
+
+  private void unindex(String guid, T resource) {
+    for (Index index : Index.values()) {
+      String value = kind.value(resource, index);
+      if (value != null) {
+        Map<String, Set<String>> postings = indexes.get(index);
+        Set<String> guids = postings.get(value);
+        if (guids != null) {
+          guids.remove(guid);
+          if (guids.isEmpty()) {
+            postings.remove(value);
+          }
+        }
+      }
+    }
+  }
+
+  private List<Change<T>> publish(List<Change<T>> changes) {
+    List<Change<T>> published = Collections.unmodifiableList(changes);
+    if (listener != null && !changes.isEmpty()) {
+      listener.accept(published);
+    }
+    return published;
+  }
+}
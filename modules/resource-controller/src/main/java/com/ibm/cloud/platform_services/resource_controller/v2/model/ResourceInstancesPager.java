@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.resource_controller.v2.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.resource_controller.v2.ResourceController;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * ResourceInstancesPager can be used to simplify the use of the "listResourceInstances" method.
  */
-public class ResourceInstancesPager {
+public class ResourceInstancesPager implements Pager<ResourceInstance> {
   private static class PageContext {
     private String next;
     public String getNext() {
@@ -0,0 +1,254 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.resource_controller.v2;
+
+import com.ibm.cloud.platform_services.resource_controller.v2.KeyRotator.CredentialHandler;
+import com.ibm.cloud.platform_services.resource_controller.v2.KeyRotator.Result;
+import com.ibm.cloud.platform_services.resource_controller.v2.KeyRotator.Stage;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstance;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceKey;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the KeyRotator class.
+ */
+public class KeyRotatorTest {
+
+  private static final Pattern NAME = Pattern.compile("\"name\":\\s*\"([^\"]*)\"");
+  private static final Pattern SOURCE = Pattern.compile("\"source\":\\s*\"([^\"]*)\"");
+
+  protected MockWebServer server;
+  protected ResourceController resourceControllerService;
+
+  // The keys of each instance on the mock server, by instance GUID and key ID.
+  private Map<String, Map<String, String>> keys;
+  private Map<String, String> regions;
+  private Map<String, AtomicInteger> active;
+  private Map<String, Integer> maxActive;
+  private Map<String, AtomicInteger> creates;
+  private AtomicInteger nextKey;
+
+  private List<ResourceInstance> instances(String region, String... guids) {
+    List<ResourceInstance> instances = new ArrayList<>();
+    for (String guid : guids) {
+      regions.put(guid, region);
+      Map<String, String> instanceKeys = new ConcurrentHashMap<>();
+      for (int i = 0; i < 2; i++) {
+        String id = "old-" + guid + "-" + i;
+        instanceKeys.put(id, key(id, "old", guid));
+      }
+      keys.put(guid, instanceKeys);
+      instances.add(GsonSingleton.getGson().fromJson("{\"id\": \"crn-" + guid + "\", \"guid\": \"" + guid
+          + "\", \"name\": \"" + guid + "\", \"region_id\": \"" + region + "\"}", ResourceInstance.class));
+    }
+    return instances;
+  }
+
+  private static String key(String id, String name, String guid) {
+    return "{\"id\": \"" + id + "\", \"guid\": \"" + id + "\", \"name\": \"" + name + "\", \"source_crn\": \"crn-"
+      + guid + "\", \"state\": \"active\", \"credentials\": {\"apikey\": \"secret-" + id + "\"}}";
+  }
+
+  private MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+    HttpUrl url = request.getRequestUrl();
+    MockResponse response = new MockResponse().setHeader("Content-type", "application/json");
+    if (url.pathSize() == 4) {
+      StringBuilder body = new StringBuilder();
+      for (String key : keys.get(url.pathSegments().get(2)).values()) {
+        body.append(body.length() > 0 ? ", " : "").append(key);
+      }
+      return response.setBody("{\"rows_count\": 0, \"next_url\": null, \"resources\": [" + body + "]}");
+    }
+    if (request.getMethod().equals("POST")) {
+      String body = request.getBody().readUtf8();
+      Matcher name = NAME.matcher(body);
+      Matcher source = SOURCE.matcher(body);
+      name.find();
+      source.find();
+      String guid = source.group(1);
+      String region = regions.get(guid);
+      int concurrent = active.computeIfAbsent(region, k -> new AtomicInteger()).incrementAndGet();
+      maxActive.merge(region, concurrent, Math::max);
+      Thread.sleep(20);
+      active.get(region).decrementAndGet();
+      creates.computeIfAbsent(guid, k -> new AtomicInteger()).incrementAndGet();
+      String id = "new-" + nextKey.incrementAndGet();
+      String key = key(id, name.group(1), guid);
+      keys.get(guid).put(id, key);
+      return response.setResponseCode(201).setBody(key);
+    }
+    String id = url.pathSegments().get(2);
+    for (Map<String, String> instanceKeys : keys.values()) {
+      if (instanceKeys.remove(id) != null) {
+        return response.setResponseCode(204);
+      }
+    }
+    return response.setResponseCode(404).setBody("{\"message\": \"not found\"}");
+  }
+
+  @Test
+  public void testRotate() throws Throwable {
+    List<ResourceInstance> instances = instances("us-south", "a", "b", "c", "d", "e", "f");
+    instances.addAll(instances("eu-de", "g", "h"));
+    final Map<String, ResourceKey> distributed = new ConcurrentHashMap<>();
+    KeyRotator rotator = new KeyRotator.Builder(resourceControllerService, new CredentialHandler() {
+      @Override
+      public void distribute(ResourceInstance instance, ResourceKey key) {
+        distributed.put(instance.getGuid(), key);
+      }
+    }).maxConcurrencyPerRegion(2).keyName(instance -> "rotated-" + instance.getName()).build();
+
+    Result result = rotator.rotate(instances);
+    assertEquals(result.getRotated().size(), 8);
+    assertTrue(result.getSkipped().isEmpty());
+    assertTrue(result.getFailures().isEmpty());
+    for (ResourceInstance instance : instances) {
+      Map<String, String> remaining = keys.get(instance.getGuid());
+      ResourceKey key = distributed.get(instance.getGuid());
+      assertEquals(remaining.keySet(), Collections.singleton(key.getId()));
+      assertEquals(key.getName(), "rotated-" + instance.getName());
+      assertEquals(key.getCredentials().getApikey(), "secret-" + key.getId());
+    }
+    assertEquals(rotator.getKeysDeleted(), 16);
+    for (Stage stage : Stage.values()) {
+      assertEquals(rotator.getCompleted(stage), 8);
+      assertTrue(rotator.getThroughput(stage) > 0);
+    }
+    assertTrue(rotator.getStageTime(Stage.CREATE) >= 20 * 8 / 4);
+    // At most 2 instances of each region were rotated at a time.
+    assertTrue(maxActive.get("us-south") <= 2);
+    assertTrue(maxActive.get("eu-de") <= 2);
+    assertEquals(rotator.rotate(Collections.<ResourceInstance>emptyList()).getRotated().size(), 0);
+  }
+
+  @Test
+  public void testResume() throws Throwable {
+    Path checkpoint = Files.createTempFile("key-rotator", ".checkpoint");
+    try {
+      List<ResourceInstance> instances = instances("us-south", "a", "b", "c");
+      final List<String> distributed = Collections.synchronizedList(new ArrayList<String>());
+      KeyRotator rotator = new KeyRotator.Builder(resourceControllerService, new CredentialHandler() {
+        @Override
+        public void distribute(ResourceInstance instance, ResourceKey key) {
+          if (instance.getGuid().equals("c")) {
+            throw new IllegalStateException("c is unreachable");
+          }
+          distributed.add(key.getId());
+        }
+
+        @Override
+        public boolean verify(ResourceInstance instance, ResourceKey key) {
+          return !instance.getGuid().equals("b");
+        }
+      }).checkpoint(checkpoint).build();
+
+      Result result = rotator.rotate(instances);
+      assertEquals(result.getRotated(), Arrays.asList("a"));
+      assertEquals(result.getFailures().keySet().size(), 2);
+      assertTrue(result.getFailures().get("b").getMessage().contains("could not be verified"));
+      assertEquals(result.getFailures().get("c").getMessage(), "c is unreachable");
+      // The old keys of b and c were kept.
+      assertEquals(keys.get("b").size(), 3);
+      assertEquals(keys.get("c").size(), 3);
+      assertEquals(rotator.getCompleted(Stage.CREATE), 3);
+      assertEquals(rotator.getCompleted(Stage.VERIFY), 1);
+
+      // A partially written record is ignored when the checkpoint file is read.
+      Files.write(checkpoint, "b\tDONE".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+      distributed.clear();
+      KeyRotator resumed = new KeyRotator.Builder(resourceControllerService, new CredentialHandler() {
+        @Override
+        public void distribute(ResourceInstance instance, ResourceKey key) {
+          distributed.add(key.getId());
+        }
+      }).checkpoint(checkpoint).build();
+      result = resumed.rotate(instances);
+      assertEquals(result.getSkipped(), Arrays.asList("a"));
+      assertEquals(result.getRotated().size(), 2);
+      // The keys created by the first run were distributed instead of creating new keys.
+      assertEquals(creates.get("b").get(), 1);
+      assertEquals(creates.get("c").get(), 1);
+      assertEquals(distributed.size(), 2);
+      assertEquals(resumed.getCompleted(Stage.CREATE), 0);
+      assertEquals(resumed.getCompleted(Stage.DELETE), 2);
+      for (String guid : new String[] {"a", "b", "c"}) {
+        assertEquals(keys.get(guid).size(), 1);
+        assertTrue(keys.get(guid).keySet().iterator().next().startsWith("new-"));
+      }
+      List<String> lines = Files.readAllLines(checkpoint, StandardCharsets.UTF_8);
+      assertTrue(lines.contains("c\tDONE\t" + keys.get("c").keySet().iterator().next()));
+    } finally {
+      Files.delete(checkpoint);
+    }
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    keys = new ConcurrentHashMap<>();
+    regions = new ConcurrentHashMap<>();
+    active = new ConcurrentHashMap<>();
+    maxActive = new ConcurrentHashMap<>();
+    creates = new ConcurrentHashMap<>();
+    nextKey = new AtomicInteger();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+        return KeyRotatorTest.this.dispatch(request);
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    resourceControllerService = ResourceController.newInstance("testService");
+    resourceControllerService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    resourceControllerService = null;
+  }
+}
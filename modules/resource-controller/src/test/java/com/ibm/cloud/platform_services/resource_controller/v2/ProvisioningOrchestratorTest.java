@@ -0,0 +1,292 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.resource_controller.v2;
+
+import com.ibm.cloud.platform_services.resource_controller.v2.ProvisioningOrchestrator.ProvisioningException;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.CreateResourceInstanceOptions;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstance;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the ProvisioningOrchestrator class.
+ */
+public class ProvisioningOrchestratorTest {
+
+  private static final Pattern NAME = Pattern.compile("\"name\":\\s*\"([^\"]*)\"");
+  private static final Pattern RESOURCE_GROUP = Pattern.compile("\"resource_group\":\\s*\"([^\"]*)\"");
+
+  protected MockWebServer server;
+  protected ResourceController resourceControllerService;
+
+  // The instances created on the mock server, by ID.
+  private Map<String, Instance> instances;
+  private AtomicInteger cancelRequests;
+
+  private static final class Instance {
+    private final String name;
+    private final String resourceGroupId;
+    private int remainingPolls;
+    private String state = "provisioning";
+    private String operationState = "in progress";
+
+    Instance(String name, String resourceGroupId) {
+      this.name = name;
+      this.resourceGroupId = resourceGroupId;
+      this.remainingPolls = name.startsWith("slow") ? Integer.MAX_VALUE : 2;
+    }
+
+    // The operation progresses each time the instance is retrieved.
+    synchronized String observe() {
+      if (--remainingPolls == 0) {
+        state = name.startsWith("fail") ? "failed" : "active";
+        operationState = name.startsWith("fail") ? "failed" : "succeeded";
+      }
+      return toJson();
+    }
+
+    synchronized String toJson() {
+      return "{\"id\": \"id-" + name + "\", \"guid\": \"guid-" + name + "\", \"name\": \"" + name
+        + "\", \"resource_group_id\": \"" + resourceGroupId + "\", \"state\": \"" + state
+        + "\", \"updated_at\": \"2026-01-01T00:00:00Z\", \"last_operation\": {\"type\": \"create\", \"state\": \""
+        + operationState + "\", \"async\": true, \"cancelable\": true, \"description\": \"" + name + "\"}}";
+    }
+  }
+
+  private static CreateResourceInstanceOptions create(String name, String resourceGroup) {
+    return new CreateResourceInstanceOptions.Builder(name, "us-south", resourceGroup, "plan").build();
+  }
+
+  private MockResponse dispatch(RecordedRequest request) {
+    HttpUrl url = request.getRequestUrl();
+    MockResponse response = new MockResponse().setHeader("Content-type", "application/json");
+    if (url.pathSize() == 2 && request.getMethod().equals("POST")) {
+      String body = request.getBody().readUtf8();
+      Matcher name = NAME.matcher(body);
+      Matcher resourceGroup = RESOURCE_GROUP.matcher(body);
+      name.find();
+      resourceGroup.find();
+      if (name.group(1).startsWith("bad")) {
+        return response.setResponseCode(400).setBody("{\"message\": \"bad request\"}");
+      }
+      Instance instance = new Instance(name.group(1), resourceGroup.group(1));
+      instances.put("id-" + instance.name, instance);
+      return response.setResponseCode(202).setBody(instance.toJson());
+    }
+    if (url.pathSize() == 2) {
+      StringBuilder body = new StringBuilder();
+      for (Instance instance : new LinkedHashMap<>(instances).values()) {
+        boolean listed;
+        synchronized (instance) {
+          listed = instance.resourceGroupId.equals(url.queryParameter("resource_group_id"))
+            && (instance.state.equals("active") || instance.state.equals("provisioning"));
+        }
+        if (listed) {
+          body.append(body.length() > 0 ? ", " : "").append(instance.observe());
+        }
+      }
+      return response.setBody("{\"rows_count\": 0, \"next_url\": null, \"resources\": [" + body + "]}");
+    }
+    Instance instance = instances.get(url.pathSegments().get(2));
+    if (instance == null) {
+      return response.setResponseCode(404).setBody("{\"message\": \"not found\"}");
+    }
+    if (request.getMethod().equals("DELETE")) {
+      cancelRequests.incrementAndGet();
+      synchronized (instance) {
+        instance.state = "removed";
+        instance.operationState = "failed";
+      }
+      return response.setBody(instance.toJson());
+    }
+    return response.setBody(instance.observe());
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10000;
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the orchestrator");
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  public void testProvision() throws Throwable {
+    try (ProvisioningOrchestrator orchestrator = new ProvisioningOrchestrator.Builder(resourceControllerService)
+        .initialDelay(50)
+        .maxDelay(200)
+        .tickInterval(10)
+        .build()) {
+      Map<String, CompletableFuture<ResourceInstance>> futures = new LinkedHashMap<>();
+      for (String name : new String[] {"a", "b", "c", "fail"}) {
+        futures.put(name, orchestrator.provision(create(name, "rg1")));
+      }
+      futures.put("d", orchestrator.provision(create("d", "rg2")));
+
+      for (String name : new String[] {"a", "b", "c", "d"}) {
+        ResourceInstance instance = futures.get(name).get(10, TimeUnit.SECONDS);
+        assertEquals(instance.getName(), name);
+        assertEquals(instance.getState(), "active");
+        assertEquals(instance.getLastOperation().getState(), "succeeded");
+      }
+      try {
+        futures.get("fail").get(10, TimeUnit.SECONDS);
+        fail("Expected a ProvisioningException");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof ProvisioningException);
+        assertEquals(((ProvisioningException) e.getCause()).getInstance().getState(), "failed");
+      }
+      assertEquals(orchestrator.getCreateRequests(), 5);
+      assertEquals(orchestrator.getSucceeded(), 4);
+      assertEquals(orchestrator.getFailed(), 1);
+      // The instances of rg1 were polled together, and the instance of rg2 individually.
+      assertTrue(orchestrator.getListRequests() > 0);
+      assertTrue(orchestrator.getGetRequests() >= 2);
+      assertTrue(orchestrator.getGetRequests() + orchestrator.getListRequests() < 5 * 2);
+
+      // An instance whose last operation is done completes immediately.
+      ResourceInstance done = futures.get("a").get();
+      assertSame(orchestrator.track(done).get(10, TimeUnit.SECONDS), done);
+      assertEquals(orchestrator.getCancelRequests(), 0);
+      assertFalse(orchestrator.cancel("id-a").get(10, TimeUnit.SECONDS));
+
+      // A create request that fails completes the future exceptionally.
+      try {
+        orchestrator.provision(create("bad", "rg1")).get(10, TimeUnit.SECONDS);
+        fail("Expected an ExecutionException");
+      } catch (ExecutionException e) {
+        assertNotNull(e.getCause());
+      }
+    }
+  }
+
+  @Test
+  public void testCancelAndTimeout() throws Throwable {
+    final ProvisioningOrchestrator orchestrator = new ProvisioningOrchestrator.Builder(resourceControllerService)
+        .initialDelay(20)
+        .tickInterval(10)
+        .timeout(2000)
+        .build();
+    CompletableFuture<ResourceInstance> cancelled = orchestrator.provision(create("slow1", "rg1"));
+    CompletableFuture<ResourceInstance> timedOut = orchestrator.provision(create("slow2", "rg1"));
+    await(() -> orchestrator.getTracked() == 2);
+    assertTrue(orchestrator.cancel("id-slow1").get(10, TimeUnit.SECONDS));
+    assertTrue(cancelled.isCancelled());
+    assertFalse(orchestrator.cancel("id-unknown").get(10, TimeUnit.SECONDS));
+    await(() -> orchestrator.getCancelRequests() == 1);
+    try {
+      timedOut.get(10, TimeUnit.SECONDS);
+      fail("Expected a TimeoutException");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof TimeoutException);
+    }
+    assertEquals(cancelRequests.get(), 1);
+    assertEquals(orchestrator.getFailed(), 1);
+
+    // The operations still tracked when the orchestrator is closed fail.
+    CompletableFuture<ResourceInstance> open = orchestrator.provision(create("slow3", "rg1"));
+    await(() -> orchestrator.getTracked() == 1);
+    orchestrator.close();
+    try {
+      open.get(10, TimeUnit.SECONDS);
+      fail("Expected an IllegalStateException");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    try {
+      orchestrator.provision(create("late", "rg1"));
+      fail("Expected an IllegalStateException");
+    } catch (IllegalStateException e) {
+      assertTrue(e.getMessage().contains("closed"));
+    }
+  }
+
+  @Test
+  public void testCallbacksOnBackgroundThread() throws Throwable {
+    final ProvisioningOrchestrator orchestrator = new ProvisioningOrchestrator.Builder(resourceControllerService)
+        .initialDelay(20)
+        .tickInterval(10)
+        .build();
+    CompletableFuture<ResourceInstance> slow = orchestrator.provision(create("slow1", "rg1"));
+    // The future of "a" completes on the background thread, which runs the dependent stage.
+    CompletableFuture<Boolean> cancelled = orchestrator.provision(create("a", "rg2"))
+        .thenCompose(instance -> orchestrator.cancel("id-slow1"));
+    assertTrue(cancelled.get(10, TimeUnit.SECONDS));
+    assertTrue(slow.isCancelled());
+    await(() -> orchestrator.getCancelRequests() == 1);
+
+    // The orchestrator keeps polling, and may be closed from a dependent stage without waiting for itself.
+    CompletableFuture<ResourceInstance> open = orchestrator.provision(create("slow2", "rg1"));
+    CompletableFuture<Void> closed = orchestrator.provision(create("b", "rg2")).thenRun(orchestrator::close);
+    closed.get(10, TimeUnit.SECONDS);
+    try {
+      open.get(10, TimeUnit.SECONDS);
+      fail("Expected an IllegalStateException");
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    assertEquals(orchestrator.getTracked(), 0);
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    instances = new ConcurrentHashMap<>();
+    cancelRequests = new AtomicInteger();
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return ProvisioningOrchestratorTest.this.dispatch(request);
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    resourceControllerService = ResourceController.newInstance("testService");
+    resourceControllerService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    resourceControllerService = null;
+  }
+}
@@ -13,6 +13,7 @@
 
 package com.ibm.cloud.platform_services.resource_controller.v2;
 
+import com.ibm.cloud.platform_services.common.AsyncPager;
 import com.ibm.cloud.platform_services.resource_controller.v2.ResourceController;
 import com.ibm.cloud.platform_services.resource_controller.v2.model.CancelLastopResourceInstanceOptions;
 import com.ibm.cloud.platform_services.resource_controller.v2.model.CreateResourceAliasOptions;
@@ -76,6 +77,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -251,6 +254,92 @@ public class ResourceControllerTest {
     assertEquals(allResults.size(), 2);
   }
   
+  // Test the listResourceInstances operation using the ResourceInstancesPager.stream() method
+  @Test
+  public void testListResourceInstancesWithPagerStream() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"total_count\":2,\"limit\":1,\"next_url\":\"https://myhost.com/somePath?start=1\",\"resources\":[{\"id\":\"id\",\"guid\":\"guid\",\"url\":\"url\",\"created_at\":\"2019-01-01T12:00:00.000Z\",\"updated_at\":\"2019-01-01T12:00:00.000Z\",\"deleted_at\":\"2019-01-01T12:00:00.000Z\",\"created_by\":\"createdBy\",\"updated_by\":\"updatedBy\",\"deleted_by\":\"deletedBy\",\"scheduled_reclaim_at\":\"2019-01-01T12:00:00.000Z\",\"restored_at\":\"2019-01-01T12:00:00.000Z\",\"restored_by\":\"restoredBy\",\"scheduled_reclaim_by\":\"scheduledReclaimBy\",\"name\":\"name\",\"region_id\":\"regionId\",\"account_id\":\"accountId\",\"reseller_channel_id\":\"resellerChannelId\",\"resource_plan_id\":\"resourcePlanId\",\"resource_group_id\":\"resourceGroupId\",\"resource_group_crn\":\"resourceGroupCrn\",\"target_crn\":\"targetCrn\",\"onetime_credentials\":true,\"parameters\":{\"anyKey\":\"anyValue\"},\"allow_cleanup\":true,\"crn\":\"crn\",\"state\":\"active\",\"type\":\"type\",\"sub_type\":\"subType\",\"resource_id\":\"resourceId\",\"dashboard_url\":\"dashboardUrl\",\"last_operation\":{\"type\":\"type\",\"state\":\"in progress\",\"sub_type\":\"subType\",\"async\":false,\"description\":\"description\",\"reason_code\":\"reasonCode\",\"poll_after\":9,\"cancelable\":true,\"poll\":true},\"resource_aliases_url\":\"resourceAliasesUrl\",\"resource_bindings_url\":\"resourceBindingsUrl\",\"resource_keys_url\":\"resourceKeysUrl\",\"plan_history\":[{\"resource_plan_id\":\"resourcePlanId\",\"start_date\":\"2019-01-01T12:00:00.000Z\",\"requestor_id\":\"requestorId\"}],\"migrated\":true,\"extensions\":{\"anyKey\":\"anyValue\"},\"controlled_by\":\"controlledBy\",\"locked\":true}]}";
+    String mockResponsePage2 = "{\"total_count\":2,\"limit\":1,\"resources\":[{\"id\":\"id\",\"guid\":\"guid\",\"url\":\"url\",\"created_at\":\"2019-01-01T12:00:00.000Z\",\"updated_at\":\"2019-01-01T12:00:00.000Z\",\"deleted_at\":\"2019-01-01T12:00:00.000Z\",\"created_by\":\"createdBy\",\"updated_by\":\"updatedBy\",\"deleted_by\":\"deletedBy\",\"scheduled_reclaim_at\":\"2019-01-01T12:00:00.000Z\",\"restored_at\":\"2019-01-01T12:00:00.000Z\",\"restored_by\":\"restoredBy\",\"scheduled_reclaim_by\":\"scheduledReclaimBy\",\"name\":\"name\",\"region_id\":\"regionId\",\"account_id\":\"accountId\",\"reseller_channel_id\":\"resellerChannelId\",\"resource_plan_id\":\"resourcePlanId\",\"resource_group_id\":\"resourceGroupId\",\"resource_group_crn\":\"resourceGroupCrn\",\"target_crn\":\"targetCrn\",\"onetime_credentials\":true,\"parameters\":{\"anyKey\":\"anyValue\"},\"allow_cleanup\":true,\"crn\":\"crn\",\"state\":\"active\",\"type\":\"type\",\"sub_type\":\"subType\",\"resource_id\":\"resourceId\",\"dashboard_url\":\"dashboardUrl\",\"last_operation\":{\"type\":\"type\",\"state\":\"in progress\",\"sub_type\":\"subType\",\"async\":false,\"description\":\"description\",\"reason_code\":\"reasonCode\",\"poll_after\":9,\"cancelable\":true,\"poll\":true},\"resource_aliases_url\":\"resourceAliasesUrl\",\"resource_bindings_url\":\"resourceBindingsUrl\",\"resource_keys_url\":\"resourceKeysUrl\",\"plan_history\":[{\"resource_plan_id\":\"resourcePlanId\",\"start_date\":\"2019-01-01T12:00:00.000Z\",\"requestor_id\":\"requestorId\"}],\"migrated\":true,\"extensions\":{\"anyKey\":\"anyValue\"},\"controlled_by\":\"controlledBy\",\"locked\":true}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    ListResourceInstancesOptions listResourceInstancesOptions = new ListResourceInstancesOptions.Builder()
+      .guid("testString")
+      .name("testString")
+      .resourceGroupId("testString")
+      .resourceId("testString")
+      .resourcePlanId("testString")
+      .type("testString")
+      .subType("testString")
+      .limit(Long.valueOf("10"))
+      .state("active")
+      .updatedFrom("2021-01-01")
+      .updatedTo("2021-01-01")
+      .build();
+
+    ResourceInstancesPager pager = new ResourceInstancesPager(resourceControllerService, listResourceInstancesOptions);
+    assertEquals(pager.stream().filter(instance -> instance.getGuid().equals("guid")).count(), 2L);
+  }
+  
+  // Test the listResourceInstances operation using the ResourceInstancesPager.async() method
+  @Test
+  public void testListResourceInstancesWithAsyncPager() throws Throwable {
+    // Set up the two-page mock response.
+    String mockResponsePage1 = "{\"total_count\":2,\"limit\":1,\"next_url\":\"https://myhost.com/somePath?start=1\",\"resources\":[{\"id\":\"id\",\"guid\":\"guid\",\"url\":\"url\",\"created_at\":\"2019-01-01T12:00:00.000Z\",\"updated_at\":\"2019-01-01T12:00:00.000Z\",\"deleted_at\":\"2019-01-01T12:00:00.000Z\",\"created_by\":\"createdBy\",\"updated_by\":\"updatedBy\",\"deleted_by\":\"deletedBy\",\"scheduled_reclaim_at\":\"2019-01-01T12:00:00.000Z\",\"restored_at\":\"2019-01-01T12:00:00.000Z\",\"restored_by\":\"restoredBy\",\"scheduled_reclaim_by\":\"scheduledReclaimBy\",\"name\":\"name\",\"region_id\":\"regionId\",\"account_id\":\"accountId\",\"reseller_channel_id\":\"resellerChannelId\",\"resource_plan_id\":\"resourcePlanId\",\"resource_group_id\":\"resourceGroupId\",\"resource_group_crn\":\"resourceGroupCrn\",\"target_crn\":\"targetCrn\",\"onetime_credentials\":true,\"parameters\":{\"anyKey\":\"anyValue\"},\"allow_cleanup\":true,\"crn\":\"crn\",\"state\":\"active\",\"type\":\"type\",\"sub_type\":\"subType\",\"resource_id\":\"resourceId\",\"dashboard_url\":\"dashboardUrl\",\"last_operation\":{\"type\":\"type\",\"state\":\"in progress\",\"sub_type\":\"subType\",\"async\":false,\"description\":\"description\",\"reason_code\":\"reasonCode\",\"poll_after\":9,\"cancelable\":true,\"poll\":true},\"resource_aliases_url\":\"resourceAliasesUrl\",\"resource_bindings_url\":\"resourceBindingsUrl\",\"resource_keys_url\":\"resourceKeysUrl\",\"plan_history\":[{\"resource_plan_id\":\"resourcePlanId\",\"start_date\":\"2019-01-01T12:00:00.000Z\",\"requestor_id\":\"requestorId\"}],\"migrated\":true,\"extensions\":{\"anyKey\":\"anyValue\"},\"controlled_by\":\"controlledBy\",\"locked\":true}]}";
+    String mockResponsePage2 = "{\"total_count\":2,\"limit\":1,\"resources\":[{\"id\":\"id\",\"guid\":\"guid\",\"url\":\"url\",\"created_at\":\"2019-01-01T12:00:00.000Z\",\"updated_at\":\"2019-01-01T12:00:00.000Z\",\"deleted_at\":\"2019-01-01T12:00:00.000Z\",\"created_by\":\"createdBy\",\"updated_by\":\"updatedBy\",\"deleted_by\":\"deletedBy\",\"scheduled_reclaim_at\":\"2019-01-01T12:00:00.000Z\",\"restored_at\":\"2019-01-01T12:00:00.000Z\",\"restored_by\":\"restoredBy\",\"scheduled_reclaim_by\":\"scheduledReclaimBy\",\"name\":\"name\",\"region_id\":\"regionId\",\"account_id\":\"accountId\",\"reseller_channel_id\":\"resellerChannelId\",\"resource_plan_id\":\"resourcePlanId\",\"resource_group_id\":\"resourceGroupId\",\"resource_group_crn\":\"resourceGroupCrn\",\"target_crn\":\"targetCrn\",\"onetime_credentials\":true,\"parameters\":{\"anyKey\":\"anyValue\"},\"allow_cleanup\":true,\"crn\":\"crn\",\"state\":\"active\",\"type\":\"type\",\"sub_type\":\"subType\",\"resource_id\":\"resourceId\",\"dashboard_url\":\"dashboardUrl\",\"last_operation\":{\"type\":\"type\",\"state\":\"in progress\",\"sub_type\":\"subType\",\"async\":false,\"description\":\"description\",\"reason_code\":\"reasonCode\",\"poll_after\":9,\"cancelable\":true,\"poll\":true},\"resource_aliases_url\":\"resourceAliasesUrl\",\"resource_bindings_url\":\"resourceBindingsUrl\",\"resource_keys_url\":\"resourceKeysUrl\",\"plan_history\":[{\"resource_plan_id\":\"resourcePlanId\",\"start_date\":\"2019-01-01T12:00:00.000Z\",\"requestor_id\":\"requestorId\"}],\"migrated\":true,\"extensions\":{\"anyKey\":\"anyValue\"},\"controlled_by\":\"controlledBy\",\"locked\":true}]}";
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage1));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(mockResponsePage2));
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(400)
+      .setBody("{\"message\": \"No more results available!\"}"));
+
+    ListResourceInstancesOptions listResourceInstancesOptions = new ListResourceInstancesOptions.Builder()
+      .guid("testString")
+      .name("testString")
+      .resourceGroupId("testString")
+      .resourceId("testString")
+      .resourcePlanId("testString")
+      .type("testString")
+      .subType("testString")
+      .limit(Long.valueOf("10"))
+      .state("active")
+      .updatedFrom("2021-01-01")
+      .updatedTo("2021-01-01")
+      .build();
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      ResourceInstancesPager pager = new ResourceInstancesPager(resourceControllerService, listResourceInstancesOptions);
+      AsyncPager<ResourceInstance> asyncPager = pager.async(1, executor);
+      List<ResourceInstance> allResults = new ArrayList<>();
+      while (asyncPager.hasNext()) {
+        List<ResourceInstance> nextPage = asyncPager.getNext().get();
+        assertNotNull(nextPage);
+        allResults.addAll(nextPage);
+      }
+      assertEquals(allResults.size(), 2);
+    } finally {
+      executor.shutdown();
+    }
+  }
+  
   // Test the createResourceInstance operation with a valid options model parameter
   @Test
   public void testCreateResourceInstanceWOptions() throws Throwable {
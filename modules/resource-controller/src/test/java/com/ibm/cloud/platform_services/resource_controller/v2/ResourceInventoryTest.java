@@ -0,0 +1,246 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.resource_controller.v2;
+
+import com.ibm.cloud.platform_services.resource_controller.v2.ResourceInventory.Change;
+import com.ibm.cloud.platform_services.resource_controller.v2.ResourceInventory.ChangeType;
+import com.ibm.cloud.platform_services.resource_controller.v2.ResourceInventory.Index;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceInstance;
+import com.ibm.cloud.platform_services.resource_controller.v2.model.ResourceKey;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the ResourceInventory class.
+ */
+public class ResourceInventoryTest {
+
+  protected MockWebServer server;
+  protected ResourceController resourceControllerService;
+
+  // The resources served for each list path, by GUID.
+  private Map<String, Map<String, String>> served;
+  private List<HttpUrl> requests;
+
+  private static String resource(String guid, String group, String plan, String region, String state,
+      String updatedAt) {
+    return "{\"guid\": \"" + guid + "\", \"resource_group_id\": \"" + group + "\", \"resource_plan_id\": \"" + plan
+      + "\", \"region_id\": \"" + region + "\", \"resource_id\": \"service-" + plan + "\", \"state\": \"" + state
+      + "\", \"updated_at\": \"" + updatedAt + "\"}";
+  }
+
+  private void serve(String path, String guid, String json) {
+    served.computeIfAbsent(path, k -> new HashMap<String, String>()).put(guid, json);
+  }
+
+  private MockResponse list(HttpUrl url) {
+    List<String> matching = new ArrayList<>();
+    String state = url.queryParameter("state");
+    String updatedFrom = url.queryParameter("updated_from");
+    String updatedTo = url.queryParameter("updated_to");
+    Map<String, String> resources = served.get(url.encodedPath());
+    List<String> guids = new ArrayList<>(resources != null ? resources.keySet() : Collections.<String>emptySet());
+    Collections.sort(guids);
+    for (String guid : guids) {
+      String json = resources.get(guid);
+      String updatedAt = json.replaceAll(".*\"updated_at\": \"([^\"]*)\".*", "$1");
+      boolean removed = json.contains("\"state\": \"removed\"");
+      if (url.encodedPath().equals("/v2/resource_instances") && removed != "removed".equals(state)) {
+        continue;
+      }
+      if ((updatedFrom == null || !Instant.parse(updatedAt).isBefore(Instant.parse(updatedFrom)))
+          && (updatedTo == null || !Instant.parse(updatedAt).isAfter(Instant.parse(updatedTo)))) {
+        matching.add(json);
+      }
+    }
+    int start = url.queryParameter("start") != null ? Integer.parseInt(url.queryParameter("start")) : 0;
+    int limit = Integer.parseInt(url.queryParameter("limit"));
+    int end = Math.min(start + limit, matching.size());
+    String next = end < matching.size()
+        ? "\"" + url.encodedPath() + "?start=" + end + "&limit=" + limit + "\""
+        : "null";
+    StringBuilder body = new StringBuilder("{\"rows_count\": " + (end - start) + ", \"next_url\": " + next
+        + ", \"resources\": [");
+    for (int i = start; i < end; i++) {
+      body.append(i > start ? ", " : "").append(matching.get(i));
+    }
+    return new MockResponse().setHeader("Content-type", "application/json").setBody(body.append("]}").toString());
+  }
+
+  @Test
+  public void testInstances() throws Throwable {
+    serve("/v2/resource_instances", "i1", resource("i1", "rg1", "p1", "us-south", "active", "2026-01-01T00:00:00Z"));
+    serve("/v2/resource_instances", "i2", resource("i2", "rg1", "p2", "eu-de", "active", "2026-01-02T00:00:00Z"));
+    final List<List<Change<ResourceInstance>>> published = new ArrayList<>();
+    ResourceInventory<ResourceInstance> inventory = ResourceInventory.instances(resourceControllerService)
+      .pageLimit(1)
+      .listener(published::add)
+      .clock(Clock.fixed(Instant.parse("2026-01-03T00:00:00Z"), ZoneOffset.UTC))
+      .build();
+
+    // The first poll loads all instances.
+    List<Change<ResourceInstance>> changes = inventory.poll();
+    assertEquals(changes.size(), 2);
+    assertEquals(changes.get(0).getType(), ChangeType.ADDED);
+    assertEquals(changes.get(0).getGuid(), "i1");
+    assertNull(changes.get(0).getPrevious());
+    assertEquals(inventory.size(), 2);
+    assertEquals(inventory.getLoads(), 1);
+    assertEquals(inventory.getPolls(), 0);
+    // The next poll starts from the start of the load, less the clock skew.
+    assertEquals(inventory.getWatermark().toInstant(), Instant.parse("2026-01-02T23:55:00Z"));
+    assertEquals(inventory.find(Index.RESOURCE_GROUP_ID, "rg1").size(), 2);
+    assertEquals(inventory.find(Index.REGION_ID, "eu-de").get(0).getGuid(), "i2");
+    assertEquals(inventory.count(Index.RESOURCE_PLAN_ID).get("p1"), Integer.valueOf(1));
+    assertEquals(requests.size(), 2);
+    assertNull(requests.get(0).queryParameter("updated_from"));
+
+    // i1 was removed, i2 moved to another plan and i3 was created.
+    serve("/v2/resource_instances", "i1", resource("i1", "rg1", "p1", "us-south", "removed", "2026-01-02T23:56:00Z"));
+    serve("/v2/resource_instances", "i2", resource("i2", "rg1", "p3", "eu-de", "active", "2026-01-02T23:57:00Z"));
+    serve("/v2/resource_instances", "i3", resource("i3", "rg2", "p1", "us-south", "active", "2026-01-02T23:58:00Z"));
+    requests.clear();
+    changes = inventory.poll();
+    assertEquals(changes.size(), 3);
+    assertEquals(changes.get(0).getType(), ChangeType.UPDATED);
+    assertEquals(changes.get(0).getResource().getResourcePlanId(), "p3");
+    assertEquals(changes.get(0).getPrevious().getResourcePlanId(), "p2");
+    assertEquals(changes.get(1).getType(), ChangeType.ADDED);
+    assertEquals(changes.get(1).getGuid(), "i3");
+    assertEquals(changes.get(2).getType(), ChangeType.REMOVED);
+    assertEquals(changes.get(2).getPrevious().getGuid(), "i1");
+    assertNull(inventory.get("i1"));
+    assertTrue(inventory.find(Index.RESOURCE_PLAN_ID, "p2").isEmpty());
+    assertEquals(inventory.find(Index.RESOURCE_PLAN_ID, "p1").get(0).getGuid(), "i3");
+    assertNull(inventory.count(Index.RESOURCE_PLAN_ID).get("p2"));
+    assertEquals(inventory.getWatermark().toInstant(), Instant.parse("2026-01-02T23:55:00Z"));
+    assertEquals(inventory.getPolls(), 1);
+    assertEquals(requests.get(0).queryParameter("updated_from"), "2026-01-02T23:55:00Z");
+    assertEquals(requests.get(0).queryParameter("updated_to"), "2026-01-03T00:00:00Z");
+    assertEquals(requests.get(requests.size() - 1).queryParameter("state"), "removed");
+
+    // The window overlaps the previous one, whose resources didn't change.
+    assertTrue(inventory.poll().isEmpty());
+    assertEquals(published.size(), 2);
+    assertEquals(published.get(1).size(), 3);
+    assertEquals(inventory.getResourcesRetrieved(), 2 + 3 + 3);
+  }
+
+  @Test
+  public void testUpdatedWhileLoading() throws Throwable {
+    serve("/v2/resource_keys", "k1", resource("k1", "rg1", "p1", "", "active", "2026-01-01T00:00:00Z"));
+    serve("/v2/resource_keys", "k2", resource("k2", "rg1", "p1", "", "active", "2026-01-02T23:59:50Z"));
+    ResourceInventory<ResourceKey> inventory = ResourceInventory.keys(resourceControllerService)
+      .clock(Clock.fixed(Instant.parse("2026-01-03T00:00:00Z"), ZoneOffset.UTC))
+      .clockSkew(60000)
+      .build();
+    inventory.load();
+    assertEquals(inventory.getWatermark().toInstant(), Instant.parse("2026-01-02T23:59:00Z"));
+
+    // k1 was updated before k2, but is only listed after the load: the poll still finds it.
+    serve("/v2/resource_keys", "k1", resource("k1", "rg2", "p1", "", "active", "2026-01-02T23:59:20Z"));
+    List<Change<ResourceKey>> changes = inventory.poll();
+    assertEquals(changes.size(), 1);
+    assertEquals(changes.get(0).getType(), ChangeType.UPDATED);
+    assertEquals(changes.get(0).getResource().getResourceGroupId(), "rg2");
+    assertEquals(requests.get(requests.size() - 1).queryParameter("updated_from"), "2026-01-02T23:59:00Z");
+  }
+
+  @Test
+  public void testKeys() throws Throwable {
+    serve("/v2/resource_keys", "k1", resource("k1", "rg1", "p1", "", "active", "2026-01-01T00:00:00Z"));
+    serve("/v2/resource_keys", "k2", resource("k2", "rg1", "p2", "", "active", "2026-01-01T00:00:00Z"));
+    serve("/v2/resource_keys", "k3", resource("k3", "rg2", "p2", "", "active", "2026-01-01T00:00:00Z"));
+    ResourceInventory<ResourceKey> inventory = ResourceInventory.keys(resourceControllerService)
+      .clock(Clock.fixed(Instant.parse("2026-01-03T00:00:00Z"), ZoneOffset.UTC))
+      .build();
+    assertEquals(inventory.load().size(), 3);
+    assertEquals(inventory.find(Index.RESOURCE_ID, "service-p2").size(), 2);
+    // Keys have no plan or region.
+    assertTrue(inventory.find(Index.RESOURCE_PLAN_ID, "p1").isEmpty());
+    assertTrue(inventory.count(Index.REGION_ID).isEmpty());
+
+    // A key listed in the removed state is dropped by a poll; a key no longer listed is dropped by a load.
+    serve("/v2/resource_keys", "k1", resource("k1", "rg1", "p1", "", "removed", "2026-01-02T23:56:00Z"));
+    List<Change<ResourceKey>> changes = inventory.poll();
+    assertEquals(changes.size(), 1);
+    assertEquals(changes.get(0).getType(), ChangeType.REMOVED);
+    assertEquals(changes.get(0).getGuid(), "k1");
+    served.get("/v2/resource_keys").remove("k1");
+    served.get("/v2/resource_keys").remove("k3");
+    changes = inventory.load();
+    assertEquals(changes.size(), 1);
+    assertEquals(changes.get(0).getGuid(), "k3");
+    assertEquals(inventory.find(Index.STATE, "active").size(), 1);
+    assertEquals(inventory.count(Index.RESOURCE_GROUP_ID), Collections.singletonMap("rg1", 1));
+    assertEquals(inventory.getLoads(), 2);
+
+    try {
+      ResourceInventory.aliases(resourceControllerService).pageLimit(0).build();
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("pageLimit"));
+    }
+    assertEquals(ResourceInventory.bindings(resourceControllerService).build().load().size(), 0);
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    served = new HashMap<>();
+    requests = Collections.synchronizedList(new ArrayList<HttpUrl>());
+    server.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        requests.add(request.getRequestUrl());
+        return list(request.getRequestUrl());
+      }
+    });
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    resourceControllerService = ResourceController.newInstance("testService");
+    resourceControllerService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    resourceControllerService = null;
+  }
+}
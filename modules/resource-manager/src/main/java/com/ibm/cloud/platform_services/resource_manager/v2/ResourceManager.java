@@ -53,6 +53,27 @@ public class ResourceManager extends BaseService {
 
   public static final String DEFAULT_SERVICE_URL = "https://resource-controller.cloud.ibm.com";
 
+  private static final ResponseConverter<ResourceGroupList> LIST_RESOURCE_GROUPS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceGroupList>() { }.getType());
+
+  private static final ResponseConverter<ResCreateResourceGroup> CREATE_RESOURCE_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResCreateResourceGroup>() { }.getType());
+
+  private static final ResponseConverter<ResourceGroup> GET_RESOURCE_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceGroup>() { }.getType());
+
+  private static final ResponseConverter<ResourceGroup> UPDATE_RESOURCE_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceGroup>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_RESOURCE_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<QuotaDefinitionList> LIST_QUOTA_DEFINITIONS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<QuotaDefinitionList>() { }.getType());
+
+  private static final ResponseConverter<QuotaDefinition> GET_QUOTA_DEFINITION_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<QuotaDefinition>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `ResourceManager` client.
    * The default service name is used to configure the client instance.
@@ -126,8 +147,7 @@ public class ResourceManager extends BaseService {
     if (listResourceGroupsOptions.includeDeleted() != null) {
       builder.query("include_deleted", String.valueOf(listResourceGroupsOptions.includeDeleted()));
     }
-    ResponseConverter<ResourceGroupList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceGroupList>() { }.getType());
+    ResponseConverter<ResourceGroupList> responseConverter = LIST_RESOURCE_GROUPS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -183,8 +203,7 @@ public class ResourceManager extends BaseService {
       }
       builder.bodyJson(contentJson);
     }
-    ResponseConverter<ResCreateResourceGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResCreateResourceGroup>() { }.getType());
+    ResponseConverter<ResCreateResourceGroup> responseConverter = CREATE_RESOURCE_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -229,8 +248,7 @@ public class ResourceManager extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<ResourceGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceGroup>() { }.getType());
+    ResponseConverter<ResourceGroup> responseConverter = GET_RESOURCE_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -263,8 +281,7 @@ public class ResourceManager extends BaseService {
       contentJson.addProperty("state", updateResourceGroupOptions.state());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<ResourceGroup> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceGroup>() { }.getType());
+    ResponseConverter<ResourceGroup> responseConverter = UPDATE_RESOURCE_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -292,7 +309,7 @@ public class ResourceManager extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_RESOURCE_GROUP_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -315,8 +332,7 @@ public class ResourceManager extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<QuotaDefinitionList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<QuotaDefinitionList>() { }.getType());
+    ResponseConverter<QuotaDefinitionList> responseConverter = LIST_QUOTA_DEFINITIONS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -360,8 +376,7 @@ public class ResourceManager extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<QuotaDefinition> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<QuotaDefinition>() { }.getType());
+    ResponseConverter<QuotaDefinition> responseConverter = GET_QUOTA_DEFINITION_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -0,0 +1,517 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.usage_metering.v4;
+
+import com.ibm.cloud.platform_services.usage_metering.v4.model.ResourceInstanceUsage;
+import com.ibm.cloud.sdk.core.util.GsonSingleton;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * UsageJournal is a write-ahead log of the usage records queued by a {@link UsageSubmitter}, so that the records
+ * that were not yet accepted by the service when the process stopped are sent again when it restarts.
+ *
+ * <p>
+ * The journal is a sequence of segment files in a directory. Each record is appended with a single
+ * FileChannel write before submit() returns, so it survives the termination of the process (including kill -9)
+ * as soon as it is queued; the segment is forced to the storage device every "syncInterval" milliseconds, which
+ * bounds the records that can be lost on a power failure without an fsync in the enqueue path.
+ * When records are accepted (or definitively rejected) by the service, an acknowledgement is appended, and
+ * a segment file is deleted once every record it contains (and every record of the older segments) has been
+ * acknowledged.
+ *
+ * <p>
+ * Each record is protected by a CRC32 checksum; a partially written record at the end of a segment is discarded
+ * when the journal is opened. The total size of the segment files is bounded by "maxBytes": once it is reached,
+ * append() refuses new records until older segments have been acknowledged.
+ */
+public class UsageJournal implements AutoCloseable {
+
+  /**
+   * A record read from the journal that has not been acknowledged.
+   */
+  public static class Entry {
+    private final long sequence;
+    private final String resourceId;
+    private final ResourceInstanceUsage usage;
+
+    Entry(long sequence, String resourceId, ResourceInstanceUsage usage) {
+      this.sequence = sequence;
+      this.resourceId = resourceId;
+      this.usage = usage;
+    }
+
+    /**
+     * Gets the sequence number assigned to the record by append().
+     * @return the sequence number
+     */
+    public long getSequence() {
+      return sequence;
+    }
+
+    /**
+     * Gets the resource ID of the record.
+     * @return the resource ID
+     */
+    public String getResourceId() {
+      return resourceId;
+    }
+
+    /**
+     * Gets the usage record.
+     * @return the usage record
+     */
+    public ResourceInstanceUsage getUsage() {
+      return usage;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private Path directory;
+    private long segmentSize = 64L * 1024 * 1024;
+    private long maxBytes = 1024L * 1024 * 1024;
+    private long syncInterval = 200;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param directory the directory containing the segment files
+     */
+    public Builder(Path directory) {
+      this.directory = directory;
+    }
+
+    /**
+     * Set the size, in bytes, at which a new segment file is started. Defaults to 64 MiB.
+     *
+     * @param segmentSize the segment size
+     * @return the UsageJournal builder
+     */
+    public Builder segmentSize(long segmentSize) {
+      this.segmentSize = segmentSize;
+      return this;
+    }
+
+    /**
+     * Set the maximum total size, in bytes, of the segment files. Defaults to 1 GiB.
+     *
+     * @param maxBytes the maximum size of the journal
+     * @return the UsageJournal builder
+     */
+    public Builder maxBytes(long maxBytes) {
+      this.maxBytes = maxBytes;
+      return this;
+    }
+
+    /**
+     * Set the interval, in milliseconds, at which appended records are forced to the storage device.
+     * Defaults to 200.
+     *
+     * @param syncInterval the sync interval in milliseconds
+     * @return the UsageJournal builder
+     */
+    public Builder syncInterval(long syncInterval) {
+      this.syncInterval = syncInterval;
+      return this;
+    }
+
+    /**
+     * Opens the journal, reading the records of the existing segment files.
+     *
+     * @return the new UsageJournal instance
+     */
+    public UsageJournal build() {
+      return new UsageJournal(this);
+    }
+  }
+
+  private static final byte USAGE = 'U';
+  private static final byte ACK = 'A';
+  private static final int SEGMENT_HEADER_SIZE = 8;
+  private static final int RECORD_HEADER_SIZE = 8;
+  private static final String SEGMENT_PREFIX = "usage-";
+  private static final String SEGMENT_SUFFIX = ".wal";
+
+  private final Path directory;
+  private final long segmentSize;
+  private final long maxBytes;
+  private final ScheduledExecutorService syncer;
+
+  // All of the following are guarded by "this"; the segments are keyed by their ID, in the order they were created.
+  private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+  private final Map<Long, Entry> recovered = new LinkedHashMap<>();
+  private Segment current;
+  private long nextSequence = 1;
+  private long nextSegmentId = 1;
+  private long totalBytes;
+  private boolean dirty;
+  private boolean closed;
+
+  protected UsageJournal(Builder builder) {
+    Validator.notNull(builder.directory, "directory cannot be null");
+    Validator.isTrue(builder.segmentSize > SEGMENT_HEADER_SIZE, "segmentSize is too small");
+    Validator.isTrue(builder.maxBytes >= builder.segmentSize, "maxBytes cannot be less than segmentSize");
+    Validator.isTrue(builder.syncInterval > 0, "syncInterval must be greater than zero");
+    this.directory = builder.directory;
+    this.segmentSize = builder.segmentSize;
+    this.maxBytes = builder.maxBytes;
+    try {
+      Files.createDirectories(directory);
+      recover();
+      startSegment();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to open the usage journal in " + directory, e);
+    }
+    this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "usage-journal-sync");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.syncer.scheduleWithFixedDelay(this::syncQuietly, builder.syncInterval, builder.syncInterval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Returns the records that were in the journal when it was opened and have not been acknowledged since,
+   * in the order in which they were appended.
+   * @return a List&lt;Entry&gt;
+   */
+  public synchronized List<Entry> getRecoveredEntries() {
+    return new ArrayList<>(recovered.values());
+  }
+
+  /**
+   * Appends a usage record to the journal.
+   *
+   * @param resourceId the resource ID of the record
+   * @param usage the usage record
+   * @return the sequence number of the record, or -1 if the journal is full
+   */
+  public long append(String resourceId, ResourceInstanceUsage usage) {
+    byte[] json = GsonSingleton.getGsonWithoutPrettyPrinting().toJson(usage).getBytes(StandardCharsets.UTF_8);
+    synchronized (this) {
+      checkOpen();
+      long sequence = nextSequence;
+      byte[] record = encode(USAGE, sequence, resourceId, json);
+      if (totalBytes + record.length > maxBytes) {
+        return -1;
+      }
+      write(record);
+      nextSequence++;
+      current.pending++;
+      return sequence;
+    }
+  }
+
+  /**
+   * Acknowledges records, which will not be returned by getRecoveredEntries() when the journal is opened again.
+   * The segment files whose records have all been acknowledged are deleted.
+   *
+   * @param sequences the sequence numbers of the records
+   */
+  public synchronized void acknowledge(Collection<Long> sequences) {
+    checkOpen();
+    if (sequences.isEmpty()) {
+      return;
+    }
+    ByteArrayOutputStream acks = new ByteArrayOutputStream(sequences.size() * (RECORD_HEADER_SIZE + 9));
+    for (Long sequence : sequences) {
+      byte[] record = encode(ACK, sequence, null, null);
+      acks.write(record, 0, record.length);
+    }
+    // Acknowledgements may exceed "maxBytes" slightly, since they are what allows segments to be deleted.
+    write(acks.toByteArray());
+    for (Long sequence : sequences) {
+      recovered.remove(sequence);
+      release(sequence);
+    }
+    deleteAcknowledgedSegments();
+  }
+
+  /**
+   * Forces the appended records to the storage device.
+   */
+  public synchronized void sync() {
+    if (closed || !dirty) {
+      return;
+    }
+    try {
+      current.channel.force(false);
+      dirty = false;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to sync the usage journal", e);
+    }
+  }
+
+  /**
+   * Returns the total size, in bytes, of the segment files.
+   * @return the size of the journal
+   */
+  public synchronized long getSize() {
+    return totalBytes;
+  }
+
+  /**
+   * Returns the number of segment files.
+   * @return the number of segments
+   */
+  public synchronized int getSegmentCount() {
+    return segments.size();
+  }
+
+  /**
+   * Forces the appended records to the storage device and closes the journal.
+   */
+  @Override
+  public void close() {
+    syncer.shutdown();
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      sync();
+      closed = true;
+      try {
+        current.channel.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to close the usage journal", e);
+      }
+    }
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("The usage journal has been closed");
+    }
+  }
+
+  private void syncQuietly() {
+    try {
+      sync();
+    } catch (RuntimeException e) {
+      // The next sync (or close) will try again.
+    }
+  }
+
+  private void write(byte[] bytes) {
+    try {
+      if (current.size > SEGMENT_HEADER_SIZE && current.size + bytes.length > segmentSize) {
+        sealCurrent();
+        startSegment();
+      }
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      while (buffer.hasRemaining()) {
+        current.channel.write(buffer);
+      }
+      current.size += bytes.length;
+      totalBytes += bytes.length;
+      dirty = true;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to append to the usage journal", e);
+    }
+  }
+
+  // A record belongs to the most recent segment that starts at or before its sequence number.
+  private void release(long sequence) {
+    for (Segment segment : segments.descendingMap().values()) {
+      if (segment.firstSequence <= sequence) {
+        if (segment.pending > 0) {
+          segment.pending--;
+        }
+        return;
+      }
+    }
+  }
+
+  // Segments are deleted oldest first: a segment may hold the acknowledgements of records in older segments,
+  // which must not be replayed when the journal is reopened.
+  private void deleteAcknowledgedSegments() {
+    Iterator<Segment> iterator = segments.values().iterator();
+    while (iterator.hasNext()) {
+      Segment segment = iterator.next();
+      if (segment == current || segment.pending > 0) {
+        return;
+      }
+      try {
+        Files.deleteIfExists(segment.path);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to delete " + segment.path, e);
+      }
+      totalBytes -= segment.size;
+      iterator.remove();
+    }
+  }
+
+  private void sealCurrent() throws IOException {
+    current.channel.force(false);
+    current.channel.close();
+    current.channel = null;
+    dirty = false;
+    deleteAcknowledgedSegments();
+  }
+
+  private void startSegment() throws IOException {
+    long id = nextSegmentId++;
+    Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    Segment segment = new Segment(path, nextSequence);
+    segment.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    // Each segment starts with the first sequence number it may contain, so that acknowledgements can be
+    // mapped to segments after the journal is reopened.
+    ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE).putLong(0, nextSequence);
+    while (header.hasRemaining()) {
+      segment.channel.write(header);
+    }
+    segment.size = SEGMENT_HEADER_SIZE;
+    totalBytes += SEGMENT_HEADER_SIZE;
+    segments.put(id, segment);
+    current = segment;
+  }
+
+  private void recover() throws IOException {
+    List<Path> paths = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      for (Path path : stream) {
+        paths.add(path);
+      }
+    }
+    paths.sort(null);
+    for (Path path : paths) {
+      String name = path.getFileName().toString();
+      long id = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+      nextSegmentId = Math.max(nextSegmentId, id + 1);
+      readSegment(id, path);
+    }
+    deleteAcknowledgedSegments();
+  }
+
+  private void readSegment(long id, Path path) throws IOException {
+    ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path));
+    if (data.remaining() < SEGMENT_HEADER_SIZE) {
+      Files.delete(path);
+      return;
+    }
+    long firstSequence = data.getLong();
+    Segment segment = new Segment(path, firstSequence);
+    segments.put(id, segment);
+    nextSequence = Math.max(nextSequence, firstSequence);
+
+    int validLength = SEGMENT_HEADER_SIZE;
+    CRC32 crc = new CRC32();
+    while (data.remaining() >= RECORD_HEADER_SIZE) {
+      int length = data.getInt();
+      int checksum = data.getInt();
+      if (length <= 0 || length > data.remaining()) {
+        break;
+      }
+      crc.reset();
+      crc.update(data.array(), data.position(), length);
+      if ((int) crc.getValue() != checksum) {
+        break;
+      }
+      ByteBuffer record = ByteBuffer.wrap(data.array(), data.position(), length).slice();
+      data.position(data.position() + length);
+      validLength = data.position();
+
+      byte type = record.get();
+      long sequence = record.getLong();
+      if (type == USAGE) {
+        byte[] resourceId = new byte[record.getShort() & 0xffff];
+        record.get(resourceId);
+        byte[] json = new byte[record.remaining()];
+        record.get(json);
+        ResourceInstanceUsage usage = GsonSingleton.getGson().fromJson(new String(json, StandardCharsets.UTF_8),
+            ResourceInstanceUsage.class);
+        recovered.put(sequence, new Entry(sequence, new String(resourceId, StandardCharsets.UTF_8), usage));
+        segment.pending++;
+        nextSequence = Math.max(nextSequence, sequence + 1);
+      } else if (type == ACK) {
+        if (recovered.remove(sequence) != null) {
+          release(sequence);
+        }
+      }
+    }
+    if (validLength < data.limit()) {
+      // The end of the segment was not completely written, so it is discarded.
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        channel.truncate(validLength);
+      }
+    }
+    segment.size = validLength;
+    totalBytes += validLength;
+  }
+
+  // Each record is [length][crc32][type][sequence][payload].
+  private static byte[] encode(byte type, long sequence, String resourceId, byte[] json) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(RECORD_HEADER_SIZE + 64 + (json != null ? json.length : 0));
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(0);
+      out.writeInt(0);
+      out.writeByte(type);
+      out.writeLong(sequence);
+      if (type == USAGE) {
+        byte[] id = resourceId.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(id.length);
+        out.write(id);
+        out.write(json);
+      }
+      byte[] record = bytes.toByteArray();
+      int length = record.length - RECORD_HEADER_SIZE;
+      CRC32 crc = new CRC32();
+      crc.update(record, RECORD_HEADER_SIZE, length);
+      ByteBuffer.wrap(record).putInt(0, length).putInt(4, (int) crc.getValue());
+      return record;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static final class Segment {
+    private final Path path;
+    private final long firstSequence;
+    private FileChannel channel;
+    private long size;
+    private int pending;
+
+    Segment(Path path, long firstSequence) {
+      this.path = path;
+      this.firstSequence = firstSequence;
+    }
+  }
+}
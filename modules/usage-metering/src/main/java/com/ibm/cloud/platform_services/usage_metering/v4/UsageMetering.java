@@ -52,6 +52,9 @@ public class UsageMetering extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://billing.cloud.ibm.com";
 
+  private static final ResponseConverter<ResponseAccepted> REPORT_RESOURCE_USAGE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResponseAccepted>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `UsageMetering` client.
    * The default service name is used to configure the client instance.
@@ -110,8 +113,7 @@ public class UsageMetering extends BaseService {
     }
     builder.header("Accept", "application/json");
     builder.bodyContent(com.ibm.cloud.sdk.core.util.GsonSingleton.getGsonWithoutPrettyPrinting().toJson(reportResourceUsageOptions.resourceUsage()), "application/json");
-    ResponseConverter<ResponseAccepted> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResponseAccepted>() { }.getType());
+    ResponseConverter<ResponseAccepted> responseConverter = REPORT_RESOURCE_USAGE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -0,0 +1,606 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.usage_metering.v4;
+
+import com.ibm.cloud.platform_services.usage_metering.v4.model.MeasureAndQuantity;
+import com.ibm.cloud.platform_services.usage_metering.v4.model.ReportResourceUsageOptions;
+import com.ibm.cloud.platform_services.usage_metering.v4.model.ResourceInstanceUsage;
+import com.ibm.cloud.platform_services.usage_metering.v4.model.ResourceUsageDetails;
+import com.ibm.cloud.platform_services.usage_metering.v4.model.ResponseAccepted;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * UsageSubmitter accepts individual usage records from any number of threads and reports them with
+ * the "reportResourceUsage" method in batches.
+ *
+ * <p>
+ * Records are queued without locking and are coalesced before they are sent: records of the same resource
+ * with the same resource instance, plan, start and end (and the same region and consumer) are merged into
+ * a single record whose numeric measures are summed; a non-numeric measure takes the most recent value.
+ * Records that are being retried are not coalesced with new ones.
+ * Batches are sent by a single background thread when "batchSize" records are queued or every "flushInterval"
+ * milliseconds, whichever comes first.
+ *
+ * <p>
+ * The records rejected with a retryable status (429 or 5xx), either individually or because the whole request
+ * failed, are queued again and sent unchanged with the next batch, up to "maxAttempts" times. A retried record
+ * rejected with status 409 is considered accepted, since the service reports that status for a record that it
+ * already accepted (in this case, from a previous attempt whose response was lost). The other rejected records,
+ * including new records rejected with status 409 because a record with the same key was already accepted, are
+ * reported to the Listener and dropped.
+ *
+ * <p>
+ * When a {@link UsageJournal} is configured, each record is appended to the journal before submit() returns, and
+ * is acknowledged once it has been accepted or rejected. The records found in the journal when the submitter is
+ * built (those that were queued but not sent when the process stopped) are queued again, and the records still
+ * queued when the submitter is closed are kept in the journal instead of being rejected.
+ */
+public class UsageSubmitter implements AutoCloseable {
+
+  /**
+   * Listener is notified of the outcome of each record; it is invoked on the thread that sends the batches.
+   */
+  public interface Listener {
+    /**
+     * Invoked when a record has been accepted.
+     *
+     * @param resourceId the resource ID of the record
+     * @param usage the (coalesced) record
+     */
+    default void onAccepted(String resourceId, ResourceInstanceUsage usage) { }
+
+    /**
+     * Invoked when a record has been rejected and will not be sent again.
+     *
+     * @param resourceId the resource ID of the record
+     * @param usage the (coalesced) record
+     * @param status the status reported for the record, or the status of the failed request
+     * @param message the message describing the failure
+     */
+    default void onRejected(String resourceId, ResourceInstanceUsage usage, long status, String message) { }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private UsageMetering client;
+    private int batchSize = 100;
+    private long flushInterval = 1000;
+    private int maxAttempts = 5;
+    private int maxQueuedRecords = 1000000;
+    private Listener listener;
+    private UsageJournal journal;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the UsageMetering instance used to invoke the "reportResourceUsage" method
+     */
+    public Builder(UsageMetering client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the maximum number of records sent in each request; a flush is started as soon as this many
+     * records are queued. Defaults to 100.
+     *
+     * @param batchSize the maximum number of records per request
+     * @return the UsageSubmitter builder
+     */
+    public Builder batchSize(int batchSize) {
+      this.batchSize = batchSize;
+      return this;
+    }
+
+    /**
+     * Set the maximum time, in milliseconds, that a record is queued before it is sent. Defaults to 1000.
+     *
+     * @param flushInterval the flush interval in milliseconds
+     * @return the UsageSubmitter builder
+     */
+    public Builder flushInterval(long flushInterval) {
+      this.flushInterval = flushInterval;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of times a record is sent. Defaults to 5.
+     *
+     * @param maxAttempts the maximum number of attempts
+     * @return the UsageSubmitter builder
+     */
+    public Builder maxAttempts(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Set the maximum number of queued records; submit() returns false while this many records are queued.
+     * Defaults to 1000000.
+     *
+     * @param maxQueuedRecords the maximum number of queued records
+     * @return the UsageSubmitter builder
+     */
+    public Builder maxQueuedRecords(int maxQueuedRecords) {
+      this.maxQueuedRecords = maxQueuedRecords;
+      return this;
+    }
+
+    /**
+     * Set the listener notified of the outcome of each record.
+     *
+     * @param listener the listener
+     * @return the UsageSubmitter builder
+     */
+    public Builder listener(Listener listener) {
+      this.listener = listener;
+      return this;
+    }
+
+    /**
+     * Set the journal in which the queued records are kept until they are accepted or rejected.
+     * The journal is not closed by the submitter.
+     *
+     * @param journal the journal
+     * @return the UsageSubmitter builder
+     */
+    public Builder journal(UsageJournal journal) {
+      this.journal = journal;
+      return this;
+    }
+
+    /**
+     * Builds a UsageSubmitter and starts its background thread.
+     *
+     * @return the new UsageSubmitter instance
+     */
+    public UsageSubmitter build() {
+      return new UsageSubmitter(this);
+    }
+  }
+
+  private static final Listener NO_LISTENER = new Listener() { };
+  private static final Pattern INTEGER = Pattern.compile("-?\\d+");
+
+  private final UsageMetering client;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final int maxQueuedRecords;
+  private final Listener listener;
+  private final UsageJournal journal;
+  private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final ScheduledExecutorService scheduler;
+  private volatile boolean closed;
+
+  private final AtomicLong submitted = new AtomicLong();
+  private final AtomicLong sent = new AtomicLong();
+  private final AtomicLong accepted = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong retried = new AtomicLong();
+  private final AtomicLong requests = new AtomicLong();
+
+  protected UsageSubmitter(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.batchSize > 0, "batchSize must be greater than zero");
+    Validator.isTrue(builder.flushInterval > 0, "flushInterval must be greater than zero");
+    Validator.isTrue(builder.maxAttempts > 0, "maxAttempts must be greater than zero");
+    Validator.isTrue(builder.maxQueuedRecords > 0, "maxQueuedRecords must be greater than zero");
+    this.client = builder.client;
+    this.batchSize = builder.batchSize;
+    this.maxAttempts = builder.maxAttempts;
+    this.maxQueuedRecords = builder.maxQueuedRecords;
+    this.listener = builder.listener != null ? builder.listener : NO_LISTENER;
+    this.journal = builder.journal;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "usage-submitter");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.scheduleWithFixedDelay(this::flushQuietly, builder.flushInterval, builder.flushInterval,
+        TimeUnit.MILLISECONDS);
+    if (journal != null) {
+      for (UsageJournal.Entry entry : journal.getRecoveredEntries()) {
+        enqueue(new Pending(entry.getResourceId(), entry.getUsage(), 0,
+            Collections.singletonList(entry.getSequence())));
+      }
+    }
+  }
+
+  /**
+   * Queues a usage record to be reported. This method never blocks, but appends the record to the journal
+   * (if any) before it returns.
+   *
+   * @param resourceId the ID of the resource (service) the usage is reported for
+   * @param usage the usage record
+   * @return true if the record was queued, false if the queue (or the journal) is full
+   */
+  public boolean submit(String resourceId, ResourceInstanceUsage usage) {
+    Validator.notEmpty(resourceId, "resourceId cannot be empty");
+    Validator.notNull(usage, "usage cannot be null");
+    if (closed) {
+      throw new IllegalStateException("The submitter has been closed");
+    }
+    if (queued.get() >= maxQueuedRecords) {
+      return false;
+    }
+    List<Long> sequences = Collections.emptyList();
+    if (journal != null) {
+      long sequence = journal.append(resourceId, usage);
+      if (sequence < 0) {
+        return false;
+      }
+      sequences = Collections.singletonList(sequence);
+    }
+    enqueue(new Pending(resourceId, usage, 0, sequences));
+    submitted.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Sends all queued records on the calling thread and waits for the responses.
+   * Records that are queued again after a retryable failure are not sent until the next flush.
+   */
+  public void flush() {
+    synchronized (this) {
+      flushRequested.set(false);
+      List<Pending> retries = new ArrayList<>();
+      List<Aggregate> batch = new ArrayList<>();
+      Map<Key, Aggregate> aggregates = new HashMap<>();
+      Pending pending;
+      while ((pending = queue.poll()) != null) {
+        queued.decrementAndGet();
+        if (pending.attempts > 0) {
+          // A retried record is sent unchanged, so that a 409 means that a previous attempt was accepted.
+          batch.add(new Aggregate(pending));
+        } else {
+          Key key = new Key(pending.resourceId, pending.usage);
+          Aggregate aggregate = aggregates.get(key);
+          if (aggregate == null) {
+            aggregate = new Aggregate(pending);
+            aggregates.put(key, aggregate);
+            batch.add(aggregate);
+          } else {
+            aggregate.merge(pending);
+          }
+        }
+        if (batch.size() == batchSize) {
+          send(batch, retries);
+          batch.clear();
+          aggregates.clear();
+        }
+      }
+      if (!batch.isEmpty()) {
+        send(batch, retries);
+      }
+      for (Pending retry : retries) {
+        enqueue(retry);
+      }
+    }
+  }
+
+  /**
+   * Sends the queued records and stops the background thread. Records that are still queued after the
+   * final flush (because they are being retried) are reported to the Listener as rejected, unless a journal
+   * is configured, in which case they are left in the journal.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+    if (journal != null) {
+      return;
+    }
+    synchronized (this) {
+      Pending pending;
+      while ((pending = queue.poll()) != null) {
+        queued.decrementAndGet();
+        rejected.incrementAndGet();
+        listener.onRejected(pending.resourceId, pending.usage, 0, "The submitter was closed before the record was sent");
+      }
+    }
+  }
+
+  /**
+   * Returns the number of records waiting to be sent.
+   * @return the number of queued records
+   */
+  public int getQueuedRecords() {
+    return queued.get();
+  }
+
+  /**
+   * Returns the number of records accepted by submit().
+   * @return the number of submitted records
+   */
+  public long getSubmittedRecords() {
+    return submitted.get();
+  }
+
+  /**
+   * Returns the number of (coalesced) records sent, including records sent again.
+   * @return the number of sent records
+   */
+  public long getSentRecords() {
+    return sent.get();
+  }
+
+  /**
+   * Returns the number of (coalesced) records accepted by the service.
+   * @return the number of accepted records
+   */
+  public long getAcceptedRecords() {
+    return accepted.get();
+  }
+
+  /**
+   * Returns the number of (coalesced) records that were dropped after a failure.
+   * @return the number of rejected records
+   */
+  public long getRejectedRecords() {
+    return rejected.get();
+  }
+
+  /**
+   * Returns the number of times a (coalesced) record was queued again after a retryable failure.
+   * @return the number of retried records
+   */
+  public long getRetriedRecords() {
+    return retried.get();
+  }
+
+  /**
+   * Returns the number of "reportResourceUsage" requests made.
+   * @return the number of requests
+   */
+  public long getRequests() {
+    return requests.get();
+  }
+
+  private void enqueue(Pending pending) {
+    queue.offer(pending);
+    if (queued.incrementAndGet() >= batchSize && !closed && flushRequested.compareAndSet(false, true)) {
+      scheduler.execute(this::flushQuietly);
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      // The records of a failed batch have already been queued again or reported as rejected.
+    }
+  }
+
+  // Sends the records of one resource per request, preserving the order in which they were first queued.
+  private void send(List<Aggregate> aggregates, List<Pending> retries) {
+    Map<String, List<Aggregate>> byResource = new LinkedHashMap<>();
+    for (Aggregate aggregate : aggregates) {
+      List<Aggregate> batch = byResource.get(aggregate.resourceId);
+      if (batch == null) {
+        batch = new ArrayList<>();
+        byResource.put(aggregate.resourceId, batch);
+      }
+      batch.add(aggregate);
+    }
+    for (Map.Entry<String, List<Aggregate>> entry : byResource.entrySet()) {
+      sendBatch(entry.getKey(), entry.getValue(), retries);
+    }
+  }
+
+  private void sendBatch(String resourceId, List<Aggregate> batch, List<Pending> retries) {
+    List<ResourceInstanceUsage> records = new ArrayList<>(batch.size());
+    for (Aggregate aggregate : batch) {
+      records.add(aggregate.toUsage());
+    }
+    ReportResourceUsageOptions options = new ReportResourceUsageOptions.Builder(resourceId, records).build();
+    requests.incrementAndGet();
+    sent.addAndGet(records.size());
+
+    List<Long> done = new ArrayList<>();
+    ResponseAccepted response;
+    try {
+      response = client.reportResourceUsage(options).execute().getResult();
+    } catch (ServiceResponseException e) {
+      for (int i = 0; i < batch.size(); i++) {
+        fail(batch.get(i), records.get(i), e.getStatusCode(), e.getMessage(), retries, done);
+      }
+      acknowledge(done);
+      return;
+    } catch (RuntimeException e) {
+      // The request may not have reached the service (e.g. a connection failure), so it is retried.
+      for (int i = 0; i < batch.size(); i++) {
+        fail(batch.get(i), records.get(i), 503, e.getMessage(), retries, done);
+      }
+      acknowledge(done);
+      return;
+    }
+
+    List<ResourceUsageDetails> details = response != null ? response.getResources() : null;
+    for (int i = 0; i < batch.size(); i++) {
+      ResourceUsageDetails detail = details != null && i < details.size() ? details.get(i) : null;
+      long status = detail != null && detail.getStatus() != null ? detail.getStatus() : 202;
+      if (status < 300 || (status == 409 && batch.get(i).attempts > 0)) {
+        // 409 means that a record with the same key was already accepted; for a record sent again unchanged,
+        // that is by a previous attempt.
+        accepted.incrementAndGet();
+        done.addAll(batch.get(i).sequences);
+        listener.onAccepted(resourceId, records.get(i));
+      } else {
+        fail(batch.get(i), records.get(i), status, detail.getMessage(), retries, done);
+      }
+    }
+    acknowledge(done);
+  }
+
+  private void fail(Aggregate aggregate, ResourceInstanceUsage usage, long status, String message,
+      List<Pending> retries, List<Long> done) {
+    boolean retryable = status == 429 || status >= 500;
+    if (retryable && aggregate.attempts + 1 < maxAttempts) {
+      retried.incrementAndGet();
+      retries.add(new Pending(aggregate.resourceId, usage, aggregate.attempts + 1, aggregate.sequences));
+    } else {
+      rejected.incrementAndGet();
+      done.addAll(aggregate.sequences);
+      listener.onRejected(aggregate.resourceId, usage, status, message);
+    }
+  }
+
+  private void acknowledge(List<Long> sequences) {
+    if (journal != null && !sequences.isEmpty()) {
+      journal.acknowledge(sequences);
+    }
+  }
+
+  static Object addQuantities(Object a, Object b) {
+    if (a instanceof Number && b instanceof Number) {
+      if (isIntegral(a) && isIntegral(b)) {
+        return ((Number) a).longValue() + ((Number) b).longValue();
+      }
+      return new BigDecimal(a.toString()).add(new BigDecimal(b.toString())).doubleValue();
+    }
+    return b;
+  }
+
+  // Quantities read back from the journal are LazilyParsedNumber instances, which are integral if their text is.
+  private static boolean isIntegral(Object n) {
+    if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte) {
+      return true;
+    }
+    return !(n instanceof Double || n instanceof Float) && INTEGER.matcher(n.toString()).matches();
+  }
+
+  private static final class Pending {
+    private final String resourceId;
+    private final ResourceInstanceUsage usage;
+    private final int attempts;
+    // The journal sequence numbers of the records merged into this one.
+    private final List<Long> sequences;
+
+    Pending(String resourceId, ResourceInstanceUsage usage, int attempts, List<Long> sequences) {
+      this.resourceId = resourceId;
+      this.usage = usage;
+      this.attempts = attempts;
+      this.sequences = sequences;
+    }
+  }
+
+  private static final class Key {
+    private final String resourceId;
+    private final String resourceInstanceId;
+    private final String planId;
+    private final Long start;
+    private final Long end;
+    private final String region;
+    private final String consumerId;
+    private final int hash;
+
+    Key(String resourceId, ResourceInstanceUsage usage) {
+      this.resourceId = resourceId;
+      this.resourceInstanceId = usage.resourceInstanceId();
+      this.planId = usage.planId();
+      this.start = usage.start();
+      this.end = usage.end();
+      this.region = usage.region();
+      this.consumerId = usage.consumerId();
+      this.hash = Objects.hash(resourceId, resourceInstanceId, planId, start, end, region, consumerId);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return hash == other.hash && Objects.equals(resourceId, other.resourceId)
+          && Objects.equals(resourceInstanceId, other.resourceInstanceId) && Objects.equals(planId, other.planId)
+          && Objects.equals(start, other.start) && Objects.equals(end, other.end)
+          && Objects.equals(region, other.region) && Objects.equals(consumerId, other.consumerId);
+    }
+  }
+
+  private static final class Aggregate {
+    private final String resourceId;
+    private final ResourceInstanceUsage template;
+    private final Map<String, Object> measures = new LinkedHashMap<>();
+    private final List<Long> sequences = new ArrayList<>();
+    private final int attempts;
+
+    Aggregate(Pending pending) {
+      this.resourceId = pending.resourceId;
+      this.template = pending.usage;
+      this.attempts = pending.attempts;
+      this.sequences.addAll(pending.sequences);
+      addMeasures(pending.usage);
+    }
+
+    // Only records that have not been sent yet are merged.
+    void merge(Pending pending) {
+      sequences.addAll(pending.sequences);
+      addMeasures(pending.usage);
+    }
+
+    private void addMeasures(ResourceInstanceUsage usage) {
+      if (usage.measuredUsage() == null) {
+        return;
+      }
+      for (MeasureAndQuantity measure : usage.measuredUsage()) {
+        Object previous = measures.get(measure.measure());
+        measures.put(measure.measure(),
+            previous == null ? measure.quantity() : addQuantities(previous, measure.quantity()));
+      }
+    }
+
+    ResourceInstanceUsage toUsage() {
+      if (attempts > 0) {
+        return template;
+      }
+      List<MeasureAndQuantity> measuredUsage = new ArrayList<>(measures.size());
+      for (Map.Entry<String, Object> measure : measures.entrySet()) {
+        measuredUsage.add(new MeasureAndQuantity.Builder(measure.getKey(), measure.getValue()).build());
+      }
+      return template.newBuilder().measuredUsage(measuredUsage).build();
+    }
+  }
+}
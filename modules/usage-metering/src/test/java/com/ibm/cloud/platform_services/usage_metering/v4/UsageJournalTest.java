@@ -0,0 +1,231 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.usage_metering.v4;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ibm.cloud.platform_services.usage_metering.v4.model.MeasureAndQuantity;
+import com.ibm.cloud.platform_services.usage_metering.v4.model.ResourceInstanceUsage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the UsageJournal class.
+ */
+public class UsageJournalTest {
+
+  private static final String RESOURCE_ID = "93d21e40-aafd-451c-a393-5273d09d056a";
+
+  protected MockWebServer server;
+  protected UsageMetering usageMeteringService;
+  protected Path directory;
+
+  private static ResourceInstanceUsage usage(String instance, Object quantity) {
+    return new ResourceInstanceUsage.Builder(instance, "plan", 1000L, 2000L,
+        Collections.singletonList(new MeasureAndQuantity.Builder("M", quantity).build())).build();
+  }
+
+  private List<Path> segmentFiles() throws IOException {
+    List<Path> paths = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+      for (Path path : stream) {
+        paths.add(path);
+      }
+    }
+    Collections.sort(paths);
+    return paths;
+  }
+
+  private UsageJournal openJournal(long segmentSize) {
+    return new UsageJournal.Builder(directory).segmentSize(segmentSize).maxBytes(1024 * 1024).build();
+  }
+
+  @Test
+  public void testRecoverUnacknowledged() throws Throwable {
+    UsageJournal journal = openJournal(1024 * 1024);
+    long a = journal.append(RESOURCE_ID, usage("a", 1L));
+    long b = journal.append(RESOURCE_ID, usage("b", 2L));
+    long c = journal.append(RESOURCE_ID, usage("c", 3L));
+    assertEquals(Arrays.asList(a, b, c), Arrays.asList(1L, 2L, 3L));
+    journal.acknowledge(Collections.singletonList(b));
+    journal.close();
+
+    UsageJournal reopened = openJournal(1024 * 1024);
+    List<UsageJournal.Entry> entries = reopened.getRecoveredEntries();
+    assertEquals(entries.size(), 2);
+    assertEquals(entries.get(0).getSequence(), a);
+    assertEquals(entries.get(0).getResourceId(), RESOURCE_ID);
+    assertEquals(entries.get(0).getUsage().resourceInstanceId(), "a");
+    assertEquals(entries.get(1).getUsage().resourceInstanceId(), "c");
+    assertEquals(((Number) entries.get(1).getUsage().measuredUsage().get(0).quantity()).longValue(), 3L);
+    assertEquals(reopened.append(RESOURCE_ID, usage("d", 4L)), 4L);
+
+    reopened.acknowledge(Arrays.asList(a, c));
+    assertTrue(reopened.getRecoveredEntries().isEmpty());
+    reopened.close();
+  }
+
+  @Test
+  public void testSegmentsDeletedWhenAcknowledged() throws Throwable {
+    UsageJournal journal = openJournal(256);
+    List<Long> sequences = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      sequences.add(journal.append(RESOURCE_ID, usage("instance-" + i, i)));
+    }
+    assertTrue(journal.getSegmentCount() > 2);
+    assertEquals(segmentFiles().size(), journal.getSegmentCount());
+
+    // The oldest segment still has a pending record, so no segment can be deleted.
+    journal.acknowledge(sequences.subList(1, 20));
+    assertTrue(journal.getSegmentCount() > 2);
+
+    journal.acknowledge(sequences.subList(0, 1));
+    assertEquals(journal.getSegmentCount(), 1);
+    assertEquals(segmentFiles().size(), 1);
+    assertEquals(Files.size(segmentFiles().get(0)), journal.getSize());
+    journal.close();
+
+    UsageJournal reopened = openJournal(256);
+    assertTrue(reopened.getRecoveredEntries().isEmpty());
+    assertEquals(reopened.append(RESOURCE_ID, usage("a", 1L)), 21L);
+    reopened.close();
+  }
+
+  @Test
+  public void testTornRecord() throws Throwable {
+    UsageJournal journal = openJournal(1024 * 1024);
+    journal.append(RESOURCE_ID, usage("a", 1L));
+    journal.close();
+    Path segment = segmentFiles().get(0);
+    long length = Files.size(segment);
+
+    // Simulate a crash in the middle of writing a record.
+    Files.write(segment, new byte[] { 0, 0, 0, 40, 1, 2, 3, 4, 'U', 0 }, StandardOpenOption.APPEND);
+    UsageJournal reopened = openJournal(1024 * 1024);
+    assertEquals(reopened.getRecoveredEntries().size(), 1);
+    assertEquals(Files.size(segment), length);
+    reopened.close();
+  }
+
+  @Test
+  public void testJournalFull() throws Throwable {
+    UsageJournal journal = new UsageJournal.Builder(directory).segmentSize(256).maxBytes(512).build();
+    long sequence = 0;
+    int appended = 0;
+    while ((sequence = journal.append(RESOURCE_ID, usage("a", 1L))) > 0) {
+      appended++;
+    }
+    assertEquals(sequence, -1L);
+    assertTrue(appended > 0);
+    assertTrue(journal.getSize() <= 512);
+    journal.close();
+  }
+
+  @Test
+  public void testSubmitterReplay() throws Throwable {
+    UsageJournal journal = openJournal(1024 * 1024);
+    UsageSubmitter submitter = new UsageSubmitter.Builder(usageMeteringService)
+      .batchSize(100000)
+      .flushInterval(TimeUnit.HOURS.toMillis(1))
+      .journal(journal)
+      .build();
+    submitter.submit(RESOURCE_ID, usage("a", 1L));
+    submitter.submit(RESOURCE_ID, usage("a", 2L));
+    submitter.submit(RESOURCE_ID, usage("b", 5L));
+
+    // The requests (including the one made by close()) fail, so the records stay in the journal.
+    for (int i = 0; i < 2; i++) {
+      server.enqueue(new MockResponse().setResponseCode(503).setBody("{\"message\": \"unavailable\"}"));
+    }
+    submitter.flush();
+    submitter.close();
+    journal.close();
+    assertEquals(server.getRequestCount(), 2);
+    assertEquals(submitter.getRejectedRecords(), 0);
+    server.takeRequest();
+    server.takeRequest();
+
+    journal = openJournal(1024 * 1024);
+    assertEquals(journal.getRecoveredEntries().size(), 3);
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(202)
+      .setBody("{\"resources\": [{\"status\": 201}, {\"status\": 201}]}"));
+    submitter = new UsageSubmitter.Builder(usageMeteringService)
+      .batchSize(100000)
+      .flushInterval(TimeUnit.HOURS.toMillis(1))
+      .journal(journal)
+      .build();
+    assertEquals(submitter.getQueuedRecords(), 3);
+    submitter.flush();
+    RecordedRequest request = server.takeRequest();
+    JsonArray records = JsonParser.parseString(request.getBody().readUtf8()).getAsJsonArray();
+    assertEquals(records.size(), 2);
+    JsonObject record = records.get(0).getAsJsonObject();
+    assertEquals(record.get("resource_instance_id").getAsString(), "a");
+    assertEquals(record.getAsJsonArray("measured_usage").get(0).getAsJsonObject().get("quantity").getAsString(), "3");
+    assertEquals(submitter.getAcceptedRecords(), 2);
+    submitter.close();
+    journal.close();
+
+    journal = openJournal(1024 * 1024);
+    assertTrue(journal.getRecoveredEntries().isEmpty());
+    journal.close();
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() throws IOException {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    directory = Files.createTempDirectory("usage-journal");
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    usageMeteringService = UsageMetering.newInstance("testService");
+    usageMeteringService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    usageMeteringService = null;
+    for (Path path : segmentFiles()) {
+      Files.delete(path);
+    }
+    Files.delete(directory);
+  }
+}
@@ -0,0 +1,284 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.usage_metering.v4;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.ibm.cloud.platform_services.usage_metering.v4.model.MeasureAndQuantity;
+import com.ibm.cloud.platform_services.usage_metering.v4.model.ResourceInstanceUsage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the UsageSubmitter class.
+ */
+public class UsageSubmitterTest {
+
+  private static final String RESOURCE_ID = "93d21e40-aafd-451c-a393-5273d09d056a";
+
+  protected MockWebServer server;
+  protected UsageMetering usageMeteringService;
+
+  private static ResourceInstanceUsage usage(String instance, String measure, Object quantity) {
+    return new ResourceInstanceUsage.Builder(instance, "plan", 1000L, 2000L,
+        Collections.singletonList(new MeasureAndQuantity.Builder(measure, quantity).build())).build();
+  }
+
+  private static JsonArray records(RecordedRequest request) {
+    return JsonParser.parseString(request.getBody().readUtf8()).getAsJsonArray();
+  }
+
+  private void enqueueStatuses(long... statuses) {
+    StringBuilder resources = new StringBuilder();
+    for (long status : statuses) {
+      if (resources.length() > 0) {
+        resources.append(", ");
+      }
+      resources.append("{\"status\": " + status + ", \"message\": \"status " + status + "\"}");
+    }
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(202)
+      .setBody("{\"resources\": [" + resources + "]}"));
+  }
+
+  private UsageSubmitter.Builder manualFlushBuilder() {
+    return new UsageSubmitter.Builder(usageMeteringService)
+      .batchSize(100000)
+      .flushInterval(TimeUnit.HOURS.toMillis(1));
+  }
+
+  @Test
+  public void testCoalescing() throws Throwable {
+    enqueueStatuses(202, 202);
+    final UsageSubmitter submitter = manualFlushBuilder().build();
+    ExecutorService producers = Executors.newFixedThreadPool(4);
+    for (int t = 0; t < 4; t++) {
+      producers.execute(() -> {
+        for (int i = 0; i < 500; i++) {
+          submitter.submit(RESOURCE_ID, usage("instance-" + (i % 2), "GIGABYTE_HOURS", 1L));
+          submitter.submit(RESOURCE_ID, usage("instance-" + (i % 2), "CPU_HOURS", 0.5));
+        }
+      });
+    }
+    producers.shutdown();
+    assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(submitter.getQueuedRecords(), 4000);
+
+    submitter.flush();
+    assertEquals(server.getRequestCount(), 1);
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getPath(), "/v4/metering/resources/" + RESOURCE_ID + "/usage");
+    JsonArray records = records(request);
+    assertEquals(records.size(), 2);
+    for (int i = 0; i < 2; i++) {
+      JsonObject record = records.get(i).getAsJsonObject();
+      JsonArray measures = record.getAsJsonArray("measured_usage");
+      assertEquals(measures.size(), 2);
+      assertEquals(measures.get(0).getAsJsonObject().get("measure").getAsString(), "GIGABYTE_HOURS");
+      assertEquals(measures.get(0).getAsJsonObject().get("quantity").getAsLong(), 1000L);
+      assertEquals(measures.get(1).getAsJsonObject().get("quantity").getAsDouble(), 500.0);
+    }
+    assertEquals(submitter.getSubmittedRecords(), 4000);
+    assertEquals(submitter.getAcceptedRecords(), 2);
+    assertEquals(submitter.getQueuedRecords(), 0);
+    submitter.close();
+  }
+
+  @Test
+  public void testPartialFailure() throws Throwable {
+    final List<String> rejected = new ArrayList<>();
+    UsageSubmitter submitter = manualFlushBuilder()
+      .listener(new UsageSubmitter.Listener() {
+        @Override
+        public void onRejected(String resourceId, ResourceInstanceUsage usage, long status, String message) {
+          rejected.add(usage.resourceInstanceId() + ":" + status);
+        }
+      })
+      .build();
+    submitter.submit(RESOURCE_ID, usage("a", "M", 1L));
+    submitter.submit(RESOURCE_ID, usage("b", "M", 2L));
+    submitter.submit(RESOURCE_ID, usage("c", "M", 3L));
+
+    enqueueStatuses(201, 500, 400);
+    submitter.flush();
+    server.takeRequest();
+    assertEquals(rejected, Collections.singletonList("c:400"));
+    assertEquals(submitter.getRetriedRecords(), 1);
+    assertEquals(submitter.getQueuedRecords(), 1);
+
+    // Only the record that failed with a retryable status is sent again, unchanged and apart from new usage.
+    submitter.submit(RESOURCE_ID, usage("b", "M", 5L));
+    enqueueStatuses(202, 202);
+    submitter.flush();
+    JsonArray records = records(server.takeRequest());
+    assertEquals(records.size(), 2);
+    for (int i = 0; i < 2; i++) {
+      JsonObject record = records.get(i).getAsJsonObject();
+      assertEquals(record.get("resource_instance_id").getAsString(), "b");
+      assertEquals(record.getAsJsonArray("measured_usage").get(0).getAsJsonObject().get("quantity").getAsLong(),
+          i == 0 ? 2L : 5L);
+    }
+    assertEquals(submitter.getAcceptedRecords(), 3);
+    assertEquals(submitter.getRequests(), 2);
+    submitter.close();
+  }
+
+  @Test
+  public void testConflict() throws Throwable {
+    final List<String> accepted = new ArrayList<>();
+    final List<String> rejected = new ArrayList<>();
+    UsageSubmitter submitter = manualFlushBuilder()
+      .listener(new UsageSubmitter.Listener() {
+        @Override
+        public void onAccepted(String resourceId, ResourceInstanceUsage usage) {
+          accepted.add(usage.resourceInstanceId() + ":" + usage.measuredUsage().get(0).quantity());
+        }
+
+        @Override
+        public void onRejected(String resourceId, ResourceInstanceUsage usage, long status, String message) {
+          rejected.add(usage.resourceInstanceId() + ":" + usage.measuredUsage().get(0).quantity() + ":" + status);
+        }
+      })
+      .build();
+    submitter.submit(RESOURCE_ID, usage("a", "M", 1L));
+    submitter.submit(RESOURCE_ID, usage("b", "M", 2L));
+    enqueueStatuses(202, 503);
+    submitter.flush();
+    server.takeRequest();
+
+    // The retried record was accepted by the failed attempt, so the service rejects it and the new usage of the
+    // same key with 409: only the retried record, sent unchanged, is considered accepted.
+    submitter.submit(RESOURCE_ID, usage("b", "M", 4L));
+    submitter.submit(RESOURCE_ID, usage("a", "M", 8L));
+    enqueueStatuses(409, 409, 409);
+    submitter.flush();
+    JsonArray records = records(server.takeRequest());
+    assertEquals(records.size(), 3);
+    assertEquals(accepted, Arrays.asList("a:1", "b:2"));
+    assertEquals(rejected, Arrays.asList("b:4:409", "a:8:409"));
+    assertEquals(submitter.getAcceptedRecords(), 2);
+    assertEquals(submitter.getRejectedRecords(), 2);
+    assertEquals(submitter.getQueuedRecords(), 0);
+    submitter.close();
+  }
+
+  @Test
+  public void testRequestFailure() throws Throwable {
+    final List<String> rejected = new ArrayList<>();
+    UsageSubmitter submitter = manualFlushBuilder()
+      .maxAttempts(2)
+      .listener(new UsageSubmitter.Listener() {
+        @Override
+        public void onRejected(String resourceId, ResourceInstanceUsage usage, long status, String message) {
+          rejected.add(usage.resourceInstanceId() + ":" + status);
+        }
+      })
+      .build();
+    submitter.submit(RESOURCE_ID, usage("a", "M", 1L));
+    for (int i = 0; i < 2; i++) {
+      server.enqueue(new MockResponse()
+        .setHeader("Content-type", "application/json")
+        .setResponseCode(503)
+        .setBody("{\"message\": \"unavailable\"}"));
+      submitter.flush();
+    }
+    assertEquals(server.getRequestCount(), 2);
+    assertEquals(rejected, Collections.singletonList("a:503"));
+    assertEquals(submitter.getQueuedRecords(), 0);
+    submitter.close();
+  }
+
+  @Test
+  public void testSizeThreshold() throws Throwable {
+    enqueueStatuses(202, 202);
+    UsageSubmitter submitter = new UsageSubmitter.Builder(usageMeteringService)
+      .batchSize(2)
+      .flushInterval(TimeUnit.HOURS.toMillis(1))
+      .build();
+    submitter.submit(RESOURCE_ID, usage("a", "M", 1L));
+    submitter.submit(RESOURCE_ID, usage("b", "M", 1L));
+    RecordedRequest request = server.takeRequest(10, TimeUnit.SECONDS);
+    assertNotNull(request);
+    assertEquals(records(request).size(), 2);
+    submitter.close();
+  }
+
+  @Test
+  public void testTimeThreshold() throws Throwable {
+    enqueueStatuses(202);
+    UsageSubmitter submitter = new UsageSubmitter.Builder(usageMeteringService)
+      .flushInterval(50)
+      .build();
+    submitter.submit(RESOURCE_ID, usage("a", "M", 1L));
+    assertNotNull(server.takeRequest(10, TimeUnit.SECONDS));
+    submitter.close();
+    assertEquals(submitter.getAcceptedRecords(), 1);
+  }
+
+  @Test
+  public void testQueueFull() throws Throwable {
+    UsageSubmitter submitter = manualFlushBuilder().maxQueuedRecords(1).build();
+    assertTrue(submitter.submit(RESOURCE_ID, usage("a", "M", 1L)));
+    assertFalse(submitter.submit(RESOURCE_ID, usage("a", "M", 1L)));
+    enqueueStatuses(202);
+    submitter.close();
+    assertEquals(submitter.getAcceptedRecords(), 1);
+  }
+
+  @Test
+  public void testAddQuantities() {
+    assertEquals(UsageSubmitter.addQuantities(1L, 2), 3L);
+    assertEquals(UsageSubmitter.addQuantities(0.1, 0.2), 0.3);
+    assertEquals(UsageSubmitter.addQuantities("a", "b"), "b");
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    usageMeteringService = UsageMetering.newInstance("testService");
+    usageMeteringService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    usageMeteringService = null;
+  }
+}
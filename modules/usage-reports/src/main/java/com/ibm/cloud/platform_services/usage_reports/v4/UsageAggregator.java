@@ -0,0 +1,488 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.usage_reports.v4;
+
+import com.ibm.cloud.platform_services.common.BoundedParallel;
+import com.ibm.cloud.platform_services.common.Pager;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageAccountOptions;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageAccountPager;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageOrgOptions;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageOrgPager;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageResourceGroupOptions;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageResourceGroupPager;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.InstanceUsage;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.Metric;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * UsageAggregator computes the totals of the instance-level usage reports ("getResourceUsageAccount",
+ * "getResourceUsageResourceGroup" and "getResourceUsageOrg") grouped by a tuple of dimensions, such as the
+ * resource group, the plan or the value of a tag.
+ *
+ * <p>
+ * Each page of results is folded into primitive accumulators as soon as it is retrieved and is then discarded,
+ * so the memory used is proportional to the number of distinct keys rather than to the number of instances.
+ * Several reports (e.g. one per month or one per resource group) are aggregated concurrently, each with its own
+ * accumulators; they are merged in the order in which the reports were given, so the result does not depend on
+ * the order in which the requests complete.
+ */
+public class UsageAggregator {
+
+  /**
+   * Dimension extracts the value of one element of the key from an instance and one of its metrics.
+   * The metric is null for an instance that reports no usage.
+   */
+  public interface Dimension {
+    /** The account ID of the instance. */
+    Dimension ACCOUNT_ID = (instance, metric) -> instance.getAccountId();
+    /** The resource group ID of the instance. */
+    Dimension RESOURCE_GROUP_ID = (instance, metric) -> instance.getResourceGroupId();
+    /** The organization ID of the instance. */
+    Dimension ORGANIZATION_ID = (instance, metric) -> instance.getOrganizationId();
+    /** The resource (service) ID of the instance. */
+    Dimension RESOURCE_ID = (instance, metric) -> instance.getResourceId();
+    /** The ID of the instance. */
+    Dimension RESOURCE_INSTANCE_ID = (instance, metric) -> instance.getResourceInstanceId();
+    /** The plan ID of the instance. */
+    Dimension PLAN_ID = (instance, metric) -> instance.getPlanId();
+    /** The region of the instance. */
+    Dimension REGION = (instance, metric) -> instance.getRegion();
+    /** The currency code of the instance. */
+    Dimension CURRENCY_CODE = (instance, metric) -> instance.getCurrencyCode();
+    /** The billing month of the report. */
+    Dimension MONTH = (instance, metric) -> instance.getMonth();
+    /** The metric ID. */
+    Dimension METRIC = (instance, metric) -> metric != null ? metric.getMetric() : null;
+
+    /**
+     * Returns the value of the dimension.
+     *
+     * @param instance the instance
+     * @param metric the metric of the instance, or null
+     * @return the value, which may be null
+     */
+    String valueOf(InstanceUsage instance, Metric metric);
+
+    /**
+     * Returns a dimension whose value is the value of the "key:value" tag of the instance with the specified key,
+     * or null if the instance has no such tag. The reports contain tags only if the "tags" option is set to true.
+     *
+     * @param key the tag key
+     * @return the Dimension
+     */
+    static Dimension tag(String key) {
+      Validator.notEmpty(key, "key cannot be empty");
+      final String prefix = key + ":";
+      return (instance, metric) -> {
+        if (instance.getTags() == null) {
+          return null;
+        }
+        for (Object tag : instance.getTags()) {
+          String name = String.valueOf(tag);
+          if (name.startsWith(prefix)) {
+            return name.substring(prefix.length());
+          }
+          if (name.equals(key)) {
+            return "";
+          }
+        }
+        return null;
+      };
+    }
+  }
+
+  /**
+   * The tuple of dimension values that identifies a group.
+   */
+  public static final class Key {
+    private final String[] values;
+    private final int hash;
+
+    Key(String[] values) {
+      this.values = values;
+      this.hash = Arrays.hashCode(values);
+    }
+
+    /**
+     * Gets the value of a dimension.
+     *
+     * @param index the index of the dimension, in the order in which the dimensions were specified
+     * @return the value, which may be null
+     */
+    public String get(int index) {
+      return values[index];
+    }
+
+    /**
+     * Gets the values of the dimensions.
+     * @return the values
+     */
+    public List<String> getValues() {
+      return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Key && hash == ((Key) o).hash && Arrays.equals(values, ((Key) o).values);
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(values);
+    }
+  }
+
+  /**
+   * The totals of a group.
+   */
+  public static final class Totals {
+    private double cost;
+    private double ratedCost;
+    private double quantity;
+    private double rateableQuantity;
+    private long instances;
+    private long metrics;
+    // The last instance folded into the totals, so that an instance with several metrics is counted once.
+    private InstanceUsage lastInstance;
+
+    Totals() { }
+
+    /**
+     * Gets the sum of the cost of the metrics.
+     * @return the cost
+     */
+    public double getCost() {
+      return cost;
+    }
+
+    /**
+     * Gets the sum of the rated cost of the metrics.
+     * @return the rated cost
+     */
+    public double getRatedCost() {
+      return ratedCost;
+    }
+
+    /**
+     * Gets the sum of the quantity of the metrics; it is meaningful only if the key includes the metric.
+     * @return the quantity
+     */
+    public double getQuantity() {
+      return quantity;
+    }
+
+    /**
+     * Gets the sum of the rateable quantity of the metrics; it is meaningful only if the key includes the metric.
+     * @return the rateable quantity
+     */
+    public double getRateableQuantity() {
+      return rateableQuantity;
+    }
+
+    /**
+     * Gets the number of instances (per report) that contributed to the group.
+     * @return the number of instances
+     */
+    public long getInstances() {
+      return instances;
+    }
+
+    /**
+     * Gets the number of metrics that contributed to the group.
+     * @return the number of metrics
+     */
+    public long getMetrics() {
+      return metrics;
+    }
+
+    void add(InstanceUsage instance, Metric metric) {
+      if (instance != lastInstance) {
+        lastInstance = instance;
+        instances++;
+      }
+      if (metric != null) {
+        metrics++;
+        cost += valueOf(metric.getCost());
+        ratedCost += valueOf(metric.getRatedCost());
+        quantity += valueOf(metric.getQuantity());
+        rateableQuantity += valueOf(metric.getRateableQuantity());
+      }
+    }
+
+    void add(Totals other) {
+      cost += other.cost;
+      ratedCost += other.ratedCost;
+      quantity += other.quantity;
+      rateableQuantity += other.rateableQuantity;
+      instances += other.instances;
+      metrics += other.metrics;
+    }
+
+    private static double valueOf(Double value) {
+      return value != null ? value : 0;
+    }
+  }
+
+  /**
+   * The result of an aggregation.
+   */
+  public static final class Aggregation {
+    private final Map<Key, Totals> totals;
+    private final long instances;
+    private final long pages;
+
+    Aggregation(Map<Key, Totals> totals, long instances, long pages) {
+      this.totals = Collections.unmodifiableMap(totals);
+      this.instances = instances;
+      this.pages = pages;
+    }
+
+    /**
+     * Gets the totals of each group, in the order in which the groups were first encountered.
+     * @return the totals
+     */
+    public Map<Key, Totals> getTotals() {
+      return totals;
+    }
+
+    /**
+     * Gets the totals of a group.
+     *
+     * @param values the values of the dimensions
+     * @return the totals, or null if there is no such group
+     */
+    public Totals get(String... values) {
+      return totals.get(new Key(values));
+    }
+
+    /**
+     * Gets the number of instances folded into the totals.
+     * @return the number of instances
+     */
+    public long getInstances() {
+      return instances;
+    }
+
+    /**
+     * Gets the number of pages of results retrieved.
+     * @return the number of pages
+     */
+    public long getPages() {
+      return pages;
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private UsageReports client;
+    private List<Dimension> dimensions;
+    private int maxConcurrency = 4;
+    private Executor executor;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the UsageReports instance used to retrieve the reports
+     * @param dimensions the dimensions of the key by which the usage is grouped
+     */
+    public Builder(UsageReports client, Dimension... dimensions) {
+      this.client = client;
+      this.dimensions = new ArrayList<>(Arrays.asList(dimensions));
+    }
+
+    /**
+     * Set the maximum number of reports retrieved concurrently. Defaults to 4.
+     *
+     * @param maxConcurrency the maximum number of concurrent reports
+     * @return the UsageAggregator builder
+     */
+    public Builder maxConcurrency(int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * Set the executor used to retrieve the reports. By default, a thread pool is created for each aggregation.
+     *
+     * @param executor the executor
+     * @return the UsageAggregator builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds a UsageAggregator.
+     *
+     * @return the new UsageAggregator instance
+     */
+    public UsageAggregator build() {
+      return new UsageAggregator(this);
+    }
+  }
+
+  private final UsageReports client;
+  private final Dimension[] dimensions;
+  private final int maxConcurrency;
+  private final Executor executor;
+
+  protected UsageAggregator(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(!builder.dimensions.isEmpty(), "at least one dimension must be specified");
+    Validator.isTrue(!builder.dimensions.contains(null), "dimensions cannot contain null");
+    Validator.isTrue(builder.maxConcurrency > 0, "maxConcurrency must be greater than zero");
+    this.client = builder.client;
+    this.dimensions = builder.dimensions.toArray(new Dimension[0]);
+    this.maxConcurrency = builder.maxConcurrency;
+    this.executor = builder.executor;
+  }
+
+  /**
+   * Aggregates the account-level reports, e.g. one for each month.
+   *
+   * @param options the options of each "getResourceUsageAccount" report
+   * @return the Aggregation
+   */
+  public Aggregation aggregateAccount(List<GetResourceUsageAccountOptions> options) {
+    return aggregate(options, o -> new GetResourceUsageAccountPager(client, o));
+  }
+
+  /**
+   * Aggregates the resource group reports, e.g. one for each resource group or month.
+   *
+   * @param options the options of each "getResourceUsageResourceGroup" report
+   * @return the Aggregation
+   */
+  public Aggregation aggregateResourceGroups(List<GetResourceUsageResourceGroupOptions> options) {
+    return aggregate(options, o -> new GetResourceUsageResourceGroupPager(client, o));
+  }
+
+  /**
+   * Aggregates the organization reports, e.g. one for each organization or month.
+   *
+   * @param options the options of each "getResourceUsageOrg" report
+   * @return the Aggregation
+   */
+  public Aggregation aggregateOrgs(List<GetResourceUsageOrgOptions> options) {
+    return aggregate(options, o -> new GetResourceUsageOrgPager(client, o));
+  }
+
+  private <O> Aggregation aggregate(final List<O> options, final Function<O, Pager<InstanceUsage>> pagers) {
+    Validator.notNull(options, "options cannot be null");
+    int workerCount = Math.min(maxConcurrency, options.size());
+    ExecutorService pool = null;
+    Executor workers = executor;
+    if (workers == null && workerCount > 0) {
+      pool = Executors.newFixedThreadPool(workerCount, runnable -> {
+        Thread thread = new Thread(runnable, "usage-aggregator");
+        thread.setDaemon(true);
+        return thread;
+      });
+      workers = pool;
+    }
+    List<Partial> partials;
+    try {
+      partials = BoundedParallel.map(options, maxConcurrency, workers, o -> fold(pagers.apply(o)));
+    } finally {
+      if (pool != null) {
+        pool.shutdown();
+      }
+    }
+
+    Map<Key, Totals> totals = new LinkedHashMap<>();
+    long instances = 0;
+    long pages = 0;
+    for (Partial partial : partials) {
+      instances += partial.instances;
+      pages += partial.pages;
+      for (Map.Entry<Key, Totals> entry : partial.totals.entrySet()) {
+        Totals total = totals.get(entry.getKey());
+        if (total == null) {
+          totals.put(entry.getKey(), entry.getValue());
+        } else {
+          total.add(entry.getValue());
+        }
+      }
+    }
+    return new Aggregation(totals, instances, pages);
+  }
+
+  // Folds the pages of one report, keeping only the current page.
+  private Partial fold(Pager<InstanceUsage> pager) {
+    Partial partial = new Partial();
+    while (pager.hasNext()) {
+      List<InstanceUsage> page = pager.getNext();
+      partial.pages++;
+      if (page == null) {
+        continue;
+      }
+      for (InstanceUsage instance : page) {
+        partial.instances++;
+        List<Metric> metrics = instance.getUsage();
+        if (metrics == null || metrics.isEmpty()) {
+          partial.add(key(instance, null), instance, null);
+          continue;
+        }
+        for (Metric metric : metrics) {
+          partial.add(key(instance, metric), instance, metric);
+        }
+      }
+    }
+    for (Totals total : partial.totals.values()) {
+      total.lastInstance = null;
+    }
+    return partial;
+  }
+
+  private Key key(InstanceUsage instance, Metric metric) {
+    String[] values = new String[dimensions.length];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = dimensions[i].valueOf(instance, metric);
+    }
+    return new Key(values);
+  }
+
+  private static final class Partial {
+    private final Map<Key, Totals> totals = new LinkedHashMap<>();
+    private long instances;
+    private long pages;
+
+    void add(Key key, InstanceUsage instance, Metric metric) {
+      Totals total = totals.get(key);
+      if (total == null) {
+        total = new Totals();
+        totals.put(key, total);
+      }
+      total.add(instance, metric);
+    }
+  }
+}
@@ -0,0 +1,311 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.usage_reports.v4;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.ibm.cloud.platform_services.common.ColumnarWriter;
+import com.ibm.cloud.platform_services.common.ColumnarWriter.Type;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageAccountOptions;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageOrgOptions;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageResourceGroupOptions;
+import com.ibm.cloud.sdk.core.http.RequestBuilder;
+import com.ibm.cloud.sdk.core.util.UrlHelper;
+import com.ibm.cloud.sdk.core.util.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * UsageExporter writes the instance-level usage reports ("getResourceUsageAccount", "getResourceUsageResourceGroup"
+ * and "getResourceUsageOrg") to a columnar file (see {@link ColumnarWriter}) with one row per metric of each
+ * instance; an instance without metrics produces a single row whose metric columns are null.
+ *
+ * <p>
+ * The response of each page is parsed as a stream with a Gson JsonReader and written directly to the columns,
+ * without creating InstanceUsage or Metric objects: the string columns are dictionary-encoded and the quantities
+ * and costs are written as primitive doubles. The columns are listed in {@link #COLUMNS}.
+ */
+public class UsageExporter {
+
+  /**
+   * The names of the columns of the exported files.
+   */
+  public static final List<String> COLUMNS = Collections.unmodifiableList(Arrays.asList(
+      "account_id", "resource_group_id", "organization_id", "resource_id", "resource_instance_id", "plan_id",
+      "region", "pricing_region", "currency_code", "month", "currency_rate",
+      "metric", "unit", "quantity", "rateable_quantity", "cost", "rated_cost"));
+
+  private static final List<Type> TYPES = Collections.unmodifiableList(Arrays.asList(
+      Type.STRING, Type.STRING, Type.STRING, Type.STRING, Type.STRING, Type.STRING,
+      Type.STRING, Type.STRING, Type.STRING, Type.STRING, Type.DOUBLE,
+      Type.STRING, Type.STRING, Type.DOUBLE, Type.DOUBLE, Type.DOUBLE, Type.DOUBLE));
+
+  // The index of the first column that belongs to the metrics rather than to the instance.
+  private static final int FIRST_METRIC_COLUMN = COLUMNS.indexOf("metric");
+  private static final int CURRENCY_RATE_COLUMN = COLUMNS.indexOf("currency_rate");
+  private static final Map<String, Integer> COLUMN_INDEXES = new HashMap<>();
+
+  static {
+    for (int i = 0; i < COLUMNS.size(); i++) {
+      COLUMN_INDEXES.put(COLUMNS.get(i), i);
+    }
+  }
+
+  /**
+   * Builder.
+   */
+  public static class Builder {
+    private UsageReports client;
+    private int rowGroupSize = 65536;
+    private int bufferSize = 1024 * 1024;
+
+    /**
+     * Instantiates a new builder.
+     *
+     * @param client the UsageReports instance whose client, service URL and authenticator are used
+     */
+    public Builder(UsageReports client) {
+      this.client = client;
+    }
+
+    /**
+     * Set the number of rows in each row group of the files created by newWriter(). Defaults to 65536.
+     *
+     * @param rowGroupSize the row group size
+     * @return the UsageExporter builder
+     */
+    public Builder rowGroupSize(int rowGroupSize) {
+      this.rowGroupSize = rowGroupSize;
+      return this;
+    }
+
+    /**
+     * Set the size in bytes of the write buffer of the files created by newWriter(). Defaults to 1 MiB.
+     *
+     * @param bufferSize the buffer size
+     * @return the UsageExporter builder
+     */
+    public Builder bufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+      return this;
+    }
+
+    /**
+     * Builds a UsageExporter.
+     *
+     * @return the new UsageExporter instance
+     */
+    public UsageExporter build() {
+      return new UsageExporter(this);
+    }
+  }
+
+  private final UsageReports client;
+  private final int rowGroupSize;
+  private final int bufferSize;
+
+  protected UsageExporter(Builder builder) {
+    Validator.notNull(builder.client, "client cannot be null");
+    Validator.isTrue(builder.rowGroupSize > 0, "rowGroupSize must be greater than zero");
+    Validator.isTrue(builder.bufferSize >= 64, "bufferSize must be at least 64");
+    this.client = builder.client;
+    this.rowGroupSize = builder.rowGroupSize;
+    this.bufferSize = builder.bufferSize;
+  }
+
+  /**
+   * Creates (or replaces) a columnar file with the columns of the export. Several reports (e.g. several months)
+   * may be exported to the same file before it is closed.
+   *
+   * @param file the file
+   * @return the ColumnarWriter
+   */
+  public ColumnarWriter newWriter(Path file) {
+    return new ColumnarWriter(file, COLUMNS, TYPES, rowGroupSize, bufferSize);
+  }
+
+  /**
+   * Exports all pages of the "getResourceUsageAccount" report.
+   *
+   * @param options the options of the report; "start" must not be set
+   * @param writer a writer created by newWriter()
+   * @return the number of rows written
+   */
+  public long export(final GetResourceUsageAccountOptions options, ColumnarWriter writer) {
+    Validator.notNull(options, "options cannot be null");
+    Validator.isNull(options.start(), "The options 'start' field should not be set");
+    return export(start -> client.getResourceUsageAccountRequest(options.newBuilder().start(start).build()),
+        "getResourceUsageAccount", writer);
+  }
+
+  /**
+   * Exports all pages of the "getResourceUsageResourceGroup" report.
+   *
+   * @param options the options of the report; "start" must not be set
+   * @param writer a writer created by newWriter()
+   * @return the number of rows written
+   */
+  public long export(final GetResourceUsageResourceGroupOptions options, ColumnarWriter writer) {
+    Validator.notNull(options, "options cannot be null");
+    Validator.isNull(options.start(), "The options 'start' field should not be set");
+    return export(start -> client.getResourceUsageResourceGroupRequest(options.newBuilder().start(start).build()),
+        "getResourceUsageResourceGroup", writer);
+  }
+
+  /**
+   * Exports all pages of the "getResourceUsageOrg" report.
+   *
+   * @param options the options of the report; "start" must not be set
+   * @param writer a writer created by newWriter()
+   * @return the number of rows written
+   */
+  public long export(final GetResourceUsageOrgOptions options, ColumnarWriter writer) {
+    Validator.notNull(options, "options cannot be null");
+    Validator.isNull(options.start(), "The options 'start' field should not be set");
+    return export(start -> client.getResourceUsageOrgRequest(options.newBuilder().start(start).build()),
+        "getResourceUsageOrg", writer);
+  }
+
+  // Streams the pages of a report; "request" builds the request of the page that starts at a "_start" token.
+  private long export(Function<String, RequestBuilder> request, String operationId, ColumnarWriter writer) {
+    Validator.notNull(writer, "writer cannot be null");
+    Validator.isTrue(writer.getColumnIndex("metric") == FIRST_METRIC_COLUMN, "writer was not created by newWriter()");
+    long first = writer.getRowCount();
+    String start = null;
+    do {
+      try (InputStream body = client.createStreamingCall(request.apply(start)).execute().getResult();
+          JsonReader reader = new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+        start = readPage(reader, writer);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read the " + operationId + " response", e);
+      }
+    } while (start != null);
+    return writer.getRowCount() - first;
+  }
+
+  // Writes the instances of a page and returns the "_start" token of the next page, if any.
+  private static String readPage(JsonReader reader, ColumnarWriter writer) throws IOException {
+    String next = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      if (name.equals("resources") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          readInstance(reader, writer);
+        }
+        reader.endArray();
+      } else if (name.equals("next") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+        reader.beginObject();
+        while (reader.hasNext()) {
+          if (reader.nextName().equals("href") && reader.peek() == JsonToken.STRING) {
+            next = UrlHelper.getQueryParam(reader.nextString(), "_start");
+          } else {
+            reader.skipValue();
+          }
+        }
+        reader.endObject();
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return next;
+  }
+
+  // The fields of the instance may follow its "usage" array, so they are filled in once the object is complete.
+  private static void readInstance(JsonReader reader, ColumnarWriter writer) throws IOException {
+    String[] strings = new String[FIRST_METRIC_COLUMN];
+    double currencyRate = Double.NaN;
+    long mark = writer.mark();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      String name = reader.nextName();
+      int column = columnIndex(name);
+      if (name.equals("usage") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+        reader.beginArray();
+        while (reader.hasNext()) {
+          readMetric(reader, writer);
+        }
+        reader.endArray();
+      } else if (column == CURRENCY_RATE_COLUMN) {
+        currencyRate = readDouble(reader);
+      } else if (column >= 0 && column < FIRST_METRIC_COLUMN) {
+        strings[column] = readString(reader);
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (writer.getRowCount() == mark) {
+      writer.endRow();
+    }
+    for (int column = 0; column < FIRST_METRIC_COLUMN; column++) {
+      if (column == CURRENCY_RATE_COLUMN) {
+        writer.fill(mark, column, currencyRate);
+      } else if (strings[column] != null) {
+        writer.fill(mark, column, strings[column]);
+      }
+    }
+    writer.release(mark);
+  }
+
+  private static void readMetric(JsonReader reader, ColumnarWriter writer) throws IOException {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      int column = columnIndex(reader.nextName());
+      if (column < FIRST_METRIC_COLUMN) {
+        reader.skipValue();
+      } else if (TYPES.get(column) == Type.DOUBLE) {
+        writer.setDouble(column, readDouble(reader));
+      } else {
+        writer.setString(column, readString(reader));
+      }
+    }
+    reader.endObject();
+    writer.endRow();
+  }
+
+  private static int columnIndex(String name) {
+    Integer index = COLUMN_INDEXES.get(name);
+    return index != null ? index : -1;
+  }
+
+  private static String readString(JsonReader reader) throws IOException {
+    JsonToken token = reader.peek();
+    if (token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN) {
+      return token == JsonToken.BOOLEAN ? String.valueOf(reader.nextBoolean()) : reader.nextString();
+    }
+    reader.skipValue();
+    return null;
+  }
+
+  private static double readDouble(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NUMBER) {
+      return reader.nextDouble();
+    }
+    reader.skipValue();
+    return Double.NaN;
+  }
+}
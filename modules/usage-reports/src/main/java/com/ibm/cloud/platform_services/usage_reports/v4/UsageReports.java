@@ -47,6 +47,7 @@ import com.ibm.cloud.sdk.core.security.Authenticator;
 import com.ibm.cloud.sdk.core.security.ConfigBasedAuthenticatorFactory;
 import com.ibm.cloud.sdk.core.service.BaseService;
 import com.ibm.cloud.sdk.core.util.ResponseConverterUtils;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -68,6 +69,45 @@ public class UsageReports extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://billing.cloud.ibm.com";
 
+  private static final ResponseConverter<AccountSummary> GET_ACCOUNT_SUMMARY_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSummary>() { }.getType());
+
+  private static final ResponseConverter<AccountUsage> GET_ACCOUNT_USAGE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountUsage>() { }.getType());
+
+  private static final ResponseConverter<ResourceGroupUsage> GET_RESOURCE_GROUP_USAGE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceGroupUsage>() { }.getType());
+
+  private static final ResponseConverter<InstancesUsage> GET_RESOURCE_USAGE_ACCOUNT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstancesUsage>() { }.getType());
+
+  private static final ResponseConverter<InstancesUsage> GET_RESOURCE_USAGE_RESOURCE_GROUP_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstancesUsage>() { }.getType());
+
+  private static final ResponseConverter<InstancesUsage> GET_RESOURCE_USAGE_ORG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstancesUsage>() { }.getType());
+
+  private static final ResponseConverter<OrgUsage> GET_ORG_USAGE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OrgUsage>() { }.getType());
+
+  private static final ResponseConverter<SnapshotConfig> CREATE_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotConfig>() { }.getType());
+
+  private static final ResponseConverter<SnapshotConfig> GET_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotConfig>() { }.getType());
+
+  private static final ResponseConverter<SnapshotConfig> UPDATE_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotConfig>() { }.getType());
+
+  private static final ResponseConverter<Void> DELETE_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<SnapshotConfigValidateResponse> VALIDATE_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotConfigValidateResponse>() { }.getType());
+
+  private static final ResponseConverter<SnapshotList> GET_REPORTS_SNAPSHOT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotList>() { }.getType());
+
  /**
    * Class method which constructs an instance of the `UsageReports` client.
    * The default service name is used to configure the client instance.
@@ -125,8 +165,7 @@ public class UsageReports extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<AccountSummary> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountSummary>() { }.getType());
+    ResponseConverter<AccountSummary> responseConverter = GET_ACCOUNT_SUMMARY_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -157,8 +196,7 @@ public class UsageReports extends BaseService {
     if (getAccountUsageOptions.names() != null) {
       builder.query("_names", String.valueOf(getAccountUsageOptions.names()));
     }
-    ResponseConverter<AccountUsage> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<AccountUsage>() { }.getType());
+    ResponseConverter<AccountUsage> responseConverter = GET_ACCOUNT_USAGE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -190,8 +228,7 @@ public class UsageReports extends BaseService {
     if (getResourceGroupUsageOptions.names() != null) {
       builder.query("_names", String.valueOf(getResourceGroupUsageOptions.names()));
     }
-    ResponseConverter<ResourceGroupUsage> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<ResourceGroupUsage>() { }.getType());
+    ResponseConverter<ResourceGroupUsage> responseConverter = GET_RESOURCE_GROUP_USAGE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -207,6 +244,18 @@ public class UsageReports extends BaseService {
   public ServiceCall<InstancesUsage> getResourceUsageAccount(GetResourceUsageAccountOptions getResourceUsageAccountOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(getResourceUsageAccountOptions,
       "getResourceUsageAccountOptions cannot be null");
+    RequestBuilder builder = getResourceUsageAccountRequest(getResourceUsageAccountOptions);
+    ResponseConverter<InstancesUsage> responseConverter = GET_RESOURCE_USAGE_ACCOUNT_RESPONSE_CONVERTER;
+    return createServiceCall(builder.build(), responseConverter);
+  }
+
+  /**
+   * Builds the request of the getResourceUsageAccount operation, which is also streamed by {@link UsageExporter}.
+   *
+   * @param getResourceUsageAccountOptions the {@link GetResourceUsageAccountOptions} containing the options for the call
+   * @return the RequestBuilder of the request
+   */
+  RequestBuilder getResourceUsageAccountRequest(GetResourceUsageAccountOptions getResourceUsageAccountOptions) {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("account_id", getResourceUsageAccountOptions.accountId());
     pathParamsMap.put("billingmonth", getResourceUsageAccountOptions.billingmonth());
@@ -249,9 +298,7 @@ public class UsageReports extends BaseService {
     if (getResourceUsageAccountOptions.region() != null) {
       builder.query("region", String.valueOf(getResourceUsageAccountOptions.region()));
     }
-    ResponseConverter<InstancesUsage> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstancesUsage>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return builder;
   }
 
   /**
@@ -266,6 +313,18 @@ public class UsageReports extends BaseService {
   public ServiceCall<InstancesUsage> getResourceUsageResourceGroup(GetResourceUsageResourceGroupOptions getResourceUsageResourceGroupOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(getResourceUsageResourceGroupOptions,
       "getResourceUsageResourceGroupOptions cannot be null");
+    RequestBuilder builder = getResourceUsageResourceGroupRequest(getResourceUsageResourceGroupOptions);
+    ResponseConverter<InstancesUsage> responseConverter = GET_RESOURCE_USAGE_RESOURCE_GROUP_RESPONSE_CONVERTER;
+    return createServiceCall(builder.build(), responseConverter);
+  }
+
+  /**
+   * Builds the request of the getResourceUsageResourceGroup operation, which is also streamed by {@link UsageExporter}.
+   *
+   * @param getResourceUsageResourceGroupOptions the {@link GetResourceUsageResourceGroupOptions} containing the options for the call
+   * @return the RequestBuilder of the request
+   */
+  RequestBuilder getResourceUsageResourceGroupRequest(GetResourceUsageResourceGroupOptions getResourceUsageResourceGroupOptions) {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("account_id", getResourceUsageResourceGroupOptions.accountId());
     pathParamsMap.put("resource_group_id", getResourceUsageResourceGroupOptions.resourceGroupId());
@@ -303,9 +362,7 @@ public class UsageReports extends BaseService {
     if (getResourceUsageResourceGroupOptions.region() != null) {
       builder.query("region", String.valueOf(getResourceUsageResourceGroupOptions.region()));
     }
-    ResponseConverter<InstancesUsage> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstancesUsage>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return builder;
   }
 
   /**
@@ -320,6 +377,18 @@ public class UsageReports extends BaseService {
   public ServiceCall<InstancesUsage> getResourceUsageOrg(GetResourceUsageOrgOptions getResourceUsageOrgOptions) {
     com.ibm.cloud.sdk.core.util.Validator.notNull(getResourceUsageOrgOptions,
       "getResourceUsageOrgOptions cannot be null");
+    RequestBuilder builder = getResourceUsageOrgRequest(getResourceUsageOrgOptions);
+    ResponseConverter<InstancesUsage> responseConverter = GET_RESOURCE_USAGE_ORG_RESPONSE_CONVERTER;
+    return createServiceCall(builder.build(), responseConverter);
+  }
+
+  /**
+   * Builds the request of the getResourceUsageOrg operation, which is also streamed by {@link UsageExporter}.
+   *
+   * @param getResourceUsageOrgOptions the {@link GetResourceUsageOrgOptions} containing the options for the call
+   * @return the RequestBuilder of the request
+   */
+  RequestBuilder getResourceUsageOrgRequest(GetResourceUsageOrgOptions getResourceUsageOrgOptions) {
     Map<String, String> pathParamsMap = new HashMap<String, String>();
     pathParamsMap.put("account_id", getResourceUsageOrgOptions.accountId());
     pathParamsMap.put("organization_id", getResourceUsageOrgOptions.organizationId());
@@ -357,9 +426,18 @@ public class UsageReports extends BaseService {
     if (getResourceUsageOrgOptions.region() != null) {
       builder.query("region", String.valueOf(getResourceUsageOrgOptions.region()));
     }
-    ResponseConverter<InstancesUsage> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InstancesUsage>() { }.getType());
-    return createServiceCall(builder.build(), responseConverter);
+    return builder;
+  }
+
+  /**
+   * Creates a call whose result is the body of the response, which is read as a stream rather than converted.
+   * The caller must close the stream.
+   *
+   * @param builder the RequestBuilder of the request
+   * @return a {@link ServiceCall} with a result of type {@link InputStream}
+   */
+  ServiceCall<InputStream> createStreamingCall(RequestBuilder builder) {
+    return createServiceCall(builder.build(), ResponseConverterUtils.getInputStream());
   }
 
   /**
@@ -390,8 +468,7 @@ public class UsageReports extends BaseService {
     if (getOrgUsageOptions.names() != null) {
       builder.query("_names", String.valueOf(getOrgUsageOptions.names()));
     }
-    ResponseConverter<OrgUsage> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<OrgUsage>() { }.getType());
+    ResponseConverter<OrgUsage> responseConverter = GET_ORG_USAGE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -428,8 +505,7 @@ public class UsageReports extends BaseService {
       contentJson.addProperty("versioning", createReportsSnapshotConfigOptions.versioning());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<SnapshotConfig> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotConfig>() { }.getType());
+    ResponseConverter<SnapshotConfig> responseConverter = CREATE_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -451,8 +527,7 @@ public class UsageReports extends BaseService {
     }
     builder.header("Accept", "application/json");
     builder.query("account_id", String.valueOf(getReportsSnapshotConfigOptions.accountId()));
-    ResponseConverter<SnapshotConfig> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotConfig>() { }.getType());
+    ResponseConverter<SnapshotConfig> responseConverter = GET_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -494,8 +569,7 @@ public class UsageReports extends BaseService {
       contentJson.addProperty("versioning", updateReportsSnapshotConfigOptions.versioning());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<SnapshotConfig> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotConfig>() { }.getType());
+    ResponseConverter<SnapshotConfig> responseConverter = UPDATE_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -516,7 +590,7 @@ public class UsageReports extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.query("account_id", String.valueOf(deleteReportsSnapshotConfigOptions.accountId()));
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = DELETE_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -559,8 +633,7 @@ public class UsageReports extends BaseService {
       contentJson.addProperty("versioning", validateReportsSnapshotConfigOptions.versioning());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<SnapshotConfigValidateResponse> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotConfigValidateResponse>() { }.getType());
+    ResponseConverter<SnapshotConfigValidateResponse> responseConverter = VALIDATE_REPORTS_SNAPSHOT_CONFIG_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -595,8 +668,7 @@ public class UsageReports extends BaseService {
     if (getReportsSnapshotOptions.start() != null) {
       builder.query("_start", String.valueOf(getReportsSnapshotOptions.start()));
     }
-    ResponseConverter<SnapshotList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<SnapshotList>() { }.getType());
+    ResponseConverter<SnapshotList> responseConverter = GET_REPORTS_SNAPSHOT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.usage_reports.v4.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.usage_reports.v4.UsageReports;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * GetReportsSnapshotPager can be used to simplify the use of the "getReportsSnapshot" method.
  */
-public class GetReportsSnapshotPager {
+public class GetReportsSnapshotPager implements Pager<SnapshotListSnapshotsItem> {
   private static class PageContext {
     private String next;
     public String getNext() {
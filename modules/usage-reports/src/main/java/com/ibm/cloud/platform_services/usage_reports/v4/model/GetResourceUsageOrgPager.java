@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.usage_reports.v4.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.usage_reports.v4.UsageReports;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * GetResourceUsageOrgPager can be used to simplify the use of the "getResourceUsageOrg" method.
  */
-public class GetResourceUsageOrgPager {
+public class GetResourceUsageOrgPager implements Pager<InstanceUsage> {
   private static class PageContext {
     private String next;
     public String getNext() {
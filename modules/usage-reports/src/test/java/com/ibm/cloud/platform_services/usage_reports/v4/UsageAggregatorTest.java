@@ -0,0 +1,177 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.usage_reports.v4;
+
+import com.ibm.cloud.platform_services.usage_reports.v4.UsageAggregator.Aggregation;
+import com.ibm.cloud.platform_services.usage_reports.v4.UsageAggregator.Dimension;
+import com.ibm.cloud.platform_services.usage_reports.v4.UsageAggregator.Totals;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageAccountOptions;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageResourceGroupOptions;
+import com.ibm.cloud.sdk.core.service.exception.ServiceResponseException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the UsageAggregator class.
+ */
+public class UsageAggregatorTest {
+
+  protected MockWebServer server;
+  protected UsageReports usageReportsService;
+
+  private static String instance(String id, String group, String plan, String tag, String month, String metrics) {
+    return "{\"account_id\": \"acct\", \"resource_instance_id\": \"" + id + "\", \"resource_id\": \"service\", "
+        + "\"resource_group_id\": \"" + group + "\", \"plan_id\": \"" + plan + "\", \"month\": \"" + month + "\", "
+        + "\"tags\": [\"" + tag + "\"], \"usage\": [" + metrics + "]}";
+  }
+
+  private static String metric(String id, double quantity, double cost) {
+    return "{\"metric\": \"" + id + "\", \"quantity\": " + quantity + ", \"rateable_quantity\": " + quantity
+        + ", \"cost\": " + cost + ", \"rated_cost\": " + cost + "}";
+  }
+
+  // Serves two pages for each month: the first page holds two instances and the second page holds one.
+  private static class UsageDispatcher extends Dispatcher {
+    @Override
+    public MockResponse dispatch(RecordedRequest request) {
+      String path = request.getRequestUrl().encodedPath();
+      String month = path.substring(path.lastIndexOf('/') + 1);
+      if (month.equals("2026-13")) {
+        return new MockResponse().setResponseCode(400).setHeader("Content-type", "application/json")
+          .setBody("{\"message\": \"invalid month\"}");
+      }
+      String start = request.getRequestUrl().queryParameter("_start");
+      String body;
+      if (start == null) {
+        body = "{\"limit\": 2, \"count\": 3, \"next\": {\"href\": \"" + path + "?_start=p2\", \"offset\": \"p2\"}, "
+            + "\"resources\": ["
+            + instance("i1", "rg1", "lite", "env:prod", month, metric("m1", 10, 1.5) + ", " + metric("m2", 1, 0.5))
+            + ", " + instance("i2", "rg1", "lite", "env:dev", month, metric("m1", 5, 1))
+            + "]}";
+      } else {
+        body = "{\"limit\": 2, \"count\": 3, \"resources\": ["
+            + instance("i3", "rg2", "standard", "env:prod", month, metric("m1", 2, 4))
+            + "]}";
+      }
+      return new MockResponse().setResponseCode(200).setHeader("Content-type", "application/json").setBody(body);
+    }
+  }
+
+  @Test
+  public void testAggregateAccountAcrossMonths() throws Throwable {
+    UsageAggregator aggregator = new UsageAggregator.Builder(usageReportsService,
+        Dimension.RESOURCE_GROUP_ID, Dimension.PLAN_ID)
+      .maxConcurrency(2)
+      .build();
+    Aggregation aggregation = aggregator.aggregateAccount(Arrays.asList(
+        new GetResourceUsageAccountOptions.Builder("acct", "2026-01").build(),
+        new GetResourceUsageAccountOptions.Builder("acct", "2026-02").build(),
+        new GetResourceUsageAccountOptions.Builder("acct", "2026-03").build()));
+
+    assertEquals(aggregation.getPages(), 6);
+    assertEquals(aggregation.getInstances(), 9);
+    assertEquals(aggregation.getTotals().size(), 2);
+    Totals lite = aggregation.get("rg1", "lite");
+    assertEquals(lite.getInstances(), 6);
+    assertEquals(lite.getMetrics(), 9);
+    assertEquals(lite.getCost(), 9.0, 1e-9);
+    assertEquals(lite.getRatedCost(), 9.0, 1e-9);
+    Totals standard = aggregation.get("rg2", "standard");
+    assertEquals(standard.getInstances(), 3);
+    assertEquals(standard.getCost(), 12.0, 1e-9);
+    assertEquals(aggregation.getTotals().keySet().iterator().next().getValues(), Arrays.asList("rg1", "lite"));
+    assertEquals(server.getRequestCount(), 6);
+  }
+
+  @Test
+  public void testAggregateByTagAndMetric() throws Throwable {
+    UsageAggregator aggregator = new UsageAggregator.Builder(usageReportsService,
+        Dimension.tag("env"), Dimension.METRIC, Dimension.MONTH)
+      .build();
+    Aggregation aggregation = aggregator.aggregateResourceGroups(Collections.singletonList(
+        new GetResourceUsageResourceGroupOptions.Builder("acct", "rg1", "2026-01").tags(true).build()));
+
+    assertEquals(aggregation.getTotals().size(), 3);
+    Totals prod = aggregation.get("prod", "m1", "2026-01");
+    assertEquals(prod.getInstances(), 2);
+    assertEquals(prod.getQuantity(), 12.0, 1e-9);
+    assertEquals(prod.getRateableQuantity(), 12.0, 1e-9);
+    assertEquals(prod.getCost(), 5.5, 1e-9);
+    assertEquals(aggregation.get("prod", "m2", "2026-01").getQuantity(), 1.0, 1e-9);
+    assertEquals(aggregation.get("dev", "m1", "2026-01").getCost(), 1.0, 1e-9);
+    assertNull(aggregation.get("test", "m1", "2026-01"));
+    assertEquals(server.takeRequest().getPath(),
+        "/v4/accounts/acct/resource_groups/rg1/resource_instances/usage/2026-01?_tags=true");
+  }
+
+  @Test
+  public void testFailedReport() throws Throwable {
+    UsageAggregator aggregator = new UsageAggregator.Builder(usageReportsService, Dimension.REGION).build();
+    try {
+      aggregator.aggregateAccount(Arrays.asList(
+          new GetResourceUsageAccountOptions.Builder("acct", "2026-01").build(),
+          new GetResourceUsageAccountOptions.Builder("acct", "2026-13").build()));
+      fail("Expected a ServiceResponseException");
+    } catch (ServiceResponseException e) {
+      assertEquals(e.getStatusCode(), 400);
+    }
+  }
+
+  @Test
+  public void testNoReports() throws Throwable {
+    UsageAggregator aggregator = new UsageAggregator.Builder(usageReportsService, Dimension.REGION).build();
+    Aggregation aggregation = aggregator.aggregateOrgs(Collections.emptyList());
+    assertTrue(aggregation.getTotals().isEmpty());
+    assertEquals(aggregation.getPages(), 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testNoDimensions() throws Throwable {
+    new UsageAggregator.Builder(usageReportsService).build();
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.setDispatcher(new UsageDispatcher());
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    usageReportsService = UsageReports.newInstance("testService");
+    usageReportsService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    usageReportsService = null;
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * (C) Copyright IBM Corp. 2026.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package com.ibm.cloud.platform_services.usage_reports.v4;
+
+import com.ibm.cloud.platform_services.common.ColumnarReader;
+import com.ibm.cloud.platform_services.common.ColumnarWriter;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageAccountOptions;
+import com.ibm.cloud.platform_services.usage_reports.v4.model.GetResourceUsageOrgOptions;
+import com.ibm.cloud.sdk.core.service.exception.NotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import static org.testng.Assert.*;
+
+/**
+ * Unit test class for the UsageExporter class.
+ */
+public class UsageExporterTest {
+
+  protected MockWebServer server;
+  protected UsageReports usageReportsService;
+  protected Path file;
+
+  private void enqueue(String body) {
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(200)
+      .setBody(body));
+  }
+
+  @Test
+  public void testExportAccount() throws Throwable {
+    // The fields of the second instance follow its "usage" array.
+    enqueue("{\"limit\": 2, \"next\": {\"href\": \"/v4/accounts/acct/resource_instances/usage/2026-01?_start=p2\"}, "
+        + "\"resources\": ["
+        + "{\"account_id\": \"acct\", \"resource_id\": \"cos\", \"plan_id\": \"lite\", \"region\": \"us-south\", "
+        + "\"month\": \"2026-01\", \"currency_rate\": 1.5, \"tags\": [\"env:prod\"], \"usage\": ["
+        + "{\"metric\": \"STORAGE\", \"unit\": \"GB\", \"quantity\": 10.5, \"cost\": 2, \"rated_cost\": 2, "
+        + "\"price\": [{\"price\": 1}], \"discounts\": []},"
+        + "{\"metric\": \"REQUESTS\", \"quantity\": 1000, \"cost\": 0.25}]},"
+        + "{\"usage\": [{\"metric\": \"STORAGE\", \"quantity\": 1, \"cost\": null}], "
+        + "\"account_id\": \"acct\", \"resource_id\": \"cos\", \"plan_id\": \"standard\", \"region\": \"eu-de\"}"
+        + "]}");
+    enqueue("{\"limit\": 2, \"resources\": [{\"account_id\": \"acct\", \"resource_id\": \"kms\", \"usage\": []}]}");
+
+    UsageExporter exporter = new UsageExporter.Builder(usageReportsService).rowGroupSize(2).build();
+    long rows;
+    try (ColumnarWriter writer = exporter.newWriter(file)) {
+      rows = exporter.export(new GetResourceUsageAccountOptions.Builder("acct", "2026-01").limit(2).build(), writer);
+    }
+    assertEquals(rows, 4);
+
+    RecordedRequest request = server.takeRequest();
+    assertEquals(request.getPath(), "/v4/accounts/acct/resource_instances/usage/2026-01?_limit=2");
+    assertEquals(request.getHeader("Accept"), "application/json");
+    assertEquals(server.takeRequest().getPath(),
+        "/v4/accounts/acct/resource_instances/usage/2026-01?_limit=2&_start=p2");
+
+    try (ColumnarReader reader = new ColumnarReader(file)) {
+      assertEquals(reader.getRowCount(), 4);
+      assertEquals(reader.getColumnNames(), UsageExporter.COLUMNS);
+      assertEquals(Arrays.asList(reader.readStrings("plan_id")), Arrays.asList("lite", "lite", "standard", null));
+      assertEquals(Arrays.asList(reader.readStrings("region")), Arrays.asList("us-south", "us-south", "eu-de", null));
+      assertEquals(Arrays.asList(reader.readStrings("metric")),
+          Arrays.asList("STORAGE", "REQUESTS", "STORAGE", null));
+      assertEquals(reader.getDictionary("resource_id"), Arrays.asList("cos", "kms"));
+      assertEquals(reader.getDictionary("account_id").size(), 1);
+      double[] quantities = reader.readDoubles("quantity");
+      assertEquals(quantities[0], 10.5);
+      assertEquals(quantities[1], 1000.0);
+      double[] costs = reader.readDoubles("cost");
+      assertEquals(costs[1], 0.25);
+      assertTrue(Double.isNaN(costs[2]));
+      assertTrue(Double.isNaN(costs[3]));
+      assertEquals(reader.readDoubles("currency_rate")[1], 1.5);
+      assertTrue(Double.isNaN(reader.readDoubles("currency_rate")[2]));
+    }
+  }
+
+  @Test
+  public void testExportSeveralReports() throws Throwable {
+    enqueue("{\"resources\": [{\"resource_id\": \"cos\", \"month\": \"2026-01\", \"usage\": [{\"metric\": \"M\"}]}]}");
+    enqueue("{\"resources\": [{\"resource_id\": \"cos\", \"month\": \"2026-02\", \"usage\": [{\"metric\": \"M\"}]}]}");
+    UsageExporter exporter = new UsageExporter.Builder(usageReportsService).build();
+    try (ColumnarWriter writer = exporter.newWriter(file)) {
+      assertEquals(exporter.export(new GetResourceUsageOrgOptions.Builder("acct", "org", "2026-01").build(), writer), 1);
+      assertEquals(exporter.export(new GetResourceUsageOrgOptions.Builder("acct", "org", "2026-02").build(), writer), 1);
+    }
+    assertEquals(server.takeRequest().getPath(), "/v4/accounts/acct/organizations/org/resource_instances/usage/2026-01");
+    try (ColumnarReader reader = new ColumnarReader(file)) {
+      assertEquals(Arrays.asList(reader.readStrings("month")), Arrays.asList("2026-01", "2026-02"));
+      assertEquals(reader.getDictionary("resource_id"), Arrays.asList("cos"));
+    }
+  }
+
+  @Test
+  public void testExportFailure() throws Throwable {
+    server.enqueue(new MockResponse()
+      .setHeader("Content-type", "application/json")
+      .setResponseCode(404)
+      .setBody("{\"message\": \"account not found\"}"));
+    UsageExporter exporter = new UsageExporter.Builder(usageReportsService).build();
+    try (ColumnarWriter writer = exporter.newWriter(file)) {
+      exporter.export(new GetResourceUsageAccountOptions.Builder("acct", "2026-01").build(), writer);
+      fail("Expected a NotFoundException");
+    } catch (NotFoundException e) {
+      assertEquals(e.getMessage(), "account not found");
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testStartNotAllowed() throws Throwable {
+    UsageExporter exporter = new UsageExporter.Builder(usageReportsService).build();
+    try (ColumnarWriter writer = exporter.newWriter(file)) {
+      exporter.export(new GetResourceUsageAccountOptions.Builder("acct", "2026-01").start("x").build(), writer);
+    }
+  }
+
+  // Perform setup needed before each test method
+  @BeforeMethod
+  public void beforeEachTest() throws IOException {
+    // Start the mock server.
+    try {
+      server = new MockWebServer();
+      server.start();
+    } catch (IOException err) {
+      fail("Failed to instantiate mock web server");
+    }
+    file = Files.createTempFile("usage", ".columns");
+
+    // Construct an instance of the service
+    System.setProperty("TESTSERVICE_AUTH_TYPE", "noAuth");
+    usageReportsService = UsageReports.newInstance("testService");
+    usageReportsService.setServiceUrl(server.url("/").toString());
+  }
+
+  // Perform tear down after each test method
+  @AfterMethod
+  public void afterEachTest() throws IOException {
+    server.shutdown();
+    usageReportsService = null;
+    Files.deleteIfExists(file);
+  }
+}
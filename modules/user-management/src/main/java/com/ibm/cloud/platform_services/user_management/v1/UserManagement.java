@@ -60,6 +60,33 @@ public class UserManagement extends BaseService {
    */
   public static final String DEFAULT_SERVICE_URL = "https://user-management.cloud.ibm.com";
 
+  private static final ResponseConverter<UserList> LIST_USERS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<UserList>() { }.getType());
+
+  private static final ResponseConverter<InvitedUserList> INVITE_USERS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InvitedUserList>() { }.getType());
+
+  private static final ResponseConverter<UserProfile> GET_USER_PROFILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<UserProfile>() { }.getType());
+
+  private static final ResponseConverter<Void> UPDATE_USER_PROFILE_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> REMOVE_USER_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> ACCEPT_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<Void> V3_REMOVE_USER_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
+  private static final ResponseConverter<UserSettings> GET_USER_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<UserSettings>() { }.getType());
+
+  private static final ResponseConverter<Void> UPDATE_USER_SETTINGS_RESPONSE_CONVERTER =
+    ResponseConverterUtils.getVoid();
+
  /**
    * Class method which constructs an instance of the `UserManagement` client.
    * The default service name is used to configure the client instance.
@@ -137,8 +164,7 @@ public class UserManagement extends BaseService {
     if (listUsersOptions.userId() != null) {
       builder.query("user_id", String.valueOf(listUsersOptions.userId()));
     }
-    ResponseConverter<UserList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<UserList>() { }.getType());
+    ResponseConverter<UserList> responseConverter = LIST_USERS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -180,8 +206,7 @@ public class UserManagement extends BaseService {
       contentJson.add("access_groups", com.ibm.cloud.sdk.core.util.GsonSingleton.getGson().toJsonTree(inviteUsersOptions.accessGroups()));
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<InvitedUserList> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<InvitedUserList>() { }.getType());
+    ResponseConverter<InvitedUserList> responseConverter = INVITE_USERS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -210,8 +235,7 @@ public class UserManagement extends BaseService {
     if (getUserProfileOptions.includeActivity() != null) {
       builder.query("include_activity", String.valueOf(getUserProfileOptions.includeActivity()));
     }
-    ResponseConverter<UserProfile> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<UserProfile>() { }.getType());
+    ResponseConverter<UserProfile> responseConverter = GET_USER_PROFILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -265,7 +289,7 @@ public class UserManagement extends BaseService {
       contentJson.addProperty("photo", updateUserProfileOptions.photo());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UPDATE_USER_PROFILE_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -294,7 +318,7 @@ public class UserManagement extends BaseService {
     if (removeUserOptions.includeActivity() != null) {
       builder.query("include_activity", String.valueOf(removeUserOptions.includeActivity()));
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = REMOVE_USER_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -326,7 +350,7 @@ public class UserManagement extends BaseService {
       }
       builder.bodyJson(contentJson);
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = ACCEPT_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -366,7 +390,7 @@ public class UserManagement extends BaseService {
     for (Entry<String, String> header : sdkHeaders.entrySet()) {
       builder.header(header.getKey(), header.getValue());
     }
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = V3_REMOVE_USER_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -397,8 +421,7 @@ public class UserManagement extends BaseService {
       builder.header(header.getKey(), header.getValue());
     }
     builder.header("Accept", "application/json");
-    ResponseConverter<UserSettings> responseConverter =
-      ResponseConverterUtils.getValue(new com.google.gson.reflect.TypeToken<UserSettings>() { }.getType());
+    ResponseConverter<UserSettings> responseConverter = GET_USER_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -438,7 +461,7 @@ public class UserManagement extends BaseService {
       contentJson.addProperty("self_manage", updateUserSettingsOptions.selfManage());
     }
     builder.bodyJson(contentJson);
-    ResponseConverter<Void> responseConverter = ResponseConverterUtils.getVoid();
+    ResponseConverter<Void> responseConverter = UPDATE_USER_SETTINGS_RESPONSE_CONVERTER;
     return createServiceCall(builder.build(), responseConverter);
   }
 
@@ -12,6 +12,7 @@
  */
 package com.ibm.cloud.platform_services.user_management.v1.model;
 
+import com.ibm.cloud.platform_services.common.Pager;
 import com.ibm.cloud.platform_services.user_management.v1.UserManagement;
 import com.ibm.cloud.sdk.core.util.UrlHelper;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.NoSuchElementException;
 /**
  * UsersPager can be used to simplify the use of the "listUsers" method.
  */
-public class UsersPager {
+public class UsersPager implements Pager<UserProfile> {
   private static class PageContext {
     private String next;
     public String getNext() {